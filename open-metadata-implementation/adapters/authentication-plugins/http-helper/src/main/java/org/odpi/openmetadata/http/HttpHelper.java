@@ -44,6 +44,9 @@ public class HttpHelper {
             sc.init(null, trustAllCerts, new java.security.SecureRandom());
             HttpsURLConnection.setDefaultSSLSocketFactory(sc.getSocketFactory());
             HttpsURLConnection.setDefaultHostnameVerifier ((hostname, session) -> true);
+
+            // Record the setting for clients that do not use the HttpsURLConnection defaults
+            System.setProperty("strict.ssl", "false");
         } catch (GeneralSecurityException e) {
             LOGGER.error("The configuration for no strict SSL went wrong");
         }
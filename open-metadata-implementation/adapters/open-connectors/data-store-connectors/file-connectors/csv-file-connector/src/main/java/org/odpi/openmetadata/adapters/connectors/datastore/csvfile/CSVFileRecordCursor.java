@@ -0,0 +1,63 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.datastore.csvfile;
+
+import org.odpi.openmetadata.adapters.connectors.datastore.basicfile.ffdc.exception.FileException;
+import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.ffdc.exception.FileReadException;
+
+import java.util.List;
+
+
+/**
+ * CSVFileRecordCursor steps through the data records of a CSV file in batches.  Each call to nextBatch returns the
+ * records that follow the previous batch so the whole file can be processed without re-reading it from the start.
+ */
+public class CSVFileRecordCursor
+{
+    private final CSVFileStore csvFileStore;
+    private final int          batchSize;
+    private long               nextRecordNumber = 0;
+
+
+    /**
+     * Constructor
+     *
+     * @param csvFileStore connector to the file
+     * @param batchSize maximum number of records returned by each call to nextBatch
+     */
+    public CSVFileRecordCursor(CSVFileStore csvFileStore,
+                               int          batchSize)
+    {
+        this.csvFileStore = csvFileStore;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+
+    /**
+     * Return the record number of the first record in the next batch.
+     *
+     * @return record number
+     */
+    public long getNextRecordNumber()
+    {
+        return nextRecordNumber;
+    }
+
+
+    /**
+     * Return the next batch of records.  A record is null if its line in the file is blank.
+     *
+     * @return list of records - empty when there are no more records
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or read the file
+     */
+    public List<List<String>> nextBatch() throws FileException, FileReadException
+    {
+        List<List<String>> records = csvFileStore.readRecords(nextRecordNumber, batchSize);
+
+        nextRecordNumber = nextRecordNumber + records.size();
+
+        return records;
+    }
+}
@@ -0,0 +1,432 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.datastore.csvfile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * CSVFileRowIndex provides random access to the rows of a CSV file.  The file is memory-mapped and scanned once to
+ * record the offset of the start of every rowStride'th row.  A row is then located by jumping to the nearest
+ * recorded offset and skipping forward over at most rowStride - 1 rows.
+ *
+ * Rows end with a line feed (optionally preceded by a carriage return) or with a carriage return on its own.
+ * Blank lines at the end of the file are not counted as rows.
+ *
+ * The index can be saved in a file next to the CSV file so it does not need to be rebuilt when the file is next
+ * opened.  The saved index is ignored if the size or last modified time of the CSV file has changed.
+ */
+class CSVFileRowIndex implements Closeable
+{
+    private static final int  indexFileMagic   = 0x43535649;
+    private static final int  indexFileVersion = 2;
+    private static final int  rowStride        = 64;
+    private static final int  segmentSize      = 1 << 30;
+
+    private static final Logger log = LoggerFactory.getLogger(CSVFileRowIndex.class);
+
+    private final long               fileLength;
+    private final long               lastModified;
+    private final FileChannel        fileChannel;
+    private final MappedByteBuffer[] segments;
+
+    private long   rowCount      = 0;
+    private long[] strideOffsets = new long[0];
+
+
+    /**
+     * Map the file and load or build its row index.
+     *
+     * @param csvFile file to index
+     * @param indexFile file where the index is saved - null means the index is not saved
+     * @throws IOException the file can not be read
+     */
+    CSVFileRowIndex(File csvFile,
+                    File indexFile) throws IOException
+    {
+        this.fileLength   = csvFile.length();
+        this.lastModified = csvFile.lastModified();
+        this.fileChannel  = new RandomAccessFile(csvFile, "r").getChannel();
+
+        try
+        {
+            int segmentCount = (int)((fileLength + segmentSize - 1) / segmentSize);
+
+            segments = new MappedByteBuffer[segmentCount];
+
+            for (int segment = 0; segment < segmentCount; segment++)
+            {
+                long segmentStart = (long)segment * segmentSize;
+
+                segments[segment] = fileChannel.map(FileChannel.MapMode.READ_ONLY,
+                                                    segmentStart,
+                                                    Math.min(segmentSize, fileLength - segmentStart));
+            }
+
+            if ((indexFile == null) || (! this.loadIndex(indexFile)))
+            {
+                this.buildIndex();
+
+                if (indexFile != null)
+                {
+                    this.saveIndex(indexFile);
+                }
+            }
+        }
+        catch (IOException | RuntimeException error)
+        {
+            fileChannel.close();
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return whether the index still describes the file.
+     *
+     * @param csvFile file that was indexed
+     * @return boolean
+     */
+    boolean isCurrent(File csvFile)
+    {
+        return (csvFile.length() == fileLength) && (csvFile.lastModified() == lastModified);
+    }
+
+
+    /**
+     * Return the number of rows in the file.
+     *
+     * @return count
+     */
+    long getRowCount()
+    {
+        return rowCount;
+    }
+
+
+    /**
+     * Return a run of consecutive rows from the file without their line terminators.
+     *
+     * @param firstRow number of the first row to return - the first row in the file is row 0
+     * @param maxRows maximum number of rows to return
+     * @return list of rows - empty if firstRow is beyond the end of the file
+     */
+    List<String> readRows(long firstRow,
+                          int  maxRows)
+    {
+        List<String> rows = new ArrayList<>();
+
+        if ((firstRow < 0) || (firstRow >= rowCount) || (maxRows <= 0))
+        {
+            return rows;
+        }
+
+        long position = strideOffsets[(int)(firstRow / rowStride)];
+
+        for (long skippedRows = firstRow % rowStride; skippedRows > 0; skippedRows--)
+        {
+            position = this.findRowEnd(position) + 1;
+        }
+
+        long lastRow = Math.min(rowCount, firstRow + maxRows);
+
+        for (long row = firstRow; row < lastRow; row++)
+        {
+            long rowEnd = this.findRowEnd(position);
+
+            rows.add(this.decodeRow(position, rowEnd));
+
+            position = rowEnd + 1;
+        }
+
+        return rows;
+    }
+
+
+    /**
+     * Release the file.
+     *
+     * @throws IOException problem closing the file
+     */
+    @Override
+    public void close() throws IOException
+    {
+        fileChannel.close();
+    }
+
+
+    /**
+     * Scan the file recording the start of every rowStride'th row.
+     */
+    private void buildIndex()
+    {
+        long[]  offsets         = new long[16];
+        int     offsetCount     = 1;
+        long    row             = 0;
+        long    lastNonBlankRow = -1;
+        boolean rowHasContent   = false;
+
+        for (int segment = 0; segment < segments.length; segment++)
+        {
+            MappedByteBuffer buffer       = segments[segment];
+            long             segmentStart = (long)segment * segmentSize;
+            int              limit        = buffer.limit();
+
+            for (int i = 0; i < limit; i++)
+            {
+                byte character = buffer.get(i);
+
+                if ((character == '\n') || ((character == '\r') && (! this.isLineFeed(segmentStart + i + 1))))
+                {
+                    if (rowHasContent)
+                    {
+                        lastNonBlankRow = row;
+                        rowHasContent = false;
+                    }
+
+                    row++;
+
+                    if (row % rowStride == 0)
+                    {
+                        if (offsetCount == offsets.length)
+                        {
+                            offsets = Arrays.copyOf(offsets, offsetCount * 2);
+                        }
+
+                        offsets[offsetCount++] = segmentStart + i + 1;
+                    }
+                }
+                else if ((! rowHasContent) && (! isBlank(character)))
+                {
+                    rowHasContent = true;
+                }
+            }
+        }
+
+        if (rowHasContent)
+        {
+            lastNonBlankRow = row;
+        }
+
+        rowCount = lastNonBlankRow + 1;
+        strideOffsets = Arrays.copyOf(offsets, offsetCount);
+
+        log.debug("Indexed {} rows in {} bytes", rowCount, fileLength);
+    }
+
+
+    /**
+     * Load a saved index.
+     *
+     * @param indexFile saved index
+     * @return true if the saved index matches the file
+     */
+    private boolean loadIndex(File indexFile)
+    {
+        if (! indexFile.isFile())
+        {
+            return false;
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile))))
+        {
+            if ((input.readInt() != indexFileMagic) ||
+                (input.readInt() != indexFileVersion) ||
+                (input.readLong() != fileLength) ||
+                (input.readLong() != lastModified) ||
+                (input.readInt() != rowStride))
+            {
+                return false;
+            }
+
+            long savedRowCount    = input.readLong();
+            int  savedOffsetCount = input.readInt();
+
+            if ((savedRowCount < 0) || (savedOffsetCount < 1) || (savedOffsetCount * (long)rowStride < savedRowCount))
+            {
+                return false;
+            }
+
+            long[] savedOffsets = new long[savedOffsetCount];
+
+            for (int i = 0; i < savedOffsetCount; i++)
+            {
+                savedOffsets[i] = input.readLong();
+
+                if ((savedOffsets[i] < 0) || (savedOffsets[i] > fileLength))
+                {
+                    return false;
+                }
+            }
+
+            rowCount = savedRowCount;
+            strideOffsets = savedOffsets;
+
+            return true;
+        }
+        catch (IOException error)
+        {
+            log.debug("Ignoring unreadable row index {}", indexFile.getPath(), error);
+
+            return false;
+        }
+    }
+
+
+    /**
+     * Save the index so it can be reused.  Failing to save the index is not an error because it can be rebuilt.
+     *
+     * @param indexFile file to save the index to
+     */
+    private void saveIndex(File indexFile)
+    {
+        File temporaryFile = new File(indexFile.getPath() + ".tmp");
+
+        try
+        {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile))))
+            {
+                output.writeInt(indexFileMagic);
+                output.writeInt(indexFileVersion);
+                output.writeLong(fileLength);
+                output.writeLong(lastModified);
+                output.writeInt(rowStride);
+                output.writeLong(rowCount);
+                output.writeInt(strideOffsets.length);
+
+                for (long offset : strideOffsets)
+                {
+                    output.writeLong(offset);
+                }
+            }
+
+            Files.move(temporaryFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (IOException error)
+        {
+            log.debug("Unable to save row index {}", indexFile.getPath(), error);
+
+            if (! temporaryFile.delete())
+            {
+                log.debug("Unable to remove {}", temporaryFile.getPath());
+            }
+        }
+    }
+
+
+    /**
+     * Return the position of the line terminator that ends the row starting at position.
+     *
+     * @param position start of the row
+     * @return position of the line feed or lone carriage return, or the file length for the last row
+     */
+    private long findRowEnd(long position)
+    {
+        while (position < fileLength)
+        {
+            byte character = this.getByte(position);
+
+            if ((character == '\n') || ((character == '\r') && (! this.isLineFeed(position + 1))))
+            {
+                return position;
+            }
+
+            position++;
+        }
+
+        return fileLength;
+    }
+
+
+    /**
+     * Convert the bytes of a row to a string, removing any carriage return before the line feed.
+     *
+     * @param rowStart position of the first byte of the row
+     * @param rowEnd position of the line terminator that ends the row
+     * @return row
+     */
+    private String decodeRow(long rowStart,
+                             long rowEnd)
+    {
+        if ((rowEnd > rowStart) && (this.isLineFeed(rowEnd)) && (this.getByte(rowEnd - 1) == '\r'))
+        {
+            rowEnd--;
+        }
+
+        byte[] rowBytes = new byte[(int)(rowEnd - rowStart)];
+        int    copied   = 0;
+
+        while (copied < rowBytes.length)
+        {
+            long       position = rowStart + copied;
+            ByteBuffer buffer   = segments[(int)(position / segmentSize)].duplicate();
+            int        offset   = (int)(position % segmentSize);
+            int        length   = Math.min(rowBytes.length - copied, buffer.limit() - offset);
+
+            buffer.position(offset);
+            buffer.get(rowBytes, copied, length);
+
+            copied = copied + length;
+        }
+
+        return new String(rowBytes, Charset.defaultCharset());
+    }
+
+
+    /**
+     * Return the byte at a position in the file.
+     *
+     * @param position offset from the start of the file
+     * @return byte
+     */
+    private byte getByte(long position)
+    {
+        return segments[(int)(position / segmentSize)].get((int)(position % segmentSize));
+    }
+
+
+    /**
+     * Return whether there is a line feed at a position in the file.
+     *
+     * @param position offset from the start of the file
+     * @return false if the position is beyond the end of the file
+     */
+    private boolean isLineFeed(long position)
+    {
+        return (position < fileLength) && (this.getByte(position) == '\n');
+    }
+
+
+    /**
+     * Return whether a byte is white space.  A row that only contains white space is blank.
+     *
+     * @param character byte from the file
+     * @return boolean
+     */
+    private static boolean isBlank(byte character)
+    {
+        return (character == ' ') || (character == '\t') || (character == '\r') || (character == 0x0B) || (character == 0x0C);
+    }
+}
@@ -42,8 +42,8 @@ public interface CSVFileStore extends BasicFileStore
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.  The file is scanned once to build an index of its records.  The
+     * index is reused until the file changes.
      *
      * @return count
      * @throws FileException there is a problem accessing the file
@@ -74,4 +74,28 @@ public interface CSVFileStore extends BasicFileStore
      * @throws FileReadException unable to find, open or read the file, or the file does not include the requested record.
      */
     List<String>      readRecord(int  rowNumber) throws FileException, FileReadException;
+
+
+    /**
+     * Return a batch of consecutive data records.  The first record is record 0.  If the first line of the file is
+     * the column names then record 0 is the line following the column names.
+     *
+     * @param firstRecordNumber number of the first record to return
+     * @param maxRecords maximum number of records to return
+     * @return list of records (each a list of column values, or null for a blank line) - empty if there are
+     *         no records from firstRecordNumber onwards
+     * @throws FileException there is a problem accessing the file
+     * @throws FileReadException unable to find, open or read the file
+     */
+    List<List<String>> readRecords(long firstRecordNumber,
+                                   int  maxRecords) throws FileException, FileReadException;
+
+
+    /**
+     * Return a cursor that steps through all of the data records in the file in batches.
+     *
+     * @param batchSize maximum number of records returned in each batch
+     * @return cursor positioned at record 0
+     */
+    CSVFileRecordCursor getRecordCursor(int batchSize);
 }
@@ -28,6 +28,14 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     private List<String>   columnNames       = null;
     private char           delimiterChar     = ',';
     private char           quoteChar         = '"';
+    private boolean        persistRowIndex   = false;
+
+    /*
+     * Index of the rows in the file.  It is built when the file is first read and rebuilt if the file changes.
+     */
+    private static final String rowIndexFileSuffix = ".rowindex";
+
+    private CSVFileRowIndex rowIndex = null;
 
     /*
      * Variables used for logging and debug.
@@ -54,6 +62,7 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
             Object  columnNamesProperty   = configurationProperties.get(CSVFileStoreProvider.columnNamesProperty);
             Object  delimiterCharProperty = configurationProperties.get(CSVFileStoreProvider.delimiterCharacterProperty);
             Object  quoteCharProperty     = configurationProperties.get(CSVFileStoreProvider.quoteCharacterProperty);
+            Object  persistIndexProperty  = configurationProperties.get(CSVFileStoreProvider.persistRowIndexProperty);
 
             if (columnNamesProperty != null)
             {
@@ -79,6 +88,11 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
             {
                 quoteChar = (char)quoteCharProperty;
             }
+
+            if (persistIndexProperty != null)
+            {
+                persistRowIndex = Boolean.parseBoolean(persistIndexProperty.toString());
+            }
         }
 
         if (endpoint != null)
@@ -127,8 +141,8 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.  The file is scanned once to build an index of its records.  The
+     * index is reused until the file changes.
      *
      * @return count
      * @throws FileException problem accessing the file
@@ -138,31 +152,11 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     {
         final String  methodName = "getRecordCount";
 
-        long    rowCount = 0;
-
-        File fileStore = getFile(methodName);
-
-        try (Scanner scanner  = new Scanner(fileStore))
-        {
-            while (scanner.hasNext())
-            {
-                scanner.nextLine();
-                rowCount ++;
-            }
+        long    rowCount = this.getRowIndex(methodName).getRowCount();
 
-            if ((rowCount > 0) && (columnNames == null))
-            {
-                rowCount = rowCount - 1;
-            }
-        }
-        catch (IOException  error)
+        if ((rowCount > 0) && (columnNames == null))
         {
-            throw new FileReadException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
-                                                                                                               error.getMessage()),
-                                        this.getClass().getName(),
-                                        methodName,
-                                        error,
-                                        fileStoreName);
+            rowCount = rowCount - 1;
         }
 
         return rowCount;
@@ -220,6 +214,52 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     }
 
 
+    /**
+     * Return a batch of consecutive data records.  The first record is record 0.  If the first line of the file is
+     * the column names then record 0 is the line following the column names.
+     *
+     * @param firstRecordNumber number of the first record to return
+     * @param maxRecords maximum number of records to return
+     * @return list of records (each a list of column values, or null for a blank line) - empty if there are
+     *         no records from firstRecordNumber onwards
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or read the file
+     */
+    public List<List<String>> readRecords(long firstRecordNumber,
+                                          int  maxRecords) throws FileException, FileReadException
+    {
+        final String  methodName = "readRecords";
+
+        long firstRow = firstRecordNumber;
+
+        if (columnNames == null)
+        {
+            firstRow = firstRow + 1;
+        }
+
+        List<List<String>> records = new ArrayList<>();
+
+        for (String row : this.getRowIndex(methodName).readRows(firstRow, maxRecords))
+        {
+            records.add(parseRecord(row));
+        }
+
+        return records;
+    }
+
+
+    /**
+     * Return a cursor that steps through all of the data records in the file in batches.
+     *
+     * @param batchSize maximum number of records returned in each batch
+     * @return cursor positioned at record 0
+     */
+    public CSVFileRecordCursor getRecordCursor(int batchSize)
+    {
+        return new CSVFileRecordCursor(this, batchSize);
+    }
+
+
     /**
      * Return the requested row in the file.  The first record is record 0.
      *
@@ -232,41 +272,81 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     private List<String>      readRow(int     recordLocation,
                                       String  methodName) throws FileException, FileReadException
     {
+        List<String> rows = this.getRowIndex(methodName).readRows(recordLocation, 1);
 
-        File fileStore = super.getFile(methodName);
-
-        try (Scanner scanner = new Scanner(fileStore))
+        if (rows.isEmpty())
         {
-
-            int rowCounter = 0;
-            while (scanner.hasNext())
-            {
-                if (rowCounter == recordLocation)
-                {
-                    return parseRecord(scanner.nextLine());
-                }
-                else
-                {
-                    scanner.nextLine();
-                }
-                rowCounter ++;
-            }
-
             throw new FileReadException(CSVFileConnectorErrorCode.FILE_TOO_SHORT.getMessageDefinition(fileStoreName,
                                                                                                       Integer.toString(recordLocation)),
                                         this.getClass().getName(),
                                         methodName,
                                         fileStoreName);
+        }
+
+        return parseRecord(rows.get(0));
+    }
+
+
+    /**
+     * Return the index of the rows in the file, building it if this is the first time the file has been read or
+     * the file has changed since the index was built.
+     *
+     * @param methodName name of calling method
+     * @return row index
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to open or scan the file
+     */
+    private synchronized CSVFileRowIndex getRowIndex(String  methodName) throws FileException, FileReadException
+    {
+        File fileStore = super.getFile(methodName);
+
+        if ((rowIndex == null) || (! rowIndex.isCurrent(fileStore)))
+        {
+            this.closeRowIndex();
+
+            File indexFile = null;
 
+            if (persistRowIndex)
+            {
+                indexFile = new File(fileStore.getPath() + rowIndexFileSuffix);
+            }
+
+            try
+            {
+                rowIndex = new CSVFileRowIndex(fileStore, indexFile);
+            }
+            catch (IOException  error)
+            {
+                throw new FileReadException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
+                                                                                                                   error.getMessage()),
+                                            this.getClass().getName(),
+                                            methodName,
+                                            error,
+                                            fileStoreName);
+            }
         }
-        catch (IOException  error)
+
+        return rowIndex;
+    }
+
+
+    /**
+     * Release the file mapped by the row index.
+     */
+    private synchronized void closeRowIndex()
+    {
+        if (rowIndex != null)
         {
-            throw new FileReadException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
-                                                                                                               error.getMessage()),
-                                        this.getClass().getName(),
-                                        methodName,
-                                        error,
-                                        fileStoreName);
+            try
+            {
+                rowIndex.close();
+            }
+            catch (IOException  error)
+            {
+                log.debug("Ignoring unexpected exception closing row index: " + error.getMessage());
+            }
+
+            rowIndex = null;
         }
     }
 
@@ -369,6 +449,8 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
      */
     public void disconnect()
     {
+        this.closeRowIndex();
+
         try
         {
             super.disconnect();
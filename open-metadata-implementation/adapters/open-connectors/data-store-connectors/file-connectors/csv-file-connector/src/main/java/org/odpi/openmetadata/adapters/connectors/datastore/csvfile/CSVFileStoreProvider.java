@@ -25,6 +25,7 @@ public class CSVFileStoreProvider extends ConnectorProviderBase
     public static final String  columnNamesProperty = "columnNames";
     public static final String  delimiterCharacterProperty = "delimiterCharacter";
     public static final String  quoteCharacterProperty = "quoteCharacter";
+    public static final String  persistRowIndexProperty = "persistRowIndex";
 
 
     /**
@@ -56,6 +57,7 @@ public class CSVFileStoreProvider extends ConnectorProviderBase
         recognizedConfigurationProperties.add(columnNamesProperty);
         recognizedConfigurationProperties.add(delimiterCharacterProperty);
         recognizedConfigurationProperties.add(quoteCharacterProperty);
+        recognizedConfigurationProperties.add(persistRowIndexProperty);
 
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
@@ -8,10 +8,18 @@ import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperti
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.stream.Stream;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
@@ -27,6 +35,32 @@ public class CSVFileStoreConnectorTest
     private static  String  noColumnNamesFile                  = "NoColumnNames.csv";
     private static  String  simpleColumnsWithColumnNamesFile   = "SimpleColumnsWithColumnNames.csv";
 
+    private Path temporaryDirectory = null;
+
+
+    /**
+     * Remove the directory (and the CSV and row index files in it) created by a test that writes its own file.
+     *
+     * @throws Exception unable to delete the files
+     */
+    @AfterMethod
+    public void deleteTemporaryDirectory() throws Exception
+    {
+        if (temporaryDirectory != null)
+        {
+            try (Stream<Path> files = Files.list(temporaryDirectory))
+            {
+                for (Path file : (Iterable<Path>) files::iterator)
+                {
+                    Files.delete(file);
+                }
+            }
+
+            Files.delete(temporaryDirectory);
+            temporaryDirectory = null;
+        }
+    }
+
 
     private Connection getConnection(String   fileName)
     {
@@ -358,4 +392,108 @@ public class CSVFileStoreConnectorTest
             assertTrue(false);
         }
     }
+
+
+    @Test public void testBatchReads() throws Exception
+    {
+        CSVFileStoreConnector connector = new CSVFileStoreConnector();
+
+        connector.initialize(UUID.randomUUID().toString(), getConnectionProperties(resourcesDirectory + complexColumnsWithColumnNamesFile));
+        connector.start();
+
+        long                recordCount = connector.getRecordCount();
+        List<List<String>>  cursorRecords = new ArrayList<>();
+        CSVFileRecordCursor cursor = connector.getRecordCursor(2);
+        List<List<String>>  batch = cursor.nextBatch();
+
+        while (! batch.isEmpty())
+        {
+            assertTrue(batch.size() <= 2);
+            cursorRecords.addAll(batch);
+            batch = cursor.nextBatch();
+        }
+
+        assertEquals(cursorRecords.size(), recordCount);
+        assertEquals(cursor.getNextRecordNumber(), recordCount);
+
+        for (int i=0; i<recordCount; i++)
+        {
+            assertEquals(cursorRecords.get(i), connector.readRecord(i));
+        }
+
+        assertEquals(connector.readRecords(recordCount - 1, 10).size(), 1);
+        assertTrue(connector.readRecords(recordCount, 10).isEmpty());
+
+        connector.disconnect();
+    }
+
+    @Test public void testPersistedRowIndex() throws Exception
+    {
+        temporaryDirectory = Files.createTempDirectory("csvfiletest");
+
+        Path csvFile = temporaryDirectory.resolve("Rows.csv");
+        StringBuilder fileContents = new StringBuilder("Id,Name\r\n");
+
+        for (int i=0; i<200; i++)
+        {
+            fileContents.append(i).append(",Name").append(i).append("\r\n");
+        }
+
+        Files.write(csvFile, fileContents.toString().getBytes(StandardCharsets.UTF_8));
+
+        Connection          connectionBean          = getConnection(csvFile.toString());
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(CSVFileStoreProvider.persistRowIndexProperty, true);
+        connectionBean.setConfigurationProperties(configurationProperties);
+
+        CSVFileStoreConnector connector = new CSVFileStoreConnector();
+
+        connector.initialize(UUID.randomUUID().toString(), new ConnectionProperties(connectionBean));
+        connector.start();
+
+        assertEquals(connector.getRecordCount(), 200);
+        assertEquals(connector.readRecord(130), Arrays.asList("130", "Name130"));
+        assertTrue(new File(csvFile.toString() + ".rowindex").isFile());
+
+        connector.disconnect();
+
+        /*
+         * A new connector reuses the saved index until the file changes.
+         */
+        connector = new CSVFileStoreConnector();
+        connector.initialize(UUID.randomUUID().toString(), new ConnectionProperties(connectionBean));
+        connector.start();
+
+        assertEquals(connector.readRecord(199), Arrays.asList("199", "Name199"));
+
+        Files.write(csvFile, "200,Name200\r\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(connector.getRecordCount(), 201);
+        assertEquals(connector.readRecord(200), Arrays.asList("200", "Name200"));
+
+        connector.disconnect();
+    }
+
+    @Test public void testCarriageReturnRows() throws Exception
+    {
+        temporaryDirectory = Files.createTempDirectory("csvfiletest");
+
+        Path csvFile = temporaryDirectory.resolve("CarriageReturns.csv");
+
+        Files.write(csvFile, "Id,Name\r0,Name0\r1,Name1\r\n2,Name2\n3,Name3\r".getBytes(StandardCharsets.UTF_8));
+
+        CSVFileStoreConnector connector = new CSVFileStoreConnector();
+
+        connector.initialize(UUID.randomUUID().toString(), new ConnectionProperties(getConnection(csvFile.toString())));
+        connector.start();
+
+        assertEquals(connector.getRecordCount(), 4);
+        assertEquals(connector.readRecord(0), Arrays.asList("0", "Name0"));
+        assertEquals(connector.readRecord(1), Arrays.asList("1", "Name1"));
+        assertEquals(connector.readRecord(2), Arrays.asList("2", "Name2"));
+        assertEquals(connector.readRecord(3), Arrays.asList("3", "Name3"));
+
+        connector.disconnect();
+    }
 }
@@ -0,0 +1,439 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+
+/**
+ * CSVColumnProfile accumulates the statistics for one column of a CSV file as its values are streamed past.
+ * The memory used is fixed regardless of the number of values: the distinct count is estimated with a
+ * HyperLogLog sketch and the most frequent values are tracked in a bounded FrequentValues table.  Profiles built
+ * from different parts of the file can be merged.
+ *
+ * An empty value is counted as a null.  The data type is the narrowest type that all of the non-null values
+ * can be parsed as.
+ */
+final class CSVColumnProfile
+{
+    static final String STRING_TYPE_NAME  = "string";
+    static final String CHAR_TYPE_NAME    = "char";
+    static final String DATE_TYPE_NAME    = "date";
+    static final String INT_TYPE_NAME     = "int";
+    static final String LONG_TYPE_NAME    = "long";
+    static final String BOOLEAN_TYPE_NAME = "boolean";
+    static final String FLOAT_TYPE_NAME   = "float";
+
+    private static final String BOOLEAN_UC_TRUE   = "TRUE";
+    private static final String BOOLEAN_LC_TRUE   = "true";
+    private static final String BOOLEAN_UC_FALSE  = "FALSE";
+    private static final String BOOLEAN_LC_FALSE  = "false";
+
+    /*
+     * Bucket 0 counts empty values; bucket n counts values whose length is between 2^(n-1) and 2^n - 1.
+     */
+    private static final int LENGTH_BUCKETS = Integer.SIZE;
+
+    private long    valueCount    = 0;
+    private long    nullCount     = 0;
+    private long    totalLength   = 0;
+    private int     minimumLength = Integer.MAX_VALUE;
+    private int     maximumLength = 0;
+    private long[]  lengthCounts  = new long[LENGTH_BUCKETS];
+
+    private boolean couldBeBoolean = true;
+    private boolean couldBeInt     = true;
+    private boolean couldBeLong    = true;
+    private boolean couldBeFloat   = true;
+    private boolean couldBeDate    = true;
+    private boolean couldBeChar    = true;
+
+    private String  minimumString  = null;
+    private String  maximumString  = null;
+    private long    minimumLong    = Long.MAX_VALUE;
+    private long    maximumLong    = Long.MIN_VALUE;
+    private double  minimumDouble  = Double.POSITIVE_INFINITY;
+    private double  maximumDouble  = Double.NEGATIVE_INFINITY;
+    private double  numericTotal   = 0;
+
+    private final HyperLogLog    distinctValues = new HyperLogLog();
+    private final FrequentValues frequentValues;
+
+
+    /**
+     * Constructor
+     *
+     * @param frequentValueCapacity number of values tracked to find the most frequent values
+     */
+    CSVColumnProfile(int frequentValueCapacity)
+    {
+        this.frequentValues = new FrequentValues(frequentValueCapacity);
+    }
+
+
+    /**
+     * Add the next value in the column.
+     *
+     * @param value value from a record
+     */
+    void addValue(String value)
+    {
+        int length = (value == null) ? 0 : value.length();
+
+        lengthCounts[Integer.SIZE - Integer.numberOfLeadingZeros(length)]++;
+        minimumLength = Math.min(minimumLength, length);
+        maximumLength = Math.max(maximumLength, length);
+        totalLength = totalLength + length;
+
+        if (length == 0)
+        {
+            nullCount++;
+            return;
+        }
+
+        valueCount++;
+        distinctValues.add(value);
+        frequentValues.add(value);
+
+        if ((minimumString == null) || (value.compareTo(minimumString) < 0))
+        {
+            minimumString = value;
+        }
+
+        if ((maximumString == null) || (value.compareTo(maximumString) > 0))
+        {
+            maximumString = value;
+        }
+
+        couldBeChar = couldBeChar && (length == 1);
+        couldBeBoolean = couldBeBoolean && isBoolean(value);
+
+        if (couldBeLong)
+        {
+            try
+            {
+                long longValue = Long.parseLong(value);
+
+                couldBeInt = couldBeInt && (longValue >= Integer.MIN_VALUE) && (longValue <= Integer.MAX_VALUE);
+                minimumLong = Math.min(minimumLong, longValue);
+                maximumLong = Math.max(maximumLong, longValue);
+            }
+            catch (NumberFormatException notLong)
+            {
+                couldBeLong = false;
+                couldBeInt = false;
+            }
+        }
+
+        if (couldBeFloat)
+        {
+            try
+            {
+                double doubleValue = Double.parseDouble(value);
+
+                if (Double.isFinite(doubleValue))
+                {
+                    minimumDouble = Math.min(minimumDouble, doubleValue);
+                    maximumDouble = Math.max(maximumDouble, doubleValue);
+                    numericTotal = numericTotal + doubleValue;
+                }
+                else
+                {
+                    couldBeFloat = false;
+                }
+            }
+            catch (NumberFormatException notFloat)
+            {
+                couldBeFloat = false;
+            }
+        }
+
+        if (couldBeDate)
+        {
+            couldBeDate = isDate(value);
+        }
+    }
+
+
+    /**
+     * Add the statistics from a profile of another part of the same column.
+     *
+     * @param other profile to merge
+     */
+    void merge(CSVColumnProfile other)
+    {
+        valueCount = valueCount + other.valueCount;
+        nullCount = nullCount + other.nullCount;
+        totalLength = totalLength + other.totalLength;
+        minimumLength = Math.min(minimumLength, other.minimumLength);
+        maximumLength = Math.max(maximumLength, other.maximumLength);
+
+        for (int bucket = 0; bucket < LENGTH_BUCKETS; bucket++)
+        {
+            lengthCounts[bucket] = lengthCounts[bucket] + other.lengthCounts[bucket];
+        }
+
+        couldBeBoolean = couldBeBoolean && other.couldBeBoolean;
+        couldBeInt = couldBeInt && other.couldBeInt;
+        couldBeLong = couldBeLong && other.couldBeLong;
+        couldBeFloat = couldBeFloat && other.couldBeFloat;
+        couldBeDate = couldBeDate && other.couldBeDate;
+        couldBeChar = couldBeChar && other.couldBeChar;
+
+        if ((other.minimumString != null) && ((minimumString == null) || (other.minimumString.compareTo(minimumString) < 0)))
+        {
+            minimumString = other.minimumString;
+        }
+
+        if ((other.maximumString != null) && ((maximumString == null) || (other.maximumString.compareTo(maximumString) > 0)))
+        {
+            maximumString = other.maximumString;
+        }
+
+        minimumLong = Math.min(minimumLong, other.minimumLong);
+        maximumLong = Math.max(maximumLong, other.maximumLong);
+        minimumDouble = Math.min(minimumDouble, other.minimumDouble);
+        maximumDouble = Math.max(maximumDouble, other.maximumDouble);
+        numericTotal = numericTotal + other.numericTotal;
+
+        distinctValues.merge(other.distinctValues);
+        frequentValues.merge(other.frequentValues);
+    }
+
+
+    /**
+     * Return the narrowest type that all of the non-null values can be parsed as.
+     *
+     * @return type name
+     */
+    String getInferredType()
+    {
+        if (valueCount == 0)
+        {
+            return STRING_TYPE_NAME;
+        }
+        else if (couldBeBoolean)
+        {
+            return BOOLEAN_TYPE_NAME;
+        }
+        else if (couldBeInt)
+        {
+            return INT_TYPE_NAME;
+        }
+        else if (couldBeLong)
+        {
+            return LONG_TYPE_NAME;
+        }
+        else if (couldBeFloat)
+        {
+            return FLOAT_TYPE_NAME;
+        }
+        else if (couldBeDate)
+        {
+            return DATE_TYPE_NAME;
+        }
+        else if (couldBeChar)
+        {
+            return CHAR_TYPE_NAME;
+        }
+
+        return STRING_TYPE_NAME;
+    }
+
+
+    /**
+     * Return the smallest value, compared using the inferred type.
+     *
+     * @return value or null if the column only has nulls
+     */
+    String getMinimumValue()
+    {
+        if (valueCount == 0)
+        {
+            return null;
+        }
+        else if (couldBeLong)
+        {
+            return Long.toString(minimumLong);
+        }
+        else if (couldBeFloat)
+        {
+            return Double.toString(minimumDouble);
+        }
+
+        return minimumString;
+    }
+
+
+    /**
+     * Return the largest value, compared using the inferred type.
+     *
+     * @return value or null if the column only has nulls
+     */
+    String getMaximumValue()
+    {
+        if (valueCount == 0)
+        {
+            return null;
+        }
+        else if (couldBeLong)
+        {
+            return Long.toString(maximumLong);
+        }
+        else if (couldBeFloat)
+        {
+            return Double.toString(maximumDouble);
+        }
+
+        return maximumString;
+    }
+
+
+    /**
+     * Return the mean of the values if the column is numeric.
+     *
+     * @return average or null if the column is not numeric
+     */
+    String getAverageValue()
+    {
+        if ((valueCount == 0) || (couldBeBoolean) || (! couldBeFloat))
+        {
+            return null;
+        }
+
+        return Double.toString(numericTotal / valueCount);
+    }
+
+
+    /**
+     * Return the number of non-null values.
+     *
+     * @return count
+     */
+    long getValueCount()
+    {
+        return valueCount;
+    }
+
+
+    /**
+     * Return the number of null (empty) values.
+     *
+     * @return count
+     */
+    long getNullCount()
+    {
+        return nullCount;
+    }
+
+
+    /**
+     * Return the estimated number of distinct non-null values.
+     *
+     * @return estimate
+     */
+    long getDistinctValueCount()
+    {
+        return Math.min(distinctValues.estimate(), valueCount);
+    }
+
+
+    /**
+     * Return the total length of all of the values.
+     *
+     * @return number of characters
+     */
+    long getTotalLength()
+    {
+        return totalLength;
+    }
+
+
+    /**
+     * Return the length of the shortest value.
+     *
+     * @return number of characters
+     */
+    int getMinimumLength()
+    {
+        return (minimumLength == Integer.MAX_VALUE) ? 0 : minimumLength;
+    }
+
+
+    /**
+     * Return the length of the longest value.
+     *
+     * @return number of characters
+     */
+    int getMaximumLength()
+    {
+        return maximumLength;
+    }
+
+
+    /**
+     * Return the number of values in each length bucket.  Bucket 0 is the empty values and bucket n covers the
+     * lengths from 2^(n-1) to 2^n - 1.
+     *
+     * @return array of counts
+     */
+    long[] getLengthCounts()
+    {
+        return lengthCounts.clone();
+    }
+
+
+    /**
+     * Return the most frequent values and their approximate counts.
+     *
+     * @param maxValues maximum number of values to return
+     * @return map of value to count in descending order of count
+     */
+    Map<String, Long> getFrequentValues(int maxValues)
+    {
+        return frequentValues.getTopValues(maxValues);
+    }
+
+
+    /**
+     * Return whether a value is a boolean literal.
+     *
+     * @param value value to test
+     * @return boolean
+     */
+    private static boolean isBoolean(String value)
+    {
+        return (BOOLEAN_LC_TRUE.equals(value)) ||
+               (BOOLEAN_UC_TRUE.equals(value)) ||
+               (BOOLEAN_LC_FALSE.equals(value)) ||
+               (BOOLEAN_UC_FALSE.equals(value));
+    }
+
+
+    /**
+     * Return whether a value is an ISO-8601 date (yyyy-mm-dd).
+     *
+     * @param value value to test
+     * @return boolean
+     */
+    private static boolean isDate(String value)
+    {
+        if ((value.length() != 10) || (value.charAt(4) != '-') || (value.charAt(7) != '-'))
+        {
+            return false;
+        }
+
+        try
+        {
+            LocalDate.parse(value);
+
+            return true;
+        }
+        catch (DateTimeParseException notDate)
+        {
+            return false;
+        }
+    }
+}
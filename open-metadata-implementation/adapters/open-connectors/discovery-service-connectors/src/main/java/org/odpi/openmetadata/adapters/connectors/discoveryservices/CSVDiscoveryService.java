@@ -9,125 +9,125 @@ import org.odpi.openmetadata.frameworks.discovery.properties.*;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 
 /**
  * CSVDiscoveryService is a discovery service implementation for analysing CSV Files to
- * discovery columns and profile the data in them.
+ * discovery columns and profile the data in them.  The columns are profiled in a single pass over the file using
+ * fixed-size summaries (see CSVColumnProfile) so large files can be profiled without holding their values in memory.
  */
 public class CSVDiscoveryService extends AuditableDiscoveryService
 {
-    private final static String STRING_TYPE_NAME  = "string";
-    private final static String CHAR_TYPE_NAME    = "char";
-    private final static String DATE_TYPE_NAME    = "date";
-    private final static String INT_TYPE_NAME     = "int";
-    private final static String LONG_TYPE_NAME    = "long";
-    private final static String BOOLEAN_TYPE_NAME = "boolean";
-    private final static String FLOAT_TYPE_NAME   = "float";
-    private final static String BOOLEAN_UC_TRUE   = "TRUE";
-    private final static String BOOLEAN_LC_TRUE   = "true";
-    private final static String BOOLEAN_UC_FALSE  = "FALSE";
-    private final static String BOOLEAN_LC_FALSE  = "false";
+    private final static int    DEFAULT_TOP_VALUE_COUNT = 20;
 
+    /*
+     * Number of values tracked per column for every value reported in the value list.
+     * Tracking more values than are reported makes the reported counts more accurate.
+     */
+    private final static int    FREQUENT_VALUE_CAPACITY_FACTOR = 10;
 
 
     /**
-     * Return the best guess for the data field type.
+     * Return a positive integer configuration property, or the default if it is not set or not valid.
      *
-     * @param existingType current type guess
-     * @param newFieldValue next field value to process
-     * @return new best guess
+     * @param propertyName name of the configuration property
+     * @param defaultValue value to use if the property is not set
+     * @return property value
      */
-    private String getDataFieldType(String  existingType, String newFieldValue)
+    private int getIntConfigurationProperty(String propertyName,
+                                            int    defaultValue)
     {
-        if (STRING_TYPE_NAME.equals(existingType))
-        {
-            return STRING_TYPE_NAME;
-        }
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
 
-        if (newFieldValue == null)
+        if (configurationProperties != null)
         {
-            return existingType;
-        }
-
-        if ((BOOLEAN_LC_TRUE.equals(newFieldValue)) ||
-            (BOOLEAN_UC_TRUE.equals(newFieldValue)) ||
-            (BOOLEAN_LC_FALSE.equals(newFieldValue)) ||
-            (BOOLEAN_UC_FALSE.equals(newFieldValue)))
+            Object propertyValue = configurationProperties.get(propertyName);
 
-        {
-            if ((existingType == null) || (existingType.equals(BOOLEAN_TYPE_NAME)))
+            if (propertyValue != null)
             {
-                return BOOLEAN_TYPE_NAME;
-            }
-            else
-            {
-                return STRING_TYPE_NAME;
+                try
+                {
+                    int value = Integer.parseInt(propertyValue.toString());
+
+                    if (value > 0)
+                    {
+                        return value;
+                    }
+                }
+                catch (NumberFormatException notNumber)
+                {
+                    /*
+                     * Fall through to the default.
+                     */
+                }
             }
         }
-        return STRING_TYPE_NAME;
+
+        return defaultValue;
     }
 
 
     /**
-     * Return the updated value count for this column.
+     * Fill out the data profile annotation for a column from its profile.
      *
-     * @param existingValueCount current value count
-     * @param newFieldValue next field value to process
-     * @return new value count
+     * @param columnProfile statistics gathered for the column
+     * @param topValueCount maximum number of values to list
+     * @return data profile annotation
      */
-    private Map<String, Integer> getValueCount(Map<String, Integer> existingValueCount, String newFieldValue)
+    private DataProfileAnnotation getDataProfile(CSVColumnProfile columnProfile,
+                                                 int              topValueCount)
     {
-        if (existingValueCount == null)
-        {
-            Map<String, Integer> newValueCount = new HashMap<>();
-
-            newValueCount.put(newFieldValue, 1);
-
-            return newValueCount;
-        }
-
-        Integer   countForValue = existingValueCount.get(newFieldValue);
+        DataProfileAnnotation dataProfile       = new DataProfileAnnotation();
+        Map<String, Long>     frequentValues    = columnProfile.getFrequentValues(topValueCount);
+        Map<String, Integer>  valueCount        = new LinkedHashMap<>();
+        Map<String, Long>     profileCounts     = new LinkedHashMap<>();
+        Map<String, String>   profileProperties = new HashMap<>();
 
-        if (countForValue == null)
+        for (Map.Entry<String, Long> frequentValue : frequentValues.entrySet())
         {
-            existingValueCount.put(newFieldValue, 1);
-        }
-        else
-        {
-            existingValueCount.put(newFieldValue, countForValue + 1);
+            valueCount.put(frequentValue.getKey(), (int)Math.min(Integer.MAX_VALUE, frequentValue.getValue()));
         }
 
-        return existingValueCount;
-    }
+        profileCounts.put("valueCount", columnProfile.getValueCount());
+        profileCounts.put("nullCount", columnProfile.getNullCount());
+        profileCounts.put("distinctValueCount", columnProfile.getDistinctValueCount());
+        profileCounts.put("minimumLength", (long)columnProfile.getMinimumLength());
+        profileCounts.put("maximumLength", (long)columnProfile.getMaximumLength());
 
+        long[] lengthCounts = columnProfile.getLengthCounts();
 
-    /**
-     * Return the updated value list.
-     *
-     * @param existingValueList existing value list
-     * @param newFieldValue next field value to process
-     * @return updated value list
-     */
-    private List<String> getValueList(List<String> existingValueList, String newFieldValue)
-    {
-        if (existingValueList == null)
+        for (int bucket = 0; bucket < lengthCounts.length; bucket++)
         {
-            List<String> newValueList = new ArrayList<>();
-
-            newValueList.add(newFieldValue);
+            if (lengthCounts[bucket] > 0)
+            {
+                long lowestLength  = (bucket == 0) ? 0 : (1L << (bucket - 1));
+                long highestLength = (bucket == 0) ? 0 : (1L << bucket) - 1;
 
-            return newValueList;
+                profileCounts.put("lengthCount[" + lowestLength + "-" + highestLength + "]", lengthCounts[bucket]);
+            }
         }
 
-        if (! existingValueList.contains(newFieldValue))
+        long totalValues = columnProfile.getValueCount() + columnProfile.getNullCount();
+
+        if (totalValues > 0)
         {
-            existingValueList.add(newFieldValue);
+            profileProperties.put("averageLength", Double.toString((double)columnProfile.getTotalLength() / totalValues));
         }
 
-        return existingValueList;
+        dataProfile.setInferredDataType(columnProfile.getInferredType());
+        dataProfile.setInferredLength(columnProfile.getMaximumLength());
+        dataProfile.setValueRangeFrom(columnProfile.getMinimumValue());
+        dataProfile.setValueRangeTo(columnProfile.getMaximumValue());
+        dataProfile.setAverageValue(columnProfile.getAverageValue());
+        dataProfile.setValueCount(valueCount);
+        dataProfile.setValueList(new ArrayList<>(frequentValues.keySet()));
+        dataProfile.setProfileCounts(profileCounts);
+        dataProfile.setProfileProperties(profileProperties);
+
+        return dataProfile;
     }
 
 
@@ -147,7 +147,7 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
         {
             CSVFileStoreConnector    assetConnector  = (CSVFileStoreConnector)discoveryContext.getAssetStore().getConnectorToAsset();
             DiscoveryAnnotationStore annotationStore = discoveryContext.getAnnotationStore();
-            int                      size            = 0;
+            long                     size            = 0;
             int                      delimiterCount  = 0;
             long                     recordCount     = assetConnector.getRecordCount();
 
@@ -159,13 +159,12 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
 
             String schemaAnnotationGUID = annotationStore.addAnnotationToDiscoveryReport(schemaAnnotation);
 
-            List<String>                        columnNames = assetConnector.getColumnNames();
-            Map<Integer, DataField>             dataFields  = new HashMap<>();
-            Map<Integer, DataProfileAnnotation> dataProfiles  = new HashMap<>();
+            List<String> columnNames = assetConnector.getColumnNames();
 
             if (columnNames != null)
             {
-                int position = 0;
+                List<DataField> dataFields = new ArrayList<>();
+                int             position   = 0;
 
                 for (String  columnName : columnNames)
                 {
@@ -175,11 +174,7 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
 
                         dataField.setDataFieldPosition(position);
                         dataField.setDataFieldName(columnName);
-                        dataFields.put(position, dataField);
-
-                        DataProfileAnnotation dataProfile = new DataProfileAnnotation();
-
-                        dataProfiles.put(position, dataProfile);
+                        dataFields.add(dataField);
 
                         size = size + columnName.length();
                         position++;
@@ -193,39 +188,32 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
 
                 size = size + delimiterCount;
 
-                for (int recordNumber=0; recordNumber < recordCount ; recordNumber++)
-                {
-                    List<String>  recordValues = assetConnector.readRecord(recordNumber);
-
-                    if ((recordValues != null) && (! recordValues.isEmpty()))
-                    {
-                        int columnPosition = 0;
-                        int recordLength = 0;
+                int topValueCount = this.getIntConfigurationProperty(CSVDiscoveryServiceProvider.topValueCountProperty,
+                                                                     DEFAULT_TOP_VALUE_COUNT);
+                int workerCount   = this.getIntConfigurationProperty(CSVDiscoveryServiceProvider.profileWorkersProperty,
+                                                                     Runtime.getRuntime().availableProcessors());
 
-                        for (String fieldValue : recordValues)
-                        {
-                            DataField             dataField   = dataFields.get(columnPosition);
-                            DataProfileAnnotation dataProfile = dataProfiles.get(columnPosition);
+                CSVProfilingEngine profilingEngine = new CSVProfilingEngine(assetConnector,
+                                                                            dataFields.size(),
+                                                                            workerCount,
+                                                                            topValueCount * FREQUENT_VALUE_CAPACITY_FACTOR);
 
-                            dataField.setDataFieldType(this.getDataFieldType(dataField.getDataFieldType(), fieldValue));
+                profilingEngine.profile(recordCount);
 
-                            dataProfile.setValueCount(this.getValueCount(dataProfile.getValueCount(), fieldValue));
-                            dataProfile.setValueList(this.getValueList(dataProfile.getValueList(), fieldValue));
+                size = size + profilingEngine.getDataSize();
 
-                            recordLength = recordLength + fieldValue.length();
+                List<CSVColumnProfile> columnProfiles = profilingEngine.getColumnProfiles();
 
-                            columnPosition++;
-                        }
+                for (int columnNumber = 0; columnNumber < dataFields.size(); columnNumber++)
+                {
+                    DataField        dataField     = dataFields.get(columnNumber);
+                    CSVColumnProfile columnProfile = columnProfiles.get(columnNumber);
 
-                        size = size + recordLength + delimiterCount;
-                    }
-                }
+                    dataField.setDataFieldType(columnProfile.getInferredType());
 
-                for (int columnNumber=0 ; columnNumber < columnNames.size(); columnNumber++)
-                {
-                    String  dataFieldGUID = annotationStore.addDataFieldToDiscoveryReport(schemaAnnotationGUID, dataFields.get(columnNumber));
+                    String  dataFieldGUID = annotationStore.addDataFieldToDiscoveryReport(schemaAnnotationGUID, dataField);
 
-                    annotationStore.addAnnotationToDataField(dataFieldGUID, dataProfiles.get(columnNumber));
+                    annotationStore.addAnnotationToDataField(dataFieldGUID, this.getDataProfile(columnProfile, topValueCount));
                 }
             }
 
@@ -237,7 +225,7 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
 
             measurementAnnotation.setModifiedTime(assetConnector.getLastUpdateDate());
             measurementAnnotation.setDataSourceProperties(measurementProperties);
-            measurementAnnotation.setSize(size);
+            measurementAnnotation.setSize((int)Math.min(Integer.MAX_VALUE, size));
 
             annotationStore.addAnnotationToDiscoveryReport(measurementAnnotation);
         }
@@ -5,6 +5,9 @@ package org.odpi.openmetadata.adapters.connectors.discoveryservices;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.frameworks.discovery.DiscoveryServiceProvider;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * CSVDiscoveryServiceProvider provides the connector provider for the CSV Discovery Service
  */
@@ -14,6 +17,9 @@ public class CSVDiscoveryServiceProvider extends DiscoveryServiceProvider
     static final String  connectorTypeName = "CSV Discovery Service Connector";
     static final String  connectorTypeDescription = "Connector supports the discovery of metadata about a CSV file.";
 
+    public static final String  profileWorkersProperty = "profileWorkers";
+    public static final String  topValueCountProperty = "topValueCount";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * OMRS Connector implementation.
@@ -34,6 +40,12 @@ public class CSVDiscoveryServiceProvider extends DiscoveryServiceProvider
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(profileWorkersProperty);
+        recognizedConfigurationProperties.add(topValueCountProperty);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
     }
 }
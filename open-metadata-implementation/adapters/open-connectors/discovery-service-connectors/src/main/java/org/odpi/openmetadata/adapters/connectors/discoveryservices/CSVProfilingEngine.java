@@ -0,0 +1,247 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.CSVFileStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+
+/**
+ * CSVProfilingEngine makes a single pass over the records of a CSV file building a CSVColumnProfile for each
+ * column.  Large files are split into contiguous ranges of records that are profiled on separate threads and the
+ * resulting profiles are merged.  The records are read in batches so only one batch per thread is in memory.
+ */
+class CSVProfilingEngine
+{
+    /*
+     * Files with fewer records than this per worker are profiled on the calling thread.
+     */
+    private static final int MIN_RECORDS_PER_WORKER = 10000;
+    private static final int RECORD_BATCH_SIZE      = 1000;
+
+    private final CSVFileStore csvFileStore;
+    private final int          columnCount;
+    private final int          workerCount;
+    private final int          frequentValueCapacity;
+
+    private List<CSVColumnProfile> columnProfiles = null;
+    private long                   dataSize       = 0;
+
+
+    /**
+     * Constructor
+     *
+     * @param csvFileStore connector to the file
+     * @param columnCount number of columns to profile - any additional values in a record are ignored
+     * @param workerCount maximum number of threads to use
+     * @param frequentValueCapacity number of values tracked per column to find the most frequent values
+     */
+    CSVProfilingEngine(CSVFileStore csvFileStore,
+                       int          columnCount,
+                       int          workerCount,
+                       int          frequentValueCapacity)
+    {
+        this.csvFileStore = csvFileStore;
+        this.columnCount = columnCount;
+        this.workerCount = Math.max(1, workerCount);
+        this.frequentValueCapacity = frequentValueCapacity;
+    }
+
+
+    /**
+     * Profile the records in the file.
+     *
+     * @param recordCount number of records in the file
+     * @throws Exception problem reading the file
+     */
+    void profile(long recordCount) throws Exception
+    {
+        int workers = (int)Math.min(workerCount, Math.max(1, recordCount / MIN_RECORDS_PER_WORKER));
+
+        if (workers <= 1)
+        {
+            ProfiledRange range = new ProfiledRange(0, recordCount);
+
+            range.call();
+            columnProfiles = range.profiles;
+            dataSize = range.dataSize;
+
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable ->
+        {
+            Thread thread = new Thread(runnable, "CSVProfilingEngine");
+
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try
+        {
+            List<Future<ProfiledRange>> results    = new ArrayList<>();
+            long                        rangeSize  = (recordCount + workers - 1) / workers;
+
+            for (long firstRecord = 0; firstRecord < recordCount; firstRecord = firstRecord + rangeSize)
+            {
+                results.add(executor.submit(new ProfiledRange(firstRecord, Math.min(recordCount, firstRecord + rangeSize))));
+            }
+
+            for (Future<ProfiledRange> result : results)
+            {
+                ProfiledRange range = this.getResult(result);
+
+                if (columnProfiles == null)
+                {
+                    columnProfiles = range.profiles;
+                }
+                else
+                {
+                    for (int column = 0; column < columnCount; column++)
+                    {
+                        columnProfiles.get(column).merge(range.profiles.get(column));
+                    }
+                }
+
+                dataSize = dataSize + range.dataSize;
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+
+    /**
+     * Return the profile of each column.
+     *
+     * @return list of profiles in column order
+     */
+    List<CSVColumnProfile> getColumnProfiles()
+    {
+        return columnProfiles;
+    }
+
+
+    /**
+     * Return the number of characters in the records, including the delimiters between values.
+     *
+     * @return size
+     */
+    long getDataSize()
+    {
+        return dataSize;
+    }
+
+
+    /**
+     * Wait for a range to be profiled, passing back any exception from the worker thread.
+     *
+     * @param result future for the range
+     * @return profiled range
+     * @throws Exception problem reading the file
+     */
+    private ProfiledRange getResult(Future<ProfiledRange> result) throws Exception
+    {
+        try
+        {
+            return result.get();
+        }
+        catch (ExecutionException error)
+        {
+            if (error.getCause() instanceof Exception)
+            {
+                throw (Exception)error.getCause();
+            }
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * ProfiledRange profiles a contiguous range of records.
+     */
+    private class ProfiledRange implements Callable<ProfiledRange>
+    {
+        private final long             firstRecord;
+        private final long             endRecord;
+        private List<CSVColumnProfile> profiles = new ArrayList<>();
+        private long                   dataSize = 0;
+
+
+        /**
+         * Constructor
+         *
+         * @param firstRecord number of the first record in the range
+         * @param endRecord number of the record after the range
+         */
+        ProfiledRange(long firstRecord,
+                      long endRecord)
+        {
+            this.firstRecord = firstRecord;
+            this.endRecord = endRecord;
+
+            for (int column = 0; column < columnCount; column++)
+            {
+                profiles.add(new CSVColumnProfile(frequentValueCapacity));
+            }
+        }
+
+
+        /**
+         * Read the records in the range and add their values to the column profiles.
+         *
+         * @return this range
+         * @throws Exception problem reading the file
+         */
+        @Override
+        public ProfiledRange call() throws Exception
+        {
+            long nextRecord = firstRecord;
+
+            while (nextRecord < endRecord)
+            {
+                List<List<String>> records = csvFileStore.readRecords(nextRecord, (int)Math.min(RECORD_BATCH_SIZE, endRecord - nextRecord));
+
+                if (records.isEmpty())
+                {
+                    break;
+                }
+
+                for (List<String> recordValues : records)
+                {
+                    if ((recordValues != null) && (! recordValues.isEmpty()))
+                    {
+                        int columnPosition = 0;
+
+                        for (String fieldValue : recordValues)
+                        {
+                            if (columnPosition < columnCount)
+                            {
+                                profiles.get(columnPosition).addValue(fieldValue);
+                            }
+
+                            dataSize = dataSize + fieldValue.length();
+                            columnPosition++;
+                        }
+
+                        dataSize = dataSize + Math.max(0, columnCount - 1);
+                    }
+                }
+
+                nextRecord = nextRecord + records.size();
+            }
+
+            return this;
+        }
+    }
+}
@@ -36,6 +36,18 @@ public enum DiscoveryServiceErrorCode implements ExceptionMessageSet
                                "a discovery request type that is compatible with the asset, or changing the discovery service " +
                                "associated with the discovery request type to one that supports this type of asset."),
 
+    UNKNOWN_PIPELINE_DEPENDENCY(400, "OMAG-DISCOVERY-SERVICE-400-002 ",
+             "Discovery pipeline {0} is configured so that discovery service {1} depends on discovery service {2} but they are not both embedded in the pipeline",
+             "The discovery pipeline terminates without running any of its embedded discovery services.",
+             "Correct the serviceDependencies configuration property in the discovery pipeline's connection so that it only names " +
+                                        "the qualified names of the connections for its embedded discovery services."),
+
+    CIRCULAR_PIPELINE_DEPENDENCY(400, "OMAG-DISCOVERY-SERVICE-400-003 ",
+             "Discovery pipeline {0} is configured with circular dependencies between embedded discovery services {1}",
+             "The discovery pipeline terminates because there is no order in which these embedded discovery services can run.",
+             "Correct the serviceDependencies configuration property in the discovery pipeline's connection so that no " +
+                                        "embedded discovery service depends, directly or indirectly, on itself."),
+
     NO_ASSET(500, "OMAG-DISCOVERY-SERVICE-500-001 ",
             "No information about the asset {0} has been returned from the asset store for discovery service {1}.",
             "The discovery service terminates without running any automated metadata discovery function.",
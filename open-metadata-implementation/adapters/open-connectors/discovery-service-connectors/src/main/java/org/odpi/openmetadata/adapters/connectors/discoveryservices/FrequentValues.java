@@ -0,0 +1,156 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+
+/**
+ * FrequentValues tracks the most frequent values in a column with the space-saving algorithm.  At most
+ * capacity values are counted.  When a new value arrives and the table is full, the value with the lowest count is
+ * replaced and the new value inherits its count.  Any value that occurs more than 1/capacity of the time is
+ * guaranteed to be in the table, and its count is an over-estimate by at most the count it inherited.
+ * The counters are held in a map for lookup by value and in a tree ordered by count so that each update,
+ * including finding and replacing the lowest count, takes O(log capacity) time.
+ */
+final class FrequentValues
+{
+    /*
+     * Lowest count first.  Equal counts are in reverse order of value, so that walking the tree backwards returns the
+     * highest counts first with equal counts in alphabetical order.
+     */
+    private static final Comparator<Counter> countOrder = Comparator.comparingLong((Counter counter) -> counter.count)
+                                                                    .thenComparing(counter -> counter.value,
+                                                                                   Comparator.nullsFirst(Comparator.<String>reverseOrder()));
+
+    private final int                  capacity;
+    private final Map<String, Counter> counters        = new HashMap<>();
+    private final TreeSet<Counter>     countersByCount = new TreeSet<>(countOrder);
+
+
+    /**
+     * Constructor
+     *
+     * @param capacity maximum number of values to count
+     */
+    FrequentValues(int capacity)
+    {
+        this.capacity = Math.max(1, capacity);
+    }
+
+
+    /**
+     * Count a value.
+     *
+     * @param value value to count
+     */
+    void add(String value)
+    {
+        this.add(value, 1);
+    }
+
+
+    /**
+     * Add the counts from another table to this table.
+     *
+     * @param other table to merge
+     */
+    void merge(FrequentValues other)
+    {
+        for (Counter counter : other.countersByCount)
+        {
+            this.add(counter.value, counter.count);
+        }
+    }
+
+
+    /**
+     * Return the most frequent values in descending order of count.
+     *
+     * @param maxValues maximum number of values to return
+     * @return map of value to its (approximate) count
+     */
+    Map<String, Long> getTopValues(int maxValues)
+    {
+        Map<String, Long> topValues = new LinkedHashMap<>();
+
+        for (Counter counter : countersByCount.descendingSet())
+        {
+            if (topValues.size() >= maxValues)
+            {
+                break;
+            }
+
+            topValues.put(counter.value, counter.count);
+        }
+
+        return topValues;
+    }
+
+
+    /**
+     * Add a number of occurrences of a value.
+     *
+     * @param value value to count
+     * @param occurrences number of occurrences
+     */
+    private void add(String value,
+                     long   occurrences)
+    {
+        Counter counter = counters.get(value);
+
+        if (counter == null)
+        {
+            long inheritedCount = 0;
+
+            if (counters.size() >= capacity)
+            {
+                Counter minimumCounter = countersByCount.pollFirst();
+
+                counters.remove(minimumCounter.value);
+                inheritedCount = minimumCounter.count;
+            }
+
+            counter = new Counter(value, inheritedCount);
+            counters.put(value, counter);
+        }
+        else
+        {
+            /*
+             * The counter is taken out of the tree while its count changes so that the tree stays in order.
+             */
+            countersByCount.remove(counter);
+        }
+
+        counter.count = counter.count + occurrences;
+        countersByCount.add(counter);
+    }
+
+
+    /**
+     * Counter holds the count for one value.
+     */
+    private static final class Counter
+    {
+        private final String value;
+        private long         count;
+
+
+        /**
+         * Constructor
+         *
+         * @param value value being counted
+         * @param count starting count
+         */
+        Counter(String value,
+                long   count)
+        {
+            this.value = value;
+            this.count = count;
+        }
+    }
+}
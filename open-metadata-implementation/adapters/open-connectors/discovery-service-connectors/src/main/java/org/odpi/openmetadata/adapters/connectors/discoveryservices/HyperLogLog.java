@@ -0,0 +1,109 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+
+/**
+ * HyperLogLog estimates the number of distinct values in a column using a fixed amount of memory
+ * (2^PRECISION one-byte registers).  The standard error of the estimate is about 1.6%.  Two sketches can be
+ * merged so a column can be profiled in parallel.
+ */
+final class HyperLogLog
+{
+    private static final int    PRECISION      = 12;
+    private static final int    REGISTER_COUNT = 1 << PRECISION;
+    private static final double ALPHA          = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+
+    private final byte[] registers = new byte[REGISTER_COUNT];
+
+
+    /**
+     * Add a value to the sketch.
+     *
+     * @param value value to add
+     */
+    void add(String value)
+    {
+        long hash     = hash(value);
+        int  register = (int)(hash >>> (Long.SIZE - PRECISION));
+        byte rank     = (byte)(Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+
+        if (rank > registers[register])
+        {
+            registers[register] = rank;
+        }
+    }
+
+
+    /**
+     * Add the values counted by another sketch to this sketch.
+     *
+     * @param other sketch to merge
+     */
+    void merge(HyperLogLog other)
+    {
+        for (int register = 0; register < REGISTER_COUNT; register++)
+        {
+            if (other.registers[register] > registers[register])
+            {
+                registers[register] = other.registers[register];
+            }
+        }
+    }
+
+
+    /**
+     * Return the estimated number of distinct values added to the sketch.
+     *
+     * @return estimate
+     */
+    long estimate()
+    {
+        double sum        = 0;
+        int    emptyCount = 0;
+
+        for (byte rank : registers)
+        {
+            sum = sum + Math.scalb(1.0, -rank);
+
+            if (rank == 0)
+            {
+                emptyCount++;
+            }
+        }
+
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+
+        /*
+         * Linear counting is more accurate while many registers are still empty.
+         */
+        if ((estimate <= 2.5 * REGISTER_COUNT) && (emptyCount > 0))
+        {
+            estimate = REGISTER_COUNT * Math.log((double)REGISTER_COUNT / emptyCount);
+        }
+
+        return Math.round(estimate);
+    }
+
+
+    /**
+     * Return a well-mixed 64 bit hash of a value (FNV-1a followed by the MurmurHash3 finalizer).
+     *
+     * @param value value to hash
+     * @return hash
+     */
+    private static long hash(String value)
+    {
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < value.length(); i++)
+        {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+
+        return hash ^ (hash >>> 33);
+    }
+}
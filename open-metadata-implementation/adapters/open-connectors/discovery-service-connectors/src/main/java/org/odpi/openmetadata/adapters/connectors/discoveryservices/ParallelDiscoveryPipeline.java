@@ -0,0 +1,395 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryPipeline;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ParallelDiscoveryPipeline is a discovery pipeline that runs the supplied discovery services concurrently.
+ * All of the discovery services share the pipeline's discovery context and so add their annotations to the same
+ * discovery analysis report.
+ *
+ * By default the discovery services are independent of one another.  The serviceDependencies configuration property
+ * maps the qualified name of an embedded discovery service's connection to the qualified names of the
+ * embedded discovery services that must complete before it starts.  If a discovery service fails, the discovery
+ * services that depend on it are not run and the pipeline fails once the other discovery services have finished.
+ *
+ * The discovery analysis report has a single current analysis step.  The sequential pipeline sets it to each embedded
+ * discovery service in turn, but here the embedded discovery services run at the same time, so the whole pipeline
+ * is recorded as one analysis step named after the pipeline's connector instance.
+ */
+public class ParallelDiscoveryPipeline extends DiscoveryPipeline
+{
+    /**
+     * This implementation starts each of the supplied discovery services as soon as the discovery services
+     * it depends on have completed.
+     *
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
+     */
+    @Override
+    protected void runDiscoveryPipeline() throws ConnectorCheckedException
+    {
+        final String methodName = "runDiscoveryPipeline";
+
+        List<DiscoveryService> discoveryServices = new ArrayList<>();
+
+        for (DiscoveryService embeddedDiscoveryService : super.embeddedDiscoveryServices)
+        {
+            if (embeddedDiscoveryService != null)
+            {
+                discoveryServices.add(embeddedDiscoveryService);
+            }
+        }
+
+        if (discoveryServices.isEmpty())
+        {
+            return;
+        }
+
+        List<List<Integer>> prerequisites = this.getPrerequisites(discoveryServices, methodName);
+        List<Integer>       runOrder      = this.getRunOrder(discoveryServices, prerequisites, methodName);
+
+        int maxConcurrentServices = this.getMaxConcurrentServices(discoveryServices.size());
+
+        super.discoveryContext.getAnnotationStore().getDiscoveryReport().setAnalysisStep(super.getConnectorInstanceId());
+
+        ExecutorService executor = Executors.newFixedThreadPool(maxConcurrentServices, runnable ->
+        {
+            Thread thread = new Thread(runnable, "ParallelDiscoveryPipeline:" + discoveryServiceName);
+
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try
+        {
+            List<CompletableFuture<Void>> results = new ArrayList<>();
+
+            for (int position = 0; position < discoveryServices.size(); position++)
+            {
+                results.add(null);
+            }
+
+            /*
+             * The services are chained in run order so the results for a service's prerequisites always exist.
+             * A service is only scheduled once its prerequisites are complete so no thread waits on another.
+             */
+            for (int position : runOrder)
+            {
+                DiscoveryService       discoveryService    = discoveryServices.get(position);
+                CompletableFuture<?>[] prerequisiteResults = new CompletableFuture<?>[prerequisites.get(position).size()];
+
+                for (int prerequisite = 0; prerequisite < prerequisiteResults.length; prerequisite++)
+                {
+                    prerequisiteResults[prerequisite] = results.get(prerequisites.get(position).get(prerequisite));
+                }
+
+                results.set(position, CompletableFuture.allOf(prerequisiteResults)
+                                                       .thenRunAsync(() -> this.runEmbeddedDiscoveryService(discoveryService), executor));
+            }
+
+            try
+            {
+                CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).join();
+            }
+            catch (CompletionException pipelineError)
+            {
+                /*
+                 * Report the first failure in run order since any later failures may just be a consequence of it.
+                 */
+                for (int position : runOrder)
+                {
+                    if (results.get(position).isCompletedExceptionally())
+                    {
+                        this.handleEmbeddedServiceFailure(results.get(position), methodName);
+                    }
+                }
+
+                this.handleUnexpectedException(methodName, pipelineError);
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+
+    /**
+     * Run an embedded discovery service.  This is called on one of the pipeline's threads.
+     *
+     * @param embeddedDiscoveryService discovery service to run
+     */
+    private void runEmbeddedDiscoveryService(DiscoveryService embeddedDiscoveryService)
+    {
+        try
+        {
+            embeddedDiscoveryService.setDiscoveryContext(super.discoveryContext);
+            embeddedDiscoveryService.start();
+            embeddedDiscoveryService.disconnect();
+        }
+        catch (Exception error)
+        {
+            throw new CompletionException(error);
+        }
+    }
+
+
+    /**
+     * Rethrow the exception from an embedded discovery service that failed.
+     *
+     * @param result result of the embedded discovery service
+     * @param methodName calling method
+     * @throws ConnectorCheckedException the exception from the embedded discovery service
+     */
+    private void handleEmbeddedServiceFailure(CompletableFuture<Void> result,
+                                              String                  methodName) throws ConnectorCheckedException
+    {
+        try
+        {
+            result.join();
+        }
+        catch (CompletionException error)
+        {
+            Throwable cause = (error.getCause() == null) ? error : error.getCause();
+
+            if (cause instanceof ConnectorCheckedException)
+            {
+                throw (ConnectorCheckedException)cause;
+            }
+
+            this.handleUnexpectedException(methodName, cause);
+        }
+    }
+
+
+    /**
+     * Return the name used to identify an embedded discovery service in the serviceDependencies configuration
+     * property.  This is the qualified name of its connection.
+     *
+     * @param embeddedDiscoveryService discovery service
+     * @return name or null if the discovery service's connection has no qualified name
+     */
+    private String getServiceName(DiscoveryService embeddedDiscoveryService)
+    {
+        ConnectionProperties connection = embeddedDiscoveryService.getConnection();
+
+        if (connection != null)
+        {
+            return connection.getQualifiedName();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the positions of the discovery services that each discovery service depends on.
+     *
+     * @param discoveryServices embedded discovery services
+     * @param methodName calling method
+     * @return list of prerequisite positions for each discovery service
+     * @throws ConnectorCheckedException a dependency names an unknown discovery service
+     */
+    private List<List<Integer>> getPrerequisites(List<DiscoveryService> discoveryServices,
+                                                 String                 methodName) throws ConnectorCheckedException
+    {
+        List<List<Integer>>  prerequisites    = new ArrayList<>();
+        Map<String, Integer> servicePositions = new HashMap<>();
+
+        for (int position = 0; position < discoveryServices.size(); position++)
+        {
+            String serviceName = this.getServiceName(discoveryServices.get(position));
+
+            if (serviceName != null)
+            {
+                servicePositions.put(serviceName, position);
+            }
+
+            prerequisites.add(new ArrayList<>());
+        }
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties == null)
+        {
+            return prerequisites;
+        }
+
+        Object serviceDependencies = configurationProperties.get(ParallelDiscoveryPipelineProvider.serviceDependenciesProperty);
+
+        if (serviceDependencies instanceof Map)
+        {
+            for (Map.Entry<?, ?> serviceDependency : ((Map<?, ?>)serviceDependencies).entrySet())
+            {
+                String  dependentName     = String.valueOf(serviceDependency.getKey());
+                Integer dependentPosition = servicePositions.get(dependentName);
+                List<?> prerequisiteNames;
+
+                if (serviceDependency.getValue() instanceof List)
+                {
+                    prerequisiteNames = (List<?>)serviceDependency.getValue();
+                }
+                else if (serviceDependency.getValue() != null)
+                {
+                    prerequisiteNames = List.of(serviceDependency.getValue());
+                }
+                else
+                {
+                    prerequisiteNames = new ArrayList<>();
+                }
+
+                for (Object prerequisiteName : prerequisiteNames)
+                {
+                    Integer prerequisitePosition = servicePositions.get(String.valueOf(prerequisiteName));
+
+                    if ((dependentPosition == null) || (prerequisitePosition == null))
+                    {
+                        throw new ConnectorCheckedException(DiscoveryServiceErrorCode.UNKNOWN_PIPELINE_DEPENDENCY.getMessageDefinition(discoveryServiceName,
+                                                                                                                                       dependentName,
+                                                                                                                                       String.valueOf(prerequisiteName)),
+                                                            this.getClass().getName(),
+                                                            methodName);
+                    }
+
+                    if (! prerequisites.get(dependentPosition).contains(prerequisitePosition))
+                    {
+                        prerequisites.get(dependentPosition).add(prerequisitePosition);
+                    }
+                }
+            }
+        }
+
+        return prerequisites;
+    }
+
+
+    /**
+     * Return the positions of the discovery services in an order where every discovery service comes after the
+     * discovery services it depends on.  Independent discovery services keep their configured order.
+     *
+     * @param discoveryServices embedded discovery services
+     * @param prerequisites list of prerequisite positions for each discovery service
+     * @param methodName calling method
+     * @return list of positions
+     * @throws ConnectorCheckedException the dependencies are circular
+     */
+    private List<Integer> getRunOrder(List<DiscoveryService> discoveryServices,
+                                      List<List<Integer>>    prerequisites,
+                                      String                 methodName) throws ConnectorCheckedException
+    {
+        int                 serviceCount  = discoveryServices.size();
+        int[]               waitingCounts = new int[serviceCount];
+        List<List<Integer>> dependents    = new ArrayList<>();
+        LinkedList<Integer> readyServices = new LinkedList<>();
+        List<Integer>       runOrder      = new ArrayList<>();
+
+        for (int position = 0; position < serviceCount; position++)
+        {
+            dependents.add(new ArrayList<>());
+        }
+
+        for (int position = 0; position < serviceCount; position++)
+        {
+            waitingCounts[position] = prerequisites.get(position).size();
+
+            for (int prerequisite : prerequisites.get(position))
+            {
+                dependents.get(prerequisite).add(position);
+            }
+
+            if (waitingCounts[position] == 0)
+            {
+                readyServices.add(position);
+            }
+        }
+
+        while (! readyServices.isEmpty())
+        {
+            int position = readyServices.removeFirst();
+
+            runOrder.add(position);
+
+            for (int dependent : dependents.get(position))
+            {
+                waitingCounts[dependent]--;
+
+                if (waitingCounts[dependent] == 0)
+                {
+                    readyServices.add(dependent);
+                }
+            }
+        }
+
+        if (runOrder.size() < serviceCount)
+        {
+            List<String> circularServices = new ArrayList<>();
+
+            for (int position = 0; position < serviceCount; position++)
+            {
+                if (waitingCounts[position] > 0)
+                {
+                    circularServices.add(this.getServiceName(discoveryServices.get(position)));
+                }
+            }
+
+            throw new ConnectorCheckedException(DiscoveryServiceErrorCode.CIRCULAR_PIPELINE_DEPENDENCY.getMessageDefinition(discoveryServiceName,
+                                                                                                                            circularServices.toString()),
+                                                this.getClass().getName(),
+                                                methodName);
+        }
+
+        return runOrder;
+    }
+
+
+    /**
+     * Return the maximum number of embedded discovery services to run at the same time.
+     *
+     * @param serviceCount number of embedded discovery services
+     * @return number of threads
+     */
+    private int getMaxConcurrentServices(int serviceCount)
+    {
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
+        {
+            Object maxConcurrentServices = configurationProperties.get(ParallelDiscoveryPipelineProvider.maxConcurrentServicesProperty);
+
+            if (maxConcurrentServices != null)
+            {
+                try
+                {
+                    int value = Integer.parseInt(maxConcurrentServices.toString());
+
+                    if (value > 0)
+                    {
+                        return Math.min(value, serviceCount);
+                    }
+                }
+                catch (NumberFormatException notNumber)
+                {
+                    /*
+                     * Fall through to the default.
+                     */
+                }
+            }
+        }
+
+        return serviceCount;
+    }
+}
@@ -0,0 +1,50 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryServiceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ParallelDiscoveryPipelineProvider is the provider for the ParallelDiscoveryPipeline - an ODF discovery pipeline connector.
+ */
+public class ParallelDiscoveryPipelineProvider extends DiscoveryServiceProvider
+{
+    static final String  connectorTypeGUID = "55935d62-b3f4-41f6-9398-11c3c8cae3f6";
+    static final String  connectorTypeName = "Parallel Discovery Pipeline Connector";
+    static final String  connectorTypeDescription = "Connector supports the concurrent execution of discovery services.";
+
+    public static final String  serviceDependenciesProperty = "serviceDependencies";
+    public static final String  maxConcurrentServicesProperty = "maxConcurrentServices";
+
+    /**
+     * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
+     * discovery service implementation.
+     */
+    public ParallelDiscoveryPipelineProvider()
+    {
+        Class<?> connectorClass = ParallelDiscoveryPipeline.class;
+
+        super.setConnectorClassName(connectorClass.getName());
+
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setType(ConnectorType.getConnectorTypeType());
+        connectorType.setGUID(connectorTypeGUID);
+        connectorType.setQualifiedName(connectorTypeName);
+        connectorType.setDisplayName(connectorTypeName);
+        connectorType.setDescription(connectorTypeDescription);
+        connectorType.setConnectorProviderClassName(this.getClass().getName());
+
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(serviceDependenciesProperty);
+        recognizedConfigurationProperties.add(maxConcurrentServicesProperty);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
+        super.connectorTypeBean = connectorType;
+    }
+}
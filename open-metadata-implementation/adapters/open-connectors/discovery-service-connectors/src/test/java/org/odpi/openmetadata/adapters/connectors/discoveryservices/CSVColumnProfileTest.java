@@ -0,0 +1,99 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+
+/**
+ * CSVColumnProfileTest verifies the type inference and statistics of a column profile.
+ */
+public class CSVColumnProfileTest
+{
+    @DataProvider(name = "typedColumns")
+    public Object[][] typedColumns()
+    {
+        return new Object[][]
+        {
+            { new String[]{ "true", "FALSE", "false" },                CSVColumnProfile.BOOLEAN_TYPE_NAME },
+            { new String[]{ "1", "-42", "2147483647" },                CSVColumnProfile.INT_TYPE_NAME },
+            { new String[]{ "1", "2147483648" },                       CSVColumnProfile.LONG_TYPE_NAME },
+            { new String[]{ "1", "2.5", "-3e2" },                      CSVColumnProfile.FLOAT_TYPE_NAME },
+            { new String[]{ "2020-01-31", "1999-12-01" },              CSVColumnProfile.DATE_TYPE_NAME },
+            { new String[]{ "a", "b", "c" },                           CSVColumnProfile.CHAR_TYPE_NAME },
+            { new String[]{ "a", "bc", "1" },                          CSVColumnProfile.STRING_TYPE_NAME },
+            { new String[]{ "2020-02-30" },                            CSVColumnProfile.STRING_TYPE_NAME },
+            { new String[]{ "1", "", null, "7" },                      CSVColumnProfile.INT_TYPE_NAME },
+            { new String[]{ "", null },                                CSVColumnProfile.STRING_TYPE_NAME },
+        };
+    }
+
+
+    /**
+     * Validate that the inferred type is the narrowest type that every non-null value can be parsed as.
+     *
+     * @param values values in the column
+     * @param expectedType expected type name
+     */
+    @Test(dataProvider = "typedColumns")
+    public void testTypeInference(String[] values,
+                                  String   expectedType)
+    {
+        CSVColumnProfile profile = new CSVColumnProfile(10);
+
+        for (String value : values)
+        {
+            profile.addValue(value);
+        }
+
+        assertEquals(profile.getInferredType(), expectedType);
+    }
+
+
+    /**
+     * Validate the counts and lengths, with empty values counted as nulls.
+     */
+    @Test
+    public void testCounts()
+    {
+        CSVColumnProfile profile = new CSVColumnProfile(10);
+
+        for (String value : new String[]{ "10", "", "300", null, "10" })
+        {
+            profile.addValue(value);
+        }
+
+        assertEquals(profile.getValueCount(), 3L);
+        assertEquals(profile.getNullCount(), 2L);
+        assertEquals(profile.getDistinctValueCount(), 2L);
+        assertEquals(profile.getMinimumLength(), 0);
+        assertEquals(profile.getMaximumLength(), 3);
+        assertEquals(profile.getTotalLength(), 7L);
+        assertEquals(profile.getFrequentValues(1).get("10").longValue(), 2L);
+    }
+
+
+    /**
+     * Validate that merging profiles of two parts of a column widens the type to one that suits both parts.
+     */
+    @Test
+    public void testMergeWidensType()
+    {
+        CSVColumnProfile first  = new CSVColumnProfile(10);
+        CSVColumnProfile second = new CSVColumnProfile(10);
+
+        first.addValue("1");
+        first.addValue("2");
+        second.addValue("2.5");
+
+        assertEquals(first.getInferredType(), CSVColumnProfile.INT_TYPE_NAME);
+
+        first.merge(second);
+
+        assertEquals(first.getInferredType(), CSVColumnProfile.FLOAT_TYPE_NAME);
+        assertEquals(first.getValueCount(), 3L);
+    }
+}
@@ -0,0 +1,205 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.CSVFileRecordCursor;
+import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.CSVFileStore;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * CSVProfilingEngineTest verifies that profiling a file on several threads gives the same results as profiling
+ * it on one thread.
+ */
+public class CSVProfilingEngineTest
+{
+    private static final int RECORD_COUNT = 45000;
+    private static final int COLUMN_COUNT = 4;
+
+
+    /**
+     * Validate that every statistic of every column is the same whatever the number of workers.
+     *
+     * @throws Exception problem profiling the records
+     */
+    @Test
+    public void testMultiWorkerEquivalence() throws Exception
+    {
+        InMemoryCSVFileStore csvFileStore = new InMemoryCSVFileStore(buildRecords());
+
+        CSVProfilingEngine singleWorker = new CSVProfilingEngine(csvFileStore, COLUMN_COUNT, 1, 100);
+        CSVProfilingEngine multiWorker  = new CSVProfilingEngine(csvFileStore, COLUMN_COUNT, 4, 100);
+
+        singleWorker.profile(RECORD_COUNT);
+        multiWorker.profile(RECORD_COUNT);
+
+        /*
+         * The file must have been split into ranges for the comparison to be meaningful.  With four workers the
+         * second range starts at record 11250.
+         */
+        assertTrue(csvFileStore.getFirstRecordsRead().contains((long)(RECORD_COUNT / 4)));
+
+        assertEquals(multiWorker.getDataSize(), singleWorker.getDataSize());
+
+        for (int column = 0; column < COLUMN_COUNT; column++)
+        {
+            CSVColumnProfile expected = singleWorker.getColumnProfiles().get(column);
+            CSVColumnProfile actual   = multiWorker.getColumnProfiles().get(column);
+
+            assertEquals(actual.getInferredType(), expected.getInferredType());
+            assertEquals(actual.getValueCount(), expected.getValueCount());
+            assertEquals(actual.getNullCount(), expected.getNullCount());
+            assertEquals(actual.getDistinctValueCount(), expected.getDistinctValueCount());
+            assertEquals(actual.getMinimumValue(), expected.getMinimumValue());
+            assertEquals(actual.getMaximumValue(), expected.getMaximumValue());
+            assertEquals(actual.getAverageValue(), expected.getAverageValue());
+            assertEquals(actual.getTotalLength(), expected.getTotalLength());
+            assertEquals(actual.getMinimumLength(), expected.getMinimumLength());
+            assertEquals(actual.getMaximumLength(), expected.getMaximumLength());
+            assertEquals(actual.getLengthCounts(), expected.getLengthCounts());
+
+            /*
+             * The frequent value counts are only exact, and so independent of the order the records are read,
+             * when the column has fewer distinct values than the table holds.  This excludes the first column.
+             */
+            if (column > 0)
+            {
+                assertEquals(actual.getFrequentValues(10), expected.getFrequentValues(10));
+            }
+        }
+
+        assertEquals(singleWorker.getColumnProfiles().get(0).getInferredType(), CSVColumnProfile.INT_TYPE_NAME);
+        assertEquals(singleWorker.getColumnProfiles().get(1).getInferredType(), CSVColumnProfile.STRING_TYPE_NAME);
+        assertEquals(singleWorker.getColumnProfiles().get(2).getInferredType(), CSVColumnProfile.BOOLEAN_TYPE_NAME);
+        assertEquals(singleWorker.getColumnProfiles().get(3).getNullCount(), RECORD_COUNT / 3);
+    }
+
+
+    /**
+     * Build the records.  The columns hold a unique number, one of a few names, a boolean and an integer column
+     * where every third value is empty.  Small integers are used so the averages add up exactly in any order.
+     *
+     * @return list of records
+     */
+    private List<List<String>> buildRecords()
+    {
+        String[]           names   = { "alpha", "beta", "gamma", "delta", "epsilon" };
+        List<List<String>> records = new ArrayList<>();
+
+        for (int i = 0; i < RECORD_COUNT; i++)
+        {
+            records.add(Arrays.asList(Integer.toString(i),
+                                      names[i % names.length],
+                                      Boolean.toString(i % 7 == 0),
+                                      (i % 3 == 0) ? "" : Integer.toString(i % 11)));
+        }
+
+        return records;
+    }
+
+
+    /**
+     * InMemoryCSVFileStore returns records from a list.  Only the calls made by the profiling engine are supported.
+     */
+    private static class InMemoryCSVFileStore implements CSVFileStore
+    {
+        private final List<List<String>> records;
+        private final List<Long>         firstRecordsRead = new ArrayList<>();
+
+
+        /**
+         * Constructor
+         *
+         * @param records records returned by the store
+         */
+        InMemoryCSVFileStore(List<List<String>> records)
+        {
+            this.records = records;
+        }
+
+
+        /**
+         * Return the first record number of each read.
+         *
+         * @return list of record numbers
+         */
+        synchronized List<Long> getFirstRecordsRead()
+        {
+            return new ArrayList<>(firstRecordsRead);
+        }
+
+
+        @Override
+        public List<List<String>> readRecords(long firstRecordNumber,
+                                              int  maxRecords)
+        {
+            synchronized (this)
+            {
+                firstRecordsRead.add(firstRecordNumber);
+            }
+
+            int first = (int)Math.min(firstRecordNumber, records.size());
+            int end   = (int)Math.min(firstRecordNumber + maxRecords, records.size());
+
+            return new ArrayList<>(records.subList(first, end));
+        }
+
+
+        @Override
+        public long getRecordCount()
+        {
+            return records.size();
+        }
+
+
+        @Override
+        public List<String> readRecord(int rowNumber)
+        {
+            return records.get(rowNumber);
+        }
+
+
+        @Override
+        public String getFileName()
+        {
+            return "inMemory.csv";
+        }
+
+
+        @Override
+        public Date getLastUpdateDate()
+        {
+            return null;
+        }
+
+
+        @Override
+        public List<String> getColumnNames()
+        {
+            return null;
+        }
+
+
+        @Override
+        public CSVFileRecordCursor getRecordCursor(int batchSize)
+        {
+            return new CSVFileRecordCursor(this, batchSize);
+        }
+
+
+        @Override
+        public File getFile()
+        {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * FrequentValuesTest verifies that the bounded table keeps the values that occur most often.
+ */
+public class FrequentValuesTest
+{
+    /**
+     * Validate that the counts are exact while the table has room for every value, and that the values are
+     * returned with the highest counts first and equal counts in alphabetical order.
+     */
+    @Test
+    public void testExactCounts()
+    {
+        FrequentValues frequentValues = new FrequentValues(10);
+
+        addTimes(frequentValues, "b", 3);
+        addTimes(frequentValues, "a", 3);
+        addTimes(frequentValues, "c", 5);
+        addTimes(frequentValues, "d", 1);
+
+        Map<String, Long> topValues = frequentValues.getTopValues(3);
+
+        assertEquals(new ArrayList<>(topValues.keySet()), Arrays.asList("c", "a", "b"));
+        assertEquals(topValues.get("c").longValue(), 5L);
+        assertEquals(topValues.get("a").longValue(), 3L);
+    }
+
+
+    /**
+     * Validate that values that occur often are kept when many rare values pass through a small table.
+     */
+    @Test
+    public void testHeavyHittersSurvive()
+    {
+        FrequentValues frequentValues = new FrequentValues(20);
+
+        for (int i = 0; i < 10000; i++)
+        {
+            frequentValues.add("rare-" + i);
+
+            if (i % 4 == 0)
+            {
+                frequentValues.add("common");
+            }
+
+            if (i % 10 == 0)
+            {
+                frequentValues.add("frequent");
+            }
+        }
+
+        Map<String, Long> topValues = frequentValues.getTopValues(2);
+
+        assertEquals(new ArrayList<>(topValues.keySet()), Arrays.asList("common", "frequent"));
+        assertTrue(topValues.get("common") >= 2500);
+        assertTrue(topValues.get("frequent") >= 1000);
+    }
+
+
+    /**
+     * Validate that merged tables add the counts of the values they share.
+     */
+    @Test
+    public void testMerge()
+    {
+        FrequentValues first  = new FrequentValues(10);
+        FrequentValues second = new FrequentValues(10);
+
+        addTimes(first, "x", 4);
+        addTimes(first, "y", 1);
+        addTimes(second, "x", 2);
+        addTimes(second, "z", 6);
+
+        first.merge(second);
+
+        Map<String, Long> topValues = first.getTopValues(10);
+
+        assertEquals(new ArrayList<>(topValues.keySet()), Arrays.asList("x", "z", "y"));
+        assertEquals(topValues.get("x").longValue(), 6L);
+    }
+
+
+    /**
+     * Add a value a number of times.
+     *
+     * @param frequentValues table
+     * @param value value to add
+     * @param times number of times to add it
+     */
+    private void addTimes(FrequentValues frequentValues,
+                          String         value,
+                          int            times)
+    {
+        for (int i = 0; i < times; i++)
+        {
+            frequentValues.add(value);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * HyperLogLogTest verifies the accuracy of the distinct value estimate and that merged sketches give the same
+ * estimate as a single sketch of all of the values.
+ */
+public class HyperLogLogTest
+{
+    /*
+     * The standard error is about 1.6%, so 5% is more than three standard errors.
+     */
+    private static final double TOLERANCE = 0.05;
+
+
+    /**
+     * Validate the estimate for small and large numbers of distinct values.
+     */
+    @Test
+    public void testAccuracy()
+    {
+        for (int distinctCount : new int[]{ 10, 1000, 50000, 200000 })
+        {
+            HyperLogLog sketch = new HyperLogLog();
+
+            for (int i = 0; i < distinctCount; i++)
+            {
+                sketch.add("value-" + i);
+            }
+
+            assertWithinTolerance(sketch.estimate(), distinctCount);
+        }
+    }
+
+
+    /**
+     * Validate that adding the same values again does not change the estimate.
+     */
+    @Test
+    public void testDuplicatesAreNotCounted()
+    {
+        HyperLogLog sketch = new HyperLogLog();
+
+        for (int repeat = 0; repeat < 5; repeat++)
+        {
+            for (int i = 0; i < 1000; i++)
+            {
+                sketch.add("value-" + i);
+            }
+        }
+
+        assertWithinTolerance(sketch.estimate(), 1000);
+    }
+
+
+    /**
+     * Validate that merging sketches of overlapping sets of values estimates the size of their union, and gives
+     * exactly the same estimate as one sketch of all of the values.
+     */
+    @Test
+    public void testMerge()
+    {
+        HyperLogLog first  = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        HyperLogLog whole  = new HyperLogLog();
+
+        for (int i = 0; i < 30000; i++)
+        {
+            first.add("value-" + i);
+            whole.add("value-" + i);
+        }
+
+        for (int i = 20000; i < 50000; i++)
+        {
+            second.add("value-" + i);
+            whole.add("value-" + i);
+        }
+
+        first.merge(second);
+
+        assertEquals(first.estimate(), whole.estimate());
+        assertWithinTolerance(first.estimate(), 50000);
+    }
+
+
+    /**
+     * Validate that an empty sketch estimates no values.
+     */
+    @Test
+    public void testEmpty()
+    {
+        assertEquals(new HyperLogLog().estimate(), 0L);
+    }
+
+
+    /**
+     * Check that an estimate is close to the actual count.
+     *
+     * @param estimate estimated count
+     * @param actual actual count
+     */
+    private void assertWithinTolerance(long estimate,
+                                       long actual)
+    {
+        assertTrue(Math.abs(estimate - actual) <= Math.max(1, actual * TOLERANCE),
+                   "Estimate " + estimate + " for " + actual + " distinct values");
+    }
+}
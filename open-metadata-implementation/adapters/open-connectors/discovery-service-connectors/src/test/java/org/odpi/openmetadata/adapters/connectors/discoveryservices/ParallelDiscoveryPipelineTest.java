@@ -0,0 +1,334 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.connectors.Connector;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnalysisReportStore;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnnotationStore;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryContext;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryService;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+
+/**
+ * ParallelDiscoveryPipelineTest verifies that the embedded discovery services run in an order that respects
+ * their dependencies, that bad dependencies are rejected before any discovery service runs and that a failure
+ * stops the discovery services that depend on it.
+ */
+public class ParallelDiscoveryPipelineTest
+{
+    private static final String PIPELINE_INSTANCE_ID = "testPipeline";
+
+
+    /**
+     * Validate that a discovery service only starts once the discovery services it depends on have finished.
+     *
+     * @throws Exception problem running the pipeline
+     */
+    @Test
+    public void testDependencyOrder() throws Exception
+    {
+        List<String> events = new ArrayList<>();
+
+        Map<String, Object> serviceDependencies = new HashMap<>();
+
+        serviceDependencies.put("C", Arrays.asList("A", "B"));
+        serviceDependencies.put("D", "C");
+
+        ParallelDiscoveryPipeline pipeline = newPipeline(serviceDependencies,
+                                                         new RecordingDiscoveryService("A", events),
+                                                         new RecordingDiscoveryService("B", events),
+                                                         new RecordingDiscoveryService("C", events),
+                                                         new RecordingDiscoveryService("D", events));
+
+        pipeline.start();
+
+        assertEquals(events.size(), 8);
+        assertTrue(events.indexOf("end:A") < events.indexOf("start:C"));
+        assertTrue(events.indexOf("end:B") < events.indexOf("start:C"));
+        assertTrue(events.indexOf("end:C") < events.indexOf("start:D"));
+    }
+
+
+    /**
+     * Validate that independent discovery services run at the same time.  Each one waits for the other, so the
+     * test fails with a timeout if they run one after another.
+     *
+     * @throws Exception problem running the pipeline
+     */
+    @Test
+    public void testIndependentServicesRunConcurrently() throws Exception
+    {
+        List<String>  events  = new ArrayList<>();
+        CyclicBarrier barrier = new CyclicBarrier(2);
+
+        ParallelDiscoveryPipeline pipeline = newPipeline(null,
+                                                         new RecordingDiscoveryService("A", events, barrier, null),
+                                                         new RecordingDiscoveryService("B", events, barrier, null));
+
+        pipeline.start();
+
+        assertEquals(events.size(), 4);
+    }
+
+
+    /**
+     * Validate that the whole pipeline is recorded as a single analysis step.
+     *
+     * @throws Exception problem running the pipeline
+     */
+    @Test
+    public void testSingleAnalysisStep() throws Exception
+    {
+        ParallelDiscoveryPipeline pipeline = newPipeline(null,
+                                                         new RecordingDiscoveryService("A", new ArrayList<>()),
+                                                         new RecordingDiscoveryService("B", new ArrayList<>()));
+
+        pipeline.start();
+
+        assertEquals(pipeline.getDiscoveryContext().getAnnotationStore().getDiscoveryReport().getAnalysisStep(),
+                     PIPELINE_INSTANCE_ID);
+    }
+
+
+    /**
+     * Validate that circular dependencies are rejected before any discovery service runs.
+     *
+     * @throws Exception problem setting up the pipeline
+     */
+    @Test
+    public void testCircularDependencyRejected() throws Exception
+    {
+        List<String> events = new ArrayList<>();
+
+        Map<String, Object> serviceDependencies = new HashMap<>();
+
+        serviceDependencies.put("A", "C");
+        serviceDependencies.put("B", "A");
+        serviceDependencies.put("C", "B");
+
+        ParallelDiscoveryPipeline pipeline = newPipeline(serviceDependencies,
+                                                         new RecordingDiscoveryService("A", events),
+                                                         new RecordingDiscoveryService("B", events),
+                                                         new RecordingDiscoveryService("C", events),
+                                                         new RecordingDiscoveryService("D", events));
+
+        ConnectorCheckedException error = expectThrows(ConnectorCheckedException.class, pipeline::start);
+
+        assertEquals(error.getReportedErrorMessageId(),
+                     DiscoveryServiceErrorCode.CIRCULAR_PIPELINE_DEPENDENCY.getMessageDefinition().getMessageId());
+        assertTrue(events.isEmpty());
+    }
+
+
+    /**
+     * Validate that a dependency on a discovery service that is not in the pipeline is rejected.
+     *
+     * @throws Exception problem setting up the pipeline
+     */
+    @Test
+    public void testUnknownDependencyRejected() throws Exception
+    {
+        List<String> events = new ArrayList<>();
+
+        Map<String, Object> serviceDependencies = new HashMap<>();
+
+        serviceDependencies.put("A", "Z");
+
+        ParallelDiscoveryPipeline pipeline = newPipeline(serviceDependencies,
+                                                         new RecordingDiscoveryService("A", events));
+
+        ConnectorCheckedException error = expectThrows(ConnectorCheckedException.class, pipeline::start);
+
+        assertEquals(error.getReportedErrorMessageId(),
+                     DiscoveryServiceErrorCode.UNKNOWN_PIPELINE_DEPENDENCY.getMessageDefinition().getMessageId());
+        assertTrue(events.isEmpty());
+    }
+
+
+    /**
+     * Validate that the exception from a failed discovery service is returned by the pipeline, that the discovery
+     * services that depend on it do not run and that the independent discovery services still run.
+     *
+     * @throws Exception problem setting up the pipeline
+     */
+    @Test
+    public void testFailurePropagation() throws Exception
+    {
+        List<String>              events  = new ArrayList<>();
+        ConnectorCheckedException failure = new ConnectorCheckedException(DiscoveryServiceErrorCode.UNKNOWN_PIPELINE_DEPENDENCY.getMessageDefinition("test", "A", "A"),
+                                                                          this.getClass().getName(),
+                                                                          "testFailurePropagation");
+
+        Map<String, Object> serviceDependencies = new HashMap<>();
+
+        serviceDependencies.put("B", "A");
+        serviceDependencies.put("C", "B");
+
+        ParallelDiscoveryPipeline pipeline = newPipeline(serviceDependencies,
+                                                         new RecordingDiscoveryService("A", events, null, failure),
+                                                         new RecordingDiscoveryService("B", events),
+                                                         new RecordingDiscoveryService("C", events),
+                                                         new RecordingDiscoveryService("D", events));
+
+        ConnectorCheckedException error = expectThrows(ConnectorCheckedException.class, pipeline::start);
+
+        assertSame(error, failure);
+        assertTrue(events.contains("start:A"));
+        assertFalse(events.contains("start:B"));
+        assertFalse(events.contains("start:C"));
+        assertTrue(events.contains("end:D"));
+    }
+
+
+    /**
+     * Build a pipeline around the supplied discovery services.
+     *
+     * @param serviceDependencies value of the serviceDependencies configuration property or null
+     * @param discoveryServices embedded discovery services
+     * @return initialized pipeline with a discovery context
+     */
+    private ParallelDiscoveryPipeline newPipeline(Map<String, Object> serviceDependencies,
+                                                  DiscoveryService... discoveryServices)
+    {
+        Connection          connection              = new Connection();
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        if (serviceDependencies != null)
+        {
+            configurationProperties.put(ParallelDiscoveryPipelineProvider.serviceDependenciesProperty, serviceDependencies);
+        }
+
+        connection.setQualifiedName("TestPipeline");
+        connection.setConfigurationProperties(configurationProperties);
+
+        ParallelDiscoveryPipeline pipeline = new ParallelDiscoveryPipeline();
+
+        pipeline.initialize(PIPELINE_INSTANCE_ID, new ConnectionProperties(connection));
+        pipeline.initializeEmbeddedConnectors(new ArrayList<Connector>(Arrays.asList(discoveryServices)));
+
+        DiscoveryAnalysisReportStore reportStore     = new DiscoveryAnalysisReportStore() {};
+        DiscoveryAnnotationStore     annotationStore = mock(DiscoveryAnnotationStore.class);
+
+        when(annotationStore.getDiscoveryReport()).thenReturn(reportStore);
+
+        pipeline.setDiscoveryContext(new DiscoveryContext("testUser",
+                                                          "testAssetGUID",
+                                                          null,
+                                                          null,
+                                                          null,
+                                                          annotationStore,
+                                                          null));
+
+        return pipeline;
+    }
+
+
+    /**
+     * RecordingDiscoveryService records when it starts and ends.  It can wait for other discovery services at
+     * a barrier and can fail with a supplied exception.
+     */
+    private static class RecordingDiscoveryService extends DiscoveryService
+    {
+        private final String                    name;
+        private final List<String>              events;
+        private final CyclicBarrier             barrier;
+        private final ConnectorCheckedException failure;
+
+
+        /**
+         * Constructor for a discovery service that always succeeds.
+         *
+         * @param name qualified name of the discovery service's connection
+         * @param events shared list of events
+         */
+        RecordingDiscoveryService(String       name,
+                                  List<String> events)
+        {
+            this(name, events, null, null);
+        }
+
+
+        /**
+         * Constructor
+         *
+         * @param name qualified name of the discovery service's connection
+         * @param events shared list of events
+         * @param barrier barrier to wait at or null
+         * @param failure exception to throw or null
+         */
+        RecordingDiscoveryService(String                    name,
+                                  List<String>              events,
+                                  CyclicBarrier             barrier,
+                                  ConnectorCheckedException failure)
+        {
+            this.name = name;
+            this.events = events;
+            this.barrier = barrier;
+            this.failure = failure;
+
+            Connection connection = new Connection();
+
+            connection.setQualifiedName(name);
+            super.initialize(name, new ConnectionProperties(connection));
+        }
+
+
+        /**
+         * Record the start and end of the discovery service.
+         *
+         * @throws ConnectorCheckedException the supplied failure
+         */
+        @Override
+        public void start() throws ConnectorCheckedException
+        {
+            super.start();
+
+            synchronized (events)
+            {
+                events.add("start:" + name);
+            }
+
+            if (failure != null)
+            {
+                throw failure;
+            }
+
+            if (barrier != null)
+            {
+                try
+                {
+                    barrier.await(10, TimeUnit.SECONDS);
+                }
+                catch (Exception error)
+                {
+                    throw new IllegalStateException("Discovery service " + name + " ran on its own", error);
+                }
+            }
+
+            synchronized (events)
+            {
+                events.add("end:" + name);
+            }
+        }
+    }
+}
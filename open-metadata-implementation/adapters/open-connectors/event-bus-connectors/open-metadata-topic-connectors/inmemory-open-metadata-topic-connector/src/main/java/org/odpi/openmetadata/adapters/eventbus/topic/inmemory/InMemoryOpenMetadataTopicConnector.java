@@ -3,10 +3,12 @@
 package org.odpi.openmetadata.adapters.eventbus.topic.inmemory;
 
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.IncomingEvent;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
@@ -16,7 +18,8 @@ import java.util.List;
  */
 public class InMemoryOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 {
-    private volatile List<String> inMemoryOMRSTopic = new ArrayList<>();
+    private volatile List<IncomingEvent> inMemoryOMRSTopic = new ArrayList<>();
+    private final    AtomicLong          nextEventId       = new AtomicLong(0);
 
     /**
      * Constructor
@@ -27,13 +30,14 @@ public class InMemoryOpenMetadataTopicConnector extends OpenMetadataTopicConnect
     }
 
     /**
-     * Supports putting events to the in memory OMRS Topic
+     * Supports putting events to the in memory OMRS Topic.  Each event is given a unique, increasing
+     * identifier since the same event string may be sent more than once.
      *
      * @param newEvent  event to publish
      */
     private synchronized void putEvent(String  newEvent)
     {
-        inMemoryOMRSTopic.add(newEvent);
+        inMemoryOMRSTopic.add(new IncomingEvent(newEvent, Long.toString(nextEventId.incrementAndGet())));
     }
 
 
@@ -42,9 +46,9 @@ public class InMemoryOpenMetadataTopicConnector extends OpenMetadataTopicConnect
      *
      * @return list of received events.
      */
-    private synchronized List<String> getEvents()
+    private synchronized List<IncomingEvent> getEvents()
     {
-        List<String>   receivedEvents = inMemoryOMRSTopic;
+        List<IncomingEvent>   receivedEvents = inMemoryOMRSTopic;
         inMemoryOMRSTopic = new ArrayList<>();
 
         return receivedEvents;
@@ -60,7 +64,7 @@ public class InMemoryOpenMetadataTopicConnector extends OpenMetadataTopicConnect
     public void sendEvent(String event)
     {
         this.putEvent(event);
-
+        super.notifyIncomingEvents();
     }
 
 
@@ -69,9 +73,8 @@ public class InMemoryOpenMetadataTopicConnector extends OpenMetadataTopicConnect
      *
      * @return a list of received events or null
      */
-    @SuppressWarnings(value = "deprecation")
     @Override
-    protected List<String> checkForEvents()
+    protected List<IncomingEvent> checkForIncomingEvents()
     {
         return this.getEvents();
     }
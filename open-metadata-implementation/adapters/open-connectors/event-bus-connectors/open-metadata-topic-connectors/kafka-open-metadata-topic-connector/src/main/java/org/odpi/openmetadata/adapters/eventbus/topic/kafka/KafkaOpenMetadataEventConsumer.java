@@ -175,7 +175,7 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                         try
                         {
                             addUnprocessedEvent(record.partition(), record.topic(), event);
-                            connector.distributeToListeners(event);
+                            connector.distributeToListeners(record.partition(), event);
                         }
                         catch (Exception error)
                         {
@@ -229,10 +229,6 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                 }
                 recoverAfterError();
             }
-            finally
-            {
-                awaitNextPollingTime();
-            }
         }
 
         if (consumer != null)
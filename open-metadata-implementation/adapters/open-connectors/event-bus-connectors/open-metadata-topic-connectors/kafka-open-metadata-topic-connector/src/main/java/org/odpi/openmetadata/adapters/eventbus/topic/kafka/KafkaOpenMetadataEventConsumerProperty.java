@@ -54,7 +54,15 @@ public enum KafkaOpenMetadataEventConsumerProperty
      * used if auto commit is disabled in the Kafka consumer. 
      * 
      */
-    COMMIT_CHECK_INTERVAL_MS("commit_check_interval_ms", "5000");
+    COMMIT_CHECK_INTERVAL_MS("commit_check_interval_ms", "5000"),
+
+    /**
+     * The number of worker threads that pass the received events to the listeners.  Each partition of the
+     * topic is handled by one worker so the events in a partition are processed in order while different
+     * partitions are processed in parallel.  The default of zero passes all events to the listeners
+     * on the single listener thread of the connector.
+     */
+    PARTITION_WORKER_COUNT("partition_worker_count", "0");
 
 	private final String propertyName;
 	private final String defaultValue;
@@ -12,8 +12,10 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedExceptio
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.*;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -26,7 +28,7 @@ import java.util.concurrent.TimeUnit;
  */
 public class KafkaOpenMetadataEventProducer implements Runnable
 {
-    private final List<String> sendBuffer = Collections.synchronizedList(new ArrayList<>());
+    private final BlockingQueue<String> sendBuffer = new LinkedBlockingQueue<>();
 
     private static final Logger log = LoggerFactory.getLogger(KafkaOpenMetadataEventProducer.class);
 
@@ -218,25 +220,19 @@ public class KafkaOpenMetadataEventProducer implements Runnable
         {
             try
             {
-                String bufferedEvent = this.getEvent();
+                /*
+                 * Wait for the next event.  The wait ends as soon as an event is added to the buffer.
+                 * The sleep time limits the wait so that the running flag is checked regularly.
+                 */
+                String bufferedEvent = sendBuffer.poll(sleepTime, TimeUnit.MILLISECONDS);
 
                 /*
-                 * If there are no events waiting then sleep
+                 * Send all waiting events
                  */
-                if (bufferedEvent == null)
-                {
-                    TimeUnit.MILLISECONDS.sleep(sleepTime);
-                }
-                else
+                while (bufferedEvent != null)
                 {
-                    /*
-                     * Send all waiting events
-                     */
-                    while (bufferedEvent != null)
-                    {
-                        publishEvent(bufferedEvent);
-                        bufferedEvent = this.getEvent();
-                    }
+                    publishEvent(bufferedEvent);
+                    bufferedEvent = this.getEvent();
                 }
             }
             catch (InterruptedException   error)
@@ -299,18 +295,13 @@ public class KafkaOpenMetadataEventProducer implements Runnable
 
 
     /**
-     * Returns all of the events found on the in memory OMRS Topic.
+     * Returns the next event waiting to be sent without blocking.
      *
-     * @return list of received events.
+     * @return event or null if the buffer is empty.
      */
     private String getEvent()
     {
-        if (sendBuffer.isEmpty())
-        {
-            return null;
-        }
-
-        return sendBuffer.remove(0);
+        return sendBuffer.poll();
     }
 
 
@@ -55,6 +55,10 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     private KafkaConsumerExecutor consumerExecutor = null;
     private KafkaProducerExecutor producerExecutor = null;
 
+    /* these workers are only used when partition_worker_count is set */
+    private KafkaPartitionWorker[] partitionWorkers = null;
+    private Thread[]               workerThreads    = null;
+
     final String                   threadHeader = "Kafka-";
     Thread                         consumerThread;
     Thread                         producerThread;
@@ -299,6 +303,8 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
                     kafkaStatus.getLastException());
         }
 
+        initializePartitionWorkers();
+
         initializeConsumerAndConsumerThread();
         consumerExecutor = new KafkaConsumerExecutor();
         consumerExecutor.execute(consumerThread);
@@ -311,6 +317,31 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     }
 
 
+    /**
+     * If partition workers are configured, start a thread for each one.  The received events are then passed
+     * to the listeners by these workers rather than the connector's single listener thread.
+     */
+    private void initializePartitionWorkers()
+    {
+        KafkaOpenMetadataEventConsumerConfiguration consumerConfig = new KafkaOpenMetadataEventConsumerConfiguration(consumerEgeriaProperties, auditLog);
+
+        int workerCount = consumerConfig.getIntProperty(KafkaOpenMetadataEventConsumerProperty.PARTITION_WORKER_COUNT);
+
+        if (workerCount > 0)
+        {
+            partitionWorkers = new KafkaPartitionWorker[workerCount];
+            workerThreads = new Thread[workerCount];
+
+            for (int i = 0; i < workerCount; i++)
+            {
+                partitionWorkers[i] = new KafkaPartitionWorker(this);
+                workerThreads[i] = new Thread(partitionWorkers[i], threadHeader + "Worker-" + i + "-" + topicName);
+                workerThreads[i].start();
+            }
+        }
+    }
+
+
     private void initializeConsumerAndConsumerThread() {
 
         KafkaOpenMetadataEventConsumerConfiguration consumerConfig = new KafkaOpenMetadataEventConsumerConfiguration(consumerEgeriaProperties, auditLog);
@@ -352,16 +383,19 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     {
         List<IncomingEvent> newEvents = null;
 
-        // This method is called periodically from a independent thread managed by OpenMetadataTopic
-        // (superclass) so it should not block.
+        // This method is called from a independent thread managed by OpenMetadataTopic
+        // (superclass) so it should not block.  All of the buffered events are returned as one batch.
 
-        if ((incomingEventsList != null) && (!incomingEventsList.isEmpty()))
+        synchronized (incomingEventsList)
         {
-            log.debug("Checking for events.  Number of found events: {}", incomingEventsList.size());
-            newEvents = new ArrayList<>(incomingEventsList);
+            if (!incomingEventsList.isEmpty())
+            {
+                log.debug("Checking for events.  Number of found events: {}", incomingEventsList.size());
+                newEvents = new ArrayList<>(incomingEventsList);
 
-            // empty incomingEventsList otherwise same events will be sent again
-            incomingEventsList.removeAll(newEvents);
+                // empty incomingEventsList otherwise same events will be sent again
+                incomingEventsList.clear();
+            }
         }
 
         return newEvents;
@@ -376,6 +410,41 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     {
         log.debug("distribute event to listeners" + event);
         incomingEventsList.add(event);
+        notifyIncomingEvents();
+    }
+
+
+    /**
+     * Distribute events to other listeners.  If partition workers are configured, the event is queued for the
+     * worker that handles its partition.  Otherwise it is queued for the listener thread.
+     *
+     * @param partition partition that the event was received from.
+     * @param event object containing the event properties.
+     */
+    void distributeToListeners(int partition, KafkaIncomingEvent event)
+    {
+        KafkaPartitionWorker[] workers = partitionWorkers;
+
+        if (workers == null)
+        {
+            distributeToListeners(event);
+        }
+        else
+        {
+            log.debug("distribute event to partition worker" + event);
+            workers[Math.floorMod(partition, workers.length)].addEvent(event);
+        }
+    }
+
+
+    /**
+     * Pass an event to the listeners on the calling partition worker's thread.
+     *
+     * @param event object containing the event properties.
+     */
+    void distributePartitionEvent(KafkaIncomingEvent event)
+    {
+        super.distributeEvent(event);
     }
 
 
@@ -397,6 +466,12 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
             producer.safeCloseProducer();
         }
 
+        if (partitionWorkers != null) {
+            for (KafkaPartitionWorker worker : partitionWorkers) {
+                worker.stopRunning();
+            }
+        }
+
         /*
          * Ensure Kafka client threads have stopped
          * before returning.
@@ -437,6 +512,16 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
             }
         }
 
+        if (workerThreads != null) {
+            for (Thread workerThread : workerThreads) {
+                try {
+                    workerThread.join();
+                } catch (InterruptedException e) {
+                    //expected and don't care
+                }
+            }
+        }
+
         super.disconnect();
 
         if (auditLog != null)
@@ -451,7 +536,16 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
      * @return int
      */
     int getNumberOfUnprocessedEvents() {
-    	return incomingEventsList.size();
+        int result = incomingEventsList.size();
+
+        KafkaPartitionWorker[] workers = partitionWorkers;
+        if (workers != null) {
+            for (KafkaPartitionWorker worker : workers) {
+                result += worker.getQueueSize();
+            }
+        }
+
+        return result;
     }
 
     private class KafkaStatusChecker {
@@ -0,0 +1,103 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KafkaPartitionWorker passes the events received from a set of the topic's partitions to the listeners
+ * registered with the KafkaOpenMetadataTopicConnector.  Each partition is assigned to exactly one worker so
+ * the events from a partition are passed to the listeners in the order they were received.  The state of each
+ * event is updated as it is distributed, so the manual commit logic in the KafkaOpenMetadataEventConsumer
+ * still commits each partition's offsets in order.
+ */
+class KafkaPartitionWorker implements Runnable
+{
+    private static final Logger log = LoggerFactory.getLogger(KafkaPartitionWorker.class);
+
+    private static final long   idleWaitTime = 1000L;
+
+    private final BlockingQueue<KafkaIncomingEvent> eventQueue = new LinkedBlockingQueue<>();
+    private final KafkaOpenMetadataTopicConnector   connector;
+
+    private volatile boolean running = true;
+
+
+    /**
+     * Constructor for the worker.
+     *
+     * @param connector connector holding the inbound listeners.
+     */
+    KafkaPartitionWorker(KafkaOpenMetadataTopicConnector connector)
+    {
+        this.connector = connector;
+    }
+
+
+    /**
+     * Add an event to the worker's queue.
+     *
+     * @param event event received from one of the worker's partitions
+     */
+    void addEvent(KafkaIncomingEvent event)
+    {
+        eventQueue.add(event);
+    }
+
+
+    /**
+     * Return the number of events waiting to be passed to the listeners.
+     *
+     * @return int
+     */
+    int getQueueSize()
+    {
+        return eventQueue.size();
+    }
+
+
+    /**
+     * This is the method that provides the behaviour of the thread.  It waits for events and passes each one
+     * to the listeners.
+     */
+    @Override
+    public void run()
+    {
+        while (running)
+        {
+            try
+            {
+                KafkaIncomingEvent event = eventQueue.poll(idleWaitTime, TimeUnit.MILLISECONDS);
+
+                while (event != null)
+                {
+                    connector.distributePartitionEvent(event);
+                    event = eventQueue.poll();
+                }
+            }
+            catch (InterruptedException error)
+            {
+                log.debug("Partition worker woken up", error);
+            }
+            catch (Exception error)
+            {
+                log.error("Bad exception from distributing event", error);
+            }
+        }
+    }
+
+
+    /**
+     * Flip the switch to stop the thread.  Any events still queued are not distributed and so their
+     * offsets are not committed.
+     */
+    void stopRunning()
+    {
+        running = false;
+    }
+}
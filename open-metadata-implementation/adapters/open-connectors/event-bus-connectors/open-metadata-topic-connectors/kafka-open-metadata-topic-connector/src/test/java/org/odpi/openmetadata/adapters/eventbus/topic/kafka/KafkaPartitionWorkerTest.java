@@ -0,0 +1,197 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * KafkaPartitionWorkerTest verifies that a partition worker passes its events to the listeners in the order
+ * they were received and that it stops when asked.  The state of each event is checked because the
+ * consumer only commits the offsets of events that are fully processed.
+ */
+public class KafkaPartitionWorkerTest
+{
+    /**
+     * Validate that the events are distributed in the order they were queued, including events queued
+     * while the worker is running.
+     *
+     * @throws Exception problem with the worker thread
+     */
+    @Test
+    public void testEventsAreDistributedInOrder() throws Exception
+    {
+        final int eventCount = 1000;
+
+        TestTopicConnector       connector = new TestTopicConnector(eventCount);
+        KafkaPartitionWorker     worker    = new KafkaPartitionWorker(connector);
+        List<KafkaIncomingEvent> events    = new ArrayList<>();
+
+        for (int i = 0; i < eventCount / 2; i++)
+        {
+            events.add(queueEvent(worker, i));
+        }
+
+        Thread workerThread = new Thread(worker, "KafkaPartitionWorkerTest");
+        workerThread.start();
+
+        try
+        {
+            for (int i = eventCount / 2; i < eventCount; i++)
+            {
+                events.add(queueEvent(worker, i));
+            }
+
+            assertTrue(connector.distributed.await(10, TimeUnit.SECONDS));
+
+            List<Long> expectedOffsets = new ArrayList<>();
+
+            for (int i = 0; i < eventCount; i++)
+            {
+                expectedOffsets.add((long)i);
+            }
+
+            assertEquals(connector.getDistributedOffsets(), expectedOffsets);
+            assertEquals(worker.getQueueSize(), 0);
+
+            for (KafkaIncomingEvent event : events)
+            {
+                assertTrue(event.isFullyProcessed());
+            }
+        }
+        finally
+        {
+            worker.stopRunning();
+            workerThread.interrupt();
+            workerThread.join(10000);
+        }
+    }
+
+
+    /**
+     * Validate that the worker thread ends once it is stopped and that events queued afterwards are not
+     * distributed, so their offsets are not committed.
+     *
+     * @throws Exception problem with the worker thread
+     */
+    @Test
+    public void testStoppedWorkerDistributesNoMoreEvents() throws Exception
+    {
+        TestTopicConnector   connector = new TestTopicConnector(1);
+        KafkaPartitionWorker worker    = new KafkaPartitionWorker(connector);
+
+        Thread workerThread = new Thread(worker, "KafkaPartitionWorkerTest");
+        workerThread.start();
+
+        queueEvent(worker, 0);
+        assertTrue(connector.distributed.await(10, TimeUnit.SECONDS));
+
+        worker.stopRunning();
+        workerThread.interrupt();
+        workerThread.join(10000);
+
+        assertFalse(workerThread.isAlive());
+
+        KafkaIncomingEvent lateEvent = queueEvent(worker, 1);
+
+        assertEquals(connector.getDistributedOffsets(), Collections.singletonList(0L));
+        assertEquals(worker.getQueueSize(), 1);
+        assertFalse(lateEvent.isFullyProcessed());
+    }
+
+
+    /**
+     * Validate that a failure from the listeners does not stop the worker passing on the following events.
+     *
+     * @throws Exception problem with the worker thread
+     */
+    @Test
+    public void testWorkerContinuesAfterFailure() throws Exception
+    {
+        TestTopicConnector   connector = new TestTopicConnector(2);
+        KafkaPartitionWorker worker    = new KafkaPartitionWorker(connector);
+
+        connector.failingOffset = 1L;
+
+        queueEvent(worker, 0);
+        queueEvent(worker, 1);
+        queueEvent(worker, 2);
+
+        Thread workerThread = new Thread(worker, "KafkaPartitionWorkerTest");
+        workerThread.start();
+
+        try
+        {
+            assertTrue(connector.distributed.await(10, TimeUnit.SECONDS));
+            assertEquals(connector.getDistributedOffsets(), List.of(0L, 2L));
+        }
+        finally
+        {
+            worker.stopRunning();
+            workerThread.interrupt();
+            workerThread.join(10000);
+        }
+    }
+
+
+    private KafkaIncomingEvent queueEvent(KafkaPartitionWorker worker,
+                                          long                 offset)
+    {
+        KafkaIncomingEvent event = new KafkaIncomingEvent("event" + offset, offset);
+
+        worker.addEvent(event);
+
+        return event;
+    }
+
+
+    /**
+     * TestTopicConnector records the offsets of the events passed to the listeners.  The events are passed
+     * to the superclass so their state is updated as it would be for the real listeners.
+     */
+    private static class TestTopicConnector extends KafkaOpenMetadataTopicConnector
+    {
+        private final CountDownLatch distributed;
+        private final List<Long>     distributedOffsets = Collections.synchronizedList(new ArrayList<>());
+        private volatile Long        failingOffset      = null;
+
+
+        TestTopicConnector(int expectedEvents)
+        {
+            this.distributed = new CountDownLatch(expectedEvents);
+        }
+
+
+        List<Long> getDistributedOffsets()
+        {
+            synchronized (distributedOffsets)
+            {
+                return new ArrayList<>(distributedOffsets);
+            }
+        }
+
+
+        @Override
+        void distributePartitionEvent(KafkaIncomingEvent event)
+        {
+            if (Long.valueOf(event.getOffset()).equals(failingOffset))
+            {
+                throw new IllegalStateException("Test failure");
+            }
+
+            super.distributePartitionEvent(event);
+
+            distributedOffsets.add(event.getOffset());
+            distributed.countDown();
+        }
+    }
+}
@@ -34,11 +34,13 @@ import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.op
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_ENTITY_VERSION;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_LABEL;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_METADATA_ID;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_RELATIONSHIP_GUID;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_RELATIONSHIP_LABEL;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_NAME_GUID;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_NAME_LABEL;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_NAME_METADATA_ID;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_NAME_PROCESS_LINEAGE_COMPLETED_FLAG;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_NAME_VERSION;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.immutableCorePropertyTypes;
 
@@ -125,6 +127,8 @@ public class OpenLineageSchemaHelper<C extends Element> {
         createCompositeIndexForProperty(janusGraph, new IndexProperties(ASSET_LINEAGE_VARIABLES, ASSET_LINEAGE_VARIABLES, false, Vertex.class));
         createCompositeIndexForProperty(janusGraph, new IndexProperties(PROPERTY_NAME_VERSION, PROPERTY_KEY_ENTITY_VERSION, false, Vertex.class));
         createCompositeIndexForProperty(janusGraph, new IndexProperties(PROPERTY_NAME_METADATA_ID, PROPERTY_KEY_METADATA_ID, false, Vertex.class));
+        createCompositeIndexForProperty(janusGraph, new IndexProperties(PROPERTY_NAME_PROCESS_LINEAGE_COMPLETED_FLAG,
+                PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG, false, Vertex.class));
         createCompositeIndexForProperty(janusGraph, new IndexProperties(PROPERTY_NAME_LABEL, PROPERTY_KEY_RELATIONSHIP_LABEL, false, Edge.class));
         createCompositeIndexForProperty(janusGraph, new IndexProperties(PROPERTY_NAME_GUID, PROPERTY_KEY_RELATIONSHIP_GUID, false, Edge.class));
     }
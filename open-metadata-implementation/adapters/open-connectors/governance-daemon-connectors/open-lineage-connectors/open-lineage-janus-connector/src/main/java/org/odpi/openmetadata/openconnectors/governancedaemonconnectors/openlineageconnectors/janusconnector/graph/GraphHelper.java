@@ -5,6 +5,8 @@ package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openline
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.util.function.TriConsumer;
 import org.apache.tinkerpop.gremlin.util.function.TriFunction;
+import org.janusgraph.diskstorage.TemporaryBackendException;
+import org.janusgraph.diskstorage.locking.PermanentLockingException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.governanceservers.openlineage.ffdc.OpenLineageException;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.factory.GraphFactory;
@@ -23,6 +25,7 @@ public class GraphHelper {
 
     private AuditLog auditLog;
     private static final Logger log = LoggerFactory.getLogger(GraphHelper.class);
+    private static final long RETRY_BACKOFF_MILLIS = 50;
     private GraphFactory graphFactory;
     private GraphDetails graphDetails;
 
@@ -88,6 +91,60 @@ public class GraphHelper {
     }
 
 
+    /**
+     * Helper method that gets a traversal and executes the code that updates the graph in a single transaction.
+     * If the transaction fails because it conflicts with another transaction, or the storage backend is temporarily
+     * unavailable, it is rolled back and the consumer is called again.
+     *
+     * @param consumer     must accept a GraphTraversalSource as the first parameter and has a second parameter
+     * @param argument     the second argument of the consumer
+     * @param maxAttempts  maximum number of times the consumer is called
+     * @param errorHandler function that is called when an error occurs on the last attempt, or can not be retried
+     * @param <U>          type of the second parameter of the consumer
+     */
+    public <U> void commitWithRetry(BiConsumer<GraphTraversalSource, U> consumer, U argument, int maxAttempts, Consumer<Exception> errorHandler) {
+        GraphTraversalSource g = this.getGraphTraversalSource();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                consumer.accept(g, argument);
+                if (isSupportingTransactions()) {
+                    g.tx().commit();
+                }
+                return;
+            } catch (Exception e) {
+                g.tx().rollback();
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    errorHandler.accept(e);
+                    return;
+                }
+                log.debug("Retrying transaction after conflict, attempt {} of {}", attempt + 1, maxAttempts, e);
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    errorHandler.accept(e);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Return whether a failed transaction may succeed if it is tried again.
+     *
+     * @param e exception thrown by the transaction
+     * @return true for lock contention and temporary storage errors
+     */
+    private boolean isRetryable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PermanentLockingException || cause instanceof TemporaryBackendException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
     /**
      * Helper method that gets a traversal and executes the code that queries the graph
      *
@@ -14,6 +14,9 @@ import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlinea
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorErrorCode.GRAPH_DISCONNECT_ERROR;
 
 @EqualsAndHashCode(callSuper = true)
@@ -31,6 +34,7 @@ public class LineageGraphConnector extends ConnectorBase implements OpenLineageG
     private GraphHelper graphHelper;
     private LineageGraphStorageService graphStorageHelper;
     private LineageGraphQueryService lineageGraphQueryService;
+    private LineageJobHelper lineageJobHelper;
     private AuditLog auditLog;
 
     /**
@@ -41,11 +45,15 @@ public class LineageGraphConnector extends ConnectorBase implements OpenLineageG
         try {
             this.graphHelper = new GraphHelper();
 
+            Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+            int lineageJobWorkers = getLineageJobWorkers(configurationProperties);
+
             this.graphHelper.openGraph(connectionProperties.getConnectorType().getConnectorProviderClassName(),
-                    connectionProperties.getConfigurationProperties(), auditLog);
+                    getGraphConfigurationProperties(configurationProperties), auditLog);
 
             this.graphStorageHelper = new LineageGraphStorageService(graphHelper, auditLog);
             this.lineageGraphQueryService = new LineageGraphQueryService(graphHelper, auditLog);
+            this.lineageJobHelper = new LineageJobHelper(graphHelper, auditLog, lineageJobWorkers);
 
         } catch (JanusConnectorException error) {
             log.error(THE_LINEAGE_GRAPH_COULD_NOT_BE_INITIALIZED_DUE_TO_AN_ERROR, error);
@@ -54,10 +62,57 @@ public class LineageGraphConnector extends ConnectorBase implements OpenLineageG
         }
     }
 
+    /**
+     * Returns the number of threads used by the lineage job.
+     *
+     * @param configurationProperties - the configuration properties of the connection
+     * @return the configured number of threads, 1 if it is not set or not valid
+     */
+    static int getLineageJobWorkers(Map<String, Object> configurationProperties) {
+        if (configurationProperties == null || configurationProperties.get(LineageGraphConnectorProvider.LINEAGE_JOB_WORKERS) == null) {
+            return 1;
+        }
+        Object lineageJobWorkers = configurationProperties.get(LineageGraphConnectorProvider.LINEAGE_JOB_WORKERS);
+        try {
+            return Math.max(1, Integer.parseInt(lineageJobWorkers.toString()));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring invalid value {} for {}", lineageJobWorkers, LineageGraphConnectorProvider.LINEAGE_JOB_WORKERS);
+            return 1;
+        }
+    }
+
+    /**
+     * Returns the configuration properties that are passed to JanusGraph, which rejects the properties of the
+     * connector itself.
+     *
+     * @param configurationProperties - the configuration properties of the connection
+     * @return the configuration properties without those of the connector
+     */
+    static Map<String, Object> getGraphConfigurationProperties(Map<String, Object> configurationProperties) {
+        if (configurationProperties == null || !configurationProperties.containsKey(LineageGraphConnectorProvider.LINEAGE_JOB_WORKERS)) {
+            return configurationProperties;
+        }
+        Map<String, Object> graphConfigurationProperties = new HashMap<>(configurationProperties);
+        graphConfigurationProperties.remove(LineageGraphConnectorProvider.LINEAGE_JOB_WORKERS);
+        return graphConfigurationProperties;
+    }
+
+    /**
+     * Returns the helper that runs the lineage job.
+     *
+     * @return the lineage job helper, null before the graph is initialized
+     */
+    LineageJobHelper getLineageJobHelper() {
+        return lineageJobHelper;
+    }
+
 
     @Override
     public synchronized void disconnect() throws ConnectorCheckedException {
         try {
+            if (lineageJobHelper != null) {
+                lineageJobHelper.shutdown();
+            }
             graphHelper.closeGraph();
             super.disconnect();
         } catch (ConnectorCheckedException e) {
@@ -69,7 +124,6 @@ public class LineageGraphConnector extends ConnectorBase implements OpenLineageG
 
     @Override
     public void performLineageGraphJob() {
-        LineageJobHelper lineageJobHelper = new LineageJobHelper(graphHelper, auditLog);
         lineageJobHelper.performLineageGraphJob();
     }
     @Override
@@ -11,6 +11,11 @@ public class LineageGraphConnectorProvider extends LineageGraphProviderBase {
     static final String CONNECTOR_TYPE_NAME = "Janus Graph Connector";
     static final String CONNECTOR_TYPE_DESCRIPTION = "Connector supports storing and retrieving entities for lineage from Janus Graph.";
 
+    /*
+     * Number of threads used by the lineage job to compute the column lineage of processes; 1 when not set.
+     */
+    public static final String LINEAGE_JOB_WORKERS = "lineageJob.workers";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * registry store implementation.
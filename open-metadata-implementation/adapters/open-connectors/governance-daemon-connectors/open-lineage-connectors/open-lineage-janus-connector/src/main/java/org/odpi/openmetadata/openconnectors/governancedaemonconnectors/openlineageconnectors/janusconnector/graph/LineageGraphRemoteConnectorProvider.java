@@ -68,6 +68,7 @@ public class LineageGraphRemoteConnectorProvider extends LineageGraphProviderBas
         recognizedPropertyNames.add(CLUSTER_TRUST_STORE);
         recognizedPropertyNames.add(CLUSTER_TRUST_STORE_PASSWORD);
         recognizedPropertyNames.add(SCHEMA_MANAGEMENT_ENABLE);
+        recognizedPropertyNames.add(LineageGraphConnectorProvider.LINEAGE_JOB_WORKERS);
 
 
         connectorType.setRecognizedConfigurationProperties(recognizedPropertyNames);
@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
@@ -22,7 +23,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -50,6 +55,8 @@ import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.op
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorErrorCode.UNABLE_TO_ADD_PROPERTIES_ON_EDGE_FROM_RELATIONSHIP_WITH_TYPE;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorErrorCode.VERTICES_AND_RELATIONSHIP_CREATION_EXCEPTION;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.ASSET_LINEAGE_VARIABLES;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.ASSET_SCHEMA_TYPE;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.ATTRIBUTE_FOR_SCHEMA;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.CLASSIFICATION_WITH_GUID_NOT_FOUND;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.EDGE;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.EDGE_GUID_NOT_FOUND_WHEN_UPDATE;
@@ -57,8 +64,15 @@ import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.op
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.EDGE_WITH_GUID_DID_NOT_DELETE;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.FROM;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.KV;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.LINEAGE_MAPPING;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.NESTED_SCHEMA_ATTRIBUTE;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PORT_DELEGATION;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PORT_SCHEMA;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PROCESS;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PROCESS_PORT;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PROPERTIES;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.S;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.SCHEMA_TYPE_OPTION;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.V;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.VERTEX_GUID_NOT_FOUND_WHEN_UPDATE;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.VERTEX_WITH_GUID_DELETED;
@@ -74,6 +88,7 @@ import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.op
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_METADATA_ID;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_PREFIX_ELEMENT;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_PREFIX_INSTANCE_PROPERTY;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_RELATIONSHIP_GUID;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.VARIABLE_NAME_ASSET_LINEAGE_LAST_UPDATE_TIME;
 
@@ -81,6 +96,23 @@ public class LineageGraphStorageService implements LineageGraph {
 
     private static final Logger log = LoggerFactory.getLogger(LineageGraphStorageService.class);
 
+    /*
+     * Number of relationships stored in a single transaction, and the number of times a transaction
+     * is attempted when it conflicts with another writer.
+     */
+    private static final int STORE_BATCH_SIZE = 500;
+    private static final int STORE_BATCH_MAX_ATTEMPTS = 3;
+
+    /*
+     * Relationships on the path from a process to the columns its column lineage is computed from, and from those
+     * columns to the assets that end the lineage.
+     */
+    private static final Set<String> PROCESS_LINEAGE_RELATIONSHIPS =
+            new HashSet<>(Arrays.asList(PROCESS_PORT, PORT_DELEGATION, PORT_SCHEMA, ATTRIBUTE_FOR_SCHEMA, LINEAGE_MAPPING,
+                    ASSET_SCHEMA_TYPE, NESTED_SCHEMA_ATTRIBUTE, SCHEMA_TYPE_OPTION));
+    private static final int PROCESS_TO_COLUMN_PATH_LENGTH = 4;
+    private static final int ASSET_TO_COLUMN_PATH_LENGTH = 3;
+
     private LineageGraphQueryService helper;
     private GraphHelper graphHelper;
     private AuditLog auditLog;
@@ -92,13 +124,19 @@ public class LineageGraphStorageService implements LineageGraph {
     }
 
     /**
-     * Creates vertices and the relationships between them
+     * Creates vertices and the relationships between them.
+     * The relationships are stored in batches, each in a single transaction that is retried if it conflicts
+     * with another writer.
      *
      * @param graphContext - graph Collection that contains vertices and edges to be stored
      */
     @Override
     public void storeToGraph(Set<GraphContext> graphContext) {
-        graphContext.stream().map(this::getGraphRelationship).forEach(this::storeRelationship);
+        List<GraphRelationship> relationships = graphContext.stream().map(this::getGraphRelationship).collect(Collectors.toList());
+        for (int start = 0; start < relationships.size(); start += STORE_BATCH_SIZE) {
+            List<GraphRelationship> batch = relationships.subList(start, Math.min(start + STORE_BATCH_SIZE, relationships.size()));
+            graphHelper.commitWithRetry(this::upsertBatchToGraph, batch, STORE_BATCH_MAX_ATTEMPTS, this::handleStoreRelationshipError);
+        }
     }
 
     private GraphRelationship getGraphRelationship(GraphContext entry) {
@@ -107,21 +145,131 @@ public class LineageGraphStorageService implements LineageGraph {
         return new GraphRelationship(fromEntity, toEntity, entry.getRelationshipType(), entry.getRelationshipGuid());
     }
 
-    private void storeRelationship(GraphRelationship relationship) {
-        BiConsumer<GraphTraversalSource, GraphRelationship> upsertToGraph = this::upsertToGraph;
-        graphHelper.commit(upsertToGraph, relationship, this::handleStoreRelationshipError);
-    }
-
     private void handleStoreRelationshipError(Exception e) throws JanusConnectorException {
         this.auditLog.logException(VERTICES_AND_RELATIONSHIP_CREATION_EXCEPTION.getErrorMessage(),
                 VERTICES_AND_RELATIONSHIP_CREATION_EXCEPTION.getMessageDefinition(), e);
         throw new JanusConnectorException(this.getClass().getName(), "upsertToGraph", VERTICES_AND_RELATIONSHIP_CREATION_EXCEPTION);
     }
 
+    /**
+     * Upserts a batch of relationships and their vertices.  The vertices that already exist are retrieved with
+     * a single lookup and the missing ones are created once, however many of the relationships they appear in.
+     *
+     * @param g                  - graph traversal for the current transaction
+     * @param graphRelationships - relationships to store
+     */
+    private void upsertBatchToGraph(GraphTraversalSource g, List<GraphRelationship> graphRelationships) {
+        Map<String, LineageEntity> entities = new LinkedHashMap<>();
+        for (GraphRelationship graphRelationship : graphRelationships) {
+            entities.putIfAbsent(graphRelationship.getToEntity().getGuid(), graphRelationship.getToEntity());
+            entities.putIfAbsent(graphRelationship.getFromEntity().getGuid(), graphRelationship.getFromEntity());
+        }
+
+        Map<String, Vertex> vertices = getVertices(g, entities.keySet());
+        for (Map.Entry<String, LineageEntity> entity : entities.entrySet()) {
+            vertices.computeIfAbsent(entity.getKey(), guid -> createVertex(g, entity.getValue()));
+        }
+
+        List<Vertex> touchedVertices = new ArrayList<>();
+        for (GraphRelationship graphRelationship : graphRelationships) {
+            Vertex to = vertices.get(graphRelationship.getToEntity().getGuid());
+            Vertex from = vertices.get(graphRelationship.getFromEntity().getGuid());
+            addEdge(g, graphRelationship.getRelationshipLabel(), graphRelationship.getRelationshipGuid(), to, from);
+            addTouchedVertices(touchedVertices, graphRelationship, to, from);
+        }
+        markProcessesForLineageJob(g, touchedVertices);
+    }
+
+    private Map<String, Vertex> getVertices(GraphTraversalSource g, Set<String> guids) {
+        Map<String, Vertex> vertices = new HashMap<>();
+        List<Vertex> existingVertices = g.V().has(PROPERTY_KEY_ENTITY_GUID, P.within(guids)).toList();
+        for (Vertex vertex : existingVertices) {
+            vertices.putIfAbsent(vertex.value(PROPERTY_KEY_ENTITY_GUID), vertex);
+        }
+        return vertices;
+    }
+
+    private Vertex createVertex(GraphTraversalSource g, LineageEntity entity) {
+        GraphTraversal<Vertex, Vertex> vertexTraversal = g.addV(entity.getTypeDefName());
+        vertexTraversal.property(PROPERTY_KEY_ENTITY_GUID, entity.getGuid());
+        for (Map.Entry<String, Object> propertiesEntry : getProperties(entity).entrySet()) {
+            vertexTraversal.property(propertiesEntry.getKey(), propertiesEntry.getValue());
+        }
+        return vertexTraversal.next();
+    }
+
     private void upsertToGraph(GraphTraversalSource g, GraphRelationship graphRelationship) {
         Vertex to = addVertex(g, graphRelationship.getToEntity());
         Vertex from = addVertex(g, graphRelationship.getFromEntity());
         addEdge(g, graphRelationship.getRelationshipLabel(), graphRelationship.getRelationshipGuid(), to, from);
+
+        List<Vertex> touchedVertices = new ArrayList<>();
+        addTouchedVertices(touchedVertices, graphRelationship, to, from);
+        markProcessesForLineageJob(g, touchedVertices);
+    }
+
+    /**
+     * Collects the vertices of a stored relationship that may change the column lineage of a process: processes
+     * themselves and the ends of the relationships that connect a process to its columns.
+     *
+     * @param touchedVertices   - vertices collected so far
+     * @param graphRelationship - relationship that was stored
+     * @param to                - vertex of the relationship's to entity
+     * @param from              - vertex of the relationship's from entity
+     */
+    private void addTouchedVertices(List<Vertex> touchedVertices, GraphRelationship graphRelationship, Vertex to, Vertex from) {
+        if (PROCESS_LINEAGE_RELATIONSHIPS.contains(graphRelationship.getRelationshipLabel())) {
+            touchedVertices.add(to);
+            touchedVertices.add(from);
+            return;
+        }
+        if (PROCESS.equals(graphRelationship.getToEntity().getTypeDefName())) {
+            touchedVertices.add(to);
+        }
+        if (PROCESS.equals(graphRelationship.getFromEntity().getTypeDefName())) {
+            touchedVertices.add(from);
+        }
+    }
+
+    /**
+     * Marks the processes reachable from the touched vertices so that the next lineage job recomputes their
+     * column lineage.  The touched vertices are expanded down from an asset or schema to its columns, then along
+     * the lineage mappings in both directions, since a process's column lineage follows mapping chains to the
+     * columns of the assets at either end.  A process is then reached by walking back from a column to its schema,
+     * port and process.
+     *
+     * @param g               - graph traversal for the current transaction
+     * @param touchedVertices - vertices of the stored relationships
+     */
+    private void markProcessesForLineageJob(GraphTraversalSource g, List<Vertex> touchedVertices) {
+        if (touchedVertices.isEmpty()) {
+            return;
+        }
+        Object[] touchedIds = touchedVertices.stream().map(Vertex::id).distinct().toArray();
+        List<Object> columnIds = g.V(touchedIds)
+                .emit()
+                .repeat(__.out(ASSET_SCHEMA_TYPE, SCHEMA_TYPE_OPTION, ATTRIBUTE_FOR_SCHEMA, NESTED_SCHEMA_ATTRIBUTE))
+                .times(ASSET_TO_COLUMN_PATH_LENGTH)
+                .id()
+                .dedup()
+                .toList();
+
+        Set<Object> vertexIds = new HashSet<>(columnIds);
+        List<Object> mappedIds = columnIds;
+        while (!mappedIds.isEmpty()) {
+            mappedIds = g.V(mappedIds.toArray()).both(LINEAGE_MAPPING).id().dedup().toList().stream()
+                    .filter(vertexIds::add)
+                    .collect(Collectors.toList());
+        }
+
+        g.V(vertexIds.toArray())
+                .emit()
+                .repeat(__.in(ATTRIBUTE_FOR_SCHEMA, PORT_SCHEMA, PORT_DELEGATION, PROCESS_PORT))
+                .times(PROCESS_TO_COLUMN_PATH_LENGTH)
+                .has(PROPERTY_KEY_LABEL, PROCESS)
+                .dedup()
+                .property(PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG, false)
+                .iterate();
     }
 
     private Vertex addVertex(GraphTraversalSource g, LineageEntity toEntity) {
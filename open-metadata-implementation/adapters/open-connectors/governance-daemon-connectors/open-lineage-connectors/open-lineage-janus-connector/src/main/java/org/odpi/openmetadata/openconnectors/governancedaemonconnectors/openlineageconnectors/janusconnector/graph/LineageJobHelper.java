@@ -18,6 +18,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.bothE;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.hasLabel;
@@ -55,6 +58,7 @@ import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.op
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_INSTANCEPROP_DISPLAY_NAME;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_LABEL;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_PROCESS_GUID;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_NAME_PORT_TYPE;
 
 public class LineageJobHelper {
@@ -65,37 +69,119 @@ public class LineageJobHelper {
 
     private GraphHelper graphHelper;
     private AuditLog auditLog;
+    private int workerThreads;
+    private ExecutorService workers;
+    private volatile boolean unmarkedProcessesPending = true;
 
     public LineageJobHelper(GraphHelper graphHelper, AuditLog auditLog) {
+        this(graphHelper, auditLog, 1);
+    }
+
+    /**
+     * Creates the helper for the lineage job.
+     *
+     * @param graphHelper   - helper for the lineage graph
+     * @param auditLog      - used for logging errors
+     * @param workerThreads - number of processes whose column lineage is computed in parallel
+     */
+    public LineageJobHelper(GraphHelper graphHelper, AuditLog auditLog, int workerThreads) {
         this.graphHelper = graphHelper;
         this.auditLog = auditLog;
+        this.workerThreads = Math.max(1, workerThreads);
+        if (workerThreads > 1) {
+            this.workers = Executors.newFixedThreadPool(workerThreads);
+        }
     }
 
+    /**
+     * Computes the column lineage of the processes that were stored or changed since the last run.  The processes
+     * are marked by LineageGraphStorageService and are claimed at the start of the run, so changes made while
+     * the job is running are picked up by the next run.  Processes that were stored before the marker was
+     * introduced are included in the first run.
+     */
     public void performLineageGraphJob() {
         try {
-            //TODO investigate possibility of adding the PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG again
-            List<String> guidList = this.graphHelper.getResult(this::getProcessGuids, this::handleRetrieveProcessGuids);
+            List<String> guidList = this.graphHelper.getResult(this::claimProcessGuids, this::handleRetrieveProcessGuids);
+            if (guidList == null || guidList.isEmpty()) {
+                return;
+            }
+            if (workers == null) {
+                guidList.forEach(this::computeProcessLineage);
+                return;
+            }
+            List<Future<?>> results = new ArrayList<>();
             for (String guid : guidList) {
-                findInputColumns(guid);
+                results.add(workers.submit(() -> computeProcessLineage(guid)));
             }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
             log.error(SOMETHING_WENT_WRONG_WHEN_TRYING_TO_MAP_A_PROCESS_THE_ERROR_IS, e);
             auditLog.logException(SOMETHING_WENT_WRONG_WHEN_TRYING_TO_MAP_A_PROCESS, PROCESS_MAPPING_ERROR.getMessageDefinition(), e);
         }
     }
 
-    private List<String> getProcessGuids(GraphTraversalSource g) {
-        List<String> guidList = new ArrayList<>();
-        List<Vertex> vertices = g.V().has(PROPERTY_KEY_LABEL, PROCESS).toList();
-        for (Vertex v : vertices) {
-            String s = g.V(v.id()).elementMap(PROPERTY_KEY_ENTITY_GUID).toList().get(0).get(PROPERTY_KEY_ENTITY_GUID).toString();
-            guidList.add(s);
+    /**
+     * Returns the number of processes whose column lineage is computed in parallel.
+     *
+     * @return number of threads
+     */
+    int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    public void shutdown() {
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the processes that need their column lineage computed and marks them as completed.
+     *
+     * @param g - Graph traversal object
+     * @return the guids of the processes
+     */
+    private List<String> claimProcessGuids(GraphTraversalSource g) {
+        List<String> guidList = new ArrayList<>(g.V().has(PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG, false).has(PROPERTY_KEY_LABEL, PROCESS)
+                .property(PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG, true)
+                .<String>values(PROPERTY_KEY_ENTITY_GUID).toList());
+        if (unmarkedProcessesPending) {
+            guidList.addAll(g.V().has(PROPERTY_KEY_LABEL, PROCESS).hasNot(PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG)
+                    .property(PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG, true)
+                    .<String>values(PROPERTY_KEY_ENTITY_GUID).toList());
+            unmarkedProcessesPending = false;
         }
         return guidList;
     }
 
     /**
-     * Finds the paths to the input columns from all the processes in the graph.
+     * Computes the column lineage of a process.  If it fails, the process is marked again so that the
+     * next run retries it.
+     *
+     * @param guid - The unique identifier of a Process
+     */
+    private void computeProcessLineage(String guid) {
+        try {
+            findInputColumns(guid);
+        } catch (Exception e) {
+            log.error("Could not compute the column lineage of process {}", guid, e);
+            this.graphHelper.commit(this::markProcessIncomplete, guid, this::handleMarkProcessIncomplete);
+        }
+    }
+
+    private void markProcessIncomplete(GraphTraversalSource g, String guid) {
+        g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).property(PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG, false).iterate();
+    }
+
+    /**
+     * Finds the paths to the input columns of a process.
      *
      * @param guid - The unique identifier of a Process
      */
@@ -385,9 +471,14 @@ public class LineageJobHelper {
     }
 
     private void handleRetrieveProcessGuids(Exception e) {
+        unmarkedProcessesPending = true;
         log.error("Could not retrieve guids from the database", e);
     }
 
+    private void handleMarkProcessIncomplete(Exception e) {
+        log.error("Could not mark the process for the next lineage job", e);
+    }
+
     private void handleRetrieveResultError(Exception e, Vertex vertex) {
         log.error("Could not retrieve object from database {}", vertex, e);
     }
@@ -168,6 +168,7 @@ public class GraphConstants {
         corePropertyTypes.put(PROPERTY_NAME_NODE_ID, JAVA_STRING);
         corePropertyTypes.put(PROPERTY_NAME_METADATA_ID, JAVA_STRING);
         corePropertyTypes.put(ASSET_LINEAGE_VARIABLES, JAVA_STRING);
+        corePropertyTypes.put(PROPERTY_NAME_PROCESS_LINEAGE_COMPLETED_FLAG, "java.lang.Boolean");
     }
 
     public static final ImmutableMap<String, String> immutableCorePropertyTypes = ImmutableMap.copyOf(corePropertyTypes);
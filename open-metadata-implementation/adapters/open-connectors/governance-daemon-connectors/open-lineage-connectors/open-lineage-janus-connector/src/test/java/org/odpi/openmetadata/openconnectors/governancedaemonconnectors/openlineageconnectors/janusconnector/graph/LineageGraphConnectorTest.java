@@ -0,0 +1,74 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph;
+
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.governanceservers.openlineage.ffdc.OpenLineageException;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LineageGraphConnectorTest {
+
+    private static final String CONNECTOR_PROVIDER_NAME = "org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageGraphConnectorProvider";
+    private static final String STORAGE_BACKEND = "storage.backend";
+
+    @Test
+    void lineageJobWorkersAreReadFromTheConfiguration() {
+        assertEquals(4, LineageGraphConnector.getLineageJobWorkers(Collections.singletonMap(LineageGraphConnectorProvider.LINEAGE_JOB_WORKERS, 4)));
+        assertEquals(3, LineageGraphConnector.getLineageJobWorkers(Collections.singletonMap(LineageGraphConnectorProvider.LINEAGE_JOB_WORKERS, "3")));
+        assertEquals(1, LineageGraphConnector.getLineageJobWorkers(Collections.singletonMap(LineageGraphConnectorProvider.LINEAGE_JOB_WORKERS, "many")));
+        assertEquals(1, LineageGraphConnector.getLineageJobWorkers(Collections.singletonMap(LineageGraphConnectorProvider.LINEAGE_JOB_WORKERS, 0)));
+        assertEquals(1, LineageGraphConnector.getLineageJobWorkers(Collections.singletonMap(STORAGE_BACKEND, "inmemory")));
+        assertEquals(1, LineageGraphConnector.getLineageJobWorkers(null));
+    }
+
+    @Test
+    void lineageJobWorkersAreRemovedFromTheGraphConfiguration() {
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put(STORAGE_BACKEND, "inmemory");
+        configurationProperties.put(LineageGraphConnectorProvider.LINEAGE_JOB_WORKERS, 2);
+
+        Map<String, Object> graphConfigurationProperties = LineageGraphConnector.getGraphConfigurationProperties(configurationProperties);
+
+        assertEquals(Collections.singletonMap(STORAGE_BACKEND, "inmemory"), graphConfigurationProperties);
+        assertTrue(configurationProperties.containsKey(LineageGraphConnectorProvider.LINEAGE_JOB_WORKERS));
+
+        Map<String, Object> withoutWorkers = Collections.singletonMap(STORAGE_BACKEND, "inmemory");
+        assertSame(withoutWorkers, LineageGraphConnector.getGraphConfigurationProperties(withoutWorkers));
+    }
+
+    @Test
+    void initializeGraphDBCreatesTheLineageJobWorkers() throws OpenLineageException, ConnectorCheckedException {
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put(STORAGE_BACKEND, "inmemory");
+        configurationProperties.put(LineageGraphConnectorProvider.LINEAGE_JOB_WORKERS, "3");
+
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setConnectorProviderClassName(CONNECTOR_PROVIDER_NAME);
+        Connection connection = new Connection();
+        connection.setConnectorType(connectorType);
+        connection.setConfigurationProperties(configurationProperties);
+
+        LineageGraphConnector connector = new LineageGraphConnector();
+        connector.initialize("lineageGraphConnectorTest", new ConnectionProperties(connection));
+        connector.initializeGraphDB(null);
+
+        try {
+            assertEquals(3, connector.getLineageJobHelper().getWorkerThreads());
+            assertNotNull(connector.getLineageStorageService());
+        } finally {
+            connector.disconnect();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.lineagegraph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.accessservices.assetlineage.model.GraphContext;
+import org.odpi.openmetadata.accessservices.assetlineage.model.LineageEntity;
+import org.odpi.openmetadata.governanceservers.openlineage.ffdc.OpenLineageException;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.GraphHelper;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageGraphStorageService;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.ffdc.JanusConnectorException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.ATTRIBUTE_FOR_SCHEMA;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.LINEAGE_MAPPING;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.NESTED_SCHEMA_ATTRIBUTE;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PORT_DELEGATION;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PORT_IMPLEMENTATION;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PORT_SCHEMA;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PROCESS;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PROCESS_PORT;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.RELATIONAL_COLUMN;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.RELATIONAL_TABLE;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_ENTITY_GUID;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_RELATIONSHIP_GUID;
+
+public class LineageGraphStorageServiceTest {
+
+    private static final String CONNECTOR_PROVIDER_NAME = "org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageGraphConnectorProvider";
+    private static final String DATA_FLOW = "DataFlow";
+
+    static GraphHelper graphHelper;
+    static LineageGraphStorageService lineageGraphStorageService;
+
+    @BeforeAll
+    public static void beforeClass() throws JanusConnectorException, OpenLineageException {
+        graphHelper = new GraphHelper();
+        graphHelper.openGraph(CONNECTOR_PROVIDER_NAME, Collections.singletonMap("storage.backend", "inmemory"), null);
+        lineageGraphStorageService = new LineageGraphStorageService(graphHelper, null);
+    }
+
+    @Test
+    void storeToGraphCreatesSharedVerticesOnce() {
+        LineageEntity process = createEntity("storeProcess", PROCESS);
+        Set<GraphContext> graphContexts = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            LineageEntity input = createEntity("storeInput" + i, RELATIONAL_TABLE);
+            graphContexts.add(new GraphContext(DATA_FLOW, "storeFlow" + i, input, process));
+        }
+
+        lineageGraphStorageService.storeToGraph(graphContexts);
+        lineageGraphStorageService.storeToGraph(graphContexts);
+
+        GraphTraversalSource g = graphHelper.getGraphTraversalSource();
+        assertEquals(1L, g.V().has(PROPERTY_KEY_ENTITY_GUID, "storeProcess").count().next());
+        assertEquals(1L, g.V().has(PROPERTY_KEY_ENTITY_GUID, "storeInput1").count().next());
+        assertEquals(3L, g.V().has(PROPERTY_KEY_ENTITY_GUID, "storeProcess").inE(DATA_FLOW).count().next());
+        assertEquals(1L, g.E().has(PROPERTY_KEY_RELATIONSHIP_GUID, "storeFlow2").count().next());
+        g.tx().rollback();
+    }
+
+    @Test
+    void storeToGraphReusesExistingVertices() {
+        LineageEntity existing = createEntity("existingTable", RELATIONAL_TABLE);
+        LineageEntity process = createEntity("existingProcess", PROCESS);
+        lineageGraphStorageService.storeToGraph(Collections.singleton(new GraphContext(DATA_FLOW, "existingFlow1", existing, process)));
+
+        LineageEntity output = createEntity("existingOutput", RELATIONAL_TABLE);
+        lineageGraphStorageService.storeToGraph(Collections.singleton(new GraphContext(DATA_FLOW, "existingFlow2", process, output)));
+
+        GraphTraversalSource g = graphHelper.getGraphTraversalSource();
+        assertEquals(1L, g.V().has(PROPERTY_KEY_ENTITY_GUID, "existingProcess").count().next());
+        assertEquals(2L, g.V().has(PROPERTY_KEY_ENTITY_GUID, "existingProcess").bothE(DATA_FLOW).count().next());
+        g.tx().rollback();
+    }
+
+    @Test
+    void storeToGraphMarksProcessesForLineageJob() {
+        LineageEntity process = createEntity("markedProcess", PROCESS);
+        LineageEntity input = createEntity("markedInput", RELATIONAL_TABLE);
+        lineageGraphStorageService.storeToGraph(Collections.singleton(new GraphContext(DATA_FLOW, "markedFlow", input, process)));
+
+        GraphTraversalSource g = graphHelper.getGraphTraversalSource();
+        assertEquals(false, g.V().has(PROPERTY_KEY_ENTITY_GUID, "markedProcess").values(PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG).next());
+        assertEquals(0L, g.V().has(PROPERTY_KEY_ENTITY_GUID, "markedInput").values(PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG).count().next());
+        g.tx().rollback();
+    }
+
+    @Test
+    void storeToGraphMarksProcessesWhenTheirAssetArrives() {
+        storeProcessWithMappedColumns("assetArrives");
+        setProcessLineageCompleted("assetArrivesProcess");
+
+        LineageEntity table = createEntity("assetArrivesTable", RELATIONAL_TABLE);
+        LineageEntity tableColumn = createEntity("assetArrivesTableColumn", RELATIONAL_COLUMN);
+        lineageGraphStorageService.storeToGraph(Collections.singleton(
+                new GraphContext(NESTED_SCHEMA_ATTRIBUTE, "assetArrivesNested", table, tableColumn)));
+
+        GraphTraversalSource g = graphHelper.getGraphTraversalSource();
+        assertEquals(false, g.V().has(PROPERTY_KEY_ENTITY_GUID, "assetArrivesProcess").values(PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG).next());
+        g.tx().rollback();
+    }
+
+    @Test
+    void storeToGraphMarksProcessesWhenADownstreamMappingArrives() {
+        storeProcessWithMappedColumns("downstream");
+        setProcessLineageCompleted("downstreamProcess");
+
+        LineageEntity tableColumn = createEntity("downstreamTableColumn", RELATIONAL_COLUMN);
+        LineageEntity nextColumn = createEntity("downstreamNextColumn", RELATIONAL_COLUMN);
+        lineageGraphStorageService.storeToGraph(Collections.singleton(
+                new GraphContext(LINEAGE_MAPPING, "downstreamNextMapping", tableColumn, nextColumn)));
+
+        GraphTraversalSource g = graphHelper.getGraphTraversalSource();
+        assertEquals(false, g.V().has(PROPERTY_KEY_ENTITY_GUID, "downstreamProcess").values(PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG).next());
+        g.tx().rollback();
+    }
+
+    /**
+     * Stores a process whose port column is mapped, through an intermediate column, to the column of a table.
+     * The table itself is not stored.
+     */
+    private void storeProcessWithMappedColumns(String prefix) {
+        LineageEntity process = createEntity(prefix + "Process", PROCESS);
+        LineageEntity port = createEntity(prefix + "Port", "PortAlias");
+        LineageEntity portImplementation = createEntity(prefix + "PortImplementation", PORT_IMPLEMENTATION);
+        LineageEntity portSchema = createEntity(prefix + "PortSchema", "TabularSchemaType");
+        LineageEntity portColumn = createEntity(prefix + "PortColumn", "TabularColumn");
+        LineageEntity middleColumn = createEntity(prefix + "MiddleColumn", "TabularColumn");
+        LineageEntity tableColumn = createEntity(prefix + "TableColumn", RELATIONAL_COLUMN);
+
+        lineageGraphStorageService.storeToGraph(new HashSet<>(Arrays.asList(
+                new GraphContext(PROCESS_PORT, prefix + "ProcessPort", process, port),
+                new GraphContext(PORT_DELEGATION, prefix + "PortDelegation", port, portImplementation),
+                new GraphContext(PORT_SCHEMA, prefix + "PortSchemaRelationship", portImplementation, portSchema),
+                new GraphContext(ATTRIBUTE_FOR_SCHEMA, prefix + "AttributeForSchema", portSchema, portColumn),
+                new GraphContext(LINEAGE_MAPPING, prefix + "FirstMapping", portColumn, middleColumn),
+                new GraphContext(LINEAGE_MAPPING, prefix + "SecondMapping", middleColumn, tableColumn))));
+    }
+
+    private void setProcessLineageCompleted(String guid) {
+        GraphTraversalSource g = graphHelper.getGraphTraversalSource();
+        g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).property(PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG, true).iterate();
+        g.tx().commit();
+    }
+
+    private LineageEntity createEntity(String guid, String typeDefName) {
+        LineageEntity lineageEntity = new LineageEntity();
+        lineageEntity.setGuid(guid);
+        lineageEntity.setTypeDefName(typeDefName);
+        lineageEntity.setCreatedBy("test");
+        lineageEntity.setCreateTime(new Date());
+        lineageEntity.setVersion(1L);
+        lineageEntity.setMetadataCollectionId("testCollection");
+        lineageEntity.setProperties(Collections.singletonMap("qualifiedName", guid));
+        return lineageEntity;
+    }
+}
@@ -0,0 +1,140 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.lineagegraph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.governanceservers.openlineage.ffdc.OpenLineageException;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.GraphHelper;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageJobHelper;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.ffdc.JanusConnectorException;
+
+import java.util.Collections;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.PROCESS;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_ENTITY_GUID;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_LABEL;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG;
+
+public class LineageJobHelperTest {
+
+    private static final String CONNECTOR_PROVIDER_NAME = "org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.graph.LineageGraphConnectorProvider";
+    private static final String FAILING_PROCESS = "failingProcess";
+
+    private GraphHelper graphHelper;
+    private LineageJobHelper lineageJobHelper;
+
+    @BeforeEach
+    public void openGraph() throws JanusConnectorException, OpenLineageException {
+        graphHelper = new FailingGraphHelper();
+        graphHelper.openGraph(CONNECTOR_PROVIDER_NAME, Collections.singletonMap("storage.backend", "inmemory"), null);
+    }
+
+    @AfterEach
+    public void closeGraph() {
+        if (lineageJobHelper != null) {
+            lineageJobHelper.shutdown();
+        }
+        graphHelper.closeGraph();
+    }
+
+    @Test
+    void claimsOnlyProcessesMarkedIncomplete() {
+        addProcess("unflaggedProcess", null);
+        lineageJobHelper = new LineageJobHelper(graphHelper, null);
+        lineageJobHelper.performLineageGraphJob();
+
+        addProcess("incompleteProcess", false);
+        addProcess(FAILING_PROCESS, true);
+        addProcess("laterUnflaggedProcess", null);
+        lineageJobHelper.performLineageGraphJob();
+
+        assertEquals(true, getLineageCompletedFlag("incompleteProcess"));
+        // a claimed failing process would be marked incomplete again
+        assertEquals(true, getLineageCompletedFlag(FAILING_PROCESS));
+        assertNull(getLineageCompletedFlag("laterUnflaggedProcess"));
+    }
+
+    @Test
+    void firstRunClaimsUnflaggedProcesses() {
+        addProcess("unflaggedProcess", null);
+        addProcess("incompleteProcess", false);
+        lineageJobHelper = new LineageJobHelper(graphHelper, null);
+
+        lineageJobHelper.performLineageGraphJob();
+
+        assertEquals(true, getLineageCompletedFlag("unflaggedProcess"));
+        assertEquals(true, getLineageCompletedFlag("incompleteProcess"));
+    }
+
+    @Test
+    void failedProcessIsMarkedIncompleteAgain() {
+        addProcess(FAILING_PROCESS, false);
+        addProcess("workingProcess", false);
+        lineageJobHelper = new LineageJobHelper(graphHelper, null);
+
+        lineageJobHelper.performLineageGraphJob();
+
+        assertEquals(false, getLineageCompletedFlag(FAILING_PROCESS));
+        assertEquals(true, getLineageCompletedFlag("workingProcess"));
+
+        lineageJobHelper.performLineageGraphJob();
+
+        assertEquals(false, getLineageCompletedFlag(FAILING_PROCESS));
+    }
+
+    @Test
+    void workerThreadsClaimEveryProcess() {
+        for (int i = 0; i < 10; i++) {
+            addProcess("parallelProcess" + i, false);
+        }
+        lineageJobHelper = new LineageJobHelper(graphHelper, null, 3);
+
+        lineageJobHelper.performLineageGraphJob();
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(true, getLineageCompletedFlag("parallelProcess" + i));
+        }
+    }
+
+    private void addProcess(String guid, Boolean lineageCompleted) {
+        GraphTraversalSource g = graphHelper.getGraphTraversalSource();
+        GraphTraversal<Vertex, Vertex> process = g.addV(PROCESS)
+                .property(PROPERTY_KEY_ENTITY_GUID, guid)
+                .property(PROPERTY_KEY_LABEL, PROCESS);
+        if (lineageCompleted != null) {
+            process.property(PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG, lineageCompleted);
+        }
+        process.next();
+        g.tx().commit();
+    }
+
+    private Object getLineageCompletedFlag(String guid) {
+        GraphTraversalSource g = graphHelper.getGraphTraversalSource();
+        Object flag = g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).values(PROPERTY_KEY_PROCESS_LINEAGE_COMPLETED_FLAG).tryNext().orElse(null);
+        g.tx().rollback();
+        return flag;
+    }
+
+    /**
+     * Fails every query about the failing process, as GraphHelper does when the graph reports an error.
+     */
+    private static class FailingGraphHelper extends GraphHelper {
+        @Override
+        public <U, V> U getResult(BiFunction<GraphTraversalSource, V, U> function, V argument, BiConsumer<Exception, V> errorHandler) {
+            if (FAILING_PROCESS.equals(argument)) {
+                errorHandler.accept(new IllegalStateException("Query failed for " + FAILING_PROCESS), argument);
+                return null;
+            }
+            return super.getResult(function, argument, errorHandler);
+        }
+    }
+}
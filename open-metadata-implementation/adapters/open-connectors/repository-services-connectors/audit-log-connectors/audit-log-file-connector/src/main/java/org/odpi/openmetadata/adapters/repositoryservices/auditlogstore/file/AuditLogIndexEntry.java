@@ -0,0 +1,188 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+/**
+ * AuditLogIndexEntry locates a single audit log record within a segment file and holds the values that the
+ * queries select on.  It is written to the segment's index file as a single tab-separated line.
+ */
+class AuditLogIndexEntry
+{
+    private static final String separator = "\t";
+
+    private final AuditLogSegment segment;
+    private final String          guid;
+    private final long            timeStamp;
+    private final String          severity;
+    private final String          componentName;
+    private final long            offset;
+    private final int             length;
+
+
+    /**
+     * Constructor
+     *
+     * @param segment segment holding the record
+     * @param guid unique identifier of the record
+     * @param timeStamp time the record was created (milliseconds)
+     * @param severity severity of the record
+     * @param componentName name of the component that reported the record
+     * @param offset byte offset of the record within the segment file
+     * @param length length of the record in bytes
+     */
+    AuditLogIndexEntry(AuditLogSegment segment,
+                       String          guid,
+                       long            timeStamp,
+                       String          severity,
+                       String          componentName,
+                       long            offset,
+                       int             length)
+    {
+        this.segment = segment;
+        this.guid = guid;
+        this.timeStamp = timeStamp;
+        this.severity = severity;
+        this.componentName = componentName;
+        this.offset = offset;
+        this.length = length;
+    }
+
+
+    /**
+     * Recreate an entry from a line of a segment's index file.
+     *
+     * @param segment segment holding the record
+     * @param indexLine line from the index file
+     * @return entry or null if the line is not valid
+     */
+    static AuditLogIndexEntry fromIndexLine(AuditLogSegment segment,
+                                            String          indexLine)
+    {
+        String[] fields = indexLine.split(separator, -1);
+
+        if (fields.length != 6)
+        {
+            return null;
+        }
+
+        try
+        {
+            return new AuditLogIndexEntry(segment,
+                                          fields[0],
+                                          Long.parseLong(fields[1]),
+                                          fields[2],
+                                          fields[3],
+                                          Long.parseLong(fields[4]),
+                                          Integer.parseInt(fields[5]));
+        }
+        catch (NumberFormatException error)
+        {
+            return null;
+        }
+    }
+
+
+    /**
+     * Return the entry formatted as a line of the index file.
+     *
+     * @return tab-separated values
+     */
+    String toIndexLine()
+    {
+        return guid + separator + timeStamp + separator + clean(severity) + separator + clean(componentName) + separator + offset + separator + length;
+    }
+
+
+    /**
+     * Remove any characters that would break the index file format.
+     *
+     * @param value value to store
+     * @return cleaned value
+     */
+    private static String clean(String value)
+    {
+        if (value == null)
+        {
+            return "";
+        }
+
+        return value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+
+
+    /**
+     * Return the segment holding the record.
+     *
+     * @return segment
+     */
+    AuditLogSegment getSegment()
+    {
+        return segment;
+    }
+
+
+    /**
+     * Return the unique identifier of the record.
+     *
+     * @return guid
+     */
+    String getGUID()
+    {
+        return guid;
+    }
+
+
+    /**
+     * Return the time that the record was created.
+     *
+     * @return milliseconds
+     */
+    long getTimeStamp()
+    {
+        return timeStamp;
+    }
+
+
+    /**
+     * Return the severity of the record.
+     *
+     * @return severity name
+     */
+    String getSeverity()
+    {
+        return severity;
+    }
+
+
+    /**
+     * Return the name of the component that reported the record.
+     *
+     * @return component name
+     */
+    String getComponentName()
+    {
+        return componentName;
+    }
+
+
+    /**
+     * Return the byte offset of the record in the segment file.
+     *
+     * @return offset
+     */
+    long getOffset()
+    {
+        return offset;
+    }
+
+
+    /**
+     * Return the length of the record in bytes.
+     *
+     * @return length
+     */
+    int getLength()
+    {
+        return length;
+    }
+}
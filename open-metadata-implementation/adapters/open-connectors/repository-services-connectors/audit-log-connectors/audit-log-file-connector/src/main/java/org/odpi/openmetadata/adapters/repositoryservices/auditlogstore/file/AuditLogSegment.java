@@ -0,0 +1,283 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * AuditLogSegment describes one of the files that make up the file based audit log.  Each segment holds
+ * a sequence of JSON formatted audit log records - one per line.  Once a segment is full it is sealed and
+ * the index entries for its records are written to an index file alongside it so they can be reloaded
+ * without reading the records when the connector restarts.
+ *
+ * The entries are not synchronized - AuditLogSegmentStore serializes access to them.
+ */
+class AuditLogSegment
+{
+    private static final String  segmentFileNameFormat = "audit-log-segment-%010d.log";
+    private static final String  indexFileSuffix       = ".idx";
+    private static final Pattern segmentFileNamePattern = Pattern.compile("audit-log-segment-(\\d{10})\\.log");
+
+    private final long                     sequenceNumber;
+    private final File                     logFile;
+    private final File                     indexFile;
+    private final List<AuditLogIndexEntry> entries = new ArrayList<>();
+
+    private long    size         = 0L;
+    private long    minTimeStamp = Long.MAX_VALUE;
+    private long    maxTimeStamp = Long.MIN_VALUE;
+    private boolean sealed       = false;
+
+
+    /**
+     * Constructor
+     *
+     * @param directory directory holding the audit log
+     * @param sequenceNumber position of the segment in the audit log
+     */
+    AuditLogSegment(File directory,
+                    long sequenceNumber)
+    {
+        this.sequenceNumber = sequenceNumber;
+        this.logFile = new File(directory, String.format(segmentFileNameFormat, sequenceNumber));
+        this.indexFile = new File(directory, logFile.getName() + indexFileSuffix);
+    }
+
+
+    /**
+     * Return the sequence number encoded in the name of a segment file.
+     *
+     * @param fileName name of a file in the audit log directory
+     * @return sequence number or -1 if the file is not a segment
+     */
+    static long getSequenceNumber(String fileName)
+    {
+        Matcher matcher = segmentFileNamePattern.matcher(fileName);
+
+        if (matcher.matches())
+        {
+            return Long.parseLong(matcher.group(1));
+        }
+
+        return -1L;
+    }
+
+
+    /**
+     * Return the position of the segment in the audit log.
+     *
+     * @return sequence number
+     */
+    long getSequenceNumber()
+    {
+        return sequenceNumber;
+    }
+
+
+    /**
+     * Return the file holding the records.
+     *
+     * @return file
+     */
+    File getLogFile()
+    {
+        return logFile;
+    }
+
+
+    /**
+     * Return the number of bytes written to the segment.
+     *
+     * @return size in bytes
+     */
+    long getSize()
+    {
+        return size;
+    }
+
+
+    /**
+     * Return the time stamp of the oldest record in the segment.
+     *
+     * @return milliseconds (Long.MAX_VALUE if the segment is empty)
+     */
+    long getMinTimeStamp()
+    {
+        return minTimeStamp;
+    }
+
+
+    /**
+     * Return the time stamp of the newest record in the segment.
+     *
+     * @return milliseconds (Long.MIN_VALUE if the segment is empty)
+     */
+    long getMaxTimeStamp()
+    {
+        return maxTimeStamp;
+    }
+
+
+    /**
+     * Return whether the segment is still being written to.
+     *
+     * @return boolean
+     */
+    boolean isSealed()
+    {
+        return sealed;
+    }
+
+
+    /**
+     * Return the index entries for the records in the segment in the order they were written.
+     *
+     * @return list of entries
+     */
+    List<AuditLogIndexEntry> getEntries()
+    {
+        return entries;
+    }
+
+
+    /**
+     * Add the index entry for a record that has been written to the segment.
+     *
+     * @param entry index entry
+     */
+    void addEntry(AuditLogIndexEntry entry)
+    {
+        entries.add(entry);
+
+        size = Math.max(size, entry.getOffset() + entry.getLength());
+        minTimeStamp = Math.min(minTimeStamp, entry.getTimeStamp());
+        maxTimeStamp = Math.max(maxTimeStamp, entry.getTimeStamp());
+    }
+
+
+    /**
+     * Set the size of a segment file that has been reopened.
+     *
+     * @param size size in bytes
+     */
+    void setSize(long size)
+    {
+        this.size = size;
+    }
+
+
+    /**
+     * Mark the segment as complete and write out its index file.
+     *
+     * @throws IOException unable to write the index file
+     */
+    void seal() throws IOException
+    {
+        sealed = true;
+
+        File temporaryFile = new File(indexFile.getParentFile(), indexFile.getName() + ".tmp");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(temporaryFile.toPath(), StandardCharsets.UTF_8))
+        {
+            for (AuditLogIndexEntry entry : entries)
+            {
+                writer.write(entry.toIndexLine());
+                writer.newLine();
+            }
+        }
+
+        Files.move(temporaryFile.toPath(),
+                   indexFile.toPath(),
+                   StandardCopyOption.REPLACE_EXISTING,
+                   StandardCopyOption.ATOMIC_MOVE);
+    }
+
+
+    /**
+     * Reload the index entries of a sealed segment from its index file.
+     *
+     * @return false if there is no usable index file
+     * @throws IOException unable to read the index file
+     */
+    boolean loadIndex() throws IOException
+    {
+        if ((! indexFile.exists()) || (indexFile.lastModified() < logFile.lastModified()))
+        {
+            return false;
+        }
+
+        List<AuditLogIndexEntry> loadedEntries = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(indexFile.toPath(), StandardCharsets.UTF_8))
+        {
+            String line = reader.readLine();
+
+            while (line != null)
+            {
+                AuditLogIndexEntry entry = AuditLogIndexEntry.fromIndexLine(this, line);
+
+                if (entry == null)
+                {
+                    return false;
+                }
+
+                loadedEntries.add(entry);
+                line = reader.readLine();
+            }
+        }
+
+        for (AuditLogIndexEntry entry : loadedEntries)
+        {
+            this.addEntry(entry);
+        }
+
+        this.size = logFile.length();
+        this.sealed = true;
+
+        return true;
+    }
+
+
+    /**
+     * Read the bytes of a single record.
+     *
+     * @param entry index entry for the record
+     * @return JSON formatted record
+     * @throws IOException unable to read the segment file
+     */
+    String readRecord(AuditLogIndexEntry entry) throws IOException
+    {
+        byte[] recordBytes = new byte[entry.getLength()];
+
+        try (RandomAccessFile segmentFile = new RandomAccessFile(logFile, "r"))
+        {
+            segmentFile.seek(entry.getOffset());
+            segmentFile.readFully(recordBytes);
+        }
+
+        return new String(recordBytes, StandardCharsets.UTF_8);
+    }
+
+
+    /**
+     * Remove the segment's files.
+     *
+     * @throws IOException unable to delete the files
+     */
+    void delete() throws IOException
+    {
+        Files.deleteIfExists(indexFile.toPath());
+        Files.deleteIfExists(logFile.toPath());
+    }
+}
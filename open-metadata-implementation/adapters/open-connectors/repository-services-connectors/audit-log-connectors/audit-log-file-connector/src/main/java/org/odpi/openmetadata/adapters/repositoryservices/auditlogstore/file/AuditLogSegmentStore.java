@@ -0,0 +1,653 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSJSONSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * AuditLogSegmentStore manages the segment files of the file based audit log.  Records are appended as
+ * JSON lines to the active segment through a buffered stream that is flushed to disk on a fixed interval,
+ * so a burst of records results in a single write and sync rather than one file per record.  When the active
+ * segment reaches its maximum size it is sealed, its index is written out, and a new segment is started.
+ * Old segments are removed once they are older than the retention period or the audit log exceeds its
+ * maximum size.
+ *
+ * An in-memory index locates each record by its unique identifier, and the per-segment lists of index entries
+ * hold the time stamp, severity and component of each record so queries only read the records they return.
+ * A query that returns a record still in the write buffer passes the buffer to the file system so the record
+ * can be read back, but it does not force the file to disk.  That is left to the background flush.
+ *
+ * Earlier versions of the connector wrote each record to its own file called log-record-{guid}.  These files
+ * are copied into the active segment, oldest first, when the audit log is opened, and then removed.
+ */
+class AuditLogSegmentStore
+{
+    private static final Logger log = LoggerFactory.getLogger(AuditLogSegmentStore.class);
+
+    private static final byte   recordSeparator        = '\n';
+    private static final String legacyRecordFilePrefix = "log-record-";
+
+    private final File   directory;
+    private final String destinationName;
+    private final long   maxSegmentSize;
+    private final long   flushInterval;
+    private final long   retentionPeriod;
+    private final long   maxRetainedSize;
+
+    private final Map<String, AuditLogIndexEntry> recordIndex = new ConcurrentHashMap<>();
+    private final List<AuditLogSegment>           segments    = new ArrayList<>();
+
+    private AuditLogSegment          activeSegment = null;
+    private FileOutputStream         activeFile    = null;
+    private BufferedOutputStream     activeStream  = null;
+    private long                     writtenSize   = 0L;
+    private boolean                  unflushed     = false;
+    private ScheduledExecutorService flusher       = null;
+
+
+    /**
+     * Constructor
+     *
+     * @param directory directory holding the audit log
+     * @param destinationName name of the audit log destination for messages
+     * @param maxSegmentSize size in bytes at which a new segment is started
+     * @param flushInterval milliseconds between flushes of the active segment to disk (0 means every record)
+     * @param retentionDays number of days to keep records (0 means keep forever)
+     * @param maxRetainedSize maximum total size of the segments in bytes (0 means unlimited)
+     */
+    AuditLogSegmentStore(File   directory,
+                         String destinationName,
+                         long   maxSegmentSize,
+                         long   flushInterval,
+                         long   retentionDays,
+                         long   maxRetainedSize)
+    {
+        this.directory = directory;
+        this.destinationName = destinationName;
+        this.maxSegmentSize = maxSegmentSize;
+        this.flushInterval = flushInterval;
+        this.retentionPeriod = TimeUnit.DAYS.toMillis(retentionDays);
+        this.maxRetainedSize = maxRetainedSize;
+    }
+
+
+    /**
+     * Load the index of the existing segments and start a new active segment.
+     *
+     * @throws IOException the directory or one of the segments is not usable
+     */
+    synchronized void open() throws IOException
+    {
+        FileUtils.forceMkdir(directory);
+
+        List<AuditLogSegment> existingSegments = new ArrayList<>();
+        File[]                files            = directory.listFiles();
+
+        if (files != null)
+        {
+            for (File file : files)
+            {
+                long sequenceNumber = AuditLogSegment.getSequenceNumber(file.getName());
+
+                if (sequenceNumber >= 0)
+                {
+                    existingSegments.add(new AuditLogSegment(directory, sequenceNumber));
+                }
+            }
+        }
+
+        existingSegments.sort(Comparator.comparingLong(AuditLogSegment::getSequenceNumber));
+
+        for (AuditLogSegment segment : existingSegments)
+        {
+            if (! segment.loadIndex())
+            {
+                scanSegment(segment);
+                segment.seal();
+            }
+
+            addSegment(segment);
+        }
+
+        long nextSequenceNumber = 0L;
+
+        if (! segments.isEmpty())
+        {
+            nextSequenceNumber = segments.get(segments.size() - 1).getSequenceNumber() + 1;
+        }
+
+        startSegment(nextSequenceNumber);
+        migrateLegacyRecords();
+        applyRetention();
+
+        if (flushInterval > 0)
+        {
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable ->
+                                                                 {
+                                                                     Thread thread = new Thread(runnable, "AuditLogFlusher:" + destinationName);
+                                                                     thread.setDaemon(true);
+                                                                     return thread;
+                                                                 });
+
+            flusher.scheduleWithFixedDelay(this::flushQuietly, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+
+    /**
+     * Copy the records written by earlier versions of the connector, one record per file, into the active
+     * segment.  Each file is removed once its record is safely on disk.  A file that can not be read is
+     * left in place.
+     *
+     * @throws IOException unable to write to the active segment
+     */
+    private void migrateLegacyRecords() throws IOException
+    {
+        File[] legacyFiles = directory.listFiles((dir, fileName) -> fileName.startsWith(legacyRecordFilePrefix));
+
+        if ((legacyFiles == null) || (legacyFiles.length == 0))
+        {
+            return;
+        }
+
+        List<OMRSAuditLogRecord> legacyRecords = new ArrayList<>();
+        List<File>               migratedFiles = new ArrayList<>();
+
+        for (File legacyFile : legacyFiles)
+        {
+            try
+            {
+                legacyRecords.add(parseRecord(FileUtils.readFileToString(legacyFile, StandardCharsets.UTF_8)));
+                migratedFiles.add(legacyFile);
+            }
+            catch (Exception error)
+            {
+                log.error("Unable to migrate audit log record file {}", legacyFile.getName(), error);
+            }
+        }
+
+        legacyRecords.sort(Comparator.comparingLong(logRecord -> logRecord.getTimeStamp() == null ? 0L : logRecord.getTimeStamp().getTime()));
+
+        for (OMRSAuditLogRecord logRecord : legacyRecords)
+        {
+            if (! recordIndex.containsKey(logRecord.getGUID()))
+            {
+                append(logRecord, OMRSJSONSerializer.writeValueAsString(logRecord));
+            }
+        }
+
+        flush();
+
+        for (File migratedFile : migratedFiles)
+        {
+            Files.deleteIfExists(migratedFile.toPath());
+        }
+
+        log.info("Migrated {} audit log record files into the segments of {}", migratedFiles.size(), destinationName);
+    }
+
+
+    /**
+     * Rebuild the index entries of a segment that has no usable index file by reading its records.
+     * Any partially written record at the end of the file is skipped.
+     *
+     * @param segment segment to read
+     * @throws IOException unable to read the segment
+     */
+    private void scanSegment(AuditLogSegment segment) throws IOException
+    {
+        try (InputStream input = new BufferedInputStream(new FileInputStream(segment.getLogFile())))
+        {
+            ByteArrayOutputStream recordBytes  = new ByteArrayOutputStream();
+            long                  recordOffset = 0L;
+            long                  position     = 0L;
+            int                   nextByte     = input.read();
+
+            while (nextByte != -1)
+            {
+                position++;
+
+                if (nextByte == recordSeparator)
+                {
+                    String json = recordBytes.toString(StandardCharsets.UTF_8);
+
+                    try
+                    {
+                        OMRSAuditLogRecord logRecord = parseRecord(json);
+
+                        segment.addEntry(newIndexEntry(segment, logRecord, recordOffset, recordBytes.size()));
+                    }
+                    catch (Exception error)
+                    {
+                        log.debug("Skipped unreadable audit log record at offset {} of {}", recordOffset, segment.getLogFile().getName());
+                    }
+
+                    recordBytes.reset();
+                    recordOffset = position;
+                }
+                else
+                {
+                    recordBytes.write(nextByte);
+                }
+
+                nextByte = input.read();
+            }
+        }
+
+        segment.setSize(segment.getLogFile().length());
+    }
+
+
+    /**
+     * Create the index entry for a record.
+     *
+     * @param segment segment holding the record
+     * @param logRecord record
+     * @param offset byte offset of the record within the segment
+     * @param length length of the record in bytes
+     * @return index entry
+     */
+    private AuditLogIndexEntry newIndexEntry(AuditLogSegment    segment,
+                                             OMRSAuditLogRecord logRecord,
+                                             long               offset,
+                                             int                length)
+    {
+        long   timeStamp     = 0L;
+        String componentName = null;
+
+        if (logRecord.getTimeStamp() != null)
+        {
+            timeStamp = logRecord.getTimeStamp().getTime();
+        }
+
+        if (logRecord.getOriginatorComponent() != null)
+        {
+            componentName = logRecord.getOriginatorComponent().getComponentName();
+        }
+        else if (logRecord.getReportingComponent() != null)
+        {
+            componentName = logRecord.getReportingComponent().getComponentName();
+        }
+
+        return new AuditLogIndexEntry(segment,
+                                      logRecord.getGUID(),
+                                      timeStamp,
+                                      logRecord.getSeverity(),
+                                      componentName,
+                                      offset,
+                                      length);
+    }
+
+
+    /**
+     * Add a segment to the audit log and its records to the index.
+     *
+     * @param segment loaded segment
+     */
+    private void addSegment(AuditLogSegment segment)
+    {
+        segments.add(segment);
+
+        for (AuditLogIndexEntry entry : segment.getEntries())
+        {
+            recordIndex.put(entry.getGUID(), entry);
+        }
+    }
+
+
+    /**
+     * Start writing to a new segment.
+     *
+     * @param sequenceNumber position of the new segment
+     * @throws IOException unable to create the segment file
+     */
+    private void startSegment(long sequenceNumber) throws IOException
+    {
+        activeSegment = new AuditLogSegment(directory, sequenceNumber);
+        activeFile = new FileOutputStream(activeSegment.getLogFile(), true);
+        activeStream = new BufferedOutputStream(activeFile);
+        writtenSize = 0L;
+
+        segments.add(activeSegment);
+    }
+
+
+    /**
+     * Flush, close and seal the active segment.
+     *
+     * @throws IOException unable to complete the segment
+     */
+    private void sealActiveSegment() throws IOException
+    {
+        if (activeSegment != null)
+        {
+            flush();
+            activeStream.close();
+            activeSegment.seal();
+
+            activeSegment = null;
+            activeFile = null;
+            activeStream = null;
+        }
+    }
+
+
+    /**
+     * Append a record to the active segment.
+     *
+     * @param logRecord record
+     * @param json JSON formatted record
+     * @throws IOException unable to write to the segment
+     */
+    synchronized void append(OMRSAuditLogRecord logRecord,
+                             String             json) throws IOException
+    {
+        if (activeSegment == null)
+        {
+            throw new IOException("The audit log is closed");
+        }
+
+        byte[] recordBytes = json.getBytes(StandardCharsets.UTF_8);
+
+        if ((activeSegment.getSize() > 0) && (activeSegment.getSize() + recordBytes.length + 1 > maxSegmentSize))
+        {
+            long nextSequenceNumber = activeSegment.getSequenceNumber() + 1;
+
+            sealActiveSegment();
+            startSegment(nextSequenceNumber);
+            applyRetention();
+        }
+
+        long offset = activeSegment.getSize();
+
+        activeStream.write(recordBytes);
+        activeStream.write(recordSeparator);
+
+        AuditLogIndexEntry entry = newIndexEntry(activeSegment, logRecord, offset, recordBytes.length);
+
+        activeSegment.addEntry(entry);
+        activeSegment.setSize(offset + recordBytes.length + 1);
+        recordIndex.put(entry.getGUID(), entry);
+
+        unflushed = true;
+
+        if (flushInterval <= 0)
+        {
+            flush();
+        }
+    }
+
+
+    /**
+     * Write any buffered records to disk.
+     *
+     * @throws IOException unable to write to the segment
+     */
+    private synchronized void flush() throws IOException
+    {
+        if ((unflushed) && (activeStream != null))
+        {
+            activeStream.flush();
+            writtenSize = activeSegment.getSize();
+            activeFile.getChannel().force(false);
+            unflushed = false;
+        }
+    }
+
+
+    /**
+     * Make sure that a record in the active segment has been passed to the file system so that it can be read
+     * back.  The write buffer is emptied only if it holds part of the record, and the file is not forced to disk.
+     *
+     * @param entry index entry for the record
+     * @throws IOException unable to write to the segment
+     */
+    private synchronized void makeReadable(AuditLogIndexEntry entry) throws IOException
+    {
+        if ((entry.getSegment() == activeSegment) && (entry.getOffset() + entry.getLength() > writtenSize))
+        {
+            activeStream.flush();
+            writtenSize = activeSegment.getSize();
+        }
+    }
+
+
+    /**
+     * Flush called by the background thread.
+     */
+    private void flushQuietly()
+    {
+        try
+        {
+            flush();
+        }
+        catch (IOException error)
+        {
+            log.error("Unable to flush audit log {}", destinationName, error);
+        }
+    }
+
+
+    /**
+     * Delete the oldest sealed segments that are beyond the retention period or the maximum size.
+     */
+    private void applyRetention()
+    {
+        long totalSize = 0L;
+
+        for (AuditLogSegment segment : segments)
+        {
+            totalSize = totalSize + segment.getSize();
+        }
+
+        long oldestRetained = System.currentTimeMillis() - retentionPeriod;
+
+        while ((segments.size() > 1) && (segments.get(0).isSealed()))
+        {
+            AuditLogSegment oldestSegment = segments.get(0);
+
+            boolean expired  = (retentionPeriod > 0) && (oldestSegment.getMaxTimeStamp() < oldestRetained);
+            boolean oversize = (maxRetainedSize > 0) && (totalSize > maxRetainedSize);
+
+            if ((! expired) && (! oversize))
+            {
+                break;
+            }
+
+            segments.remove(0);
+            totalSize = totalSize - oldestSegment.getSize();
+
+            for (AuditLogIndexEntry entry : oldestSegment.getEntries())
+            {
+                recordIndex.remove(entry.getGUID(), entry);
+            }
+
+            try
+            {
+                oldestSegment.delete();
+            }
+            catch (IOException error)
+            {
+                log.error("Unable to delete audit log segment {}", oldestSegment.getLogFile().getName(), error);
+            }
+        }
+    }
+
+
+    /**
+     * Retrieve a single record.
+     *
+     * @param guid unique identifier of the record
+     * @return record or null if it is not in the audit log
+     * @throws IOException unable to read the record
+     */
+    OMRSAuditLogRecord getRecord(String guid) throws IOException
+    {
+        AuditLogIndexEntry entry = recordIndex.get(guid);
+
+        if (entry == null)
+        {
+            return null;
+        }
+
+        makeReadable(entry);
+
+        return readRecord(entry);
+    }
+
+
+    /**
+     * Retrieve the records that match a filter in the order they were written.
+     *
+     * @param startTime start of time period (milliseconds)
+     * @param endTime end of time period (milliseconds)
+     * @param filter additional test for the records to return
+     * @param offset number of matching records to skip
+     * @param maximumRecords maximum number of records to return (0 means no limit)
+     * @return list of records
+     * @throws IOException unable to read the records
+     */
+    List<OMRSAuditLogRecord> findRecords(long                          startTime,
+                                         long                          endTime,
+                                         Predicate<AuditLogIndexEntry> filter,
+                                         int                           offset,
+                                         int                           maximumRecords) throws IOException
+    {
+        List<AuditLogIndexEntry> matchingEntries = new ArrayList<>();
+
+        synchronized (this)
+        {
+            int skipped = 0;
+
+            for (AuditLogSegment segment : segments)
+            {
+                if ((segment.getMaxTimeStamp() < startTime) || (segment.getMinTimeStamp() > endTime))
+                {
+                    continue;
+                }
+
+                for (AuditLogIndexEntry entry : segment.getEntries())
+                {
+                    if ((entry.getTimeStamp() >= startTime) && (entry.getTimeStamp() <= endTime) && (filter.test(entry)))
+                    {
+                        if (skipped < offset)
+                        {
+                            skipped++;
+                        }
+                        else
+                        {
+                            matchingEntries.add(entry);
+
+                            if ((maximumRecords > 0) && (matchingEntries.size() == maximumRecords))
+                            {
+                                break;
+                            }
+                        }
+                    }
+                }
+
+                if ((maximumRecords > 0) && (matchingEntries.size() == maximumRecords))
+                {
+                    break;
+                }
+            }
+
+            /*
+             * The entries are in the order they were written, so only the last one can be in the write buffer.
+             */
+            if (! matchingEntries.isEmpty())
+            {
+                makeReadable(matchingEntries.get(matchingEntries.size() - 1));
+            }
+        }
+
+        List<OMRSAuditLogRecord> results = new ArrayList<>();
+
+        for (AuditLogIndexEntry entry : matchingEntries)
+        {
+            OMRSAuditLogRecord logRecord = readRecord(entry);
+
+            if (logRecord != null)
+            {
+                results.add(logRecord);
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Read a record from its segment.  A record whose segment has been removed by the retention policy
+     * since it was located is ignored.
+     *
+     * @param entry index entry for the record
+     * @return record or null if the segment has gone
+     * @throws IOException unable to read the record
+     */
+    private OMRSAuditLogRecord readRecord(AuditLogIndexEntry entry) throws IOException
+    {
+        if (! entry.getSegment().getLogFile().exists())
+        {
+            return null;
+        }
+
+        return parseRecord(entry.getSegment().readRecord(entry));
+    }
+
+
+    /**
+     * Convert a JSON formatted record back into an audit log record.  The record is read through the audit log
+     * framework's bean and the deprecated OMRS fields are rebuilt from it.
+     *
+     * @param json JSON formatted record
+     * @return audit log record
+     * @throws IOException the record is not valid
+     */
+    private OMRSAuditLogRecord parseRecord(String json) throws IOException
+    {
+        return new OMRSAuditLogRecord(OMRSJSONSerializer.readValue(json, AuditLogRecord.class));
+    }
+
+
+    /**
+     * Flush and seal the active segment and stop the background flush.
+     *
+     * @throws IOException unable to complete the active segment
+     */
+    synchronized void close() throws IOException
+    {
+        if (flusher != null)
+        {
+            flusher.shutdown();
+            flusher = null;
+        }
+
+        sealActiveSegment();
+    }
+}
@@ -2,9 +2,8 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.commons.io.FileUtils;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
@@ -18,11 +17,16 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * FileBasedAuditLogStoreConnector provides a connector implementation for a file based audit log.
- * The audit log is stored in a directory and each audit log record is stored as a file with a filename build
- * from the record's unique identifier (guid).
+ * The audit log is stored in a directory as a sequence of segment files.  Each segment holds JSON formatted
+ * audit log records - one per line - and is rolled over to a new segment once it reaches the configured size.
+ * The records are indexed in memory by their unique identifier (guid), time stamp, severity and reporting
+ * component so the audit log can be queried.  Old segments are removed according to the retention properties
+ * of the connection (see FileBasedAuditLogStoreProvider).
  */
 public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorBase
 {
@@ -30,7 +34,8 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
 
     private static final Logger log = LoggerFactory.getLogger(FileBasedAuditLogStoreConnector.class);
 
-    private String logStoreTemplateName = null;
+    private String               logStoreTemplateName = null;
+    private AuditLogSegmentStore segmentStore         = null;
 
 
     /**
@@ -63,11 +68,32 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
             logStoreTemplateName = defaultDirectoryTemplate;
         }
 
-        try
+        long maxSegmentSize  = FileBasedAuditLogStoreProvider.defaultMaxSegmentSize;
+        long flushInterval   = FileBasedAuditLogStoreProvider.defaultFlushInterval;
+        long retentionDays   = FileBasedAuditLogStoreProvider.defaultRetentionDays;
+        long maxRetainedSize = FileBasedAuditLogStoreProvider.defaultMaxRetainedSize;
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
         {
-            File         auditLogStoreDirectory = new File(logStoreTemplateName);
+            maxSegmentSize  = getLongProperty(configurationProperties, FileBasedAuditLogStoreProvider.maxSegmentSizeProperty, maxSegmentSize);
+            flushInterval   = getLongProperty(configurationProperties, FileBasedAuditLogStoreProvider.flushIntervalProperty, flushInterval);
+            retentionDays   = getLongProperty(configurationProperties, FileBasedAuditLogStoreProvider.retentionDaysProperty, retentionDays);
+            maxRetainedSize = getLongProperty(configurationProperties, FileBasedAuditLogStoreProvider.maxRetainedSizeProperty, maxRetainedSize);
+        }
 
-            FileUtils.forceMkdir(auditLogStoreDirectory);
+        try
+        {
+            AuditLogSegmentStore newSegmentStore = new AuditLogSegmentStore(new File(logStoreTemplateName),
+                                                                            super.getDestinationName(),
+                                                                            maxSegmentSize,
+                                                                            flushInterval,
+                                                                            retentionDays,
+                                                                            maxRetainedSize);
+            newSegmentStore.open();
+
+            segmentStore = newSegmentStore;
         }
         catch (IOException ioException)
         {
@@ -76,6 +102,40 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
     }
 
 
+    /**
+     * Extract a long value from the configuration properties.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set or not a number
+     * @return property value
+     */
+    private long getLongProperty(Map<String, Object> configurationProperties,
+                                 String              propertyName,
+                                 long                defaultValue)
+    {
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if (propertyValue instanceof Number)
+        {
+            return ((Number)propertyValue).longValue();
+        }
+        else if (propertyValue != null)
+        {
+            try
+            {
+                return Long.parseLong(propertyValue.toString());
+            }
+            catch (NumberFormatException error)
+            {
+                log.error("Ignoring invalid value " + propertyValue + " for configuration property " + propertyName + ".");
+            }
+        }
+
+        return defaultValue;
+    }
+
+
     /**
      * Store the audit log record in the audit log store.
      *
@@ -90,16 +150,13 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
 
         super.validateLogRecord(logRecord, methodName);
 
-        if (isSupportedSeverity(logRecord))
+        if ((segmentStore != null) && (isSupportedSeverity(logRecord)))
         {
+            String jsonLogRecord = super.getJSONLogRecord(logRecord, methodName);
+
             try
             {
-                File configStoreFile =
-                        new File(logStoreTemplateName + "/log-record-" + logRecord.getGUID());
-                ObjectMapper objectMapper    = new ObjectMapper();
-
-                String configStoreFileContents = objectMapper.writeValueAsString(logRecord);
-                FileUtils.writeStringToFile(configStoreFile, configStoreFileContents, (String)null, false);
+                segmentStore.append(logRecord, jsonLogRecord);
             }
             catch (IOException ioException)
             {
@@ -123,9 +180,19 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
     public OMRSAuditLogRecord getAuditLogRecord(String logRecordId) throws InvalidParameterException,
                                                                            RepositoryErrorException
     {
-        final String methodName = "getAuditLogRecord";
+        final String methodName    = "getAuditLogRecord";
+        final String parameterName = "logRecordId";
 
-        return null;
+        validateQueryParameter(logRecordId, parameterName, methodName);
+
+        try
+        {
+            return getSegmentStore(methodName).getRecord(logRecordId);
+        }
+        catch (IOException ioException)
+        {
+            throw getStoreError(ioException, methodName);
+        }
     }
 
 
@@ -152,7 +219,7 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
     {
         final String methodName = "getAuditLogRecordsByTimeStamp";
 
-        return null;
+        return findRecords(startDate, endDate, entry -> true, offset, maximumRecords, methodName);
     }
 
 
@@ -179,9 +246,12 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
                                                                                             PagingErrorException,
                                                                                             RepositoryErrorException
     {
-        final String methodName = "getAuditLogRecordsBySeverity";
+        final String methodName    = "getAuditLogRecordsBySeverity";
+        final String parameterName = "severity";
+
+        validateQueryParameter(severity, parameterName, methodName);
 
-        return null;
+        return findRecords(startDate, endDate, entry -> severity.equals(entry.getSeverity()), offset, maximumRecords, methodName);
     }
 
 
@@ -208,9 +278,135 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
                                                                                                 PagingErrorException,
                                                                                                 RepositoryErrorException
     {
-        final String methodName = "getAuditLogRecordsByComponent";
+        final String methodName    = "getAuditLogRecordsByComponent";
+        final String parameterName = "component";
+
+        validateQueryParameter(component, parameterName, methodName);
+
+        return findRecords(startDate, endDate, entry -> component.equals(entry.getComponentName()), offset, maximumRecords, methodName);
+    }
+
+
+    /**
+     * Validate the common query parameters and retrieve the matching records from the segments.
+     *
+     * @param startDate start of time period (null means from the first record)
+     * @param endDate end of time period (null means up to the last record)
+     * @param filter test for the records to return
+     * @param offset offset of full collection to begin the return results
+     * @param maximumRecords maximum number of log records to return (0 means no limit)
+     * @param methodName calling method
+     * @return list of log records
+     * @throws InvalidParameterException the time period is reversed
+     * @throws PagingErrorException the paging parameters are negative
+     * @throws RepositoryErrorException the audit log store is not available
+     */
+    private List<OMRSAuditLogRecord> findRecords(Date                          startDate,
+                                                 Date                          endDate,
+                                                 Predicate<AuditLogIndexEntry> filter,
+                                                 int                           offset,
+                                                 int                           maximumRecords,
+                                                 String                        methodName) throws InvalidParameterException,
+                                                                                                  PagingErrorException,
+                                                                                                  RepositoryErrorException
+    {
+        final String startDateParameterName = "startDate";
+
+        if ((startDate != null) && (endDate != null) && (startDate.after(endDate)))
+        {
+            throw new InvalidParameterException(OMRSErrorCode.AUDIT_LOG_QUERY_REVERSED_TIME_PERIOD.getMessageDefinition(startDate.toString(),
+                                                                                                                         methodName,
+                                                                                                                         super.getDestinationName(),
+                                                                                                                         endDate.toString()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                startDateParameterName);
+        }
+
+        if ((offset < 0) || (maximumRecords < 0))
+        {
+            throw new PagingErrorException(OMRSErrorCode.BAD_AUDIT_LOG_QUERY_PAGING.getMessageDefinition(Integer.toString(offset),
+                                                                                                         Integer.toString(maximumRecords),
+                                                                                                         methodName,
+                                                                                                         super.getDestinationName()),
+                                           this.getClass().getName(),
+                                           methodName);
+        }
+
+        long startTime = (startDate == null) ? Long.MIN_VALUE : startDate.getTime();
+        long endTime   = (endDate == null) ? Long.MAX_VALUE : endDate.getTime();
+
+        try
+        {
+            return getSegmentStore(methodName).findRecords(startTime, endTime, filter, offset, maximumRecords);
+        }
+        catch (IOException ioException)
+        {
+            throw getStoreError(ioException, methodName);
+        }
+    }
+
+
+    /**
+     * Throw an exception if a query parameter is null.
+     *
+     * @param parameterValue value supplied by the caller
+     * @param parameterName name of the parameter
+     * @param methodName calling method
+     * @throws InvalidParameterException the parameter is null
+     */
+    private void validateQueryParameter(String parameterValue,
+                                        String parameterName,
+                                        String methodName) throws InvalidParameterException
+    {
+        if (parameterValue == null)
+        {
+            throw new InvalidParameterException(OMRSErrorCode.NULL_AUDIT_LOG_QUERY_PARAMETER.getMessageDefinition(parameterName,
+                                                                                                                 methodName,
+                                                                                                                 super.getDestinationName()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                parameterName);
+        }
+    }
+
+
+    /**
+     * Return the segment store, or throw an exception if the audit log could not be opened.
+     *
+     * @param methodName calling method
+     * @return segment store
+     * @throws RepositoryErrorException the audit log store is not available
+     */
+    private AuditLogSegmentStore getSegmentStore(String methodName) throws RepositoryErrorException
+    {
+        if (segmentStore == null)
+        {
+            throw new RepositoryErrorException(OMRSErrorCode.AUDIT_LOG_STORE_NOT_AVAILABLE.getMessageDefinition(super.getDestinationName(),
+                                                                                                                "not started"),
+                                               this.getClass().getName(),
+                                               methodName);
+        }
 
-        return null;
+        return segmentStore;
+    }
+
+
+    /**
+     * Convert an error reading the audit log into an exception for the caller.
+     *
+     * @param ioException error from the segment store
+     * @param methodName calling method
+     * @return exception to throw
+     */
+    private RepositoryErrorException getStoreError(IOException ioException,
+                                                   String      methodName)
+    {
+        return new RepositoryErrorException(OMRSErrorCode.AUDIT_LOG_STORE_NOT_AVAILABLE.getMessageDefinition(super.getDestinationName(),
+                                                                                                             ioException.getMessage()),
+                                            this.getClass().getName(),
+                                            methodName,
+                                            ioException);
     }
 
 
@@ -222,6 +418,20 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
     @Override
     public  void disconnect() throws ConnectorCheckedException
     {
+        if (segmentStore != null)
+        {
+            try
+            {
+                segmentStore.close();
+            }
+            catch (IOException ioException)
+            {
+                log.error("Unable to close Server Audit Log Store", ioException);
+            }
+
+            segmentStore = null;
+        }
+
         super.disconnect();
     }
 }
@@ -5,6 +5,8 @@ package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreProviderBase;
 
+import java.util.List;
+
 /**
  * FileBasedAuditLogStoreProvider is the OCF connector provider for the file based audit log store.
  */
@@ -20,7 +22,20 @@ public class FileBasedAuditLogStoreProvider extends OMRSAuditLogStoreProviderBas
      */
     private static final String connectorQualifiedName = "Egeria:AuditLogDestinationConnector:Files";
     private static final String connectorDisplayName   = "File-based Audit Log Destination Connector";
-    private static final String connectorDescription   = "Connector supports the distribution of audit log record to a directory where each file is a JSON formatted log record.";
+    private static final String connectorDescription   = "Connector supports the storage and retrieval of audit log records in a directory of rolling, indexed files of JSON formatted log records.";
+
+    /*
+     * Configuration properties for the audit log segments.
+     */
+    public static final String  maxSegmentSizeProperty  = "maxSegmentSize";
+    public static final String  flushIntervalProperty   = "flushInterval";
+    public static final String  retentionDaysProperty   = "retentionDays";
+    public static final String  maxRetainedSizeProperty = "maxRetainedSize";
+
+    static final long defaultMaxSegmentSize  = 16L * 1024L * 1024L;
+    static final long defaultFlushInterval   = 1000L;
+    static final long defaultRetentionDays   = 30L;
+    static final long defaultMaxRetainedSize = 0L;
 
     /*
      * Class of the connector.
@@ -51,7 +66,13 @@ public class FileBasedAuditLogStoreProvider extends OMRSAuditLogStoreProviderBas
         connectorType.setDisplayName(connectorDisplayName);
         connectorType.setDescription(connectorDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
-        connectorType.setRecognizedConfigurationProperties(super.getRecognizedConfigurationProperties());
+
+        List<String> recognizedConfigurationProperties = super.getRecognizedConfigurationProperties();
+        recognizedConfigurationProperties.add(maxSegmentSizeProperty);
+        recognizedConfigurationProperties.add(flushIntervalProperty);
+        recognizedConfigurationProperties.add(retentionDaysProperty);
+        recognizedConfigurationProperties.add(maxRetainedSizeProperty);
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
         super.connectorTypeBean = connectorType;
     }
@@ -0,0 +1,303 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogReportingComponent;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSJSONSerializer;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * AuditLogSegmentStoreTest verifies that the segment store rolls over to new segments, rebuilds missing or
+ * out of date indexes, filters queries and migrates the record files written by earlier versions of the connector.
+ */
+public class AuditLogSegmentStoreTest
+{
+    private static final long baseTime    = 1_600_000_000_000L;
+    private static final long noAutoFlush = 60_000L;
+
+    private File                 directory = null;
+    private AuditLogSegmentStore store     = null;
+
+
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        directory = Files.createTempDirectory("audit-log-segment-store").toFile();
+    }
+
+
+    @AfterMethod
+    public void tearDown() throws Exception
+    {
+        if (store != null)
+        {
+            store.close();
+            store = null;
+        }
+
+        FileUtils.deleteDirectory(directory);
+    }
+
+
+    /**
+     * Validate that a small segment size spreads the records over several segments, each with an index once
+     * it is sealed, and that every record can still be retrieved.
+     *
+     * @throws Exception problem with the store
+     */
+    @Test
+    public void testSegmentRollover() throws Exception
+    {
+        store = openStore(1000L);
+
+        for (int i = 0; i < 20; i++)
+        {
+            append(store, newRecord(i, "Information", "ComponentA"));
+        }
+
+        store.close();
+        store = null;
+
+        File[] logFiles   = directory.listFiles((dir, fileName) -> fileName.endsWith(".log"));
+        File[] indexFiles = directory.listFiles((dir, fileName) -> fileName.endsWith(".idx"));
+
+        assertNotNull(logFiles);
+        assertNotNull(indexFiles);
+        assertTrue(logFiles.length > 1);
+        assertEquals(indexFiles.length, logFiles.length);
+
+        store = openStore(1000L);
+
+        assertEquals(store.findRecords(0L, Long.MAX_VALUE, entry -> true, 0, 0).size(), 20);
+        assertNotNull(store.getRecord(guidOf(0)));
+        assertNotNull(store.getRecord(guidOf(19)));
+    }
+
+
+    /**
+     * Validate that the index of a segment is rebuilt from its records when the index file is missing or
+     * older than the segment.
+     *
+     * @throws Exception problem with the store
+     */
+    @Test
+    public void testIndexRebuild() throws Exception
+    {
+        store = openStore(1000L);
+
+        for (int i = 0; i < 20; i++)
+        {
+            append(store, newRecord(i, "Information", "ComponentA"));
+        }
+
+        store.close();
+        store = null;
+
+        File[] indexFiles = directory.listFiles((dir, fileName) -> fileName.endsWith(".idx"));
+
+        assertNotNull(indexFiles);
+        assertTrue(indexFiles.length > 1);
+
+        /*
+         * Remove one index and make another look older than its segment.
+         */
+        assertTrue(indexFiles[0].delete());
+        assertTrue(indexFiles[1].setLastModified(0L));
+
+        store = openStore(1000L);
+
+        List<OMRSAuditLogRecord> records = store.findRecords(0L, Long.MAX_VALUE, entry -> true, 0, 0);
+
+        assertEquals(records.size(), 20);
+
+        for (int i = 0; i < 20; i++)
+        {
+            assertEquals(records.get(i).getGUID(), guidOf(i));
+            assertEquals(store.getRecord(guidOf(i)).getGUID(), guidOf(i));
+        }
+    }
+
+
+    /**
+     * Validate that queries filter on time, severity and component, and page through the results.  The
+     * store does not flush on its own during the test, so this also checks that records still in the write
+     * buffer are returned.
+     *
+     * @throws Exception problem with the store
+     */
+    @Test
+    public void testFindRecordsFiltering() throws Exception
+    {
+        store = openStore(1_000_000L);
+
+        for (int i = 0; i < 30; i++)
+        {
+            append(store, newRecord(i, (i % 3 == 0) ? "Error" : "Information", (i % 2 == 0) ? "ComponentA" : "ComponentB"));
+        }
+
+        List<OMRSAuditLogRecord> inPeriod = store.findRecords(baseTime + 10, baseTime + 19, entry -> true, 0, 0);
+
+        assertEquals(inPeriod.size(), 10);
+        assertEquals(inPeriod.get(0).getGUID(), guidOf(10));
+        assertEquals(inPeriod.get(9).getGUID(), guidOf(19));
+
+        List<OMRSAuditLogRecord> errors = store.findRecords(0L, Long.MAX_VALUE, entry -> "Error".equals(entry.getSeverity()), 0, 0);
+
+        assertEquals(errors.size(), 10);
+
+        for (OMRSAuditLogRecord logRecord : errors)
+        {
+            assertEquals(logRecord.getSeverity(), "Error");
+        }
+
+        List<OMRSAuditLogRecord> componentB = store.findRecords(0L, Long.MAX_VALUE, entry -> "ComponentB".equals(entry.getComponentName()), 0, 0);
+
+        assertEquals(componentB.size(), 15);
+
+        List<OMRSAuditLogRecord> page = store.findRecords(0L, Long.MAX_VALUE, entry -> true, 5, 4);
+
+        assertEquals(page.size(), 4);
+        assertEquals(page.get(0).getGUID(), guidOf(5));
+        assertEquals(page.get(3).getGUID(), guidOf(8));
+
+        List<OMRSAuditLogRecord> lastPage = store.findRecords(0L, Long.MAX_VALUE, entry -> true, 28, 4);
+
+        assertEquals(lastPage.size(), 2);
+        assertEquals(lastPage.get(1).getGUID(), guidOf(29));
+
+        assertTrue(store.findRecords(baseTime + 100, Long.MAX_VALUE, entry -> true, 0, 0).isEmpty());
+    }
+
+
+    /**
+     * Validate that record files written by earlier versions of the connector are copied into the segments
+     * and removed.
+     *
+     * @throws Exception problem with the store
+     */
+    @Test
+    public void testLegacyRecordMigration() throws Exception
+    {
+        for (int i = 4; i >= 0; i--)
+        {
+            OMRSAuditLogRecord logRecord = newRecord(i, "Information", "ComponentA");
+
+            FileUtils.writeStringToFile(new File(directory, "log-record-" + logRecord.getGUID()),
+                                        OMRSJSONSerializer.writeValueAsString(logRecord),
+                                        StandardCharsets.UTF_8);
+        }
+
+        FileUtils.writeStringToFile(new File(directory, "log-record-broken"), "{ not json", StandardCharsets.UTF_8);
+
+        store = openStore(1_000_000L);
+
+        List<OMRSAuditLogRecord> records = store.findRecords(0L, Long.MAX_VALUE, entry -> true, 0, 0);
+
+        assertEquals(records.size(), 5);
+
+        for (int i = 0; i < 5; i++)
+        {
+            assertEquals(records.get(i).getGUID(), guidOf(i));
+            assertEquals(records.get(i).getMessageText(), "Message " + i);
+        }
+
+        assertFalse(new File(directory, "log-record-" + guidOf(0)).exists());
+        assertTrue(new File(directory, "log-record-broken").exists());
+
+        /*
+         * The migrated records survive a restart and are not copied a second time.
+         */
+        store.close();
+        store = openStore(1_000_000L);
+
+        assertEquals(store.findRecords(0L, Long.MAX_VALUE, entry -> true, 0, 0).size(), 5);
+    }
+
+
+    /**
+     * Create and open a store in the test directory.
+     *
+     * @param maxSegmentSize size at which a new segment is started
+     * @return open store
+     * @throws Exception unable to open the store
+     */
+    private AuditLogSegmentStore openStore(long maxSegmentSize) throws Exception
+    {
+        AuditLogSegmentStore segmentStore = new AuditLogSegmentStore(directory, "test", maxSegmentSize, noAutoFlush, 0L, 0L);
+
+        segmentStore.open();
+
+        return segmentStore;
+    }
+
+
+    /**
+     * Add a record to the store in the format used by the connector.
+     *
+     * @param segmentStore store
+     * @param logRecord record
+     * @throws Exception unable to write the record
+     */
+    private void append(AuditLogSegmentStore segmentStore,
+                        OMRSAuditLogRecord   logRecord) throws Exception
+    {
+        segmentStore.append(logRecord, OMRSJSONSerializer.writeValueAsString(logRecord));
+    }
+
+
+    /**
+     * Return the unique identifier used for the record with the given number.
+     *
+     * @param recordNumber number of the record
+     * @return guid
+     */
+    private String guidOf(int recordNumber)
+    {
+        return UUID.nameUUIDFromBytes(("record" + recordNumber).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+
+    /**
+     * Build a record that is one millisecond newer than the record before it.
+     *
+     * @param recordNumber number of the record
+     * @param severity severity name
+     * @param componentName name of the originating component
+     * @return record
+     */
+    private OMRSAuditLogRecord newRecord(int    recordNumber,
+                                         String severity,
+                                         String componentName)
+    {
+        AuditLogReportingComponent component = new AuditLogReportingComponent();
+        component.setComponentName(componentName);
+
+        AuditLogRecord logRecord = new AuditLogRecord();
+
+        logRecord.setGUID(guidOf(recordNumber));
+        logRecord.setTimeStamp(new Date(baseTime + recordNumber));
+        logRecord.setSeverity(severity);
+        logRecord.setOriginatorComponent(component);
+        logRecord.setMessageId("TEST-" + recordNumber);
+        logRecord.setMessageText("Message " + recordNumber);
+
+        return new OMRSAuditLogRecord(logRecord);
+    }
+}
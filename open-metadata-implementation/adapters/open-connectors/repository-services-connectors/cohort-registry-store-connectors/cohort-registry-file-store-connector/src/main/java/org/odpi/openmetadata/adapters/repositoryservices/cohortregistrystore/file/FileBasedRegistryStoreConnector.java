@@ -2,7 +2,6 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.repositoryservices.cohortregistrystore.file;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.adapters.repositoryservices.cohortregistrystore.file.ffdc.FileBasedRegistryStoreConnectorAuditCode;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
@@ -13,6 +12,7 @@ import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties
 import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistrystore.OMRSCohortRegistryStoreConnectorBase;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistrystore.properties.MemberRegistration;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistrystore.properties.CohortMembership;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSJSONSerializer;
 
 import org.apache.commons.io.FileUtils;
 
@@ -401,8 +401,7 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
 
             String registryStoreFileContents = FileUtils.readFileToString(registryStoreFile, "UTF-8");
 
-            ObjectMapper objectMapper = new ObjectMapper();
-            newRegistryStoreProperties = objectMapper.readValue(registryStoreFileContents, CohortMembership.class);
+            newRegistryStoreProperties = OMRSJSONSerializer.readValue(registryStoreFileContents, CohortMembership.class);
         }
         catch (IOException   ioException)
         {
@@ -602,9 +601,7 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
             }
             else
             {
-                ObjectMapper objectMapper = new ObjectMapper();
-
-                String registryStoreFileContents = objectMapper.writeValueAsString(newRegistryStoreProperties);
+                String registryStoreFileContents = OMRSJSONSerializer.writeValueAsString(newRegistryStoreProperties);
 
                 FileUtils.writeStringToFile(registryStoreFile, registryStoreFileContents, (String)null,false);
             }
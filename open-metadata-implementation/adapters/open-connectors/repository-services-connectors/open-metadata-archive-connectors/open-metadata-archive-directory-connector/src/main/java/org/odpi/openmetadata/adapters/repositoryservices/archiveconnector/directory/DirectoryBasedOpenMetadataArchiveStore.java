@@ -2,7 +2,6 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.directory;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.io.FileUtils;
 import org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.directory.ffdc.DirectoryBasedOpenMetadataArchiveStoreConnectorAuditCode;
 import org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.directory.ffdc.DirectoryBasedOpenMetadataArchiveStoreConnectorErrorCode;
@@ -20,6 +19,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.RelationshipDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSJSONSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,8 +57,6 @@ public class DirectoryBasedOpenMetadataArchiveStore
     private AuditLog auditLog;
     private boolean  keepVersionHistory;
 
-    private ObjectMapper objectMapper = new ObjectMapper();
-
 
     /**
      * Create a store for managing the contents of the files in the directory based open metadata archive.
@@ -163,7 +161,7 @@ public class DirectoryBasedOpenMetadataArchiveStore
         {
             log.debug("fileId: " + archiveStoreName + archivePropertiesFileName);
 
-            String archiveStoreFileContents = objectMapper.writeValueAsString(properties);
+            String archiveStoreFileContents = OMRSJSONSerializer.writeValueAsString(properties);
 
             FileUtils.writeStringToFile(propertiesFile, archiveStoreFileContents, (String)null, false);
         }
@@ -195,7 +193,7 @@ public class DirectoryBasedOpenMetadataArchiveStore
 
             String archiveStoreFileContents = FileUtils.readFileToString(elementFile, "UTF-8");
 
-            return objectMapper.readValue(archiveStoreFileContents, OpenMetadataArchiveProperties.class);
+            return OMRSJSONSerializer.readValue(archiveStoreFileContents, OpenMetadataArchiveProperties.class);
 
         }
         catch (IOException ioException)
@@ -240,7 +238,7 @@ public class DirectoryBasedOpenMetadataArchiveStore
         {
             log.debug("fileId: " + fileName);
 
-            String archiveStoreFileContents = objectMapper.writeValueAsString(element);
+            String archiveStoreFileContents = OMRSJSONSerializer.writeValueAsString(element);
 
             FileUtils.writeStringToFile(elementFile, archiveStoreFileContents, (String)null, false);
 
@@ -288,7 +286,7 @@ public class DirectoryBasedOpenMetadataArchiveStore
 
             String archiveStoreFileContents = FileUtils.readFileToString(elementFile, "UTF-8");
 
-            return objectMapper.readValue(archiveStoreFileContents, RepositoryElementHeader.class);
+            return OMRSJSONSerializer.readValue(archiveStoreFileContents, RepositoryElementHeader.class);
 
         }
         catch (IOException ioException)
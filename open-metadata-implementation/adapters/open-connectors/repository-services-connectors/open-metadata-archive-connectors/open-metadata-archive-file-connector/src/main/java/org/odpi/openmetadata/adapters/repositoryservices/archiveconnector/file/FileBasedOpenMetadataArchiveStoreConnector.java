@@ -2,19 +2,33 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file.ffdc.FileBasedOpenMetadataArchiveStoreConnectorAuditCode;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.apache.commons.io.FileUtils;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStreamHandler;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSJSONSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArchiveStoreConnector
 {
@@ -23,10 +37,26 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
      */
     private static final String defaultFilename = "open.metadata.archive";
 
+    /*
+     * The number of instances passed to the local repository in each batch when the archive is streamed.
+     */
+    private static final int defaultInstanceBatchSize = 1000;
+
+    /*
+     * Names of the fields in the archive file that are navigated when the archive is streamed.
+     */
+    private static final String archivePropertiesField    = "archiveProperties";
+    private static final String archiveTypeStoreField     = "archiveTypeStore";
+    private static final String archiveInstanceStoreField = "archiveInstanceStore";
+    private static final String entitiesField             = "entities";
+    private static final String relationshipsField        = "relationships";
+    private static final String classificationsField      = "classifications";
+
     /*
      * Variables used in writing to the file.
      */
-    private String archiveStoreName = null;
+    private String archiveStoreName  = null;
+    private int    instanceBatchSize = defaultInstanceBatchSize;
 
     /*
      * Variables used for logging and debug.
@@ -64,6 +94,14 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
         {
             archiveStoreName = defaultFilename;
         }
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if ((configurationProperties != null) &&
+            (configurationProperties.get(FileBasedOpenMetadataArchiveStoreProvider.instanceBatchSizeProperty) instanceof Number))
+        {
+            instanceBatchSize = Math.max(1, ((Number)configurationProperties.get(FileBasedOpenMetadataArchiveStoreProvider.instanceBatchSizeProperty)).intValue());
+        }
     }
 
 
@@ -90,11 +128,7 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
                                     FileBasedOpenMetadataArchiveStoreConnectorAuditCode.OPENING_FILE.getMessageDefinition(archiveStoreName));
             }
 
-            String configStoreFileContents = FileUtils.readFileToString(archiveStoreFile, "UTF-8");
-
-            ObjectMapper objectMapper = new ObjectMapper();
-
-            newOpenMetadataArchive = objectMapper.readValue(configStoreFileContents, OpenMetadataArchive.class);
+            newOpenMetadataArchive = OMRSJSONSerializer.getReader(OpenMetadataArchive.class).readValue(archiveStoreFile);
         }
         catch (IOException ioException)
         {
@@ -122,6 +156,192 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
     }
 
 
+    /**
+     * Pass the contents of the archive to the handler without reading the whole archive into memory.
+     * The archive file is read once for the header and type store, and then once for each section of the
+     * instance store.  This means the entities are always passed to the handler before the relationships and
+     * classifications, whatever order they are stored in the file.  Each section is passed to the handler in
+     * batches of instanceBatchSize instances.  If the file can not be read, or ends part way through, the handler's
+     * processArchiveError method is called.
+     *
+     * @param streamHandler receiver of the archive's contents
+     * @return false if the archive file could not be read in full
+     */
+    @Override
+    public boolean streamArchiveContents(OpenMetadataArchiveStreamHandler streamHandler)
+    {
+        File archiveStoreFile = new File(archiveStoreName);
+
+        try
+        {
+            log.debug("Streaming open metadata archive from file");
+
+            if (auditLog != null)
+            {
+                final String actionDescription = "Opening open metadata archive";
+
+                auditLog.logMessage(actionDescription,
+                                    FileBasedOpenMetadataArchiveStoreConnectorAuditCode.OPENING_FILE.getMessageDefinition(archiveStoreName));
+            }
+
+            OpenMetadataArchiveProperties archiveProperties = null;
+            OpenMetadataArchiveTypeStore  archiveTypeStore  = null;
+
+            try (JsonParser parser = this.openArchiveFile(archiveStoreFile))
+            {
+                while (parser.nextToken() == JsonToken.FIELD_NAME)
+                {
+                    String fieldName = parser.getCurrentName();
+
+                    parser.nextToken();
+
+                    if (archivePropertiesField.equals(fieldName))
+                    {
+                        archiveProperties = OMRSJSONSerializer.getReader(OpenMetadataArchiveProperties.class).readValue(parser);
+                    }
+                    else if (archiveTypeStoreField.equals(fieldName))
+                    {
+                        archiveTypeStore = OMRSJSONSerializer.getReader(OpenMetadataArchiveTypeStore.class).readValue(parser);
+                    }
+                    else
+                    {
+                        parser.skipChildren();
+                    }
+                }
+            }
+
+            streamHandler.processArchiveHeader(archiveProperties, archiveTypeStore);
+
+            this.streamInstanceSection(archiveStoreFile, entitiesField, EntityDetail.class, streamHandler::processEntities);
+            this.streamInstanceSection(archiveStoreFile, relationshipsField, Relationship.class, streamHandler::processRelationships);
+            this.streamInstanceSection(archiveStoreFile, classificationsField, ClassificationEntityExtension.class, streamHandler::processClassifications);
+        }
+        catch (IOException ioException)
+        {
+            if (auditLog != null)
+            {
+                final String actionDescription = "Unable to open file";
+
+                auditLog.logException(actionDescription,
+                                      FileBasedOpenMetadataArchiveStoreConnectorAuditCode.BAD_FILE.getMessageDefinition(archiveStoreName,
+                                                                                                                        ioException.getClass().getName(),
+                                                                                                                        ioException.getMessage()),
+                                      ioException);
+            }
+
+            log.debug("Unable to stream archive", ioException);
+
+            /*
+             * The handler may already hold part of the archive, so it is told that the rest is missing.
+             */
+            streamHandler.processArchiveError(ioException);
+
+            return false;
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Open a parser for the archive file positioned at the start of the top level object.
+     *
+     * @param archiveStoreFile archive file
+     * @return parser
+     * @throws IOException the file can not be read or does not contain a JSON object
+     */
+    private JsonParser openArchiveFile(File archiveStoreFile) throws IOException
+    {
+        JsonParser parser = OMRSJSONSerializer.createParser(archiveStoreFile);
+
+        if (parser.nextToken() != JsonToken.START_OBJECT)
+        {
+            parser.close();
+
+            throw new JsonParseException(parser, "Open metadata archive " + archiveStoreName + " does not contain a JSON object");
+        }
+
+        return parser;
+    }
+
+
+    /**
+     * Read one section of the instance store from the archive file, passing its instances to the batch processor.
+     *
+     * @param archiveStoreFile archive file
+     * @param sectionName name of the field in the instance store that holds the list of instances
+     * @param instanceClass class of the instances in the section
+     * @param batchProcessor handler method that receives each batch
+     * @param <T> type of the instances in the section
+     * @throws IOException the file can not be read or is not a valid archive
+     */
+    private <T> void streamInstanceSection(File              archiveStoreFile,
+                                           String            sectionName,
+                                           Class<T>          instanceClass,
+                                           Consumer<List<T>> batchProcessor) throws IOException
+    {
+        ObjectReader instanceReader = OMRSJSONSerializer.getReader(instanceClass);
+
+        try (JsonParser parser = this.openArchiveFile(archiveStoreFile))
+        {
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String    fieldName  = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+
+                if ((archiveInstanceStoreField.equals(fieldName)) && (valueToken == JsonToken.START_OBJECT))
+                {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME)
+                    {
+                        String    sectionField = parser.getCurrentName();
+                        JsonToken sectionToken = parser.nextToken();
+
+                        if ((sectionName.equals(sectionField)) && (sectionToken == JsonToken.START_ARRAY))
+                        {
+                            List<T>   batch = new ArrayList<>();
+                            JsonToken elementToken;
+
+                            while ((elementToken = parser.nextToken()) != JsonToken.END_ARRAY)
+                            {
+                                if (elementToken == null)
+                                {
+                                    throw new JsonParseException(parser, "Open metadata archive " + archiveStoreName + " ends within " + sectionName);
+                                }
+
+                                T instance = instanceReader.readValue(parser);
+
+                                if (instance != null)
+                                {
+                                    batch.add(instance);
+                                }
+
+                                if (batch.size() >= instanceBatchSize)
+                                {
+                                    batchProcessor.accept(batch);
+                                    batch = new ArrayList<>();
+                                }
+                            }
+
+                            if (! batch.isEmpty())
+                            {
+                                batchProcessor.accept(batch);
+                            }
+
+                            return;
+                        }
+
+                        parser.skipChildren();
+                    }
+
+                    return;
+                }
+
+                parser.skipChildren();
+            }
+        }
+    }
+
+
     /**
      * Set new contents into the archive.  This overrides any content previously stored.
      *
@@ -142,9 +362,7 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
             }
             else
             {
-                ObjectMapper objectMapper = new ObjectMapper();
-
-                String archiveStoreFileContents = objectMapper.writeValueAsString(archiveContents);
+                String archiveStoreFileContents = OMRSJSONSerializer.writeValueAsString(archiveContents);
 
                 FileUtils.writeStringToFile(archiveStoreFile, archiveStoreFileContents, (String)null,false);
             }
@@ -5,8 +5,12 @@ package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLogReportingComponent;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreProviderBase;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * FileBasedOpenMetadataArchiveStoreProvider is the OCF connector provider for the file based server configuration store.
@@ -36,6 +40,12 @@ public class FileBasedOpenMetadataArchiveStoreProvider extends OpenMetadataArchi
      */
     private static final Class<?> connectorClass       = FileBasedOpenMetadataArchiveStoreConnector.class;
 
+    /*
+     * Configuration property that sets the number of instances read from the archive file and passed to the
+     * local repository in each batch.
+     */
+    public static final String  instanceBatchSizeProperty = "instanceBatchSize";
+
     /**
      * Constructor to initialize the ConnectorProviderBase class.
      */
@@ -59,6 +69,11 @@ public class FileBasedOpenMetadataArchiveStoreProvider extends OpenMetadataArchi
         connectorType.setDescription(connectorDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(instanceBatchSizeProperty);
+        recognizedConfigurationProperties.add(OpenMetadataArchiveStoreConnector.INSTANCE_LOAD_WORKERS_PROPERTY);
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
 
         /*
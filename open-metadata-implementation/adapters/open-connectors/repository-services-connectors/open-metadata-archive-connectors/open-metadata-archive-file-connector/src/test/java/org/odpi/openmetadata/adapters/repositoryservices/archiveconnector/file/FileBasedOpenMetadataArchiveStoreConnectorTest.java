@@ -0,0 +1,383 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStreamHandler;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSJSONSerializer;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * FileBasedOpenMetadataArchiveStoreConnectorTest verifies that an archive file is streamed to the handler in
+ * the documented order and batch size, and that a file that can not be read in full is reported as an error.
+ */
+public class FileBasedOpenMetadataArchiveStoreConnectorTest
+{
+    private File directory = null;
+
+
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        directory = Files.createTempDirectory("archive-file-connector").toFile();
+    }
+
+
+    @AfterMethod
+    public void tearDown() throws Exception
+    {
+        FileUtils.deleteDirectory(directory);
+    }
+
+
+    /**
+     * Validate that the header is passed first and the entities before the relationships and classifications,
+     * even when the file holds them in the opposite order.
+     *
+     * @throws Exception problem with the test file
+     */
+    @Test
+    public void testSectionOrder() throws Exception
+    {
+        String archiveJSON = "{\"archiveInstanceStore\":{" +
+                                     "\"classifications\":" + toJSONArray(newClassifications(2)) + "," +
+                                     "\"relationships\":" + toJSONArray(newRelationships(2)) + "," +
+                                     "\"entities\":" + toJSONArray(newEntities(3)) + "}," +
+                             "\"archiveProperties\":" + OMRSJSONSerializer.writeValueAsString(newArchiveProperties()) + "}";
+
+        RecordingStreamHandler streamHandler = new RecordingStreamHandler();
+
+        assertTrue(getConnector(writeArchive(archiveJSON), 0).streamArchiveContents(streamHandler));
+
+        assertEquals(streamHandler.events, Arrays.asList("header", "entities:3", "relationships:2", "classifications:2"));
+        assertEquals(streamHandler.archiveName, "TestArchive");
+        assertNull(streamHandler.error);
+    }
+
+
+    /**
+     * Validate that each section is passed to the handler in batches of instanceBatchSize instances.
+     *
+     * @throws Exception problem with the test file
+     */
+    @Test
+    public void testBatching() throws Exception
+    {
+        String archiveJSON = "{\"archiveProperties\":" + OMRSJSONSerializer.writeValueAsString(newArchiveProperties()) + "," +
+                             "\"archiveInstanceStore\":{" +
+                                     "\"entities\":" + toJSONArray(newEntities(5)) + "," +
+                                     "\"relationships\":" + toJSONArray(newRelationships(2)) + "}}";
+
+        RecordingStreamHandler streamHandler = new RecordingStreamHandler();
+
+        assertTrue(getConnector(writeArchive(archiveJSON), 2).streamArchiveContents(streamHandler));
+
+        assertEquals(streamHandler.events, Arrays.asList("header", "entities:2", "entities:2", "entities:1", "relationships:2"));
+        assertEquals(streamHandler.entityGUIDs, Arrays.asList("entity0", "entity1", "entity2", "entity3", "entity4"));
+    }
+
+
+    /**
+     * Validate that a file that ends part way through is reported to the handler and is not reported as complete.
+     *
+     * @throws Exception problem with the test file
+     */
+    @Test
+    public void testTruncatedFile() throws Exception
+    {
+        String archiveJSON = "{\"archiveProperties\":" + OMRSJSONSerializer.writeValueAsString(newArchiveProperties()) + "," +
+                             "\"archiveInstanceStore\":{" +
+                                     "\"entities\":" + toJSONArray(newEntities(5)) + "}}";
+
+        RecordingStreamHandler streamHandler = new RecordingStreamHandler();
+
+        assertFalse(getConnector(writeArchive(archiveJSON.substring(0, archiveJSON.length() - 40)), 2).streamArchiveContents(streamHandler));
+
+        assertNotNull(streamHandler.error);
+        assertEquals(streamHandler.events.get(streamHandler.events.size() - 1), "error");
+    }
+
+
+    /**
+     * Validate that a section that can not be read after the header has been passed to the handler is reported
+     * to the handler, and that the sections before it have been delivered.
+     *
+     * @throws Exception problem with the test file
+     */
+    @Test
+    public void testBadSectionAfterHeader() throws Exception
+    {
+        String archiveJSON = "{\"archiveProperties\":" + OMRSJSONSerializer.writeValueAsString(newArchiveProperties()) + "," +
+                             "\"archiveInstanceStore\":{" +
+                                     "\"entities\":" + toJSONArray(newEntities(2)) + "," +
+                                     "\"classifications\":[\"notAClassification\"]}}";
+
+        RecordingStreamHandler streamHandler = new RecordingStreamHandler();
+
+        assertFalse(getConnector(writeArchive(archiveJSON), 10).streamArchiveContents(streamHandler));
+
+        assertEquals(streamHandler.events, Arrays.asList("header", "entities:2", "error"));
+    }
+
+
+    /**
+     * Validate that a missing file is reported to the handler.
+     */
+    @Test
+    public void testMissingFile()
+    {
+        RecordingStreamHandler streamHandler = new RecordingStreamHandler();
+
+        assertFalse(getConnector(new File(directory, "missing.json"), 0).streamArchiveContents(streamHandler));
+
+        assertEquals(streamHandler.events, Arrays.asList("error"));
+    }
+
+
+    /**
+     * Convert a list of instances to a JSON array.  Each instance is written on its own so that it carries the
+     * class name needed to read it back, as it does in an archive written from an OpenMetadataArchive object.
+     *
+     * @param instances list of instances
+     * @return JSON array
+     * @throws Exception unable to convert an instance
+     */
+    private String toJSONArray(List<?> instances) throws Exception
+    {
+        List<String> elements = new ArrayList<>();
+
+        for (Object instance : instances)
+        {
+            elements.add(OMRSJSONSerializer.writeValueAsString(instance));
+        }
+
+        return "[" + String.join(",", elements) + "]";
+    }
+
+
+    /**
+     * Write the archive file.
+     *
+     * @param archiveJSON contents of the file
+     * @return file
+     * @throws Exception unable to write the file
+     */
+    private File writeArchive(String archiveJSON) throws Exception
+    {
+        File archiveFile = new File(directory, "archive.json");
+
+        FileUtils.writeStringToFile(archiveFile, archiveJSON, StandardCharsets.UTF_8);
+
+        return archiveFile;
+    }
+
+
+    /**
+     * Create a connector for an archive file.
+     *
+     * @param archiveFile file to read
+     * @param instanceBatchSize batch size - 0 means use the default
+     * @return initialized connector
+     */
+    private FileBasedOpenMetadataArchiveStoreConnector getConnector(File archiveFile,
+                                                                    int  instanceBatchSize)
+    {
+        Endpoint endpoint = new Endpoint();
+        endpoint.setAddress(archiveFile.getAbsolutePath());
+
+        Connection connection = new Connection();
+        connection.setEndpoint(endpoint);
+
+        if (instanceBatchSize > 0)
+        {
+            Map<String, Object> configurationProperties = new HashMap<>();
+
+            configurationProperties.put(FileBasedOpenMetadataArchiveStoreProvider.instanceBatchSizeProperty, instanceBatchSize);
+            connection.setConfigurationProperties(configurationProperties);
+        }
+
+        FileBasedOpenMetadataArchiveStoreConnector connector = new FileBasedOpenMetadataArchiveStoreConnector();
+
+        connector.initialize("testConnector", new ConnectionProperties(connection));
+
+        return connector;
+    }
+
+
+    /**
+     * Build the archive header.
+     *
+     * @return archive properties
+     */
+    private OpenMetadataArchiveProperties newArchiveProperties()
+    {
+        OpenMetadataArchiveProperties archiveProperties = new OpenMetadataArchiveProperties();
+
+        archiveProperties.setArchiveGUID("archiveGUID");
+        archiveProperties.setArchiveName("TestArchive");
+
+        return archiveProperties;
+    }
+
+
+    /**
+     * Build a list of entities.
+     *
+     * @param count number of entities
+     * @return entities
+     */
+    private List<EntityDetail> newEntities(int count)
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (int i = 0; i < count; i++)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID("entity" + i);
+            entity.setVersion(1L);
+            entities.add(entity);
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Build a list of relationships.
+     *
+     * @param count number of relationships
+     * @return relationships
+     */
+    private List<Relationship> newRelationships(int count)
+    {
+        List<Relationship> relationships = new ArrayList<>();
+
+        for (int i = 0; i < count; i++)
+        {
+            Relationship relationship = new Relationship();
+
+            relationship.setGUID("relationship" + i);
+            relationship.setVersion(1L);
+            relationships.add(relationship);
+        }
+
+        return relationships;
+    }
+
+
+    /**
+     * Build a list of classifications, each attached to a different entity.
+     *
+     * @param count number of classifications
+     * @return classifications
+     */
+    private List<ClassificationEntityExtension> newClassifications(int count)
+    {
+        List<ClassificationEntityExtension> classifications = new ArrayList<>();
+
+        for (int i = 0; i < count; i++)
+        {
+            EntityProxy entityProxy = new EntityProxy();
+            entityProxy.setGUID("entity" + i);
+
+            Classification classification = new Classification();
+            classification.setName("Classification" + i);
+            classification.setVersion(1L);
+
+            ClassificationEntityExtension classificationEntityExtension = new ClassificationEntityExtension();
+
+            classificationEntityExtension.setEntityToClassify(entityProxy);
+            classificationEntityExtension.setClassification(classification);
+            classifications.add(classificationEntityExtension);
+        }
+
+        return classifications;
+    }
+
+
+    /**
+     * RecordingStreamHandler records the calls from the connector.
+     */
+    private static class RecordingStreamHandler implements OpenMetadataArchiveStreamHandler
+    {
+        private final List<String> events      = new ArrayList<>();
+        private final List<String> entityGUIDs = new ArrayList<>();
+        private String             archiveName = null;
+        private Exception          error       = null;
+
+
+        @Override
+        public void processArchiveHeader(OpenMetadataArchiveProperties archiveProperties,
+                                         OpenMetadataArchiveTypeStore  archiveTypeStore)
+        {
+            events.add("header");
+
+            if (archiveProperties != null)
+            {
+                archiveName = archiveProperties.getArchiveName();
+            }
+        }
+
+
+        @Override
+        public void processEntities(List<EntityDetail> entities)
+        {
+            events.add("entities:" + entities.size());
+
+            for (EntityDetail entity : entities)
+            {
+                entityGUIDs.add(entity.getGUID());
+            }
+        }
+
+
+        @Override
+        public void processRelationships(List<Relationship> relationships)
+        {
+            events.add("relationships:" + relationships.size());
+        }
+
+
+        @Override
+        public void processClassifications(List<ClassificationEntityExtension> classifications)
+        {
+            events.add("classifications:" + classifications.size());
+        }
+
+
+        @Override
+        public void processArchiveError(Exception error)
+        {
+            events.add("error");
+            this.error = error;
+        }
+    }
+}
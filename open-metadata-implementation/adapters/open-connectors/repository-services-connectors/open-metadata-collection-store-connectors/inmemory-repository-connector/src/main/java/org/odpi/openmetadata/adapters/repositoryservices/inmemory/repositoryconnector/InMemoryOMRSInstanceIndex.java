@@ -0,0 +1,467 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+
+import java.util.*;
+
+/**
+ * InMemoryOMRSInstanceIndex maintains the secondary indexes over the instances in one of the stores of the
+ * InMemoryOMRSMetadataStore.  Each index maps a key to the set of unique identifiers (guids) of the instances
+ * that have that key.  The keys are:
+ * <ul>
+ *     <li>the name of the instance's type and the names of all of its supertypes,</li>
+ *     <li>the names of the classifications attached to an entity,</li>
+ *     <li>the unique identifiers of the entities at either end of a relationship, and</li>
+ *     <li>the exact value of selected string properties such as qualifiedName.</li>
+ * </ul>
+ * The indexes are used to plan the search for candidate instances.  The candidates are always verified against
+ * the full search criteria so an index may return more guids than match, but never fewer.
+ * This class is not thread-safe.  Its owner is responsible for serializing access to it.
+ */
+class InMemoryOMRSInstanceIndex
+{
+    /**
+     * The string properties that are indexed by default.
+     */
+    static final List<String> defaultIndexedPropertyNames = Collections.singletonList("qualifiedName");
+
+    private final Set<String>                            indexedPropertyNames;
+    private final Map<String, Set<String>>               typeIndex           = new HashMap<>();
+    private final Map<String, Set<String>>               classificationIndex = new HashMap<>();
+    private final Map<String, Set<String>>               relatedEntityIndex  = new HashMap<>();
+    private final Map<String, Map<String, Set<String>>>  propertyIndex       = new HashMap<>();
+    private final Map<String, Set<String>>               unindexedValues     = new HashMap<>();
+
+
+    /**
+     * Constructor takes the names of the string properties to index.
+     *
+     * @param indexedPropertyNames property names (null means use the default list)
+     */
+    InMemoryOMRSInstanceIndex(List<String> indexedPropertyNames)
+    {
+        if (indexedPropertyNames == null)
+        {
+            this.indexedPropertyNames = new HashSet<>(defaultIndexedPropertyNames);
+        }
+        else
+        {
+            this.indexedPropertyNames = new HashSet<>(indexedPropertyNames);
+        }
+    }
+
+
+    /**
+     * Update the indexes to reflect the replacement of an instance.  Either parameter may be null to indicate
+     * that the instance is new or has been removed.
+     *
+     * @param oldInstance version of the instance being replaced (or null)
+     * @param newInstance new version of the instance (or null)
+     */
+    void updateInstance(InstanceHeader oldInstance,
+                        InstanceHeader newInstance)
+    {
+        if (oldInstance != null)
+        {
+            this.removeInstance(oldInstance);
+        }
+
+        if (newInstance != null)
+        {
+            this.addInstance(newInstance);
+        }
+    }
+
+
+    /**
+     * Add the keys of an instance to the indexes.
+     *
+     * @param instance instance to index
+     */
+    private void addInstance(InstanceHeader instance)
+    {
+        String guid = instance.getGUID();
+
+        if (guid != null)
+        {
+            for (String typeName : this.getTypeNames(instance))
+            {
+                addKey(typeIndex, typeName, guid);
+            }
+
+            for (String classificationName : this.getClassificationNames(instance))
+            {
+                addKey(classificationIndex, classificationName, guid);
+            }
+
+            for (String entityGUID : this.getRelatedEntityGUIDs(instance))
+            {
+                addKey(relatedEntityIndex, entityGUID, guid);
+            }
+
+            InstanceProperties properties = this.getProperties(instance);
+
+            for (String propertyName : indexedPropertyNames)
+            {
+                InstancePropertyValue propertyValue = (properties == null) ? null : properties.getPropertyValue(propertyName);
+
+                if (propertyValue != null)
+                {
+                    String indexValue = this.getIndexValue(propertyValue);
+
+                    if (indexValue != null)
+                    {
+                        addKey(propertyIndex.computeIfAbsent(propertyName, key -> new HashMap<>()), indexValue, guid);
+                    }
+                    else
+                    {
+                        addKey(unindexedValues, propertyName, guid);
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Remove the keys of an instance from the indexes.
+     *
+     * @param instance instance to remove
+     */
+    private void removeInstance(InstanceHeader instance)
+    {
+        String guid = instance.getGUID();
+
+        if (guid != null)
+        {
+            for (String typeName : this.getTypeNames(instance))
+            {
+                removeKey(typeIndex, typeName, guid);
+            }
+
+            for (String classificationName : this.getClassificationNames(instance))
+            {
+                removeKey(classificationIndex, classificationName, guid);
+            }
+
+            for (String entityGUID : this.getRelatedEntityGUIDs(instance))
+            {
+                removeKey(relatedEntityIndex, entityGUID, guid);
+            }
+
+            InstanceProperties properties = this.getProperties(instance);
+
+            for (String propertyName : indexedPropertyNames)
+            {
+                InstancePropertyValue propertyValue = (properties == null) ? null : properties.getPropertyValue(propertyName);
+
+                if (propertyValue != null)
+                {
+                    String indexValue = this.getIndexValue(propertyValue);
+
+                    if (indexValue != null)
+                    {
+                        Map<String, Set<String>> valueIndex = propertyIndex.get(propertyName);
+
+                        if (valueIndex != null)
+                        {
+                            removeKey(valueIndex, indexValue, guid);
+                        }
+                    }
+                    else
+                    {
+                        removeKey(unindexedValues, propertyName, guid);
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the guids of the instances of the named type, including instances of its subtypes.
+     *
+     * @param typeName name of type
+     * @return set of guids (empty if none)
+     */
+    Set<String> getGUIDsForType(String typeName)
+    {
+        return copyOf(typeIndex.get(typeName));
+    }
+
+
+    /**
+     * Return the guids of the entities that have the named classification attached.
+     *
+     * @param classificationName name of classification
+     * @return set of guids (empty if none)
+     */
+    Set<String> getGUIDsForClassification(String classificationName)
+    {
+        return copyOf(classificationIndex.get(classificationName));
+    }
+
+
+    /**
+     * Return the guids of the relationships that are connected to the requested entity.
+     *
+     * @param entityGUID unique identifier of the entity
+     * @return set of guids (empty if none)
+     */
+    Set<String> getGUIDsForRelatedEntity(String entityGUID)
+    {
+        return copyOf(relatedEntityIndex.get(entityGUID));
+    }
+
+
+    /**
+     * Return whether the named property is indexed.
+     *
+     * @param propertyName name of the property
+     * @return boolean
+     */
+    boolean isIndexedProperty(String propertyName)
+    {
+        return indexedPropertyNames.contains(propertyName);
+    }
+
+
+    /**
+     * Return the guids of the instances that have the exact value for the named property.  This includes
+     * the instances that have a value for this property that could not be indexed.
+     *
+     * @param propertyName name of an indexed property
+     * @param propertyValue exact value of the property
+     * @return set of guids (empty if none) or null if the property is not indexed
+     */
+    Set<String> getGUIDsForPropertyValue(String propertyName,
+                                         String propertyValue)
+    {
+        if (! this.isIndexedProperty(propertyName))
+        {
+            return null;
+        }
+
+        Set<String>              results    = new HashSet<>();
+        Map<String, Set<String>> valueIndex = propertyIndex.get(propertyName);
+
+        if (valueIndex != null)
+        {
+            Set<String> guids = valueIndex.get(propertyValue);
+
+            if (guids != null)
+            {
+                results.addAll(guids);
+            }
+        }
+
+        Set<String> unindexedGUIDs = unindexedValues.get(propertyName);
+
+        if (unindexedGUIDs != null)
+        {
+            results.addAll(unindexedGUIDs);
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return the names of the type and supertypes of an instance.
+     *
+     * @param instance instance
+     * @return list of type names
+     */
+    private List<String> getTypeNames(InstanceHeader instance)
+    {
+        List<String> typeNames = new ArrayList<>();
+        InstanceType type      = instance.getType();
+
+        if (type != null)
+        {
+            if (type.getTypeDefName() != null)
+            {
+                typeNames.add(type.getTypeDefName());
+            }
+
+            List<TypeDefLink> superTypes = type.getTypeDefSuperTypes();
+
+            if (superTypes != null)
+            {
+                for (TypeDefLink superType : superTypes)
+                {
+                    if ((superType != null) && (superType.getName() != null))
+                    {
+                        typeNames.add(superType.getName());
+                    }
+                }
+            }
+        }
+
+        return typeNames;
+    }
+
+
+    /**
+     * Return the names of the classifications attached to an entity.
+     *
+     * @param instance instance
+     * @return list of classification names (empty for relationships)
+     */
+    private List<String> getClassificationNames(InstanceHeader instance)
+    {
+        List<String> classificationNames = new ArrayList<>();
+
+        if (instance instanceof EntitySummary)
+        {
+            List<Classification> classifications = ((EntitySummary) instance).getClassifications();
+
+            if (classifications != null)
+            {
+                for (Classification classification : classifications)
+                {
+                    if ((classification != null) && (classification.getName() != null))
+                    {
+                        classificationNames.add(classification.getName());
+                    }
+                }
+            }
+        }
+
+        return classificationNames;
+    }
+
+
+    /**
+     * Return the unique identifiers of the entities at each end of a relationship.
+     *
+     * @param instance instance
+     * @return list of entity guids (empty for entities)
+     */
+    private List<String> getRelatedEntityGUIDs(InstanceHeader instance)
+    {
+        List<String> entityGUIDs = new ArrayList<>();
+
+        if (instance instanceof Relationship)
+        {
+            Relationship relationship = (Relationship) instance;
+
+            if ((relationship.getEntityOneProxy() != null) && (relationship.getEntityOneProxy().getGUID() != null))
+            {
+                entityGUIDs.add(relationship.getEntityOneProxy().getGUID());
+            }
+
+            if ((relationship.getEntityTwoProxy() != null) && (relationship.getEntityTwoProxy().getGUID() != null))
+            {
+                entityGUIDs.add(relationship.getEntityTwoProxy().getGUID());
+            }
+        }
+
+        return entityGUIDs;
+    }
+
+
+    /**
+     * Return the properties of an entity or relationship.
+     *
+     * @param instance instance
+     * @return properties or null
+     */
+    private InstanceProperties getProperties(InstanceHeader instance)
+    {
+        if (instance instanceof EntityDetail)
+        {
+            return ((EntityDetail) instance).getProperties();
+        }
+        else if (instance instanceof Relationship)
+        {
+            return ((Relationship) instance).getProperties();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the value to index for a property.  Only string primitives are indexed.
+     *
+     * @param propertyValue value of the property
+     * @return string value or null if it can not be indexed
+     */
+    private String getIndexValue(InstancePropertyValue propertyValue)
+    {
+        if (propertyValue instanceof PrimitivePropertyValue)
+        {
+            PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue) propertyValue;
+
+            if ((primitivePropertyValue.getPrimitiveDefCategory() == PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING) &&
+                (primitivePropertyValue.getPrimitiveValue() instanceof String))
+            {
+                return (String) primitivePropertyValue.getPrimitiveValue();
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Add a guid to the set for a key.
+     *
+     * @param index index to update
+     * @param key key value
+     * @param guid unique identifier of instance
+     */
+    private static void addKey(Map<String, Set<String>> index,
+                               String                   key,
+                               String                   guid)
+    {
+        index.computeIfAbsent(key, newKey -> new HashSet<>()).add(guid);
+    }
+
+
+    /**
+     * Remove a guid from the set for a key.  The key is removed when its set is empty.
+     *
+     * @param index index to update
+     * @param key key value
+     * @param guid unique identifier of instance
+     */
+    private static void removeKey(Map<String, Set<String>> index,
+                                  String                   key,
+                                  String                   guid)
+    {
+        Set<String> guids = index.get(key);
+
+        if (guids != null)
+        {
+            guids.remove(guid);
+
+            if (guids.isEmpty())
+            {
+                index.remove(key);
+            }
+        }
+    }
+
+
+    /**
+     * Return a copy of a set of guids so it can be used outside of the owner's lock.
+     *
+     * @param guids set from the index
+     * @return copy (empty if null)
+     */
+    private static Set<String> copyOf(Set<String> guids)
+    {
+        if (guids == null)
+        {
+            return new HashSet<>();
+        }
+
+        return new HashSet<>(guids);
+    }
+}
@@ -6,6 +6,9 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.ClassificationCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyComparisonOperator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyCondition;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
@@ -50,6 +53,14 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
          * Set up the repository name in the repository store
          */
         this.repositoryStore.setRepositoryName(repositoryName);
+
+        /*
+         * Set up the string properties that are indexed for exact match searches
+         */
+        if (parentConnector != null)
+        {
+            this.repositoryStore.setIndexedPropertyNames(parentConnector.getIndexedPropertyNames());
+        }
     }
 
 
@@ -305,9 +316,14 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
 
         List<Relationship> entityRelationships = new ArrayList<>();
 
-        Map<String, Relationship>   relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        Set<String> candidateGUIDs = null;
+
+        if (asOfTime == null)
+        {
+            candidateGUIDs = repositoryStore.getRelationshipGUIDsForEntity(entityGUID);
+        }
 
-        for (Relationship  storedRelationship : relationshipStore.values())
+        for (Relationship  storedRelationship : this.getCandidateRelationships(candidateGUIDs, asOfTime))
         {
             if (storedRelationship != null)
             {
@@ -416,13 +432,20 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The secondary indexes are used to narrow down the entities to test.  Each candidate is
+         * then verified against the full search criteria.
          */
         List<EntityDetail>         foundEntities = new ArrayList<>();
-        Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+        Set<String>                candidateGUIDs = null;
 
-        for (EntityDetail  entity : entityStore.values())
+        if (asOfTime == null)
+        {
+            candidateGUIDs = this.getEntityGUIDsForType(entityTypeGUID);
+            candidateGUIDs = this.intersectCandidates(candidateGUIDs, this.getEntityGUIDsForClassifications(limitResultsByClassification));
+            candidateGUIDs = this.intersectCandidates(candidateGUIDs, this.getEntityGUIDsForProperties(matchProperties, matchCriteria));
+        }
+
+        for (EntityDetail  entity : this.getCandidateEntities(candidateGUIDs, asOfTime))
         {
             if (entity != null)
             {
@@ -513,13 +536,20 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The secondary indexes are used to narrow down the entities to test.  Each candidate is
+         * then verified against the full search criteria.
          */
         List<EntityDetail>         foundEntities = new ArrayList<>();
-        Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+        Set<String>                candidateGUIDs = null;
+
+        if (asOfTime == null)
+        {
+            candidateGUIDs = this.getEntityGUIDsForType(entityTypeGUID);
+            candidateGUIDs = this.intersectCandidates(candidateGUIDs, this.getEntityGUIDsForClassifications(matchClassifications));
+            candidateGUIDs = this.intersectCandidates(candidateGUIDs, this.getEntityGUIDsForProperties(matchProperties));
+        }
 
-        for (EntityDetail  entity : entityStore.values())
+        for (EntityDetail  entity : this.getCandidateEntities(candidateGUIDs, asOfTime))
         {
             if (entity != null)
             {
@@ -611,16 +641,23 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The secondary indexes are used to narrow down the entities to test.  Each candidate is
+         * then verified against the full search criteria.
          */
-        Map<String, EntityDetail>   entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
         List<EntityDetail>          foundEntities = new ArrayList<>();
 
         List<String>                classificationList = new ArrayList<>();
         classificationList.add(classificationName);
 
-        for (EntityDetail  entity : entityStore.values())
+        Set<String>                 candidateGUIDs = null;
+
+        if (asOfTime == null)
+        {
+            candidateGUIDs = this.getEntityGUIDsForType(entityTypeGUID);
+            candidateGUIDs = this.intersectCandidates(candidateGUIDs, this.getEntityGUIDsForClassifications(classificationList));
+        }
+
+        for (EntityDetail  entity : this.getCandidateEntities(candidateGUIDs, asOfTime))
         {
             if (entity != null)
             {
@@ -736,12 +773,19 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Process operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The search criteria is a regular expression that may match any string property so only the
+         * type and classification indexes can be used to narrow down the entities to test.
          */
         List<EntityDetail>   foundEntities = new ArrayList<>();
+        Set<String>          candidateGUIDs = null;
+
+        if (asOfTime == null)
+        {
+            candidateGUIDs = this.getEntityGUIDsForType(entityTypeGUID);
+            candidateGUIDs = this.intersectCandidates(candidateGUIDs, this.getEntityGUIDsForClassifications(limitResultsByClassification));
+        }
 
-        for (EntityDetail  entity : repositoryStore.timeWarpEntityStore(asOfTime).values())
+        for (EntityDetail  entity : this.getCandidateEntities(candidateGUIDs, asOfTime))
         {
             if (entity != null)
             {
@@ -946,13 +990,19 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating a relationship since it iterates through all of
-         * the stored entities.
+         * The secondary indexes are used to narrow down the relationships to test.  Each candidate is
+         * then verified against the full search criteria.
          */
         List<Relationship>         foundRelationships = new ArrayList<>();
-        Map<String, Relationship>  relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        Set<String>                candidateGUIDs = null;
+
+        if (asOfTime == null)
+        {
+            candidateGUIDs = this.getRelationshipGUIDsForType(relationshipTypeGUID);
+            candidateGUIDs = this.intersectCandidates(candidateGUIDs, this.getRelationshipGUIDsForProperties(matchProperties));
+        }
 
-        for (Relationship  relationship : relationshipStore.values())
+        for (Relationship  relationship : this.getCandidateRelationships(candidateGUIDs, asOfTime))
         {
             if (relationship != null)
             {
@@ -1048,13 +1098,19 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating a relationship since it iterates through all of
-         * the stored entities.
+         * The secondary indexes are used to narrow down the relationships to test.  Each candidate is
+         * then verified against the full search criteria.
          */
         List<Relationship>         foundRelationships = new ArrayList<>();
-        Map<String, Relationship>  relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        Set<String>                candidateGUIDs = null;
+
+        if (asOfTime == null)
+        {
+            candidateGUIDs = this.getRelationshipGUIDsForType(relationshipTypeGUID);
+            candidateGUIDs = this.intersectCandidates(candidateGUIDs, this.getRelationshipGUIDsForProperties(matchProperties, matchCriteria));
+        }
 
-        for (Relationship  relationship : relationshipStore.values())
+        for (Relationship  relationship : this.getCandidateRelationships(candidateGUIDs, asOfTime))
         {
             if (relationship != null)
             {
@@ -1147,12 +1203,18 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating a relationship since it iterates through all of
-         * the stored relationships.
+         * The search criteria is a regular expression that may match any string property so only the
+         * type index can be used to narrow down the relationships to test.
          */
         List<Relationship>  foundRelationships = new ArrayList<>();
+        Set<String>         candidateGUIDs = null;
 
-        for (Relationship  relationship : repositoryStore.timeWarpRelationshipStore(asOfTime).values())
+        if (asOfTime == null)
+        {
+            candidateGUIDs = this.getRelationshipGUIDsForType(relationshipTypeGUID);
+        }
+
+        for (Relationship  relationship : this.getCandidateRelationships(candidateGUIDs, asOfTime))
         {
             if (relationship != null)
             {
@@ -4614,4 +4676,411 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
             super.reportRelationshipNotKnown(relationshipGUID, methodName);
         }
     }
+
+
+    /* ======================================================================
+     * Planning searches against the secondary indexes of the repository store
+     */
+
+
+    /**
+     * Return the entities to test against the search criteria.
+     *
+     * @param candidateGUIDs guids of the candidate entities - null means all entities
+     * @param asOfTime time of the search - null means now
+     * @return collection of entities
+     */
+    private Collection<EntityDetail> getCandidateEntities(Set<String> candidateGUIDs,
+                                                          Date        asOfTime)
+    {
+        if (asOfTime != null)
+        {
+            return repositoryStore.timeWarpEntityStore(asOfTime).values();
+        }
+
+        if (candidateGUIDs == null)
+        {
+            return repositoryStore.getEntities();
+        }
+
+        return repositoryStore.getEntities(candidateGUIDs);
+    }
+
+
+    /**
+     * Return the relationships to test against the search criteria.
+     *
+     * @param candidateGUIDs guids of the candidate relationships - null means all relationships
+     * @param asOfTime time of the search - null means now
+     * @return collection of relationships
+     */
+    private Collection<Relationship> getCandidateRelationships(Set<String> candidateGUIDs,
+                                                               Date        asOfTime)
+    {
+        if (asOfTime != null)
+        {
+            return repositoryStore.timeWarpRelationshipStore(asOfTime).values();
+        }
+
+        if (candidateGUIDs == null)
+        {
+            return repositoryStore.getRelationships();
+        }
+
+        return repositoryStore.getRelationships(candidateGUIDs);
+    }
+
+
+    /**
+     * Combine two sets of candidate guids.  Null means that there is no restriction on the candidates.
+     *
+     * @param candidates current set of candidates
+     * @param additionalCandidates candidates from another index
+     * @return intersection of the two sets
+     */
+    private Set<String> intersectCandidates(Set<String> candidates,
+                                            Set<String> additionalCandidates)
+    {
+        if (candidates == null)
+        {
+            return additionalCandidates;
+        }
+
+        if (additionalCandidates != null)
+        {
+            candidates.retainAll(additionalCandidates);
+        }
+
+        return candidates;
+    }
+
+
+    /**
+     * Return the name of the type identified by the guid.
+     *
+     * @param typeGUID unique identifier of the type
+     * @return type name or null if the type is not known
+     */
+    private String getTypeName(String typeGUID)
+    {
+        final String methodName = "getTypeName";
+        final String parameterName = "typeGUID";
+
+        try
+        {
+            TypeDef typeDef = repositoryHelper.getTypeDef(repositoryName, parameterName, typeGUID, methodName);
+
+            if (typeDef != null)
+            {
+                return typeDef.getName();
+            }
+        }
+        catch (TypeErrorException error)
+        {
+            /*
+             * The type is validated before the search so this is unexpected.  The search falls back to a scan.
+             */
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the guids of the entities of the requested type, or any of its subtypes.
+     *
+     * @param entityTypeGUID unique identifier of the type (null means any type)
+     * @return set of guids or null for no restriction
+     */
+    private Set<String> getEntityGUIDsForType(String entityTypeGUID)
+    {
+        if (entityTypeGUID != null)
+        {
+            String typeName = this.getTypeName(entityTypeGUID);
+
+            if (typeName != null)
+            {
+                return repositoryStore.getEntityGUIDsForType(typeName);
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the guids of the relationships of the requested type, or any of its subtypes.
+     *
+     * @param relationshipTypeGUID unique identifier of the type (null means any type)
+     * @return set of guids or null for no restriction
+     */
+    private Set<String> getRelationshipGUIDsForType(String relationshipTypeGUID)
+    {
+        if (relationshipTypeGUID != null)
+        {
+            String typeName = this.getTypeName(relationshipTypeGUID);
+
+            if (typeName != null)
+            {
+                return repositoryStore.getRelationshipGUIDsForType(typeName);
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the guids of the entities that have all of the listed classifications.
+     *
+     * @param classificationNames names of the classifications (null means no restriction)
+     * @return set of guids or null for no restriction
+     */
+    private Set<String> getEntityGUIDsForClassifications(List<String> classificationNames)
+    {
+        Set<String> candidateGUIDs = null;
+
+        if (classificationNames != null)
+        {
+            for (String classificationName : classificationNames)
+            {
+                if (classificationName != null)
+                {
+                    candidateGUIDs = this.intersectCandidates(candidateGUIDs,
+                                                              repositoryStore.getEntityGUIDsForClassification(classificationName));
+                }
+            }
+        }
+
+        return candidateGUIDs;
+    }
+
+
+    /**
+     * Return the guids of the entities that may match the classification conditions.  Only conditions
+     * combined with ALL or ANY can be satisfied from the classification index.
+     *
+     * @param matchClassifications classification conditions (null means no restriction)
+     * @return set of guids or null for no restriction
+     */
+    private Set<String> getEntityGUIDsForClassifications(SearchClassifications matchClassifications)
+    {
+        if ((matchClassifications == null) || (matchClassifications.getConditions() == null) || (matchClassifications.getConditions().isEmpty()))
+        {
+            return null;
+        }
+
+        List<String> classificationNames = new ArrayList<>();
+
+        for (ClassificationCondition condition : matchClassifications.getConditions())
+        {
+            if ((condition == null) || (condition.getName() == null))
+            {
+                return null;
+            }
+
+            classificationNames.add(condition.getName());
+        }
+
+        if (matchClassifications.getMatchCriteria() == MatchCriteria.ALL)
+        {
+            return this.getEntityGUIDsForClassifications(classificationNames);
+        }
+        else if (matchClassifications.getMatchCriteria() == MatchCriteria.ANY)
+        {
+            Set<String> candidateGUIDs = new HashSet<>();
+
+            for (String classificationName : classificationNames)
+            {
+                candidateGUIDs.addAll(repositoryStore.getEntityGUIDsForClassification(classificationName));
+            }
+
+            return candidateGUIDs;
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the exact value that a property must have if the supplied match value is a literal string.
+     *
+     * @param matchValue value from the search request
+     * @param isRegex whether string values are regular expressions
+     * @return literal string or null if the value may match many strings
+     */
+    private String getExactMatchValue(InstancePropertyValue matchValue,
+                                      boolean               isRegex)
+    {
+        if (matchValue instanceof PrimitivePropertyValue)
+        {
+            PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue) matchValue;
+
+            if ((primitivePropertyValue.getPrimitiveDefCategory() == PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING) &&
+                (primitivePropertyValue.getPrimitiveValue() instanceof String))
+            {
+                String value = (String) primitivePropertyValue.getPrimitiveValue();
+
+                if (! isRegex)
+                {
+                    return value;
+                }
+                else if (repositoryHelper.isExactMatchRegex(value, false))
+                {
+                    return repositoryHelper.getUnqualifiedLiteralString(value);
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the guids of the instances that may match the exact property values in the match properties.
+     * Regular expressions that are not exact matches can not use the index.
+     *
+     * @param matchProperties properties to match
+     * @param matchCriteria how the properties are combined
+     * @param isEntity true for entities, false for relationships
+     * @return set of guids or null for no restriction
+     */
+    private Set<String> getGUIDsForProperties(InstanceProperties matchProperties,
+                                              MatchCriteria      matchCriteria,
+                                              boolean            isEntity)
+    {
+        if ((matchProperties == null) || (matchProperties.getInstanceProperties() == null))
+        {
+            return null;
+        }
+
+        Map<String, InstancePropertyValue> propertyMap = matchProperties.getInstanceProperties();
+
+        if ((matchCriteria != MatchCriteria.ALL) && ((matchCriteria != MatchCriteria.ANY) || (propertyMap.size() != 1)))
+        {
+            return null;
+        }
+
+        Set<String> candidateGUIDs = null;
+
+        for (String propertyName : propertyMap.keySet())
+        {
+            String exactValue = this.getExactMatchValue(propertyMap.get(propertyName), true);
+
+            if (exactValue != null)
+            {
+                candidateGUIDs = this.intersectCandidates(candidateGUIDs,
+                                                          isEntity ? repositoryStore.getEntityGUIDsForPropertyValue(propertyName, exactValue)
+                                                                   : repositoryStore.getRelationshipGUIDsForPropertyValue(propertyName, exactValue));
+            }
+        }
+
+        return candidateGUIDs;
+    }
+
+
+    /**
+     * Return the guids of the instances that may match the exact property conditions in the search properties.
+     * Only top-level EQ conditions, and LIKE conditions with an exact match regular expression, can use the index.
+     *
+     * @param matchProperties property conditions to match
+     * @param isEntity true for entities, false for relationships
+     * @return set of guids or null for no restriction
+     */
+    private Set<String> getGUIDsForProperties(SearchProperties matchProperties,
+                                              boolean          isEntity)
+    {
+        if ((matchProperties == null) || (matchProperties.getConditions() == null))
+        {
+            return null;
+        }
+
+        List<PropertyCondition> conditions = matchProperties.getConditions();
+
+        if ((matchProperties.getMatchCriteria() != MatchCriteria.ALL) &&
+            ((matchProperties.getMatchCriteria() != MatchCriteria.ANY) || (conditions.size() != 1)))
+        {
+            return null;
+        }
+
+        Set<String> candidateGUIDs = null;
+
+        for (PropertyCondition condition : conditions)
+        {
+            if ((condition != null) && (condition.getProperty() != null) && (condition.getNestedConditions() == null))
+            {
+                String exactValue = null;
+
+                if (condition.getOperator() == PropertyComparisonOperator.EQ)
+                {
+                    exactValue = this.getExactMatchValue(condition.getValue(), false);
+                }
+                else if (condition.getOperator() == PropertyComparisonOperator.LIKE)
+                {
+                    exactValue = this.getExactMatchValue(condition.getValue(), true);
+                }
+
+                if (exactValue != null)
+                {
+                    candidateGUIDs = this.intersectCandidates(candidateGUIDs,
+                                                              isEntity ? repositoryStore.getEntityGUIDsForPropertyValue(condition.getProperty(), exactValue)
+                                                                       : repositoryStore.getRelationshipGUIDsForPropertyValue(condition.getProperty(), exactValue));
+                }
+            }
+        }
+
+        return candidateGUIDs;
+    }
+
+
+    /**
+     * Return the guids of the entities that may match the exact property values in the match properties.
+     *
+     * @param matchProperties properties to match
+     * @param matchCriteria how the properties are combined
+     * @return set of guids or null for no restriction
+     */
+    private Set<String> getEntityGUIDsForProperties(InstanceProperties matchProperties,
+                                                    MatchCriteria      matchCriteria)
+    {
+        return this.getGUIDsForProperties(matchProperties, matchCriteria, true);
+    }
+
+
+    /**
+     * Return the guids of the entities that may match the exact property conditions in the search properties.
+     *
+     * @param matchProperties property conditions to match
+     * @return set of guids or null for no restriction
+     */
+    private Set<String> getEntityGUIDsForProperties(SearchProperties matchProperties)
+    {
+        return this.getGUIDsForProperties(matchProperties, true);
+    }
+
+
+    /**
+     * Return the guids of the relationships that may match the exact property values in the match properties.
+     *
+     * @param matchProperties properties to match
+     * @param matchCriteria how the properties are combined
+     * @return set of guids or null for no restriction
+     */
+    private Set<String> getRelationshipGUIDsForProperties(InstanceProperties matchProperties,
+                                                          MatchCriteria      matchCriteria)
+    {
+        return this.getGUIDsForProperties(matchProperties, matchCriteria, false);
+    }
+
+
+    /**
+     * Return the guids of the relationships that may match the exact property conditions in the search properties.
+     *
+     * @param matchProperties property conditions to match
+     * @return set of guids or null for no restriction
+     */
+    private Set<String> getRelationshipGUIDsForProperties(SearchProperties matchProperties)
+    {
+        return this.getGUIDsForProperties(matchProperties, false);
+    }
 }
@@ -3,23 +3,47 @@
 package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
 
 
+import org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector.InMemoryOMRSTimeWarpedStore.VersionKey;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
- * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector
+ * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector.
+ *
+ * The current versions of the instances are held in concurrent maps.  Reads of these maps do not take any locks
+ * and iteration over them is weakly consistent: it reflects the state of the store at some point during the
+ * iteration and never throws ConcurrentModificationException.  Changes to an instance are serialized by a lock
+ * selected from a fixed set of write locks using the instance's guid, so writers to different instances rarely
+ * contend.  The secondary indexes are guarded by a separate read-write lock that is only held for the short time
+ * it takes to update or query them.
+ *
+ * The previous versions of each instance are held in a version chain that is ordered by the time each version
+ * became active and then by version number.  This means the version of an instance that was active at a particular time is located with a
+ * single lookup in its chain rather than a scan of the history of the whole repository.
  */
 class InMemoryOMRSMetadataStore
 {
-    private String                                 repositoryName           = null;
-    private volatile Map<String, EntityDetail>     entityStore              = new HashMap<>();
-    private volatile Map<String, EntityProxy>      entityProxyStore         = new HashMap<>();
-    private volatile List<EntityDetail>            entityHistoryStore       = new ArrayList<>();
-    private volatile Map<String, Relationship>     relationshipStore        = new HashMap<>();
-    private volatile List<Relationship>            relationshipHistoryStore = new ArrayList<>();
+    private static final int                                                    writeLockCount           = 64;
+
+    private String                                                              repositoryName           = null;
+    private final ConcurrentMap<String, EntityDetail>                           entityStore              = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, EntityProxy>                            entityProxyStore         = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Relationship>                           relationshipStore        = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, NavigableMap<VersionKey, EntityDetail>> entityHistoryStore       = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, NavigableMap<VersionKey, Relationship>> relationshipHistoryStore = new ConcurrentHashMap<>();
+    private InMemoryOMRSInstanceIndex                                           entityIndex              = new InMemoryOMRSInstanceIndex(null);
+    private InMemoryOMRSInstanceIndex                                           relationshipIndex        = new InMemoryOMRSInstanceIndex(null);
+    private final ReadWriteLock                                                 indexLock                = new ReentrantReadWriteLock();
+    private final Object[]                                                      writeLocks               = new Object[writeLockCount];
 
 
     /**
@@ -27,6 +51,22 @@ class InMemoryOMRSMetadataStore
      */
     InMemoryOMRSMetadataStore()
     {
+        for (int i = 0; i < writeLockCount; i++)
+        {
+            writeLocks[i] = new Object();
+        }
+    }
+
+
+    /**
+     * Return the lock that serializes changes to the instance with the supplied guid.
+     *
+     * @param guid unique identifier of the instance
+     * @return lock object
+     */
+    private Object getWriteLock(String guid)
+    {
+        return writeLocks[Math.floorMod(Objects.hashCode(guid), writeLockCount)];
     }
 
 
@@ -42,13 +82,136 @@ class InMemoryOMRSMetadataStore
 
 
     /**
-     * Return a list of entities from the store that are at the latest level.
+     * Set up the names of the string properties that are indexed for exact match searches.
+     * The indexes are rebuilt from the current content of the stores.
+     *
+     * @param indexedPropertyNames list of property names (null means use the defaults)
+     */
+    void setIndexedPropertyNames(List<String> indexedPropertyNames)
+    {
+        indexLock.writeLock().lock();
+
+        try
+        {
+            entityIndex = new InMemoryOMRSInstanceIndex(indexedPropertyNames);
+            relationshipIndex = new InMemoryOMRSInstanceIndex(indexedPropertyNames);
+
+            for (EntityDetail entity : entityStore.values())
+            {
+                entityIndex.updateInstance(null, entity);
+            }
+
+            for (Relationship relationship : relationshipStore.values())
+            {
+                relationshipIndex.updateInstance(null, relationship);
+            }
+        }
+        finally
+        {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+
+    /**
+     * Return the entities from the store that are at the latest level.  This is a read-only view of the store
+     * rather than a copy.  Iteration is weakly consistent.
      *
+     * @return collection of EntityDetail objects
+     */
+    Collection<EntityDetail>   getEntities()
+    {
+        return Collections.unmodifiableCollection(entityStore.values());
+    }
+
+
+    /**
+     * Return the entities from the store that are identified by the supplied guids.
+     * Guids that are not in the store are skipped.
+     *
+     * @param guids unique identifiers for the entities
      * @return list of EntityDetail objects
      */
-    synchronized List<EntityDetail>   getEntities()
+    List<EntityDetail>   getEntities(Collection<String> guids)
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            EntityDetail entity = entityStore.get(guid);
+
+            if (entity != null)
+            {
+                entities.add(entity);
+            }
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Return the unique identifiers of the current entities of the named type, or any of its subtypes.
+     *
+     * @param typeName name of the type
+     * @return set of guids
+     */
+    Set<String> getEntityGUIDsForType(String typeName)
+    {
+        indexLock.readLock().lock();
+
+        try
+        {
+            return entityIndex.getGUIDsForType(typeName);
+        }
+        finally
+        {
+            indexLock.readLock().unlock();
+        }
+    }
+
+
+    /**
+     * Return the unique identifiers of the current entities that have the named classification.
+     *
+     * @param classificationName name of the classification
+     * @return set of guids
+     */
+    Set<String> getEntityGUIDsForClassification(String classificationName)
     {
-        return new ArrayList<>(entityStore.values());
+        indexLock.readLock().lock();
+
+        try
+        {
+            return entityIndex.getGUIDsForClassification(classificationName);
+        }
+        finally
+        {
+            indexLock.readLock().unlock();
+        }
+    }
+
+
+    /**
+     * Return the unique identifiers of the current entities that may have the exact value for the named property.
+     *
+     * @param propertyName name of the property
+     * @param propertyValue exact value
+     * @return set of guids or null if the property is not indexed
+     */
+    Set<String> getEntityGUIDsForPropertyValue(String propertyName,
+                                               String propertyValue)
+    {
+        indexLock.readLock().lock();
+
+        try
+        {
+            return entityIndex.getGUIDsForPropertyValue(propertyName, propertyValue);
+        }
+        finally
+        {
+            indexLock.readLock().unlock();
+        }
     }
 
 
@@ -58,7 +221,7 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the entity
      * @return entity object
      */
-    synchronized EntityDetail  getEntity(String   guid)
+    EntityDetail  getEntity(String   guid)
     {
         return entityStore.get(guid);
     }
@@ -70,7 +233,7 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier
      * @return entity proxy object
      */
-    synchronized EntityProxy  getEntityProxy(String   guid)
+    EntityProxy  getEntityProxy(String   guid)
     {
         return entityProxyStore.get(guid);
     }
@@ -78,96 +241,121 @@ class InMemoryOMRSMetadataStore
 
     /**
      * Return an entity store that contains entities as they were at the time supplied in the asOfTime
-     * parameter
+     * parameter.  This is a read-only view that resolves each entity when it is requested.
      *
      * @param asOfTime - time for the store (or null means now)
      * @return entity store for the requested time
      */
-    synchronized Map<String, EntityDetail>  timeWarpEntityStore(Date         asOfTime)
+    Map<String, EntityDetail>  timeWarpEntityStore(Date         asOfTime)
     {
         if (asOfTime == null)
         {
-            return new HashMap<>(entityStore);
+            return Collections.unmodifiableMap(entityStore);
         }
 
-        Map<String, EntityDetail>  timeWarpedEntityStore = new HashMap<>();
+        return new InMemoryOMRSTimeWarpedStore<>(entityStore, entityHistoryStore, asOfTime);
+    }
 
-        /*
-         * First step through the current relationship store and extract all of the relationships that were
-         * last updated before the asOfTime.
-         */
-        for (EntityDetail  entity : entityStore.values())
+
+    /**
+     * Return the relationships at their current level.  This is a read-only view of the store
+     * rather than a copy.  Iteration is weakly consistent.
+     *
+     * @return collection of relationships
+     */
+    Collection<Relationship>   getRelationships()
+    {
+        return Collections.unmodifiableCollection(relationshipStore.values());
+    }
+
+
+    /**
+     * Return the relationships from the store that are identified by the supplied guids.
+     * Guids that are not in the store are skipped.
+     *
+     * @param guids unique identifiers for the relationships
+     * @return list of relationships
+     */
+    List<Relationship>   getRelationships(Collection<String> guids)
+    {
+        List<Relationship> relationships = new ArrayList<>();
+
+        for (String guid : guids)
         {
-            if (entity != null)
-            {
-                if (entity.getUpdateTime() != null)
-                {
-                    String entityGUID = entity.getGUID();
+            Relationship relationship = relationshipStore.get(guid);
 
-                    if (entityGUID != null)
-                    {
-                        if (! entity.getUpdateTime().after(asOfTime))
-                        {
-                            timeWarpedEntityStore.put(entityGUID, entity);
-                        }
-                    }
-                }
-                else if (entity.getCreateTime() != null)
-                {
-                    if (! entity.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedEntityStore.put(entity.getGUID(), entity);
-                    }
-                }
+            if (relationship != null)
+            {
+                relationships.add(relationship);
             }
         }
 
-        /*
-         * Now step through the history store picking up the versions of other entities that were active
-         * at the time of the asOfTime.
-         */
-        for (EntityDetail oldEntity : entityHistoryStore)
-        {
-            if (oldEntity != null)
-            {
-                String entityGUID = oldEntity.getGUID();
+        return relationships;
+    }
 
-                if (oldEntity.getUpdateTime() != null)
-                {
-                    if (! oldEntity.getUpdateTime().after(asOfTime))
-                    {
-                        EntityDetail newerEntity = timeWarpedEntityStore.put(entityGUID, oldEntity);
 
-                        if (newerEntity != null)
-                        {
-                            timeWarpedEntityStore.put(entityGUID, newerEntity);
-                        }
-                        break;
-                    }
-                }
-                else if (oldEntity.getCreateTime() != null)
-                {
-                    if (! oldEntity.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedEntityStore.put(entityGUID, oldEntity);
-                        break;
-                    }
-                }
-            }
+    /**
+     * Return the unique identifiers of the current relationships of the named type, or any of its subtypes.
+     *
+     * @param typeName name of the type
+     * @return set of guids
+     */
+    Set<String> getRelationshipGUIDsForType(String typeName)
+    {
+        indexLock.readLock().lock();
+
+        try
+        {
+            return relationshipIndex.getGUIDsForType(typeName);
         }
+        finally
+        {
+            indexLock.readLock().unlock();
+        }
+    }
+
+
+    /**
+     * Return the unique identifiers of the current relationships that are connected to the requested entity.
+     *
+     * @param entityGUID unique identifier of the entity
+     * @return set of guids
+     */
+    Set<String> getRelationshipGUIDsForEntity(String entityGUID)
+    {
+        indexLock.readLock().lock();
 
-        return timeWarpedEntityStore;
+        try
+        {
+            return relationshipIndex.getGUIDsForRelatedEntity(entityGUID);
+        }
+        finally
+        {
+            indexLock.readLock().unlock();
+        }
     }
 
 
     /**
-     * Return the list of relationships at their current level.
+     * Return the unique identifiers of the current relationships that may have the exact value for the named property.
      *
-     * @return list of relationships
+     * @param propertyName name of the property
+     * @param propertyValue exact value
+     * @return set of guids or null if the property is not indexed
      */
-    synchronized List<Relationship>   getRelationships()
+    Set<String> getRelationshipGUIDsForPropertyValue(String propertyName,
+                                                     String propertyValue)
     {
-        return new ArrayList<>(relationshipStore.values());
+        indexLock.readLock().lock();
+
+        try
+        {
+            return relationshipIndex.getGUIDsForPropertyValue(propertyName, propertyValue);
+        }
+        finally
+        {
+            indexLock.readLock().unlock();
+        }
     }
 
 
@@ -177,93 +365,26 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the relationship
      * @return relationship object
      */
-    protected synchronized Relationship  getRelationship(String   guid)
+    protected Relationship  getRelationship(String   guid)
     {
         return relationshipStore.get(guid);
     }
 
     /**
      * Return a relationship store that contains relationships as they were at the time supplied in the asOfTime
-     * parameter
+     * parameter.  This is a read-only view that resolves each relationship when it is requested.
      *
      * @param asOfTime - time for the store (or null means now)
      * @return relationship store for the requested time
      */
-    synchronized Map<String, Relationship>  timeWarpRelationshipStore(Date         asOfTime)
+    Map<String, Relationship>  timeWarpRelationshipStore(Date         asOfTime)
     {
         if (asOfTime == null)
         {
-            return new HashMap<>(relationshipStore);
-        }
-
-        Map<String, Relationship>  timeWarpedRelationshipStore = new HashMap<>();
-
-
-        /*
-         * First step through the current relationship store and extract all of the relationships that were
-         * last updated before the asOfTime.
-         */
-        for (Relationship  relationship : relationshipStore.values())
-        {
-            if (relationship != null)
-            {
-                if (relationship.getUpdateTime() != null)
-                {
-                    String relationshipGUID = relationship.getGUID();
-
-                    if (relationshipGUID != null)
-                    {
-                        if (! relationship.getUpdateTime().after(asOfTime))
-                        {
-                            timeWarpedRelationshipStore.put(relationshipGUID, relationship);
-                        }
-                    }
-                }
-                else if (relationship.getCreateTime() != null)
-                {
-                    if (! relationship.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedRelationshipStore.put(relationship.getGUID(), relationship);
-                    }
-                }
-            }
-        }
-
-        /*
-         * Now step through the history store picking up the versions of other relationships that were active
-         * at the time of the asOfTime.
-         */
-        for (Relationship oldRelationship : relationshipHistoryStore)
-        {
-            if (oldRelationship != null)
-            {
-                String relationshipGUID = oldRelationship.getGUID();
-
-                if (oldRelationship.getUpdateTime() != null)
-                {
-                    if (! oldRelationship.getUpdateTime().after(asOfTime))
-                    {
-                        Relationship newerRelationship = timeWarpedRelationshipStore.put(relationshipGUID, oldRelationship);
-
-                        if (newerRelationship != null)
-                        {
-                            timeWarpedRelationshipStore.put(relationshipGUID, newerRelationship);
-                        }
-                        break;
-                    }
-                }
-                else if (oldRelationship.getCreateTime() != null)
-                {
-                    if (! oldRelationship.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedRelationshipStore.put(relationshipGUID, oldRelationship);
-                        break;
-                    }
-                }
-            }
+            return Collections.unmodifiableMap(relationshipStore);
         }
 
-        return timeWarpedRelationshipStore;
+        return new InMemoryOMRSTimeWarpedStore<>(relationshipStore, relationshipHistoryStore, asOfTime);
     }
 
     /**
@@ -272,22 +393,26 @@ class InMemoryOMRSMetadataStore
      * @param entity - new version of the entity
      * @return entity with potentially updated GUID
      */
-    synchronized EntityDetail createEntityInStore(EntityDetail    entity)
+    EntityDetail createEntityInStore(EntityDetail    entity)
     {
         /*
-         * There is a small chance the randomly generated GUID will clash with an existing relationship.
-         * If this happens a new GUID is generated for the relationship and the process repeats.
+         * There is a small chance the randomly generated GUID will clash with an existing entity.
+         * If this happens a new GUID is generated for the entity and the process repeats.
          */
-        EntityDetail existingEntity = entityStore.put(entity.getGUID(), entity);
-
-        while (existingEntity != null)
+        while (true)
         {
-            entityStore.put(entity.getGUID(), existingEntity);
+            synchronized (getWriteLock(entity.getGUID()))
+            {
+                if (entityStore.putIfAbsent(entity.getGUID(), entity) == null)
+                {
+                    this.updateEntityIndex(null, entity, null);
+
+                    return entity;
+                }
+            }
+
             entity.setGUID(UUID.randomUUID().toString());
-            existingEntity = entityStore.put(entity.getGUID(), entity);
         }
-
-        return entity;
     }
 
 
@@ -297,22 +422,26 @@ class InMemoryOMRSMetadataStore
      * @param relationship - new version of the relationship
      * @return relationship with potentially updated GUID
      */
-    synchronized Relationship createRelationshipInStore(Relationship    relationship)
+    Relationship createRelationshipInStore(Relationship    relationship)
     {
         /*
          * There is a small chance the randomly generated GUID will clash with an existing relationship.
          * If this happens a new GUID is generated for the relationship and the process repeats.
          */
-        Relationship existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
-
-        while (existingRelationship != null)
+        while (true)
         {
-            relationshipStore.put(relationship.getGUID(), existingRelationship);
+            synchronized (getWriteLock(relationship.getGUID()))
+            {
+                if (relationshipStore.putIfAbsent(relationship.getGUID(), relationship) == null)
+                {
+                    this.updateRelationshipIndex(null, relationship, null);
+
+                    return relationship;
+                }
+            }
+
             relationship.setGUID(UUID.randomUUID().toString());
-            existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
         }
-
-        return relationship;
     }
 
 
@@ -321,7 +450,7 @@ class InMemoryOMRSMetadataStore
      *
      * @param entityProxy - entity proxy object to add
      */
-    synchronized void addEntityProxyToStore(EntityProxy    entityProxy)
+    void addEntityProxyToStore(EntityProxy    entityProxy)
     {
         entityProxyStore.put(entityProxy.getGUID(), entityProxy);
     }
@@ -333,13 +462,13 @@ class InMemoryOMRSMetadataStore
      *
      * @param entity - new version of the entity
      */
-    synchronized void updateEntityInStore(EntityDetail entity)
+    void updateEntityInStore(EntityDetail entity)
     {
-        EntityDetail oldEntity = entityStore.put(entity.getGUID(), entity);
-
-        if (oldEntity != null)
+        synchronized (getWriteLock(entity.getGUID()))
         {
-            entityHistoryStore.add(0, oldEntity);
+            EntityDetail oldEntity = entityStore.put(entity.getGUID(), entity);
+
+            this.updateEntityIndex(oldEntity, entity, oldEntity);
         }
     }
 
@@ -349,7 +478,7 @@ class InMemoryOMRSMetadataStore
      *
      * @param entityProxy - entity proxy object to add
      */
-    synchronized void updateEntityProxyInStore(EntityProxy entityProxy)
+    void updateEntityProxyInStore(EntityProxy entityProxy)
     {
         entityProxyStore.put(entityProxy.getGUID(), entityProxy);
     }
@@ -361,13 +490,13 @@ class InMemoryOMRSMetadataStore
      *
      * @param relationship - new version of the relationship
      */
-    synchronized void updateRelationshipInStore(Relationship    relationship)
+    void updateRelationshipInStore(Relationship    relationship)
     {
-        Relationship    oldRelationship = relationshipStore.put(relationship.getGUID(), relationship);
-
-        if (oldRelationship != null)
+        synchronized (getWriteLock(relationship.getGUID()))
         {
-            relationshipHistoryStore.add(0, oldRelationship);
+            Relationship oldRelationship = relationshipStore.put(relationship.getGUID(), relationship);
+
+            this.updateRelationshipIndex(oldRelationship, relationship, oldRelationship);
         }
     }
 
@@ -378,9 +507,14 @@ class InMemoryOMRSMetadataStore
      *
      * @param entity - object to save
      */
-    synchronized void saveReferenceEntityToStore(EntityDetail    entity)
+    void saveReferenceEntityToStore(EntityDetail    entity)
     {
-        entityStore.put(entity.getGUID(), entity);
+        synchronized (getWriteLock(entity.getGUID()))
+        {
+            EntityDetail oldEntity = entityStore.put(entity.getGUID(), entity);
+
+            this.updateEntityIndex(oldEntity, entity, null);
+        }
     }
 
 
@@ -390,9 +524,14 @@ class InMemoryOMRSMetadataStore
      *
      * @param relationship - object to save
      */
-    synchronized void saveReferenceRelationshipToStore(Relationship    relationship)
+    void saveReferenceRelationshipToStore(Relationship    relationship)
     {
-        relationshipStore.put(relationship.getGUID(), relationship);
+        synchronized (getWriteLock(relationship.getGUID()))
+        {
+            Relationship oldRelationship = relationshipStore.put(relationship.getGUID(), relationship);
+
+            this.updateRelationshipIndex(oldRelationship, relationship, null);
+        }
     }
 
 
@@ -403,46 +542,50 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the required element
      * @return - previous version of this relationship - or null if not found
      */
-    synchronized Relationship retrievePreviousVersionOfRelationship(String   guid)
+    Relationship retrievePreviousVersionOfRelationship(String   guid)
     {
         if (guid != null)
         {
-            Relationship  currentVersionOfRelationship = relationshipStore.get(guid);
+            synchronized (getWriteLock(guid))
+            {
+                Relationship  currentVersionOfRelationship = relationshipStore.get(guid);
 
-            long versionNumber = 0;
+                long versionNumber = 0;
 
-            if (currentVersionOfRelationship != null)
-            {
-                versionNumber = currentVersionOfRelationship.getVersion() + 1;
-            }
+                if (currentVersionOfRelationship != null)
+                {
+                    versionNumber = currentVersionOfRelationship.getVersion() + 1;
+                }
 
+                NavigableMap<VersionKey, Relationship> versions = relationshipHistoryStore.get(guid);
+                Relationship relationship = null;
+
+                if ((versions != null) && (! versions.isEmpty()))
+                {
+                    relationship = versions.lastEntry().getValue();
+                }
 
-            for (Relationship relationship : relationshipHistoryStore)
-            {
                 if (relationship != null)
                 {
-                    if (guid.equals(relationship.getGUID()))
+                    if (versionNumber == 0)
                     {
-                        if (versionNumber == 0)
-                        {
-                            versionNumber = relationship.getVersion() + 1;
-                        }
-                        /*
-                         * Clone the head (most recent) version in the history, set its version number to the next version
-                         * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
-                         * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
-                         * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
-                         * updated longer ago than was really the case.
-                         */
-                        Relationship newRelationship = new Relationship(relationship);
-                        newRelationship.setVersion(versionNumber);
-                        Date restoreTime = new Date();
-                        newRelationship.setUpdateTime(restoreTime);
-                        relationshipStore.put(guid, newRelationship);
-                        relationshipHistoryStore.add(0, currentVersionOfRelationship);
-                        return newRelationship;
-
+                        versionNumber = relationship.getVersion() + 1;
                     }
+
+                    /*
+                     * Clone the head (most recent) version in the history, set its version number to the next version
+                     * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
+                     * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
+                     * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
+                     * updated longer ago than was really the case.
+                     */
+                    Relationship newRelationship = new Relationship(relationship);
+                    newRelationship.setVersion(versionNumber);
+                    Date restoreTime = new Date();
+                    newRelationship.setUpdateTime(restoreTime);
+                    relationshipStore.put(guid, newRelationship);
+                    this.updateRelationshipIndex(currentVersionOfRelationship, newRelationship, currentVersionOfRelationship);
+                    return newRelationship;
                 }
             }
         }
@@ -458,47 +601,51 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the required element
      * @return - previous version of this Entity - or null if not found
      */
-    synchronized EntityDetail retrievePreviousVersionOfEntity(String   guid)
+    EntityDetail retrievePreviousVersionOfEntity(String   guid)
     {
         if (guid != null)
         {
-            EntityDetail  currentVersionOfEntity = entityStore.get(guid);
+            synchronized (getWriteLock(guid))
+            {
+                EntityDetail  currentVersionOfEntity = entityStore.get(guid);
 
-            long versionNumber = 0;
+                long versionNumber = 0;
 
-            if (currentVersionOfEntity != null)
-            {
-                versionNumber = currentVersionOfEntity.getVersion() + 1;
-            }
+                if (currentVersionOfEntity != null)
+                {
+                    versionNumber = currentVersionOfEntity.getVersion() + 1;
+                }
+
+                NavigableMap<VersionKey, EntityDetail> versions = entityHistoryStore.get(guid);
+                EntityDetail entity = null;
+
+                if ((versions != null) && (! versions.isEmpty()))
+                {
+                    entity = versions.lastEntry().getValue();
+                }
 
-            for (EntityDetail entity : entityHistoryStore)
-            {
                 if (entity != null)
                 {
-                    if (guid.equals(entity.getGUID()))
+                    if (versionNumber == 0)
                     {
-                        if (versionNumber == 0)
-                        {
-                            versionNumber = entity.getVersion() + 1;
-                        }
-
-                        /*
-                         * Clone the head (most recent) version in the history, set its version number to the next version
-                         * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
-                         * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
-                         * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
-                         * updated longer ago than was really the case.
-                         *
-                         */
-                        EntityDetail newEntity = new EntityDetail(entity);
-                        newEntity.setVersion(versionNumber);
-                        Date restoreTime = new Date();
-                        newEntity.setUpdateTime(restoreTime);
-                        entityStore.put(guid, newEntity);
-                        entityHistoryStore.add(0, currentVersionOfEntity);
-                        return newEntity;
-
+                        versionNumber = entity.getVersion() + 1;
                     }
+
+                    /*
+                     * Clone the head (most recent) version in the history, set its version number to the next version
+                     * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
+                     * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
+                     * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
+                     * updated longer ago than was really the case.
+                     *
+                     */
+                    EntityDetail newEntity = new EntityDetail(entity);
+                    newEntity.setVersion(versionNumber);
+                    Date restoreTime = new Date();
+                    newEntity.setUpdateTime(restoreTime);
+                    entityStore.put(guid, newEntity);
+                    this.updateEntityIndex(currentVersionOfEntity, newEntity, currentVersionOfEntity);
+                    return newEntity;
                 }
             }
         }
@@ -512,19 +659,9 @@ class InMemoryOMRSMetadataStore
      *
      * @param entity - entity to remove
      */
-    synchronized void removeEntityFromStore(EntityDetail     entity)
+    void removeEntityFromStore(EntityDetail     entity)
     {
-        String entityGUID = entity.getGUID();
-        entityStore.remove(entityGUID);
-        List<EntityDetail> purgedHistory = new ArrayList<>();
-        for (EntityDetail history : entityHistoryStore)
-        {
-            if (history != null && !entityGUID.equals(history.getGUID()))
-            {
-                purgedHistory.add(history);
-            }
-        }
-        entityHistoryStore = purgedHistory;
+        this.purgeEntityFromStore(entity.getGUID());
     }
 
 
@@ -533,21 +670,38 @@ class InMemoryOMRSMetadataStore
      *
      * @param guid - entity to remove
      */
-    synchronized void removeReferenceEntityFromStore(String     guid)
+    void removeReferenceEntityFromStore(String     guid)
     {
-        EntityDetail entity = entityStore.remove(guid);
+        this.purgeEntityFromStore(guid);
+    }
+
 
-        if (entity != null)
+    /**
+     * Remove an entity from the active store and purge its history.
+     *
+     * @param guid unique identifier of the entity to remove
+     */
+    private void purgeEntityFromStore(String  guid)
+    {
+        synchronized (getWriteLock(guid))
         {
-            List<EntityDetail> purgedHistory = new ArrayList<>();
-            for (EntityDetail history : entityHistoryStore)
+            EntityDetail entity = entityStore.remove(guid);
+
+            if (entity != null)
             {
-                if (history != null && !guid.equals(history.getGUID()))
+                indexLock.writeLock().lock();
+
+                try
                 {
-                    purgedHistory.add(history);
+                    entityIndex.updateInstance(entity, null);
+                }
+                finally
+                {
+                    indexLock.writeLock().unlock();
                 }
             }
-            entityHistoryStore = purgedHistory;
+
+            entityHistoryStore.remove(guid);
         }
     }
 
@@ -557,7 +711,7 @@ class InMemoryOMRSMetadataStore
      *
      * @param guid - entity proxy to remove
      */
-    synchronized void removeEntityProxyFromStore(String     guid)
+    void removeEntityProxyFromStore(String     guid)
     {
         entityProxyStore.remove(guid);
     }
@@ -568,19 +722,9 @@ class InMemoryOMRSMetadataStore
      *
      * @param relationship - relationship to remove
      */
-    synchronized void removeRelationshipFromStore(Relationship     relationship)
+    void removeRelationshipFromStore(Relationship     relationship)
     {
-        String relationshipGUID = relationship.getGUID();
-        relationshipStore.remove(relationshipGUID);
-        List<Relationship> purgedHistory = new ArrayList<>();
-        for (Relationship history : relationshipHistoryStore)
-        {
-            if (history != null && !relationshipGUID.equals(history.getGUID()))
-            {
-                purgedHistory.add(history);
-            }
-        }
-        relationshipHistoryStore = purgedHistory;
+        this.purgeRelationshipFromStore(relationship.getGUID());
     }
 
 
@@ -589,22 +733,118 @@ class InMemoryOMRSMetadataStore
      *
      * @param guid - relationship to remove
      */
-    synchronized void removeReferenceRelationshipFromStore(String     guid)
+    void removeReferenceRelationshipFromStore(String     guid)
     {
-        Relationship  relationship = relationshipStore.remove(guid);
+        this.purgeRelationshipFromStore(guid);
+    }
 
-        if (relationship != null)
+
+    /**
+     * Remove a relationship from the active store and purge its history.
+     *
+     * @param guid unique identifier of the relationship to remove
+     */
+    private void purgeRelationshipFromStore(String  guid)
+    {
+        synchronized (getWriteLock(guid))
         {
-            List<Relationship> purgedHistory = new ArrayList<>();
-            for (Relationship history : relationshipHistoryStore)
+            Relationship relationship = relationshipStore.remove(guid);
+
+            if (relationship != null)
             {
-                if (history != null && !guid.equals(history.getGUID()))
+                indexLock.writeLock().lock();
+
+                try
+                {
+                    relationshipIndex.updateInstance(relationship, null);
+                }
+                finally
                 {
-                    purgedHistory.add(history);
+                    indexLock.writeLock().unlock();
                 }
             }
-            relationshipHistoryStore = purgedHistory;
+
+            relationshipHistoryStore.remove(guid);
         }
     }
 
+
+    /**
+     * Update the entity index to reflect a change to the entity store and optionally save the replaced version
+     * in the history.  The caller holds the write lock for the entity.
+     *
+     * @param oldEntity version of the entity that has been replaced (or null)
+     * @param newEntity new version of the entity (or null)
+     * @param historicalEntity version to add to the history (or null)
+     */
+    private void updateEntityIndex(EntityDetail oldEntity,
+                                   EntityDetail newEntity,
+                                   EntityDetail historicalEntity)
+    {
+        indexLock.writeLock().lock();
+
+        try
+        {
+            entityIndex.updateInstance(oldEntity, newEntity);
+        }
+        finally
+        {
+            indexLock.writeLock().unlock();
+        }
+
+        if (historicalEntity != null)
+        {
+            addToHistory(entityHistoryStore, historicalEntity);
+        }
+    }
+
+
+    /**
+     * Update the relationship index to reflect a change to the relationship store and optionally save the replaced
+     * version in the history.  The caller holds the write lock for the relationship.
+     *
+     * @param oldRelationship version of the relationship that has been replaced (or null)
+     * @param newRelationship new version of the relationship (or null)
+     * @param historicalRelationship version to add to the history (or null)
+     */
+    private void updateRelationshipIndex(Relationship oldRelationship,
+                                         Relationship newRelationship,
+                                         Relationship historicalRelationship)
+    {
+        indexLock.writeLock().lock();
+
+        try
+        {
+            relationshipIndex.updateInstance(oldRelationship, newRelationship);
+        }
+        finally
+        {
+            indexLock.writeLock().unlock();
+        }
+
+        if (historicalRelationship != null)
+        {
+            addToHistory(relationshipHistoryStore, historicalRelationship);
+        }
+    }
+
+
+    /**
+     * Add a version of an instance to its version chain.  The chain is ordered by the time that each version
+     * became active and then by version number.  Versions with no timestamps are kept at the start of the chain.
+     * The caller holds the write lock for the instance.
+     *
+     * @param historyStore history store for the type of instance
+     * @param version version of the instance that has been replaced
+     * @param <T> EntityDetail or Relationship
+     */
+    private static <T extends InstanceHeader> void addToHistory(ConcurrentMap<String, NavigableMap<VersionKey, T>> historyStore,
+                                                                T                                                  version)
+    {
+        if (version.getGUID() != null)
+        {
+            historyStore.computeIfAbsent(version.getGUID(), guid -> new ConcurrentSkipListMap<>()).put(InMemoryOMRSTimeWarpedStore.getVersionKey(version),
+                                                                                                     version);
+        }
+    }
 }
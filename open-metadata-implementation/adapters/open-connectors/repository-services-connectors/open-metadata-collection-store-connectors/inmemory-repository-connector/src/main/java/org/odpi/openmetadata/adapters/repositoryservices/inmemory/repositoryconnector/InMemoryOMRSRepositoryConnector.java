@@ -5,6 +5,10 @@ package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositorycon
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 /**
  * The InMemoryOMRSRepositoryConnector is a connector to a local in memory repository.  It is used for test,
  * small scale fixed or temporary repositories where the initial content comes from open metadata archives and
@@ -12,6 +16,11 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
  */
 public class InMemoryOMRSRepositoryConnector extends OMRSRepositoryConnector
 {
+    /**
+     * Name of the configuration property that lists the string properties to index for exact match searches.
+     */
+    public static final String INDEXED_PROPERTY_NAMES_PROPERTY = "indexedPropertyNames";
+
     /**
      * Default constructor used by the OCF Connector Provider.
      */
@@ -45,4 +54,41 @@ public class InMemoryOMRSRepositoryConnector extends OMRSRepositoryConnector
                                                                           metadataCollectionId);
         }
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Return the names of the string properties that should be indexed for exact match searches.
+     * These are supplied in the indexedPropertyNames configuration property.
+     *
+     * @return list of property names or null to use the defaults
+     */
+    List<String> getIndexedPropertyNames()
+    {
+        if (super.connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = super.connectionProperties.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                Object indexedPropertyNames = configurationProperties.get(INDEXED_PROPERTY_NAMES_PROPERTY);
+
+                if (indexedPropertyNames instanceof List)
+                {
+                    List<String> propertyNames = new ArrayList<>();
+
+                    for (Object propertyName : (List<?>)indexedPropertyNames)
+                    {
+                        if (propertyName != null)
+                        {
+                            propertyNames.add(propertyName.toString());
+                        }
+                    }
+
+                    return propertyNames;
+                }
+            }
+        }
+
+        return null;
+    }
+}
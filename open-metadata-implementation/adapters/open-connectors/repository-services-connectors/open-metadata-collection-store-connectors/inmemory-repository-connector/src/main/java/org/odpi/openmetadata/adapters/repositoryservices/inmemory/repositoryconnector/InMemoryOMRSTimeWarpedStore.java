@@ -0,0 +1,298 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+
+import java.util.*;
+
+/**
+ * InMemoryOMRSTimeWarpedStore is a read-only view of one of the stores in the InMemoryOMRSMetadataStore as it was
+ * at a point in time.  Nothing is copied when the view is created.  Each instance is resolved when it is requested
+ * by comparing the current version with the time of the view and, if the current version is too new, looking up
+ * the version that was active at that time in the instance's version history.  This means a lookup by guid costs
+ * O(log versions) and iteration over the view is weakly consistent with the underlying stores.
+ *
+ * Each version chain is keyed on the time the version became active and then its version number so that
+ * versions created in the same millisecond are all retained.  Versions with no timestamps are placed at the
+ * start of the chain.
+ *
+ * @param <T> type of instance - EntityDetail or Relationship
+ */
+class InMemoryOMRSTimeWarpedStore<T extends InstanceHeader> extends AbstractMap<String, T>
+{
+    private final Map<String, T>                           currentStore;
+    private final Map<String, NavigableMap<VersionKey, T>> historyStore;
+    private final long                                     asOfTime;
+
+
+    /**
+     * Constructor supplies the stores to view.
+     *
+     * @param currentStore store of current versions of the instances mapped by guid
+     * @param historyStore previous versions of the instances mapped by guid and then by their version key
+     * @param asOfTime time for the view
+     */
+    InMemoryOMRSTimeWarpedStore(Map<String, T>                           currentStore,
+                                Map<String, NavigableMap<VersionKey, T>> historyStore,
+                                Date                                     asOfTime)
+    {
+        this.currentStore = currentStore;
+        this.historyStore = historyStore;
+        this.asOfTime = asOfTime.getTime();
+    }
+
+
+    /**
+     * Return the time that a version of an instance became active.  This is its update time, or its create
+     * time if it has never been updated.
+     *
+     * @param instance version of the instance
+     * @return time in milliseconds or null if the instance has no timestamps
+     */
+    static Long getEffectiveTime(InstanceHeader instance)
+    {
+        if (instance.getUpdateTime() != null)
+        {
+            return instance.getUpdateTime().getTime();
+        }
+        else if (instance.getCreateTime() != null)
+        {
+            return instance.getCreateTime().getTime();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the key for a version of an instance in its version chain.
+     *
+     * @param instance version of the instance
+     * @return key
+     */
+    static VersionKey getVersionKey(InstanceHeader instance)
+    {
+        Long effectiveTime = getEffectiveTime(instance);
+
+        return new VersionKey((effectiveTime == null) ? Long.MIN_VALUE : effectiveTime, instance.getVersion());
+    }
+
+
+    /**
+     * Return the version of the instance that was active at the time of the view.
+     *
+     * @param key unique identifier of the instance
+     * @return version of the instance or null if it did not exist at that time
+     */
+    @Override
+    public T get(Object key)
+    {
+        T currentVersion = currentStore.get(key);
+
+        if (currentVersion != null)
+        {
+            Long effectiveTime = getEffectiveTime(currentVersion);
+
+            if ((effectiveTime != null) && (effectiveTime <= asOfTime))
+            {
+                return currentVersion;
+            }
+        }
+
+        NavigableMap<VersionKey, T> versions = historyStore.get(key);
+
+        if (versions != null)
+        {
+            Map.Entry<VersionKey, T> version = versions.floorEntry(new VersionKey(asOfTime, Long.MAX_VALUE));
+
+            if (version != null)
+            {
+                return version.getValue();
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return whether the instance existed at the time of the view.
+     *
+     * @param key unique identifier of the instance
+     * @return boolean
+     */
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.get(key) != null;
+    }
+
+
+    /**
+     * Return the instances that existed at the time of the view.  Every instance with a history also has
+     * a current version so the guids are taken from the current store.
+     *
+     * @return set of guid to instance mappings
+     */
+    @Override
+    public Set<Entry<String, T>> entrySet()
+    {
+        return new AbstractSet<>()
+        {
+            @Override
+            public Iterator<Entry<String, T>> iterator()
+            {
+                return new TimeWarpedIterator(currentStore.keySet().iterator());
+            }
+
+
+            @Override
+            public int size()
+            {
+                int count = 0;
+
+                for (String guid : currentStore.keySet())
+                {
+                    if (InMemoryOMRSTimeWarpedStore.this.get(guid) != null)
+                    {
+                        count++;
+                    }
+                }
+
+                return count;
+            }
+        };
+    }
+
+
+    /**
+     * TimeWarpedIterator steps through the guids of the current store and returns the versions of the
+     * instances that were active at the time of the view.  Instances that did not exist at that time are skipped.
+     */
+    private class TimeWarpedIterator implements Iterator<Entry<String, T>>
+    {
+        private final Iterator<String> guids;
+        private Entry<String, T>       nextEntry;
+
+
+        /**
+         * Constructor takes the iterator over the guids.
+         *
+         * @param guids guids of the instances
+         */
+        TimeWarpedIterator(Iterator<String> guids)
+        {
+            this.guids = guids;
+            this.nextEntry = this.advance();
+        }
+
+
+        /**
+         * Locate the next instance that existed at the time of the view.
+         *
+         * @return entry or null if there are no more instances
+         */
+        private Entry<String, T> advance()
+        {
+            while (guids.hasNext())
+            {
+                String guid    = guids.next();
+                T      version = InMemoryOMRSTimeWarpedStore.this.get(guid);
+
+                if (version != null)
+                {
+                    return new AbstractMap.SimpleImmutableEntry<>(guid, version);
+                }
+            }
+
+            return null;
+        }
+
+
+        @Override
+        public boolean hasNext()
+        {
+            return nextEntry != null;
+        }
+
+
+        @Override
+        public Entry<String, T> next()
+        {
+            if (nextEntry == null)
+            {
+                throw new NoSuchElementException();
+            }
+
+            Entry<String, T> result = nextEntry;
+
+            nextEntry = this.advance();
+
+            return result;
+        }
+    }
+
+
+    /**
+     * VersionKey orders the versions in a version chain by the time that they became active and then by
+     * their version number.
+     */
+    static final class VersionKey implements Comparable<VersionKey>
+    {
+        private final long effectiveTime;
+        private final long version;
+
+
+        /**
+         * Constructor supplies the position in the chain.
+         *
+         * @param effectiveTime time in milliseconds that the version became active
+         * @param version version number
+         */
+        VersionKey(long effectiveTime,
+                   long version)
+        {
+            this.effectiveTime = effectiveTime;
+            this.version = version;
+        }
+
+
+        @Override
+        public int compareTo(VersionKey other)
+        {
+            int result = Long.compare(effectiveTime, other.effectiveTime);
+
+            if (result == 0)
+            {
+                result = Long.compare(version, other.version);
+            }
+
+            return result;
+        }
+
+
+        @Override
+        public boolean equals(Object objectToCompare)
+        {
+            if (this == objectToCompare)
+            {
+                return true;
+            }
+            if (objectToCompare == null || getClass() != objectToCompare.getClass())
+            {
+                return false;
+            }
+            VersionKey that = (VersionKey) objectToCompare;
+            return effectiveTime == that.effectiveTime &&
+                           version == that.version;
+        }
+
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(effectiveTime, version);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+public class TestInMemoryOMRSInstanceIndex
+{
+    @Test
+    void testEntityIndexes()
+    {
+        InMemoryOMRSInstanceIndex index = new InMemoryOMRSInstanceIndex(null);
+
+        EntityDetail entity = getEntity("1111", "GlossaryTerm", "Referenceable", "term1");
+        entity.setClassifications(Collections.singletonList(getClassification("Confidentiality")));
+
+        index.updateInstance(null, entity);
+
+        assertEquals(index.getGUIDsForType("GlossaryTerm"), Collections.singleton("1111"));
+        assertEquals(index.getGUIDsForType("Referenceable"), Collections.singleton("1111"));
+        assertEquals(index.getGUIDsForClassification("Confidentiality"), Collections.singleton("1111"));
+        assertEquals(index.getGUIDsForPropertyValue("qualifiedName", "term1"), Collections.singleton("1111"));
+        assertTrue(index.getGUIDsForPropertyValue("qualifiedName", "term2").isEmpty());
+        assertNull(index.getGUIDsForPropertyValue("displayName", "term1"));
+
+        /*
+         * Update the entity to remove the classification and change its qualified name.
+         */
+        EntityDetail updatedEntity = getEntity("1111", "GlossaryTerm", "Referenceable", "term2");
+
+        index.updateInstance(entity, updatedEntity);
+
+        assertTrue(index.getGUIDsForClassification("Confidentiality").isEmpty());
+        assertTrue(index.getGUIDsForPropertyValue("qualifiedName", "term1").isEmpty());
+        assertEquals(index.getGUIDsForPropertyValue("qualifiedName", "term2"), Collections.singleton("1111"));
+
+        index.updateInstance(updatedEntity, null);
+
+        assertTrue(index.getGUIDsForType("Referenceable").isEmpty());
+        assertTrue(index.getGUIDsForPropertyValue("qualifiedName", "term2").isEmpty());
+    }
+
+
+    @Test
+    void testRelationshipIndexes()
+    {
+        InMemoryOMRSInstanceIndex index = new InMemoryOMRSInstanceIndex(null);
+
+        Relationship relationship = new Relationship();
+        relationship.setGUID("3333");
+        relationship.setType(getType("SemanticAssignment", null));
+
+        EntityProxy entityOneProxy = new EntityProxy();
+        entityOneProxy.setGUID("1111");
+        EntityProxy entityTwoProxy = new EntityProxy();
+        entityTwoProxy.setGUID("2222");
+
+        relationship.setEntityOneProxy(entityOneProxy);
+        relationship.setEntityTwoProxy(entityTwoProxy);
+
+        index.updateInstance(null, relationship);
+
+        assertEquals(index.getGUIDsForRelatedEntity("1111"), Collections.singleton("3333"));
+        assertEquals(index.getGUIDsForRelatedEntity("2222"), Collections.singleton("3333"));
+        assertEquals(index.getGUIDsForType("SemanticAssignment"), Collections.singleton("3333"));
+
+        index.updateInstance(relationship, null);
+
+        assertTrue(index.getGUIDsForRelatedEntity("1111").isEmpty());
+    }
+
+
+    private EntityDetail getEntity(String guid,
+                                   String typeName,
+                                   String superTypeName,
+                                   String qualifiedName)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setType(getType(typeName, superTypeName));
+
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue(qualifiedName);
+
+        InstanceProperties properties = new InstanceProperties();
+        properties.setProperty("qualifiedName", propertyValue);
+        entity.setProperties(properties);
+
+        return entity;
+    }
+
+
+    private InstanceType getType(String typeName,
+                                 String superTypeName)
+    {
+        InstanceType type = new InstanceType();
+
+        type.setTypeDefName(typeName);
+
+        if (superTypeName != null)
+        {
+            TypeDefLink superType = new TypeDefLink();
+            superType.setName(superTypeName);
+            type.setTypeDefSuperTypes(Collections.singletonList(superType));
+        }
+
+        return type;
+    }
+
+
+    private Classification getClassification(String name)
+    {
+        Classification classification = new Classification();
+
+        classification.setName(name);
+
+        return classification;
+    }
+}
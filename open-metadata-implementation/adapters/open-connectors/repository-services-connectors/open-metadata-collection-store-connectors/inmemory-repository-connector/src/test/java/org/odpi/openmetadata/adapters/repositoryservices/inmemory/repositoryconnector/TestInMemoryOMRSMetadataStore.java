@@ -0,0 +1,139 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+public class TestInMemoryOMRSMetadataStore
+{
+    @Test
+    void testTimeWarpedEntityStore()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.createEntityInStore(getEntity("1111", 1L, 1000L, null));
+        store.updateEntityInStore(getEntity("1111", 2L, 1000L, 2000L));
+        store.updateEntityInStore(getEntity("1111", 3L, 1000L, 3000L));
+        store.createEntityInStore(getEntity("2222", 1L, 2500L, null));
+
+        Map<String, EntityDetail> beforeCreate = store.timeWarpEntityStore(new Date(500L));
+        assertNull(beforeCreate.get("1111"));
+        assertTrue(beforeCreate.isEmpty());
+
+        Map<String, EntityDetail> firstVersion = store.timeWarpEntityStore(new Date(1500L));
+        assertEquals(firstVersion.get("1111").getVersion(), 1L);
+        assertNull(firstVersion.get("2222"));
+        assertEquals(firstVersion.size(), 1);
+
+        Map<String, EntityDetail> secondVersion = store.timeWarpEntityStore(new Date(2500L));
+        assertEquals(secondVersion.get("1111").getVersion(), 2L);
+        assertEquals(secondVersion.get("2222").getVersion(), 1L);
+        assertEquals(secondVersion.values().size(), 2);
+
+        assertEquals(store.timeWarpEntityStore(new Date(5000L)).get("1111").getVersion(), 3L);
+        assertEquals(store.timeWarpEntityStore(null).get("1111").getVersion(), 3L);
+    }
+
+
+    @Test
+    void testRetrievePreviousVersionAndPurge()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.createEntityInStore(getEntity("1111", 1L, 1000L, null));
+        store.updateEntityInStore(getEntity("1111", 2L, 1000L, 2000L));
+
+        EntityDetail restoredEntity = store.retrievePreviousVersionOfEntity("1111");
+
+        assertEquals(restoredEntity.getVersion(), 3L);
+        assertEquals(restoredEntity.getUpdateTime(), store.getEntity("1111").getUpdateTime());
+
+        /*
+         * The version replaced by the restore is now the most recent in the history.
+         */
+        assertEquals(store.retrievePreviousVersionOfEntity("1111").getVersion(), 4L);
+        assertEquals(store.timeWarpEntityStore(new Date(2500L)).get("1111").getVersion(), 2L);
+
+        store.removeEntityFromStore(store.getEntity("1111"));
+
+        assertNull(store.getEntity("1111"));
+        assertNull(store.retrievePreviousVersionOfEntity("1111"));
+        assertFalse(store.timeWarpEntityStore(new Date(2500L)).containsKey("1111"));
+    }
+
+
+    @Test
+    void testVersionsInSameMillisecondAreRetained()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.createEntityInStore(getEntity("1111", 1L, 1000L, null));
+        store.updateEntityInStore(getEntity("1111", 2L, 1000L, 2000L));
+        store.updateEntityInStore(getEntity("1111", 3L, 1000L, 2000L));
+        store.updateEntityInStore(getEntity("1111", 4L, 1000L, 3000L));
+
+        /*
+         * Versions 2 and 3 became active in the same millisecond - the view sees the later one.
+         */
+        assertEquals(store.timeWarpEntityStore(new Date(1500L)).get("1111").getVersion(), 1L);
+        assertEquals(store.timeWarpEntityStore(new Date(2500L)).get("1111").getVersion(), 3L);
+
+        /*
+         * Both versions are still in the history.
+         */
+        assertEquals(store.retrievePreviousVersionOfEntity("1111").getVersion(), 5L);
+        assertEquals(store.timeWarpEntityStore(new Date(2500L)).get("1111").getVersion(), 3L);
+    }
+
+
+    @Test
+    void testVersionWithoutTimestampIsRetained()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        EntityDetail untimedEntity = new EntityDetail();
+
+        untimedEntity.setGUID("1111");
+        untimedEntity.setVersion(1L);
+
+        store.createEntityInStore(untimedEntity);
+        store.updateEntityInStore(getEntity("1111", 2L, 1000L, 2000L));
+
+        /*
+         * The version with no timestamps is at the start of the chain.
+         */
+        assertEquals(store.timeWarpEntityStore(new Date(1500L)).get("1111").getVersion(), 1L);
+        assertEquals(store.timeWarpEntityStore(new Date(2500L)).get("1111").getVersion(), 2L);
+        assertEquals(store.retrievePreviousVersionOfEntity("1111").getVersion(), 3L);
+    }
+
+
+    private EntityDetail getEntity(String guid,
+                                   long   version,
+                                   long   createTime,
+                                   Long   updateTime)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+        entity.setCreateTime(new Date(createTime));
+
+        if (updateTime != null)
+        {
+            entity.setUpdateTime(new Date(updateTime));
+        }
+
+        return entity;
+    }
+}
@@ -2387,6 +2387,49 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Create the new entities and relationships supplied in the instance graph as a single batch.  Each
+     * instance in the graph is a template for a new instance.  The guid of a template entity may be set to a
+     * temporary value that the relationships in the batch use to link to the new entity.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances templates for the new entities and relationships.
+     * @return instance graph containing the new entities and relationships in the same order as the templates.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                              hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity's type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                       the requested status.
+     * @throws EntityNotKnownException one of the entities identified by a relationship is not known in the
+     *                                   metadata collection or the batch.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstanceGraph addInstances(String          userId,
+                                      InstanceGraph   instances) throws InvalidParameterException,
+                                                                        RepositoryErrorException,
+                                                                        TypeErrorException,
+                                                                        PropertyErrorException,
+                                                                        ClassificationErrorException,
+                                                                        StatusNotSupportedException,
+                                                                        EntityNotKnownException,
+                                                                        FunctionNotSupportedException,
+                                                                        UserNotAuthorizedException
+    {
+        final String methodName  = "addInstances";
+
+        validateClient(methodName);
+        return omrsClient.addInstances(userId, instances);
+    }
+
+
     /**
      * Save a new relationship that is sourced from an external technology.  The external
      * technology is identified by a GUID and a name.  These can be recorded in a
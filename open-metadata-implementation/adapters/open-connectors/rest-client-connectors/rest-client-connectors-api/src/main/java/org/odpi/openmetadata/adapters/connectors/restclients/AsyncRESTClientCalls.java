@@ -0,0 +1,51 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.restclients;
+
+import org.odpi.openmetadata.adapters.connectors.restclients.ffdc.exceptions.RESTServerException;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AsyncRESTClientCalls provides a generic interface for issuing REST calls without waiting for the response.
+ * Each call returns a future that completes with the response object.  If something goes wrong with the
+ * REST call stack, the future completes exceptionally with a {@link RESTServerException}.
+ */
+public interface AsyncRESTClientCalls
+{
+    /**
+     * Issue a GET REST call that returns a response object.
+     *
+     * @param <T> class name
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate template of the URL for the REST API call with place-holders for the parameters.
+     * @param params      a list of parameters that are slotted into the url template.
+     *
+     * @return future for the response object
+     */
+    <T> CompletableFuture<T> callGetRESTCallAsync(String    methodName,
+                                                  Class<T>  returnClass,
+                                                  String    urlTemplate,
+                                                  Object... params);
+
+
+    /**
+     * Issue a POST REST call that returns a response object.  This is typically a create, update, or find with
+     * complex parameters.
+     *
+     * @param <T> class name
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate  template of the URL for the REST API call with place-holders for the parameters.
+     * @param requestBody request body for the request.
+     * @param params  a list of parameters that are slotted into the url template.
+     *
+     * @return future for the response object
+     */
+    <T> CompletableFuture<T> callPostRESTCallAsync(String    methodName,
+                                                   Class<T>  returnClass,
+                                                   String    urlTemplate,
+                                                   Object    requestBody,
+                                                   Object... params);
+}
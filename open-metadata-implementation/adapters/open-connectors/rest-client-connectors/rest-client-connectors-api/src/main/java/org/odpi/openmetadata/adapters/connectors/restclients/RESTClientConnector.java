@@ -2,10 +2,27 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.connectors.restclients;
 
+import org.odpi.openmetadata.adapters.connectors.restclients.ffdc.exceptions.RESTServerException;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
 
-public abstract class RESTClientConnector extends ConnectorBase implements RESTClientCalls
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public abstract class RESTClientConnector extends ConnectorBase implements RESTClientCalls, AsyncRESTClientCalls
 {
+    /*
+     * Runs the blocking calls for connectors that do not provide their own asynchronous implementation.  The number
+     * of threads is bounded so a burst of calls waits in the queue rather than creating a thread for each call.
+     * Idle threads end after a minute.
+     */
+    private static final int             maxBlockingCallThreads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    private static final ExecutorService blockingCallExecutor   = getBlockingCallExecutor();
+
+
     /**
      * Default constructor
      */
@@ -13,4 +30,97 @@ public abstract class RESTClientConnector extends ConnectorBase implements RESTC
     {
         super();
     }
+
+
+    /**
+     * Create the bounded pool of daemon threads that runs the blocking calls.
+     *
+     * @return executor
+     */
+    private static ExecutorService getBlockingCallExecutor()
+    {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxBlockingCallThreads,
+                                                             maxBlockingCallThreads,
+                                                             60L,
+                                                             TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<>(),
+                                                             runnable ->
+                                                             {
+                                                                 Thread thread = new Thread(runnable, "RESTClientConnector::BlockingCall");
+                                                                 thread.setDaemon(true);
+                                                                 return thread;
+                                                             });
+
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+
+    /**
+     * Issue a GET REST call that returns a response object.  This default implementation runs the blocking call
+     * on a separate thread.  Connectors that are able to issue the call without blocking override this method.
+     *
+     * @param <T> class name
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate template of the URL for the REST API call with place-holders for the parameters.
+     * @param params      a list of parameters that are slotted into the url template.
+     *
+     * @return future for the response object
+     */
+    @Override
+    public <T> CompletableFuture<T> callGetRESTCallAsync(String    methodName,
+                                                         Class<T>  returnClass,
+                                                         String    urlTemplate,
+                                                         Object... params)
+    {
+        return CompletableFuture.supplyAsync(() ->
+                                             {
+                                                 try
+                                                 {
+                                                     return this.callGetRESTCall(methodName, returnClass, urlTemplate, params);
+                                                 }
+                                                 catch (RESTServerException error)
+                                                 {
+                                                     throw new CompletionException(error);
+                                                 }
+                                             },
+                                             blockingCallExecutor);
+    }
+
+
+    /**
+     * Issue a POST REST call that returns a response object.  This default implementation runs the blocking call
+     * on a separate thread.  Connectors that are able to issue the call without blocking override this method.
+     *
+     * @param <T> class name
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate  template of the URL for the REST API call with place-holders for the parameters.
+     * @param requestBody request body for the request.
+     * @param params  a list of parameters that are slotted into the url template.
+     *
+     * @return future for the response object
+     */
+    @Override
+    public <T> CompletableFuture<T> callPostRESTCallAsync(String    methodName,
+                                                          Class<T>  returnClass,
+                                                          String    urlTemplate,
+                                                          Object    requestBody,
+                                                          Object... params)
+    {
+        return CompletableFuture.supplyAsync(() ->
+                                             {
+                                                 try
+                                                 {
+                                                     return this.callPostRESTCall(methodName, returnClass, urlTemplate, requestBody, params);
+                                                 }
+                                                 catch (RESTServerException error)
+                                                 {
+                                                     throw new CompletionException(error);
+                                                 }
+                                             },
+                                             blockingCallExecutor);
+    }
 }
@@ -0,0 +1,234 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.restclients.spring;
+
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.HttpsURLConnection;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * SpringRESTClientConnectionPool holds a pool of keep-alive HTTP connections to a single server platform.
+ * The pool is shared by every SpringRESTClientConnector that calls the same server platform URL root with the
+ * same pool settings, so the clients for the different services of a platform reuse the same connections.
+ * A connector with different settings gets its own pool.
+ * <p>
+ * Each connector that requests a pool must release it when it disconnects.  The pool is closed, along with its
+ * connections and eviction thread, when its last user releases it.
+ * <p>
+ * The SSL settings are taken from the defaults for HttpsURLConnection so the strict.ssl option of the platform
+ * applies to pooled connections in the same way as it does to the standard connections.
+ */
+class SpringRESTClientConnectionPool
+{
+    static final int     defaultMaxConnections         = 100;
+    static final int     defaultMaxConnectionsPerRoute = 20;
+    static final long    defaultKeepAliveTime          = 30000L;
+    static final boolean defaultCompression            = true;
+
+    private static final Map<String, SpringRESTClientConnectionPool> connectionPools = new ConcurrentHashMap<>();
+
+    private static final Logger log = LoggerFactory.getLogger(SpringRESTClientConnectionPool.class);
+
+    private final String                             poolKey;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient                httpClient;
+    private int                                      userCount = 0;
+
+
+    /**
+     * Return the connection pool for a server platform and pool settings, creating it if this is the first
+     * request for the combination.  The caller must call releaseConnectionPool when it has finished with the pool.
+     *
+     * @param serverPlatformURLRoot URL root of the server platform
+     * @param maxConnections maximum number of open connections in the pool
+     * @param maxConnectionsPerRoute maximum number of open connections to a single host and port
+     * @param keepAliveTime milliseconds an idle connection is kept open if the server does not specify a time
+     * @param compression request gzip compression of the responses
+     * @return connection pool
+     */
+    static SpringRESTClientConnectionPool getConnectionPool(String  serverPlatformURLRoot,
+                                                            int     maxConnections,
+                                                            int     maxConnectionsPerRoute,
+                                                            long    keepAliveTime,
+                                                            boolean compression)
+    {
+        String poolKey = serverPlatformURLRoot + "|" + maxConnections + "|" + maxConnectionsPerRoute + "|" + keepAliveTime + "|" + compression;
+
+        return connectionPools.compute(poolKey,
+                                       (key, connectionPool) ->
+                                       {
+                                           SpringRESTClientConnectionPool pool = connectionPool;
+
+                                           if (pool == null)
+                                           {
+                                               pool = new SpringRESTClientConnectionPool(key,
+                                                                                         maxConnections,
+                                                                                         maxConnectionsPerRoute,
+                                                                                         keepAliveTime,
+                                                                                         compression);
+                                           }
+
+                                           pool.userCount++;
+
+                                           return pool;
+                                       });
+    }
+
+
+    /**
+     * Release a connection pool returned by getConnectionPool.  The pool is closed when it has no more users.
+     *
+     * @param connectionPool pool to release
+     */
+    static void releaseConnectionPool(SpringRESTClientConnectionPool connectionPool)
+    {
+        if (connectionPool != null)
+        {
+            connectionPools.computeIfPresent(connectionPool.poolKey,
+                                             (key, pool) ->
+                                             {
+                                                 if (pool != connectionPool)
+                                                 {
+                                                     return pool;
+                                                 }
+
+                                                 pool.userCount--;
+
+                                                 if (pool.userCount > 0)
+                                                 {
+                                                     return pool;
+                                                 }
+
+                                                 pool.close();
+
+                                                 return null;
+                                             });
+        }
+    }
+
+
+    /**
+     * Return the number of connection pools that are open.
+     *
+     * @return count
+     */
+    static int getConnectionPoolCount()
+    {
+        return connectionPools.size();
+    }
+
+
+    /**
+     * Create the pool and the HTTP client that uses it.
+     *
+     * @param poolKey key of the pool in the map of pools
+     * @param maxConnections maximum number of open connections in the pool
+     * @param maxConnectionsPerRoute maximum number of open connections to a single host and port
+     * @param keepAliveTime milliseconds an idle connection is kept open if the server does not specify a time
+     * @param compression request gzip compression of the responses
+     */
+    private SpringRESTClientConnectionPool(String  poolKey,
+                                           int     maxConnections,
+                                           int     maxConnectionsPerRoute,
+                                           long    keepAliveTime,
+                                           boolean compression)
+    {
+        this.poolKey = poolKey;
+
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", new SSLConnectionSocketFactory(HttpsURLConnection.getDefaultSSLSocketFactory(),
+                                                                  HttpsURLConnection.getDefaultHostnameVerifier()))
+                .build();
+
+        connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        connectionManager.setMaxTotal(Math.max(maxConnections, 1));
+        connectionManager.setDefaultMaxPerRoute(Math.max(maxConnectionsPerRoute, 1));
+
+        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) ->
+                                      {
+                                          long serverKeepAliveTime = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+
+                                          if (serverKeepAliveTime > 0)
+                                          {
+                                              return serverKeepAliveTime;
+                                          }
+
+                                          return keepAliveTime;
+                                      })
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAliveTime, TimeUnit.MILLISECONDS);
+
+        if (! compression)
+        {
+            httpClientBuilder.disableContentCompression();
+        }
+
+        httpClient = httpClientBuilder.build();
+    }
+
+
+    /**
+     * Return the HTTP client that uses this pool.
+     *
+     * @return HTTP client
+     */
+    CloseableHttpClient getHttpClient()
+    {
+        return httpClient;
+    }
+
+
+    /**
+     * Close the HTTP client.  This closes the pooled connections and stops the eviction thread.
+     */
+    private void close()
+    {
+        try
+        {
+            httpClient.close();
+        }
+        catch (IOException error)
+        {
+            log.debug("Unable to close connection pool " + poolKey, error);
+        }
+    }
+
+
+    /**
+     * Return the current utilisation of the pool.
+     *
+     * @return name-value pairs for the statistics
+     */
+    Map<String, Object> getStatistics()
+    {
+        PoolStats           poolStats  = connectionManager.getTotalStats();
+        Map<String, Object> statistics = new HashMap<>();
+
+        statistics.put("httpPoolLeasedConnections", poolStats.getLeased());
+        statistics.put("httpPoolAvailableConnections", poolStats.getAvailable());
+        statistics.put("httpPoolPendingRequests", poolStats.getPending());
+        statistics.put("httpPoolMaxConnections", poolStats.getMax());
+
+        return statistics;
+    }
+}
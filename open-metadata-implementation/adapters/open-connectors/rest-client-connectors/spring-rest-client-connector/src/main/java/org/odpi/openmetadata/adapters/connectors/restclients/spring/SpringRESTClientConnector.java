@@ -2,10 +2,12 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.connectors.restclients.spring;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.codehaus.plexus.util.Base64;
 import org.odpi.openmetadata.adapters.connectors.restclients.RESTClientConnector;
 import org.odpi.openmetadata.adapters.connectors.restclients.ffdc.RESTClientConnectorErrorCode;
 import org.odpi.openmetadata.adapters.connectors.restclients.ffdc.exceptions.RESTServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.slf4j.Logger;
@@ -15,16 +17,41 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+import java.io.IOException;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -39,6 +66,27 @@ public class SpringRESTClientConnector extends RESTClientConnector
     private String       serverPlatformURLRoot    = null;
     private HttpHeaders  basicAuthorizationHeader = null;
 
+    private SpringRESTClientConnectionPool connectionPool = null;
+    private int                            readTimeout    = 0;
+
+    /*
+     * The asynchronous calls use the same JSON mapper as the REST template so the responses are read in the
+     * same way for both types of call.
+     */
+    private final ObjectMapper objectMapper;
+
+    /*
+     * The asynchronous calls share one HTTP client that multiplexes the requests to all server platforms
+     * over a bounded pool of threads.  The client is created on first use, and again if the strict.ssl
+     * setting changes, so that it follows the SSL setting of the platform in the same way as the REST template.
+     */
+    static final String strictSSLProperty = "strict.ssl";
+
+    private static final int             maxAsyncCallThreads      = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final ExecutorService asyncCallExecutor        = getAsyncCallExecutor();
+    private static HttpClient            asyncHTTPClient          = null;
+    private static boolean               asyncHTTPClientStrictSSL = true;
+
     private static final Logger log = LoggerFactory.getLogger(SpringRESTClientConnector.class);
 
 
@@ -72,6 +120,32 @@ public class SpringRESTClientConnector extends RESTClientConnector
         List<HttpMessageConverter<?>> converters = restTemplate.getMessageConverters();
         converters.removeIf(httpMessageConverter -> httpMessageConverter instanceof StringHttpMessageConverter);
         converters.add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
+
+        objectMapper = this.getJSONObjectMapper(converters);
+    }
+
+
+    /**
+     * Return the JSON mapper used by the REST template, adding a JSON converter if the template does not have one.
+     *
+     * @param converters message converters of the REST template
+     * @return object mapper
+     */
+    private ObjectMapper getJSONObjectMapper(List<HttpMessageConverter<?>> converters)
+    {
+        for (HttpMessageConverter<?> converter : converters)
+        {
+            if (converter instanceof MappingJackson2HttpMessageConverter)
+            {
+                return ((MappingJackson2HttpMessageConverter)converter).getObjectMapper();
+            }
+        }
+
+        MappingJackson2HttpMessageConverter jsonConverter = new MappingJackson2HttpMessageConverter();
+
+        converters.add(jsonConverter);
+
+        return jsonConverter.getObjectMapper();
     }
 
     /**
@@ -114,6 +188,165 @@ public class SpringRESTClientConnector extends RESTClientConnector
             log.debug("Using no authentication to call server " + this.serverName + " on platform " + this.serverPlatformURLRoot + ".");
 
         }
+
+        this.configureHTTPTransport(connectionProperties.getConfigurationProperties());
+    }
+
+
+    /**
+     * Set up the way that the REST template issues HTTP requests.  By default, each request uses the JDK's
+     * HttpURLConnection.  If the pooledConnections configuration property is set, the requests use a pool of
+     * keep-alive connections that is shared with the other connectors calling the same server platform.
+     * The connect and read timeouts apply to both modes.
+     *
+     * @param configurationProperties configuration properties from the connection
+     */
+    private void configureHTTPTransport(Map<String, Object> configurationProperties)
+    {
+        if (configurationProperties == null)
+        {
+            return;
+        }
+
+        int connectTimeout = this.getIntProperty(configurationProperties, SpringRESTClientConnectorProvider.CONNECT_TIMEOUT_PROPERTY, 0);
+        readTimeout        = this.getIntProperty(configurationProperties, SpringRESTClientConnectorProvider.READ_TIMEOUT_PROPERTY, 0);
+
+        if ((this.getBooleanProperty(configurationProperties, SpringRESTClientConnectorProvider.POOLED_CONNECTIONS_PROPERTY, false)) &&
+            (serverPlatformURLRoot != null))
+        {
+            connectionPool = SpringRESTClientConnectionPool.getConnectionPool(serverPlatformURLRoot,
+                                                                              this.getIntProperty(configurationProperties,
+                                                                                                  SpringRESTClientConnectorProvider.MAX_CONNECTIONS_PROPERTY,
+                                                                                                  SpringRESTClientConnectionPool.defaultMaxConnections),
+                                                                              this.getIntProperty(configurationProperties,
+                                                                                                  SpringRESTClientConnectorProvider.MAX_CONNECTIONS_PER_ROUTE_PROPERTY,
+                                                                                                  SpringRESTClientConnectionPool.defaultMaxConnectionsPerRoute),
+                                                                              this.getIntProperty(configurationProperties,
+                                                                                                  SpringRESTClientConnectorProvider.KEEP_ALIVE_TIME_PROPERTY,
+                                                                                                  (int)SpringRESTClientConnectionPool.defaultKeepAliveTime),
+                                                                              this.getBooleanProperty(configurationProperties,
+                                                                                                      SpringRESTClientConnectorProvider.COMPRESSION_PROPERTY,
+                                                                                                      SpringRESTClientConnectionPool.defaultCompression));
+
+            HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(connectionPool.getHttpClient());
+
+            requestFactory.setConnectTimeout(connectTimeout);
+            requestFactory.setReadTimeout(readTimeout);
+
+            restTemplate.setRequestFactory(requestFactory);
+
+            log.debug("Using pooled connections to call server " + this.serverName + " on platform " + this.serverPlatformURLRoot + ".");
+        }
+        else if ((connectTimeout > 0) || (readTimeout > 0))
+        {
+            SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+
+            requestFactory.setConnectTimeout(connectTimeout);
+            requestFactory.setReadTimeout(readTimeout);
+
+            restTemplate.setRequestFactory(requestFactory);
+        }
+    }
+
+
+    /**
+     * Extract an integer value from the configuration properties.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set or not a number
+     * @return property value
+     */
+    private int getIntProperty(Map<String, Object> configurationProperties,
+                               String              propertyName,
+                               int                 defaultValue)
+    {
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if (propertyValue instanceof Number)
+        {
+            return ((Number)propertyValue).intValue();
+        }
+        else if (propertyValue != null)
+        {
+            try
+            {
+                return Integer.parseInt(propertyValue.toString());
+            }
+            catch (NumberFormatException error)
+            {
+                log.error("Ignoring invalid value " + propertyValue + " for configuration property " + propertyName + ".");
+            }
+        }
+
+        return defaultValue;
+    }
+
+
+    /**
+     * Extract a boolean value from the configuration properties.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set
+     * @return property value
+     */
+    private boolean getBooleanProperty(Map<String, Object> configurationProperties,
+                                       String              propertyName,
+                                       boolean             defaultValue)
+    {
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if (propertyValue != null)
+        {
+            return Boolean.parseBoolean(propertyValue.toString());
+        }
+
+        return defaultValue;
+    }
+
+
+    /**
+     * Retrieve the statistics gathered by the connector.  If pooled connections are in use, the statistics include
+     * the utilisation of the connection pool for the server platform.
+     *
+     * @return name-value pairs for the statistics
+     */
+    @Override
+    public Map<String, Object> getConnectorStatistics()
+    {
+        Map<String, Object> statistics = super.getConnectorStatistics();
+
+        if (connectionPool != null)
+        {
+            if (statistics == null)
+            {
+                statistics = new HashMap<>();
+            }
+
+            statistics.putAll(connectionPool.getStatistics());
+        }
+
+        return statistics;
+    }
+
+
+    /**
+     * Free up any resources held since the connector is no longer needed.  The connection pool is released so
+     * it can be closed once no other connector is using it.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public synchronized void disconnect() throws ConnectorCheckedException
+    {
+        if (connectionPool != null)
+        {
+            SpringRESTClientConnectionPool.releaseConnectionPool(connectionPool);
+            connectionPool = null;
+        }
+
+        super.disconnect();
     }
 
 
@@ -910,4 +1143,311 @@ public class SpringRESTClientConnector extends RESTClientConnector
                     error);
         }
     }
+
+
+    /**
+     * Issue a GET REST call without waiting for the response.  The request is sent using the JDK's non-blocking
+     * HTTP client so no thread is held while the call is outstanding.
+     *
+     * @param <T> type of the return object
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate template of the URL for the REST API call with place-holders for the parameters.
+     * @param params      a list of parameters that are slotted into the url template.
+     *
+     * @return future for the response object
+     */
+    @Override
+    public <T> CompletableFuture<T> callGetRESTCallAsync(String    methodName,
+                                                         Class<T>  returnClass,
+                                                         String    urlTemplate,
+                                                         Object... params)
+    {
+        try
+        {
+            log.debug("Calling " + methodName + " asynchronously with URL template " + urlTemplate + " and parameters " + Arrays.toString(params) + ".");
+
+            HttpRequest.Builder requestBuilder = this.getAsyncRequestBuilder(urlTemplate, params).GET();
+
+            return this.sendAsyncRequest(methodName, returnClass, urlTemplate, requestBuilder.build());
+        }
+        catch (Exception error)
+        {
+            return CompletableFuture.failedFuture(this.getRESTServerException(methodName, urlTemplate, error));
+        }
+    }
+
+
+    /**
+     * Issue a POST REST call without waiting for the response.  The request is sent using the JDK's non-blocking
+     * HTTP client so no thread is held while the call is outstanding.
+     *
+     * @param <T> type of the return object
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate  template of the URL for the REST API call with place-holders for the parameters.
+     * @param requestBody request body for the request.
+     * @param params  a list of parameters that are slotted into the url template.
+     *
+     * @return future for the response object
+     */
+    @Override
+    public <T> CompletableFuture<T> callPostRESTCallAsync(String    methodName,
+                                                          Class<T>  returnClass,
+                                                          String    urlTemplate,
+                                                          Object    requestBody,
+                                                          Object... params)
+    {
+        try
+        {
+            log.debug("Calling " + methodName + " asynchronously with URL template " + urlTemplate + " and parameters " + Arrays.toString(params) + ".");
+
+            HttpRequest.Builder requestBuilder = this.getAsyncRequestBuilder(urlTemplate, params);
+
+            requestBuilder.header(HttpHeaders.CONTENT_TYPE, "application/json");
+            requestBuilder.POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(requestBody), StandardCharsets.UTF_8));
+
+            return this.sendAsyncRequest(methodName, returnClass, urlTemplate, requestBuilder.build());
+        }
+        catch (Exception error)
+        {
+            return CompletableFuture.failedFuture(this.getRESTServerException(methodName, urlTemplate, error));
+        }
+    }
+
+
+    /**
+     * Set up the parts of an asynchronous request that are common to all methods.  The URL template is expanded
+     * in the same way as for the REST template.
+     *
+     * @param urlTemplate template of the URL for the REST API call with place-holders for the parameters.
+     * @param params      a list of parameters that are slotted into the url template.
+     * @return request builder
+     */
+    private HttpRequest.Builder getAsyncRequestBuilder(String    urlTemplate,
+                                                       Object... params)
+    {
+        URI uri;
+
+        if (params == null)
+        {
+            uri = restTemplate.getUriTemplateHandler().expand(urlTemplate);
+        }
+        else
+        {
+            uri = restTemplate.getUriTemplateHandler().expand(urlTemplate, params);
+        }
+
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri).header(HttpHeaders.ACCEPT, "application/json");
+
+        if (basicAuthorizationHeader != null)
+        {
+            requestBuilder.header(HttpHeaders.AUTHORIZATION, basicAuthorizationHeader.getFirst(HttpHeaders.AUTHORIZATION));
+        }
+
+        if (readTimeout > 0)
+        {
+            requestBuilder.timeout(Duration.ofMillis(readTimeout));
+        }
+
+        return requestBuilder;
+    }
+
+
+    /**
+     * Send an asynchronous request and convert the JSON response into the response object.
+     *
+     * @param <T> type of the return object
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate template of the URL for the REST API call - used in error messages.
+     * @param request request to send
+     * @return future for the response object
+     * @throws GeneralSecurityException unable to set up SSL for the HTTP client
+     */
+    private <T> CompletableFuture<T> sendAsyncRequest(String      methodName,
+                                                      Class<T>    returnClass,
+                                                      String      urlTemplate,
+                                                      HttpRequest request) throws GeneralSecurityException
+    {
+        return getAsyncHTTPClient().sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                                   .handle((response, error) ->
+                                           {
+                                               try
+                                               {
+                                                   if (error != null)
+                                                   {
+                                                       throw error;
+                                                   }
+
+                                                   if (response.statusCode() >= 400)
+                                                   {
+                                                       throw new IOException("HTTP status " + response.statusCode() + " returned from " + request.uri());
+                                                   }
+
+                                                   T responseObject = null;
+
+                                                   if ((response.body() != null) && (! response.body().isEmpty()))
+                                                   {
+                                                       responseObject = objectMapper.readValue(response.body(), returnClass);
+                                                   }
+
+                                                   log.debug("Returning from " + methodName + " with response object " + responseObject + ".");
+
+                                                   return responseObject;
+                                               }
+                                               catch (Throwable responseError)
+                                               {
+                                                   throw new CompletionException(this.getRESTServerException(methodName, urlTemplate, responseError));
+                                               }
+                                           });
+    }
+
+
+    /**
+     * Create the bounded pool of daemon threads used by the asynchronous HTTP client.  Idle threads end after a minute.
+     *
+     * @return executor
+     */
+    private static ExecutorService getAsyncCallExecutor()
+    {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxAsyncCallThreads,
+                                                             maxAsyncCallThreads,
+                                                             60L,
+                                                             TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<>(),
+                                                             runnable ->
+                                                             {
+                                                                 Thread thread = new Thread(runnable, "SpringRESTClientConnector::AsyncCall");
+                                                                 thread.setDaemon(true);
+                                                                 return thread;
+                                                             });
+
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+
+    /**
+     * Return the HTTP client for the asynchronous calls.  If the strict.ssl system property is set to false,
+     * the client accepts any certificate and host name, in the same way as the HttpsURLConnection defaults
+     * set up by the platform.  Otherwise it uses the JVM's default SSL context.
+     *
+     * @return HTTP client
+     * @throws GeneralSecurityException unable to set up SSL
+     */
+    static synchronized HttpClient getAsyncHTTPClient() throws GeneralSecurityException
+    {
+        boolean strictSSL = ! "false".equalsIgnoreCase(System.getProperty(strictSSLProperty));
+
+        if ((asyncHTTPClient == null) || (asyncHTTPClientStrictSSL != strictSSL))
+        {
+            HttpClient.Builder httpClientBuilder = HttpClient.newBuilder()
+                                                             .version(HttpClient.Version.HTTP_1_1)
+                                                             .executor(asyncCallExecutor);
+
+            if (! strictSSL)
+            {
+                SSLContext sslContext = SSLContext.getInstance("TLS");
+
+                sslContext.init(null, new TrustManager[]{ new TrustAllCertificates() }, new SecureRandom());
+                httpClientBuilder.sslContext(sslContext);
+
+                log.warn("strict.ssl is set to false! Invalid certificates will be accepted for asynchronous REST calls!");
+            }
+
+            asyncHTTPClient = httpClientBuilder.build();
+            asyncHTTPClientStrictSSL = strictSSL;
+        }
+
+        return asyncHTTPClient;
+    }
+
+
+    /**
+     * Build the exception returned when an asynchronous REST call fails.
+     *
+     * @param methodName  name of the method being called.
+     * @param urlTemplate template of the URL for the REST API call.
+     * @param error cause of the failure
+     * @return exception to return through the future
+     */
+    private RESTServerException getRESTServerException(String    methodName,
+                                                       String    urlTemplate,
+                                                       Throwable error)
+    {
+        if (error instanceof CompletionException && error.getCause() != null)
+        {
+            error = error.getCause();
+        }
+
+        log.debug("Exception " + error.getClass().getName() + " with message " + error.getMessage() + " occurred during REST call for " + methodName + ".");
+
+        RESTClientConnectorErrorCode errorCode = RESTClientConnectorErrorCode.CLIENT_SIDE_REST_API_ERROR;
+        String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(error.getClass().getName(),
+                                                                                                 methodName,
+                                                                                                 urlTemplate,
+                                                                                                 serverName,
+                                                                                                 serverPlatformURLRoot,
+                                                                                                 error.getMessage());
+
+        return new RESTServerException(errorCode.getHTTPErrorCode(),
+                                       this.getClass().getName(),
+                                       methodName,
+                                       errorMessage,
+                                       errorCode.getSystemAction(),
+                                       errorCode.getUserAction(),
+                                       error);
+    }
+
+
+    /**
+     * TrustAllCertificates accepts every certificate and host name.  It is only used when strict.ssl is false.
+     * It extends X509ExtendedTrustManager so that the SSL engine does not add its own host name check.
+     */
+    private static class TrustAllCertificates extends X509ExtendedTrustManager
+    {
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket)
+        {
+        }
+
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket)
+        {
+        }
+
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+        {
+        }
+
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+        {
+        }
+
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType)
+        {
+        }
+
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType)
+        {
+        }
+
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers()
+        {
+            return new X509Certificate[0];
+        }
+    }
 }
@@ -6,6 +6,9 @@ import org.odpi.openmetadata.adapters.connectors.restclients.RESTClientConnector
 import org.odpi.openmetadata.frameworks.connectors.ConnectorProviderBase;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * SpringRESTClientConnectorProvider provides the connector provider for the SpringRESTClientConnector.
@@ -16,6 +19,17 @@ public class SpringRESTClientConnectorProvider extends RESTClientConnectorProvid
     static final String  connectorTypeName = "Spring REST Client Connector";
     static final String  connectorTypeDescription = "Connector that calls the REST API of a remote server using Spring.";
 
+    /*
+     * Names of configuration properties
+     */
+    public  static final String POOLED_CONNECTIONS_PROPERTY        = "pooledConnections";
+    public  static final String MAX_CONNECTIONS_PROPERTY           = "maxConnections";
+    public  static final String MAX_CONNECTIONS_PER_ROUTE_PROPERTY = "maxConnectionsPerRoute";
+    public  static final String KEEP_ALIVE_TIME_PROPERTY           = "keepAliveTime";
+    public  static final String COMPRESSION_PROPERTY               = "compression";
+    public  static final String CONNECT_TIMEOUT_PROPERTY           = "connectTimeout";
+    public  static final String READ_TIMEOUT_PROPERTY              = "readTimeout";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * REST Client Connector implementation.
@@ -34,6 +48,16 @@ public class SpringRESTClientConnectorProvider extends RESTClientConnectorProvid
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(POOLED_CONNECTIONS_PROPERTY);
+        recognizedConfigurationProperties.add(MAX_CONNECTIONS_PROPERTY);
+        recognizedConfigurationProperties.add(MAX_CONNECTIONS_PER_ROUTE_PROPERTY);
+        recognizedConfigurationProperties.add(KEEP_ALIVE_TIME_PROPERTY);
+        recognizedConfigurationProperties.add(COMPRESSION_PROPERTY);
+        recognizedConfigurationProperties.add(CONNECT_TIMEOUT_PROPERTY);
+        recognizedConfigurationProperties.add(READ_TIMEOUT_PROPERTY);
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
     }
 }
@@ -0,0 +1,139 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.restclients.spring;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * SpringRESTClientConnectionPoolTest verifies that connection pools are shared only by connectors with the same
+ * platform and settings, and that a pool is closed when its last user releases it.
+ */
+public class SpringRESTClientConnectionPoolTest
+{
+    @Test
+    public void testPoolsAreKeyedBySettings()
+    {
+        final String platformURLRoot = "https://localhost:9443/keyedBySettings";
+
+        int initialPoolCount = SpringRESTClientConnectionPool.getConnectionPoolCount();
+
+        SpringRESTClientConnectionPool pool1 = SpringRESTClientConnectionPool.getConnectionPool(platformURLRoot, 100, 20, 30000L, true);
+        SpringRESTClientConnectionPool pool2 = SpringRESTClientConnectionPool.getConnectionPool(platformURLRoot, 100, 20, 30000L, true);
+        SpringRESTClientConnectionPool pool3 = SpringRESTClientConnectionPool.getConnectionPool(platformURLRoot, 10, 5, 30000L, true);
+        SpringRESTClientConnectionPool pool4 = SpringRESTClientConnectionPool.getConnectionPool(platformURLRoot, 100, 20, 30000L, false);
+        SpringRESTClientConnectionPool pool5 = SpringRESTClientConnectionPool.getConnectionPool(platformURLRoot + "/other", 100, 20, 30000L, true);
+
+        try
+        {
+            assertSame(pool1, pool2);
+            assertNotSame(pool1, pool3);
+            assertNotSame(pool1, pool4);
+            assertNotSame(pool1, pool5);
+
+            assertEquals(pool3.getStatistics().get("httpPoolMaxConnections"), 10);
+            assertEquals(SpringRESTClientConnectionPool.getConnectionPoolCount(), initialPoolCount + 4);
+        }
+        finally
+        {
+            SpringRESTClientConnectionPool.releaseConnectionPool(pool1);
+            SpringRESTClientConnectionPool.releaseConnectionPool(pool2);
+            SpringRESTClientConnectionPool.releaseConnectionPool(pool3);
+            SpringRESTClientConnectionPool.releaseConnectionPool(pool4);
+            SpringRESTClientConnectionPool.releaseConnectionPool(pool5);
+        }
+
+        assertEquals(SpringRESTClientConnectionPool.getConnectionPoolCount(), initialPoolCount);
+    }
+
+
+    @Test
+    public void testPoolIsClosedByLastUser()
+    {
+        final String platformURLRoot = "https://localhost:9443/closedByLastUser";
+
+        int initialPoolCount = SpringRESTClientConnectionPool.getConnectionPoolCount();
+
+        SpringRESTClientConnectionPool pool1 = SpringRESTClientConnectionPool.getConnectionPool(platformURLRoot, 100, 20, 30000L, true);
+        SpringRESTClientConnectionPool pool2 = SpringRESTClientConnectionPool.getConnectionPool(platformURLRoot, 100, 20, 30000L, true);
+
+        SpringRESTClientConnectionPool.releaseConnectionPool(pool1);
+
+        /*
+         * The second user still holds the pool.
+         */
+        assertEquals(SpringRESTClientConnectionPool.getConnectionPoolCount(), initialPoolCount + 1);
+        assertSame(SpringRESTClientConnectionPool.getConnectionPool(platformURLRoot, 100, 20, 30000L, true), pool2);
+        SpringRESTClientConnectionPool.releaseConnectionPool(pool2);
+
+        SpringRESTClientConnectionPool.releaseConnectionPool(pool2);
+
+        assertEquals(SpringRESTClientConnectionPool.getConnectionPoolCount(), initialPoolCount);
+
+        /*
+         * Releasing a closed pool has no effect and a new request creates a new pool.
+         */
+        SpringRESTClientConnectionPool.releaseConnectionPool(pool2);
+
+        SpringRESTClientConnectionPool pool3 = SpringRESTClientConnectionPool.getConnectionPool(platformURLRoot, 100, 20, 30000L, true);
+
+        assertNotSame(pool3, pool2);
+        SpringRESTClientConnectionPool.releaseConnectionPool(pool3);
+        assertEquals(SpringRESTClientConnectionPool.getConnectionPoolCount(), initialPoolCount);
+    }
+
+
+    @Test
+    public void testDisconnectReleasesPool() throws Exception
+    {
+        int initialPoolCount = SpringRESTClientConnectionPool.getConnectionPoolCount();
+
+        SpringRESTClientConnector connector1 = getConnector("https://localhost:9443/disconnectReleasesPool");
+        SpringRESTClientConnector connector2 = getConnector("https://localhost:9443/disconnectReleasesPool");
+
+        assertEquals(SpringRESTClientConnectionPool.getConnectionPoolCount(), initialPoolCount + 1);
+        assertTrue(connector1.getConnectorStatistics().containsKey("httpPoolMaxConnections"));
+
+        connector1.disconnect();
+
+        Map<String, Object> statistics = connector1.getConnectorStatistics();
+
+        assertTrue((statistics == null) || (! statistics.containsKey("httpPoolMaxConnections")));
+        assertEquals(SpringRESTClientConnectionPool.getConnectionPoolCount(), initialPoolCount + 1);
+
+        connector2.disconnect();
+        connector2.disconnect();
+
+        assertEquals(SpringRESTClientConnectionPool.getConnectionPoolCount(), initialPoolCount);
+    }
+
+
+    private SpringRESTClientConnector getConnector(String platformURLRoot) throws Exception
+    {
+        Connection          connection              = new Connection();
+        Endpoint            endpoint                = new Endpoint();
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        endpoint.setAddress(platformURLRoot);
+        endpoint.setDisplayName("testServer");
+        configurationProperties.put(SpringRESTClientConnectorProvider.POOLED_CONNECTIONS_PROPERTY, true);
+        connection.setEndpoint(endpoint);
+        connection.setConfigurationProperties(configurationProperties);
+
+        SpringRESTClientConnector connector = new SpringRESTClientConnector();
+
+        connector.initialize("testConnector", new ConnectionProperties(connection));
+
+        return connector;
+    }
+}
@@ -0,0 +1,222 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.restclients.spring;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.odpi.openmetadata.adapters.connectors.restclients.ffdc.exceptions.RESTServerException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * SpringRESTClientConnectorAsyncTest verifies the asynchronous REST calls against a local HTTP server.
+ */
+public class SpringRESTClientConnectorAsyncTest
+{
+    private HttpServer                httpServer = null;
+    private String                    platformURLRoot;
+    private SpringRESTClientConnector connector;
+
+
+    @BeforeClass
+    public void startServer() throws Exception
+    {
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+
+        httpServer.createContext("/sample/", exchange ->
+        {
+            String name = exchange.getRequestURI().getPath().substring("/sample/".length());
+
+            sendResponse(exchange, 200, "{\"name\":\"" + name + "\",\"unknownProperty\":1}");
+        });
+
+        httpServer.createContext("/echo", exchange ->
+        {
+            try (InputStream requestBody = exchange.getRequestBody())
+            {
+                String body = new String(requestBody.readAllBytes(), StandardCharsets.UTF_8);
+
+                if ("POST".equals(exchange.getRequestMethod()) &&
+                    exchange.getRequestHeaders().getFirst("Content-Type").startsWith("application/json"))
+                {
+                    sendResponse(exchange, 200, body);
+                }
+                else
+                {
+                    sendResponse(exchange, 400, "");
+                }
+            }
+        });
+
+        httpServer.createContext("/empty", exchange -> sendResponse(exchange, 200, ""));
+        httpServer.createContext("/missing", exchange -> sendResponse(exchange, 404, "{}"));
+
+        httpServer.start();
+
+        platformURLRoot = "http://localhost:" + httpServer.getAddress().getPort();
+
+        Connection connection = new Connection();
+        Endpoint   endpoint   = new Endpoint();
+
+        endpoint.setAddress(platformURLRoot);
+        endpoint.setDisplayName("testServer");
+        connection.setEndpoint(endpoint);
+
+        connector = new SpringRESTClientConnector();
+        connector.initialize("testConnector", new ConnectionProperties(connection));
+    }
+
+
+    @AfterClass
+    public void stopServer()
+    {
+        if (httpServer != null)
+        {
+            httpServer.stop(0);
+        }
+    }
+
+
+    @Test
+    public void testAsyncGet() throws Exception
+    {
+        CompletableFuture<SampleResponse> future = connector.callGetRESTCallAsync("testAsyncGet",
+                                                                                  SampleResponse.class,
+                                                                                  platformURLRoot + "/sample/{0}",
+                                                                                  "entity1");
+
+        /*
+         * The response has a property that is not in the class.  It is ignored as it is for the synchronous calls.
+         */
+        assertEquals(future.get(10, TimeUnit.SECONDS).name, "entity1");
+    }
+
+
+    @Test
+    public void testAsyncPost() throws Exception
+    {
+        SampleResponse requestBody = new SampleResponse();
+
+        requestBody.name = "posted";
+
+        CompletableFuture<SampleResponse> future = connector.callPostRESTCallAsync("testAsyncPost",
+                                                                                   SampleResponse.class,
+                                                                                   platformURLRoot + "/echo",
+                                                                                   requestBody);
+
+        assertEquals(future.get(10, TimeUnit.SECONDS).name, "posted");
+    }
+
+
+    @Test
+    public void testAsyncEmptyResponse() throws Exception
+    {
+        CompletableFuture<SampleResponse> future = connector.callGetRESTCallAsync("testAsyncEmptyResponse",
+                                                                                  SampleResponse.class,
+                                                                                  platformURLRoot + "/empty");
+
+        assertNull(future.get(10, TimeUnit.SECONDS));
+    }
+
+
+    @Test
+    public void testAsyncErrorStatus() throws Exception
+    {
+        CompletableFuture<SampleResponse> future = connector.callGetRESTCallAsync("testAsyncErrorStatus",
+                                                                                  SampleResponse.class,
+                                                                                  platformURLRoot + "/missing");
+
+        try
+        {
+            future.get(10, TimeUnit.SECONDS);
+            fail("Exception expected");
+        }
+        catch (ExecutionException error)
+        {
+            assertTrue(error.getCause() instanceof RESTServerException);
+            assertTrue(error.getCause().getMessage().contains("404"));
+        }
+    }
+
+
+    @Test
+    public void testAsyncHTTPClientFollowsStrictSSL() throws Exception
+    {
+        String strictSSL = System.getProperty(SpringRESTClientConnector.strictSSLProperty);
+
+        try
+        {
+            System.setProperty(SpringRESTClientConnector.strictSSLProperty, "true");
+
+            HttpClient strictClient = SpringRESTClientConnector.getAsyncHTTPClient();
+
+            assertSame(strictClient.sslContext(), SSLContext.getDefault());
+            assertSame(SpringRESTClientConnector.getAsyncHTTPClient(), strictClient);
+
+            System.setProperty(SpringRESTClientConnector.strictSSLProperty, "false");
+
+            HttpClient relaxedClient = SpringRESTClientConnector.getAsyncHTTPClient();
+
+            assertNotSame(relaxedClient, strictClient);
+            assertNotSame(relaxedClient.sslContext(), SSLContext.getDefault());
+        }
+        finally
+        {
+            if (strictSSL == null)
+            {
+                System.clearProperty(SpringRESTClientConnector.strictSSLProperty);
+            }
+            else
+            {
+                System.setProperty(SpringRESTClientConnector.strictSSLProperty, strictSSL);
+            }
+        }
+    }
+
+
+    private static void sendResponse(HttpExchange exchange,
+                                     int          statusCode,
+                                     String       body) throws IOException
+    {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, bytes.length == 0 ? -1 : bytes.length);
+
+        try (OutputStream responseBody = exchange.getResponseBody())
+        {
+            responseBody.write(bytes);
+        }
+    }
+
+
+    /**
+     * SampleResponse is the bean passed in the requests and responses.
+     */
+    public static class SampleResponse
+    {
+        public String name;
+    }
+}
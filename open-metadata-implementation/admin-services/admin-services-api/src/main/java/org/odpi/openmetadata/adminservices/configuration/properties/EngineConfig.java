@@ -29,9 +29,22 @@ public class EngineConfig extends AdminServicesConfigHeader
 {
     private static final long    serialVersionUID = 1L;
 
-    private String engineId            = UUID.randomUUID().toString();
-    private String engineQualifiedName = null;
-    private String engineUserId        = null;
+    /**
+     * Default maximum number of governance services that the engine runs at the same time.
+     */
+    public static final int defaultMaxConcurrentServices = 10;
+
+    /**
+     * Default maximum number of governance service requests waiting for a free thread.
+     */
+    public static final int defaultMaxQueuedServices = 1000;
+
+    private String  engineId              = UUID.randomUUID().toString();
+    private String  engineQualifiedName   = null;
+    private String  engineUserId          = null;
+    private int     maxConcurrentServices = defaultMaxConcurrentServices;
+    private int     maxQueuedServices     = defaultMaxQueuedServices;
+    private boolean useVirtualThreads     = false;
 
 
     /**
@@ -54,9 +67,12 @@ public class EngineConfig extends AdminServicesConfigHeader
 
         if (template != null)
         {
-            engineId            = template.getEngineId();
-            engineQualifiedName = template.getEngineQualifiedName();
-            engineUserId        = template.getEngineUserId();
+            engineId              = template.getEngineId();
+            engineQualifiedName   = template.getEngineQualifiedName();
+            engineUserId          = template.getEngineUserId();
+            maxConcurrentServices = template.getMaxConcurrentServices();
+            maxQueuedServices     = template.getMaxQueuedServices();
+            useVirtualThreads     = template.getUseVirtualThreads();
         }
     }
 
@@ -130,6 +146,75 @@ public class EngineConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the maximum number of governance services that the engine runs at the same time.
+     *
+     * @return count of threads
+     */
+    public int getMaxConcurrentServices()
+    {
+        return maxConcurrentServices;
+    }
+
+
+    /**
+     * Set up the maximum number of governance services that the engine runs at the same time.
+     *
+     * @param maxConcurrentServices count of threads
+     */
+    public void setMaxConcurrentServices(int maxConcurrentServices)
+    {
+        this.maxConcurrentServices = maxConcurrentServices;
+    }
+
+
+    /**
+     * Return the maximum number of governance service requests that can wait for a free thread.  When this
+     * limit is reached, new governance actions are left for another engine host to claim.
+     *
+     * @return count of requests
+     */
+    public int getMaxQueuedServices()
+    {
+        return maxQueuedServices;
+    }
+
+
+    /**
+     * Set up the maximum number of governance service requests that can wait for a free thread.
+     *
+     * @param maxQueuedServices count of requests
+     */
+    public void setMaxQueuedServices(int maxQueuedServices)
+    {
+        this.maxQueuedServices = maxQueuedServices;
+    }
+
+
+    /**
+     * Return whether the governance services should run on virtual threads.  This suits governance services
+     * that spend most of their time waiting for I/O.  It is ignored if the Java runtime does not support
+     * virtual threads.
+     *
+     * @return boolean flag
+     */
+    public boolean getUseVirtualThreads()
+    {
+        return useVirtualThreads;
+    }
+
+
+    /**
+     * Set up whether the governance services should run on virtual threads.
+     *
+     * @param useVirtualThreads boolean flag
+     */
+    public void setUseVirtualThreads(boolean useVirtualThreads)
+    {
+        this.useVirtualThreads = useVirtualThreads;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -142,6 +227,9 @@ public class EngineConfig extends AdminServicesConfigHeader
                        "engineId=" + engineId +
                        ", engineQualifiedName='" + engineQualifiedName + '\'' +
                        ", engineUserId='" + engineUserId + '\'' +
+                       ", maxConcurrentServices=" + maxConcurrentServices +
+                       ", maxQueuedServices=" + maxQueuedServices +
+                       ", useVirtualThreads=" + useVirtualThreads +
                        '}';
     }
 
@@ -164,7 +252,10 @@ public class EngineConfig extends AdminServicesConfigHeader
             return false;
         }
         EngineConfig that = (EngineConfig) objectToCompare;
-        return Objects.equals(engineId, that.engineId) &&
+        return maxConcurrentServices == that.maxConcurrentServices &&
+                       maxQueuedServices == that.maxQueuedServices &&
+                       useVirtualThreads == that.useVirtualThreads &&
+                       Objects.equals(engineId, that.engineId) &&
                        Objects.equals(engineQualifiedName, that.engineQualifiedName) &&
                        Objects.equals(engineUserId, that.engineUserId);
     }
@@ -178,6 +269,7 @@ public class EngineConfig extends AdminServicesConfigHeader
     @Override
     public int hashCode()
     {
-        return Objects.hash(getEngineId(), getEngineQualifiedName(), getEngineUserId());
+        return Objects.hash(getEngineId(), getEngineQualifiedName(), getEngineUserId(),
+                            getMaxConcurrentServices(), getMaxQueuedServices(), getUseVirtualThreads());
     }
 }
@@ -10,6 +10,7 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSPatternCache;
 
 import java.util.List;
 
@@ -197,12 +198,11 @@ public class InvalidParameterHandler
         {
             /*
              * This test just validated that the regular expression in the search parameter is valid.
+             * The compiled expression is cached for the search that follows.
              */
-            final String testString = "abcdefghijklmnopqrstuvwxyz";
-
             try
             {
-                boolean matchResult = testString.matches(searchString);
+                OMRSPatternCache.validate(searchString);
             }
             catch (Exception error)
             {
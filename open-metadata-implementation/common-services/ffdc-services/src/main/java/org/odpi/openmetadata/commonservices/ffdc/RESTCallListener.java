@@ -0,0 +1,27 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.commonservices.ffdc;
+
+/**
+ * RESTCallListener is implemented by a component that wants to be told about each inbound REST call that
+ * completes - for example to publish the latency to a metrics registry.  It is registered with RESTCallMetrics.
+ * The listener is called on the thread that handled the REST call so it must return quickly.
+ */
+public interface RESTCallListener
+{
+    /**
+     * Record the completion of an inbound REST call.
+     *
+     * @param serviceName name of the service that was called
+     * @param serverName name of the server that was called ("&lt;*&gt;" for a platform call)
+     * @param methodName name of the method that was called
+     * @param elapsedTime elapsed time of the call in nanoseconds
+     * @param failed the call returned an exception
+     */
+    void recordRESTCall(String  serviceName,
+                        String  serverName,
+                        String  methodName,
+                        long    elapsedTime,
+                        boolean failed);
+}
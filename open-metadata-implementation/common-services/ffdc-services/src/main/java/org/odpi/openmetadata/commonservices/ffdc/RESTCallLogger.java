@@ -4,13 +4,18 @@
 package org.odpi.openmetadata.commonservices.ffdc;
 
 import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * RESTCallLogger provides standard logging for REST API method invocations.  It logs
  * the start and end of the call and manages a timer so the the elapsed time of a call is logged.
+ * The elapsed time and outcome of every call is also recorded in RESTCallMetrics whether or not
+ * debug logging is enabled.
  */
 public class RESTCallLogger
 {
+    private static final Logger platformLog = LoggerFactory.getLogger(RESTCallLogger.class);
+
     private  Logger  log;
     private  String  serviceName;
 
@@ -39,18 +44,16 @@ public class RESTCallLogger
                                      String userId,
                                      String methodName)
     {
-        if (log.isDebugEnabled())
-        {
-            RESTCallToken token = new RESTCallToken(serviceName, serverName, userId, methodName);
+        RESTCallToken token = new RESTCallToken(serviceName, serverName, userId, methodName);
 
-            log.debug(token.getRESTCallStartText());
+        token.setAsCurrentCall();
 
-            return token;
-        }
-        else
+        if (log.isDebugEnabled())
         {
-            return null;
+            log.debug(token.getRESTCallStartText());
         }
+
+        return token;
     }
 
 
@@ -63,6 +66,17 @@ public class RESTCallLogger
     public void logRESTCallReturn(RESTCallToken  token,
                                   String         response)
     {
+        if (token != null)
+        {
+            token.clearCurrentCall();
+
+            RESTCallMetrics.recordRESTCall(token.getServiceName(),
+                                           token.getServerName(),
+                                           token.getMethodName(),
+                                           token.getElapsedTime(),
+                                           token.isFailed());
+        }
+
         if (log.isDebugEnabled())
         {
             if (token != null)
@@ -75,4 +89,28 @@ public class RESTCallLogger
             }
         }
     }
+
+
+    /**
+     * Remove any calls that did not return from the calling thread and record them as failed calls.
+     * A runtime exception thrown between logRESTCall and logRESTCallReturn skips the return, so the
+     * platform calls this in a finally block at the end of each inbound request.  Otherwise the token would
+     * stay on the pooled server thread and the next call on the thread would chain onto it.
+     */
+    public static void clearUnreturnedCalls()
+    {
+        for (RESTCallToken token : RESTCallToken.removeCurrentCalls())
+        {
+            RESTCallMetrics.recordRESTCall(token.getServiceName(),
+                                           token.getServerName(),
+                                           token.getMethodName(),
+                                           token.getElapsedTime(),
+                                           token.isFailed());
+
+            if (platformLog.isDebugEnabled())
+            {
+                platformLog.debug(token.getRESTCallReturnText("<no response>"));
+            }
+        }
+    }
 }
@@ -0,0 +1,385 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.commonservices.ffdc;
+
+import org.odpi.openmetadata.commonservices.ffdc.properties.RESTCallStatistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RESTCallMetrics records the latency and outcome of the inbound REST calls logged through RESTCallLogger.
+ * A latency histogram and error count is kept for each combination of service name, server name and method name.
+ * The server name comes from the request URL so only the names of the servers registered with the platform are
+ * recorded.  The calls for any other server name are recorded under UNKNOWN_SERVER_NAME, so a caller can not
+ * grow the number of histograms without limit.
+ * The counters are lock-free so recording a call does not serialize the threads handling REST requests.
+ * The metrics are held in statics so they are scoped to the class loader, in the same way as the server
+ * instance map.
+ */
+public class RESTCallMetrics
+{
+    public static final String UNKNOWN_SERVER_NAME = "<unknown>";
+
+    /*
+     * Upper bounds of the histogram buckets in milliseconds.  There is a final bucket for calls that take longer
+     * than the last bound.
+     */
+    private static final double[] bucketBounds = { 0.25, 0.5, 1, 2.5, 5, 10, 25, 50, 100, 250, 500,
+                                                   1000, 2500, 5000, 10000, 30000, 60000 };
+
+    private static final long[]   bucketBoundsInNanos = new long[bucketBounds.length];
+
+    static
+    {
+        for (int i = 0; i < bucketBounds.length; i++)
+        {
+            bucketBoundsInNanos[i] = (long) (bucketBounds[i] * TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private static final Map<RESTCallKey, RESTCallHistogram> histograms       = new ConcurrentHashMap<>();
+    private static final List<RESTCallListener>              listeners        = new CopyOnWriteArrayList<>();
+    private static final Set<String>                         knownServerNames = ConcurrentHashMap.newKeySet();
+
+
+    /**
+     * Register the name of a server running on the platform so that its calls are recorded under its own name.
+     *
+     * @param serverName name of the server
+     */
+    public static void registerServer(String serverName)
+    {
+        if (serverName != null)
+        {
+            knownServerNames.add(serverName);
+        }
+    }
+
+
+    /**
+     * Register a listener that is told about each REST call as it completes.
+     *
+     * @param listener listener to add
+     */
+    public static void registerListener(RESTCallListener listener)
+    {
+        if (listener != null)
+        {
+            listeners.add(listener);
+        }
+    }
+
+
+    /**
+     * Remove a listener.
+     *
+     * @param listener listener to remove
+     */
+    public static void unregisterListener(RESTCallListener listener)
+    {
+        listeners.remove(listener);
+    }
+
+
+    /**
+     * Record the completion of a REST call.
+     *
+     * @param serviceName name of the service that was called
+     * @param serverName name of the server that was called
+     * @param methodName name of the method that was called
+     * @param elapsedTime elapsed time of the call in nanoseconds
+     * @param failed the call returned an exception
+     */
+    static void recordRESTCall(String  serviceName,
+                               String  serverName,
+                               String  methodName,
+                               long    elapsedTime,
+                               boolean failed)
+    {
+        String recordedServerName = serverName;
+
+        if ((! RESTCallToken.PLATFORM_NAME.equals(serverName)) && (! knownServerNames.contains(serverName)))
+        {
+            recordedServerName = UNKNOWN_SERVER_NAME;
+        }
+
+        RESTCallHistogram histogram = histograms.computeIfAbsent(new RESTCallKey(serviceName, recordedServerName, methodName),
+                                                                 RESTCallHistogram::new);
+
+        histogram.record(elapsedTime, failed);
+
+        for (RESTCallListener listener : listeners)
+        {
+            listener.recordRESTCall(serviceName, recordedServerName, methodName, elapsedTime, failed);
+        }
+    }
+
+
+    /**
+     * Return the statistics for all of the REST calls recorded since the platform started.
+     *
+     * @return list of statistics - one for each service, server and method combination that has been called
+     */
+    public static List<RESTCallStatistics> getStatistics()
+    {
+        return getStatistics(null);
+    }
+
+
+    /**
+     * Return the statistics for the REST calls made to a single server since the platform started.
+     *
+     * @param serverName name of the server, or null for all servers
+     * @return list of statistics - one for each service and method combination that has been called
+     */
+    public static List<RESTCallStatistics> getStatistics(String serverName)
+    {
+        List<RESTCallStatistics> statistics = new ArrayList<>();
+
+        for (RESTCallHistogram histogram : histograms.values())
+        {
+            if ((serverName == null) || (serverName.equals(histogram.key.serverName)))
+            {
+                statistics.add(histogram.getStatistics());
+            }
+        }
+
+        return statistics;
+    }
+
+
+    /**
+     * Remove all of the recorded statistics.
+     */
+    public static void reset()
+    {
+        histograms.clear();
+    }
+
+
+    /**
+     * Return the bucket that a latency falls into.
+     *
+     * @param elapsedTime nanoseconds
+     * @return bucket index
+     */
+    static int getBucket(long elapsedTime)
+    {
+        for (int i = 0; i < bucketBoundsInNanos.length; i++)
+        {
+            if (elapsedTime <= bucketBoundsInNanos[i])
+            {
+                return i;
+            }
+        }
+
+        return bucketBoundsInNanos.length;
+    }
+
+
+    /**
+     * Convert nanoseconds to milliseconds.
+     *
+     * @param nanos nanoseconds
+     * @return milliseconds
+     */
+    private static double toMillis(double nanos)
+    {
+        return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+
+    /**
+     * RESTCallKey identifies the method of a service running in a server.
+     */
+    private static class RESTCallKey
+    {
+        private final String serviceName;
+        private final String serverName;
+        private final String methodName;
+
+
+        /**
+         * Constructor
+         *
+         * @param serviceName name of the service
+         * @param serverName name of the server
+         * @param methodName name of the method
+         */
+        RESTCallKey(String serviceName,
+                    String serverName,
+                    String methodName)
+        {
+            this.serviceName = serviceName;
+            this.serverName = serverName;
+            this.methodName = methodName;
+        }
+
+
+        /**
+         * Return comparison result based on the content of the properties.
+         *
+         * @param objectToCompare test object
+         * @return result of comparison
+         */
+        @Override
+        public boolean equals(Object objectToCompare)
+        {
+            if (this == objectToCompare)
+            {
+                return true;
+            }
+            if (objectToCompare == null || getClass() != objectToCompare.getClass())
+            {
+                return false;
+            }
+            RESTCallKey that = (RESTCallKey) objectToCompare;
+            return Objects.equals(serviceName, that.serviceName) &&
+                           Objects.equals(serverName, that.serverName) &&
+                           Objects.equals(methodName, that.methodName);
+        }
+
+
+        /**
+         * Return hash code for this object
+         *
+         * @return int hash code
+         */
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(serviceName, serverName, methodName);
+        }
+    }
+
+
+    /**
+     * RESTCallHistogram accumulates the latency and outcome of the calls to a single method.
+     */
+    private static class RESTCallHistogram
+    {
+        private final RESTCallKey     key;
+        private final LongAdder[]     buckets     = new LongAdder[bucketBounds.length + 1];
+        private final LongAdder       callCount   = new LongAdder();
+        private final LongAdder       errorCount  = new LongAdder();
+        private final LongAdder       totalTime   = new LongAdder();
+        private final LongAccumulator maxTime     = new LongAccumulator(Math::max, 0L);
+
+
+        /**
+         * Constructor
+         *
+         * @param key method being measured
+         */
+        RESTCallHistogram(RESTCallKey key)
+        {
+            this.key = key;
+
+            for (int i = 0; i < buckets.length; i++)
+            {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+
+        /**
+         * Record a single call.
+         *
+         * @param elapsedTime nanoseconds
+         * @param failed the call returned an exception
+         */
+        void record(long    elapsedTime,
+                    boolean failed)
+        {
+            buckets[getBucket(elapsedTime)].increment();
+            callCount.increment();
+            totalTime.add(elapsedTime);
+            maxTime.accumulate(elapsedTime);
+
+            if (failed)
+            {
+                errorCount.increment();
+            }
+        }
+
+
+        /**
+         * Return a snapshot of the statistics.
+         *
+         * @return statistics bean
+         */
+        RESTCallStatistics getStatistics()
+        {
+            long[] bucketCounts = new long[buckets.length];
+            long   count        = 0L;
+
+            for (int i = 0; i < buckets.length; i++)
+            {
+                bucketCounts[i] = buckets[i].sum();
+                count = count + bucketCounts[i];
+            }
+
+            double max = toMillis(maxTime.get());
+
+            RESTCallStatistics statistics = new RESTCallStatistics();
+
+            statistics.setServiceName(key.serviceName);
+            statistics.setServerName(key.serverName);
+            statistics.setMethodName(key.methodName);
+            statistics.setCallCount(callCount.sum());
+            statistics.setErrorCount(errorCount.sum());
+            statistics.setMaxLatency(max);
+
+            if (count > 0)
+            {
+                statistics.setMeanLatency(toMillis((double) totalTime.sum() / callCount.sum()));
+                statistics.setP50Latency(getPercentile(bucketCounts, count, 0.50, max));
+                statistics.setP90Latency(getPercentile(bucketCounts, count, 0.90, max));
+                statistics.setP99Latency(getPercentile(bucketCounts, count, 0.99, max));
+            }
+
+            return statistics;
+        }
+
+
+        /**
+         * Estimate a percentile from the bucket counts.
+         *
+         * @param bucketCounts number of calls in each bucket
+         * @param count total number of calls
+         * @param percentile requested percentile (0.0 - 1.0)
+         * @param max maximum latency in milliseconds
+         * @return estimated latency in milliseconds
+         */
+        private double getPercentile(long[] bucketCounts,
+                                     long   count,
+                                     double percentile,
+                                     double max)
+        {
+            long rank       = (long) Math.ceil(percentile * count);
+            long cumulative = 0L;
+
+            for (int i = 0; i < bucketBounds.length; i++)
+            {
+                cumulative = cumulative + bucketCounts[i];
+
+                if (cumulative >= rank)
+                {
+                    return Math.min(bucketBounds[i], max);
+                }
+            }
+
+            return max;
+        }
+    }
+}
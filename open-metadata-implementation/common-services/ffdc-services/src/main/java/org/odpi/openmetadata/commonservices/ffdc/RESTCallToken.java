@@ -5,16 +5,24 @@ package org.odpi.openmetadata.commonservices.ffdc;
 
 import org.apache.commons.lang3.time.StopWatch;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * RESTCallToken provides a cache of information about a single REST API call invocation.
- * It is used for logging and diagnosis.
+ * It is used for logging, diagnosis and the REST call metrics.  The token for the call being processed
+ * by a thread is held in a thread local so that the exception handling can mark the call as failed.
+ * A REST call may be handled by a nested call on the same thread, so each token remembers the token that
+ * was current before it, and restores it when the nested call returns.
  */
 public class RESTCallToken
 {
-    static volatile private long nextCallId = 0;
     static final String PLATFORM_NAME = "<*>";
 
-    static private synchronized long getNextCallId() { return nextCallId++; }
+    private static final AtomicLong                 nextCallId  = new AtomicLong();
+    private static final ThreadLocal<RESTCallToken> currentCall = new ThreadLocal<>();
 
     private StopWatch watch;
     private long      callId;
@@ -22,6 +30,9 @@ public class RESTCallToken
     private String    serverName;
     private String    userId;
     private String    methodName;
+    private boolean   failed = false;
+
+    private RESTCallToken previousCall = null;
 
     /**
      * Set up the values that will be used in the logging process.
@@ -38,7 +49,7 @@ public class RESTCallToken
         this.methodName  = methodName;
 
         this.watch = StopWatch.createStarted();
-        this.callId = getNextCallId();
+        this.callId = nextCallId.getAndIncrement();
 
         if (serverName == null)
         {
@@ -51,6 +62,142 @@ public class RESTCallToken
     }
 
 
+    /**
+     * Make this token the current call for the calling thread.
+     */
+    void setAsCurrentCall()
+    {
+        previousCall = currentCall.get();
+        currentCall.set(this);
+    }
+
+
+    /**
+     * Remove this token as the current call for the calling thread and restore the call that was current
+     * before it.  Any nested call that did not clear itself is removed too.
+     */
+    void clearCurrentCall()
+    {
+        RESTCallToken token = currentCall.get();
+
+        while ((token != null) && (token != this))
+        {
+            token = token.previousCall;
+        }
+
+        if (token == this)
+        {
+            if (previousCall == null)
+            {
+                currentCall.remove();
+            }
+            else
+            {
+                currentCall.set(previousCall);
+            }
+        }
+
+        previousCall = null;
+    }
+
+
+    /**
+     * Remove every call that is still current for the calling thread.  These are calls that did not return,
+     * normally because a runtime exception was thrown before the return was logged.  Each one is marked as failed.
+     *
+     * @return list of the removed calls, innermost call first
+     */
+    static List<RESTCallToken> removeCurrentCalls()
+    {
+        List<RESTCallToken> unreturnedCalls = new ArrayList<>();
+        RESTCallToken       token           = currentCall.get();
+
+        currentCall.remove();
+
+        while (token != null)
+        {
+            RESTCallToken previousToken = token.previousCall;
+
+            token.failed = true;
+            token.previousCall = null;
+            unreturnedCalls.add(token);
+
+            token = previousToken;
+        }
+
+        return unreturnedCalls;
+    }
+
+
+    /**
+     * Mark the call being processed by the calling thread (if any) as failed.
+     */
+    static void setCurrentCallFailed()
+    {
+        RESTCallToken token = currentCall.get();
+
+        if (token != null)
+        {
+            token.failed = true;
+        }
+    }
+
+
+    /**
+     * Return whether the call returned an exception.
+     *
+     * @return boolean
+     */
+    boolean isFailed()
+    {
+        return failed;
+    }
+
+
+    /**
+     * Return the name of the called service.
+     *
+     * @return service name
+     */
+    String getServiceName()
+    {
+        return serviceName;
+    }
+
+
+    /**
+     * Return the name of the called server.
+     *
+     * @return server name
+     */
+    String getServerName()
+    {
+        return serverName;
+    }
+
+
+    /**
+     * Return the name of the called method.
+     *
+     * @return method name
+     */
+    String getMethodName()
+    {
+        return methodName;
+    }
+
+
+    /**
+     * Return the time since the call started.
+     *
+     * @return nanoseconds
+     */
+    long getElapsedTime()
+    {
+        return watch.getNanoTime();
+    }
+
+
     /**
      * Build the start text.
      *
@@ -70,6 +217,6 @@ public class RESTCallToken
      */
     String getRESTCallReturnText(String response)
     {
-        return callId + ":" + serviceName + ":" + serverName + ":" + methodName + " call invoked by " + userId + " returned with response " + response + "; Duration: " + watch.getTime()/1000 + "seconds";
+        return callId + ":" + serviceName + ":" + serverName + ":" + methodName + " call invoked by " + userId + " returned with response " + response + "; Duration: " + (double) getElapsedTime() / TimeUnit.MILLISECONDS.toNanos(1) + "ms";
     }
 }
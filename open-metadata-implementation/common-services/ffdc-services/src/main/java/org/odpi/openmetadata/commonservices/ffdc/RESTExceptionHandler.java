@@ -449,6 +449,8 @@ public class RESTExceptionHandler
                                             String                  exceptionClassName,
                                             Map<String, Object>     exceptionProperties)
     {
+        RESTCallToken.setCurrentCallFailed();
+
         response.setRelatedHTTPCode(error.getReportedHTTPCode());
         response.setExceptionClassName(exceptionClassName);
         if (error.getReportedCaughtException() != null)
@@ -519,6 +521,8 @@ public class RESTExceptionHandler
                                                                                                                          methodName,
                                                                                                                          message);
 
+            RESTCallToken.setCurrentCallFailed();
+
             response.setRelatedHTTPCode(messageDefinition.getHttpErrorCode());
             response.setExceptionClassName(PropertyServerException.class.getName());
             response.setExceptionCausedBy(error.getClass().getName());
@@ -0,0 +1,359 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.commonservices.ffdc.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+/**
+ * RESTCallStatistics summarizes the inbound REST calls made to a single method of a service running in a server
+ * (or in the platform) since the platform started.  The latency values are in milliseconds.  The percentiles are
+ * estimated from a histogram so they are the upper bound of the histogram bucket that holds the requested
+ * percentile, capped at the maximum latency seen.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class RESTCallStatistics implements Serializable
+{
+    private static final long    serialVersionUID = 1L;
+
+    private String serviceName   = null;
+    private String serverName    = null;
+    private String methodName    = null;
+    private long   callCount     = 0L;
+    private long   errorCount    = 0L;
+    private double meanLatency   = 0.0;
+    private double p50Latency    = 0.0;
+    private double p90Latency    = 0.0;
+    private double p99Latency    = 0.0;
+    private double maxLatency    = 0.0;
+
+
+    /**
+     * Default constructor
+     */
+    public RESTCallStatistics()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public RESTCallStatistics(RESTCallStatistics template)
+    {
+        if (template != null)
+        {
+            this.serviceName = template.getServiceName();
+            this.serverName  = template.getServerName();
+            this.methodName  = template.getMethodName();
+            this.callCount   = template.getCallCount();
+            this.errorCount  = template.getErrorCount();
+            this.meanLatency = template.getMeanLatency();
+            this.p50Latency  = template.getP50Latency();
+            this.p90Latency  = template.getP90Latency();
+            this.p99Latency  = template.getP99Latency();
+            this.maxLatency  = template.getMaxLatency();
+        }
+    }
+
+
+    /**
+     * Return the name of the service that was called.
+     *
+     * @return service name
+     */
+    public String getServiceName()
+    {
+        return serviceName;
+    }
+
+
+    /**
+     * Set up the name of the service that was called.
+     *
+     * @param serviceName service name
+     */
+    public void setServiceName(String serviceName)
+    {
+        this.serviceName = serviceName;
+    }
+
+
+    /**
+     * Return the name of the server that was called.  Platform calls use the server name "&lt;*&gt;".
+     *
+     * @return server name
+     */
+    public String getServerName()
+    {
+        return serverName;
+    }
+
+
+    /**
+     * Set up the name of the server that was called.
+     *
+     * @param serverName server name
+     */
+    public void setServerName(String serverName)
+    {
+        this.serverName = serverName;
+    }
+
+
+    /**
+     * Return the name of the method that was called.
+     *
+     * @return method name
+     */
+    public String getMethodName()
+    {
+        return methodName;
+    }
+
+
+    /**
+     * Set up the name of the method that was called.
+     *
+     * @param methodName method name
+     */
+    public void setMethodName(String methodName)
+    {
+        this.methodName = methodName;
+    }
+
+
+    /**
+     * Return the number of calls that have completed.
+     *
+     * @return count
+     */
+    public long getCallCount()
+    {
+        return callCount;
+    }
+
+
+    /**
+     * Set up the number of calls that have completed.
+     *
+     * @param callCount count
+     */
+    public void setCallCount(long callCount)
+    {
+        this.callCount = callCount;
+    }
+
+
+    /**
+     * Return the number of calls that returned an exception.
+     *
+     * @return count
+     */
+    public long getErrorCount()
+    {
+        return errorCount;
+    }
+
+
+    /**
+     * Set up the number of calls that returned an exception.
+     *
+     * @param errorCount count
+     */
+    public void setErrorCount(long errorCount)
+    {
+        this.errorCount = errorCount;
+    }
+
+
+    /**
+     * Return the mean latency of the calls.
+     *
+     * @return milliseconds
+     */
+    public double getMeanLatency()
+    {
+        return meanLatency;
+    }
+
+
+    /**
+     * Set up the mean latency of the calls.
+     *
+     * @param meanLatency milliseconds
+     */
+    public void setMeanLatency(double meanLatency)
+    {
+        this.meanLatency = meanLatency;
+    }
+
+
+    /**
+     * Return the estimated median latency of the calls.
+     *
+     * @return milliseconds
+     */
+    public double getP50Latency()
+    {
+        return p50Latency;
+    }
+
+
+    /**
+     * Set up the estimated median latency of the calls.
+     *
+     * @param p50Latency milliseconds
+     */
+    public void setP50Latency(double p50Latency)
+    {
+        this.p50Latency = p50Latency;
+    }
+
+
+    /**
+     * Return the estimated 90th percentile latency of the calls.
+     *
+     * @return milliseconds
+     */
+    public double getP90Latency()
+    {
+        return p90Latency;
+    }
+
+
+    /**
+     * Set up the estimated 90th percentile latency of the calls.
+     *
+     * @param p90Latency milliseconds
+     */
+    public void setP90Latency(double p90Latency)
+    {
+        this.p90Latency = p90Latency;
+    }
+
+
+    /**
+     * Return the estimated 99th percentile latency of the calls.
+     *
+     * @return milliseconds
+     */
+    public double getP99Latency()
+    {
+        return p99Latency;
+    }
+
+
+    /**
+     * Set up the estimated 99th percentile latency of the calls.
+     *
+     * @param p99Latency milliseconds
+     */
+    public void setP99Latency(double p99Latency)
+    {
+        this.p99Latency = p99Latency;
+    }
+
+
+    /**
+     * Return the longest latency of the calls.
+     *
+     * @return milliseconds
+     */
+    public double getMaxLatency()
+    {
+        return maxLatency;
+    }
+
+
+    /**
+     * Set up the longest latency of the calls.
+     *
+     * @param maxLatency milliseconds
+     */
+    public void setMaxLatency(double maxLatency)
+    {
+        this.maxLatency = maxLatency;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "RESTCallStatistics{" +
+                       "serviceName='" + serviceName + '\'' +
+                       ", serverName='" + serverName + '\'' +
+                       ", methodName='" + methodName + '\'' +
+                       ", callCount=" + callCount +
+                       ", errorCount=" + errorCount +
+                       ", meanLatency=" + meanLatency +
+                       ", p50Latency=" + p50Latency +
+                       ", p90Latency=" + p90Latency +
+                       ", p99Latency=" + p99Latency +
+                       ", maxLatency=" + maxLatency +
+                       '}';
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        RESTCallStatistics that = (RESTCallStatistics) objectToCompare;
+        return callCount == that.callCount &&
+                       errorCount == that.errorCount &&
+                       Double.compare(that.meanLatency, meanLatency) == 0 &&
+                       Double.compare(that.p50Latency, p50Latency) == 0 &&
+                       Double.compare(that.p90Latency, p90Latency) == 0 &&
+                       Double.compare(that.p99Latency, p99Latency) == 0 &&
+                       Double.compare(that.maxLatency, maxLatency) == 0 &&
+                       Objects.equals(serviceName, that.serviceName) &&
+                       Objects.equals(serverName, that.serverName) &&
+                       Objects.equals(methodName, that.methodName);
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(serviceName, serverName, methodName, callCount, errorCount, meanLatency, p50Latency, p90Latency,
+                            p99Latency, maxLatency);
+    }
+}
@@ -0,0 +1,217 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ffdc;
+
+import org.odpi.openmetadata.commonservices.ffdc.exceptions.PropertyServerException;
+import org.odpi.openmetadata.commonservices.ffdc.properties.RESTCallStatistics;
+import org.odpi.openmetadata.commonservices.ffdc.rest.VoidResponse;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Validate that RESTCallMetrics records the latency and outcome of the REST calls logged through RESTCallLogger.
+ */
+public class RESTCallMetricsTest
+{
+    private static final String serviceName = "TestService";
+    private static final String serverName  = "TestServer";
+    private static final String methodName  = "testMethod";
+
+
+    /**
+     * Start each test with no statistics.
+     */
+    @BeforeMethod
+    public void reset()
+    {
+        RESTCallMetrics.reset();
+        RESTCallMetrics.registerServer(serverName);
+    }
+
+
+    /**
+     * Test that the percentiles are estimated from the histogram buckets.
+     */
+    @Test public void testPercentiles()
+    {
+        for (int i = 0; i < 98; i++)
+        {
+            RESTCallMetrics.recordRESTCall(serviceName, serverName, methodName, TimeUnit.MICROSECONDS.toNanos(800), false);
+        }
+
+        RESTCallMetrics.recordRESTCall(serviceName, serverName, methodName, TimeUnit.MILLISECONDS.toNanos(20), false);
+        RESTCallMetrics.recordRESTCall(serviceName, serverName, methodName, TimeUnit.MILLISECONDS.toNanos(200), true);
+
+        List<RESTCallStatistics> statisticsList = RESTCallMetrics.getStatistics(serverName);
+
+        assertEquals(statisticsList.size(), 1);
+
+        RESTCallStatistics statistics = statisticsList.get(0);
+
+        assertEquals(statistics.getServiceName(), serviceName);
+        assertEquals(statistics.getMethodName(), methodName);
+        assertEquals(statistics.getCallCount(), 100L);
+        assertEquals(statistics.getErrorCount(), 1L);
+        assertEquals(statistics.getP50Latency(), 1.0);
+        assertEquals(statistics.getP90Latency(), 1.0);
+        assertEquals(statistics.getP99Latency(), 25.0);
+        assertEquals(statistics.getMaxLatency(), 200.0);
+    }
+
+
+    /**
+     * Test that the calls logged by RESTCallLogger are recorded and the exceptions captured by
+     * RESTExceptionHandler are counted as errors.
+     */
+    @Test public void testLoggedCalls()
+    {
+        RESTCallLogger       restCallLogger   = new RESTCallLogger(LoggerFactory.getLogger(RESTCallMetricsTest.class), serviceName);
+        RESTExceptionHandler exceptionHandler = new RESTExceptionHandler();
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, "testUser", methodName);
+        restCallLogger.logRESTCallReturn(token, new VoidResponse().toString());
+
+        token = restCallLogger.logRESTCall(serverName, "testUser", methodName);
+
+        VoidResponse response = new VoidResponse();
+        exceptionHandler.captureExceptions(response,
+                                           new PropertyServerException(OMAGCommonErrorCode.NULL_OBJECT.getMessageDefinition("testObject", methodName),
+                                                                       "TestClass",
+                                                                       "testAction"),
+                                           methodName);
+        restCallLogger.logRESTCallReturn(token, response.toString());
+
+        RESTCallStatistics statistics = RESTCallMetrics.getStatistics().get(0);
+
+        assertEquals(statistics.getCallCount(), 2L);
+        assertEquals(statistics.getErrorCount(), 1L);
+        assertTrue(statistics.getMaxLatency() >= 0.0);
+    }
+
+
+    /**
+     * Test that the calls for server names that are not registered are recorded in a single histogram.
+     */
+    @Test public void testUnknownServersShareOneHistogram()
+    {
+        for (int i = 0; i < 100; i++)
+        {
+            RESTCallMetrics.recordRESTCall(serviceName, "UnknownServer" + i, methodName, TimeUnit.MILLISECONDS.toNanos(1), false);
+        }
+
+        RESTCallMetrics.recordRESTCall(serviceName, serverName, methodName, TimeUnit.MILLISECONDS.toNanos(1), false);
+        RESTCallMetrics.recordRESTCall(serviceName, RESTCallToken.PLATFORM_NAME, methodName, TimeUnit.MILLISECONDS.toNanos(1), false);
+
+        assertEquals(RESTCallMetrics.getStatistics().size(), 3);
+        assertEquals(RESTCallMetrics.getStatistics("UnknownServer1").size(), 0);
+        assertEquals(RESTCallMetrics.getStatistics(RESTCallMetrics.UNKNOWN_SERVER_NAME).get(0).getCallCount(), 100L);
+        assertEquals(RESTCallMetrics.getStatistics(serverName).get(0).getCallCount(), 1L);
+        assertEquals(RESTCallMetrics.getStatistics(RESTCallToken.PLATFORM_NAME).get(0).getCallCount(), 1L);
+    }
+
+
+    /**
+     * Test that a nested call restores the outer call as the current call, so an exception after the nested call
+     * returns is counted against the outer call.
+     */
+    @Test public void testNestedCalls()
+    {
+        final String outerMethodName = "outerMethod";
+        final String innerMethodName = "innerMethod";
+
+        RESTCallLogger       restCallLogger   = new RESTCallLogger(LoggerFactory.getLogger(RESTCallMetricsTest.class), serviceName);
+        RESTExceptionHandler exceptionHandler = new RESTExceptionHandler();
+
+        RESTCallToken outerToken = restCallLogger.logRESTCall(serverName, "testUser", outerMethodName);
+        RESTCallToken innerToken = restCallLogger.logRESTCall(serverName, "testUser", innerMethodName);
+
+        restCallLogger.logRESTCallReturn(innerToken, new VoidResponse().toString());
+
+        VoidResponse response = new VoidResponse();
+        exceptionHandler.captureExceptions(response,
+                                           new PropertyServerException(OMAGCommonErrorCode.NULL_OBJECT.getMessageDefinition("testObject", outerMethodName),
+                                                                       "TestClass",
+                                                                       "testAction"),
+                                           outerMethodName);
+        restCallLogger.logRESTCallReturn(outerToken, response.toString());
+
+        for (RESTCallStatistics statistics : RESTCallMetrics.getStatistics(serverName))
+        {
+            if (outerMethodName.equals(statistics.getMethodName()))
+            {
+                assertEquals(statistics.getErrorCount(), 1L);
+            }
+            else
+            {
+                assertEquals(statistics.getMethodName(), innerMethodName);
+                assertEquals(statistics.getErrorCount(), 0L);
+            }
+        }
+
+        assertEquals(RESTCallMetrics.getStatistics(serverName).size(), 2);
+        assertTrue(outerToken.isFailed());
+        assertFalse(innerToken.isFailed());
+    }
+
+
+    /**
+     * Test that a nested call that does not return is removed when the outer call returns, so it is not marked
+     * as failed by a later call on the same thread.
+     */
+    @Test public void testUnreturnedNestedCall()
+    {
+        RESTCallLogger restCallLogger = new RESTCallLogger(LoggerFactory.getLogger(RESTCallMetricsTest.class), serviceName);
+
+        RESTCallToken outerToken = restCallLogger.logRESTCall(serverName, "testUser", "outerMethod");
+        RESTCallToken innerToken = restCallLogger.logRESTCall(serverName, "testUser", "innerMethod");
+
+        restCallLogger.logRESTCallReturn(outerToken, new VoidResponse().toString());
+
+        RESTCallToken.setCurrentCallFailed();
+
+        assertFalse(outerToken.isFailed());
+        assertFalse(innerToken.isFailed());
+    }
+
+
+    /**
+     * Test that calls ended by a runtime exception are cleared from the thread and recorded as failed calls, so
+     * the next call on the thread does not chain onto them.
+     */
+    @Test public void testClearUnreturnedCalls()
+    {
+        RESTCallLogger restCallLogger = new RESTCallLogger(LoggerFactory.getLogger(RESTCallMetricsTest.class), serviceName);
+
+        RESTCallToken outerToken = restCallLogger.logRESTCall(serverName, "testUser", "outerMethod");
+        RESTCallToken innerToken = restCallLogger.logRESTCall(serverName, "testUser", "innerMethod");
+
+        RESTCallLogger.clearUnreturnedCalls();
+
+        assertTrue(outerToken.isFailed());
+        assertTrue(innerToken.isFailed());
+        assertEquals(RESTCallMetrics.getStatistics(serverName).size(), 2);
+
+        for (RESTCallStatistics statistics : RESTCallMetrics.getStatistics(serverName))
+        {
+            assertEquals(statistics.getCallCount(), 1L);
+            assertEquals(statistics.getErrorCount(), 1L);
+        }
+
+        RESTCallToken nextToken = restCallLogger.logRESTCall(serverName, "testUser", methodName);
+
+        restCallLogger.logRESTCallReturn(nextToken, new VoidResponse().toString());
+        RESTCallLogger.clearUnreturnedCalls();
+
+        assertFalse(nextToken.isFailed());
+        assertEquals(RESTCallMetrics.getStatistics(serverName).size(), 3);
+    }
+}
@@ -2430,25 +2430,33 @@ public class AssetHandler<B> extends ReferenceableHandler<B>
                                                                                  effectiveTime,
                                                                                  methodName);
 
+            iterator.setPrefetchPages(PREFETCH_PAGES);
 
-            while ((iterator.moreToReceive()) && ((queryPageSize == 0) || results.size() < queryPageSize))
+            try
             {
-                EntityDetail entity = iterator.getNext();
-
-                if (entity != null)
+                while ((iterator.moreToReceive()) && ((queryPageSize == 0) || results.size() < queryPageSize))
                 {
-                    List<String>    assetZones = repositoryHelper.getStringArrayProperty(serviceName,
-                                                                                         OpenMetadataAPIMapper.ZONE_MEMBERSHIP_PROPERTY_NAME,
-                                                                                         entity.getProperties(),
-                                                                                         methodName);
+                    EntityDetail entity = iterator.getNext();
 
-
-                    if ((assetZones != null) && (assetZones.contains(zoneName)))
+                    if (entity != null)
                     {
-                        results.add(converter.getNewBean(beanClass, entity, methodName));
+                        List<String>    assetZones = repositoryHelper.getStringArrayProperty(serviceName,
+                                                                                             OpenMetadataAPIMapper.ZONE_MEMBERSHIP_PROPERTY_NAME,
+                                                                                             entity.getProperties(),
+                                                                                             methodName);
+
+
+                        if ((assetZones != null) && (assetZones.contains(zoneName)))
+                        {
+                            results.add(converter.getNewBean(beanClass, entity, methodName));
+                        }
                     }
                 }
             }
+            finally
+            {
+                iterator.close();
+            }
 
             if (! results.isEmpty())
             {
@@ -2525,25 +2533,33 @@ public class AssetHandler<B> extends ReferenceableHandler<B>
                                                                                  effectiveTime,
                                                                                  methodName);
 
+            iterator.setPrefetchPages(PREFETCH_PAGES);
 
-            while ((iterator.moreToReceive()) && ((queryPageSize == 0) || results.size() < queryPageSize))
+            try
             {
-                EntityDetail entity = iterator.getNext();
-
-                if (entity != null)
+                while ((iterator.moreToReceive()) && ((queryPageSize == 0) || results.size() < queryPageSize))
                 {
-                    List<String>    assetZones = repositoryHelper.getStringArrayProperty(serviceName,
-                                                                                         OpenMetadataAPIMapper.ZONE_MEMBERSHIP_PROPERTY_NAME,
-                                                                                         entity.getProperties(),
-                                                                                         methodName);
+                    EntityDetail entity = iterator.getNext();
 
-
-                    if ((assetZones != null) && (assetZones.contains(zoneName)))
+                    if (entity != null)
                     {
-                        results.add(entity.getGUID());
+                        List<String>    assetZones = repositoryHelper.getStringArrayProperty(serviceName,
+                                                                                             OpenMetadataAPIMapper.ZONE_MEMBERSHIP_PROPERTY_NAME,
+                                                                                             entity.getProperties(),
+                                                                                             methodName);
+
+
+                        if ((assetZones != null) && (assetZones.contains(zoneName)))
+                        {
+                            results.add(entity.getGUID());
+                        }
                     }
                 }
             }
+            finally
+            {
+                iterator.close();
+            }
 
             if (! results.isEmpty())
             {
@@ -19,6 +19,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSPatternCache;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.ClassificationErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
 import org.slf4j.Logger;
@@ -53,6 +54,11 @@ public class OpenMetadataAPIGenericHandler<B>
 
     private static final Logger log = LoggerFactory.getLogger(OpenMetadataAPIGenericHandler.class);
 
+    /*
+     * Number of pages of results to retrieve in the background while a large result set is being processed.
+     */
+    protected static final int PREFETCH_PAGES = 1;
+
     protected AuditLog                           auditLog;
 
     private final static String supplementaryPropertiesQualifiedNamePostFix = " Supplementary Properties";
@@ -5793,49 +5799,61 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                                                effectiveTime,
                                                                                                methodName);
 
+        if (queryPageSize == 0)
+        {
+            iterator.setPrefetchPages(PREFETCH_PAGES);
+        }
+
         List<Relationship> results = new ArrayList<>();
 
-        while ((iterator.moreToReceive()) && ((queryPageSize == 0) || (results.size() < queryPageSize)))
+        try
         {
-            Relationship relationship = iterator.getNext();
-
-            if (this.visibleToUserThroughRelationship(userId, relationship, methodName))
+            while ((iterator.moreToReceive()) && ((queryPageSize == 0) || (results.size() < queryPageSize)))
             {
-                try
+                Relationship relationship = iterator.getNext();
+
+                if (this.visibleToUserThroughRelationship(userId, relationship, methodName))
                 {
-                    final String entityOneParameterName = "relationship.getEntityOneProxy().getGUID()";
-                    final String entityTwoParameterName = "relationship.getEntityTwoProxy().getGUID()";
-
-                    this.validateAnchorEntity(userId,
-                                              relationship.getEntityOneProxy().getGUID(),
-                                              entityOneParameterName,
-                                              OpenMetadataAPIMapper.OPEN_METADATA_ROOT_TYPE_NAME,
-                                              false,
-                                              forLineage,
-                                              forDuplicateProcessing,
-                                              supportedZones,
-                                              effectiveTime,
-                                              methodName);
+                    try
+                    {
+                        final String entityOneParameterName = "relationship.getEntityOneProxy().getGUID()";
+                        final String entityTwoParameterName = "relationship.getEntityTwoProxy().getGUID()";
 
-                    this.validateAnchorEntity(userId,
-                                              relationship.getEntityTwoProxy().getGUID(),
-                                              entityTwoParameterName,
-                                              OpenMetadataAPIMapper.OPEN_METADATA_ROOT_TYPE_NAME,
-                                              false,
-                                              forLineage,
-                                              forDuplicateProcessing,
-                                              supportedZones,
-                                              effectiveTime,
-                                              methodName);
+                        this.validateAnchorEntity(userId,
+                                                  relationship.getEntityOneProxy().getGUID(),
+                                                  entityOneParameterName,
+                                                  OpenMetadataAPIMapper.OPEN_METADATA_ROOT_TYPE_NAME,
+                                                  false,
+                                                  forLineage,
+                                                  forDuplicateProcessing,
+                                                  supportedZones,
+                                                  effectiveTime,
+                                                  methodName);
 
-                    results.add(relationship);
-                }
-                catch (Exception error)
-                {
-                    // ignore an element that is not visible to the caller
+                        this.validateAnchorEntity(userId,
+                                                  relationship.getEntityTwoProxy().getGUID(),
+                                                  entityTwoParameterName,
+                                                  OpenMetadataAPIMapper.OPEN_METADATA_ROOT_TYPE_NAME,
+                                                  false,
+                                                  forLineage,
+                                                  forDuplicateProcessing,
+                                                  supportedZones,
+                                                  effectiveTime,
+                                                  methodName);
+
+                        results.add(relationship);
+                    }
+                    catch (Exception error)
+                    {
+                        // ignore an element that is not visible to the caller
+                    }
                 }
             }
         }
+        finally
+        {
+            iterator.close();
+        }
 
         if (! results.isEmpty())
         {
@@ -9265,7 +9283,7 @@ public class OpenMetadataAPIGenericHandler<B>
                         if (pdCat == PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING)
                         {
                             String currentValue = (String) ppv.getPrimitiveValue();
-                            if (currentValue != null && currentValue.matches(regExedSearchCriteria))
+                            if (currentValue != null && OMRSPatternCache.matches(currentValue, regExedSearchCriteria))
                             {
                                 isMatch = true;
                             }
@@ -10507,17 +10525,29 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                                      effectiveTime,
                                                                                      methodName);
 
+        if (queryPageSize == 0)
+        {
+            iterator.setPrefetchPages(PREFETCH_PAGES);
+        }
+
         List<B> results = new ArrayList<>();
 
-        while ((iterator.moreToReceive()) && ((queryPageSize == 0) || (results.size() < queryPageSize)))
+        try
         {
-            EntityDetail entity = iterator.getNext();
-
-            if (entity != null)
+            while ((iterator.moreToReceive()) && ((queryPageSize == 0) || (results.size() < queryPageSize)))
             {
-                results.add(converter.getNewBean(beanClass, entity, methodName));
+                EntityDetail entity = iterator.getNext();
+
+                if (entity != null)
+                {
+                    results.add(converter.getNewBean(beanClass, entity, methodName));
+                }
             }
         }
+        finally
+        {
+            iterator.close();
+        }
 
         if (! results.isEmpty())
         {
@@ -15306,17 +15336,29 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                                      null,
                                                                                      methodName);
 
+        if (queryPageSize == 0)
+        {
+            iterator.setPrefetchPages(PREFETCH_PAGES);
+        }
+
         List<EntityDetail> results = new ArrayList<>();
 
-        while ((iterator.moreToReceive()) && ((queryPageSize == 0) || (results.size() < queryPageSize)))
+        try
         {
-            EntityDetail entity = iterator.getNext();
-
-            if (entity != null)
+            while ((iterator.moreToReceive()) && ((queryPageSize == 0) || (results.size() < queryPageSize)))
             {
-                results.add(entity);
+                EntityDetail entity = iterator.getNext();
+
+                if (entity != null)
+                {
+                    results.add(entity);
+                }
             }
         }
+        finally
+        {
+            iterator.close();
+        }
 
         if (! results.isEmpty())
         {
@@ -39,12 +39,16 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                                            OpenMetadataConnectionSecurity,
                                                            OpenMetadataAssetSecurity
 {
-    private OpenMetadataRepositorySecurity repositorySecurityConnector = null;
-    private OpenMetadataEventsSecurity     eventsSecurityConnector     = null;
-    private OpenMetadataServerSecurity     serverSecurityConnector     = null;
-    private OpenMetadataServiceSecurity    serviceSecurityConnector    = null;
-    private OpenMetadataConnectionSecurity connectionSecurityConnector = null;
-    private OpenMetadataAssetSecurity      assetSecurityConnector      = null;
+    /*
+     * The connectors are registered when the server starts and are then read by the request threads without
+     * locking.  They are volatile so a request that runs after the registration always sees the connector.
+     */
+    private volatile OpenMetadataRepositorySecurity repositorySecurityConnector = null;
+    private volatile OpenMetadataEventsSecurity     eventsSecurityConnector     = null;
+    private volatile OpenMetadataServerSecurity     serverSecurityConnector     = null;
+    private volatile OpenMetadataServiceSecurity    serviceSecurityConnector    = null;
+    private volatile OpenMetadataConnectionSecurity connectionSecurityConnector = null;
+    private volatile OpenMetadataAssetSecurity      assetSecurityConnector      = null;
 
     /**
      * Default constructor
@@ -12,19 +12,22 @@ import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityV
 import org.odpi.openmetadata.platformservices.properties.OMAGServerInstanceHistory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * OMAGServerInstance represents an instance of a service in an OMAG Server.
  * It is also responsible for registering itself in the instance map.
+ * The service lookups made on behalf of each REST request do not take a lock.  Only the server history is
+ * guarded by the instance's monitor.
  */
 class OMAGServerInstance
 {
-    private String                                 serverName;
-    private String                                 serverType;
-    private List<OMAGServerInstanceHistory>        serverHistory      = new ArrayList<>();
-    private Map<String, OMAGServerServiceInstance> serviceInstanceMap = new HashMap<>();
-    private Date                                   serverStartTime    = new Date();
-    private OpenMetadataServerSecurityVerifier     securityVerifier   = new OpenMetadataServerSecurityVerifier();
+    private final    String                                 serverName;
+    private volatile String                                 serverType;
+    private final    List<OMAGServerInstanceHistory>        serverHistory      = new ArrayList<>();
+    private final    Map<String, OMAGServerServiceInstance> serviceInstanceMap = new ConcurrentHashMap<>();
+    private volatile Date                                   serverStartTime    = new Date();
+    private final    OpenMetadataServerSecurityVerifier     securityVerifier   = new OpenMetadataServerSecurityVerifier();
 
 
     /**
@@ -85,7 +88,7 @@ class OMAGServerInstance
      *
      * @return list of service names
      */
-    synchronized List<String>  getRegisteredServices()
+    List<String>  getRegisteredServices()
     {
         Set<String>  keySet = serviceInstanceMap.keySet();
 
@@ -105,7 +108,7 @@ class OMAGServerInstance
      *
      * @return start time
      */
-    synchronized Date getServerStartTime()
+    Date getServerStartTime()
     {
         return serverStartTime;
     }
@@ -181,7 +184,7 @@ class OMAGServerInstance
      *
      * @return connector
      */
-    synchronized OpenMetadataServerSecurityVerifier  getSecurityVerifier()
+    OpenMetadataServerSecurityVerifier  getSecurityVerifier()
     {
         return securityVerifier;
     }
@@ -193,8 +196,8 @@ class OMAGServerInstance
      * @param serviceName name of service
      * @param serviceInstance properties used to run the service
      */
-    synchronized  void registerService(String                    serviceName,
-                                       OMAGServerServiceInstance serviceInstance)
+    void registerService(String                    serviceName,
+                         OMAGServerServiceInstance serviceInstance)
     {
         if (serviceInstance != null)
         {
@@ -215,10 +218,10 @@ class OMAGServerInstance
      * @throws UserNotAuthorizedException calling user not authorized to call the request
      * @throws PropertyServerException service is not running in this server
      */
-    synchronized OMAGServerServiceInstance getRegisteredService(String    userId,
-                                                                String    serviceName,
-                                                                String    serviceOperationName) throws UserNotAuthorizedException,
-                                                                                                       PropertyServerException
+    OMAGServerServiceInstance getRegisteredService(String    userId,
+                                                   String    serviceName,
+                                                   String    serviceOperationName) throws UserNotAuthorizedException,
+                                                                                          PropertyServerException
     {
         try
         {
@@ -250,7 +253,7 @@ class OMAGServerInstance
      *
      * @param serviceName name of service to unregister
      */
-    synchronized  void unRegisterService(String   serviceName)
+    void unRegisterService(String   serviceName)
     {
         serviceInstanceMap.remove(serviceName);
     }
@@ -269,9 +272,11 @@ class OMAGServerInstance
 
         if (!serviceInstanceMap.isEmpty())
         {
-            this.serviceInstanceMap = new HashMap<>();
+            String residualServices = serviceInstanceMap.keySet().toString();
+
+            this.serviceInstanceMap.clear();
             throw new PropertyServerException(OMAGServerInstanceErrorCode.SERVICES_NOT_SHUTDOWN.getMessageDefinition(serverName,
-                                                                                                                     serviceInstanceMap.keySet().toString()),
+                                                                                                                     residualServices),
                                               this.getClass().getName(),
                                               methodName);
         }
@@ -5,9 +5,11 @@ package org.odpi.openmetadata.commonservices.multitenant;
 import org.odpi.openmetadata.adminservices.configuration.OMAGAccessServiceRegistration;
 import org.odpi.openmetadata.adminservices.configuration.OMAGViewServiceRegistration;
 import org.odpi.openmetadata.adminservices.configuration.registration.*;
+import org.odpi.openmetadata.commonservices.ffdc.RESTCallMetrics;
 import org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException;
 import org.odpi.openmetadata.commonservices.ffdc.exceptions.PropertyServerException;
 import org.odpi.openmetadata.commonservices.ffdc.exceptions.UserNotAuthorizedException;
+import org.odpi.openmetadata.commonservices.ffdc.properties.RESTCallStatistics;
 import org.odpi.openmetadata.commonservices.ffdc.rest.RegisteredOMAGService;
 import org.odpi.openmetadata.commonservices.multitenant.ffdc.OMAGServerInstanceErrorCode;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -20,18 +22,23 @@ import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityV
 import org.odpi.openmetadata.platformservices.properties.OMAGServerInstanceHistory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * OMAGServerPlatformInstanceMap provides part of the mapping for inbound REST requests to the appropriate
  * service instances for the requested server.  It manages the server name to server instance mapping.
  * The map is maintained in a static so it is scoped to the class loader.
  *
- * Instances of this class call the synchronized static methods to work with the map.
+ * Instances of this class call the static methods to work with the map.  The maps are concurrent so the
+ * lookups made on behalf of each REST request do not take a lock.  The methods that activate and deactivate
+ * servers, or register and remove their services, are synchronized with one another so a server moves between
+ * the active and inactive maps as a single step.  A server is added to its new map before it is removed from
+ * its old one so a lookup never finds a known server missing from both maps.
  */
 public class OMAGServerPlatformInstanceMap
 {
-    private static Map<String, OMAGServerInstance> activeServerInstanceMap   = new HashMap<>();
-    private static Map<String, OMAGServerInstance> inActiveServerInstanceMap = new HashMap<>();
+    private static final Map<String, OMAGServerInstance> activeServerInstanceMap   = new ConcurrentHashMap<>();
+    private static final Map<String, OMAGServerInstance> inActiveServerInstanceMap = new ConcurrentHashMap<>();
 
 
     /**
@@ -425,6 +432,7 @@ public class OMAGServerPlatformInstanceMap
                  */
                 serverInstance = new OMAGServerInstance(serverName);
                 activeServerInstanceMap.put(serverName, serverInstance);
+                RESTCallMetrics.registerServer(serverName);
             }
             else
             {
@@ -496,10 +504,10 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      * @throws InvalidParameterException the server name is not known
      */
-    private static synchronized String getServerInstanceType(String  userId,
-                                                             String  serverName,
-                                                             String  serviceOperationName) throws InvalidParameterException,
-                                                                                                  UserNotAuthorizedException
+    private static String getServerInstanceType(String  userId,
+                                                String  serverName,
+                                                String  serviceOperationName) throws InvalidParameterException,
+                                                                                     UserNotAuthorizedException
     {
         validateUserAsInvestigatorForPlatform(userId);
 
@@ -531,8 +539,8 @@ public class OMAGServerPlatformInstanceMap
      * @return boolean
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized boolean isServerInstanceActive(String  userId,
-                                                               String  serverName) throws UserNotAuthorizedException
+    private static boolean isServerInstanceActive(String  userId,
+                                                  String  serverName) throws UserNotAuthorizedException
     {
         validateUserAsInvestigatorForPlatform(userId);
 
@@ -551,8 +559,8 @@ public class OMAGServerPlatformInstanceMap
      * @return boolean
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized boolean isServerInstanceKnown(String  userId,
-                                                              String  serverName) throws UserNotAuthorizedException
+    private static boolean isServerInstanceKnown(String  userId,
+                                                 String  serverName) throws UserNotAuthorizedException
     {
         validateUserAsInvestigatorForPlatform(userId);
 
@@ -574,12 +582,12 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      * @throws PropertyServerException the service name is not know - indicating a logic error
      */
-    private static synchronized OMAGServerServiceInstance getInstanceForPlatform(String  userId,
-                                                                                 String  serverName,
-                                                                                 String  serviceName,
-                                                                                 String  serviceOperationName) throws InvalidParameterException,
-                                                                                                                      UserNotAuthorizedException,
-                                                                                                                      PropertyServerException
+    private static OMAGServerServiceInstance getInstanceForPlatform(String  userId,
+                                                                    String  serverName,
+                                                                    String  serviceName,
+                                                                    String  serviceOperationName) throws InvalidParameterException,
+                                                                                                         UserNotAuthorizedException,
+                                                                                                         PropertyServerException
     {
         OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
 
@@ -619,7 +627,7 @@ public class OMAGServerPlatformInstanceMap
      * @return list of OMAG server names
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String> getActiveServerListForPlatform(String userId) throws UserNotAuthorizedException
+    private static List<String> getActiveServerListForPlatform(String userId) throws UserNotAuthorizedException
     {
         try
         {
@@ -650,7 +658,7 @@ public class OMAGServerPlatformInstanceMap
      * @return list of OMAG server names
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String> getKnownServerListForPlatform(String userId) throws UserNotAuthorizedException
+    private static List<String> getKnownServerListForPlatform(String userId) throws UserNotAuthorizedException
     {
         try
         {
@@ -682,8 +690,8 @@ public class OMAGServerPlatformInstanceMap
      * @param serverInstance instance for the server
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized void validateUserAsServerInvestigator(String              userId,
-                                                                      OMAGServerInstance  serverInstance) throws UserNotAuthorizedException
+    private static void validateUserAsServerInvestigator(String              userId,
+                                                         OMAGServerInstance  serverInstance) throws UserNotAuthorizedException
     {
         if (serverInstance != null)
         {
@@ -711,9 +719,9 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  Date getServerStartTimeFromPlatform(String  userId,
-                                                                     String  serverName) throws InvalidParameterException,
-                                                                                                UserNotAuthorizedException
+    private static  Date getServerStartTimeFromPlatform(String  userId,
+                                                        String  serverName) throws InvalidParameterException,
+                                                                                   UserNotAuthorizedException
     {
         final String  methodName = "getServerStartTimeFromPlatform";
 
@@ -748,9 +756,9 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  Date getServerEndTimeFromPlatform(String  userId,
-                                                                   String  serverName) throws InvalidParameterException,
-                                                                                              UserNotAuthorizedException
+    private static  Date getServerEndTimeFromPlatform(String  userId,
+                                                      String  serverName) throws InvalidParameterException,
+                                                                                 UserNotAuthorizedException
     {
         final String  methodName = "getServerEndTimeFromPlatform";
 
@@ -785,9 +793,9 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  List<OMAGServerInstanceHistory> getServerHistoryFromPlatform(String  userId,
-                                                                                              String  serverName) throws InvalidParameterException,
-                                                                                                                         UserNotAuthorizedException
+    private static  List<OMAGServerInstanceHistory> getServerHistoryFromPlatform(String  userId,
+                                                                                 String  serverName) throws InvalidParameterException,
+                                                                                                            UserNotAuthorizedException
     {
         final String  methodName = "getServerHistoryFromPlatform";
 
@@ -821,9 +829,9 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the server name is not known
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String>   getActiveServiceListForServerOnPlatform(String userId,
-                                                                                       String serverName) throws InvalidParameterException,
-                                                                                                                 UserNotAuthorizedException
+    private static List<String>   getActiveServiceListForServerOnPlatform(String userId,
+                                                                          String serverName) throws InvalidParameterException,
+                                                                                                    UserNotAuthorizedException
     {
         final String  methodName = "getActiveServiceListForServerOnPlatform";
 
@@ -919,8 +927,8 @@ public class OMAGServerPlatformInstanceMap
      * @return OpenMetadataServerSecurityVerifier object - never null
      * @throws InvalidParameterException the server name is not known
      */
-    private static synchronized OpenMetadataServerSecurityVerifier getServerSecurityVerifierForPlatform(String    userId,
-                                                                                                        String    serverName) throws InvalidParameterException
+    private static OpenMetadataServerSecurityVerifier getServerSecurityVerifierForPlatform(String    userId,
+                                                                                           String    serverName) throws InvalidParameterException
     {
         final String  methodName = "getServerSecurityVerifierForPlatform";
 
@@ -1226,4 +1234,52 @@ public class OMAGServerPlatformInstanceMap
     {
         return OMAGServerPlatformInstanceMap.getActiveServiceListForServerOnPlatform(userId, serverName);
     }
+
+
+    /**
+     * Return the statistics for the REST calls made to this OMAG Server Platform.
+     *
+     * @param userId calling user
+     * @return list of statistics for each service, server and method combination that has been called
+     * @throws UserNotAuthorizedException the user is not authorized to issue the request.
+     */
+    public List<RESTCallStatistics> getRESTCallStatistics(String  userId) throws UserNotAuthorizedException
+    {
+        validateUserAsInvestigatorForPlatform(userId);
+
+        return RESTCallMetrics.getStatistics();
+    }
+
+
+    /**
+     * Return the statistics for the REST calls made to an OMAG Server that is known to this OMAG Server Platform.
+     *
+     * @param userId calling user
+     * @param serverName name of the server
+     * @return list of statistics for each service and method combination that has been called
+     * @throws InvalidParameterException the server name is not known
+     * @throws UserNotAuthorizedException the user is not authorized to issue the request.
+     */
+    public List<RESTCallStatistics> getRESTCallStatistics(String  userId,
+                                                          String  serverName) throws InvalidParameterException,
+                                                                                     UserNotAuthorizedException
+    {
+        final String  methodName = "getRESTCallStatistics";
+
+        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+
+        if (serverInstance == null)
+        {
+            serverInstance = inActiveServerInstanceMap.get(serverName);
+        }
+
+        if (serverInstance == null)
+        {
+            handleBadServerName(userId, serverName, methodName);
+        }
+
+        validateUserAsServerInvestigator(userId, serverInstance);
+
+        return RESTCallMetrics.getStatistics(serverName);
+    }
 }
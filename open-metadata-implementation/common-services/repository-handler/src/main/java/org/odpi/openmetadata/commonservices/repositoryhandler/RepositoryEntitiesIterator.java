@@ -87,17 +87,15 @@ public class RepositoryEntitiesIterator extends RepositoryIteratorForEntities
              */
             while ((entitiesCache != null) && (entitiesCache.isEmpty()))
             {
-                entitiesCache = repositoryHandler.getEntitiesForType(userId,
-                                                                     entityTypeGUID,
-                                                                     entityTypeName,
-                                                                     forLineage,
-                                                                     forDuplicateProcessing,
-                                                                     startingFrom,
-                                                                     pageSize,
-                                                                     effectiveTime,
-                                                                     methodName);
-
-                startingFrom = startingFrom + pageSize;
+                entitiesCache = this.getNextPage(pageStart -> repositoryHandler.getEntitiesForType(userId,
+                                                                                                   entityTypeGUID,
+                                                                                                   entityTypeName,
+                                                                                                   forLineage,
+                                                                                                   forDuplicateProcessing,
+                                                                                                   pageStart,
+                                                                                                   pageSize,
+                                                                                                   effectiveTime,
+                                                                                                   methodName));
             }
         }
 
@@ -122,23 +122,21 @@ public class RepositoryFindEntitiesIterator extends RepositoryIteratorForEntitie
              */
             while ((entitiesCache != null) && (entitiesCache.isEmpty()))
             {
-                entitiesCache = repositoryHandler.findEntities(userId,
-                                                               entityTypeGUID,
-                                                               entitySubtypeGUIDs,
-                                                               searchProperties,
-                                                               limitResultsByStatus,
-                                                               searchClassifications,
-                                                               asOfTime,
-                                                               sequencingProperty,
-                                                               sequencingOrder,
-                                                               forLineage,
-                                                               forDuplicateProcessing,
-                                                               startingFrom,
-                                                               pageSize,
-                                                               effectiveTime,
-                                                               methodName);
-
-                startingFrom = startingFrom + pageSize;
+                entitiesCache = this.getNextPage(pageStart -> repositoryHandler.findEntities(userId,
+                                                                                             entityTypeGUID,
+                                                                                             entitySubtypeGUIDs,
+                                                                                             searchProperties,
+                                                                                             limitResultsByStatus,
+                                                                                             searchClassifications,
+                                                                                             asOfTime,
+                                                                                             sequencingProperty,
+                                                                                             sequencingOrder,
+                                                                                             forLineage,
+                                                                                             forDuplicateProcessing,
+                                                                                             pageStart,
+                                                                                             pageSize,
+                                                                                             effectiveTime,
+                                                                                             methodName));
             }
         }
 
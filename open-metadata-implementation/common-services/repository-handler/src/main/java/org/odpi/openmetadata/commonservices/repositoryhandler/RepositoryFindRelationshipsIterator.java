@@ -114,21 +114,19 @@ public class RepositoryFindRelationshipsIterator extends RepositoryIterator
              */
             while ((relationshipsCache != null) && (relationshipsCache.isEmpty()))
             {
-                relationshipsCache = repositoryHandler.findRelationships(userId,
-                                                                         relationshipTypeGUID,
-                                                                         relationshipSubtypeGUIDs,
-                                                                         searchProperties,
-                                                                         limitResultsByStatus,
-                                                                         asOfTime,
-                                                                         sequencingProperty,
-                                                                         sequencingOrder,
-                                                                         forDuplicateProcessing,
-                                                                         startingFrom,
-                                                                         pageSize,
-                                                                         effectiveTime,
-                                                                         methodName);
-
-                startingFrom = startingFrom + pageSize;
+                relationshipsCache = this.getNextPage(pageStart -> repositoryHandler.findRelationships(userId,
+                                                                                                       relationshipTypeGUID,
+                                                                                                       relationshipSubtypeGUIDs,
+                                                                                                       searchProperties,
+                                                                                                       limitResultsByStatus,
+                                                                                                       asOfTime,
+                                                                                                       sequencingProperty,
+                                                                                                       sequencingOrder,
+                                                                                                       forDuplicateProcessing,
+                                                                                                       pageStart,
+                                                                                                       pageSize,
+                                                                                                       effectiveTime,
+                                                                                                       methodName));
             }
         }
 
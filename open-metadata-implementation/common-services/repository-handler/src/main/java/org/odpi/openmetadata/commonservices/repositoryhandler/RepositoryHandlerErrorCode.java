@@ -182,6 +182,11 @@ public enum RepositoryHandlerErrorCode implements ExceptionMessageSet
                                   "because none of the repositories in the cohort support the Anchors classification.  To enable the " +
                                   "optimization provided through the Anchors classification, add an Egeria native metadata server to the cohort.  " +
                                   "This will provide the support for the Anchors classification."),
+
+    PAGE_RETRIEVAL_INTERRUPTED(500, "OMAG-REPOSITORY-HANDLER-500-003",
+                          "The thread waiting for the page of results starting at {0} for method {1} was interrupted",
+                          "The system abandons the request and cancels any outstanding retrievals of further pages of results.",
+                          "This normally occurs because the server is shutting down.  If it is not, retry the request."),
     ;
 
     private ExceptionMessageDefinition messageDefinition;
@@ -5,8 +5,11 @@ package org.odpi.openmetadata.commonservices.repositoryhandler;
 
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 
 import java.util.Date;
+import java.util.List;
 
 /**
  * RepositoryIterator is the shared interface of all repository helper iterators that retrieve entity or relationship
@@ -15,6 +18,7 @@ import java.util.Date;
 public class RepositoryIterator
 {
     public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_PREFETCH_PAGES = 4;
 
     protected RepositoryHandler       repositoryHandler;
     protected InvalidParameterHandler invalidParameterHandler;
@@ -25,6 +29,9 @@ public class RepositoryIterator
     protected boolean                 forDuplicateProcessing;
     protected Date                    effectiveTime;
 
+    private int                         prefetchPages = 0;
+    private RepositoryPagePrefetcher<?> pagePrefetcher = null;
+
     /**
      * Constructor takes the parameters used to call the repository handler.
      * @param repositoryHandler interface to the open metadata repositories.
@@ -60,4 +67,65 @@ public class RepositoryIterator
             this.pageSize = MAX_PAGE_SIZE;
         }
     }
+
+
+    /**
+     * Request that the following pages of results are retrieved in the background while the caller is processing
+     * the current page.  This hides the latency of the repository calls when the caller is going to work through
+     * many pages of results.  If the caller may stop before the end of the results, it should call close() so the
+     * outstanding requests are cancelled.  It must be called before the first page is retrieved.
+     *
+     * @param prefetchPages number of pages to retrieve ahead of the caller (0 means no prefetch) - this is
+     *                      limited to MAX_PREFETCH_PAGES
+     */
+    public void setPrefetchPages(int prefetchPages)
+    {
+        this.prefetchPages = Math.max(0, Math.min(prefetchPages, MAX_PREFETCH_PAGES));
+    }
+
+
+    /**
+     * Cancel any outstanding retrievals of pages of results.  This is only needed when prefetch is enabled and the
+     * caller has stopped before the end of the results.
+     */
+    public void close()
+    {
+        if (pagePrefetcher != null)
+        {
+            pagePrefetcher.close();
+        }
+    }
+
+
+    /**
+     * Retrieve the next page of results.  Without prefetch, the page is retrieved immediately on the caller's thread.
+     *
+     * @param pageRetriever call to the repository handler to retrieve the page beginning at a supplied position
+     * @param <T> type of element retrieved
+     * @return list of elements (empty if none are effective) or null if there are no more results
+     * @throws UserNotAuthorizedException the repository is not allowing the user to access the metadata
+     * @throws PropertyServerException there is a problem in the repository
+     */
+    @SuppressWarnings(value = "unchecked")
+    <T> List<T> getNextPage(RepositoryPagePrefetcher.PageRetriever<T> pageRetriever) throws UserNotAuthorizedException,
+                                                                                             PropertyServerException
+    {
+        if (prefetchPages == 0)
+        {
+            List<T> page = pageRetriever.retrievePage(startingFrom);
+
+            startingFrom = startingFrom + pageSize;
+
+            return page;
+        }
+
+        if (pagePrefetcher == null)
+        {
+            pagePrefetcher = new RepositoryPagePrefetcher<>(pageRetriever, startingFrom, pageSize, prefetchPages, methodName);
+        }
+
+        startingFrom = startingFrom + pageSize;
+
+        return ((RepositoryPagePrefetcher<T>)pagePrefetcher).nextPage();
+    }
 }
@@ -0,0 +1,257 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * RepositoryPagePrefetcher retrieves the pages of results for a repository iterator in the background.  While the
+ * caller is processing one page, requests for the following pages are already running.  The first page is retrieved
+ * on the caller's thread.  The repository handler removes the elements that are not effective from each page, so a
+ * short page does not mean there are no more results; pages are requested ahead until the handler returns null.
+ * The number of pages requested ahead of the caller is bounded, and the outstanding requests are cancelled when
+ * the iterator is closed or the end of the results is reached.
+ *
+ * Note this class is intended for a single request's use - it is not thread-safe.
+ *
+ * @param <T> type of element retrieved
+ */
+class RepositoryPagePrefetcher<T>
+{
+    /**
+     * PageRetriever is implemented by the iterator to make the call to the repository handler for one page.
+     *
+     * @param <T> type of element retrieved
+     */
+    interface PageRetriever<T>
+    {
+        /**
+         * Retrieve the page of results beginning at startingFrom.
+         *
+         * @param startingFrom position of the first element in the page
+         * @return list of elements (empty if none are effective) or null if there are no more results
+         * @throws UserNotAuthorizedException the repository is not allowing the user to access the metadata
+         * @throws PropertyServerException there is a problem in the repository
+         */
+        List<T> retrievePage(int startingFrom) throws UserNotAuthorizedException,
+                                                      PropertyServerException;
+    }
+
+
+    /*
+     * Runs the page requests for all of the iterators in the server.  The number of threads is bounded so many
+     * concurrent iterators queue their requests rather than creating a thread for each one.  Idle threads end
+     * after a minute.
+     */
+    private static final int             maxPrefetchThreads = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final ExecutorService prefetchExecutor   = getPrefetchExecutor();
+
+    private final PageRetriever<T>            pageRetriever;
+    private final int                         pageSize;
+    private final int                         readAheadPages;
+    private final String                      methodName;
+    private final LinkedList<Future<List<T>>> pendingPages = new LinkedList<>();
+
+    private int     nextStartingFrom;
+    private int     nextPageStartingFrom;
+    private boolean endOfResults = false;
+
+
+    /**
+     * Constructor supplies the details of the pages to retrieve.
+     *
+     * @param pageRetriever call to retrieve a page
+     * @param startingFrom position of the first element in the first page
+     * @param pageSize number of elements in each page
+     * @param readAheadPages number of pages to request ahead of the page the caller is processing
+     * @param methodName name of calling method
+     */
+    RepositoryPagePrefetcher(PageRetriever<T> pageRetriever,
+                             int              startingFrom,
+                             int              pageSize,
+                             int              readAheadPages,
+                             String           methodName)
+    {
+        this.pageRetriever        = pageRetriever;
+        this.nextStartingFrom     = startingFrom;
+        this.nextPageStartingFrom = startingFrom;
+        this.pageSize             = pageSize;
+        this.readAheadPages       = readAheadPages;
+        this.methodName           = methodName;
+    }
+
+
+    /**
+     * Create the bounded pool of daemon threads that runs the page requests.
+     *
+     * @return executor
+     */
+    private static ExecutorService getPrefetchExecutor()
+    {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxPrefetchThreads,
+                                                             maxPrefetchThreads,
+                                                             60L,
+                                                             TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<>(),
+                                                             runnable ->
+                                                             {
+                                                                 Thread thread = new Thread(runnable, "RepositoryPagePrefetcher");
+                                                                 thread.setDaemon(true);
+                                                                 return thread;
+                                                             });
+
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+
+    /**
+     * Return the next page of results, waiting for it to be retrieved if necessary.
+     *
+     * @return list of elements (empty if none are effective) or null if there are no more results
+     * @throws UserNotAuthorizedException the repository is not allowing the user to access the metadata
+     * @throws PropertyServerException there is a problem in the repository
+     */
+    List<T> nextPage() throws UserNotAuthorizedException,
+                              PropertyServerException
+    {
+        if (endOfResults)
+        {
+            return null;
+        }
+
+        int pageStartingFrom = nextPageStartingFrom;
+
+        nextPageStartingFrom = nextPageStartingFrom + pageSize;
+
+        if (pendingPages.isEmpty())
+        {
+            /*
+             * Nothing has been requested ahead so the page is retrieved on the caller's thread.
+             */
+            nextStartingFrom = nextStartingFrom + pageSize;
+
+            try
+            {
+                return this.checkPage(pageRetriever.retrievePage(pageStartingFrom));
+            }
+            catch (UserNotAuthorizedException | PropertyServerException | RuntimeException error)
+            {
+                this.close();
+
+                throw error;
+            }
+        }
+
+        Future<List<T>> page = pendingPages.removeFirst();
+
+        try
+        {
+            return this.checkPage(page.get());
+        }
+        catch (ExecutionException error)
+        {
+            this.close();
+
+            Throwable cause = error.getCause();
+
+            if (cause instanceof UserNotAuthorizedException)
+            {
+                throw (UserNotAuthorizedException)cause;
+            }
+            else if (cause instanceof PropertyServerException)
+            {
+                throw (PropertyServerException)cause;
+            }
+            else if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException)cause;
+            }
+
+            throw new IllegalStateException(cause);
+        }
+        catch (InterruptedException error)
+        {
+            this.close();
+
+            Thread.currentThread().interrupt();
+
+            throw new PropertyServerException(RepositoryHandlerErrorCode.PAGE_RETRIEVAL_INTERRUPTED.getMessageDefinition(Integer.toString(pageStartingFrom),
+                                                                                                                         methodName),
+                                              this.getClass().getName(),
+                                              methodName,
+                                              error);
+        }
+    }
+
+
+    /**
+     * Close the prefetcher at the end of the results, or request the following pages while the caller processes
+     * this one.  A short page is not the end of the results because the handler may have filtered it.
+     *
+     * @param results page of results
+     * @return the same page of results
+     */
+    private List<T> checkPage(List<T> results)
+    {
+        if (results == null)
+        {
+            this.close();
+        }
+        else
+        {
+            this.requestPages(readAheadPages);
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Cancel any outstanding page requests.  No more pages are returned after this call.  Requests that are
+     * already running are left to complete rather than interrupting the thread that is calling the repository;
+     * their results are discarded.
+     */
+    void close()
+    {
+        endOfResults = true;
+
+        for (Future<List<T>> pendingPage : pendingPages)
+        {
+            pendingPage.cancel(false);
+        }
+
+        pendingPages.clear();
+    }
+
+
+    /**
+     * Make sure that the requested number of pages are being retrieved.
+     *
+     * @param pageCount number of pages that should be outstanding
+     */
+    private void requestPages(int pageCount)
+    {
+        while (pendingPages.size() < pageCount)
+        {
+            final int startingFrom = nextStartingFrom;
+
+            pendingPages.add(prefetchExecutor.submit(() -> pageRetriever.retrievePage(startingFrom)));
+
+            nextStartingFrom = nextStartingFrom + pageSize;
+        }
+    }
+}
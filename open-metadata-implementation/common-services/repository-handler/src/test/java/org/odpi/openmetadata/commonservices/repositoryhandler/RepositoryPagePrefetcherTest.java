@@ -0,0 +1,262 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+
+/**
+ * RepositoryPagePrefetcherTest verifies that the prefetcher returns the pages in order, stops at the end of the
+ * results, cancels its outstanding requests when it is closed and passes errors from the repository to the caller.
+ */
+public class RepositoryPagePrefetcherTest
+{
+    private static final int PAGE_SIZE = 3;
+
+
+    /**
+     * Validate that every page is returned in order, that the short last page and the end of the results are
+     * passed on, and that no more pages are returned after the end.
+     *
+     * @throws Exception problem retrieving the pages
+     */
+    @Test
+    public void testEndOfResults() throws Exception
+    {
+        List<Integer>                     startPositions = Collections.synchronizedList(new ArrayList<>());
+        RepositoryPagePrefetcher<Integer> prefetcher     = new RepositoryPagePrefetcher<>(startingFrom ->
+                                                                                          {
+                                                                                              startPositions.add(startingFrom);
+                                                                                              return retrievePage(startingFrom, 8);
+                                                                                          },
+                                                                                          0,
+                                                                                          PAGE_SIZE,
+                                                                                          2,
+                                                                                          "testEndOfResults");
+
+        assertEquals(prefetcher.nextPage(), Arrays.asList(0, 1, 2));
+        assertEquals(prefetcher.nextPage(), Arrays.asList(3, 4, 5));
+        assertEquals(prefetcher.nextPage(), Arrays.asList(6, 7));
+        assertNull(prefetcher.nextPage());
+        assertNull(prefetcher.nextPage());
+
+        assertTrue(startPositions.containsAll(Arrays.asList(0, 3, 6, 9)));
+    }
+
+
+    /**
+     * Validate that pages are still requested ahead after a page that has been shortened by filtering, and that
+     * the results only end when the repository returns null.
+     *
+     * @throws Exception problem retrieving the pages
+     */
+    @Test
+    public void testReadAheadAfterShortPage() throws Exception
+    {
+        CountDownLatch secondPageRequested = new CountDownLatch(1);
+
+        RepositoryPagePrefetcher<Integer> prefetcher = new RepositoryPagePrefetcher<>(startingFrom ->
+                                                                                      {
+                                                                                          if (startingFrom == PAGE_SIZE)
+                                                                                          {
+                                                                                              secondPageRequested.countDown();
+                                                                                          }
+
+                                                                                          return retrieveFilteredPage(startingFrom, 9);
+                                                                                      },
+                                                                                      0,
+                                                                                      PAGE_SIZE,
+                                                                                      2,
+                                                                                      "testReadAheadAfterShortPage");
+
+        assertEquals(prefetcher.nextPage(), Arrays.asList(0, 2));
+        assertTrue(secondPageRequested.await(10, TimeUnit.SECONDS));
+        assertEquals(prefetcher.nextPage(), Arrays.asList(3, 5));
+        assertEquals(prefetcher.nextPage(), Arrays.asList(6, 8));
+        assertNull(prefetcher.nextPage());
+    }
+
+
+    /**
+     * Validate that closing the prefetcher ends the results without interrupting a request that is already
+     * running.
+     *
+     * @throws Exception problem retrieving the pages
+     */
+    @Test
+    public void testCancellation() throws Exception
+    {
+        CountDownLatch requestRunning = new CountDownLatch(1);
+        CountDownLatch releaseRequest = new CountDownLatch(1);
+        CountDownLatch requestEnded   = new CountDownLatch(1);
+        AtomicBoolean  interrupted    = new AtomicBoolean(false);
+
+        RepositoryPagePrefetcher<Integer> prefetcher = new RepositoryPagePrefetcher<>(startingFrom ->
+                                                                                      {
+                                                                                          if (startingFrom == PAGE_SIZE)
+                                                                                          {
+                                                                                              requestRunning.countDown();
+
+                                                                                              try
+                                                                                              {
+                                                                                                  releaseRequest.await(10, TimeUnit.SECONDS);
+                                                                                              }
+                                                                                              catch (InterruptedException error)
+                                                                                              {
+                                                                                                  interrupted.set(true);
+                                                                                              }
+
+                                                                                              requestEnded.countDown();
+                                                                                          }
+
+                                                                                          return retrievePage(startingFrom, 100);
+                                                                                      },
+                                                                                      0,
+                                                                                      PAGE_SIZE,
+                                                                                      1,
+                                                                                      "testCancellation");
+
+        assertEquals(prefetcher.nextPage(), Arrays.asList(0, 1, 2));
+        assertTrue(requestRunning.await(10, TimeUnit.SECONDS));
+
+        prefetcher.close();
+
+        assertNull(prefetcher.nextPage());
+
+        releaseRequest.countDown();
+
+        assertTrue(requestEnded.await(10, TimeUnit.SECONDS));
+        assertFalse(interrupted.get());
+    }
+
+
+    /**
+     * Validate that an error from a request made in the background is passed to the caller unchanged and ends
+     * the results.
+     *
+     * @throws Exception problem retrieving the pages
+     */
+    @Test
+    public void testBackgroundErrorPropagation() throws Exception
+    {
+        PropertyServerException failure = new PropertyServerException(RepositoryHandlerErrorCode.PAGE_RETRIEVAL_INTERRUPTED.getMessageDefinition("3", "test"),
+                                                                      this.getClass().getName(),
+                                                                      "testBackgroundErrorPropagation");
+
+        RepositoryPagePrefetcher<Integer> prefetcher = new RepositoryPagePrefetcher<>(startingFrom ->
+                                                                                      {
+                                                                                          if (startingFrom == PAGE_SIZE)
+                                                                                          {
+                                                                                              throw failure;
+                                                                                          }
+
+                                                                                          return retrievePage(startingFrom, 100);
+                                                                                      },
+                                                                                      0,
+                                                                                      PAGE_SIZE,
+                                                                                      1,
+                                                                                      "testBackgroundErrorPropagation");
+
+        assertEquals(prefetcher.nextPage(), Arrays.asList(0, 1, 2));
+
+        PropertyServerException error = expectThrows(PropertyServerException.class, prefetcher::nextPage);
+
+        assertSame(error, failure);
+        assertNull(prefetcher.nextPage());
+    }
+
+
+    /**
+     * Validate that an error from the request made on the caller's thread is passed to the caller unchanged and
+     * ends the results.
+     *
+     * @throws Exception problem retrieving the pages
+     */
+    @Test
+    public void testCallerErrorPropagation() throws Exception
+    {
+        UserNotAuthorizedException failure = new UserNotAuthorizedException(RepositoryHandlerErrorCode.PAGE_RETRIEVAL_INTERRUPTED.getMessageDefinition("0", "test"),
+                                                                            this.getClass().getName(),
+                                                                            "testCallerErrorPropagation",
+                                                                            "testUser");
+
+        RepositoryPagePrefetcher<Integer> prefetcher = new RepositoryPagePrefetcher<>(startingFrom ->
+                                                                                      {
+                                                                                          throw failure;
+                                                                                      },
+                                                                                      0,
+                                                                                      PAGE_SIZE,
+                                                                                      1,
+                                                                                      "testCallerErrorPropagation");
+
+        UserNotAuthorizedException error = expectThrows(UserNotAuthorizedException.class, prefetcher::nextPage);
+
+        assertSame(error, failure);
+        assertNull(prefetcher.nextPage());
+    }
+
+
+    /**
+     * Return a page of consecutive numbers with the numbers that leave a remainder of 1 when divided by the page
+     * size removed, in the same way that the repository handler removes the elements that are not effective.
+     *
+     * @param startingFrom first number in the page
+     * @param resultCount total number of results before filtering
+     * @return list of numbers or null if startingFrom is past the end of the results
+     */
+    private static List<Integer> retrieveFilteredPage(int startingFrom,
+                                                      int resultCount)
+    {
+        List<Integer> page = retrievePage(startingFrom, resultCount);
+
+        if (page != null)
+        {
+            page.removeIf(value -> value % PAGE_SIZE == 1);
+        }
+
+        return page;
+    }
+
+
+    /**
+     * Return a page of consecutive numbers.
+     *
+     * @param startingFrom first number in the page
+     * @param resultCount total number of results
+     * @return list of numbers or null if startingFrom is past the end of the results
+     */
+    private static List<Integer> retrievePage(int startingFrom,
+                                              int resultCount)
+    {
+        if (startingFrom >= resultCount)
+        {
+            return null;
+        }
+
+        List<Integer> page = new ArrayList<>();
+
+        for (int value = startingFrom; (value < resultCount) && (value < startingFrom + PAGE_SIZE); value++)
+        {
+            page.add(value);
+        }
+
+        return page;
+    }
+}
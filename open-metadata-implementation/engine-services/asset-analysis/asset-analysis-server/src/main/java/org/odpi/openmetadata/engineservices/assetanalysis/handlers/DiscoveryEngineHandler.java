@@ -170,9 +170,12 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
 
 
     /**
-     * Run an instance of a governance action service in its own thread and return the handler (for disconnect processing).
+     * Queue an instance of a governance action service to run on the governance engine's thread pool and return the handler
+     * (for disconnect processing).
      *
      * @param governanceActionGUID unique identifier of the asset to analyse
+     * @param startTime requested start time of the governance action (null means as soon as possible)
+     * @param domainIdentifier governance domain of the governance action
      * @param requestType unique identifier of the asset that the annotations should be attached to
      * @param requestParameters name-value properties to control the governance action service
      * @param requestSourceElements metadata elements associated with the request to the governance action service
@@ -186,6 +189,8 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
      */
     @Override
     public GovernanceServiceHandler runGovernanceService(String                     governanceActionGUID,
+                                                         Date                       startTime,
+                                                         int                        domainIdentifier,
                                                          String                     requestType,
                                                          Map<String, String>        requestParameters,
                                                          List<RequestSourceElement> requestSourceElements,
@@ -227,8 +232,7 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
                                                                                               governanceActionGUID,
                                                                                               governanceServiceCache);
 
-            Thread thread = new Thread(discoveryServiceHandler, governanceServiceCache.getGovernanceServiceName() + assetGUID + new Date().toString());
-            thread.start();
+            super.startGovernanceService(discoveryServiceHandler, startTime, domainIdentifier);
 
             return discoveryServiceHandler;
         }
@@ -238,7 +242,8 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
 
 
     /**
-     * Run an instance of a discovery service in its own thread.
+     * Queue an instance of a discovery service to run on the governance engine's thread pool.  The request is rejected
+     * before the discovery report is created if the governance engine's queue is full.
      *
      * @param assetGUID unique identifier of the asset to analyse
      * @param discoveryRequestType type of discovery
@@ -261,18 +266,33 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
                                                                                              UserNotAuthorizedException,
                                                                                              PropertyServerException
     {
-        DiscoveryServiceHandler discoveryServiceHandler = this.getDiscoveryServiceHandler(assetGUID,
-                                                                                          discoveryRequestType,
-                                                                                          suppliedAnalysisParameters,
-                                                                                          firstAnalysisStep,
-                                                                                          annotationTypes,
-                                                                                          null,
-                                                                                          governanceServiceCache);
-
-        Thread thread = new Thread(discoveryServiceHandler, governanceServiceCache.getGovernanceServiceName() + assetGUID + new Date().toString());
-        thread.start();
-
-        return discoveryServiceHandler.getDiscoveryReportGUID();
+        /*
+         * The place on the thread pool is reserved before the discovery report is created so a full queue does not
+         * leave behind a report for a discovery service that never runs.
+         */
+        super.reserveGovernanceService(governanceServiceCache.getGovernanceServiceName());
+
+        try
+        {
+            DiscoveryServiceHandler discoveryServiceHandler = this.getDiscoveryServiceHandler(assetGUID,
+                                                                                              discoveryRequestType,
+                                                                                              suppliedAnalysisParameters,
+                                                                                              firstAnalysisStep,
+                                                                                              annotationTypes,
+                                                                                              null,
+                                                                                              governanceServiceCache);
+
+            String discoveryReportGUID = discoveryServiceHandler.getDiscoveryReportGUID();
+
+            super.startGovernanceService(discoveryServiceHandler, null, 0);
+
+            return discoveryReportGUID;
+        }
+        catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException | RuntimeException error)
+        {
+            super.cancelGovernanceService();
+            throw error;
+        }
     }
 
 
@@ -95,9 +95,12 @@ public class GovernanceActionEngineHandler extends GovernanceEngineHandler
 
 
     /**
-     * Run an instance of a governance action service in its own thread and return the handler (for disconnect processing).
+     * Queue an instance of a governance action service to run on the governance engine's thread pool and return the handler
+     * (for disconnect processing).
      *
      * @param governanceActionGUID unique identifier of the asset to analyse
+     * @param startTime requested start time of the governance action (null means as soon as possible)
+     * @param domainIdentifier governance domain of the governance action
      * @param requestType unique identifier of the asset that the annotations should be attached to
      * @param requestParameters name-value properties to control the governance action service
      * @param requestSourceElements metadata elements associated with the request to the governance action service
@@ -110,6 +113,8 @@ public class GovernanceActionEngineHandler extends GovernanceEngineHandler
      */
     @Override
     public GovernanceServiceHandler runGovernanceService(String                     governanceActionGUID,
+                                                         Date                       startTime,
+                                                         int                        domainIdentifier,
                                                          String                     requestType,
                                                          Map<String, String>        requestParameters,
                                                          List<RequestSourceElement> requestSourceElements,
@@ -142,8 +147,7 @@ public class GovernanceActionEngineHandler extends GovernanceEngineHandler
                                                                                                                governanceListenerManager,
                                                                                                                auditLog);
 
-            Thread thread = new Thread(governanceActionServiceHandler, governanceServiceCache.getGovernanceServiceName() + governanceActionGUID + new Date().toString());
-            thread.start();
+            super.startGovernanceService(governanceActionServiceHandler, startTime, domainIdentifier);
 
             return governanceActionServiceHandler;
         }
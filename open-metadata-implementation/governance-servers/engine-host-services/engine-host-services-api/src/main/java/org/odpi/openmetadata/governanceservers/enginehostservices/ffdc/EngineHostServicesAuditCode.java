@@ -311,6 +311,21 @@ public enum EngineHostServicesAuditCode implements AuditLogMessageSet
                              "Review the error messages and resolve the cause of the problem.  Once resolved, it is possible to " +
                                      "retry the governance action by updating its status back to REQUESTED status."),
 
+    GOVERNANCE_ACTION_DEFERRED("ENGINE-HOST-SERVICES-0035",
+                               OMRSAuditLogRecordSeverity.INFO,
+                               "Governance engine {0} has not claimed governance action {1} because {2} governance service requests are already waiting to run",
+                               "The governance engine's queue of governance service requests is full.  The governance action is left in " +
+                                       "APPROVED status so that it can be claimed by another engine host server.",
+                               "If this message occurs often, increase the maxConcurrentServices or maxQueuedServices in the governance " +
+                                       "engine's configuration, or run the governance engine in more engine host servers."),
+
+    VIRTUAL_THREADS_NOT_SUPPORTED("ENGINE-HOST-SERVICES-0036",
+                                  OMRSAuditLogRecordSeverity.INFO,
+                                  "Governance engine {0} is configured to use virtual threads but they are not supported by this Java runtime",
+                                  "The governance services for this governance engine will run on platform threads.",
+                                  "Either run the server on a Java runtime that supports virtual threads or remove the useVirtualThreads " +
+                                          "option from the governance engine's configuration."),
+
     NO_OMAS_SERVER_URL("ENGINE-HOST-SERVICES-0150",
                        OMRSAuditLogRecordSeverity.ERROR,
                        "{0} in server {1} is not configured with the platform URL root for the {2}",
@@ -241,6 +241,12 @@ public enum EngineHostServicesErrorCode implements ExceptionMessageSet
                                      "This is a configuration error.  Update the configuration for the engine host service to ensure governance engines are correctly " +
                                              "matched to the engine services.  Once the cause is resolved, restart the server."),
 
+    GOVERNANCE_SERVICE_QUEUE_FULL(400, "ENGINE-HOST-SERVICES-400-025",
+                                  "Governance engine {0} in engine host server {1} is unable to accept a request for governance service {2} because {3} requests are already waiting to run",
+                                  "The request is rejected because the governance engine's queue of governance service requests is full.",
+                                  "Retry the request once the governance engine has worked through its queue.  If this error occurs often, " +
+                                          "increase the maxConcurrentServices or maxQueuedServices in the governance engine's configuration."),
+
     NO_OMAS_SERVER_URL(400,"ENGINE-HOST-SERVICES-400-102",
                        "{0} in server {1} is not configured with the platform URL root for the {2}",
                        "The engine service is not able to locate the metadata server to retrieve the configuration for " +
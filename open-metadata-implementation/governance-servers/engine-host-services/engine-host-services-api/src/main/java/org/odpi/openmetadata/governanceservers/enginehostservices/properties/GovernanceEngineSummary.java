@@ -31,6 +31,9 @@ public class GovernanceEngineSummary implements Serializable
     private String                 governanceEngineDescription = null;
     private GovernanceEngineStatus governanceEngineStatus      = null;
     private List<String>           governanceRequestTypes      = null;
+    private int                    queuedServiceCount          = 0;
+    private int                    activeServiceCount          = 0;
+    private long                   completedServiceCount       = 0;
 
 
     /**
@@ -57,6 +60,9 @@ public class GovernanceEngineSummary implements Serializable
             governanceEngineDescription = template.getGovernanceEngineDescription();
             governanceEngineStatus = template.getGovernanceEngineStatus();
             governanceRequestTypes = template.getGovernanceRequestTypes();
+            queuedServiceCount = template.getQueuedServiceCount();
+            activeServiceCount = template.getActiveServiceCount();
+            completedServiceCount = template.getCompletedServiceCount();
         }
     }
 
@@ -224,6 +230,72 @@ public class GovernanceEngineSummary implements Serializable
     }
 
 
+    /**
+     * Return the number of governance service requests waiting for a free thread.
+     *
+     * @return count
+     */
+    public int getQueuedServiceCount()
+    {
+        return queuedServiceCount;
+    }
+
+
+    /**
+     * Set up the number of governance service requests waiting for a free thread.
+     *
+     * @param queuedServiceCount count
+     */
+    public void setQueuedServiceCount(int queuedServiceCount)
+    {
+        this.queuedServiceCount = queuedServiceCount;
+    }
+
+
+    /**
+     * Return the number of governance services that are running.
+     *
+     * @return count
+     */
+    public int getActiveServiceCount()
+    {
+        return activeServiceCount;
+    }
+
+
+    /**
+     * Set up the number of governance services that are running.
+     *
+     * @param activeServiceCount count
+     */
+    public void setActiveServiceCount(int activeServiceCount)
+    {
+        this.activeServiceCount = activeServiceCount;
+    }
+
+
+    /**
+     * Return the number of governance services that have completed since the governance engine started.
+     *
+     * @return count
+     */
+    public long getCompletedServiceCount()
+    {
+        return completedServiceCount;
+    }
+
+
+    /**
+     * Set up the number of governance services that have completed since the governance engine started.
+     *
+     * @param completedServiceCount count
+     */
+    public void setCompletedServiceCount(long completedServiceCount)
+    {
+        this.completedServiceCount = completedServiceCount;
+    }
+
+
     /**
      * JSON-style toString
      *
@@ -240,6 +312,9 @@ public class GovernanceEngineSummary implements Serializable
                        ", governanceEngineDescription='" + governanceEngineDescription + '\'' +
                        ", governanceEngineStatus=" + governanceEngineStatus +
                        ", governanceRequestTypes=" + governanceRequestTypes +
+                       ", queuedServiceCount=" + queuedServiceCount +
+                       ", activeServiceCount=" + activeServiceCount +
+                       ", completedServiceCount=" + completedServiceCount +
                        '}';
     }
 
@@ -268,7 +343,10 @@ public class GovernanceEngineSummary implements Serializable
                        Objects.equals(governanceEngineGUID, that.governanceEngineGUID) &&
                 Objects.equals(governanceEngineDescription, that.governanceEngineDescription) &&
                 governanceEngineStatus == that.governanceEngineStatus &&
-                Objects.equals(governanceRequestTypes, that.governanceRequestTypes);
+                Objects.equals(governanceRequestTypes, that.governanceRequestTypes) &&
+                queuedServiceCount == that.queuedServiceCount &&
+                activeServiceCount == that.activeServiceCount &&
+                completedServiceCount == that.completedServiceCount;
     }
 
 
@@ -281,6 +359,7 @@ public class GovernanceEngineSummary implements Serializable
    public int hashCode()
    {
        return Objects.hash(governanceEngineName, governanceEngineTypeName, governanceEngineService,
-                           governanceEngineGUID, governanceEngineDescription, governanceEngineStatus, governanceRequestTypes);
+                           governanceEngineGUID, governanceEngineDescription, governanceEngineStatus, governanceRequestTypes,
+                           queuedServiceCount, activeServiceCount, completedServiceCount);
    }
 }
@@ -55,6 +55,8 @@ public abstract class GovernanceEngineHandler
 
     private GovernanceServiceCacheMap  governanceServiceLookupTable = new GovernanceServiceCacheMap();
 
+    private GovernanceServiceExecutor  governanceServiceExecutor;   /* Initialized in constructor */
+
 
     /**
      * Create a client-side object for calling a governance engine.
@@ -90,6 +92,12 @@ public abstract class GovernanceEngineHandler
         this.serverClient = serverClient;
         this.auditLog = auditLog;
         this.maxPageSize = maxPageSize;
+        this.governanceServiceExecutor = new GovernanceServiceExecutor(governanceEngineName,
+                                                                       serverName,
+                                                                       engineConfig.getMaxConcurrentServices(),
+                                                                       engineConfig.getMaxQueuedServices(),
+                                                                       engineConfig.getUseVirtualThreads(),
+                                                                       auditLog);
     }
 
 
@@ -126,6 +134,9 @@ public abstract class GovernanceEngineHandler
         }
 
         mySummary.setGovernanceRequestTypes(governanceServiceLookupTable.getGovernanceRequestTypes());
+        mySummary.setQueuedServiceCount(governanceServiceExecutor.getQueuedServiceCount());
+        mySummary.setActiveServiceCount(governanceServiceExecutor.getActiveServiceCount());
+        mySummary.setCompletedServiceCount(governanceServiceExecutor.getCompletedServiceCount());
         mySummary.setGovernanceEngineStatus(GovernanceEngineStatus.ASSIGNED);
 
         if (governanceEngineGUID != null)
@@ -351,6 +362,45 @@ public abstract class GovernanceEngineHandler
     }
 
 
+    /**
+     * Reserve a place on the governance engine's thread pool for a request that does not come from a
+     * governance action.  This must be called before any work is done for the request.  Once reserved,
+     * the caller must either call startGovernanceService() or cancelGovernanceService().
+     *
+     * @param governanceServiceName name of the governance service that will run the request
+     * @throws PropertyServerException the governance engine's queue of requests is full
+     */
+    protected void reserveGovernanceService(String governanceServiceName) throws PropertyServerException
+    {
+        governanceServiceExecutor.reserveCapacity(governanceServiceName);
+    }
+
+
+    /**
+     * Release the place reserved for a request that is not going to be started.
+     */
+    protected void cancelGovernanceService()
+    {
+        governanceServiceExecutor.releaseCapacity();
+    }
+
+
+    /**
+     * Queue a governance service to run on the governance engine's thread pool.  A place must already have been
+     * reserved, either by executeGovernanceAction() or reserveGovernanceService().
+     *
+     * @param governanceServiceHandler handler for the governance service
+     * @param startTime requested start time, or null to run as soon as possible
+     * @param domainIdentifier governance domain of the request
+     */
+    protected void startGovernanceService(GovernanceServiceHandler governanceServiceHandler,
+                                          Date                     startTime,
+                                          int                      domainIdentifier)
+    {
+        governanceServiceExecutor.execute(governanceServiceHandler, startTime, domainIdentifier);
+    }
+
+
     /**
      * Retrieve the governance service for the requested type.
      *
@@ -437,17 +487,47 @@ public abstract class GovernanceEngineHandler
 
             if (properties.getActionStatus() == GovernanceActionStatus.APPROVED)
             {
-                serverClient.claimGovernanceAction(serverUserId, governanceActionGUID);
+                /*
+                 * The place on the thread pool is reserved before the governance action is claimed.  If there is no place,
+                 * the governance action is left for another engine host rather than claimed and then not run.
+                 */
+                if (! governanceServiceExecutor.reserveCapacity())
+                {
+                    auditLog.logMessage(methodName,
+                                        EngineHostServicesAuditCode.GOVERNANCE_ACTION_DEFERRED.getMessageDefinition(governanceEngineName,
+                                                                                                                  governanceActionGUID,
+                                                                                                                  Integer.toString(governanceServiceExecutor.getQueuedServiceCount())));
+                    return;
+                }
 
-                // todo if the start date is in the future then the governance action should be given to the scheduler
+                GovernanceServiceHandler governanceServiceHandler = null;
 
-                serverClient.updateGovernanceActionStatus(serverUserId, governanceActionGUID, GovernanceActionStatus.IN_PROGRESS);
+                try
+                {
+                    serverClient.claimGovernanceAction(serverUserId, governanceActionGUID);
 
-                runGovernanceService(governanceActionGUID,
-                                     properties.getRequestType(),
-                                     properties.getRequestParameters(),
-                                     properties.getRequestSourceElements(),
-                                     properties.getActionTargetElements());
+                    // todo if the start date is in the future then the governance action should be given to the scheduler
+
+                    serverClient.updateGovernanceActionStatus(serverUserId, governanceActionGUID, GovernanceActionStatus.IN_PROGRESS);
+
+                    governanceServiceHandler = runGovernanceService(governanceActionGUID,
+                                                                    properties.getStartTime(),
+                                                                    properties.getDomainIdentifier(),
+                                                                    properties.getRequestType(),
+                                                                    properties.getRequestParameters(),
+                                                                    properties.getRequestSourceElements(),
+                                                                    properties.getActionTargetElements());
+                }
+                finally
+                {
+                    /*
+                     * A handler is only returned once the governance service is queued and so owns the reservation.
+                     */
+                    if (governanceServiceHandler == null)
+                    {
+                        governanceServiceExecutor.releaseCapacity();
+                    }
+                }
             }
         }
         catch (Exception error)
@@ -463,9 +543,13 @@ public abstract class GovernanceEngineHandler
 
 
     /**
-     * Run an instance of a governance action service in its own thread and return the handler (for disconnect processing).
+     * Queue an instance of a governance action service to run on the governance engine's thread pool and return the handler
+     * (for disconnect processing).  A place on the thread pool has already been reserved for the request.  The implementation
+     * passes it on by calling startGovernanceService().  If it returns null or throws an exception, the place is released.
      *
      * @param governanceActionGUID unique identifier of the asset to analyse
+     * @param startTime requested start time of the governance action (null means as soon as possible)
+     * @param domainIdentifier governance domain of the governance action
      * @param requestType unique identifier of the asset that the annotations should be attached to
      * @param requestParameters name-value properties to control the governance action service
      * @param requestSourceElements metadata elements associated with the request to the governance action service
@@ -478,6 +562,8 @@ public abstract class GovernanceEngineHandler
      * @throws PropertyServerException there was a problem detected by the governance action engine.
      */
     public abstract GovernanceServiceHandler runGovernanceService(String                     governanceActionGUID,
+                                                                  Date                       startTime,
+                                                                  int                        domainIdentifier,
                                                                   String                     requestType,
                                                                   Map<String, String>        requestParameters,
                                                                   List<RequestSourceElement> requestSourceElements,
@@ -519,5 +605,6 @@ public abstract class GovernanceEngineHandler
         governanceEngineGUID = null;
         governanceEngineProperties = null;
         governanceServiceLookupTable.clear();
+        governanceServiceExecutor.shutdown();
     }
 }
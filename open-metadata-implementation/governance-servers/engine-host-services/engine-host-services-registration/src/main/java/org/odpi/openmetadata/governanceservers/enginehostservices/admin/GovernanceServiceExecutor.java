@@ -0,0 +1,363 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.enginehostservices.admin;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.governanceservers.enginehostservices.ffdc.EngineHostServicesAuditCode;
+import org.odpi.openmetadata.governanceservers.enginehostservices.ffdc.EngineHostServicesErrorCode;
+
+import java.util.Date;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GovernanceServiceExecutor runs the governance services for a single governance engine on a bounded pool of threads.
+ * Requests that arrive when all of the threads are busy wait in a priority queue.  The request with the earliest
+ * start time runs first.  Requests with the same start time are grouped by governance domain and then run in the
+ * order they arrived.  The number of waiting requests is capped so a flood of governance actions can not exhaust
+ * the engine host.
+ *
+ * The priority order only applies to requests that wait in the queue.  While fewer than maxConcurrentServices
+ * governance services are running, a new request starts straight away whatever its start time.  So a request
+ * may run before an earlier request that arrives after it.  The start time is also not a delay - a request whose
+ * start time is in the future runs as soon as a thread is free.
+ *
+ * Capacity is reserved before the caller does any work for the request, such as claiming a governance action or
+ * creating a discovery report.  The caller then either passes the request to execute(), which hands the
+ * reservation to the request, or calls releaseCapacity().  The reservation is returned when the governance
+ * service completes.  Reserving first means two callers can not both see a free place in the queue and then
+ * both claim work that only one of them can run.
+ */
+public class GovernanceServiceExecutor
+{
+    private static final long keepAliveSeconds = 60L;
+
+    private final String             governanceEngineName;
+    private final String             serverName;
+    private final int                maxOutstandingServices;
+    private final ThreadPoolExecutor threadPool;
+    private final AtomicLong         requestSequence     = new AtomicLong();
+    private final AtomicInteger      outstandingServices = new AtomicInteger();
+
+
+    /**
+     * Create the thread pool for a governance engine.
+     *
+     * @param governanceEngineName name of the governance engine
+     * @param serverName name of the engine host server
+     * @param maxConcurrentServices maximum number of governance services that run at the same time
+     * @param maxQueuedServices maximum number of requests waiting for a free thread
+     * @param useVirtualThreads run the governance services on virtual threads if the Java runtime supports them
+     * @param auditLog logging destination
+     */
+    public GovernanceServiceExecutor(String   governanceEngineName,
+                                     String   serverName,
+                                     int      maxConcurrentServices,
+                                     int      maxQueuedServices,
+                                     boolean  useVirtualThreads,
+                                     AuditLog auditLog)
+    {
+        this.governanceEngineName = governanceEngineName;
+        this.serverName = serverName;
+
+        int poolSize = Math.max(maxConcurrentServices, 1);
+
+        this.maxOutstandingServices = poolSize + Math.max(maxQueuedServices, 0);
+
+        ThreadFactory threadFactory = null;
+
+        if (useVirtualThreads)
+        {
+            threadFactory = getVirtualThreadFactory();
+
+            if ((threadFactory == null) && (auditLog != null))
+            {
+                final String actionDescription = "Create governance service thread pool";
+
+                auditLog.logMessage(actionDescription,
+                                    EngineHostServicesAuditCode.VIRTUAL_THREADS_NOT_SUPPORTED.getMessageDefinition(governanceEngineName));
+            }
+        }
+
+        if (threadFactory == null)
+        {
+            threadFactory = new GovernanceServiceThreadFactory(governanceEngineName);
+        }
+
+        threadPool = new ThreadPoolExecutor(poolSize,
+                                            poolSize,
+                                            keepAliveSeconds,
+                                            TimeUnit.SECONDS,
+                                            new PriorityBlockingQueue<>(),
+                                            threadFactory);
+        threadPool.allowCoreThreadTimeOut(true);
+    }
+
+
+    /**
+     * Reserve a place for a new request if one is free.  Each successful reservation must be followed by a
+     * call to execute() or releaseCapacity().
+     *
+     * @return true if a place was reserved; false if the governance engine is already running and queuing as
+     * many requests as it is configured for
+     */
+    public boolean reserveCapacity()
+    {
+        int outstandingCount = outstandingServices.get();
+
+        while (outstandingCount < maxOutstandingServices)
+        {
+            if (outstandingServices.compareAndSet(outstandingCount, outstandingCount + 1))
+            {
+                return true;
+            }
+
+            outstandingCount = outstandingServices.get();
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Reserve a place for a new request, failing the request if none is free.  The successful reservation must be
+     * followed by a call to execute() or releaseCapacity().
+     *
+     * @param governanceServiceName name of the governance service that will run the request
+     * @throws PropertyServerException the queue of requests is full
+     */
+    public void reserveCapacity(String governanceServiceName) throws PropertyServerException
+    {
+        final String methodName = "reserveCapacity";
+
+        if (! reserveCapacity())
+        {
+            throw new PropertyServerException(EngineHostServicesErrorCode.GOVERNANCE_SERVICE_QUEUE_FULL.getMessageDefinition(governanceEngineName,
+                                                                                                                            serverName,
+                                                                                                                            governanceServiceName,
+                                                                                                                            Integer.toString(getQueuedServiceCount())),
+                                              this.getClass().getName(),
+                                              methodName);
+        }
+    }
+
+
+    /**
+     * Return a reservation that is not going to be used because the request could not be prepared.
+     */
+    public void releaseCapacity()
+    {
+        outstandingServices.decrementAndGet();
+    }
+
+
+    /**
+     * Queue a governance service to run on the thread pool using a place reserved by reserveCapacity().  The
+     * reservation passes to the request if this method returns normally, and is released when the governance
+     * service completes.  If an exception is thrown, the caller still holds the reservation.
+     *
+     * @param governanceServiceHandler handler for the governance service
+     * @param startTime requested start time for the governance service, or null to run as soon as possible
+     * @param domainIdentifier governance domain of the request
+     */
+    public void execute(GovernanceServiceHandler governanceServiceHandler,
+                        Date                     startTime,
+                        int                      domainIdentifier)
+    {
+        long startTimeMillis = System.currentTimeMillis();
+
+        if (startTime != null)
+        {
+            startTimeMillis = startTime.getTime();
+        }
+
+        threadPool.execute(new GovernanceServiceRequest(governanceServiceHandler,
+                                                        startTimeMillis,
+                                                        domainIdentifier,
+                                                        requestSequence.getAndIncrement(),
+                                                        outstandingServices));
+    }
+
+
+    /**
+     * Return the number of requests waiting for a free thread.
+     *
+     * @return count
+     */
+    public int getQueuedServiceCount()
+    {
+        return threadPool.getQueue().size();
+    }
+
+
+    /**
+     * Return the number of governance services that are running.
+     *
+     * @return count
+     */
+    public int getActiveServiceCount()
+    {
+        return threadPool.getActiveCount();
+    }
+
+
+    /**
+     * Return the number of governance services that have completed.
+     *
+     * @return count
+     */
+    public long getCompletedServiceCount()
+    {
+        return threadPool.getCompletedTaskCount();
+    }
+
+
+    /**
+     * Stop accepting new requests.  Running governance services are allowed to complete.
+     */
+    public void shutdown()
+    {
+        threadPool.shutdown();
+    }
+
+
+    /**
+     * Return a factory for virtual threads if the Java runtime supports them.  Reflection is used because the
+     * code is compiled for a Java level that does not have virtual threads.
+     *
+     * @return thread factory or null
+     */
+    private ThreadFactory getVirtualThreadFactory()
+    {
+        try
+        {
+            Class<?> builderClass  = Class.forName("java.lang.Thread$Builder");
+            Object   threadBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+
+            threadBuilder = builderClass.getMethod("name", String.class, long.class).invoke(threadBuilder, governanceEngineName + "-", 0L);
+
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(threadBuilder);
+        }
+        catch (Exception | LinkageError notSupported)
+        {
+            return null;
+        }
+    }
+
+
+    /**
+     * GovernanceServiceRequest wraps a governance service handler so it can be ordered in the queue.
+     */
+    private static class GovernanceServiceRequest implements Runnable, Comparable<GovernanceServiceRequest>
+    {
+        private final GovernanceServiceHandler governanceServiceHandler;
+        private final long                     startTime;
+        private final int                      domainIdentifier;
+        private final long                     sequenceNumber;
+        private final AtomicInteger            outstandingServices;
+
+
+        /**
+         * Constructor
+         *
+         * @param governanceServiceHandler handler for the governance service
+         * @param startTime requested start time
+         * @param domainIdentifier governance domain of the request
+         * @param sequenceNumber order that the request arrived
+         * @param outstandingServices count of reserved places that is decremented when the request completes
+         */
+        GovernanceServiceRequest(GovernanceServiceHandler governanceServiceHandler,
+                                 long                     startTime,
+                                 int                      domainIdentifier,
+                                 long                     sequenceNumber,
+                                 AtomicInteger            outstandingServices)
+        {
+            this.governanceServiceHandler = governanceServiceHandler;
+            this.startTime = startTime;
+            this.domainIdentifier = domainIdentifier;
+            this.sequenceNumber = sequenceNumber;
+            this.outstandingServices = outstandingServices;
+        }
+
+
+        /**
+         * Run the governance service and then release its place.
+         */
+        @Override
+        public void run()
+        {
+            try
+            {
+                governanceServiceHandler.run();
+            }
+            finally
+            {
+                outstandingServices.decrementAndGet();
+            }
+        }
+
+
+        /**
+         * Order by start time, then governance domain, then arrival.
+         *
+         * @param other request to compare with
+         * @return comparison result
+         */
+        @Override
+        public int compareTo(GovernanceServiceRequest other)
+        {
+            int result = Long.compare(startTime, other.startTime);
+
+            if (result == 0)
+            {
+                result = Integer.compare(domainIdentifier, other.domainIdentifier);
+            }
+
+            if (result == 0)
+            {
+                result = Long.compare(sequenceNumber, other.sequenceNumber);
+            }
+
+            return result;
+        }
+    }
+
+
+    /**
+     * GovernanceServiceThreadFactory names the platform threads after the governance engine.
+     */
+    private static class GovernanceServiceThreadFactory implements ThreadFactory
+    {
+        private final String     threadNamePrefix;
+        private final AtomicLong threadCount = new AtomicLong();
+
+
+        /**
+         * Constructor
+         *
+         * @param governanceEngineName name of the governance engine
+         */
+        GovernanceServiceThreadFactory(String governanceEngineName)
+        {
+            this.threadNamePrefix = governanceEngineName + "-";
+        }
+
+
+        /**
+         * Create a new thread.
+         *
+         * @param runnable work for the thread
+         * @return thread
+         */
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            return new Thread(runnable, threadNamePrefix + threadCount.getAndIncrement());
+        }
+    }
+}
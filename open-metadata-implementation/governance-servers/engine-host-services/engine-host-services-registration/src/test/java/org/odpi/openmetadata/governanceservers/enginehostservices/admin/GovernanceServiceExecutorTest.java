@@ -0,0 +1,301 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.enginehostservices.admin;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * GovernanceServiceExecutorTest verifies that the governance service executor limits the number of requests it
+ * accepts, reserves places atomically and runs the queued requests in priority order.
+ */
+public class GovernanceServiceExecutorTest
+{
+    private GovernanceServiceExecutor executor = null;
+
+
+    @AfterMethod
+    public void tearDown()
+    {
+        if (executor != null)
+        {
+            executor.shutdown();
+        }
+    }
+
+
+    /**
+     * Validate that the places are the running threads plus the queue, and that a released place can be reused.
+     *
+     * @throws Exception problem with the executor
+     */
+    @Test
+    public void testReservationsAreBounded() throws Exception
+    {
+        executor = new GovernanceServiceExecutor("testEngine", "testServer", 2, 3, false, null);
+
+        for (int i = 0; i < 5; i++)
+        {
+            assertTrue(executor.reserveCapacity());
+        }
+
+        assertFalse(executor.reserveCapacity());
+
+        try
+        {
+            executor.reserveCapacity("testService");
+            fail("Exception expected");
+        }
+        catch (PropertyServerException error)
+        {
+            assertTrue(error.getReportedErrorMessageId().startsWith("ENGINE-HOST-SERVICES-400-025"));
+        }
+
+        executor.releaseCapacity();
+
+        assertTrue(executor.reserveCapacity());
+        assertFalse(executor.reserveCapacity());
+    }
+
+
+    /**
+     * Validate that concurrent callers can not reserve more places than there are.
+     *
+     * @throws Exception problem with the executor
+     */
+    @Test
+    public void testConcurrentReservations() throws Exception
+    {
+        final int threadCount = 8;
+
+        executor = new GovernanceServiceExecutor("testEngine", "testServer", 10, 40, false, null);
+
+        AtomicInteger  reserved  = new AtomicInteger();
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Thread>   threads   = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++)
+        {
+            Thread thread = new Thread(() ->
+            {
+                try
+                {
+                    startGate.await();
+                }
+                catch (InterruptedException error)
+                {
+                    return;
+                }
+
+                for (int attempt = 0; attempt < 100; attempt++)
+                {
+                    if (executor.reserveCapacity())
+                    {
+                        reserved.incrementAndGet();
+                    }
+                }
+            });
+
+            thread.start();
+            threads.add(thread);
+        }
+
+        startGate.countDown();
+
+        for (Thread thread : threads)
+        {
+            thread.join(10000);
+        }
+
+        assertEquals(reserved.get(), 50);
+    }
+
+
+    /**
+     * Validate that queued requests run in order of start time, then governance domain, then arrival, and that
+     * the places are released as the requests complete.
+     *
+     * @throws Exception problem with the executor
+     */
+    @Test
+    public void testQueuedRequestsRunInPriorityOrder() throws Exception
+    {
+        executor = new GovernanceServiceExecutor("testEngine", "testServer", 1, 10, false, null);
+
+        List<String>   runOrder       = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch blockerRunning = new CountDownLatch(1);
+        CountDownLatch releaseBlocker = new CountDownLatch(1);
+        CountDownLatch allComplete    = new CountDownLatch(6);
+
+        /*
+         * The first request occupies the only thread so the rest wait in the queue.
+         */
+        assertTrue(executor.reserveCapacity());
+        executor.execute(new TestGovernanceServiceHandler("blocker", runOrder, () ->
+        {
+            blockerRunning.countDown();
+            releaseBlocker.await(10, TimeUnit.SECONDS);
+        }, allComplete), null, 0);
+
+        assertTrue(blockerRunning.await(10, TimeUnit.SECONDS));
+
+        queueRequest("late", new Date(3000L), 0, runOrder, allComplete);
+        queueRequest("earlyDomain2", new Date(1000L), 2, runOrder, allComplete);
+        queueRequest("earlyDomain1First", new Date(1000L), 1, runOrder, allComplete);
+        queueRequest("earlyDomain1Second", new Date(1000L), 1, runOrder, allComplete);
+        queueRequest("middle", new Date(2000L), 0, runOrder, allComplete);
+
+        assertEquals(executor.getQueuedServiceCount(), 5);
+
+        releaseBlocker.countDown();
+
+        assertTrue(allComplete.await(10, TimeUnit.SECONDS));
+        assertEquals(runOrder, Arrays.asList("blocker",
+                                             "earlyDomain1First",
+                                             "earlyDomain1Second",
+                                             "earlyDomain2",
+                                             "middle",
+                                             "late"));
+
+        /*
+         * Each place is released when its request completes.  The completion signal is sent just before the
+         * place is released, so wait for the last one.
+         */
+        int  reservations = 0;
+        long deadline     = System.currentTimeMillis() + 10000;
+
+        while ((reservations < 11) && (System.currentTimeMillis() < deadline))
+        {
+            if (executor.reserveCapacity())
+            {
+                reservations++;
+            }
+            else
+            {
+                Thread.yield();
+            }
+        }
+
+        assertEquals(reservations, 11);
+        assertFalse(executor.reserveCapacity());
+    }
+
+
+    /**
+     * Validate that a request that fails still releases its place.
+     *
+     * @throws Exception problem with the executor
+     */
+    @Test
+    public void testFailedRequestReleasesItsPlace() throws Exception
+    {
+        executor = new GovernanceServiceExecutor("testEngine", "testServer", 1, 0, false, null);
+
+        CountDownLatch complete = new CountDownLatch(1);
+
+        assertTrue(executor.reserveCapacity());
+        assertFalse(executor.reserveCapacity());
+
+        executor.execute(new TestGovernanceServiceHandler("failing", new ArrayList<>(), () ->
+        {
+            throw new IllegalStateException("Test failure");
+        }, complete), null, 0);
+
+        assertTrue(complete.await(10, TimeUnit.SECONDS));
+
+        long deadline = System.currentTimeMillis() + 10000;
+
+        while ((! executor.reserveCapacity()) && (System.currentTimeMillis() < deadline))
+        {
+            Thread.yield();
+        }
+
+        assertFalse(executor.reserveCapacity());
+    }
+
+
+    private void queueRequest(String         name,
+                              Date           startTime,
+                              int            domainIdentifier,
+                              List<String>   runOrder,
+                              CountDownLatch allComplete)
+    {
+        assertTrue(executor.reserveCapacity());
+        executor.execute(new TestGovernanceServiceHandler(name, runOrder, null, allComplete), startTime, domainIdentifier);
+    }
+
+
+    /**
+     * ServiceBehaviour is the work done by a test governance service.
+     */
+    private interface ServiceBehaviour
+    {
+        void run() throws Exception;
+    }
+
+
+    /**
+     * TestGovernanceServiceHandler records when it runs.
+     */
+    private static class TestGovernanceServiceHandler extends GovernanceServiceHandler
+    {
+        private final List<String>     runOrder;
+        private final ServiceBehaviour behaviour;
+        private final CountDownLatch   complete;
+
+
+        TestGovernanceServiceHandler(String           governanceServiceName,
+                                     List<String>     runOrder,
+                                     ServiceBehaviour behaviour,
+                                     CountDownLatch   complete)
+        {
+            super(null, null, null, null, null, null, null, governanceServiceName, null, null);
+
+            this.runOrder = runOrder;
+            this.behaviour = behaviour;
+            this.complete = complete;
+        }
+
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                runOrder.add(governanceServiceName);
+
+                if (behaviour != null)
+                {
+                    behaviour.run();
+                }
+            }
+            catch (RuntimeException error)
+            {
+                throw error;
+            }
+            catch (Exception error)
+            {
+                throw new IllegalStateException(error);
+            }
+            finally
+            {
+                complete.countDown();
+            }
+        }
+    }
+}
@@ -120,6 +120,11 @@ public enum IntegrationDaemonServicesErrorCode implements ExceptionMessageSet
                                  "The integration daemon shuts down, this error is reported to the caller and a similar message is written to the audit log.",
                                   "Update the configuration for the integration service to include a value for the default permitted synchronization."),
 
+    INVALID_MAX_REFRESH_THREADS(400, "INTEGRATION-DAEMON-SERVICES-400-013",
+                                "The {0} option of {1} for integration service {2} in integration daemon {3} is not a positive whole number",
+                                "The integration daemon is not able to size the pool of threads that refresh its integration connectors.  It fails to start.",
+                                "Update the integration service options so the value is a positive whole number, or remove the option to use the default.  Then restart the integration daemon."),
+
     /*
      * Old
      */
@@ -34,6 +34,8 @@ public class IntegrationConnectorReport implements Serializable
     private Date                       lastStatusChange         = null;
     private Date                       lastRefreshTime          = null;
     private long                       minMinutesBetweenRefresh = 0L;
+    private long                       lastRefreshDuration      = 0L;
+    private long                       lastRefreshLag           = 0L;
     private String                     failingExceptionMessage  = null;
     private Map<String, Object>        statistics               = null;
 
@@ -63,6 +65,8 @@ public class IntegrationConnectorReport implements Serializable
             lastStatusChange         = template.getLastStatusChange();
             lastRefreshTime          = template.getLastRefreshTime();
             minMinutesBetweenRefresh = template.getMinMinutesBetweenRefresh();
+            lastRefreshDuration      = template.getLastRefreshDuration();
+            lastRefreshLag           = template.getLastRefreshLag();
             failingExceptionMessage  = template.getFailingExceptionMessage();
             statistics               = template.getStatistics();
         }
@@ -250,6 +254,52 @@ public class IntegrationConnectorReport implements Serializable
     }
 
 
+    /**
+     * Return the number of milliseconds that the last call to the connector's refresh method took.
+     *
+     * @return milliseconds
+     */
+    public long getLastRefreshDuration()
+    {
+        return lastRefreshDuration;
+    }
+
+
+    /**
+     * Set up the number of milliseconds that the last call to the connector's refresh method took.
+     *
+     * @param lastRefreshDuration milliseconds
+     */
+    public void setLastRefreshDuration(long lastRefreshDuration)
+    {
+        this.lastRefreshDuration = lastRefreshDuration;
+    }
+
+
+    /**
+     * Return the number of milliseconds between the time that the last periodic refresh was due and the time
+     * that it started.
+     *
+     * @return milliseconds
+     */
+    public long getLastRefreshLag()
+    {
+        return lastRefreshLag;
+    }
+
+
+    /**
+     * Set up the number of milliseconds between the time that the last periodic refresh was due and the time
+     * that it started.
+     *
+     * @param lastRefreshLag milliseconds
+     */
+    public void setLastRefreshLag(long lastRefreshLag)
+    {
+        this.lastRefreshLag = lastRefreshLag;
+    }
+
+
     /**
      * Return the message extracted from an exception returned by the connector.  This is only set if the connectorStatus
      * is FAILED.  The full exception is logged in the server's audit log.
@@ -313,6 +363,8 @@ public class IntegrationConnectorReport implements Serializable
                        ", lastStatusChange=" + lastStatusChange +
                        ", lastRefreshTime=" + lastRefreshTime +
                        ", minMinutesBetweenRefresh=" + minMinutesBetweenRefresh +
+                       ", lastRefreshDuration=" + lastRefreshDuration +
+                       ", lastRefreshLag=" + lastRefreshLag +
                        ", failingExceptionMessage='" + failingExceptionMessage + '\'' +
                        ", statistics=" + statistics +
                        '}';
@@ -338,6 +390,8 @@ public class IntegrationConnectorReport implements Serializable
         }
         IntegrationConnectorReport that = (IntegrationConnectorReport) objectToCompare;
         return minMinutesBetweenRefresh == that.minMinutesBetweenRefresh &&
+                       lastRefreshDuration == that.lastRefreshDuration &&
+                       lastRefreshLag == that.lastRefreshLag &&
                        Objects.equals(connectorId, that.connectorId) &&
                        Objects.equals(connectorName, that.connectorName) &&
                        Objects.equals(connection, that.connection) &&
@@ -359,6 +413,7 @@ public class IntegrationConnectorReport implements Serializable
     public int hashCode()
     {
         return Objects.hash(connectorId, connectorName, connection, connectorInstanceId, connectorStatus, lastStatusChange,
-                            lastRefreshTime, minMinutesBetweenRefresh, failingExceptionMessage, statistics);
+                            lastRefreshTime, minMinutesBetweenRefresh, lastRefreshDuration, lastRefreshLag, failingExceptionMessage,
+                            statistics);
     }
 }
@@ -17,6 +17,7 @@ import org.odpi.openmetadata.governanceservers.integrationdaemonservices.context
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.ffdc.IntegrationDaemonServicesAuditCode;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.properties.IntegrationConnectorStatus;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads.IntegrationConnectorDedicatedThread;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads.IntegrationDaemonThread;
 
 import java.io.Serializable;
 import java.util.Date;
@@ -57,7 +58,10 @@ public class IntegrationConnectorHandler implements Serializable
     private IntegrationConnectorStatus          integrationConnectorStatus          = null;
     private Date                                lastStatusChange                    = null;
     private String                              failingExceptionMessage             = null;
-    private Date                                lastRefreshTime                     = null;
+    private volatile Date                       lastRefreshTime                     = null;
+    private volatile long                       lastRefreshDuration                 = 0L;
+    private volatile long                       lastRefreshLag                      = 0L;
+    private IntegrationDaemonThread             integrationDaemonThread             = null;
 
 
     /**
@@ -218,6 +222,41 @@ public class IntegrationConnectorHandler implements Serializable
     }
 
 
+    /**
+     * Return the number of milliseconds that the last call to the connector's refresh method took.
+     *
+     * @return milliseconds
+     */
+    long getLastRefreshDuration()
+    {
+        return lastRefreshDuration;
+    }
+
+
+    /**
+     * Return the number of milliseconds between the time that the last periodic refresh was due and the time
+     * that it started.  This grows when the integration daemon has more refresh work than worker threads.
+     *
+     * @return milliseconds
+     */
+    long getLastRefreshLag()
+    {
+        return lastRefreshLag;
+    }
+
+
+    /**
+     * Set up the integration daemon thread that schedules the periodic refresh of this connector.  It is called
+     * to refresh the connector when the connector is restarted.
+     *
+     * @param integrationDaemonThread scheduling thread
+     */
+    public void setIntegrationDaemonThread(IntegrationDaemonThread integrationDaemonThread)
+    {
+        this.integrationDaemonThread = integrationDaemonThread;
+    }
+
+
     /**
      * Return the connector described in the connection object.
      *
@@ -451,9 +490,31 @@ public class IntegrationConnectorHandler implements Serializable
      */
     public synchronized void refreshConnector(String   actionDescription,
                                               boolean  firstCall)
+    {
+        this.refreshConnector(actionDescription, firstCall, null);
+    }
+
+
+    /**
+     * Call refresh on the connector provided it is in the correct state.  This version is called by the integration
+     * daemon thread when a periodic refresh is due.  The lag between the scheduled time and the time that the
+     * refresh starts is recorded for the connector's report.
+     *
+     * @param actionDescription external caller's activity
+     * @param firstCall is this the first call to refresh?
+     * @param scheduledRefreshTime time that the refresh was due, or null if it was requested through the API
+     */
+    public synchronized void refreshConnector(String   actionDescription,
+                                              boolean  firstCall,
+                                              Date     scheduledRefreshTime)
     {
         final String operationName = "refresh";
 
+        if (scheduledRefreshTime != null)
+        {
+            this.lastRefreshLag = Math.max(0L, System.currentTimeMillis() - scheduledRefreshTime.getTime());
+        }
+
         try
         {
             if (integrationConnectorStatus == IntegrationConnectorStatus.INITIALIZE_FAILED)
@@ -486,10 +547,12 @@ public class IntegrationConnectorHandler implements Serializable
 
                 integrationConnector.refresh();
 
+                Date refreshEnd = new Date();
+
+                this.lastRefreshDuration = refreshEnd.getTime() - refreshStart.getTime();
+
                 if (auditLog != null)
                 {
-                    Date refreshEnd = new Date();
-
                     auditLog.logMessage(actionDescription,
                                         IntegrationDaemonServicesAuditCode.DAEMON_CONNECTOR_REFRESH_COMPLETE.getMessageDefinition(integrationConnectorName,
                                                                                                                                   integrationDaemonName,
@@ -588,6 +651,11 @@ public class IntegrationConnectorHandler implements Serializable
         this.integrationConnectorDedicatedThread = null;
         this.failingExceptionMessage             = null;
         this.lastRefreshTime                     = null;
+
+        if (integrationDaemonThread != null)
+        {
+            integrationDaemonThread.requestRefresh(this);
+        }
     }
 
 
@@ -29,6 +29,8 @@ import java.util.Map;
  */
 public class IntegrationDaemonOperationalServices
 {
+    private static final String maxRefreshThreadsOption = "maxRefreshThreads";
+
     private String                         localServerName;               /* Initialized in constructor */
     private String                         localServerUserId;             /* Initialized in constructor */
     private String                         localServerPassword;           /* Initialized in constructor */
@@ -167,6 +169,7 @@ public class IntegrationDaemonOperationalServices
              */
             IntegrationDaemonThread integrationDaemonThread = new IntegrationDaemonThread(localServerName,
                                                                                           daemonConnectorHandlers,
+                                                                                          this.getMaxRefreshThreads(configuration),
                                                                                           auditLog);
 
             integrationDaemonThread.start();
@@ -372,6 +375,67 @@ public class IntegrationDaemonOperationalServices
     }
 
 
+    /**
+     * Return the maximum number of threads that the integration daemon uses to refresh its integration connectors.
+     * This is set with the maxRefreshThreads option of the integration services.  The daemon serves all of its
+     * integration services with the same pool, so if more than one integration service sets the option, the largest
+     * value is used.
+     *
+     * @param configuration configuration for the integration services
+     * @return maximum number of refresh threads
+     * @throws OMAGConfigurationErrorException the option is not a positive whole number
+     */
+    private int getMaxRefreshThreads(List<IntegrationServiceConfig> configuration) throws OMAGConfigurationErrorException
+    {
+        final String methodName = "getMaxRefreshThreads";
+
+        int maxRefreshThreads = 0;
+
+        for (IntegrationServiceConfig integrationServiceConfig : configuration)
+        {
+            if ((integrationServiceConfig != null) && (integrationServiceConfig.getIntegrationServiceOptions() != null))
+            {
+                Object optionValue = integrationServiceConfig.getIntegrationServiceOptions().get(maxRefreshThreadsOption);
+
+                if (optionValue != null)
+                {
+                    int serviceMaxRefreshThreads = 0;
+
+                    try
+                    {
+                        serviceMaxRefreshThreads = Integer.parseInt(optionValue.toString());
+                    }
+                    catch (NumberFormatException error)
+                    {
+                        /*
+                         * Reported below.
+                         */
+                    }
+
+                    if (serviceMaxRefreshThreads <= 0)
+                    {
+                        throw new OMAGConfigurationErrorException(IntegrationDaemonServicesErrorCode.INVALID_MAX_REFRESH_THREADS.getMessageDefinition(maxRefreshThreadsOption,
+                                                                                                                                                      optionValue.toString(),
+                                                                                                                                                      integrationServiceConfig.getIntegrationServiceFullName(),
+                                                                                                                                                      localServerName),
+                                                                  this.getClass().getName(),
+                                                                  methodName);
+                    }
+
+                    maxRefreshThreads = Math.max(maxRefreshThreads, serviceMaxRefreshThreads);
+                }
+            }
+        }
+
+        if (maxRefreshThreads == 0)
+        {
+            return IntegrationDaemonThread.DEFAULT_MAX_REFRESH_THREADS;
+        }
+
+        return maxRefreshThreads;
+    }
+
+
     /**
      * Validate that details about the integration service are specified.
      *
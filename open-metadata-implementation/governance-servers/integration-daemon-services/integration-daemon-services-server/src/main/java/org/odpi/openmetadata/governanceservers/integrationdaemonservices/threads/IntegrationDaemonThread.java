@@ -10,22 +10,55 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * IntegrationDaemonThread is the class responsible for managing executing integration connectors
  * within an integration daemon.  It manages the automated refresh of the connectors.
  * The connectors are also being refreshed through the REST API.
+ * <p>
+ * Each connector has a single entry in a queue ordered by the time its next refresh is due.  The thread waits
+ * until the earliest refresh is due and then passes it to a bounded pool of worker threads so a slow connector
+ * does not delay the refresh of the others.  A connector is only added back to the queue once its refresh is
+ * complete, so the refreshes of the same connector never overlap.
  */
 public class IntegrationDaemonThread implements Runnable
 {
     private static final Logger log = LoggerFactory.getLogger(IntegrationDaemonThread.class);
 
+    /**
+     * Number of refresh threads used when the integration services do not set the maxRefreshThreads option.
+     */
+    public static final int DEFAULT_MAX_REFRESH_THREADS = 10;
+
+    private static final long retryInterval = 1000L;
+
     private String                            integrationDaemonName;
     private List<IntegrationConnectorHandler> connectorHandlers;
+    private int                               maxRefreshThreads;
     private AuditLog                          auditLog;
 
+    private final ReentrantLock                                     scheduleLock       = new ReentrantLock();
+    private final Condition                                         scheduleChanged    = scheduleLock.newCondition();
+    private final PriorityQueue<ScheduledRefresh>                   refreshQueue       = new PriorityQueue<>();
+    private final Map<IntegrationConnectorHandler, ScheduledRefresh> scheduledRefreshes = new HashMap<>();
+    private final Set<IntegrationConnectorHandler>                  activeRefreshes    = new HashSet<>();
+
+    private ExecutorService refreshPool = null;
+
 
     private final AtomicBoolean running = new AtomicBoolean(false);
 
@@ -35,14 +68,17 @@ public class IntegrationDaemonThread implements Runnable
      *
      * @param integrationDaemonName name of this integration daemon server
      * @param connectorHandlers wrapper for the connector.
+     * @param maxRefreshThreads maximum number of connectors that are refreshed at the same time
      * @param auditLog logging destination
      */
     public IntegrationDaemonThread(String                            integrationDaemonName,
                                    List<IntegrationConnectorHandler> connectorHandlers,
+                                   int                               maxRefreshThreads,
                                    AuditLog                          auditLog)
     {
         this.integrationDaemonName = integrationDaemonName;
         this.connectorHandlers     = connectorHandlers;
+        this.maxRefreshThreads     = maxRefreshThreads;
         this.auditLog              = auditLog;
     }
 
@@ -54,6 +90,21 @@ public class IntegrationDaemonThread implements Runnable
     {
         final String threadName = "::IntegrationDaemonThread";
 
+        int poolSize = Math.max(1, Math.min(maxRefreshThreads, connectorHandlers.size()));
+
+        refreshPool = Executors.newFixedThreadPool(poolSize, new RefreshThreadFactory(integrationDaemonName));
+
+        running.set(true);
+
+        for (IntegrationConnectorHandler connectorHandler : connectorHandlers)
+        {
+            if (connectorHandler != null)
+            {
+                connectorHandler.setIntegrationDaemonThread(this);
+                this.scheduleRefresh(connectorHandler, System.currentTimeMillis(), true);
+            }
+        }
+
         Thread worker = new Thread(this, integrationDaemonName + threadName);
         worker.start();
     }
@@ -65,6 +116,44 @@ public class IntegrationDaemonThread implements Runnable
     public void stop()
     {
         running.set(false);
+
+        scheduleLock.lock();
+        try
+        {
+            scheduleChanged.signalAll();
+        }
+        finally
+        {
+            scheduleLock.unlock();
+        }
+
+        if (refreshPool != null)
+        {
+            refreshPool.shutdown();
+        }
+    }
+
+
+    /**
+     * Request that a connector is refreshed as soon as possible.  This is called when the connector is restarted.
+     * If the connector is being refreshed, its next refresh is calculated when the current refresh completes.
+     *
+     * @param connectorHandler handler for the connector
+     */
+    public void requestRefresh(IntegrationConnectorHandler connectorHandler)
+    {
+        scheduleLock.lock();
+        try
+        {
+            if ((connectorHandler != null) && (! activeRefreshes.contains(connectorHandler)))
+            {
+                this.scheduleRefresh(connectorHandler, System.currentTimeMillis(), true);
+            }
+        }
+        finally
+        {
+            scheduleLock.unlock();
+        }
     }
 
 
@@ -76,38 +165,24 @@ public class IntegrationDaemonThread implements Runnable
     {
         final String actionDescription = "Periodic refresh of connector";
 
-        running.set(true);
-
         auditLog.logMessage(actionDescription,
                             IntegrationDaemonServicesAuditCode.DAEMON_THREAD_STARTING.getMessageDefinition(integrationDaemonName));
 
         while (running.get())
         {
-            Date now = new Date();
+            ScheduledRefresh dueRefresh = this.waitForNextRefresh();
 
-            for (IntegrationConnectorHandler connectorHandler : connectorHandlers)
+            if (dueRefresh != null)
             {
-                if (connectorHandler != null)
+                try
                 {
-                    try
-                    {
-                        if (connectorHandler.getLastRefreshTime() == null)
-                        {
-                            connectorHandler.refreshConnector(actionDescription, true);
-                        }
-                        else if (connectorHandler.getMinMinutesBetweenRefresh() > 0)
-                        {
-                            long nextRefreshTime =
-                                    connectorHandler.getLastRefreshTime().getTime() +
-                                            (connectorHandler.getMinMinutesBetweenRefresh() * 60000);
+                    refreshPool.execute(() -> this.runRefresh(actionDescription, dueRefresh));
+                }
+                catch (Exception error)
+                {
+                    this.completeRefresh(dueRefresh.connectorHandler);
 
-                            if (nextRefreshTime < now.getTime())
-                            {
-                                connectorHandler.refreshConnector(actionDescription, false);
-                            }
-                        }
-                    }
-                    catch (Exception error)
+                    if (running.get())
                     {
                         auditLog.logMessage(actionDescription,
                                             IntegrationDaemonServicesAuditCode.DAEMON_THREAD_CONNECTOR_ERROR.getMessageDefinition(integrationDaemonName,
@@ -116,8 +191,6 @@ public class IntegrationDaemonThread implements Runnable
                     }
                 }
             }
-
-            waitToRetry();
         }
 
         auditLog.logMessage(actionDescription,
@@ -127,19 +200,252 @@ public class IntegrationDaemonThread implements Runnable
 
 
     /**
-     * Wait before retrying ...
+     * Wait until the earliest refresh is due and remove it from the queue.  The connector is marked as active
+     * so it is not queued again until its refresh completes.
+     *
+     * @return due refresh or null if the thread is stopping
+     */
+    private ScheduledRefresh waitForNextRefresh()
+    {
+        scheduleLock.lock();
+        try
+        {
+            while (running.get())
+            {
+                ScheduledRefresh nextRefresh = refreshQueue.peek();
+
+                if (nextRefresh == null)
+                {
+                    scheduleChanged.await();
+                }
+                else
+                {
+                    long waitTime = nextRefresh.refreshTime - System.currentTimeMillis();
+
+                    if (waitTime <= 0)
+                    {
+                        IntegrationConnectorHandler connectorHandler = nextRefresh.connectorHandler;
+
+                        refreshQueue.poll();
+                        scheduledRefreshes.remove(connectorHandler);
+
+                        /*
+                         * The connector may have been refreshed through the REST API since a periodic refresh was
+                         * queued.  A refresh requested at start up or restart always runs.
+                         */
+                        Date lastRefreshTime = connectorHandler.getLastRefreshTime();
+
+                        if ((nextRefresh.requested) || (lastRefreshTime == null))
+                        {
+                            activeRefreshes.add(connectorHandler);
+
+                            return nextRefresh;
+                        }
+                        else if (connectorHandler.getMinMinutesBetweenRefresh() > 0)
+                        {
+                            long refreshTime = lastRefreshTime.getTime() + (connectorHandler.getMinMinutesBetweenRefresh() * 60000);
+
+                            if (refreshTime <= nextRefresh.refreshTime)
+                            {
+                                activeRefreshes.add(connectorHandler);
+
+                                return nextRefresh;
+                            }
+
+                            this.scheduleRefresh(connectorHandler, refreshTime, false);
+                        }
+
+                        continue;
+                    }
+
+                    scheduleChanged.await(waitTime, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        catch (InterruptedException error)
+        {
+            log.debug("Integration daemon thread woken up", error);
+        }
+        finally
+        {
+            scheduleLock.unlock();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Refresh a connector on one of the worker threads and then schedule its next refresh.
+     *
+     * @param actionDescription calling activity
+     * @param scheduledRefresh refresh to run
      */
-    private void waitToRetry()
+    private void runRefresh(String           actionDescription,
+                            ScheduledRefresh scheduledRefresh)
     {
-        final int  sleepTime = 1000;
+        IntegrationConnectorHandler connectorHandler = scheduledRefresh.connectorHandler;
 
         try
         {
-            Thread.sleep(sleepTime);
+            connectorHandler.refreshConnector(actionDescription,
+                                              connectorHandler.getLastRefreshTime() == null,
+                                              new Date(scheduledRefresh.refreshTime));
         }
         catch (Exception error)
         {
-            log.error("Ignored exception from sleep - probably ok", error);
+            auditLog.logMessage(actionDescription,
+                                IntegrationDaemonServicesAuditCode.DAEMON_THREAD_CONNECTOR_ERROR.getMessageDefinition(integrationDaemonName,
+                                                                                                                      error.getClass().getName(),
+                                                                                                                      error.getMessage()));
+        }
+        finally
+        {
+            this.completeRefresh(connectorHandler);
+        }
+    }
+
+
+    /**
+     * Mark a connector's refresh as complete and add its next refresh to the queue.  A connector that has
+     * never been refreshed successfully is retried shortly.  A connector with no refresh interval is not
+     * queued again until it is restarted.
+     *
+     * @param connectorHandler handler for the connector
+     */
+    private void completeRefresh(IntegrationConnectorHandler connectorHandler)
+    {
+        scheduleLock.lock();
+        try
+        {
+            activeRefreshes.remove(connectorHandler);
+
+            Date lastRefreshTime = connectorHandler.getLastRefreshTime();
+
+            if (lastRefreshTime == null)
+            {
+                this.scheduleRefresh(connectorHandler, System.currentTimeMillis() + retryInterval, false);
+            }
+            else if (connectorHandler.getMinMinutesBetweenRefresh() > 0)
+            {
+                this.scheduleRefresh(connectorHandler,
+                                     lastRefreshTime.getTime() + (connectorHandler.getMinMinutesBetweenRefresh() * 60000),
+                                     false);
+            }
+        }
+        finally
+        {
+            scheduleLock.unlock();
+        }
+    }
+
+
+    /**
+     * Add or replace the queued refresh for a connector.
+     *
+     * @param connectorHandler handler for the connector
+     * @param refreshTime time that the refresh is due
+     * @param requested was the refresh requested at start up or restart rather than due to the refresh interval?
+     */
+    private void scheduleRefresh(IntegrationConnectorHandler connectorHandler,
+                                 long                        refreshTime,
+                                 boolean                     requested)
+    {
+        scheduleLock.lock();
+        try
+        {
+            ScheduledRefresh existingRefresh = scheduledRefreshes.remove(connectorHandler);
+
+            if (existingRefresh != null)
+            {
+                refreshQueue.remove(existingRefresh);
+            }
+
+            ScheduledRefresh scheduledRefresh = new ScheduledRefresh(connectorHandler, refreshTime, requested);
+
+            scheduledRefreshes.put(connectorHandler, scheduledRefresh);
+            refreshQueue.add(scheduledRefresh);
+
+            scheduleChanged.signalAll();
+        }
+        finally
+        {
+            scheduleLock.unlock();
+        }
+    }
+
+
+    /**
+     * ScheduledRefresh is an entry in the refresh queue.
+     */
+    private static class ScheduledRefresh implements Comparable<ScheduledRefresh>
+    {
+        private final IntegrationConnectorHandler connectorHandler;
+        private final long                        refreshTime;
+        private final boolean                     requested;
+
+
+        /**
+         * Constructor
+         *
+         * @param connectorHandler handler for the connector
+         * @param refreshTime time that the refresh is due
+         * @param requested was the refresh requested rather than due to the refresh interval?
+         */
+        ScheduledRefresh(IntegrationConnectorHandler connectorHandler,
+                         long                        refreshTime,
+                         boolean                     requested)
+        {
+            this.connectorHandler = connectorHandler;
+            this.refreshTime = refreshTime;
+            this.requested = requested;
+        }
+
+
+        /**
+         * Order by the time that the refresh is due.
+         *
+         * @param other entry to compare with
+         * @return comparison result
+         */
+        @Override
+        public int compareTo(ScheduledRefresh other)
+        {
+            return Long.compare(refreshTime, other.refreshTime);
+        }
+    }
+
+
+    /**
+     * RefreshThreadFactory names the worker threads after the integration daemon.
+     */
+    private static class RefreshThreadFactory implements ThreadFactory
+    {
+        private final String        threadNamePrefix;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+
+        /**
+         * Constructor
+         *
+         * @param integrationDaemonName name of this integration daemon server
+         */
+        RefreshThreadFactory(String integrationDaemonName)
+        {
+            this.threadNamePrefix = integrationDaemonName + "::IntegrationDaemonRefreshThread::";
+        }
+
+
+        /**
+         * Create a new thread.
+         *
+         * @param runnable work for the thread
+         * @return thread
+         */
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            return new Thread(runnable, threadNamePrefix + threadCount.getAndIncrement());
         }
     }
 }
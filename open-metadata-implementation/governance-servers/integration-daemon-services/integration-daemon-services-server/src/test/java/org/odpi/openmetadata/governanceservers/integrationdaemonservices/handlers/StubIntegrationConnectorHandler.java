@@ -0,0 +1,125 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.IntegrationConnectorConfig;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * StubIntegrationConnectorHandler is an integration connector handler with no connector.  Each refresh runs the
+ * supplied behaviour and then records the refresh.  It is used to test the scheduling of the refreshes.
+ */
+public class StubIntegrationConnectorHandler extends IntegrationConnectorHandler
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * RefreshBehaviour is the work done by the refresh.
+     */
+    public interface RefreshBehaviour
+    {
+        void refresh() throws Exception;
+    }
+
+
+    private final transient RefreshBehaviour refreshBehaviour;
+    private final AtomicInteger              refreshCount    = new AtomicInteger();
+    private volatile Date                    lastRefreshTime = null;
+
+
+    /**
+     * Constructor
+     *
+     * @param connectorName name of the connector
+     * @param refreshTimeInterval minutes between periodic refreshes (0 means refresh on request only)
+     * @param refreshBehaviour work done by each refresh
+     */
+    public StubIntegrationConnectorHandler(String           connectorName,
+                                           long             refreshTimeInterval,
+                                           RefreshBehaviour refreshBehaviour)
+    {
+        super(getConfig(connectorName, refreshTimeInterval), "testService", null, "testDaemon", null, null);
+
+        this.refreshBehaviour = refreshBehaviour;
+    }
+
+
+    private static IntegrationConnectorConfig getConfig(String connectorName,
+                                                        long   refreshTimeInterval)
+    {
+        IntegrationConnectorConfig config = new IntegrationConnectorConfig();
+
+        config.setConnectorId(connectorName);
+        config.setConnectorName(connectorName);
+        config.setRefreshTimeInterval(refreshTimeInterval);
+
+        return config;
+    }
+
+
+    /**
+     * Return the number of refreshes that have completed.
+     *
+     * @return count
+     */
+    public int getRefreshCount()
+    {
+        return refreshCount.get();
+    }
+
+
+    /**
+     * There is no connector to create.
+     *
+     * @param actionDescription description of caller's operation
+     */
+    @Override
+    synchronized void reinitializeConnector(String actionDescription)
+    {
+    }
+
+
+    /**
+     * Return the time of the last refresh recorded by this handler.
+     *
+     * @return timestamp or null
+     */
+    @Override
+    public Date getLastRefreshTime()
+    {
+        return lastRefreshTime;
+    }
+
+
+    /**
+     * Run the refresh behaviour and record the refresh.
+     *
+     * @param actionDescription external caller's activity
+     * @param firstCall is this the first call to refresh?
+     * @param scheduledRefreshTime time that the refresh was due
+     */
+    @Override
+    public void refreshConnector(String  actionDescription,
+                                 boolean firstCall,
+                                 Date    scheduledRefreshTime)
+    {
+        try
+        {
+            if (refreshBehaviour != null)
+            {
+                refreshBehaviour.refresh();
+            }
+        }
+        catch (Exception error)
+        {
+            throw new IllegalStateException(error);
+        }
+        finally
+        {
+            lastRefreshTime = new Date();
+            refreshCount.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.auditlog.messagesets.AuditLogMessageDefinition;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers.IntegrationConnectorHandler;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers.StubIntegrationConnectorHandler;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * IntegrationDaemonThreadTest verifies that the integration daemon thread refreshes its connectors on a bounded
+ * pool of threads and that the refreshes of one connector do not overlap.
+ */
+public class IntegrationDaemonThreadTest
+{
+    private IntegrationDaemonThread daemonThread = null;
+
+
+    @AfterMethod
+    public void tearDown()
+    {
+        if (daemonThread != null)
+        {
+            daemonThread.stop();
+        }
+    }
+
+
+    /**
+     * Validate that no more than maxRefreshThreads connectors are refreshed at the same time, and that every
+     * connector is refreshed.
+     *
+     * @throws Exception problem with the scheduler
+     */
+    @Test
+    public void testRefreshesAreBoundedByThreadCount() throws Exception
+    {
+        final int connectorCount    = 5;
+        final int maxRefreshThreads = 2;
+
+        AtomicInteger  activeRefreshes  = new AtomicInteger();
+        AtomicInteger  maxActive        = new AtomicInteger();
+        CountDownLatch poolFull         = new CountDownLatch(maxRefreshThreads);
+        CountDownLatch releaseRefreshes = new CountDownLatch(1);
+        CountDownLatch allRefreshed     = new CountDownLatch(connectorCount);
+
+        List<IntegrationConnectorHandler> connectorHandlers = new ArrayList<>();
+
+        for (int i = 0; i < connectorCount; i++)
+        {
+            connectorHandlers.add(new StubIntegrationConnectorHandler("connector" + i, 0, () ->
+            {
+                int active = activeRefreshes.incrementAndGet();
+
+                maxActive.accumulateAndGet(active, Math::max);
+                poolFull.countDown();
+
+                releaseRefreshes.await(10, TimeUnit.SECONDS);
+
+                activeRefreshes.decrementAndGet();
+                allRefreshed.countDown();
+            }));
+        }
+
+        daemonThread = new IntegrationDaemonThread("testDaemon", connectorHandlers, maxRefreshThreads, new TestAuditLog());
+        daemonThread.start();
+
+        /*
+         * The first refreshes fill the pool and are held there, so the others have to wait for a free thread.
+         */
+        assertTrue(poolFull.await(10, TimeUnit.SECONDS));
+        assertEquals(activeRefreshes.get(), maxRefreshThreads);
+
+        releaseRefreshes.countDown();
+
+        assertTrue(allRefreshed.await(10, TimeUnit.SECONDS));
+        assertEquals(maxActive.get(), maxRefreshThreads);
+    }
+
+
+    /**
+     * Validate that a refresh requested while the connector is refreshing does not run alongside it, and that a
+     * refresh requested afterwards runs.
+     *
+     * @throws Exception problem with the scheduler
+     */
+    @Test
+    public void testRequestedRefreshDoesNotOverlap() throws Exception
+    {
+        AtomicInteger  activeRefreshes = new AtomicInteger();
+        AtomicInteger  maxActive       = new AtomicInteger();
+        CountDownLatch firstStarted    = new CountDownLatch(1);
+        CountDownLatch releaseFirst    = new CountDownLatch(1);
+        CountDownLatch secondRefresh   = new CountDownLatch(2);
+
+        StubIntegrationConnectorHandler connectorHandler = new StubIntegrationConnectorHandler("connector", 0, () ->
+        {
+            int active = activeRefreshes.incrementAndGet();
+
+            maxActive.accumulateAndGet(active, Math::max);
+            firstStarted.countDown();
+
+            releaseFirst.await(10, TimeUnit.SECONDS);
+
+            activeRefreshes.decrementAndGet();
+            secondRefresh.countDown();
+        });
+
+        List<IntegrationConnectorHandler> connectorHandlers = new ArrayList<>();
+        connectorHandlers.add(connectorHandler);
+
+        daemonThread = new IntegrationDaemonThread("testDaemon", connectorHandlers, 4, new TestAuditLog());
+        daemonThread.start();
+
+        assertTrue(firstStarted.await(10, TimeUnit.SECONDS));
+
+        /*
+         * The connector is already refreshing so this request is dropped.
+         */
+        daemonThread.requestRefresh(connectorHandler);
+
+        releaseFirst.countDown();
+
+        /*
+         * The connector has no refresh interval so it is not queued again.  A new request is only accepted once the
+         * daemon has finished with the first refresh, so keep asking until the second refresh runs.
+         */
+        while (! secondRefresh.await(10, TimeUnit.MILLISECONDS))
+        {
+            daemonThread.requestRefresh(connectorHandler);
+        }
+
+        assertEquals(maxActive.get(), 1);
+        assertTrue(connectorHandler.getRefreshCount() >= 1);
+    }
+
+
+    /**
+     * TestAuditLog discards the messages.
+     */
+    private static class TestAuditLog extends AuditLog
+    {
+        TestAuditLog()
+        {
+            super(null, 1, ComponentDevelopmentStatus.IN_DEVELOPMENT, null, null, null);
+        }
+
+
+        @Override
+        public void logMessage(String                    actionDescription,
+                               AuditLogMessageDefinition messageDefinition)
+        {
+        }
+
+
+        @Override
+        public void logException(String                    actionDescription,
+                                 AuditLogMessageDefinition messageDefinition,
+                                 Throwable                 caughtException)
+        {
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.platformservices.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.commonservices.ffdc.properties.RESTCallStatistics;
+import org.odpi.openmetadata.commonservices.ffdc.rest.FFDCResponseBase;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * RESTCallStatisticsResponse returns the latency and error statistics for the REST calls made to the platform
+ * or to one of its servers.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class RESTCallStatisticsResponse extends FFDCResponseBase
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<RESTCallStatistics>  statistics = null;
+
+
+    /**
+     * Default constructor
+     */
+    public RESTCallStatisticsResponse()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public RESTCallStatisticsResponse(RESTCallStatisticsResponse template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            statistics = template.getStatistics();
+        }
+    }
+
+
+    /**
+     * Return the statistics for each service, server and method combination that has been called
+     * (or null if there have been no calls).
+     *
+     * @return list of statistics
+     */
+    public List<RESTCallStatistics> getStatistics()
+    {
+        if (statistics == null)
+        {
+            return null;
+        }
+        else if (statistics.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return statistics;
+        }
+    }
+
+
+    /**
+     * Set up the statistics for each service, server and method combination that has been called.
+     *
+     * @param statistics list of statistics
+     */
+    public void setStatistics(List<RESTCallStatistics> statistics)
+    {
+        this.statistics = statistics;
+    }
+
+
+    /**
+     * JSON-like toString
+     *
+     * @return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "RESTCallStatisticsResponse{" +
+                "statistics=" + statistics +
+                ", relatedHTTPCode=" + getRelatedHTTPCode() +
+                ", exceptionClassName='" + getExceptionClassName() + '\'' +
+                ", exceptionErrorMessage='" + getExceptionErrorMessage() + '\'' +
+                ", exceptionSystemAction='" + getExceptionSystemAction() + '\'' +
+                ", exceptionUserAction='" + getExceptionUserAction() + '\'' +
+                ", exceptionProperties=" + getExceptionProperties() +
+                '}';
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        RESTCallStatisticsResponse that = (RESTCallStatisticsResponse) objectToCompare;
+        return Objects.equals(getStatistics(), that.getStatistics());
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), getStatistics());
+    }
+}
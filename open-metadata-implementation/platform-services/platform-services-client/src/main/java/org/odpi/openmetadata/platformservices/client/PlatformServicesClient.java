@@ -5,6 +5,7 @@ package org.odpi.openmetadata.platformservices.client;
 
 
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.odpi.openmetadata.commonservices.ffdc.properties.RESTCallStatistics;
 import org.odpi.openmetadata.commonservices.ffdc.rest.RegisteredOMAGService;
 import org.odpi.openmetadata.commonservices.ffdc.rest.RegisteredOMAGServicesResponse;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -12,6 +13,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterExceptio
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.platformservices.properties.ServerStatus;
+import org.odpi.openmetadata.platformservices.rest.RESTCallStatisticsResponse;
 import org.odpi.openmetadata.platformservices.rest.ServerListResponse;
 import org.odpi.openmetadata.platformservices.rest.ServerServicesListResponse;
 import org.odpi.openmetadata.platformservices.rest.ServerStatusResponse;
@@ -416,4 +418,62 @@ public class PlatformServicesClient
 
         return restResult.getServices();
     }
+
+
+    /**
+     * Retrieve the latency and error statistics for the REST calls made to the platform since it started.
+     *
+     * @param userId calling user
+     *
+     * @return statistics for each service, server and method combination that has been called
+     *
+     * @throws InvalidParameterException  one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user is not authorized to issue this request
+     * @throws PropertyServerException    there is a problem reported in the open metadata server(s)
+     */
+    public List<RESTCallStatistics> getRESTCallStatistics(String   userId) throws InvalidParameterException,
+                                                                                  UserNotAuthorizedException,
+                                                                                  PropertyServerException
+    {
+        final String methodName = "getRESTCallStatistics";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+
+        final String urlTemplate = platformRootURL + retrieveURLTemplatePrefix + "/rest-call-statistics";
+
+        RESTCallStatisticsResponse restResult = restClient.callRESTCallStatisticsGetRESTCall(methodName, urlTemplate, userId);
+
+        return restResult.getStatistics();
+    }
+
+
+    /**
+     * Retrieve the latency and error statistics for the REST calls made to a server on the platform.
+     *
+     * @param userId calling user
+     * @param serverName name of the server of interest
+     *
+     * @return statistics for each service and method combination that has been called
+     *
+     * @throws InvalidParameterException  one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user is not authorized to issue this request
+     * @throws PropertyServerException    there is a problem reported in the open metadata server(s)
+     */
+    public List<RESTCallStatistics> getRESTCallStatistics(String   userId,
+                                                          String   serverName) throws InvalidParameterException,
+                                                                                      UserNotAuthorizedException,
+                                                                                      PropertyServerException
+    {
+        final String methodName = "getRESTCallStatistics";
+        final String serverNameParameter = "serverName";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateName(serverName, serverNameParameter, methodName);
+
+        final String urlTemplate = platformRootURL + retrieveURLTemplatePrefix + "/servers/{2}/rest-call-statistics";
+
+        RESTCallStatisticsResponse restResult = restClient.callRESTCallStatisticsGetRESTCall(methodName, urlTemplate, userId, serverName);
+
+        return restResult.getStatistics();
+    }
 }
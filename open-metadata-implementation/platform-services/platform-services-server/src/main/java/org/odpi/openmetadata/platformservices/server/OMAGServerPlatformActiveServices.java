@@ -7,6 +7,7 @@ import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
 import org.odpi.openmetadata.commonservices.ffdc.rest.BooleanResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.RegisteredOMAGServicesResponse;
 import org.odpi.openmetadata.commonservices.multitenant.OMAGServerPlatformInstanceMap;
+import org.odpi.openmetadata.platformservices.rest.RESTCallStatisticsResponse;
 import org.odpi.openmetadata.platformservices.rest.ServerListResponse;
 import org.odpi.openmetadata.platformservices.rest.ServerServicesListResponse;
 import org.odpi.openmetadata.platformservices.rest.ServerStatusResponse;
@@ -391,4 +392,64 @@ public class OMAGServerPlatformActiveServices
 
         return response;
     }
+
+
+    /**
+     * Return the latency and error statistics for the REST calls made to this platform since it started.
+     *
+     * @param userId name of the user making the request
+     * @return statistics for each service, server and method combination that has been called
+     */
+    public RESTCallStatisticsResponse getRESTCallStatistics(String    userId)
+    {
+        final String   methodName = "getRESTCallStatistics";
+
+        log.debug("Calling method: " + methodName);
+
+        RESTCallStatisticsResponse response = new RESTCallStatisticsResponse();
+
+        try
+        {
+            response.setStatistics(serverInstanceMap.getRESTCallStatistics(userId));
+        }
+        catch (Exception error)
+        {
+            exceptionHandler.captureExceptions(response, error, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
+    /**
+     * Return the latency and error statistics for the REST calls made to a server on this platform.
+     *
+     * @param userId name of the user making the request
+     * @param serverName name of the server of interest
+     * @return statistics for each service and method combination that has been called
+     */
+    public RESTCallStatisticsResponse getRESTCallStatisticsForServer(String    userId,
+                                                                     String    serverName)
+    {
+        final String   methodName = "getRESTCallStatisticsForServer";
+
+        log.debug("Calling method: " + methodName);
+
+        RESTCallStatisticsResponse response = new RESTCallStatisticsResponse();
+
+        try
+        {
+            response.setStatistics(serverInstanceMap.getRESTCallStatistics(userId, serverName));
+        }
+        catch (Exception error)
+        {
+            exceptionHandler.captureExceptions(response, error, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
 }
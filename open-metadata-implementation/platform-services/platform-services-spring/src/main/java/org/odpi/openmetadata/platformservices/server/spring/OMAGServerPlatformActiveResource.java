@@ -12,6 +12,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.odpi.openmetadata.commonservices.ffdc.rest.BooleanResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.RegisteredOMAGServicesResponse;
+import org.odpi.openmetadata.platformservices.rest.RESTCallStatisticsResponse;
 import org.odpi.openmetadata.platformservices.rest.ServerListResponse;
 import org.odpi.openmetadata.platformservices.rest.ServerServicesListResponse;
 import org.odpi.openmetadata.platformservices.rest.ServerStatusResponse;
@@ -341,4 +342,54 @@ public class OMAGServerPlatformActiveResource
     {
         return platformAPI.getActiveServiceListForServer(userId, serverName);
     }
+
+
+    /**
+     * Return the latency and error statistics for the REST calls made to this platform since it started.
+     *
+     * @param userId name of the user making the request
+     * @return statistics for each service, server and method combination that has been called
+     */
+    @GetMapping(path = "/rest-call-statistics")
+    @Operation( summary = "Get REST call statistics",
+            description="Return the latency percentiles and error counts for each REST API method called on this platform",
+            responses = {
+                    @ApiResponse(responseCode = "200",description="REST call statistics",
+                            content = @Content(
+                                    mediaType ="application/json",
+                                    schema = @Schema(implementation=RESTCallStatisticsResponse.class)
+                            )
+
+                    )
+            })
+    public RESTCallStatisticsResponse getRESTCallStatistics(@Parameter(description="calling user") @PathVariable String    userId)
+    {
+        return platformAPI.getRESTCallStatistics(userId);
+    }
+
+
+    /**
+     * Return the latency and error statistics for the REST calls made to a server on this platform.
+     *
+     * @param userId name of the user making the request
+     * @param serverName name of the server of interest
+     * @return statistics for each service and method combination that has been called
+     */
+    @GetMapping(path = "/servers/{serverName}/rest-call-statistics")
+    @Operation( summary = "Get REST call statistics for server",
+            description="Return the latency percentiles and error counts for each REST API method called on the server",
+            responses = {
+                    @ApiResponse(responseCode = "200",description="REST call statistics",
+                            content = @Content(
+                                    mediaType ="application/json",
+                                    schema = @Schema(implementation=RESTCallStatisticsResponse.class)
+                            )
+
+                    )
+            })
+    public RESTCallStatisticsResponse getRESTCallStatisticsForServer(@Parameter(description="calling user") @PathVariable String    userId,
+                                                                     @Parameter(description="server name")  @PathVariable String    serverName)
+    {
+        return platformAPI.getRESTCallStatisticsForServer(userId, serverName);
+    }
 }
@@ -6,6 +6,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLoggingComponent;
@@ -26,7 +29,8 @@ import org.slf4j.LoggerFactory;
  * extend this class to include the interaction with the eventing/messaging layer.
  * <ul>
  *     <li>
- *         For inbound events it should call the protected distributeEvents() method.
+ *         For inbound events it should return them from the protected checkForIncomingEvents() method and
+ *         call notifyIncomingEvents() when new events are buffered so the listener thread wakes up straight away.
  *     </li>
  *     <li>
  *         For outbound events, callers will invoke the sendEvent() method.
@@ -52,6 +56,27 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
     private String                          topicName          = defaultTopicName;
     private int                             sleepTime          = 100;
 
+    /*
+     * The listener thread parks on this condition when there are no events to process.  It is signalled by
+     * notifyIncomingEvents().  The sleepTime is the maximum time it parks so connectors that do not signal
+     * new events are still polled.
+     */
+    private final ReentrantLock incomingEventLock       = new ReentrantLock();
+    private final Condition     incomingEventsAvailable = incomingEventLock.newCondition();
+    private boolean             incomingEventsSignalled = false;
+
+    /*
+     * Statistics about the events distributed to the listeners.
+     */
+    private static final long   rateWindowMillis = 1000L;
+
+    private volatile long       eventsDistributedCount = 0;
+    private volatile long       totalEventLatency      = 0;
+    private volatile long       maximumEventLatency    = 0;
+    private volatile long       maximumEventsPerSecond = 0;
+    private long                rateWindowStart        = 0;
+    private long                rateWindowCount        = 0;
+
     protected AuditLog auditLog = null;
 
     /**
@@ -108,9 +133,11 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
         {
             try
             {
+                List<IncomingEvent> receivedEvents = null;
+
                 try
                 {
-                    List<IncomingEvent> receivedEvents = checkForIncomingEvents();
+                    receivedEvents = checkForIncomingEvents();
 
                     if ((receivedEvents != null) && (!receivedEvents.isEmpty()))
                     {
@@ -128,7 +155,14 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
                     log.error("Bad exception from checkForEvents", error);
                 }
 
-                Thread.sleep(sleepTime);
+                /*
+                 * Only park when there is nothing to do.  If a batch of events was received, there may
+                 * be more waiting so go straight back for the next batch.
+                 */
+                if ((receivedEvents == null) || (receivedEvents.isEmpty()))
+                {
+                    waitForIncomingEvents();
+                }
             }
             catch (InterruptedException   wakeUp)
             {
@@ -136,6 +170,16 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
             }
         }
 
+        if (auditLog != null)
+        {
+            auditLog.logMessage(listenerThreadName,
+                                OMRSAuditCode.OPEN_METADATA_TOPIC_LISTENER_STATISTICS.getMessageDefinition(topicName,
+                                                                                                          Long.toString(getEventsDistributedCount()),
+                                                                                                          Long.toString(getAverageEventLatency()),
+                                                                                                          Long.toString(getMaximumEventLatency()),
+                                                                                                          Long.toString(getMaximumEventsPerSecond())));
+        }
+
         if (auditLog != null)
         {
             auditLog.logMessage(listenerThreadName,
@@ -146,11 +190,13 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
 
 
     /**
-     * Pass an event that has been received on the topic to each of the registered listeners.
+     * Pass an event that has been received on the topic to each of the registered listeners.  This is normally
+     * called by the listener thread.  Implementations that process events on their own worker threads may call
+     * it directly.  The listeners then need to cope with events arriving on more than one thread.
      *
      * @param event OMRSEvent to distribute
      */
-    private void distributeEvent(IncomingEvent event)
+    protected void distributeEvent(IncomingEvent event)
     {
         //Initially clear the async event processing context to ensure that it will only
         //have results from processing this event
@@ -185,6 +231,141 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
         //record any asynchronous processing being done by consumers
         InternalOMRSEventProcessingContext context = InternalOMRSEventProcessingContext.getInstance();
         event.addAsyncProcessingResult(context.getOverallAsyncProcessingResult());
+
+        recordEventStatistics(event);
+    }
+
+
+    /**
+     * Update the statistics with an event that has been passed to all of the listeners.  The latency is
+     * measured from the creation of the incoming event.  The rate is measured over one second windows and
+     * the highest rate is retained.
+     *
+     * @param event event that has been distributed
+     */
+    private synchronized void recordEventStatistics(IncomingEvent event)
+    {
+        long now     = System.currentTimeMillis();
+        long latency = Math.max(0, now - event.getCreationTime());
+
+        eventsDistributedCount++;
+        totalEventLatency += latency;
+
+        if (latency > maximumEventLatency)
+        {
+            maximumEventLatency = latency;
+        }
+
+        if (now - rateWindowStart >= rateWindowMillis)
+        {
+            rateWindowStart = now;
+            rateWindowCount = 0;
+        }
+
+        rateWindowCount++;
+
+        if (rateWindowCount > maximumEventsPerSecond)
+        {
+            maximumEventsPerSecond = rateWindowCount;
+        }
+    }
+
+
+    /**
+     * Wake up the listener thread because new events are ready to be retrieved by checkForIncomingEvents().
+     * Implementations should call this method each time they buffer new incoming events.
+     */
+    protected void notifyIncomingEvents()
+    {
+        incomingEventLock.lock();
+
+        try
+        {
+            incomingEventsSignalled = true;
+            incomingEventsAvailable.signalAll();
+        }
+        finally
+        {
+            incomingEventLock.unlock();
+        }
+    }
+
+
+    /**
+     * Park the listener thread until new events are signalled, or the sleep time has passed.
+     *
+     * @throws InterruptedException the thread was interrupted
+     */
+    private void waitForIncomingEvents() throws InterruptedException
+    {
+        incomingEventLock.lock();
+
+        try
+        {
+            if ((! incomingEventsSignalled) && (keepRunning))
+            {
+                incomingEventsAvailable.await(sleepTime, TimeUnit.MILLISECONDS);
+            }
+
+            incomingEventsSignalled = false;
+        }
+        finally
+        {
+            incomingEventLock.unlock();
+        }
+    }
+
+
+    /**
+     * Return the number of events that have been passed to the listeners.
+     *
+     * @return count
+     */
+    public long getEventsDistributedCount()
+    {
+        return eventsDistributedCount;
+    }
+
+
+    /**
+     * Return the average time in milliseconds between an event being received by the connector and it being
+     * passed to all of the listeners.
+     *
+     * @return milliseconds
+     */
+    public long getAverageEventLatency()
+    {
+        long count = eventsDistributedCount;
+
+        if (count == 0)
+        {
+            return 0;
+        }
+
+        return totalEventLatency / count;
+    }
+
+
+    /**
+     * Return the longest time in milliseconds between an event being received by the connector and it being
+     * passed to all of the listeners.
+     *
+     * @return milliseconds
+     */
+    public long getMaximumEventLatency()
+    {
+        return maximumEventLatency;
+    }
+
+
+    /**
+     * Return the highest number of events passed to the listeners within a one second interval.
+     *
+     * @return events per second
+     */
+    public long getMaximumEventsPerSecond()
+    {
+        return maximumEventsPerSecond;
     }
 
 
@@ -302,5 +483,7 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
         super.disconnect();
 
         keepRunning = false;
+
+        notifyIncomingEvents();
     }
 }
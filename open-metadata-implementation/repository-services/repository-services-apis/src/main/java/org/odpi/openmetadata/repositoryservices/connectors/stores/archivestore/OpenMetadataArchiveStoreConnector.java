@@ -6,6 +6,10 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLoggingComponent;
 import org.odpi.openmetadata.frameworks.auditlog.ComponentDescription;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+
+import java.util.Map;
 
 
 /**
@@ -14,6 +18,14 @@ import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
 public abstract class OpenMetadataArchiveStoreConnector extends ConnectorBase implements OpenMetadataArchiveStore,
                                                                                          AuditLoggingComponent
 {
+    /*
+     * Configuration property that sets the number of threads used to load the instances from the archive
+     * into the local repository.
+     */
+    public static final String INSTANCE_LOAD_WORKERS_PROPERTY = "instanceLoadWorkers";
+
+    private static final int defaultInstanceLoadWorkers = 1;
+
     protected AuditLog auditLog = null;
 
 
@@ -30,6 +42,73 @@ public abstract class OpenMetadataArchiveStoreConnector extends ConnectorBase im
     }
 
 
+    /**
+     * Pass the contents of the archive to the handler.  This default implementation retrieves the whole archive
+     * with getArchiveContents.  Connectors to large archives override it to read the archive in batches.
+     * A connector that is unable to read the whole archive calls the handler's processArchiveError method
+     * and returns false.
+     *
+     * @param streamHandler receiver of the archive's contents
+     * @return false if the archive is empty or could not be read in full
+     */
+    public boolean streamArchiveContents(OpenMetadataArchiveStreamHandler streamHandler)
+    {
+        OpenMetadataArchive archiveContents = this.getArchiveContents();
+
+        if (archiveContents == null)
+        {
+            return false;
+        }
+
+        streamHandler.processArchiveHeader(archiveContents.getArchiveProperties(), archiveContents.getArchiveTypeStore());
+
+        OpenMetadataArchiveInstanceStore archiveInstanceStore = archiveContents.getArchiveInstanceStore();
+
+        if (archiveInstanceStore != null)
+        {
+            if (archiveInstanceStore.getEntities() != null)
+            {
+                streamHandler.processEntities(archiveInstanceStore.getEntities());
+            }
+
+            if (archiveInstanceStore.getRelationships() != null)
+            {
+                streamHandler.processRelationships(archiveInstanceStore.getRelationships());
+            }
+
+            if (archiveInstanceStore.getClassifications() != null)
+            {
+                streamHandler.processClassifications(archiveInstanceStore.getClassifications());
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Return the number of threads to use when loading the instances from this archive into the local repository.
+     * This is set with the instanceLoadWorkers configuration property.  The instances are loaded on a single thread
+     * unless the property asks for more, because not every repository connector accepts updates from several threads.
+     *
+     * @return number of threads - 1 means the instances are loaded one at a time
+     */
+    public int getInstanceLoadWorkers()
+    {
+        if (super.connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = super.connectionProperties.getConfigurationProperties();
+
+            if ((configurationProperties != null) && (configurationProperties.get(INSTANCE_LOAD_WORKERS_PROPERTY) instanceof Number))
+            {
+                return Math.max(1, ((Number)configurationProperties.get(INSTANCE_LOAD_WORKERS_PROPERTY)).intValue());
+            }
+        }
+
+        return defaultInstanceLoadWorkers;
+    }
+
+
     /**
      * Return the component description that is used by this connector in the audit log.
      *
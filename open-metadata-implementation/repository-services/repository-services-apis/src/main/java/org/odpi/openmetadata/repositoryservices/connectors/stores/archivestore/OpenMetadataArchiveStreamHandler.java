@@ -0,0 +1,77 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.util.List;
+
+/**
+ * OpenMetadataArchiveStreamHandler receives the contents of an open metadata archive as it is read from the
+ * archive store.  This means the archive does not need to be held in memory in one piece.
+ * The archive store calls the handler in the following order:
+ * <ul>
+ *     <li>
+ *         processArchiveHeader is called once with the archive properties and the type store.
+ *     </li>
+ *     <li>
+ *         processEntities is called with each batch of entities.
+ *     </li>
+ *     <li>
+ *         processRelationships and processClassifications are called with each batch of relationships and classifications.
+ *         These are only called once all of the entities have been passed to the handler.
+ *     </li>
+ *     <li>
+ *         processArchiveError is called, instead of any further methods, if the archive store is unable to read
+ *         the rest of the archive.
+ *     </li>
+ * </ul>
+ */
+public interface OpenMetadataArchiveStreamHandler
+{
+    /**
+     * Process the header of the archive.
+     *
+     * @param archiveProperties properties describing the archive - null if the archive has no control header
+     * @param archiveTypeStore type definitions from the archive - may be null
+     */
+    void processArchiveHeader(OpenMetadataArchiveProperties archiveProperties,
+                              OpenMetadataArchiveTypeStore  archiveTypeStore);
+
+
+    /**
+     * Process a batch of entities from the archive's instance store.
+     *
+     * @param entities list of entities
+     */
+    void processEntities(List<EntityDetail> entities);
+
+
+    /**
+     * Process a batch of relationships from the archive's instance store.
+     *
+     * @param relationships list of relationships
+     */
+    void processRelationships(List<Relationship> relationships);
+
+
+    /**
+     * Process a batch of classifications from the archive's instance store.
+     *
+     * @param classifications list of classifications and the entities they are attached to
+     */
+    void processClassifications(List<ClassificationEntityExtension> classifications);
+
+
+    /**
+     * Receive notification that the archive store is unable to read the rest of the archive.  The content
+     * passed to the handler before this call is complete; nothing more follows it.
+     *
+     * @param error exception from the archive store
+     */
+    void processArchiveError(Exception error);
+}
@@ -2,8 +2,11 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Future;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -3353,6 +3356,241 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                                                     FunctionNotSupportedException,
                                                                                                     UserNotAuthorizedException;
 
+    /**
+     * Create the new entities and relationships supplied in the instance graph as a single batch.  Each
+     * entity in the graph is a template for a new entity: its type, properties, classifications and status are
+     * used to create the new entity and all other values are ignored.  Each relationship is a template for a new
+     * relationship in the same way.  The guid of a template entity may be set to a temporary value that is unique
+     * within the batch.  The proxies of the relationships in the batch may use these values to link the new
+     * relationships to the new entities.  All other proxies must identify entities that already exist.
+     *
+     * The batch is created entirely or not at all.  The default implementation adds each instance in turn
+     * through addEntity and addRelationship.  If one of them fails, the instances already created by the call
+     * are removed again (with deleteEntity or deleteRelationship followed by purgeEntity or purgeRelationship)
+     * before the exception is thrown.  If the removal also fails, the instances it could not remove remain in the
+     * repository.  Repository connectors that are able to store the batch in a single transaction should override
+     * this method and must keep to the same contract: when an exception is thrown, no instance from the batch is
+     * left behind.
+     *
+     * Because the default implementation calls addEntity and addRelationship, each instance is validated on its
+     * own as it is created.  The in-memory and graph repositories use the default, so the batch is only validated
+     * once, before any instance is created, in the local connector that sits in front of the real repository.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances templates for the new entities and relationships.
+     * @return instance graph containing the new entities and relationships in the same order as the templates.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                              hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity's type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                       the requested status.
+     * @throws EntityNotKnownException one of the entities identified by a relationship is not known in the
+     *                                   metadata collection or the batch.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph addInstances(String          userId,
+                                      InstanceGraph   instances) throws InvalidParameterException,
+                                                                        RepositoryErrorException,
+                                                                        TypeErrorException,
+                                                                        PropertyErrorException,
+                                                                        ClassificationErrorException,
+                                                                        StatusNotSupportedException,
+                                                                        EntityNotKnownException,
+                                                                        FunctionNotSupportedException,
+                                                                        UserNotAuthorizedException
+    {
+        List<EntityDetail> newEntities      = new ArrayList<>();
+        List<Relationship> newRelationships = new ArrayList<>();
+
+        try
+        {
+            if (instances != null)
+            {
+                Map<String, String> newEntityGUIDs = new HashMap<>();
+
+                if (instances.getEntities() != null)
+                {
+                    for (EntityDetail entity : instances.getEntities())
+                    {
+                        if (entity != null)
+                        {
+                            EntityDetail newEntity = this.addEntity(userId,
+                                                                    this.getBatchInstanceTypeGUID(entity),
+                                                                    entity.getProperties(),
+                                                                    entity.getClassifications(),
+                                                                    entity.getStatus());
+
+                            if (newEntity != null)
+                            {
+                                if (entity.getGUID() != null)
+                                {
+                                    newEntityGUIDs.put(entity.getGUID(), newEntity.getGUID());
+                                }
+
+                                newEntities.add(newEntity);
+                            }
+                        }
+                    }
+                }
+
+                if (instances.getRelationships() != null)
+                {
+                    for (Relationship relationship : instances.getRelationships())
+                    {
+                        if (relationship != null)
+                        {
+                            Relationship newRelationship = this.addRelationship(userId,
+                                                                                this.getBatchInstanceTypeGUID(relationship),
+                                                                                relationship.getProperties(),
+                                                                                this.getBatchEntityGUID(relationship.getEntityOneProxy(), newEntityGUIDs),
+                                                                                this.getBatchEntityGUID(relationship.getEntityTwoProxy(), newEntityGUIDs),
+                                                                                relationship.getStatus());
+
+                            if (newRelationship != null)
+                            {
+                                newRelationships.add(newRelationship);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        catch (Exception error)
+        {
+            this.removeBatchInstances(userId, newEntities, newRelationships);
+
+            throw error;
+        }
+
+        return new InstanceGraph(newEntities, newRelationships);
+    }
+
+
+    /**
+     * Remove the instances created by addInstances before one of the instances in the batch failed.  The
+     * relationships are removed first so that the entities are no longer linked to any of them.  Each instance
+     * is soft-deleted (if the repository supports it) and then purged.  Failures are ignored so that as many
+     * instances as possible are removed and the original exception is returned to the caller.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newEntities entities created so far
+     * @param newRelationships relationships created so far
+     */
+    private void removeBatchInstances(String             userId,
+                                      List<EntityDetail> newEntities,
+                                      List<Relationship> newRelationships)
+    {
+        for (int index = newRelationships.size() - 1; index >= 0; index--)
+        {
+            Relationship relationship = newRelationships.get(index);
+            String       typeDefGUID  = this.getBatchInstanceTypeGUID(relationship);
+            String       typeDefName  = (relationship.getType() == null) ? null : relationship.getType().getTypeDefName();
+
+            try
+            {
+                try
+                {
+                    this.deleteRelationship(userId, typeDefGUID, typeDefName, relationship.getGUID());
+                }
+                catch (FunctionNotSupportedException noSoftDelete)
+                {
+                    /*
+                     * The relationship can be purged straight away.
+                     */
+                }
+
+                this.purgeRelationship(userId, typeDefGUID, typeDefName, relationship.getGUID());
+            }
+            catch (Exception error)
+            {
+                /*
+                 * Keep going with the other instances.
+                 */
+            }
+        }
+
+        for (int index = newEntities.size() - 1; index >= 0; index--)
+        {
+            EntityDetail entity      = newEntities.get(index);
+            String       typeDefGUID = this.getBatchInstanceTypeGUID(entity);
+            String       typeDefName = (entity.getType() == null) ? null : entity.getType().getTypeDefName();
+
+            try
+            {
+                try
+                {
+                    this.deleteEntity(userId, typeDefGUID, typeDefName, entity.getGUID());
+                }
+                catch (FunctionNotSupportedException noSoftDelete)
+                {
+                    /*
+                     * The entity can be purged straight away.
+                     */
+                }
+
+                this.purgeEntity(userId, typeDefGUID, typeDefName, entity.getGUID());
+            }
+            catch (Exception error)
+            {
+                /*
+                 * Keep going with the other instances.
+                 */
+            }
+        }
+    }
+
+
+    /**
+     * Return the unique identifier of the type of a template instance passed to addInstances.
+     *
+     * @param instance template instance
+     * @return type guid or null if no type is set
+     */
+    protected String getBatchInstanceTypeGUID(InstanceHeader instance)
+    {
+        if (instance.getType() != null)
+        {
+            return instance.getType().getTypeDefGUID();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the unique identifier of the entity at one end of a template relationship passed to addInstances.
+     * If the proxy refers to an entity created in the same batch, the guid of the new entity is returned.
+     *
+     * @param entityProxy proxy from the template relationship
+     * @param newEntityGUIDs map of the temporary guids of the template entities to the guids of the new entities
+     * @return entity guid or null if the proxy is not set
+     */
+    protected String getBatchEntityGUID(EntityProxy         entityProxy,
+                                        Map<String, String> newEntityGUIDs)
+    {
+        if (entityProxy != null)
+        {
+            String newEntityGUID = newEntityGUIDs.get(entityProxy.getGUID());
+
+            if (newEntityGUID != null)
+            {
+                return newEntityGUID;
+            }
+
+            return entityProxy.getGUID();
+        }
+
+        return null;
+    }
+
+
     /**
      * Save the entities and relationships supplied in the instance graph as a reference copies.
      * The id of the home metadata collection is already set up in the instances.
@@ -12,6 +12,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSPatternCache;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
@@ -517,7 +518,7 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
                 {
                     if (typeDef != null)
                     {
-                        if (typeDef.getName().matches(typeDefName))
+                        if (OMRSPatternCache.matches(typeDef.getName(), typeDefName))
                         {
                             matchedTypeDefs.add(typeDef);
                         }
@@ -533,7 +534,7 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
                 {
                     if (attributeTypeDef != null)
                     {
-                        if (attributeTypeDef.getName().matches(typeDefName))
+                        if (OMRSPatternCache.matches(attributeTypeDef.getName(), typeDefName))
                         {
                             matchedAttributeTypeDefs.add(attributeTypeDef);
                         }
@@ -981,7 +982,7 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
             {
                 if (typeDef != null)
                 {
-                    if (typeDef.getName().matches(searchCriteria))
+                    if (OMRSPatternCache.matches(typeDef.getName(), searchCriteria))
                     {
                         matchedTypeDefs.add(typeDef);
                     }
@@ -3822,16 +3823,58 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
                                                                                                  PropertyErrorException,
                                                                                                  ClassificationErrorException,
                                                                                                  StatusNotSupportedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+
+        return this.newEntityParameterValidation(entityTypeGUID,
+                                                 initialProperties,
+                                                 initialClassifications,
+                                                 initialStatus,
+                                                 methodName);
+    }
+
+
+    /**
+     * Validate that the type, properties, classifications and status for a new entity are valid.  This is the
+     * part of the validation for addEntity that is repeated for each template entity passed to addInstances.
+     *
+     * @param entityTypeGUID unique identifier (guid) for the new entity's type.
+     * @param initialProperties initial list of properties for the new entity; null means no properties.
+     * @param initialClassifications initial list of classifications for the new entity; null means no classifications.
+     * @param initialStatus initial status typically set to DRAFT, PREPARED or ACTIVE.
+     * @param methodName calling method
+     * @return typeDef of the entity's type
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                              hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this entity's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for this entity type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                       the requested status.
+     */
+    private TypeDef newEntityParameterValidation(String                     entityTypeGUID,
+                                                 InstanceProperties         initialProperties,
+                                                 List<Classification>       initialClassifications,
+                                                 InstanceStatus             initialStatus,
+                                                 String                     methodName) throws InvalidParameterException,
+                                                                                               RepositoryErrorException,
+                                                                                               TypeErrorException,
+                                                                                               PropertyErrorException,
+                                                                                               ClassificationErrorException,
+                                                                                               StatusNotSupportedException
     {
         final String  entityGUIDParameterName       = "entityTypeGUID";
         final String  propertiesParameterName       = "initialProperties";
         final String  classificationsParameterName  = "initialClassifications";
         final String  initialStatusParameterName    = "initialStatus";
 
-        /*
-         * Validate parameters
-         */
-        super.basicRequestValidation(userId, methodName);
         repositoryValidator.validateTypeGUID(repositoryName, entityGUIDParameterName, entityTypeGUID, methodName);
 
         TypeDef  typeDef = repositoryHelper.getTypeDef(repositoryName, entityGUIDParameterName, entityTypeGUID, methodName);
@@ -4389,6 +4432,52 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
                                                                                                  PropertyErrorException,
                                                                                                  StatusNotSupportedException,
                                                                                                  UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+
+        return this.newRelationshipParameterValidation(relationshipTypeGUID,
+                                                       initialProperties,
+                                                       entityOneGUID,
+                                                       entityTwoGUID,
+                                                       initialStatus,
+                                                       methodName);
+    }
+
+
+    /**
+     * Validate that the type, properties, ends and status for a new relationship are valid.  This is the
+     * part of the validation for addRelationship that is repeated for each template relationship passed to addInstances.
+     *
+     * @param relationshipTypeGUID unique identifier (guid) for the new relationship's type.
+     * @param initialProperties initial list of properties for the new entity; null means no properties.
+     * @param entityOneGUID the unique identifier of one of the entities that the relationship is connecting together.
+     * @param entityTwoGUID the unique identifier of the other entity that the relationship is connecting together.
+     * @param initialStatus initial status typically set to DRAFT, PREPARED or ACTIVE.
+     * @param methodName calling method
+     * @return type definition
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this relationship's type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     the requested status.
+     */
+    private TypeDef newRelationshipParameterValidation(String               relationshipTypeGUID,
+                                                       InstanceProperties   initialProperties,
+                                                       String               entityOneGUID,
+                                                       String               entityTwoGUID,
+                                                       InstanceStatus       initialStatus,
+                                                       String               methodName) throws InvalidParameterException,
+                                                                                               RepositoryErrorException,
+                                                                                               TypeErrorException,
+                                                                                               PropertyErrorException,
+                                                                                               StatusNotSupportedException
     {
         final String guidParameterName          = "relationshipTypeGUID";
         final String entityOneParameterName     = "entityOneGUID";
@@ -4396,10 +4485,6 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
         final String propertiesParameterName    = "initialProperties";
         final String initialStatusParameterName = "initialStatus";
 
-        /*
-         * Validate parameters
-         */
-        super.basicRequestValidation(userId, methodName);
         repositoryValidator.validateTypeGUID(repositoryName, guidParameterName, relationshipTypeGUID, methodName);
         repositoryValidator.validateGUID(repositoryName, entityOneParameterName, entityOneGUID, methodName);
         repositoryValidator.validateGUID(repositoryName, entityTwoParameterName, entityTwoGUID, methodName);
@@ -4471,6 +4556,86 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Validate the parameters passed to addInstances.  The user and repository are validated once for the batch
+     * and then each template entity and relationship is validated in the same way as the parameters for
+     * addEntity and addRelationship.  The whole batch is validated before any instance is created.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances templates for the new entities and relationships.
+     * @param methodName calling method
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                      not defined for the entity's type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     the requested status.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    protected void addInstancesParameterValidation(String        userId,
+                                                   InstanceGraph instances,
+                                                   String        methodName) throws InvalidParameterException,
+                                                                                    RepositoryErrorException,
+                                                                                    TypeErrorException,
+                                                                                    PropertyErrorException,
+                                                                                    ClassificationErrorException,
+                                                                                    StatusNotSupportedException,
+                                                                                    UserNotAuthorizedException
+    {
+        final String instancesParameterName = "instances";
+
+        super.basicRequestValidation(userId, methodName);
+
+        if ((instances == null) ||
+            (((instances.getEntities() == null) || (instances.getEntities().isEmpty())) &&
+             ((instances.getRelationships() == null) || (instances.getRelationships().isEmpty()))))
+        {
+            throw new InvalidParameterException(OMRSErrorCode.NULL_INSTANCE_GRAPH.getMessageDefinition(methodName,
+                                                                                                     repositoryName,
+                                                                                                     instancesParameterName),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                instancesParameterName);
+        }
+
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                if (entity != null)
+                {
+                    this.newEntityParameterValidation(this.getBatchInstanceTypeGUID(entity),
+                                                      entity.getProperties(),
+                                                      entity.getClassifications(),
+                                                      entity.getStatus(),
+                                                      methodName);
+                }
+            }
+        }
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                if (relationship != null)
+                {
+                    this.newRelationshipParameterValidation(this.getBatchInstanceTypeGUID(relationship),
+                                                            relationship.getProperties(),
+                                                            this.getBatchEntityGUID(relationship.getEntityOneProxy(), Collections.emptyMap()),
+                                                            this.getBatchEntityGUID(relationship.getEntityTwoProxy(), Collections.emptyMap()),
+                                                            relationship.getStatus(),
+                                                            methodName);
+                }
+            }
+        }
+    }
+
+
     /**
      * Validate the parameters needed to save a new relationship that is sourced from an external technology.
      *
@@ -0,0 +1,149 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OMRSJSONSerializer provides a shared, thread-safe Jackson ObjectMapper for converting the OMRS beans
+ * (events, instance properties, archives, registry and audit log records) to and from JSON.
+ * Creating an ObjectMapper is expensive and each new mapper has to rebuild its serializer and deserializer
+ * caches by introspecting the beans.  When this is done for every event, the introspection dominates the cost
+ * of the event processing.  OMRSJSONSerializer creates the mapper once and caches an ObjectReader for each type
+ * that is read.  ObjectReader and ObjectWriter are immutable and so can be used concurrently.
+ *
+ * The shared mapper has the default Jackson configuration so the JSON produced and accepted is the same
+ * as a new ObjectMapper().  The mapper itself is not returned to callers since it is mutable and a change
+ * to its configuration would affect every user of the serializer.
+ */
+public class OMRSJSONSerializer
+{
+    private static final ObjectMapper              objectMapper = new ObjectMapper();
+    private static final ObjectWriter              writer       = objectMapper.writer();
+    private static final ObjectWriter              prettyWriter = objectMapper.writerWithDefaultPrettyPrinter();
+    private static final Map<Type, ObjectReader>   readerCache  = new ConcurrentHashMap<>();
+
+
+    /**
+     * Private constructor since all methods are static.
+     */
+    private OMRSJSONSerializer()
+    {
+    }
+
+
+    /**
+     * Create a streaming parser for a JSON file.  The parser is able to read beans using the readers
+     * returned by getReader().  The caller must close the parser.
+     *
+     * @param jsonFile file to parse
+     * @return parser
+     * @throws IOException the file can not be opened
+     */
+    public static JsonParser createParser(File jsonFile) throws IOException
+    {
+        return objectMapper.createParser(jsonFile);
+    }
+
+
+    /**
+     * Return the cached reader for a type, creating it if necessary.
+     *
+     * @param valueType class of the bean to read
+     * @return object reader
+     */
+    public static ObjectReader getReader(Class<?> valueType)
+    {
+        return readerCache.computeIfAbsent(valueType, type -> objectMapper.readerFor(valueType));
+    }
+
+
+    /**
+     * Return the cached reader for a generic type, creating it if necessary.
+     *
+     * @param valueTypeReference type of the bean to read
+     * @return object reader
+     */
+    public static ObjectReader getReader(TypeReference<?> valueTypeReference)
+    {
+        return readerCache.computeIfAbsent(valueTypeReference.getType(), type -> objectMapper.readerFor(valueTypeReference));
+    }
+
+
+    /**
+     * Return the shared writer.
+     *
+     * @return object writer
+     */
+    public static ObjectWriter getWriter()
+    {
+        return writer;
+    }
+
+
+    /**
+     * Return the shared writer that formats the JSON with the default pretty printer.
+     *
+     * @return object writer
+     */
+    public static ObjectWriter getPrettyWriter()
+    {
+        return prettyWriter;
+    }
+
+
+    /**
+     * Parse a JSON string into a bean.
+     *
+     * @param json JSON string
+     * @param valueType class of the bean
+     * @param <T> type of the bean
+     * @return bean
+     * @throws JsonProcessingException the JSON is not valid for the bean
+     */
+    public static <T> T readValue(String   json,
+                                  Class<T> valueType) throws JsonProcessingException
+    {
+        return getReader(valueType).readValue(json);
+    }
+
+
+    /**
+     * Parse a JSON string into a bean of a generic type.
+     *
+     * @param json JSON string
+     * @param valueTypeReference type of the bean
+     * @param <T> type of the bean
+     * @return bean
+     * @throws JsonProcessingException the JSON is not valid for the bean
+     */
+    public static <T> T readValue(String           json,
+                                  TypeReference<T> valueTypeReference) throws JsonProcessingException
+    {
+        return getReader(valueTypeReference).readValue(json);
+    }
+
+
+    /**
+     * Convert a bean into a JSON string.
+     *
+     * @param value bean
+     * @return JSON string
+     * @throws JsonProcessingException the bean can not be serialized
+     */
+    public static String writeValueAsString(Object value) throws JsonProcessingException
+    {
+        return writer.writeValueAsString(value);
+    }
+}
@@ -0,0 +1,215 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * OMRSPatternCache provides a shared, bounded cache of the matchers for the regular expressions used in search
+ * criteria.  Calling String.matches() compiles the regular expression on every call.  When a search is tested
+ * against every instance in a repository, this means the same regular expression is compiled once per instance.
+ * OMRSPatternCache compiles each regular expression once and then reuses the compiled pattern.
+ *
+ * The regular expressions built by the exact match, starts with, ends with and contains methods of the
+ * OMRSRepositoryHelper are recognized and matched with plain string comparisons.  The result of every match
+ * is the same as String.matches().
+ */
+public class OMRSPatternCache
+{
+    /**
+     * The maximum number of regular expressions held in the cache.
+     */
+    public static final int maxCacheSize = 1000;
+
+    private static final String literalStart    = "\\Q";
+    private static final String literalEnd      = "\\E";
+    private static final String anyCharacters   = ".*";
+
+    private static final Map<String, Predicate<String>> matcherCache = new ConcurrentHashMap<>();
+
+
+    /**
+     * Private constructor since all methods are static.
+     */
+    private OMRSPatternCache()
+    {
+    }
+
+
+    /**
+     * Return whether the value matches the regular expression.  This is equivalent to value.matches(regex).
+     *
+     * @param value value to test
+     * @param regex regular expression
+     * @return boolean result
+     * @throws PatternSyntaxException the regular expression is not valid
+     */
+    public static boolean matches(String value,
+                                  String regex) throws PatternSyntaxException
+    {
+        return getMatcher(regex).test(value);
+    }
+
+
+    /**
+     * Validate that the regular expression can be compiled.  The resulting matcher is cached for the
+     * search that is likely to follow.
+     *
+     * @param regex regular expression
+     * @throws PatternSyntaxException the regular expression is not valid
+     */
+    public static void validate(String regex) throws PatternSyntaxException
+    {
+        getMatcher(regex);
+    }
+
+
+    /**
+     * Return the matcher for a regular expression from the cache, creating it if necessary.  If the cache is full,
+     * an arbitrary entry is removed to make room for the new one.
+     *
+     * @param regex regular expression
+     * @return matcher that tests a value against the regular expression
+     * @throws PatternSyntaxException the regular expression is not valid
+     */
+    static Predicate<String> getMatcher(String regex) throws PatternSyntaxException
+    {
+        Predicate<String> matcher = matcherCache.get(regex);
+
+        if (matcher == null)
+        {
+            matcher = createMatcher(regex);
+
+            if (matcherCache.size() >= maxCacheSize)
+            {
+                Iterator<String> cachedRegexes = matcherCache.keySet().iterator();
+
+                if (cachedRegexes.hasNext())
+                {
+                    cachedRegexes.next();
+                    cachedRegexes.remove();
+                }
+            }
+
+            matcherCache.put(regex, matcher);
+        }
+
+        return matcher;
+    }
+
+
+    /**
+     * Create the matcher for a regular expression.  Case-sensitive literal, starts with, ends with and contains
+     * expressions become string comparisons.  Everything else uses a compiled pattern.
+     *
+     * @param regex regular expression
+     * @return matcher
+     * @throws PatternSyntaxException the regular expression is not valid
+     */
+    private static Predicate<String> createMatcher(String regex) throws PatternSyntaxException
+    {
+        if (regex == null)
+        {
+            /*
+             * Matches the behaviour of String.matches().
+             */
+            throw new NullPointerException("Null regular expression");
+        }
+
+        String literal = getLiteral(regex);
+
+        if (literal != null)
+        {
+            return literal::equals;
+        }
+
+        if (regex.startsWith(anyCharacters) && regex.endsWith(anyCharacters) && (regex.length() >= 4))
+        {
+            final String containsLiteral = getLiteral(regex.substring(2, regex.length() - 2));
+
+            if (containsLiteral != null)
+            {
+                final Pattern pattern = Pattern.compile(regex);
+
+                return value -> hasLineTerminator(value) ? pattern.matcher(value).matches() : value.contains(containsLiteral);
+            }
+        }
+
+        if (regex.endsWith(anyCharacters))
+        {
+            final String startsWithLiteral = getLiteral(regex.substring(0, regex.length() - 2));
+
+            if (startsWithLiteral != null)
+            {
+                final Pattern pattern = Pattern.compile(regex);
+
+                return value -> hasLineTerminator(value) ? pattern.matcher(value).matches() : value.startsWith(startsWithLiteral);
+            }
+        }
+
+        if (regex.startsWith(anyCharacters))
+        {
+            final String endsWithLiteral = getLiteral(regex.substring(2));
+
+            if (endsWithLiteral != null)
+            {
+                final Pattern pattern = Pattern.compile(regex);
+
+                return value -> hasLineTerminator(value) ? pattern.matcher(value).matches() : value.endsWith(endsWithLiteral);
+            }
+        }
+
+        final Pattern pattern = Pattern.compile(regex);
+
+        return value -> pattern.matcher(value).matches();
+    }
+
+
+    /**
+     * Return the literal string from a regular expression created by Pattern.quote().
+     *
+     * @param regex regular expression
+     * @return literal or null if the regular expression is not a single quoted literal
+     */
+    private static String getLiteral(String regex)
+    {
+        if ((regex.startsWith(literalStart)) &&
+            (regex.endsWith(literalEnd)) &&
+            (regex.length() >= 4) &&
+            (regex.indexOf(literalEnd) == regex.length() - 2))
+        {
+            return regex.substring(2, regex.length() - 2);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * The "." in a regular expression does not match line terminators so values that contain them must
+     * be tested with the compiled pattern to give the same result as String.matches().
+     *
+     * @param value value to test
+     * @return boolean
+     */
+    private static boolean hasLineTerminator(String value)
+    {
+        for (int i = 0; i < value.length(); i++)
+        {
+            char character = value.charAt(i);
+
+            if ((character == 0x000A) || (character == 0x000D) || (character == 0x0085) ||
+                (character == 0x2028) || (character == 0x2029))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
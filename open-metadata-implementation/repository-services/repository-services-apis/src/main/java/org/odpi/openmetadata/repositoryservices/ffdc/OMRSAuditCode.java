@@ -348,6 +348,15 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                                 "The connector will not be able to support access to the open metadata repositories connected via the cohort.",
                                 "Review the message to discover why the connector failed to start."),
 
+    OPEN_METADATA_TOPIC_LISTENER_STATISTICS("OMRS-AUDIT-0044",
+                                            OMRSAuditLogRecordSeverity.INFO,
+                                            "The listener thread for topic {0} distributed {1} events with an average event-to-listener " +
+                                                    "latency of {2} milliseconds, a maximum latency of {3} milliseconds and a maximum " +
+                                                    "sustained rate of {4} events per second",
+                                            "The listener thread is reporting the statistics for the events it has passed to the topic listeners.",
+                                            "Use these statistics to judge whether the server is keeping up with the events on the topic.  " +
+                                                    "High latencies show that the topic listeners are slow to process the events."),
+
     PROCESSING_ARCHIVE("OMRS-AUDIT-0050",
                        OMRSAuditLogRecordSeverity.INFO,
                        "The Open Metadata Repository Services (OMRS) is about to process open metadata archive {0}",
@@ -393,6 +402,20 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                               "or a Repository Proxy that connects to a third party repository that supports this type of metadata.  " +
                               "Detail of the different types of servers are found in the admin guide."),
 
+    ARCHIVE_LOAD_PROGRESS("OMRS-AUDIT-0056",
+                          OMRSAuditLogRecordSeverity.INFO,
+                          "The Open Metadata Repository Services (OMRS) has loaded {0} instances from open metadata archive {1} into the local repository",
+                          "The local server is loading the instances from an open metadata archive into its local repository in batches.",
+                          "No action is required.  This message reports the progress of loading a large archive."),
+
+    ARCHIVE_LOAD_FAILED("OMRS-AUDIT-0057",
+                        OMRSAuditLogRecordSeverity.ERROR,
+                        "The Open Metadata Repository Services (OMRS) stopped processing open metadata archive {0} after loading {1} instances because the archive store returned a {2} exception with message {3}",
+                        "The local server was unable to read the rest of the open metadata archive.  The types and instances " +
+                                "processed before the error remain in the local repository.",
+                        "Use the message from the exception to correct the archive, or the archive store's configuration, and then " +
+                                "load the archive again.  The instances that were already loaded are updated rather than duplicated."),
+
     REGISTERED_WITH_COHORT("OMRS-AUDIT-0060",
                            OMRSAuditLogRecordSeverity.COHORT,
                            "Registering with open metadata repository cohort {0} using metadata collection id {1}",
@@ -927,6 +950,12 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                                        "The local server is processing a federated query to all members of the connected cohorts.  However one of the members is not responding correctly and so it has been skipped from the call. The remote server is probably not running, or has been incorrectly configured.",
                                        "Validate the availability and configuration of the remote server.  It may be a temporary failure due to an outage in the network or the server itself.  However, if the remote server is not configured correctly, or has changed its metadata collection id, then this wil lbe a permanent error and this server will not be included in the federated query until it is fixed."),
 
+    FEDERATED_MEMBER_TIMEOUT("OMRS-AUDIT-0402",
+                             OMRSAuditLogRecordSeverity.ACTION,
+                             "Repository {0} did not respond to federated request {1} within {2} milliseconds and its results have been skipped",
+                             "The local server is processing a federated query to all members of the connected cohorts in parallel.  However one of the members has not responded within the configured time limit and so its request has been cancelled.  The results returned to the caller do not include any metadata from this repository.",
+                             "Validate the availability and performance of the remote server.  It may be a temporary failure due to a heavy load on the network or the server itself.  If the remote server is consistently slow then consider increasing the federationMemberTimeout configuration property of the enterprise repository connector."),
+
     PROCESS_UNKNOWN_EVENT("OMRS-AUDIT-8001",
                           OMRSAuditLogRecordSeverity.ERROR,
                           "Received unknown event: {0}",
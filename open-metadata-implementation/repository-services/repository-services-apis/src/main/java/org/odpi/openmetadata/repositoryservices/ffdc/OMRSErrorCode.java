@@ -389,6 +389,10 @@ public enum OMRSErrorCode implements ExceptionMessageSet
             "The OMRS repository connector operation {0} does not allow a time range from {1} to {2}",
             "The system is unable continue processing the request because the time range provided does not overlap.",
             "Correct the code in the caller's method (potentially just reverse the times) and retry the request."),
+    NULL_INSTANCE_GRAPH(400, "OMRS-REPOSITORY-400-084",
+            "The OMRS repository connector operation {0} from repository {1} has been called with a null or empty {2} parameter",
+            "The system is unable to continue processing the request because there are no instances to create.",
+            "Correct the code in the caller's method so that the instance graph contains at least one entity or relationship and retry the request."),
 
     NULL_USER_NAME(400, "OMRS-REST-API-400-001",
             "The OMRS REST API for server {0} has been called with a null user name (userId)",
@@ -581,6 +585,18 @@ public enum OMRSErrorCode implements ExceptionMessageSet
             "The system is unable to store the log record to this destination because it is not able to" +
                                               " convert its contents into a suitable format.",
             "Investigate and correct the cause of the conversion failure."),
+    NULL_AUDIT_LOG_QUERY_PARAMETER(400, "OMRS-AUDIT-LOG-400-009",
+            "A null value has been passed on the {0} parameter of the {1} query to the Audit Log destination {2}",
+            "The system is unable to process the query request and throws the InvalidParameterException.",
+            "Correct the caller's code to supply a value for the parameter and retry the query."),
+    AUDIT_LOG_QUERY_REVERSED_TIME_PERIOD(400, "OMRS-AUDIT-LOG-400-010",
+            "The start date {0} passed on the {1} query to the Audit Log destination {2} is after the end date {3}",
+            "The system is unable to process the query request because the time period it covers is empty and throws the InvalidParameterException.",
+            "Correct the caller's code so that the start date is before the end date and retry the query."),
+    BAD_AUDIT_LOG_QUERY_PAGING(400, "OMRS-AUDIT-LOG-400-011",
+            "The offset {0} and maximum records {1} passed on the {2} query to the Audit Log destination {3} are not valid",
+            "The system is unable to process the query request because it can not select the requested page of records and throws the PagingErrorException.",
+            "Correct the caller's code so that neither paging parameter is negative and retry the query."),
     REPOSITORY_NOT_AVAILABLE(404, "OMRS-REPOSITORY-404-001",
             "The open metadata repository connector for server {0} is not active and is unable to service the {1} request",
             "The system is unable to retrieve any metadata properties from this repository.",
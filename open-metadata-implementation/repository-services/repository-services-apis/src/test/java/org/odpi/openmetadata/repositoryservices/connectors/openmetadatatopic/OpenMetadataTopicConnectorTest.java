@@ -0,0 +1,124 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+/**
+ * OpenMetadataTopicConnectorTest verifies that the listener thread is woken up when new events are signalled
+ * and that it reports statistics about the events it distributes.
+ */
+public class OpenMetadataTopicConnectorTest
+{
+    public OpenMetadataTopicConnectorTest()
+    {
+    }
+
+
+    /**
+     * Validate that signalled events are delivered without waiting for the sleep time and that every
+     * event is counted.
+     *
+     * @throws Exception problem with the connector
+     */
+    @Test public void testSignalledEventsAreDelivered() throws Exception
+    {
+        final int eventCount = 500;
+
+        TestTopicConnector connector = new TestTopicConnector(eventCount);
+
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put("sleepTime", 60000);
+
+        Connection connection = new Connection();
+        connection.setConfigurationProperties(configurationProperties);
+
+        connector.initialize("testConnector", new ConnectionProperties(connection));
+        connector.registerListener(event -> { });
+        connector.start();
+
+        try
+        {
+            /*
+             * Wait for the listener thread to find the topic empty, after which it parks for the sleep time.
+             */
+            assertTrue(connector.firstPoll.await(10, TimeUnit.SECONDS));
+
+            for (int i = 0; i < eventCount; i++)
+            {
+                connector.sendEvent("event" + i);
+            }
+
+            /*
+             * The events are counted down after the statistics are updated.
+             */
+            assertTrue(connector.distributed.await(10, TimeUnit.SECONDS));
+
+            assertEquals(connector.getEventsDistributedCount(), eventCount);
+            assertTrue(connector.getMaximumEventsPerSecond() > 0);
+            assertTrue(connector.getMaximumEventLatency() >= connector.getAverageEventLatency());
+        }
+        finally
+        {
+            connector.disconnect();
+        }
+    }
+
+
+    /**
+     * Topic connector that buffers the events it is sent and signals when the listener thread first polls
+     * the topic and when each event has been distributed.
+     */
+    private static class TestTopicConnector extends OpenMetadataTopicConnector
+    {
+        private final CountDownLatch firstPoll = new CountDownLatch(1);
+        private final CountDownLatch distributed;
+        private List<IncomingEvent>  buffer    = new ArrayList<>();
+
+        TestTopicConnector(int eventCount)
+        {
+            distributed = new CountDownLatch(eventCount);
+        }
+
+        @Override
+        public void sendEvent(String event)
+        {
+            synchronized (this)
+            {
+                buffer.add(new IncomingEvent(event, event));
+            }
+
+            notifyIncomingEvents();
+        }
+
+        @Override
+        protected synchronized List<IncomingEvent> checkForIncomingEvents()
+        {
+            List<IncomingEvent> events = buffer;
+
+            buffer = new ArrayList<>();
+            firstPoll.countDown();
+
+            return events;
+        }
+
+        @Override
+        protected void distributeEvent(IncomingEvent event)
+        {
+            super.distributeEvent(event);
+            distributed.countDown();
+        }
+    }
+}
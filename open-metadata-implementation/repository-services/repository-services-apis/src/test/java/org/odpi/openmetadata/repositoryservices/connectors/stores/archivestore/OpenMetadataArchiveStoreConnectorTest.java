@@ -4,9 +4,12 @@ package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
 
 import org.testng.annotations.Test;
 
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
 /**
- * OpenMetadataArchiveStoreConnectorTest just tests the null constructor and the fact that the connector
- * is auditable.
+ * OpenMetadataArchiveStoreConnectorTest tests the null constructor, the fact that the connector
+ * is auditable and the default streaming of an empty archive.
  */
 public class OpenMetadataArchiveStoreConnectorTest
 {
@@ -16,4 +19,13 @@ public class OpenMetadataArchiveStoreConnectorTest
 
        connector.setAuditLog(null);
    }
+
+
+   @Test public void testStreamEmptyArchive()
+   {
+       OpenMetadataArchiveStoreConnector connector = new MockOpenMetadataArchiveStoreConnector();
+
+       assertFalse(connector.streamArchiveContents(null));
+       assertEquals(connector.getInstanceLoadWorkers(), 1);
+   }
 }
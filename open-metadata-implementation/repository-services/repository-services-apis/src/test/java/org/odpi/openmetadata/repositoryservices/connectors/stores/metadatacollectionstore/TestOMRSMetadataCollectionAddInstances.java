@@ -0,0 +1,270 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests for the default implementation of addInstances.
+ */
+public class TestOMRSMetadataCollectionAddInstances
+{
+    @Test
+    public void testRelationshipsLinkToNewEntities() throws Exception
+    {
+        TestMetadataCollection metadataCollection = new TestMetadataCollection(true);
+
+        InstanceGraph newInstances = metadataCollection.addInstances("testUser",
+                                                                     new InstanceGraph(Arrays.asList(getEntity("temp1"), getEntity("temp2")),
+                                                                                       Collections.singletonList(getRelationship("temp1", "existing"))));
+
+        assertEquals(newInstances.getEntities().size(), 2);
+        assertEquals(newInstances.getEntities().get(0).getGUID(), "entity1");
+        assertEquals(newInstances.getEntities().get(1).getGUID(), "entity2");
+        assertEquals(newInstances.getRelationships().size(), 1);
+        assertEquals(metadataCollection.calls, Arrays.asList("addEntity",
+                                                             "addEntity",
+                                                             "addRelationship entity1 existing"));
+    }
+
+
+    @Test
+    public void testFailureRemovesCreatedInstances() throws Exception
+    {
+        TestMetadataCollection metadataCollection = new TestMetadataCollection(true);
+
+        metadataCollection.unknownEntityGUID = "missing";
+
+        try
+        {
+            metadataCollection.addInstances("testUser",
+                                            new InstanceGraph(Collections.singletonList(getEntity("temp1")),
+                                                              Arrays.asList(getRelationship("temp1", "existing"),
+                                                                            getRelationship("temp1", "missing"))));
+            fail("Exception expected");
+        }
+        catch (EntityNotKnownException error)
+        {
+            assertSame(error, metadataCollection.thrownException);
+        }
+
+        /*
+         * The relationship is removed before the entity.
+         */
+        assertEquals(metadataCollection.calls, Arrays.asList("addEntity",
+                                                             "addRelationship entity1 existing",
+                                                             "addRelationship entity1 missing",
+                                                             "deleteRelationship relationship1",
+                                                             "purgeRelationship relationship1",
+                                                             "deleteEntity entity1",
+                                                             "purgeEntity entity1"));
+    }
+
+
+    @Test
+    public void testFailureRemovesCreatedInstancesWithoutSoftDelete() throws Exception
+    {
+        TestMetadataCollection metadataCollection = new TestMetadataCollection(false);
+
+        metadataCollection.unknownEntityGUID = "missing";
+
+        try
+        {
+            metadataCollection.addInstances("testUser",
+                                            new InstanceGraph(Collections.singletonList(getEntity("temp1")),
+                                                              Collections.singletonList(getRelationship("temp1", "missing"))));
+            fail("Exception expected");
+        }
+        catch (EntityNotKnownException error)
+        {
+            assertSame(error, metadataCollection.thrownException);
+        }
+
+        assertEquals(metadataCollection.calls, Arrays.asList("addEntity",
+                                                             "addRelationship entity1 missing",
+                                                             "purgeEntity entity1"));
+    }
+
+
+    private EntityDetail getEntity(String guid)
+    {
+        EntityDetail entity = new EntityDetail();
+        InstanceType type   = new InstanceType();
+
+        type.setTypeDefGUID("entityTypeGUID");
+        type.setTypeDefName("EntityType");
+
+        entity.setGUID(guid);
+        entity.setType(type);
+
+        return entity;
+    }
+
+
+    private Relationship getRelationship(String entityOneGUID,
+                                         String entityTwoGUID)
+    {
+        Relationship relationship = new Relationship();
+        InstanceType type         = new InstanceType();
+        EntityProxy  entityOne    = new EntityProxy();
+        EntityProxy  entityTwo    = new EntityProxy();
+
+        type.setTypeDefGUID("relationshipTypeGUID");
+        type.setTypeDefName("RelationshipType");
+        entityOne.setGUID(entityOneGUID);
+        entityTwo.setGUID(entityTwoGUID);
+
+        relationship.setType(type);
+        relationship.setEntityOneProxy(entityOne);
+        relationship.setEntityTwoProxy(entityTwo);
+
+        return relationship;
+    }
+
+
+    /**
+     * TestMetadataCollection records the calls made by the default implementation of addInstances.
+     */
+    private static class TestMetadataCollection extends OMRSMetadataCollectionBase
+    {
+        private final boolean            supportsSoftDelete;
+        private final List<String>       calls             = new ArrayList<>();
+        private String                   unknownEntityGUID = null;
+        private EntityNotKnownException  thrownException   = null;
+        private int                      entityCount       = 0;
+        private int                      relationshipCount = 0;
+
+
+        TestMetadataCollection(boolean supportsSoftDelete)
+        {
+            super(null, "testRepository", null, null, "testMetadataCollectionId");
+
+            this.supportsSoftDelete = supportsSoftDelete;
+        }
+
+
+        @Override
+        public EntityDetail addEntity(String               userId,
+                                      String               entityTypeGUID,
+                                      InstanceProperties   initialProperties,
+                                      List<Classification> initialClassifications,
+                                      InstanceStatus       initialStatus)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entityCount++;
+            entity.setGUID("entity" + entityCount);
+
+            calls.add("addEntity");
+            return entity;
+        }
+
+
+        @Override
+        public Relationship addRelationship(String             userId,
+                                            String             relationshipTypeGUID,
+                                            InstanceProperties initialProperties,
+                                            String             entityOneGUID,
+                                            String             entityTwoGUID,
+                                            InstanceStatus     initialStatus) throws EntityNotKnownException
+        {
+            calls.add("addRelationship " + entityOneGUID + " " + entityTwoGUID);
+
+            if (entityTwoGUID.equals(unknownEntityGUID))
+            {
+                thrownException = new EntityNotKnownException(OMRSErrorCode.NULL_INSTANCE_GRAPH.getMessageDefinition("addRelationship",
+                                                                                                                    "testRepository",
+                                                                                                                    "entityTwoGUID"),
+                                                              this.getClass().getName(),
+                                                              "addRelationship");
+                throw thrownException;
+            }
+
+            Relationship relationship = new Relationship();
+
+            relationshipCount++;
+            relationship.setGUID("relationship" + relationshipCount);
+
+            return relationship;
+        }
+
+
+        @Override
+        public EntityDetail deleteEntity(String userId,
+                                         String typeDefGUID,
+                                         String typeDefName,
+                                         String obsoleteEntityGUID) throws FunctionNotSupportedException
+        {
+            this.checkSoftDelete("deleteEntity");
+
+            calls.add("deleteEntity " + obsoleteEntityGUID);
+            return null;
+        }
+
+
+        @Override
+        public void purgeEntity(String userId,
+                                String typeDefGUID,
+                                String typeDefName,
+                                String deletedEntityGUID)
+        {
+            calls.add("purgeEntity " + deletedEntityGUID);
+        }
+
+
+        @Override
+        public Relationship deleteRelationship(String userId,
+                                               String typeDefGUID,
+                                               String typeDefName,
+                                               String obsoleteRelationshipGUID) throws FunctionNotSupportedException
+        {
+            this.checkSoftDelete("deleteRelationship");
+
+            calls.add("deleteRelationship " + obsoleteRelationshipGUID);
+            return null;
+        }
+
+
+        @Override
+        public void purgeRelationship(String userId,
+                                      String typeDefGUID,
+                                      String typeDefName,
+                                      String deletedRelationshipGUID)
+        {
+            calls.add("purgeRelationship " + deletedRelationshipGUID);
+        }
+
+
+        private void checkSoftDelete(String methodName) throws FunctionNotSupportedException
+        {
+            if (! supportsSoftDelete)
+            {
+                throw new FunctionNotSupportedException(OMRSErrorCode.METHOD_NOT_IMPLEMENTED.getMessageDefinition(methodName,
+                                                                                                                 this.getClass().getName(),
+                                                                                                                 "testRepository"),
+                                                        this.getClass().getName(),
+                                                        methodName);
+            }
+        }
+    }
+}
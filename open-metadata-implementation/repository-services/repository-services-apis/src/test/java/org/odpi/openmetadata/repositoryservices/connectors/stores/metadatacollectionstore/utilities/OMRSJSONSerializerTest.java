@@ -0,0 +1,120 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * OMRSJSONSerializerTest verifies that OMRSJSONSerializer produces the same JSON as a new ObjectMapper
+ * and reuses its readers.
+ */
+public class OMRSJSONSerializerTest
+{
+    public OMRSJSONSerializerTest()
+    {
+    }
+
+
+    /**
+     * Validate that the JSON is the same as the JSON from a new ObjectMapper and that it can be read back.
+     *
+     * @throws Exception problem with the serialization
+     */
+    @Test public void testRoundTrip() throws Exception
+    {
+        InstanceProperties properties = getProperties();
+
+        String json = OMRSJSONSerializer.writeValueAsString(properties);
+
+        assertEquals(json, new ObjectMapper().writeValueAsString(properties));
+        assertEquals(OMRSJSONSerializer.readValue(json, InstanceProperties.class), properties);
+    }
+
+
+    /**
+     * Validate that the same reader is returned for repeated requests.
+     */
+    @Test public void testReaderIsCached()
+    {
+        assertSame(OMRSJSONSerializer.getReader(InstanceProperties.class), OMRSJSONSerializer.getReader(InstanceProperties.class));
+        assertSame(OMRSJSONSerializer.getReader(new TypeReference<Map<String, String>>() {}),
+                   OMRSJSONSerializer.getReader(new TypeReference<Map<String, String>>() {}));
+    }
+
+
+    /**
+     * Measure the bytes allocated by the calling thread to serialize and parse a batch of properties, first with
+     * a new ObjectMapper for each call (the previous behaviour) and then with the shared serializer.
+     * The shared serializer must allocate a small fraction of the memory since the introspection of the beans is
+     * only done once.
+     *
+     * @throws Exception problem with the serialization
+     */
+    @Test public void testSharedSerializerAllocatesLess() throws Exception
+    {
+        java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+        if ((! (threadBean instanceof com.sun.management.ThreadMXBean)) ||
+            (! ((com.sun.management.ThreadMXBean)threadBean).isThreadAllocatedMemorySupported()))
+        {
+            throw new SkipException("Thread allocation measurement is not supported by this JVM");
+        }
+
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean)threadBean;
+        long                            threadId       = Thread.currentThread().getId();
+        InstanceProperties              properties     = getProperties();
+        final int                       iterations     = 200;
+
+        /*
+         * Warm up both paths so class loading is not counted.
+         */
+        OMRSJSONSerializer.readValue(OMRSJSONSerializer.writeValueAsString(properties), InstanceProperties.class);
+        new ObjectMapper().readValue(new ObjectMapper().writeValueAsString(properties), InstanceProperties.class);
+
+        long startBytes = allocationBean.getThreadAllocatedBytes(threadId);
+
+        for (int i = 0; i < iterations; i++)
+        {
+            new ObjectMapper().readValue(new ObjectMapper().writeValueAsString(properties), InstanceProperties.class);
+        }
+
+        long newMapperBytes = allocationBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        startBytes = allocationBean.getThreadAllocatedBytes(threadId);
+
+        for (int i = 0; i < iterations; i++)
+        {
+            OMRSJSONSerializer.readValue(OMRSJSONSerializer.writeValueAsString(properties), InstanceProperties.class);
+        }
+
+        long sharedBytes = allocationBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        assertTrue(sharedBytes * 4 < newMapperBytes,
+                   "Shared serializer allocated " + sharedBytes + " bytes; new mappers allocated " + newMapperBytes + " bytes");
+    }
+
+
+    private InstanceProperties getProperties()
+    {
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue("test");
+
+        InstanceProperties properties = new InstanceProperties();
+        properties.setProperty("qualifiedName", propertyValue);
+
+        return properties;
+    }
+}
@@ -0,0 +1,79 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import org.testng.annotations.Test;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.testng.Assert.*;
+
+/**
+ * OMRSPatternCacheTest verifies that OMRSPatternCache gives the same results as String.matches()
+ */
+public class OMRSPatternCacheTest
+{
+    private final String[] values = { "", "abc", "xabcx", "abcx", "xabc", "ab", "ABC", "x\nabc", "abc\nx", "a.c", "(?i)abc" };
+
+    private final String[] regexes = { Pattern.quote("abc"),
+                                       ".*" + Pattern.quote("abc") + ".*",
+                                       Pattern.quote("abc") + ".*",
+                                       ".*" + Pattern.quote("abc"),
+                                       "(?i)" + Pattern.quote("abc"),
+                                       Pattern.quote(""),
+                                       Pattern.quote("a.c"),
+                                       Pattern.quote("a\\Ec"),
+                                       "a.c",
+                                       ".*",
+                                       "ab.*" };
+
+
+    public OMRSPatternCacheTest()
+    {
+    }
+
+
+    /**
+     * Validate that each combination of value and regular expression matches in the same way as String.matches().
+     */
+    @Test public void testMatchesIsEquivalentToStringMatches()
+    {
+        for (String regex : regexes)
+        {
+            for (String value : values)
+            {
+                assertEquals(OMRSPatternCache.matches(value, regex), value.matches(regex), "value=" + value + " regex=" + regex);
+            }
+        }
+    }
+
+
+    /**
+     * Validate that the same matcher is returned for repeated requests.
+     */
+    @Test public void testMatcherIsCached()
+    {
+        String regex = ".*" + Pattern.quote("cached") + ".*";
+
+        assertSame(OMRSPatternCache.getMatcher(regex), OMRSPatternCache.getMatcher(regex));
+    }
+
+
+    /**
+     * Validate that invalid regular expressions are rejected.
+     */
+    @Test public void testInvalidRegex()
+    {
+        try
+        {
+            OMRSPatternCache.validate("[abc");
+            fail();
+        }
+        catch (PatternSyntaxException error)
+        {
+            // expected
+        }
+    }
+}
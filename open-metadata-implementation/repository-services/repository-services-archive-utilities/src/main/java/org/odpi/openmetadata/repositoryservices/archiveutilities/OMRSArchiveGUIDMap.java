@@ -2,7 +2,7 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.archiveutilities;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSJSONSerializer;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,7 +45,6 @@ public class OMRSArchiveGUIDMap
     private void loadGUIDs()
     {
         File         idFile = new File(guidMapFileName);
-        ObjectMapper objectMapper = new ObjectMapper();
 
         try
         {
@@ -53,7 +52,7 @@ public class OMRSArchiveGUIDMap
 
             String idFileContents = FileUtils.readFileToString(idFile, "UTF-8");
 
-            idToGUIDMap = objectMapper.readValue(idFileContents, Map.class);
+            idToGUIDMap = OMRSJSONSerializer.readValue(idFileContents, Map.class);
         }
         catch (Exception   error)
         {
@@ -116,7 +115,6 @@ public class OMRSArchiveGUIDMap
     public void  saveGUIDs()
     {
         File         idFile = new File(guidMapFileName);
-        ObjectMapper objectMapper = new ObjectMapper();
 
         try
         {
@@ -130,7 +128,7 @@ public class OMRSArchiveGUIDMap
             {
                 log.debug("Writing id file " + guidMapFileName);
 
-                String mapContents = objectMapper.writeValueAsString(idToGUIDMap);
+                String mapContents = OMRSJSONSerializer.writeValueAsString(idToGUIDMap);
 
                 FileUtils.writeStringToFile(idFile, mapContents, (String)null,false);
             }
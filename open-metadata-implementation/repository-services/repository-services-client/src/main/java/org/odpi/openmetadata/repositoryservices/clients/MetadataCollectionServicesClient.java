@@ -22,6 +22,8 @@ import org.odpi.openmetadata.repositoryservices.rest.properties.*;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * The MetadataCollectionServicesClient represents a remote metadata repository that supports the OMRS Repository REST API.
@@ -1197,13 +1199,7 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
                                                                            userId,
                                                                            guid);
 
-        this.detectAndThrowInvalidParameterException(methodName, restResult);
-        this.detectAndThrowEntityNotKnownException(methodName, restResult);
-        this.detectAndThrowEntityProxyOnlyException(methodName, restResult);
-        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
-        this.detectAndThrowRepositoryErrorException(methodName, restResult);
-
-        return restResult.getEntity();
+        return this.getEntityDetailFromRESTResult(methodName, restResult);
     }
 
 
@@ -1581,61 +1577,25 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
                                                                                                 FunctionNotSupportedException,
                                                                                                 UserNotAuthorizedException
     {
-        final String       methodName = "findEntitiesByProperty";
-        EntityListResponse restResult;
+        final String methodName = "findEntitiesByProperty";
 
-        if (asOfTime == null)
-        {
-            final String              operationSpecificURL  = "instances/entities/by-property";
-            EntityPropertyFindRequest findRequestParameters = new EntityPropertyFindRequest();
+        EntityPropertyFindRequest findRequestParameters = this.getEntityPropertyFindRequest(entityTypeGUID,
+                                                                                            matchProperties,
+                                                                                            matchCriteria,
+                                                                                            fromEntityElement,
+                                                                                            limitResultsByStatus,
+                                                                                            limitResultsByClassification,
+                                                                                            asOfTime,
+                                                                                            sequencingProperty,
+                                                                                            sequencingOrder,
+                                                                                            pageSize);
 
-            findRequestParameters.setTypeGUID(entityTypeGUID);
-            findRequestParameters.setMatchProperties(matchProperties);
-            findRequestParameters.setMatchCriteria(matchCriteria);
-            findRequestParameters.setOffset(fromEntityElement);
-            findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
-            findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
-            findRequestParameters.setSequencingOrder(sequencingOrder);
-            findRequestParameters.setSequencingProperty(sequencingProperty);
-            findRequestParameters.setPageSize(pageSize);
-
-            restResult = this.callEntityListPostRESTCall(methodName,
-                                                         restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
-                                                         findRequestParameters,
-                                                         userId);
-        }
-        else
-        {
-            final String                        operationSpecificURL  = "instances/entities/by-property/history";
-            EntityPropertyHistoricalFindRequest findRequestParameters = new EntityPropertyHistoricalFindRequest();
-
-            findRequestParameters.setTypeGUID(entityTypeGUID);
-            findRequestParameters.setMatchProperties(matchProperties);
-            findRequestParameters.setMatchCriteria(matchCriteria);
-            findRequestParameters.setAsOfTime(asOfTime);
-            findRequestParameters.setOffset(fromEntityElement);
-            findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
-            findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
-            findRequestParameters.setSequencingOrder(sequencingOrder);
-            findRequestParameters.setSequencingProperty(sequencingProperty);
-            findRequestParameters.setPageSize(pageSize);
-
-            restResult = this.callEntityListPostRESTCall(methodName,
-                                                         restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
-                                                         findRequestParameters,
-                                                         userId);
-
-        }
-
-        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
-        this.detectAndThrowInvalidParameterException(methodName, restResult);
-        this.detectAndThrowTypeErrorException(methodName, restResult);
-        this.detectAndThrowPropertyErrorException(methodName, restResult);
-        this.detectAndThrowPagingErrorException(methodName, restResult);
-        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
-        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+        EntityListResponse restResult = this.callEntityListPostRESTCall(methodName,
+                                                                        restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + this.getFindByPropertyURL("entities", asOfTime),
+                                                                        findRequestParameters,
+                                                                        userId);
 
-        return restResult.getEntities();
+        return this.getEntitiesFromFindRESTResult(methodName, restResult);
     }
 
 
@@ -1920,12 +1880,7 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
                                                                            userId,
                                                                            guid);
 
-        this.detectAndThrowInvalidParameterException(methodName, restResult);
-        this.detectAndThrowRelationshipNotKnownException(methodName, restResult);
-        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
-        this.detectAndThrowRepositoryErrorException(methodName, restResult);
-
-        return restResult.getRelationship();
+        return this.getRelationshipFromRESTResult(methodName, restResult);
     }
 
 
@@ -2194,60 +2149,24 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
                                                                                                       FunctionNotSupportedException,
                                                                                                       UserNotAuthorizedException
     {
-        final String             methodName  = "findRelationshipsByProperty";
-        RelationshipListResponse restResult;
-
-        if (asOfTime == null)
-        {
-            final String operationSpecificURL = "instances/relationships/by-property";
-
-            PropertyMatchFindRequest findRequestParameters = new PropertyMatchFindRequest();
-
-            findRequestParameters.setTypeGUID(relationshipTypeGUID);
-            findRequestParameters.setMatchProperties(matchProperties);
-            findRequestParameters.setMatchCriteria(matchCriteria);
-            findRequestParameters.setOffset(fromRelationshipElement);
-            findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
-            findRequestParameters.setSequencingOrder(sequencingOrder);
-            findRequestParameters.setSequencingProperty(sequencingProperty);
-            findRequestParameters.setPageSize(pageSize);
-
-            restResult = this.callRelationshipListPostRESTCall(methodName,
-                                                               restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
-                                                               findRequestParameters,
-                                                               userId);
-        }
-        else
-        {
-            final String operationSpecificURL = "instances/relationships/by-property/history";
-
-            PropertyMatchHistoricalFindRequest findRequestParameters = new PropertyMatchHistoricalFindRequest();
-
-            findRequestParameters.setTypeGUID(relationshipTypeGUID);
-            findRequestParameters.setMatchProperties(matchProperties);
-            findRequestParameters.setMatchCriteria(matchCriteria);
-            findRequestParameters.setAsOfTime(asOfTime);
-            findRequestParameters.setOffset(fromRelationshipElement);
-            findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
-            findRequestParameters.setSequencingOrder(sequencingOrder);
-            findRequestParameters.setSequencingProperty(sequencingProperty);
-            findRequestParameters.setPageSize(pageSize);
+        final String methodName = "findRelationshipsByProperty";
 
-            restResult = this.callRelationshipListPostRESTCall(methodName,
-                                                               restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
-                                                               findRequestParameters,
-                                                               userId);
-        }
+        PropertyMatchFindRequest findRequestParameters = this.getRelationshipPropertyFindRequest(relationshipTypeGUID,
+                                                                                                 matchProperties,
+                                                                                                 matchCriteria,
+                                                                                                 fromRelationshipElement,
+                                                                                                 limitResultsByStatus,
+                                                                                                 asOfTime,
+                                                                                                 sequencingProperty,
+                                                                                                 sequencingOrder,
+                                                                                                 pageSize);
 
-        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
-        this.detectAndThrowInvalidParameterException(methodName, restResult);
-        this.detectAndThrowTypeErrorException(methodName, restResult);
-        this.detectAndThrowPropertyErrorException(methodName, restResult);
-        this.detectAndThrowPagingErrorException(methodName, restResult);
-        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
-        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+        RelationshipListResponse restResult = this.callRelationshipListPostRESTCall(methodName,
+                                                                                    restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + this.getFindByPropertyURL("relationships", asOfTime),
+                                                                                    findRequestParameters,
+                                                                                    userId);
 
-        return restResult.getRelationships();
+        return this.getRelationshipsFromFindRESTResult(methodName, restResult);
     }
 
 
@@ -2472,54 +2391,22 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
                                                                                   FunctionNotSupportedException,
                                                                                   UserNotAuthorizedException
     {
-        final String          methodName  = "getEntityNeighborhood";
-        InstanceGraphResponse restResult;
+        final String methodName = "getEntityNeighborhood";
 
-        if (asOfTime == null)
-        {
-            final String                  operationSpecificURL  = "instances/entities/from-entity/{1}/by-neighborhood?level={2}";
-            EntityNeighborhoodFindRequest findRequestParameters = new EntityNeighborhoodFindRequest();
+        EntityNeighborhoodFindRequest findRequestParameters = this.getEntityNeighborhoodFindRequest(entityTypeGUIDs,
+                                                                                                    relationshipTypeGUIDs,
+                                                                                                    limitResultsByStatus,
+                                                                                                    limitResultsByClassification,
+                                                                                                    asOfTime);
 
-            findRequestParameters.setEntityTypeGUIDs(entityTypeGUIDs);
-            findRequestParameters.setRelationshipTypeGUIDs(relationshipTypeGUIDs);
-            findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
-            findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
+        InstanceGraphResponse restResult = this.callInstanceGraphPostRESTCall(methodName,
+                                                                              restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + this.getEntityNeighborhoodURL(asOfTime),
+                                                                              findRequestParameters,
+                                                                              userId,
+                                                                              entityGUID,
+                                                                              level);
 
-            restResult = this.callInstanceGraphPostRESTCall(methodName,
-                                                            restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
-                                                            findRequestParameters,
-                                                            userId,
-                                                            entityGUID,
-                                                            level);
-        }
-        else
-        {
-            final String                            operationSpecificURL  = "instances/entities/from-entity/{1}/by-neighborhood/history?level={2}";
-            EntityNeighborhoodHistoricalFindRequest findRequestParameters = new EntityNeighborhoodHistoricalFindRequest();
-
-            findRequestParameters.setEntityTypeGUIDs(entityTypeGUIDs);
-            findRequestParameters.setRelationshipTypeGUIDs(relationshipTypeGUIDs);
-            findRequestParameters.setAsOfTime(asOfTime);
-            findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
-            findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
-
-            restResult = this.callInstanceGraphPostRESTCall(methodName,
-                                                            restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
-                                                            findRequestParameters,
-                                                            userId,
-                                                            entityGUID,
-                                                            level);
-        }
-
-        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
-        this.detectAndThrowInvalidParameterException(methodName, restResult);
-        this.detectAndThrowEntityNotKnownException(methodName, restResult);
-        this.detectAndThrowTypeErrorException(methodName, restResult);
-        this.detectAndThrowPropertyErrorException(methodName, restResult);
-        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
-        this.detectAndThrowRepositoryErrorException(methodName, restResult);
-
-        return this.getInstanceGraphFromRESTResult(restResult);
+        return this.getEntityNeighborhoodFromRESTResult(methodName, restResult);
     }
 
 
@@ -3367,6 +3254,70 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Create the new entities and relationships supplied in the instance graph as a single batch.  Each
+     * instance in the graph is a template for a new instance.  The guid of a template entity may be set to a
+     * temporary value that the relationships in the batch use to link to the new entity.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances templates for the new entities and relationships.
+     * @return instance graph containing the new entities and relationships in the same order as the templates.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                              hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity's type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                       the requested status.
+     * @throws EntityNotKnownException one of the entities identified by a relationship is not known in the
+     *                                   metadata collection or the batch.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph addInstances(String          userId,
+                                      InstanceGraph   instances) throws InvalidParameterException,
+                                                                        RepositoryErrorException,
+                                                                        TypeErrorException,
+                                                                        PropertyErrorException,
+                                                                        ClassificationErrorException,
+                                                                        StatusNotSupportedException,
+                                                                        EntityNotKnownException,
+                                                                        FunctionNotSupportedException,
+                                                                        UserNotAuthorizedException
+    {
+        final String methodName  = "addInstances";
+        final String operationSpecificURL = "instances/batch";
+
+        InstanceGraphRequest requestBody = new InstanceGraphRequest();
+        if (instances != null)
+        {
+            requestBody.setEntityElementList(instances.getEntities());
+            requestBody.setRelationshipElementList(instances.getRelationships());
+        }
+
+        InstanceGraphResponse restResult = this.callInstanceGraphPostRESTCall(methodName,
+                                                                              restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                              requestBody,
+                                                                              userId);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowClassificationErrorException(methodName, restResult);
+        this.detectAndThrowEntityNotKnownException(methodName, restResult);
+        this.detectAndThrowStatusNotSupportedException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return this.getInstanceGraphFromRESTResult(restResult);
+    }
+
+
     /**
      * Save a new relationship that is sourced from an external technology.  The external
      * technology is identified by a GUID and a name.  These can be recorded in a
@@ -4956,6 +4907,203 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /* ======================================================================
+     * Asynchronous calls: the most frequently used retrieval requests can be issued without waiting for the
+     * response so a caller that fans out to many repositories does not need a thread for each outstanding request.
+     * Each method returns a future that completes with the same result as the equivalent synchronous method.  If
+     * the synchronous method would throw an exception, the future completes exceptionally with a
+     * CompletionException wrapping that exception.
+     */
+
+
+    /**
+     * Return the header, classifications and properties of a specific entity without waiting for the response.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guid   String unique identifier for the entity.
+     * @return future for the EntityDetail structure.
+     * @see #getEntityDetail(String, String)
+     */
+    public CompletableFuture<EntityDetail> getEntityDetailAsync(String userId,
+                                                                String guid)
+    {
+        final String methodName  = "getEntityDetail";
+        final String operationSpecificURL = "instances/entity/{1}";
+
+        return this.callGetRESTCallAsync(methodName,
+                                         EntityDetailResponse.class,
+                                         restResult -> this.getEntityDetailFromRESTResult(methodName, restResult),
+                                         restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                         userId,
+                                         guid);
+    }
+
+
+    /**
+     * Return a requested relationship without waiting for the response.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guid String unique identifier for the relationship.
+     * @return future for the Relationship structure.
+     * @see #getRelationship(String, String)
+     */
+    public CompletableFuture<Relationship> getRelationshipAsync(String userId,
+                                                                String guid)
+    {
+        final String methodName  = "getRelationship";
+        final String operationSpecificURL = "instances/relationship/{1}";
+
+        return this.callGetRESTCallAsync(methodName,
+                                         RelationshipResponse.class,
+                                         restResult -> this.getRelationshipFromRESTResult(methodName, restResult),
+                                         restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                         userId,
+                                         guid);
+    }
+
+
+    /**
+     * Return a list of entities that match the supplied properties without waiting for the response.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties Optional list of entity properties to match.
+     * @param matchCriteria Enum defining how the match properties should be matched to the entities in the repository.
+     * @param fromEntityElement the starting element number of the entities to return.
+     * @param limitResultsByStatus Restricts the results to the listed statuses.  Null means all status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.
+     * @return future for the list of entities matching the supplied criteria
+     * @see #findEntitiesByProperty(String, String, InstanceProperties, MatchCriteria, int, List, List, Date, String, SequencingOrder, int)
+     */
+    public CompletableFuture<List<EntityDetail>> findEntitiesByPropertyAsync(String                    userId,
+                                                                             String                    entityTypeGUID,
+                                                                             InstanceProperties        matchProperties,
+                                                                             MatchCriteria             matchCriteria,
+                                                                             int                       fromEntityElement,
+                                                                             List<InstanceStatus>      limitResultsByStatus,
+                                                                             List<String>              limitResultsByClassification,
+                                                                             Date                      asOfTime,
+                                                                             String                    sequencingProperty,
+                                                                             SequencingOrder           sequencingOrder,
+                                                                             int                       pageSize)
+    {
+        final String methodName = "findEntitiesByProperty";
+
+        EntityPropertyFindRequest findRequestParameters = this.getEntityPropertyFindRequest(entityTypeGUID,
+                                                                                            matchProperties,
+                                                                                            matchCriteria,
+                                                                                            fromEntityElement,
+                                                                                            limitResultsByStatus,
+                                                                                            limitResultsByClassification,
+                                                                                            asOfTime,
+                                                                                            sequencingProperty,
+                                                                                            sequencingOrder,
+                                                                                            pageSize);
+
+        return this.callPostRESTCallAsync(methodName,
+                                          EntityListResponse.class,
+                                          restResult -> this.getEntitiesFromFindRESTResult(methodName, restResult),
+                                          restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + this.getFindByPropertyURL("entities", asOfTime),
+                                          findRequestParameters,
+                                          userId);
+    }
+
+
+    /**
+     * Return a list of relationships that match the requested properties without waiting for the response.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the relationship's type.  Null means all types.
+     * @param matchProperties Optional list of relationship properties to match.
+     * @param matchCriteria Enum defining how the properties should be matched to the relationships in the repository.
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     * @param limitResultsByStatus Restricts the results to the listed statuses.  Null means all status values.
+     * @param asOfTime Requests a historical query of the relationships.  Null means return the present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.
+     * @return future for the list of relationships
+     * @see #findRelationshipsByProperty(String, String, InstanceProperties, MatchCriteria, int, List, Date, String, SequencingOrder, int)
+     */
+    public CompletableFuture<List<Relationship>> findRelationshipsByPropertyAsync(String                    userId,
+                                                                                  String                    relationshipTypeGUID,
+                                                                                  InstanceProperties        matchProperties,
+                                                                                  MatchCriteria             matchCriteria,
+                                                                                  int                       fromRelationshipElement,
+                                                                                  List<InstanceStatus>      limitResultsByStatus,
+                                                                                  Date                      asOfTime,
+                                                                                  String                    sequencingProperty,
+                                                                                  SequencingOrder           sequencingOrder,
+                                                                                  int                       pageSize)
+    {
+        final String methodName = "findRelationshipsByProperty";
+
+        PropertyMatchFindRequest findRequestParameters = this.getRelationshipPropertyFindRequest(relationshipTypeGUID,
+                                                                                                 matchProperties,
+                                                                                                 matchCriteria,
+                                                                                                 fromRelationshipElement,
+                                                                                                 limitResultsByStatus,
+                                                                                                 asOfTime,
+                                                                                                 sequencingProperty,
+                                                                                                 sequencingOrder,
+                                                                                                 pageSize);
+
+        return this.callPostRESTCallAsync(methodName,
+                                          RelationshipListResponse.class,
+                                          restResult -> this.getRelationshipsFromFindRESTResult(methodName, restResult),
+                                          restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + this.getFindByPropertyURL("relationships", asOfTime),
+                                          findRequestParameters,
+                                          userId);
+    }
+
+
+    /**
+     * Return the entities and relationships that radiate out from the supplied entity GUID without waiting
+     * for the response.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.  Null means all types.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.  Null means all types.
+     * @param limitResultsByStatus Restricts the results to the listed statuses.  Null means all status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query.  Null means return the present values.
+     * @param level the number of the relationships out from the starting entity that the query will traverse.
+     * @return future for the sub-graph that represents the returned linked entities and their relationships.
+     * @see #getEntityNeighborhood(String, String, List, List, List, List, Date, int)
+     */
+    public CompletableFuture<InstanceGraph> getEntityNeighborhoodAsync(String               userId,
+                                                                       String               entityGUID,
+                                                                       List<String>         entityTypeGUIDs,
+                                                                       List<String>         relationshipTypeGUIDs,
+                                                                       List<InstanceStatus> limitResultsByStatus,
+                                                                       List<String>         limitResultsByClassification,
+                                                                       Date                 asOfTime,
+                                                                       int                  level)
+    {
+        final String methodName = "getEntityNeighborhood";
+
+        EntityNeighborhoodFindRequest findRequestParameters = this.getEntityNeighborhoodFindRequest(entityTypeGUIDs,
+                                                                                                    relationshipTypeGUIDs,
+                                                                                                    limitResultsByStatus,
+                                                                                                    limitResultsByClassification,
+                                                                                                    asOfTime);
+
+        return this.callPostRESTCallAsync(methodName,
+                                          InstanceGraphResponse.class,
+                                          restResult -> this.getEntityNeighborhoodFromRESTResult(methodName, restResult),
+                                          restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + this.getEntityNeighborhoodURL(asOfTime),
+                                          findRequestParameters,
+                                          userId,
+                                          entityGUID,
+                                          level);
+    }
+
+
     /*
      * ===============================
      * REST Client
@@ -5543,6 +5691,300 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Issue a GET REST call without waiting for the response.  The response is checked by the supplied
+     * processor once it arrives.
+     *
+     * @param <R> class of the REST response
+     * @param <T> class of the result
+     * @param methodName  name of the method being called
+     * @param returnClass class name of response object
+     * @param resultProcessor checks the response for errors and extracts the result
+     * @param operationSpecificURL  template of the URL for the REST API call with place-holders for the parameters
+     * @param params  a list of parameters that are slotted into the url template
+     * @return future for the result
+     */
+    private <R, T> CompletableFuture<T> callGetRESTCallAsync(String                   methodName,
+                                                             Class<R>                 returnClass,
+                                                             RESTResultProcessor<R,T> resultProcessor,
+                                                             String                   operationSpecificURL,
+                                                             Object...                params)
+    {
+        return restClient.callGetRESTCallAsync(methodName, returnClass, operationSpecificURL, params)
+                         .handle((restResult, error) -> this.processAsyncRESTResult(methodName, restResult, error, resultProcessor));
+    }
+
+
+    /**
+     * Issue a POST REST call without waiting for the response.  The response is checked by the supplied
+     * processor once it arrives.
+     *
+     * @param <R> class of the REST response
+     * @param <T> class of the result
+     * @param methodName  name of the method being called
+     * @param returnClass class name of response object
+     * @param resultProcessor checks the response for errors and extracts the result
+     * @param operationSpecificURL  template of the URL for the REST API call with place-holders for the parameters
+     * @param request request body object
+     * @param params  a list of parameters that are slotted into the url template
+     * @return future for the result
+     */
+    private <R, T> CompletableFuture<T> callPostRESTCallAsync(String                   methodName,
+                                                              Class<R>                 returnClass,
+                                                              RESTResultProcessor<R,T> resultProcessor,
+                                                              String                   operationSpecificURL,
+                                                              Object                   request,
+                                                              Object...                params)
+    {
+        return restClient.callPostRESTCallAsync(methodName, returnClass, operationSpecificURL, request, params)
+                         .handle((restResult, error) -> this.processAsyncRESTResult(methodName, restResult, error, resultProcessor));
+    }
+
+
+    /**
+     * Convert the outcome of an asynchronous REST call into the result of the future returned to the caller.
+     * Failures in the REST call stack are reported as a RepositoryErrorException in the same way as for the
+     * synchronous calls.
+     *
+     * @param <R> class of the REST response
+     * @param <T> class of the result
+     * @param methodName  name of the method being called
+     * @param restResult response from the REST call
+     * @param error exception from the REST call, or null if it succeeded
+     * @param resultProcessor checks the response for errors and extracts the result
+     * @return result
+     */
+    private <R, T> T processAsyncRESTResult(String                   methodName,
+                                            R                        restResult,
+                                            Throwable                error,
+                                            RESTResultProcessor<R,T> resultProcessor)
+    {
+        if (error != null)
+        {
+            if ((error instanceof CompletionException) && (error.getCause() != null))
+            {
+                error = error.getCause();
+            }
+
+            throw new CompletionException(new RepositoryErrorException(OMRSErrorCode.CLIENT_SIDE_REST_API_ERROR.getMessageDefinition(methodName,
+                                                                                                                                     repositoryName,
+                                                                                                                                     error.getMessage()),
+                                                                       this.getClass().getName(),
+                                                                       methodName,
+                                                                       error));
+        }
+
+        try
+        {
+            return resultProcessor.process(restResult);
+        }
+        catch (OMRSCheckedExceptionBase resultError)
+        {
+            throw new CompletionException(resultError);
+        }
+    }
+
+
+    /**
+     * RESTResultProcessor checks the response from an asynchronous REST call and extracts the result.
+     *
+     * @param <R> class of the REST response
+     * @param <T> class of the result
+     */
+    @FunctionalInterface
+    private interface RESTResultProcessor<R, T>
+    {
+        T process(R restResult) throws OMRSCheckedExceptionBase;
+    }
+
+
+    /*
+     * ============================================
+     * Building requests
+     * ============================================
+     */
+
+
+    /**
+     * Return the URL for a find by property request.
+     *
+     * @param instanceType "entities" or "relationships"
+     * @param asOfTime time for a historical query, or null for the current values
+     * @return operation specific URL
+     */
+    private String getFindByPropertyURL(String instanceType,
+                                        Date   asOfTime)
+    {
+        if (asOfTime == null)
+        {
+            return "instances/" + instanceType + "/by-property";
+        }
+
+        return "instances/" + instanceType + "/by-property/history";
+    }
+
+
+    /**
+     * Return the request body for a find entities by property request.
+     *
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties Optional list of entity properties to match.
+     * @param matchCriteria Enum defining how the match properties should be matched to the entities in the repository.
+     * @param fromEntityElement the starting element number of the entities to return.
+     * @param limitResultsByStatus Restricts the results to the listed statuses.  Null means all status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.
+     * @return request body
+     */
+    private EntityPropertyFindRequest getEntityPropertyFindRequest(String                    entityTypeGUID,
+                                                                   InstanceProperties        matchProperties,
+                                                                   MatchCriteria             matchCriteria,
+                                                                   int                       fromEntityElement,
+                                                                   List<InstanceStatus>      limitResultsByStatus,
+                                                                   List<String>              limitResultsByClassification,
+                                                                   Date                      asOfTime,
+                                                                   String                    sequencingProperty,
+                                                                   SequencingOrder           sequencingOrder,
+                                                                   int                       pageSize)
+    {
+        EntityPropertyFindRequest findRequestParameters;
+
+        if (asOfTime == null)
+        {
+            findRequestParameters = new EntityPropertyFindRequest();
+        }
+        else
+        {
+            EntityPropertyHistoricalFindRequest historicalFindRequestParameters = new EntityPropertyHistoricalFindRequest();
+
+            historicalFindRequestParameters.setAsOfTime(asOfTime);
+            findRequestParameters = historicalFindRequestParameters;
+        }
+
+        findRequestParameters.setTypeGUID(entityTypeGUID);
+        findRequestParameters.setMatchProperties(matchProperties);
+        findRequestParameters.setMatchCriteria(matchCriteria);
+        findRequestParameters.setOffset(fromEntityElement);
+        findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+        findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
+        findRequestParameters.setSequencingOrder(sequencingOrder);
+        findRequestParameters.setSequencingProperty(sequencingProperty);
+        findRequestParameters.setPageSize(pageSize);
+
+        return findRequestParameters;
+    }
+
+
+    /**
+     * Return the request body for a find relationships by property request.
+     *
+     * @param relationshipTypeGUID unique identifier (guid) for the relationship's type.  Null means all types.
+     * @param matchProperties Optional list of relationship properties to match.
+     * @param matchCriteria Enum defining how the properties should be matched to the relationships in the repository.
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     * @param limitResultsByStatus Restricts the results to the listed statuses.  Null means all status values.
+     * @param asOfTime Requests a historical query of the relationships.  Null means return the present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.
+     * @return request body
+     */
+    private PropertyMatchFindRequest getRelationshipPropertyFindRequest(String                    relationshipTypeGUID,
+                                                                        InstanceProperties        matchProperties,
+                                                                        MatchCriteria             matchCriteria,
+                                                                        int                       fromRelationshipElement,
+                                                                        List<InstanceStatus>      limitResultsByStatus,
+                                                                        Date                      asOfTime,
+                                                                        String                    sequencingProperty,
+                                                                        SequencingOrder           sequencingOrder,
+                                                                        int                       pageSize)
+    {
+        PropertyMatchFindRequest findRequestParameters;
+
+        if (asOfTime == null)
+        {
+            findRequestParameters = new PropertyMatchFindRequest();
+        }
+        else
+        {
+            PropertyMatchHistoricalFindRequest historicalFindRequestParameters = new PropertyMatchHistoricalFindRequest();
+
+            historicalFindRequestParameters.setAsOfTime(asOfTime);
+            findRequestParameters = historicalFindRequestParameters;
+        }
+
+        findRequestParameters.setTypeGUID(relationshipTypeGUID);
+        findRequestParameters.setMatchProperties(matchProperties);
+        findRequestParameters.setMatchCriteria(matchCriteria);
+        findRequestParameters.setOffset(fromRelationshipElement);
+        findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+        findRequestParameters.setSequencingOrder(sequencingOrder);
+        findRequestParameters.setSequencingProperty(sequencingProperty);
+        findRequestParameters.setPageSize(pageSize);
+
+        return findRequestParameters;
+    }
+
+
+    /**
+     * Return the URL for an entity neighborhood request.
+     *
+     * @param asOfTime time for a historical query, or null for the current values
+     * @return operation specific URL
+     */
+    private String getEntityNeighborhoodURL(Date asOfTime)
+    {
+        if (asOfTime == null)
+        {
+            return "instances/entities/from-entity/{1}/by-neighborhood?level={2}";
+        }
+
+        return "instances/entities/from-entity/{1}/by-neighborhood/history?level={2}";
+    }
+
+
+    /**
+     * Return the request body for an entity neighborhood request.
+     *
+     * @param entityTypeGUIDs list of entity types to include in the query results.  Null means all types.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.  Null means all types.
+     * @param limitResultsByStatus Restricts the results to the listed statuses.  Null means all status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query.  Null means return the present values.
+     * @return request body
+     */
+    private EntityNeighborhoodFindRequest getEntityNeighborhoodFindRequest(List<String>         entityTypeGUIDs,
+                                                                           List<String>         relationshipTypeGUIDs,
+                                                                           List<InstanceStatus> limitResultsByStatus,
+                                                                           List<String>         limitResultsByClassification,
+                                                                           Date                 asOfTime)
+    {
+        EntityNeighborhoodFindRequest findRequestParameters;
+
+        if (asOfTime == null)
+        {
+            findRequestParameters = new EntityNeighborhoodFindRequest();
+        }
+        else
+        {
+            EntityNeighborhoodHistoricalFindRequest historicalFindRequestParameters = new EntityNeighborhoodHistoricalFindRequest();
+
+            historicalFindRequestParameters.setAsOfTime(asOfTime);
+            findRequestParameters = historicalFindRequestParameters;
+        }
+
+        findRequestParameters.setEntityTypeGUIDs(entityTypeGUIDs);
+        findRequestParameters.setRelationshipTypeGUIDs(relationshipTypeGUIDs);
+        findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+        findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
+
+        return findRequestParameters;
+    }
+
+
     /*
      * ============================================
      * Extracting complex types from REST results
@@ -5550,6 +5992,166 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
      */
 
 
+    /**
+     * Check the response from a get entity detail request and return the entity.
+     *
+     * @param methodName name of the method being called
+     * @param restResult response from the REST call
+     * @return entity
+     * @throws InvalidParameterException  the guid is null.
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository.
+     * @throws EntityNotKnownException    the requested entity instance is not known in the metadata collection.
+     * @throws EntityProxyOnlyException   the requested entity instance is only a proxy in the metadata collection.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private EntityDetail getEntityDetailFromRESTResult(String               methodName,
+                                                       EntityDetailResponse restResult) throws InvalidParameterException,
+                                                                                               RepositoryErrorException,
+                                                                                               EntityNotKnownException,
+                                                                                               EntityProxyOnlyException,
+                                                                                               UserNotAuthorizedException
+    {
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowEntityNotKnownException(methodName, restResult);
+        this.detectAndThrowEntityProxyOnlyException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getEntity();
+    }
+
+
+    /**
+     * Check the response from a get relationship request and return the relationship.
+     *
+     * @param methodName name of the method being called
+     * @param restResult response from the REST call
+     * @return relationship
+     * @throws InvalidParameterException the guid is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository.
+     * @throws RelationshipNotKnownException the metadata collection does not have a relationship with the requested GUID.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private Relationship getRelationshipFromRESTResult(String               methodName,
+                                                       RelationshipResponse restResult) throws InvalidParameterException,
+                                                                                               RepositoryErrorException,
+                                                                                               RelationshipNotKnownException,
+                                                                                               UserNotAuthorizedException
+    {
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowRelationshipNotKnownException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getRelationship();
+    }
+
+
+    /**
+     * Check the response from a find entities by property request and return the entities.
+     *
+     * @param methodName name of the method being called
+     * @param restResult response from the REST call
+     * @return list of entities
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private List<EntityDetail> getEntitiesFromFindRESTResult(String             methodName,
+                                                             EntityListResponse restResult) throws InvalidParameterException,
+                                                                                                   RepositoryErrorException,
+                                                                                                   TypeErrorException,
+                                                                                                   PropertyErrorException,
+                                                                                                   PagingErrorException,
+                                                                                                   FunctionNotSupportedException,
+                                                                                                   UserNotAuthorizedException
+    {
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowPagingErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getEntities();
+    }
+
+
+    /**
+     * Check the response from a find relationships by property request and return the relationships.
+     *
+     * @param methodName name of the method being called
+     * @param restResult response from the REST call
+     * @return list of relationships
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of relationships.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private List<Relationship> getRelationshipsFromFindRESTResult(String                   methodName,
+                                                                  RelationshipListResponse restResult) throws InvalidParameterException,
+                                                                                                              TypeErrorException,
+                                                                                                              RepositoryErrorException,
+                                                                                                              PropertyErrorException,
+                                                                                                              PagingErrorException,
+                                                                                                              FunctionNotSupportedException,
+                                                                                                              UserNotAuthorizedException
+    {
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowPagingErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getRelationships();
+    }
+
+
+    /**
+     * Check the response from an entity neighborhood request and return the graph.
+     *
+     * @param methodName name of the method being called
+     * @param restResult response from the REST call
+     * @return sub-graph of linked entities and their relationships
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository.
+     * @throws TypeErrorException one or more of the type guids passed on the request is not known by the metadata collection.
+     * @throws EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private InstanceGraph getEntityNeighborhoodFromRESTResult(String                methodName,
+                                                              InstanceGraphResponse restResult) throws InvalidParameterException,
+                                                                                                       RepositoryErrorException,
+                                                                                                       TypeErrorException,
+                                                                                                       EntityNotKnownException,
+                                                                                                       PropertyErrorException,
+                                                                                                       FunctionNotSupportedException,
+                                                                                                       UserNotAuthorizedException
+    {
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowEntityNotKnownException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return this.getInstanceGraphFromRESTResult(restResult);
+    }
+
+
     /**
      * Assemble an InstanceGraph from an InstanceGraphResponse.
      *
@@ -0,0 +1,301 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.clients;
+
+import org.odpi.openmetadata.adapters.connectors.restclients.RESTClientConnector;
+import org.odpi.openmetadata.adapters.connectors.restclients.ffdc.exceptions.RESTServerException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.rest.properties.EntityDetailResponse;
+import org.odpi.openmetadata.repositoryservices.rest.properties.EntityListResponse;
+import org.odpi.openmetadata.repositoryservices.rest.properties.EntityPropertyFindRequest;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * MetadataCollectionServicesClientAsyncTest verifies that the asynchronous operations of the client send the same
+ * requests as the synchronous operations and report the same results and exceptions.  The REST calls are made to
+ * a stub connector so the default asynchronous implementation of RESTClientConnector is used.
+ */
+public class MetadataCollectionServicesClientAsyncTest
+{
+    private static final String restURLRoot = "https://localhost:9443/servers/testServer";
+
+
+    @Test
+    public void testGetEntityDetailAsync() throws Exception
+    {
+        StubRESTClientConnector restClient = new StubRESTClientConnector();
+        EntityDetailResponse    response   = new EntityDetailResponse();
+
+        response.setEntity(getEntity("entity1"));
+        restClient.response = response;
+
+        MetadataCollectionServicesClient client = getClient(restClient);
+
+        EntityDetail entity = client.getEntityDetailAsync("testUser", "entity1").get(10, TimeUnit.SECONDS);
+
+        assertEquals(entity.getGUID(), "entity1");
+        assertEquals(restClient.method, "GET");
+        assertTrue(restClient.urlTemplate.startsWith(restURLRoot));
+        assertTrue(restClient.urlTemplate.endsWith("instances/entity/{1}"));
+        assertEquals(restClient.params, Arrays.asList("testUser", "entity1"));
+        assertTrue(restClient.callingThread.startsWith("RESTClientConnector::BlockingCall"));
+    }
+
+
+    @Test
+    public void testAsyncExceptionMatchesSynchronousException() throws Exception
+    {
+        StubRESTClientConnector restClient = new StubRESTClientConnector();
+        EntityDetailResponse    response   = new EntityDetailResponse();
+
+        response.setRelatedHTTPCode(404);
+        response.setExceptionClassName(EntityNotKnownException.class.getName());
+        response.setExceptionErrorMessage("Entity entity1 is not known");
+        response.setExceptionErrorMessageId("TEST-404-001");
+        restClient.response = response;
+
+        MetadataCollectionServicesClient client = getClient(restClient);
+
+        try
+        {
+            client.getEntityDetailAsync("testUser", "entity1").get(10, TimeUnit.SECONDS);
+            fail("Exception expected");
+        }
+        catch (ExecutionException error)
+        {
+            assertTrue(error.getCause() instanceof EntityNotKnownException);
+            assertEquals(((EntityNotKnownException)error.getCause()).getReportedErrorMessageId(), "TEST-404-001");
+        }
+
+        try
+        {
+            client.getEntityDetail("testUser", "entity1");
+            fail("Exception expected");
+        }
+        catch (EntityNotKnownException error)
+        {
+            assertEquals(error.getReportedErrorMessageId(), "TEST-404-001");
+        }
+    }
+
+
+    @Test
+    public void testAsyncRESTFailure() throws Exception
+    {
+        StubRESTClientConnector restClient = new StubRESTClientConnector();
+
+        restClient.error = new RESTServerException(400,
+                                                   this.getClass().getName(),
+                                                   "testAsyncRESTFailure",
+                                                   "Connection refused",
+                                                   "No action",
+                                                   "No action",
+                                                   null);
+
+        MetadataCollectionServicesClient client = getClient(restClient);
+
+        try
+        {
+            client.getRelationshipAsync("testUser", "relationship1").get(10, TimeUnit.SECONDS);
+            fail("Exception expected");
+        }
+        catch (ExecutionException error)
+        {
+            assertTrue(error.getCause() instanceof RepositoryErrorException);
+            assertTrue(error.getCause().getCause() instanceof RESTServerException);
+        }
+    }
+
+
+    @Test
+    public void testFindEntitiesByPropertyAsync() throws Exception
+    {
+        StubRESTClientConnector restClient = new StubRESTClientConnector();
+        EntityListResponse      response   = new EntityListResponse();
+
+        response.setEntities(Arrays.asList(getEntity("entity1"), getEntity("entity2")));
+        restClient.response = response;
+
+        MetadataCollectionServicesClient client = getClient(restClient);
+
+        List<EntityDetail> entities = client.findEntitiesByPropertyAsync("testUser",
+                                                                         "typeGUID",
+                                                                         null,
+                                                                         MatchCriteria.ALL,
+                                                                         0,
+                                                                         null,
+                                                                         null,
+                                                                         null,
+                                                                         null,
+                                                                         null,
+                                                                         50).get(10, TimeUnit.SECONDS);
+
+        assertEquals(entities.size(), 2);
+        assertEquals(restClient.method, "POST");
+        assertTrue(restClient.urlTemplate.endsWith("instances/entities/by-property"));
+        assertEquals(restClient.params, Collections.singletonList("testUser"));
+
+        EntityPropertyFindRequest findRequest = (EntityPropertyFindRequest)restClient.requestBody;
+
+        assertEquals(findRequest.getTypeGUID(), "typeGUID");
+        assertEquals(findRequest.getMatchCriteria(), MatchCriteria.ALL);
+        assertEquals(findRequest.getPageSize(), 50);
+
+        client.findEntitiesByPropertyAsync("testUser",
+                                           "typeGUID",
+                                           null,
+                                           MatchCriteria.ALL,
+                                           0,
+                                           null,
+                                           null,
+                                           new Date(),
+                                           null,
+                                           null,
+                                           50).get(10, TimeUnit.SECONDS);
+
+        assertTrue(restClient.urlTemplate.endsWith("instances/entities/by-property/history"));
+    }
+
+
+    private MetadataCollectionServicesClient getClient(RESTClientConnector restClient) throws Exception
+    {
+        MetadataCollectionServicesClient client = new LocalRepositoryServicesClient("testRepository", restURLRoot);
+
+        client.restClient = restClient;
+
+        return client;
+    }
+
+
+    private EntityDetail getEntity(String guid)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+
+        return entity;
+    }
+
+
+    /**
+     * StubRESTClientConnector records the last request and returns the configured response or exception.
+     * It only implements the blocking calls.
+     */
+    private static class StubRESTClientConnector extends RESTClientConnector
+    {
+        private volatile Object              response      = null;
+        private volatile RESTServerException error         = null;
+        private volatile String              method        = null;
+        private volatile String              urlTemplate   = null;
+        private volatile Object              requestBody   = null;
+        private volatile List<Object>        params        = null;
+        private volatile String              callingThread = null;
+
+
+        private <T> T respond(String    method,
+                              Class<T>  returnClass,
+                              String    urlTemplate,
+                              Object    requestBody,
+                              Object... params) throws RESTServerException
+        {
+            this.method = method;
+            this.urlTemplate = urlTemplate;
+            this.requestBody = requestBody;
+            this.params = Arrays.asList(params);
+            this.callingThread = Thread.currentThread().getName();
+
+            if (error != null)
+            {
+                throw error;
+            }
+
+            return returnClass.cast(response);
+        }
+
+
+        @Override
+        public <T> T callGetRESTCallNoParams(String   methodName,
+                                             Class<T> returnClass,
+                                             String   urlTemplate) throws RESTServerException
+        {
+            return this.respond("GET", returnClass, urlTemplate, null);
+        }
+
+
+        @Override
+        public <T> T callGetRESTCall(String    methodName,
+                                     Class<T>  returnClass,
+                                     String    urlTemplate,
+                                     Object... params) throws RESTServerException
+        {
+            return this.respond("GET", returnClass, urlTemplate, null, params);
+        }
+
+
+        @Override
+        public <T> T callPostRESTCallNoParams(String   methodName,
+                                              Class<T> returnClass,
+                                              String   urlTemplate,
+                                              Object   requestBody) throws RESTServerException
+        {
+            return this.respond("POST", returnClass, urlTemplate, requestBody);
+        }
+
+
+        @Override
+        public <T> T callPostRESTCall(String    methodName,
+                                      Class<T>  returnClass,
+                                      String    urlTemplate,
+                                      Object    requestBody,
+                                      Object... params) throws RESTServerException
+        {
+            return this.respond("POST", returnClass, urlTemplate, requestBody, params);
+        }
+
+
+        @Override
+        public <T> T callPutRESTCall(String    methodName,
+                                     Class<T>  returnClass,
+                                     String    urlTemplate,
+                                     Object    requestBody,
+                                     Object... params) throws RESTServerException
+        {
+            return this.respond("PUT", returnClass, urlTemplate, requestBody, params);
+        }
+
+
+        @Override
+        public <T> T callDeleteRESTCallNoParams(String   methodName,
+                                                Class<T> returnClass,
+                                                String   urlTemplate,
+                                                Object   requestBody) throws RESTServerException
+        {
+            return this.respond("DELETE", returnClass, urlTemplate, requestBody);
+        }
+
+
+        @Override
+        public <T> T callDeleteRESTCall(String    methodName,
+                                        Class<T>  returnClass,
+                                        String    urlTemplate,
+                                        Object    requestBody,
+                                        Object... params) throws RESTServerException
+        {
+            return this.respond("DELETE", returnClass, urlTemplate, requestBody, params);
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.p
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessorInterface;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStreamHandler;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
@@ -23,6 +24,13 @@ import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconten
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * OMRSArchiveManager manages the loading and unloading of open metadata archives from the local OMRS repository.
@@ -146,8 +154,9 @@ public class OMRSArchiveManager
 
 
     /**
-     * Unpack and process the contents an open metadata archive , passing its contents to the local
-     * repository (if it exists).
+     * Unpack and process the contents an open metadata archive store, passing its contents to the local
+     * repository (if it exists).  The archive store passes its contents to an ArchiveLoader in batches so that
+     * a large archive does not need to be held in memory in one piece.
      *
      * @param archiveStore open metadata archive  to process
      * @param archiveSource source of the archive - such as file name
@@ -161,21 +170,31 @@ public class OMRSArchiveManager
     {
         if (archiveStore != null)
         {
-            /*
-             * Each archive store has a header, a section of new type definitions (TypeDefs) and a section of
-             * metadata instances.
-             */
-            OpenMetadataArchive archiveContent = archiveStore.getArchiveContents();
+            ArchiveLoader archiveLoader = new ArchiveLoader(archiveSource,
+                                                            typeDefProcessor,
+                                                            instanceProcessor,
+                                                            archiveStore.getInstanceLoadWorkers());
 
-            if (archiveContent == null)
+            try
             {
-                final String     actionDescription = "Process Open Metadata Archive";
+                /*
+                 * Each archive store has a header, a section of new type definitions (TypeDefs) and a section of
+                 * metadata instances.
+                 */
+                if (archiveStore.streamArchiveContents(archiveLoader))
+                {
+                    archiveLoader.complete();
+                }
+                else if (! archiveLoader.hasFailed())
+                {
+                    final String     actionDescription = "Process Open Metadata Archive";
 
-                auditLog.logMessage(actionDescription, OMRSAuditCode.EMPTY_ARCHIVE.getMessageDefinition(archiveSource));
+                    auditLog.logMessage(actionDescription, OMRSAuditCode.EMPTY_ARCHIVE.getMessageDefinition(archiveSource));
+                }
             }
-            else
+            finally
             {
-                processOpenMetadataArchive(archiveContent, archiveSource, typeDefProcessor, instanceProcessor);
+                archiveLoader.close();
             }
         }
     }
@@ -195,44 +214,35 @@ public class OMRSArchiveManager
                                             OMRSTypeDefEventProcessorInterface    typeDefProcessor,
                                             OMRSInstanceEventProcessorInterface   instanceProcessor)
     {
-        final String     actionDescription = "Process Open Metadata Archive";
+        ArchiveLoader                    archiveLoader        = new ArchiveLoader(archiveSource, typeDefProcessor, instanceProcessor, 1);
+        OpenMetadataArchiveInstanceStore archiveInstanceStore = archiveContent.getArchiveInstanceStore();
 
-        OpenMetadataArchiveProperties archiveProperties = archiveContent.getArchiveProperties();
+        archiveLoader.processArchiveHeader(archiveContent.getArchiveProperties(), archiveContent.getArchiveTypeStore());
 
-        if (archiveProperties != null)
+        if (archiveInstanceStore != null)
         {
-            auditLog.logMessage(actionDescription, OMRSAuditCode.PROCESSING_ARCHIVE.getMessageDefinition(archiveProperties.getArchiveName()));
-
-
-            OpenMetadataArchiveTypeStore     archiveTypeStore     = archiveContent.getArchiveTypeStore();
-            OpenMetadataArchiveInstanceStore archiveInstanceStore = archiveContent.getArchiveInstanceStore();
-
-            int                              typeCount            = 0;
-            int                              instanceCount        = 0;
-
-
-            if (archiveTypeStore != null)
+            if (archiveInstanceStore.getEntities() != null)
             {
-                typeCount = this.processTypeDefStore(archiveProperties, archiveTypeStore, typeDefProcessor);
+                archiveLoader.processEntities(archiveInstanceStore.getEntities());
             }
 
-            if (archiveInstanceStore != null)
+            if (archiveInstanceStore.getRelationships() != null)
             {
-                instanceCount = this.processInstanceStore(archiveProperties, archiveInstanceStore, instanceProcessor);
+                archiveLoader.processRelationships(archiveInstanceStore.getRelationships());
             }
 
-            auditLog.logMessage(actionDescription,
-                                OMRSAuditCode.COMPLETED_ARCHIVE.getMessageDefinition(Integer.toString(typeCount),
-                                                                                     Integer.toString(instanceCount),
-                                                                                     archiveProperties.getArchiveName()));
-        }
-        else
-        {
-            auditLog.logMessage(actionDescription, OMRSAuditCode.NULL_PROPERTIES_IN_ARCHIVE.getMessageDefinition(archiveSource));
+            if (archiveInstanceStore.getClassifications() != null)
+            {
+                archiveLoader.processClassifications(archiveInstanceStore.getClassifications());
+            }
         }
+
+        archiveLoader.complete();
     }
 
 
+
+
     /**
      * The TypeStore is in two parts.  First there is an optional list of patches to existing TypeDefs.
      * Then an optional list of new TypeDefs.  It is possible that this archive has been processed before
@@ -341,202 +351,6 @@ public class OMRSArchiveManager
     }
 
 
-    /**
-     * The InstanceStore is in three parts: an optional list of entities followed by an optional list
-     * of relationships followed by an optional list of classifications.
-     *
-     * It is possible that this archive has been processed before
-     * and so any duplicates detected are ignored.  However, conflicting instances are detected.
-     * Any problems found in applying the archive contents are recorded on the audit log.
-     *
-     * @param archiveProperties properties describing the archive used in logging
-     * @param archiveInstanceStore the instance store to process
-     * @param instanceProcessor the processor to add the instances to the local repository.  It may be null
-     *                          if there is no local repository configured for this server.
-     * @return instance count
-     */
-    private int  processInstanceStore(OpenMetadataArchiveProperties             archiveProperties,
-                                      OpenMetadataArchiveInstanceStore          archiveInstanceStore,
-                                      OMRSInstanceEventProcessorInterface       instanceProcessor)
-    {
-        List<EntityDetail>                  entities        = archiveInstanceStore.getEntities();
-        List<Relationship>                  relationships   = archiveInstanceStore.getRelationships();
-        List<ClassificationEntityExtension> classifications = archiveInstanceStore.getClassifications();
-        int                                 instanceCount   = 0;
-
-        if (instanceProcessor != null)
-        {
-            String                 homeMetadataCollectionId   = archiveProperties.getArchiveGUID();
-            String                 archiveName                = archiveProperties.getArchiveName();
-            String                 originatorServerType       = OpenMetadataArchiveType.CONTENT_PACK.getName();
-            InstanceProvenanceType provenanceType             = InstanceProvenanceType.CONTENT_PACK;
-            Date                   archiveCreationTime        = archiveProperties.getCreationDate();
-            String                 originatorName             = archiveProperties.getOriginatorName();
-            String                 archiveVersion             = archiveProperties.getArchiveVersion();
-            String                 originatorOrganizationName = archiveProperties.getOriginatorOrganization();
-            String                 originatorLicense          = archiveProperties.getOriginatorLicense();
-
-            String archiveId = originatorName + " (" + archiveVersion + ")";
-
-            if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.METADATA_EXPORT)
-            {
-                provenanceType       = InstanceProvenanceType.EXPORT_ARCHIVE;
-                originatorServerType = OpenMetadataArchiveType.METADATA_EXPORT.getName();
-            }
-            else if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.REPOSITORY_BACKUP)
-            {
-                provenanceType       = InstanceProvenanceType.LOCAL_COHORT;
-                originatorServerType = OpenMetadataArchiveType.REPOSITORY_BACKUP.getName();
-            }
-
-            if (entities != null)
-            {
-                for (EntityDetail entity : entities)
-                {
-                    if (entity != null)
-                    {
-                        this.setInstanceAuditHeader(localMetadataCollectionId,
-                                                    homeMetadataCollectionId,
-                                                    archiveName,
-                                                    originatorName,
-                                                    archiveCreationTime,
-                                                    provenanceType,
-                                                    originatorLicense,
-                                                    entity);
-
-                        /*
-                         * There is no need to support delete in archive because the elements are
-                         * reference copies and can be deleted from the receiving repositories.
-                         */
-                        if (entity.getVersion() == 1L)
-                        {
-                            instanceProcessor.processNewEntityEvent(archiveId,
-                                                                    homeMetadataCollectionId,
-                                                                    archiveName,
-                                                                    originatorServerType,
-                                                                    originatorOrganizationName,
-                                                                    entity);
-                        }
-                        else
-                        {
-                            instanceProcessor.processUpdatedEntityEvent(archiveId,
-                                                                        homeMetadataCollectionId,
-                                                                        archiveName,
-                                                                        originatorServerType,
-                                                                        originatorOrganizationName,
-                                                                        null,
-                                                                        entity);
-                        }
-
-                        instanceCount++;
-                    }
-                }
-            }
-
-            if (relationships != null)
-            {
-                for (Relationship relationship : relationships)
-                {
-                    if (relationship != null)
-                    {
-                        this.setInstanceAuditHeader(localMetadataCollectionId,
-                                                    homeMetadataCollectionId,
-                                                    archiveName,
-                                                    originatorName,
-                                                    archiveCreationTime,
-                                                    provenanceType,
-                                                    originatorLicense,
-                                                    relationship);
-
-                        /*
-                         * There is no need to support delete in archive because the elements are
-                         * reference copies and can be deleted from the receiving repositories.
-                         */
-                        if (relationship.getVersion() == 1L)
-                        {
-                            instanceProcessor.processNewRelationshipEvent(archiveId,
-                                                                          homeMetadataCollectionId,
-                                                                          archiveName,
-                                                                          originatorServerType,
-                                                                          originatorOrganizationName,
-                                                                          relationship);
-                        }
-                        else
-                        {
-                            instanceProcessor.processUpdatedRelationshipEvent(archiveId,
-                                                                              homeMetadataCollectionId,
-                                                                              archiveName,
-                                                                              originatorServerType,
-                                                                              originatorOrganizationName,
-                                                                              null,
-                                                                              relationship);
-                        }
-
-                        instanceCount ++;
-                    }
-                }
-            }
-
-            if (instanceProcessor instanceof OMRSInstanceEventProcessorClassificationExtension)
-            {
-                OMRSInstanceEventProcessorClassificationExtension classificationInstanceProcessor = (OMRSInstanceEventProcessorClassificationExtension)instanceProcessor;
-
-                if (classifications != null)
-                {
-                    for (ClassificationEntityExtension classificationEntityExtension : classifications)
-                    {
-                        if (classificationEntityExtension != null)
-                        {
-                            Classification classification = classificationEntityExtension.getClassification();
-
-                            this.setInstanceAuditHeader(localMetadataCollectionId,
-                                                        homeMetadataCollectionId,
-                                                        archiveName,
-                                                        originatorName,
-                                                        archiveCreationTime,
-                                                        provenanceType,
-                                                        originatorLicense,
-                                                        classification);
-
-                            classificationEntityExtension.setClassification(classification);
-
-                            if (classification.getVersion() == 1L)
-                            {
-                                classificationInstanceProcessor.processClassifiedEntityEvent(archiveId,
-                                                                                             homeMetadataCollectionId,
-                                                                                             archiveName,
-                                                                                             originatorServerType,
-                                                                                             originatorOrganizationName,
-                                                                                             classificationEntityExtension.getEntityToClassify(),
-                                                                                             classification);
-                            }
-                            else
-                            {
-                                classificationInstanceProcessor.processReclassifiedEntityEvent(archiveId,
-                                                                                               homeMetadataCollectionId,
-                                                                                               archiveName,
-                                                                                               originatorServerType,
-                                                                                               originatorOrganizationName,
-                                                                                               classificationEntityExtension.getEntityToClassify(),
-                                                                                               null,
-                                                                                               classification);
-                            }
-
-                            instanceCount ++;
-                        }
-                    }
-                }
-            }
-        }
-        else
-        {
-            final String actionDescription = "Processing instances from archive";
-
-            auditLog.logMessage(actionDescription, OMRSAuditCode.NO_INSTANCE_PROCESSOR.getMessageDefinition());
-        }
-
-        return instanceCount;
-    }
 
 
     /**
@@ -619,4 +433,542 @@ public class OMRSArchiveManager
             instance.setVersion(1L);
         }
     }
+
+
+    /**
+     * Split a batch of instances between a number of workers using the hash of each instance's unique identifier.
+     * All of the instances with the same identifier go to the same worker, in the order they appear in the batch.
+     * Instances without an identifier go to the first worker and null entries are dropped.
+     *
+     * @param instances batch of instances
+     * @param partitionKey function returning the unique identifier used to assign an instance to a worker
+     * @param partitionCount number of workers
+     * @param <T> type of instance
+     * @return one list of instances for each worker
+     */
+    static <T> List<List<T>> partitionInstances(List<T>             instances,
+                                                Function<T, String> partitionKey,
+                                                int                 partitionCount)
+    {
+        List<List<T>> partitions = new ArrayList<>();
+
+        for (int i = 0; i < partitionCount; i++)
+        {
+            partitions.add(new ArrayList<>());
+        }
+
+        for (T instance : instances)
+        {
+            if (instance != null)
+            {
+                String key = partitionKey.apply(instance);
+
+                partitions.get(key == null ? 0 : Math.floorMod(key.hashCode(), partitionCount)).add(instance);
+            }
+        }
+
+        return partitions;
+    }
+
+
+    /**
+     * ArchiveLoader receives the contents of an open metadata archive from the archive store and passes them to the
+     * local repository.  The type definitions are processed first.  Each batch of instances is then split between the
+     * worker threads by unique identifier so that the updates to a single instance are applied in the order they appear in
+     * the archive.  The entities are all loaded before the relationships and classifications that refer to them.
+     */
+    private class ArchiveLoader implements OpenMetadataArchiveStreamHandler
+    {
+        private static final int progressReportInterval = 10000;
+
+        private final String                              archiveSource;
+        private final OMRSTypeDefEventProcessorInterface  typeDefProcessor;
+        private final OMRSInstanceEventProcessorInterface instanceProcessor;
+        private final int                                 loadWorkers;
+        private final AtomicInteger                       instanceCount = new AtomicInteger(0);
+
+        private ExecutorService               workerPool                = null;
+        private OpenMetadataArchiveProperties archiveProperties         = null;
+        private int                           typeCount                 = 0;
+        private int                           reportedInstanceCount     = 0;
+        private boolean                       noInstanceProcessorLogged = false;
+        private boolean                       failed                    = false;
+
+        private String                 archiveId                  = null;
+        private String                 homeMetadataCollectionId   = null;
+        private String                 archiveName                = null;
+        private String                 originatorServerType       = OpenMetadataArchiveType.CONTENT_PACK.getName();
+        private InstanceProvenanceType provenanceType             = InstanceProvenanceType.CONTENT_PACK;
+        private Date                   archiveCreationTime        = null;
+        private String                 originatorName             = null;
+        private String                 originatorOrganizationName = null;
+        private String                 originatorLicense          = null;
+
+
+        /**
+         * Constructor
+         *
+         * @param archiveSource source of the archive - such as file name
+         * @param typeDefProcessor processor of type definitions found in the archive
+         * @param instanceProcessor processor of instances found in the archive
+         * @param loadWorkers number of threads used to load the instances
+         */
+        ArchiveLoader(String                              archiveSource,
+                      OMRSTypeDefEventProcessorInterface  typeDefProcessor,
+                      OMRSInstanceEventProcessorInterface instanceProcessor,
+                      int                                 loadWorkers)
+        {
+            this.archiveSource = archiveSource;
+            this.typeDefProcessor = typeDefProcessor;
+            this.instanceProcessor = instanceProcessor;
+            this.loadWorkers = loadWorkers;
+        }
+
+
+        /**
+         * Process the header of the archive.
+         *
+         * @param archiveProperties properties describing the archive - null if the archive has no control header
+         * @param archiveTypeStore type definitions from the archive - may be null
+         */
+        @Override
+        public void processArchiveHeader(OpenMetadataArchiveProperties archiveProperties,
+                                         OpenMetadataArchiveTypeStore  archiveTypeStore)
+        {
+            final String     actionDescription = "Process Open Metadata Archive";
+
+            if (archiveProperties == null)
+            {
+                auditLog.logMessage(actionDescription, OMRSAuditCode.NULL_PROPERTIES_IN_ARCHIVE.getMessageDefinition(archiveSource));
+                return;
+            }
+
+            this.archiveProperties = archiveProperties;
+
+            auditLog.logMessage(actionDescription, OMRSAuditCode.PROCESSING_ARCHIVE.getMessageDefinition(archiveProperties.getArchiveName()));
+
+            homeMetadataCollectionId   = archiveProperties.getArchiveGUID();
+            archiveName                = archiveProperties.getArchiveName();
+            archiveCreationTime        = archiveProperties.getCreationDate();
+            originatorName             = archiveProperties.getOriginatorName();
+            originatorOrganizationName = archiveProperties.getOriginatorOrganization();
+            originatorLicense          = archiveProperties.getOriginatorLicense();
+            archiveId                  = originatorName + " (" + archiveProperties.getArchiveVersion() + ")";
+
+            if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.METADATA_EXPORT)
+            {
+                provenanceType       = InstanceProvenanceType.EXPORT_ARCHIVE;
+                originatorServerType = OpenMetadataArchiveType.METADATA_EXPORT.getName();
+            }
+            else if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.REPOSITORY_BACKUP)
+            {
+                provenanceType       = InstanceProvenanceType.LOCAL_COHORT;
+                originatorServerType = OpenMetadataArchiveType.REPOSITORY_BACKUP.getName();
+            }
+
+            if (archiveTypeStore != null)
+            {
+                typeCount = processTypeDefStore(archiveProperties, archiveTypeStore, typeDefProcessor);
+            }
+        }
+
+
+        /**
+         * Process a batch of entities from the archive's instance store.
+         *
+         * @param entities list of entities
+         */
+        @Override
+        public void processEntities(List<EntityDetail> entities)
+        {
+            if (this.readyForInstances())
+            {
+                this.processInParallel(entities, EntityDetail::getGUID, this::processEntity);
+            }
+        }
+
+
+        /**
+         * Process a batch of relationships from the archive's instance store.
+         *
+         * @param relationships list of relationships
+         */
+        @Override
+        public void processRelationships(List<Relationship> relationships)
+        {
+            if (this.readyForInstances())
+            {
+                this.processInParallel(relationships, Relationship::getGUID, this::processRelationship);
+            }
+        }
+
+
+        /**
+         * Process a batch of classifications from the archive's instance store.  Classifications are only
+         * processed if the instance processor supports them.
+         *
+         * @param classifications list of classifications and the entities they are attached to
+         */
+        @Override
+        public void processClassifications(List<ClassificationEntityExtension> classifications)
+        {
+            if ((this.readyForInstances()) && (instanceProcessor instanceof OMRSInstanceEventProcessorClassificationExtension))
+            {
+                this.processInParallel(classifications,
+                                       classificationEntityExtension -> classificationEntityExtension.getEntityToClassify() == null ? null :
+                                               classificationEntityExtension.getEntityToClassify().getGUID(),
+                                       this::processClassification);
+            }
+        }
+
+
+        /**
+         * Record that the archive store was unable to read the rest of the archive.  The content loaded so far
+         * is left in the local repository, but the archive is not reported as complete.
+         *
+         * @param error exception from the archive store
+         */
+        @Override
+        public void processArchiveError(Exception error)
+        {
+            final String actionDescription = "Process Open Metadata Archive";
+
+            failed = true;
+
+            auditLog.logException(actionDescription,
+                                  OMRSAuditCode.ARCHIVE_LOAD_FAILED.getMessageDefinition(archiveName == null ? archiveSource : archiveName,
+                                                                                         Integer.toString(instanceCount.get()),
+                                                                                         error.getClass().getName(),
+                                                                                         error.getMessage()),
+                                  error);
+        }
+
+
+        /**
+         * Return whether the archive store reported that it was unable to read the whole archive.
+         *
+         * @return boolean
+         */
+        boolean hasFailed()
+        {
+            return failed;
+        }
+
+
+        /**
+         * Log the counts of loaded content once the archive store has passed all of the archive to the loader.
+         */
+        void complete()
+        {
+            if ((archiveProperties != null) && (! failed))
+            {
+                final String     actionDescription = "Process Open Metadata Archive";
+
+                auditLog.logMessage(actionDescription,
+                                    OMRSAuditCode.COMPLETED_ARCHIVE.getMessageDefinition(Integer.toString(typeCount),
+                                                                                         Integer.toString(instanceCount.get()),
+                                                                                         archiveProperties.getArchiveName()));
+            }
+        }
+
+
+        /**
+         * Release the worker threads.
+         */
+        void close()
+        {
+            if (workerPool != null)
+            {
+                workerPool.shutdown();
+                workerPool = null;
+            }
+        }
+
+
+        /**
+         * Determine whether instances can be loaded.  This needs a valid archive header and a local repository.
+         *
+         * @return boolean
+         */
+        private boolean readyForInstances()
+        {
+            if (archiveProperties == null)
+            {
+                return false;
+            }
+
+            if (instanceProcessor == null)
+            {
+                if (! noInstanceProcessorLogged)
+                {
+                    final String actionDescription = "Processing instances from archive";
+
+                    auditLog.logMessage(actionDescription, OMRSAuditCode.NO_INSTANCE_PROCESSOR.getMessageDefinition());
+                    noInstanceProcessorLogged = true;
+                }
+
+                return false;
+            }
+
+            return true;
+        }
+
+
+        /**
+         * Pass a batch of instances to the local repository.  The batch is split between the worker threads using the
+         * hash of each instance's unique identifier, and the method returns once the whole batch is processed.
+         *
+         * @param instances batch of instances
+         * @param partitionKey function returning the unique identifier used to assign an instance to a worker
+         * @param instanceLoader function that passes a single instance to the local repository
+         * @param <T> type of instance
+         */
+        private <T> void processInParallel(List<T>             instances,
+                                           Function<T, String> partitionKey,
+                                           Consumer<T>         instanceLoader)
+        {
+            if ((loadWorkers <= 1) || (instances.size() < loadWorkers))
+            {
+                for (T instance : instances)
+                {
+                    if (instance != null)
+                    {
+                        instanceLoader.accept(instance);
+                    }
+                }
+            }
+            else
+            {
+                List<Future<?>> results = new ArrayList<>();
+
+                for (List<T> partition : partitionInstances(instances, partitionKey, loadWorkers))
+                {
+                    if (! partition.isEmpty())
+                    {
+                        results.add(this.getWorkerPool().submit(() -> partition.forEach(instanceLoader)));
+                    }
+                }
+
+                this.waitForResults(results);
+            }
+
+            this.reportProgress();
+        }
+
+
+        /**
+         * Wait for the workers to finish processing their part of the batch.  Any exception from the local repository
+         * is passed to the caller.
+         *
+         * @param results futures from the submitted work
+         */
+        private void waitForResults(List<Future<?>> results)
+        {
+            for (Future<?> result : results)
+            {
+                try
+                {
+                    result.get();
+                }
+                catch (InterruptedException error)
+                {
+                    for (Future<?> remainingResult : results)
+                    {
+                        remainingResult.cancel(true);
+                    }
+
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                catch (ExecutionException error)
+                {
+                    if (error.getCause() instanceof Error)
+                    {
+                        throw (Error)error.getCause();
+                    }
+
+                    throw (RuntimeException)error.getCause();
+                }
+            }
+        }
+
+
+        /**
+         * Return the pool of worker threads, creating it if necessary.
+         *
+         * @return executor service
+         */
+        private ExecutorService getWorkerPool()
+        {
+            if (workerPool == null)
+            {
+                final String        threadNamePrefix = "ArchiveLoader-" + archiveName + "-";
+                final AtomicInteger threadCount      = new AtomicInteger(0);
+
+                workerPool = Executors.newFixedThreadPool(loadWorkers, runnable ->
+                {
+                    Thread thread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+
+            return workerPool;
+        }
+
+
+        /**
+         * Log the number of instances loaded so far if it has grown by the reporting interval.
+         */
+        private void reportProgress()
+        {
+            int currentInstanceCount = instanceCount.get();
+
+            if (currentInstanceCount - reportedInstanceCount >= progressReportInterval)
+            {
+                final String actionDescription = "Processing instances from archive";
+
+                auditLog.logMessage(actionDescription,
+                                    OMRSAuditCode.ARCHIVE_LOAD_PROGRESS.getMessageDefinition(Integer.toString(currentInstanceCount), archiveName));
+                reportedInstanceCount = currentInstanceCount;
+            }
+        }
+
+
+        /**
+         * Pass an entity to the local repository.
+         *
+         * @param entity entity from the archive
+         */
+        private void processEntity(EntityDetail entity)
+        {
+            setInstanceAuditHeader(localMetadataCollectionId,
+                                   homeMetadataCollectionId,
+                                   archiveName,
+                                   originatorName,
+                                   archiveCreationTime,
+                                   provenanceType,
+                                   originatorLicense,
+                                   entity);
+
+            /*
+             * There is no need to support delete in archive because the elements are
+             * reference copies and can be deleted from the receiving repositories.
+             */
+            if (entity.getVersion() == 1L)
+            {
+                instanceProcessor.processNewEntityEvent(archiveId,
+                                                        homeMetadataCollectionId,
+                                                        archiveName,
+                                                        originatorServerType,
+                                                        originatorOrganizationName,
+                                                        entity);
+            }
+            else
+            {
+                instanceProcessor.processUpdatedEntityEvent(archiveId,
+                                                            homeMetadataCollectionId,
+                                                            archiveName,
+                                                            originatorServerType,
+                                                            originatorOrganizationName,
+                                                            null,
+                                                            entity);
+            }
+
+            instanceCount.incrementAndGet();
+        }
+
+
+        /**
+         * Pass a relationship to the local repository.
+         *
+         * @param relationship relationship from the archive
+         */
+        private void processRelationship(Relationship relationship)
+        {
+            setInstanceAuditHeader(localMetadataCollectionId,
+                                   homeMetadataCollectionId,
+                                   archiveName,
+                                   originatorName,
+                                   archiveCreationTime,
+                                   provenanceType,
+                                   originatorLicense,
+                                   relationship);
+
+            /*
+             * There is no need to support delete in archive because the elements are
+             * reference copies and can be deleted from the receiving repositories.
+             */
+            if (relationship.getVersion() == 1L)
+            {
+                instanceProcessor.processNewRelationshipEvent(archiveId,
+                                                              homeMetadataCollectionId,
+                                                              archiveName,
+                                                              originatorServerType,
+                                                              originatorOrganizationName,
+                                                              relationship);
+            }
+            else
+            {
+                instanceProcessor.processUpdatedRelationshipEvent(archiveId,
+                                                                  homeMetadataCollectionId,
+                                                                  archiveName,
+                                                                  originatorServerType,
+                                                                  originatorOrganizationName,
+                                                                  null,
+                                                                  relationship);
+            }
+
+            instanceCount.incrementAndGet();
+        }
+
+
+        /**
+         * Pass a classification to the local repository.
+         *
+         * @param classificationEntityExtension classification from the archive and the entity it is attached to
+         */
+        private void processClassification(ClassificationEntityExtension classificationEntityExtension)
+        {
+            OMRSInstanceEventProcessorClassificationExtension classificationInstanceProcessor = (OMRSInstanceEventProcessorClassificationExtension)instanceProcessor;
+
+            Classification classification = classificationEntityExtension.getClassification();
+
+            setInstanceAuditHeader(localMetadataCollectionId,
+                                   homeMetadataCollectionId,
+                                   archiveName,
+                                   originatorName,
+                                   archiveCreationTime,
+                                   provenanceType,
+                                   originatorLicense,
+                                   classification);
+
+            classificationEntityExtension.setClassification(classification);
+
+            if (classification.getVersion() == 1L)
+            {
+                classificationInstanceProcessor.processClassifiedEntityEvent(archiveId,
+                                                                             homeMetadataCollectionId,
+                                                                             archiveName,
+                                                                             originatorServerType,
+                                                                             originatorOrganizationName,
+                                                                             classificationEntityExtension.getEntityToClassify(),
+                                                                             classification);
+            }
+            else
+            {
+                classificationInstanceProcessor.processReclassifiedEntityEvent(archiveId,
+                                                                               homeMetadataCollectionId,
+                                                                               archiveName,
+                                                                               originatorServerType,
+                                                                               originatorOrganizationName,
+                                                                               classificationEntityExtension.getEntityToClassify(),
+                                                                               null,
+                                                                               classification);
+            }
+
+            instanceCount.incrementAndGet();
+        }
+    }
 }
@@ -134,7 +134,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl federationControl = new ParallelFederationControl(userId,
+                                                                            cohortConnectors,
+                                                                            auditLog,
+                                                                            enterpriseParentConnector.getFederationWorkerPool(),
+                                                                            enterpriseParentConnector.getFederationMemberTimeout(),
+                                                                            methodName);
         GetAllTypesExecutor executor = new GetAllTypesExecutor(userId,
                                                                methodName,
                                                                localMetadataCollectionId,
@@ -893,7 +898,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl       federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl       federationControl = new ParallelFederationControl(userId,
+                                                                                  cohortConnectors,
+                                                                                  auditLog,
+                                                                                  enterpriseParentConnector.getFederationWorkerPool(),
+                                                                                  enterpriseParentConnector.getFederationMemberTimeout(),
+                                                                                  methodName);
         GetEntityDetailExecutor executor          = new GetEntityDetailExecutor(userId, guid, false, auditLog, methodName);
 
         /*
@@ -942,7 +952,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl        federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl        federationControl = new ParallelFederationControl(userId,
+                                                                                   cohortConnectors,
+                                                                                   auditLog,
+                                                                                   enterpriseParentConnector.getFederationWorkerPool(),
+                                                                                   enterpriseParentConnector.getFederationMemberTimeout(),
+                                                                                   methodName);
         GetEntitySummaryExecutor executor          = new GetEntitySummaryExecutor(userId, guid, auditLog, methodName);
 
         /*
@@ -992,7 +1007,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl       federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl       federationControl = new ParallelFederationControl(userId,
+                                                                                  cohortConnectors,
+                                                                                  auditLog,
+                                                                                  enterpriseParentConnector.getFederationWorkerPool(),
+                                                                                  enterpriseParentConnector.getFederationMemberTimeout(),
+                                                                                  methodName);
         GetEntityDetailExecutor executor          = new GetEntityDetailExecutor(userId, guid, true, auditLog, methodName);
 
         federationControl.executeCommand(executor);
@@ -1042,7 +1062,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl       federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl       federationControl = new ParallelFederationControl(userId,
+                                                                                  cohortConnectors,
+                                                                                  auditLog,
+                                                                                  enterpriseParentConnector.getFederationWorkerPool(),
+                                                                                  enterpriseParentConnector.getFederationMemberTimeout(),
+                                                                                  methodName);
         GetEntityDetailExecutor executor          = new GetEntityDetailExecutor(userId, guid, asOfTime, auditLog, methodName);
 
         /*
@@ -1128,7 +1153,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                 federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl                 federationControl = new ParallelFederationControl(userId,
+                                                                                            cohortConnectors,
+                                                                                            auditLog,
+                                                                                            enterpriseParentConnector.getFederationWorkerPool(),
+                                                                                            enterpriseParentConnector.getFederationMemberTimeout(),
+                                                                                            methodName);
         GetRelationshipsForEntityExecutor executor          = new GetRelationshipsForEntityExecutor(userId,
                                                                                                     entityGUID,
                                                                                                     relationshipTypeGUID,
@@ -1148,7 +1178,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
          * there are no positive results from any repository.
          */
-        federationControl.executeCommand(executor);
+        this.executePageableCommand(federationControl, executor, cohortConnectors);
 
         List<Relationship> results = executor.getResults(enterpriseParentConnector);
 
@@ -1247,7 +1277,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl              federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl              federationControl = new ParallelFederationControl(userId,
+                                                                                         cohortConnectors,
+                                                                                         auditLog,
+                                                                                         enterpriseParentConnector.getFederationWorkerPool(),
+                                                                                         enterpriseParentConnector.getFederationMemberTimeout(),
+                                                                                         methodName);
         FindEntitiesByPropertyExecutor executor          = new FindEntitiesByPropertyExecutor(userId,
                                                                                               entityTypeGUID,
                                                                                               matchProperties,
@@ -1269,7 +1304,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
          * there are no positive results from any repository.
          */
-        federationControl.executeCommand(executor);
+        this.executePageableCommand(federationControl, executor, cohortConnectors);
 
         return executor.getResults(enterpriseParentConnector, this);
     }
@@ -1353,7 +1388,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl    federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl    federationControl = new ParallelFederationControl(userId,
+                                                                               cohortConnectors,
+                                                                               auditLog,
+                                                                               enterpriseParentConnector.getFederationWorkerPool(),
+                                                                               enterpriseParentConnector.getFederationMemberTimeout(),
+                                                                               methodName);
         FindEntitiesExecutor executor          = new FindEntitiesExecutor(userId,
                                                                           entityTypeGUID,
                                                                           entitySubtypeGUIDs,
@@ -1375,7 +1415,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
          * there are no positive results from any repository.
          */
-        federationControl.executeCommand(executor);
+        this.executePageableCommand(federationControl, executor, cohortConnectors);
 
         return executor.getResults(enterpriseParentConnector, this);
     }
@@ -1465,7 +1505,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                    federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl                    federationControl = new ParallelFederationControl(userId,
+                                                                                               cohortConnectors,
+                                                                                               auditLog,
+                                                                                               enterpriseParentConnector.getFederationWorkerPool(),
+                                                                                               enterpriseParentConnector.getFederationMemberTimeout(),
+                                                                                               methodName);
         FindEntitiesByClassificationExecutor executor          = new FindEntitiesByClassificationExecutor(userId,
                                                                                                           entityTypeGUID,
                                                                                                           classificationName,
@@ -1487,7 +1532,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
          * there are no positive results from any repository.
          */
-        federationControl.executeCommand(executor);
+        this.executePageableCommand(federationControl, executor, cohortConnectors);
 
         return executor.getResults(enterpriseParentConnector, this);
     }
@@ -1573,7 +1618,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl                   federationControl = new ParallelFederationControl(userId,
+                                                                                              cohortConnectors,
+                                                                                              auditLog,
+                                                                                              enterpriseParentConnector.getFederationWorkerPool(),
+                                                                                              enterpriseParentConnector.getFederationMemberTimeout(),
+                                                                                              methodName);
         FindEntitiesByPropertyValueExecutor executor          = new FindEntitiesByPropertyValueExecutor(userId,
                                                                                                         entityTypeGUID,
                                                                                                         searchCriteria,
@@ -1594,7 +1644,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
          * there are no positive results from any repository.
          */
-        federationControl.executeCommand(executor);
+        this.executePageableCommand(federationControl, executor, cohortConnectors);
 
         return executor.getResults(enterpriseParentConnector, this);
     }
@@ -1826,7 +1876,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl         federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl         federationControl = new ParallelFederationControl(userId,
+                                                                                    cohortConnectors,
+                                                                                    auditLog,
+                                                                                    enterpriseParentConnector.getFederationWorkerPool(),
+                                                                                    enterpriseParentConnector.getFederationMemberTimeout(),
+                                                                                    methodName);
         FindRelationshipsExecutor executor          = new FindRelationshipsExecutor(userId,
                                                                                     relationshipTypeGUID,
                                                                                     relationshipSubtypeGUIDs,
@@ -1847,7 +1902,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
          * there are no positive results from any repository.
          */
-        federationControl.executeCommand(executor);
+        this.executePageableCommand(federationControl, executor, cohortConnectors);
 
         return executor.getResults(enterpriseParentConnector);
     }
@@ -1931,7 +1986,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl                   federationControl = new ParallelFederationControl(userId,
+                                                                                              cohortConnectors,
+                                                                                              auditLog,
+                                                                                              enterpriseParentConnector.getFederationWorkerPool(),
+                                                                                              enterpriseParentConnector.getFederationMemberTimeout(),
+                                                                                              methodName);
         FindRelationshipsByPropertyExecutor executor          = new FindRelationshipsByPropertyExecutor(userId,
                                                                                                         relationshipTypeGUID,
                                                                                                         matchProperties,
@@ -1952,7 +2012,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
          * there are no positive results from any repository.
          */
-        federationControl.executeCommand(executor);
+        this.executePageableCommand(federationControl, executor, cohortConnectors);
 
         return executor.getResults(enterpriseParentConnector);
     }
@@ -2035,7 +2095,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                        federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
+        FederationControl                        federationControl = new ParallelFederationControl(userId,
+                                                                                                   cohortConnectors,
+                                                                                                   auditLog,
+                                                                                                   enterpriseParentConnector.getFederationWorkerPool(),
+                                                                                                   enterpriseParentConnector.getFederationMemberTimeout(),
+                                                                                                   methodName);
         FindRelationshipsByPropertyValueExecutor executor          = new FindRelationshipsByPropertyValueExecutor(userId,
                                                                                                                   relationshipTypeGUID,
                                                                                                                   searchCriteria,
@@ -2055,7 +2120,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
          * there are no positive results from any repository.
          */
-        federationControl.executeCommand(executor);
+        this.executePageableCommand(federationControl, executor, cohortConnectors);
 
         return executor.getResults(enterpriseParentConnector);
     }
@@ -4681,6 +4746,48 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
      */
 
 
+    /**
+     * Issue a pageable request to the cohort members.  If the request for the previous page of the same query saved a
+     * continuation token, each member is asked for the results that follow the position that the previous page
+     * reached in that member's results.  The continuation token for the following page is saved once the request completes.
+     *
+     * @param federationControl control for the federated request
+     * @param executor command to execute
+     * @param cohortConnectors connectors to the members of the cohort(s)
+     * @throws RepositoryErrorException problem with the state of one of the repositories.
+     */
+    private void executePageableCommand(FederationControl             federationControl,
+                                        PageableRepositoryExecutor    executor,
+                                        List<OMRSRepositoryConnector> cohortConnectors) throws RepositoryErrorException
+    {
+        String       querySignature        = executor.getQuerySignature();
+        List<String> metadataCollectionIds = new ArrayList<>();
+
+        if (cohortConnectors != null)
+        {
+            for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+            {
+                if (cohortConnector != null)
+                {
+                    metadataCollectionIds.add(cohortConnector.getMetadataCollectionId());
+                }
+            }
+        }
+
+        executor.setContinuationToken(enterpriseParentConnector.getContinuationToken(querySignature, executor.getStartingElement()),
+                                      metadataCollectionIds);
+
+        federationControl.executeCommand(executor);
+
+        String continuationToken = executor.getContinuationToken();
+
+        if (continuationToken != null)
+        {
+            enterpriseParentConnector.saveContinuationToken(querySignature, executor.getNextStartingElement(), continuationToken);
+        }
+    }
+
+
     /**
      * Build a combined list of entities.
      *
@@ -19,7 +19,15 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeExcept
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * EnterpriseOMRSRepositoryConnector supports federating calls to multiple metadata repositories.  As a result,
@@ -47,6 +55,29 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
 
     private String callingServiceName = null;
 
+    /*
+     * Configuration properties that control the parallel federation of requests to the cohort members.
+     */
+    public static final String MAX_FEDERATION_THREADS_PROPERTY    = "maxFederationThreads";
+    public static final String FEDERATION_MEMBER_TIMEOUT_PROPERTY = "federationMemberTimeout";
+
+    private static final int  defaultMaxFederationThreads    = 20;
+    private static final long defaultFederationMemberTimeout = 60000;
+
+    private ThreadPoolExecutor federationWorkerPool    = null;
+    private long               federationMemberTimeout = defaultFederationMemberTimeout;
+
+    /*
+     * Configuration property that controls how many continuation tokens for paged federated queries are retained.
+     * Each token records where the next page of a query starts in each cohort member.
+     */
+    public static final String MAX_PAGING_CURSORS_PROPERTY = "maxFederatedPagingCursors";
+
+    private static final int defaultMaxPagingCursors = 1000;
+
+    private int                       maxPagingCursors   = defaultMaxPagingCursors;
+    private final Map<String, String> continuationTokens = new LinkedHashMap<>(16, 0.75f, true);
+
     private static final Logger log = LoggerFactory.getLogger(EnterpriseOMRSRepositoryConnector.class);
 
     /**
@@ -123,6 +154,8 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
             auditLog.logMessage(actionDescription, OMRSAuditCode.STARTING_ENTERPRISE_CONNECTOR.getMessageDefinition(callingServiceName));
         }
 
+        this.startFederationWorkerPool();
+
         if (connectorManager != null)
         {
             this.connectorConsumerId = connectorManager.registerConnectorConsumer(this);
@@ -160,11 +193,159 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
             connectorManager.unregisterConnectorConsumer(connectorConsumerId);
         }
 
+        if (federationWorkerPool != null)
+        {
+            federationWorkerPool.shutdownNow();
+            federationWorkerPool = null;
+        }
+
+        synchronized (continuationTokens)
+        {
+            continuationTokens.clear();
+        }
+
         localConnector = null;
         remoteCohortConnectors = new ArrayList<>();
     }
 
 
+    /**
+     * Create the bounded pool of worker threads used to issue federated requests to the cohort members in parallel.
+     * The size of the pool and the time to wait for each member are taken from the configuration properties
+     * of the connection.  The threads are only created when requests are issued and are released when idle.
+     * The maximum number of continuation tokens retained for paged queries is also read from the configuration properties.
+     */
+    private void startFederationWorkerPool()
+    {
+        int maxFederationThreads = defaultMaxFederationThreads;
+
+        if (super.connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = super.connectionProperties.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                Object maxThreadsProperty = configurationProperties.get(MAX_FEDERATION_THREADS_PROPERTY);
+                Object timeoutProperty    = configurationProperties.get(FEDERATION_MEMBER_TIMEOUT_PROPERTY);
+                Object maxCursorsProperty = configurationProperties.get(MAX_PAGING_CURSORS_PROPERTY);
+
+                if (maxThreadsProperty instanceof Number)
+                {
+                    maxFederationThreads = ((Number)maxThreadsProperty).intValue();
+                }
+
+                if (timeoutProperty instanceof Number)
+                {
+                    federationMemberTimeout = ((Number)timeoutProperty).longValue();
+                }
+
+                if (maxCursorsProperty instanceof Number)
+                {
+                    maxPagingCursors = ((Number)maxCursorsProperty).intValue();
+                }
+            }
+        }
+
+        if (maxFederationThreads > 0)
+        {
+            final String threadNamePrefix = "EnterpriseFederation-" + callingServiceName + "-";
+            final AtomicInteger threadCount = new AtomicInteger(0);
+
+            ThreadFactory threadFactory = runnable ->
+            {
+                Thread thread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+
+                thread.setDaemon(true);
+                return thread;
+            };
+
+            federationWorkerPool = new ThreadPoolExecutor(maxFederationThreads,
+                                                          maxFederationThreads,
+                                                          60,
+                                                          TimeUnit.SECONDS,
+                                                          new LinkedBlockingQueue<>(),
+                                                          threadFactory);
+            federationWorkerPool.allowCoreThreadTimeOut(true);
+        }
+    }
+
+
+    /**
+     * Return the pool of worker threads used to issue federated requests in parallel.
+     *
+     * @return executor service or null if requests are to be issued sequentially
+     */
+    ExecutorService getFederationWorkerPool()
+    {
+        return federationWorkerPool;
+    }
+
+
+    /**
+     * Return the maximum time to wait for a cohort member to respond to a federated request.
+     *
+     * @return time in milliseconds (zero or less means no limit)
+     */
+    long getFederationMemberTimeout()
+    {
+        return federationMemberTimeout;
+    }
+
+
+    /**
+     * Return the continuation token saved by the request for the previous page of a federated query.
+     *
+     * @param querySignature string identifying the query parameters (apart from the paging parameters)
+     * @param startingElement starting element of the requested page
+     * @return continuation token or null if the page must be retrieved from the start of each member's results
+     */
+    String getContinuationToken(String querySignature,
+                                int    startingElement)
+    {
+        if ((querySignature == null) || (startingElement == 0))
+        {
+            return null;
+        }
+
+        synchronized (continuationTokens)
+        {
+            return continuationTokens.get(querySignature + "#" + startingElement);
+        }
+    }
+
+
+    /**
+     * Save the continuation token for the next page of a federated query.  The least recently used tokens are
+     * discarded once the configured maximum number is reached.
+     *
+     * @param querySignature string identifying the query parameters (apart from the paging parameters)
+     * @param startingElement starting element of the page that the token retrieves
+     * @param continuationToken token returned by the executor
+     */
+    void saveContinuationToken(String querySignature,
+                               int    startingElement,
+                               String continuationToken)
+    {
+        if ((querySignature == null) || (continuationToken == null) || (maxPagingCursors <= 0))
+        {
+            return;
+        }
+
+        synchronized (continuationTokens)
+        {
+            continuationTokens.put(querySignature + "#" + startingElement, continuationToken);
+
+            Iterator<String> keys = continuationTokens.keySet().iterator();
+
+            while ((continuationTokens.size() > maxPagingCursors) && (keys.hasNext()))
+            {
+                keys.next();
+                keys.remove();
+            }
+        }
+    }
+
+
     /**
      * Returns the metadata collection to the repository where the supplied classification can be updated, ie its home repository.
      *
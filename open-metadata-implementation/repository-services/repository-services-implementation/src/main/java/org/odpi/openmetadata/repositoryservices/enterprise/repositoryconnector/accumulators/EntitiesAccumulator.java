@@ -30,6 +30,8 @@ public class EntitiesAccumulator extends QueryInstanceAccumulatorBase
     private volatile Map<String, List<Classification>> accumulatedClassifications = new HashMap<>();
     private volatile Map<String, List<String>>         accumulatedEntitySources   = new HashMap<>();
 
+    private FederatedPageMerger<EntityDetail> pageMerger = null;
+
 
     /**
      * Construct a entity accumulator.  Its base class manages the common variables needed to
@@ -47,6 +49,38 @@ public class EntitiesAccumulator extends QueryInstanceAccumulatorBase
     }
 
 
+    /**
+     * Construct a entity accumulator that returns a single page of the results, merged into the
+     * requested sequence.
+     *
+     * @param localMetadataCollectionId collection Id of local repository - null means no local repository
+     * @param auditLog audit log provides destination for log messages
+     * @param repositoryValidator validator provides common validation routines
+     * @param pageMerger merger that builds the requested page from the results of each cohort member
+     */
+    public EntitiesAccumulator(String                            localMetadataCollectionId,
+                               AuditLog                          auditLog,
+                               OMRSRepositoryValidator           repositoryValidator,
+                               FederatedPageMerger<EntityDetail> pageMerger)
+    {
+        super(localMetadataCollectionId, auditLog, repositoryValidator);
+
+        this.pageMerger = pageMerger;
+    }
+
+
+    /**
+     * Return the merger that builds the requested page from the results of each cohort member.
+     *
+     * @return null if the accumulator does not page its results
+     */
+    @Override
+    public FederatedPageMerger<EntityDetail> getPageMerger()
+    {
+        return pageMerger;
+    }
+
+
     /**
      * Provide an entity received from an open metadata repository.
      *
@@ -111,6 +145,16 @@ public class EntitiesAccumulator extends QueryInstanceAccumulatorBase
     public synchronized void addEntities(List<EntityDetail>   entities,
                                          String               metadataCollectionId)
     {
+        if (this.isIgnored(metadataCollectionId))
+        {
+            return;
+        }
+
+        if ((pageMerger != null) && (metadataCollectionId != null))
+        {
+            pageMerger.addMemberResults(metadataCollectionId, entities);
+        }
+
         if (entities != null)
         {
             for (EntityDetail entity : entities)
@@ -226,8 +270,20 @@ public class EntitiesAccumulator extends QueryInstanceAccumulatorBase
      *
      * @return null or list of GUIDs
      */
-    public List<String> getResultsForAugmentation()
+    public synchronized List<String> getResultsForAugmentation()
     {
+        if (pageMerger != null)
+        {
+            List<String> pageGUIDs = pageMerger.getPageGUIDs();
+
+            if (! pageGUIDs.isEmpty())
+            {
+                return new ArrayList<>(pageGUIDs);
+            }
+
+            return null;
+        }
+
         if (! accumulatedEntities.isEmpty())
         {
            return new ArrayList<>(accumulatedEntities.keySet());
@@ -255,13 +311,15 @@ public class EntitiesAccumulator extends QueryInstanceAccumulatorBase
         }
         else
         {
-            this.makeRefreshRecommendations(repositoryConnector);
+            List<EntityDetail> selectedEntities = this.getSelectedEntities();
+
+            this.makeRefreshRecommendations(repositoryConnector, selectedEntities);
 
             List<EntityDetail>  results = new ArrayList<>();
 
             if (metadataCollection != null)
             {
-                for (EntityDetail accumulatedEntity : accumulatedEntities.values())
+                for (EntityDetail accumulatedEntity : selectedEntities)
                 {
                     if (accumulatedEntity != null)
                     {
@@ -286,6 +344,35 @@ public class EntitiesAccumulator extends QueryInstanceAccumulatorBase
     }
 
 
+    /**
+     * Return the accumulated entities that are to be returned to the caller.  If the results are paged, these are the
+     * entities on the requested page in the requested sequence.
+     *
+     * @return list of entities
+     */
+    private List<EntityDetail> getSelectedEntities()
+    {
+        if (pageMerger == null)
+        {
+            return new ArrayList<>(accumulatedEntities.values());
+        }
+
+        List<EntityDetail> selectedEntities = new ArrayList<>();
+
+        for (String entityGUID : pageMerger.getPageGUIDs())
+        {
+            EntityDetail accumulatedEntity = accumulatedEntities.get(entityGUID);
+
+            if (accumulatedEntity != null)
+            {
+                selectedEntities.add(accumulatedEntity);
+            }
+        }
+
+        return selectedEntities;
+    }
+
+
     /**
      * Return the list of entities that where retrieved from other repositories and not stored in the local repository.
      * The local repository may use this list to send out refresh requests on the OMRS Topic.  If the rules allow, and
@@ -298,13 +385,15 @@ public class EntitiesAccumulator extends QueryInstanceAccumulatorBase
      * This call should be made once all processing has stopped.
      *
      * @param repositoryConnector enterprise connector
+     * @param selectedEntities entities that are to be returned to the caller
      */
-    private void makeRefreshRecommendations(EnterpriseOMRSRepositoryConnector repositoryConnector)
+    private void makeRefreshRecommendations(EnterpriseOMRSRepositoryConnector repositoryConnector,
+                                            List<EntityDetail>                selectedEntities)
     {
         /*
          * Either no local repository or nothing accumulated so nothing to return
          */
-        if ((localMetadataCollectionId == null) || (accumulatedEntities.isEmpty()))
+        if ((localMetadataCollectionId == null) || (selectedEntities.isEmpty()))
         {
             return;
         }
@@ -312,7 +401,7 @@ public class EntitiesAccumulator extends QueryInstanceAccumulatorBase
         /*
          * Ignore all entities that came from the local repository
          */
-        for (EntityDetail accumulatedEntity : accumulatedEntities.values())
+        for (EntityDetail accumulatedEntity : selectedEntities)
         {
             if (accumulatedEntity != null)
             {
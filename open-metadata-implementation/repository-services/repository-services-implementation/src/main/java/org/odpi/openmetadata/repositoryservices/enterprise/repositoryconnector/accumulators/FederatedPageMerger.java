@@ -0,0 +1,286 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * FederatedPageMerger builds one page of a federated query from the results returned by each cohort member.
+ * Each member returns its results in the requested sequencing order, so the page is built by a k-way merge
+ * of the members' lists.  The number of results consumed from each member is recorded in a
+ * FederatedPagingCursor so the next page can be retrieved from where each member left off.
+ *
+ * Without a cursor, each member is asked for all of the results up to the end of the requested page and the
+ * merged results before the starting element are skipped.  Duplicate copies of an instance returned by
+ * different members are merged into one result when they fall within the same request.
+ *
+ * This class may be called simultaneously from many different threads so it must be thread-safe.
+ *
+ * @param <T> type of instance returned by the query
+ */
+public class FederatedPageMerger<T extends InstanceHeader>
+{
+    private final int                  startingElement;
+    private final int                  pageSize;
+    private final Comparator<T>        sequencingComparator;
+    private final Map<String, List<T>> memberResults  = new HashMap<>();
+    private final Map<String, Integer> memberConsumed = new HashMap<>();
+
+    private FederatedPagingCursor pagingCursor = null;
+    private List<String>          pageGUIDs    = null;
+
+
+    /**
+     * Constructor
+     *
+     * @param startingElement the starting element number of the page requested by the caller
+     * @param pageSize the maximum number of results requested by the caller - zero means unrestricted
+     * @param sequencingComparator comparator matching the sequencing order used by the members
+     */
+    public FederatedPageMerger(int           startingElement,
+                               int           pageSize,
+                               Comparator<T> sequencingComparator)
+    {
+        this.startingElement = startingElement;
+        this.pageSize = pageSize;
+        this.sequencingComparator = sequencingComparator;
+    }
+
+
+    /**
+     * Set up the cursor saved by the request for the previous page.  It must have been created for the same
+     * query, starting element and cohort members.
+     *
+     * @param pagingCursor cursor
+     */
+    public synchronized void setPagingCursor(FederatedPagingCursor pagingCursor)
+    {
+        this.pagingCursor = pagingCursor;
+    }
+
+
+    /**
+     * Return the page size requested by the caller.
+     *
+     * @return maximum number of results - zero means unrestricted
+     */
+    public int getPageSize()
+    {
+        return pageSize;
+    }
+
+
+    /**
+     * Return the starting element to request from a cohort member.
+     *
+     * @param metadataCollectionId unique identifier of the member's metadata collection
+     * @return element number
+     */
+    public synchronized int getMemberStartingElement(String metadataCollectionId)
+    {
+        if (pagingCursor == null)
+        {
+            return 0;
+        }
+
+        return pagingCursor.getMemberOffset(metadataCollectionId);
+    }
+
+
+    /**
+     * Return the number of results to request from a cohort member.
+     *
+     * @return maximum number of results - zero means unrestricted
+     */
+    public synchronized int getMemberPageSize()
+    {
+        if ((pageSize == 0) || (pagingCursor != null))
+        {
+            return pageSize;
+        }
+
+        if (startingElement > Integer.MAX_VALUE - pageSize)
+        {
+            return 0;
+        }
+
+        return startingElement + pageSize;
+    }
+
+
+    /**
+     * Save the results returned by a cohort member in the order that the member returned them.
+     *
+     * @param metadataCollectionId unique identifier of the member's metadata collection
+     * @param results list of results - may be null
+     */
+    public synchronized void addMemberResults(String  metadataCollectionId,
+                                              List<T> results)
+    {
+        List<T> savedResults = new ArrayList<>();
+
+        if (results != null)
+        {
+            savedResults.addAll(results);
+        }
+
+        memberResults.put(metadataCollectionId, savedResults);
+        pageGUIDs = null;
+    }
+
+
+    /**
+     * Return the unique identifiers of the results on the requested page, in sequence.
+     *
+     * @return list of guids
+     */
+    public synchronized List<String> getPageGUIDs()
+    {
+        if (pageGUIDs == null)
+        {
+            pageGUIDs = this.mergeMemberResults();
+        }
+
+        return pageGUIDs;
+    }
+
+
+    /**
+     * Return the cursor for retrieving the page that follows the requested page.
+     *
+     * @param querySignature signature of the query
+     * @return cursor or null if there is no following page or results are not paged
+     */
+    public synchronized FederatedPagingCursor getNextPagingCursor(String querySignature)
+    {
+        List<String> currentPageGUIDs = this.getPageGUIDs();
+
+        if ((pageSize == 0) || (currentPageGUIDs.size() < pageSize) || (memberResults.isEmpty()))
+        {
+            return null;
+        }
+
+        Map<String, Integer> memberOffsets = new HashMap<>();
+
+        for (String metadataCollectionId : memberResults.keySet())
+        {
+            memberOffsets.put(metadataCollectionId,
+                              this.getMemberStartingElement(metadataCollectionId) + memberConsumed.getOrDefault(metadataCollectionId, 0));
+        }
+
+        return new FederatedPagingCursor(querySignature, startingElement + currentPageGUIDs.size(), memberOffsets);
+    }
+
+
+    /**
+     * Perform the k-way merge of the members' results.  The heads of the members' lists are held in a priority
+     * queue ordered by the sequencing comparator.  Ties are broken by the member's metadata collection id so
+     * that the same results always produce the same page.
+     *
+     * @return unique identifiers of the results on the page
+     */
+    private List<String> mergeMemberResults()
+    {
+        List<String> mergedGUIDs   = new ArrayList<>();
+        Set<String>  consumedGUIDs = new HashSet<>();
+        int          skipCount     = (pagingCursor == null) ? startingElement : 0;
+
+        memberConsumed.clear();
+
+        PriorityQueue<MemberResults> heads = new PriorityQueue<>((one, two) ->
+        {
+            int result = sequencingComparator.compare(one.getHead(), two.getHead());
+
+            if (result == 0)
+            {
+                result = one.metadataCollectionId.compareTo(two.metadataCollectionId);
+            }
+
+            return result;
+        });
+
+        for (Map.Entry<String, List<T>> results : memberResults.entrySet())
+        {
+            if (! results.getValue().isEmpty())
+            {
+                heads.add(new MemberResults(results.getKey(), results.getValue()));
+            }
+        }
+
+        while ((! heads.isEmpty()) && ((pageSize == 0) || (mergedGUIDs.size() < pageSize)))
+        {
+            MemberResults member   = heads.poll();
+            T             instance = member.getHead();
+
+            member.position++;
+            memberConsumed.put(member.metadataCollectionId, member.position);
+
+            if (member.position < member.results.size())
+            {
+                heads.add(member);
+            }
+
+            if ((instance == null) || (instance.getGUID() == null) || (! consumedGUIDs.add(instance.getGUID())))
+            {
+                continue;
+            }
+
+            if (skipCount > 0)
+            {
+                skipCount--;
+            }
+            else
+            {
+                mergedGUIDs.add(instance.getGUID());
+            }
+        }
+
+        /*
+         * Any later copies of the instances on this page are consumed too so they do not reappear on the next page.
+         */
+        for (MemberResults member : heads)
+        {
+            while ((member.position < member.results.size()) &&
+                   (member.getHead() != null) &&
+                   (consumedGUIDs.contains(member.getHead().getGUID())))
+            {
+                member.position++;
+                memberConsumed.put(member.metadataCollectionId, member.position);
+            }
+        }
+
+        return mergedGUIDs;
+    }
+
+
+    /**
+     * MemberResults tracks the position of the merge within the results of one cohort member.
+     */
+    private class MemberResults
+    {
+        private final String  metadataCollectionId;
+        private final List<T> results;
+        private int           position = 0;
+
+        MemberResults(String  metadataCollectionId,
+                      List<T> results)
+        {
+            this.metadataCollectionId = metadataCollectionId;
+            this.results = results;
+        }
+
+        T getHead()
+        {
+            return results.get(position);
+        }
+    }
+}
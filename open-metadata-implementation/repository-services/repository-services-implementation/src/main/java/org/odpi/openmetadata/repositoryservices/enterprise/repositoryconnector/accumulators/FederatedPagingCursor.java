@@ -0,0 +1,199 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * FederatedPagingCursor records how far a federated query has progressed through the results of each
+ * cohort member.  The next page of the query is retrieved by asking each member for the results that follow
+ * its offset rather than re-retrieving all of the earlier pages.
+ *
+ * The cursor is passed between requests as an opaque continuation token.
+ */
+public class FederatedPagingCursor
+{
+    private static final String tokenVersion    = "1";
+    private static final String fieldSeparator  = "\n";
+    private static final String offsetSeparator = "\t";
+
+    private final String               querySignature;
+    private final int                  startingElement;
+    private final Map<String, Integer> memberOffsets;
+
+
+    /**
+     * Constructor
+     *
+     * @param querySignature string identifying the query parameters (apart from the paging parameters)
+     * @param startingElement the starting element of the page that the cursor retrieves
+     * @param memberOffsets map of metadata collection id to the number of that member's results already consumed
+     */
+    public FederatedPagingCursor(String               querySignature,
+                                 int                  startingElement,
+                                 Map<String, Integer> memberOffsets)
+    {
+        this.querySignature = querySignature;
+        this.startingElement = startingElement;
+        this.memberOffsets = Collections.unmodifiableMap(new TreeMap<>(memberOffsets));
+    }
+
+
+    /**
+     * Recreate a cursor from its continuation token.
+     *
+     * @param continuationToken token returned by getContinuationToken
+     * @param querySignature signature of the query that the token is to be used for
+     * @return cursor or null if the token is not valid or was created for a different query
+     */
+    public static FederatedPagingCursor fromContinuationToken(String continuationToken,
+                                                              String querySignature)
+    {
+        if ((continuationToken == null) || (querySignature == null))
+        {
+            return null;
+        }
+
+        try
+        {
+            String   decodedToken = new String(Base64.getUrlDecoder().decode(continuationToken), StandardCharsets.UTF_8);
+            String[] fields       = decodedToken.split(fieldSeparator, -1);
+
+            if ((fields.length < 3) || (! tokenVersion.equals(fields[0])) || (! getSignatureHash(querySignature).equals(fields[1])))
+            {
+                return null;
+            }
+
+            int                  startingElement = Integer.parseInt(fields[2]);
+            Map<String, Integer> memberOffsets   = new TreeMap<>();
+
+            for (int i = 3; i < fields.length; i++)
+            {
+                String[] memberOffset = fields[i].split(offsetSeparator, -1);
+
+                if (memberOffset.length != 2)
+                {
+                    return null;
+                }
+
+                memberOffsets.put(memberOffset[0], Integer.parseInt(memberOffset[1]));
+            }
+
+            return new FederatedPagingCursor(querySignature, startingElement, memberOffsets);
+        }
+        catch (IllegalArgumentException error)
+        {
+            return null;
+        }
+    }
+
+
+    /**
+     * Return the cursor as an opaque string that can be passed back to resume the query.
+     *
+     * @return continuation token
+     */
+    public String getContinuationToken()
+    {
+        StringBuilder token = new StringBuilder();
+
+        token.append(tokenVersion).append(fieldSeparator);
+        token.append(getSignatureHash(querySignature)).append(fieldSeparator);
+        token.append(startingElement);
+
+        for (Map.Entry<String, Integer> memberOffset : memberOffsets.entrySet())
+        {
+            token.append(fieldSeparator).append(memberOffset.getKey()).append(offsetSeparator).append(memberOffset.getValue());
+        }
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+
+    /**
+     * Return a short hash of the query signature that is used to check a token is used with the right query.
+     *
+     * @param querySignature signature of the query
+     * @return hex string
+     */
+    private static String getSignatureHash(String querySignature)
+    {
+        return Integer.toHexString(querySignature.hashCode());
+    }
+
+
+    /**
+     * Return the signature of the query that the cursor belongs to.
+     *
+     * @return string
+     */
+    public String getQuerySignature()
+    {
+        return querySignature;
+    }
+
+
+    /**
+     * Return the starting element of the page that this cursor retrieves.
+     *
+     * @return element number
+     */
+    public int getStartingElement()
+    {
+        return startingElement;
+    }
+
+
+    /**
+     * Return the number of results already consumed from a cohort member.
+     *
+     * @param metadataCollectionId unique identifier of the member's metadata collection
+     * @return offset - zero if the member is not known to the cursor
+     */
+    public int getMemberOffset(String metadataCollectionId)
+    {
+        Integer offset = memberOffsets.get(metadataCollectionId);
+
+        if (offset == null)
+        {
+            return 0;
+        }
+
+        return offset;
+    }
+
+
+    /**
+     * Return whether the cursor was created for exactly the supplied cohort members.  A cursor can not be
+     * used once members have joined or left, or if a member failed to return results for the previous page.
+     *
+     * @param metadataCollectionIds unique identifiers of the members that are to be queried
+     * @return boolean
+     */
+    public boolean coversMembers(Collection<String> metadataCollectionIds)
+    {
+        return (metadataCollectionIds != null) && (memberOffsets.keySet().equals(new HashSet<>(metadataCollectionIds)));
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "FederatedPagingCursor{" +
+                "querySignature='" + querySignature + '\'' +
+                ", startingElement=" + startingElement +
+                ", memberOffsets=" + memberOffsets +
+                '}';
+    }
+}
@@ -9,7 +9,9 @@ import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * QueryAccumulatorBase acts as a base class to the accumulators that need to visit each repository and combine results.
@@ -22,6 +24,7 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     private int                  responsesRequired  = 0;
     private Map<String, Integer> resultsContributed = new HashMap<>();
     private boolean              resultsReturned = false;
+    private Set<String>          ignoredMetadataCollections = new HashSet<>();
 
 
     /**
@@ -77,6 +80,34 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     }
 
 
+    /**
+     * Stop accepting results and exceptions from a repository.  This is used when the federated request has
+     * stopped waiting for the repository, so that a late response does not change the results that have
+     * already been returned to the caller.
+     *
+     * @param metadataCollectionId identifier of repository's metadata collection
+     */
+    public synchronized void ignoreMetadataCollection(String metadataCollectionId)
+    {
+        if (metadataCollectionId != null)
+        {
+            ignoredMetadataCollections.add(metadataCollectionId);
+        }
+    }
+
+
+    /**
+     * Return whether results from a repository are being ignored.
+     *
+     * @param metadataCollectionId identifier of repository's metadata collection
+     * @return boolean flag
+     */
+    synchronized boolean isIgnored(String metadataCollectionId)
+    {
+        return (metadataCollectionId != null) && (ignoredMetadataCollections.contains(metadataCollectionId));
+    }
+
+
     /**
      * This records the completion of the request to a single repository.
      *
@@ -116,6 +147,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                       metadataCollectionId,
                                               ClassificationErrorException exception)
     {
+        if (this.isIgnored(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         classificationErrorException = exception;
     }
@@ -130,6 +166,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                  metadataCollectionId,
                                               EntityNotKnownException exception)
     {
+        if (this.isIgnored(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         entityNotKnownException = exception;
     }
@@ -145,6 +186,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                        metadataCollectionId,
                                               FunctionNotSupportedException exception)
     {
+        if (this.isIgnored(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         functionNotSupportedException = exception;
     }
@@ -159,6 +205,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                    metadataCollectionId,
                                               InvalidParameterException exception)
     {
+        if (this.isIgnored(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         invalidParameterException = exception;
     }
@@ -173,6 +224,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String               metadataCollectionId,
                                               PagingErrorException exception)
     {
+        if (this.isIgnored(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         pagingErrorException = exception;
     }
@@ -187,6 +243,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                 metadataCollectionId,
                                               PropertyErrorException exception)
     {
+        if (this.isIgnored(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         propertyErrorException = exception;
     }
@@ -201,6 +262,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                        metadataCollectionId,
                                               RelationshipNotKnownException exception)
     {
+        if (this.isIgnored(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         relationshipNotKnownException = exception;
     }
@@ -215,6 +281,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                   metadataCollectionId,
                                               RepositoryErrorException exception)
     {
+        if (this.isIgnored(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         repositoryErrorException = exception;
     }
@@ -229,6 +300,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String             metadataCollectionId,
                                               TypeErrorException exception)
     {
+        if (this.isIgnored(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         typeErrorException = exception;
     }
@@ -243,6 +319,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               UserNotAuthorizedException exception)
     {
+        if (this.isIgnored(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         userNotAuthorizedException = exception;
     }
@@ -259,6 +340,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
                                                      String     metadataCollectionId,
                                                      Exception  exception)
     {
+        if (this.isIgnored(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         anotherException = exception;
 
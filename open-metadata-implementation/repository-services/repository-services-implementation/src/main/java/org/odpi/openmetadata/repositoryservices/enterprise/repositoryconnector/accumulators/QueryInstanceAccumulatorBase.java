@@ -33,6 +33,17 @@ public class QueryInstanceAccumulatorBase extends QueryAccumulatorBase
     }
 
 
+    /**
+     * Return the merger that builds the requested page from the results of each cohort member.
+     *
+     * @return null if the accumulator does not page its results
+     */
+    public FederatedPageMerger<?> getPageMerger()
+    {
+        return null;
+    }
+
+
     /**
      * Save the list of GUIDs of instances that are stored locally.  These may be home or reference copies.
      *
@@ -22,6 +22,8 @@ public class RelationshipsAccumulator extends QueryInstanceAccumulatorBase
 {
     private volatile Map<String, Relationship> accumulatedRelationships   = new HashMap<>();
 
+    private FederatedPageMerger<Relationship> pageMerger = null;
+
 
     /**
      * Construct a relationship accumulator.  Its base class manages the common variables needed to
@@ -39,6 +41,38 @@ public class RelationshipsAccumulator extends QueryInstanceAccumulatorBase
     }
 
 
+    /**
+     * Construct a relationship accumulator that returns a single page of the results, merged into the
+     * requested sequence.
+     *
+     * @param localMetadataCollectionId collection Id of local repository - null means no local repository
+     * @param auditLog audit log provides destination for log messages
+     * @param repositoryValidator validator provides common validation routines
+     * @param pageMerger merger that builds the requested page from the results of each cohort member
+     */
+    public RelationshipsAccumulator(String                            localMetadataCollectionId,
+                                    AuditLog                          auditLog,
+                                    OMRSRepositoryValidator           repositoryValidator,
+                                    FederatedPageMerger<Relationship> pageMerger)
+    {
+        super(localMetadataCollectionId, auditLog, repositoryValidator);
+
+        this.pageMerger = pageMerger;
+    }
+
+
+    /**
+     * Return the merger that builds the requested page from the results of each cohort member.
+     *
+     * @return null if the accumulator does not page its results
+     */
+    @Override
+    public FederatedPageMerger<Relationship> getPageMerger()
+    {
+        return pageMerger;
+    }
+
+
     /**
      * Provide a relationship received from an open metadata repository.
      *
@@ -85,6 +119,16 @@ public class RelationshipsAccumulator extends QueryInstanceAccumulatorBase
     public synchronized void addRelationships(List<Relationship>   relationships,
                                               String               metadataCollectionId)
     {
+        if (this.isIgnored(metadataCollectionId))
+        {
+            return;
+        }
+
+        if ((pageMerger != null) && (metadataCollectionId != null))
+        {
+            pageMerger.addMemberResults(metadataCollectionId, relationships);
+        }
+
         if (relationships != null)
         {
             for (Relationship relationship : relationships)
@@ -123,9 +167,46 @@ public class RelationshipsAccumulator extends QueryInstanceAccumulatorBase
         }
         else
         {
-            this.makeRefreshRecommendations(repositoryConnector);
+            List<Relationship> selectedRelationships = this.getSelectedRelationships();
+
+            this.makeRefreshRecommendations(repositoryConnector, selectedRelationships);
+
+            if (selectedRelationships.isEmpty())
+            {
+                return null;
+            }
+
+            return selectedRelationships;
+        }
+    }
+
+
+    /**
+     * Return the accumulated relationships that are to be returned to the caller.  If the results are paged, these are the
+     * relationships on the requested page in the requested sequence.
+     *
+     * @return list of relationships
+     */
+    private List<Relationship> getSelectedRelationships()
+    {
+        if (pageMerger == null)
+        {
             return new ArrayList<>(accumulatedRelationships.values());
         }
+
+        List<Relationship> selectedRelationships = new ArrayList<>();
+
+        for (String relationshipGUID : pageMerger.getPageGUIDs())
+        {
+            Relationship accumulatedRelationship = accumulatedRelationships.get(relationshipGUID);
+
+            if (accumulatedRelationship != null)
+            {
+                selectedRelationships.add(accumulatedRelationship);
+            }
+        }
+
+        return selectedRelationships;
     }
 
 
@@ -141,13 +222,15 @@ public class RelationshipsAccumulator extends QueryInstanceAccumulatorBase
      * This call should be made once all processing has stopped.
      *
      * @param repositoryConnector enterprise connector
+     * @param selectedRelationships relationships that are to be returned to the caller
      */
-    private  void  makeRefreshRecommendations(EnterpriseOMRSRepositoryConnector repositoryConnector)
+    private  void  makeRefreshRecommendations(EnterpriseOMRSRepositoryConnector repositoryConnector,
+                                              List<Relationship>                selectedRelationships)
     {
         /*
          * Either no local repository or nothing accumulated so nothing to return
          */
-        if ((localMetadataCollectionId == null) || (accumulatedRelationships.isEmpty()))
+        if ((localMetadataCollectionId == null) || (selectedRelationships.isEmpty()))
         {
             return;
         }
@@ -155,7 +238,7 @@ public class RelationshipsAccumulator extends QueryInstanceAccumulatorBase
         /*
          * Ignore all entities that came from the local repository
          */
-        for (Relationship accumulatedRelationship : accumulatedRelationships.values())
+        for (Relationship accumulatedRelationship : selectedRelationships)
         {
             if (accumulatedRelationship != null)
             {
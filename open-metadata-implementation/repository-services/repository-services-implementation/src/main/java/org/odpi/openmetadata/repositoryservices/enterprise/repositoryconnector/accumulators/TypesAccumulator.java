@@ -104,6 +104,11 @@ public class TypesAccumulator extends QueryAccumulatorBase
     public synchronized void addTypeDefGallery(TypeDefGallery types,
                                                String         metadataCollectionId)
     {
+        if (this.isIgnored(metadataCollectionId))
+        {
+            return;
+        }
+
         int numberOrAttributeTypeDefs = 0;
         int numberOfTypeDefs = 0;
 
@@ -63,6 +63,41 @@ public abstract class FederationControlBase implements FederationControl
     public abstract void executeCommand(RepositoryExecutor   executor) throws RepositoryErrorException;
 
 
+    /**
+     * All repositories have been called.  The executor may choose to augment each result element
+     * by making another sweep of the repositories.
+     *
+     * @param executor command to execute
+     * @throws RepositoryErrorException problem with the state of one of the repositories.
+     * This is probably a logic error rather than an outage
+     */
+    void augmentResults(RepositoryExecutor executor) throws RepositoryErrorException
+    {
+        List<String> resultGUIDs = executor.getResultsForAugmentation();
+
+        if ((resultGUIDs != null) && (cohortConnectors != null))
+        {
+            for (String resultGUID : resultGUIDs)
+            {
+                for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+                {
+                    if (cohortConnector != null)
+                    {
+                        OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+
+                        String metadataCollectionId = this.validateMetadataCollection(cohortConnector, metadataCollection, methodName);
+
+                        if (metadataCollectionId != null)
+                        {
+                            executor.augmentResultFromRepository(resultGUID, metadataCollectionId, metadataCollection);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+
     /**
      * Verify that a cohort member's metadata collection is not null.
      *
@@ -5,18 +5,54 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.CloneableRepositoryExecutor;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.RepositoryExecutor;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * ParallelFederationControl uses multiple worker threads to perform the calls to different systems in parallel.
+ * Each cohort member is called through its own clone of the executor.  The clones share the accumulator of
+ * the original executor so the results are assembled in the same way as for the sequential federation control.
+ *
+ * The federated request completes when all of the cohort members have responded, when one of them reports that
+ * the executor has all of the results it needs, or when the member timeout expires.  Outstanding requests are
+ * cancelled at this point.  Executors that are not cloneable, or a control with no worker pool, fall back to the
+ * sequential federation control.
  */
 public class ParallelFederationControl extends FederationControlBase
 {
-    // todo at this point the parallel federation control uses the sequential federation control since the worker threads are not implemented.
     private SequentialFederationControl sequentialFederationControl;
+    private ExecutorService             workerPool;
+    private long                        memberTimeout;
+
+
+    /**
+     * Constructor for a federated query that has no worker pool.  The requests are issued sequentially.
+     *
+     * @param userId calling user
+     * @param cohortConnectors list of connectors to call
+     * @param auditLog logging destination
+     * @param methodName calling method
+     */
+    public ParallelFederationControl(String                        userId,
+                                     List<OMRSRepositoryConnector> cohortConnectors,
+                                     AuditLog                      auditLog,
+                                     String                        methodName)
+    {
+        this(userId, cohortConnectors, auditLog, null, 0, methodName);
+    }
+
 
     /**
      * Constructor for a federated query
@@ -24,16 +60,22 @@ public class ParallelFederationControl extends FederationControlBase
      * @param userId calling user
      * @param cohortConnectors list of connectors to call
      * @param auditLog logging destination
+     * @param workerPool bounded pool of worker threads used to call the cohort members (null means sequential)
+     * @param memberTimeout maximum time in milliseconds to wait for a cohort member to respond (zero or less means no limit)
      * @param methodName calling method
      */
     public ParallelFederationControl(String                        userId,
                                      List<OMRSRepositoryConnector> cohortConnectors,
                                      AuditLog                      auditLog,
+                                     ExecutorService               workerPool,
+                                     long                          memberTimeout,
                                      String                        methodName)
     {
         super(userId, cohortConnectors, auditLog, methodName);
 
-        sequentialFederationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        this.sequentialFederationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        this.workerPool = workerPool;
+        this.memberTimeout = memberTimeout;
     }
 
 
@@ -46,6 +88,151 @@ public class ParallelFederationControl extends FederationControlBase
      */
     public void executeCommand(RepositoryExecutor executor) throws RepositoryErrorException
     {
-        sequentialFederationControl.executeCommand(executor);
+        if ((workerPool == null) || (workerPool.isShutdown()) || (! (executor instanceof CloneableRepositoryExecutor)))
+        {
+            sequentialFederationControl.executeCommand(executor);
+            return;
+        }
+
+        if (super.cohortConnectors != null)
+        {
+            CompletionService<Boolean>                    completionService   = new ExecutorCompletionService<>(workerPool);
+            Map<Future<Boolean>, OMRSRepositoryConnector> outstandingRequests = new HashMap<>();
+            CloneableRepositoryExecutor                   cloneableExecutor   = (CloneableRepositoryExecutor)executor;
+
+            /*
+             * Each cohort member is called with its own clone of the executor.
+             */
+            for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+            {
+                if (cohortConnector != null)
+                {
+                    RepositoryExecutor memberExecutor = (RepositoryExecutor) cloneableExecutor.getClone();
+
+                    Future<Boolean> request = completionService.submit(() -> issueRequestToMember(memberExecutor, cohortConnector));
+
+                    outstandingRequests.put(request, cohortConnector);
+                }
+            }
+
+            this.awaitResponses(completionService, cloneableExecutor, outstandingRequests);
+
+            /*
+             * All repositories have been called.
+             * The executor may choose to augment each result element by making another sweep of the repositories.
+             */
+            super.augmentResults(executor);
+        }
+    }
+
+
+    /**
+     * Issue the request to a single cohort member.  This runs on one of the worker threads.
+     *
+     * @param memberExecutor executor dedicated to this cohort member
+     * @param cohortConnector connector to the cohort member
+     * @return boolean true means that the required results have been achieved
+     * @throws RepositoryErrorException null metadata collection
+     */
+    private boolean issueRequestToMember(RepositoryExecutor      memberExecutor,
+                                         OMRSRepositoryConnector cohortConnector) throws RepositoryErrorException
+    {
+        OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+
+        String metadataCollectionId = this.validateMetadataCollection(cohortConnector, metadataCollection, methodName);
+
+        if (metadataCollectionId != null)
+        {
+            return memberExecutor.issueRequestToRepository(metadataCollectionId, metadataCollection);
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Wait for the cohort members to respond.  Waiting stops when all members have responded, one member reports
+     * that the results are complete, or the member timeout expires.  Any requests still running are cancelled and
+     * the accumulator ignores any results that they deliver after this point.
+     *
+     * @param completionService service delivering the responses in the order that they complete
+     * @param cloneableExecutor executor whose accumulator is shared by the members' executors
+     * @param outstandingRequests requests that have been issued mapped to the connector of the repository called
+     * @throws RepositoryErrorException problem with the state of one of the repositories
+     */
+    private void awaitResponses(CompletionService<Boolean>                    completionService,
+                                CloneableRepositoryExecutor                   cloneableExecutor,
+                                Map<Future<Boolean>, OMRSRepositoryConnector> outstandingRequests) throws RepositoryErrorException
+    {
+        long    deadline         = System.currentTimeMillis() + memberTimeout;
+        boolean resultsSatisfied = false;
+
+        try
+        {
+            while ((! outstandingRequests.isEmpty()) && (! resultsSatisfied))
+            {
+                Future<Boolean> response;
+
+                if (memberTimeout > 0)
+                {
+                    long waitTime = deadline - System.currentTimeMillis();
+
+                    response = (waitTime > 0) ? completionService.poll(waitTime, TimeUnit.MILLISECONDS) : null;
+                }
+                else
+                {
+                    response = completionService.take();
+                }
+
+                if (response == null)
+                {
+                    /*
+                     * The remaining members did not respond in time.
+                     */
+                    for (OMRSRepositoryConnector cohortConnector : outstandingRequests.values())
+                    {
+                        auditLog.logMessage(methodName,
+                                            OMRSAuditCode.FEDERATED_MEMBER_TIMEOUT.getMessageDefinition(cohortConnector.getRepositoryName(),
+                                                                                                       methodName,
+                                                                                                       Long.toString(memberTimeout)));
+                    }
+                    break;
+                }
+
+                String repositoryName = outstandingRequests.remove(response).getRepositoryName();
+
+                try
+                {
+                    resultsSatisfied = Boolean.TRUE.equals(response.get());
+                }
+                catch (ExecutionException error)
+                {
+                    Throwable cause = (error.getCause() == null) ? error : error.getCause();
+
+                    if (cause instanceof RepositoryErrorException)
+                    {
+                        throw (RepositoryErrorException) cause;
+                    }
+
+                    auditLog.logException(methodName,
+                                          OMRSAuditCode.SKIPPING_METADATA_COLLECTION.getMessageDefinition(repositoryName,
+                                                                                                          cause.getClass().getName(),
+                                                                                                          cause.getMessage()),
+                                          cause);
+                }
+            }
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+        }
+        finally
+        {
+            for (Map.Entry<Future<Boolean>, OMRSRepositoryConnector> outstandingRequest : outstandingRequests.entrySet())
+            {
+                cloneableExecutor.ignoreRepository(outstandingRequest.getValue().getMetadataCollectionId());
+                outstandingRequest.getKey().cancel(true);
+            }
+        }
     }
 }
@@ -8,7 +8,6 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.RepositoryExecutor;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -74,28 +73,7 @@ public class SequentialFederationControl extends FederationControlBase
              * All repositories have been called.
              * The executor may choose to augment each result element by making another sweep of the repositories.
              */
-            List<String> resultGUIDs = executor.getResultsForAugmentation();
-
-            if (resultGUIDs != null)
-            {
-                for (String resultGUID : resultGUIDs)
-                {
-                    for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-                    {
-                        if (cohortConnector != null)
-                        {
-                            OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
-
-                            String metadataCollectionId = this.validateMetadataCollection(cohortConnector, metadataCollection, methodName);
-
-                            if (metadataCollectionId != null)
-                            {
-                                executor.augmentResultFromRepository(resultGUID, metadataCollectionId, metadataCollection);
-                            }
-                        }
-                    }
-                }
-            }
+            super.augmentResults(executor);
         }
     }
 }
@@ -14,4 +14,13 @@ public interface CloneableRepositoryExecutor
      * @return clone of this executor
      */
     CloneableRepositoryExecutor getClone();
+
+
+    /**
+     * Stop the shared accumulator from accepting any further results from a repository.  This is called when
+     * the federated request stops waiting for the repository so that a late response is ignored.
+     *
+     * @param metadataCollectionId identifier of the repository's metadata collection
+     */
+    void ignoreRepository(String metadataCollectionId);
 }
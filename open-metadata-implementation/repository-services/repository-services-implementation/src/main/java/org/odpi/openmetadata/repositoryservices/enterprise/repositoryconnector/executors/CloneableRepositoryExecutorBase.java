@@ -11,12 +11,35 @@ import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.a
  */
 abstract class CloneableRepositoryExecutorBase extends RepositoryExecutorBase implements CloneableRepositoryExecutor
 {
+    private QueryAccumulatorBase accumulator;
+
+
+    /**
+     * Constructor registers the executor with the accumulator it shares with its clones.
+     *
+     * @param userId calling user
+     * @param methodName calling method
+     * @param accumulator shared accumulator
+     */
     CloneableRepositoryExecutorBase(String               userId,
                                     String               methodName,
                                     QueryAccumulatorBase accumulator)
     {
         super(userId, methodName);
 
+        this.accumulator = accumulator;
         accumulator.registerExecutor();
     }
+
+
+    /**
+     * Stop the shared accumulator from accepting any further results from a repository.
+     *
+     * @param metadataCollectionId identifier of the repository's metadata collection
+     */
+    @Override
+    public void ignoreRepository(String metadataCollectionId)
+    {
+        accumulator.ignoreMetadataCollection(metadataCollectionId);
+    }
 }
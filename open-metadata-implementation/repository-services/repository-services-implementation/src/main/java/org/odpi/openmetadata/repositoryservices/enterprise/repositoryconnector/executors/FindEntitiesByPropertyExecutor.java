@@ -10,8 +10,10 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.FederatedPageMerger;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.EntitiesAccumulator;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
 
 import java.util.Date;
 import java.util.List;
@@ -80,7 +82,14 @@ public class FindEntitiesByPropertyExecutor extends PageableEntityRepositoryExec
              sequencingProperty,
              sequencingOrder,
              pageSize,
-             new EntitiesAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
+             new EntitiesAccumulator(localMetadataCollectionId,
+                                     auditLog,
+                                     repositoryValidator,
+                                     new FederatedPageMerger<>(fromEntityElement,
+                                                               pageSize,
+                                                               OMRSRepositoryContentHelper.getSequencingComparator(sequencingProperty,
+                                                                                                                   sequencingOrder,
+                                                                                                                   EntityDetail::getProperties))),
              methodName);
     }
 
@@ -165,6 +174,18 @@ public class FindEntitiesByPropertyExecutor extends PageableEntityRepositoryExec
     }
 
 
+    /**
+     * Return a string identifying the query parameters, apart from the paging parameters.
+     *
+     * @return query signature
+     */
+    @Override
+    public String getQuerySignature()
+    {
+        return super.buildQuerySignature(matchProperties, matchCriteria, limitResultsByClassification);
+    }
+
+
     /**
      * Perform the required action for the supplied repository.
      *
@@ -184,13 +205,13 @@ public class FindEntitiesByPropertyExecutor extends PageableEntityRepositoryExec
                                                                                    instanceTypeGUID,
                                                                                    matchProperties,
                                                                                    matchCriteria,
-                                                                                   startingElement,
+                                                                                   this.getMemberStartingElement(metadataCollectionId),
                                                                                    limitResultsByStatus,
                                                                                    limitResultsByClassification,
                                                                                    asOfTime,
                                                                                    sequencingProperty,
                                                                                    sequencingOrder,
-                                                                                   pageSize);
+                                                                                   this.getMemberPageSize());
 
             accumulator.addEntities(results, metadataCollectionId);
         }
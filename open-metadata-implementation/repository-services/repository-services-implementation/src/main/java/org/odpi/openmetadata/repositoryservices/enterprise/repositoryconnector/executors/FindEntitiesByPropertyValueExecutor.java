@@ -8,8 +8,10 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.FederatedPageMerger;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.EntitiesAccumulator;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
 
 import java.util.Date;
 import java.util.List;
@@ -76,7 +78,14 @@ public class FindEntitiesByPropertyValueExecutor extends PageableEntityRepositor
              sequencingProperty,
              sequencingOrder,
              pageSize,
-             new EntitiesAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
+             new EntitiesAccumulator(localMetadataCollectionId,
+                                     auditLog,
+                                     repositoryValidator,
+                                     new FederatedPageMerger<>(fromEntityElement,
+                                                               pageSize,
+                                                               OMRSRepositoryContentHelper.getSequencingComparator(sequencingProperty,
+                                                                                                                   sequencingOrder,
+                                                                                                                   EntityDetail::getProperties))),
              methodName);
     }
 
@@ -159,6 +168,18 @@ public class FindEntitiesByPropertyValueExecutor extends PageableEntityRepositor
     }
 
 
+    /**
+     * Return a string identifying the query parameters, apart from the paging parameters.
+     *
+     * @return query signature
+     */
+    @Override
+    public String getQuerySignature()
+    {
+        return super.buildQuerySignature(searchCriteria, limitResultsByClassification);
+    }
+
+
     /**
      * Perform the required action for the supplied repository.
      *
@@ -177,13 +198,13 @@ public class FindEntitiesByPropertyValueExecutor extends PageableEntityRepositor
             List<EntityDetail> results = metadataCollection.findEntitiesByPropertyValue(userId,
                                                                                         instanceTypeGUID,
                                                                                         searchCriteria,
-                                                                                        startingElement,
+                                                                                        this.getMemberStartingElement(metadataCollectionId),
                                                                                         limitResultsByStatus,
                                                                                         limitResultsByClassification,
                                                                                         asOfTime,
                                                                                         sequencingProperty,
                                                                                         sequencingOrder,
-                                                                                        pageSize);
+                                                                                        this.getMemberPageSize());
 
             accumulator.addEntities(results, metadataCollectionId);
         }
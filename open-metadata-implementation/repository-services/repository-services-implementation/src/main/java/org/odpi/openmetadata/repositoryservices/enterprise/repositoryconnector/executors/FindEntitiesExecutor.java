@@ -10,8 +10,10 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.FederatedPageMerger;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.EntitiesAccumulator;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
 
 import java.util.Date;
 import java.util.List;
@@ -80,7 +82,14 @@ public class FindEntitiesExecutor extends PageableEntityRepositoryExecutorBase
              sequencingProperty,
              sequencingOrder,
              pageSize,
-             new EntitiesAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
+             new EntitiesAccumulator(localMetadataCollectionId,
+                                     auditLog,
+                                     repositoryValidator,
+                                     new FederatedPageMerger<>(fromEntityElement,
+                                                               pageSize,
+                                                               OMRSRepositoryContentHelper.getSequencingComparator(sequencingProperty,
+                                                                                                                   sequencingOrder,
+                                                                                                                   EntityDetail::getProperties))),
              methodName);
     }
 
@@ -168,6 +177,18 @@ public class FindEntitiesExecutor extends PageableEntityRepositoryExecutorBase
     }
 
 
+    /**
+     * Return a string identifying the query parameters, apart from the paging parameters.
+     *
+     * @return query signature
+     */
+    @Override
+    public String getQuerySignature()
+    {
+        return super.buildQuerySignature(instanceSubtypeGUIDs, matchProperties, matchClassifications);
+    }
+
+
     /**
      * Perform the required action for the supplied repository.
      *
@@ -187,13 +208,13 @@ public class FindEntitiesExecutor extends PageableEntityRepositoryExecutorBase
                                                                          instanceTypeGUID,
                                                                          instanceSubtypeGUIDs,
                                                                          matchProperties,
-                                                                         startingElement,
+                                                                         this.getMemberStartingElement(metadataCollectionId),
                                                                          limitResultsByStatus,
                                                                          matchClassifications,
                                                                          asOfTime,
                                                                          sequencingProperty,
                                                                          sequencingOrder,
-                                                                         pageSize);
+                                                                         this.getMemberPageSize());
 
             accumulator.addEntities(results, metadataCollectionId);
         }
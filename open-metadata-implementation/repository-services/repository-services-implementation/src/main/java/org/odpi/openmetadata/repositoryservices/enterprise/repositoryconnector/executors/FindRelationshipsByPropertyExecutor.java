@@ -11,8 +11,10 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.FederatedPageMerger;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.RelationshipsAccumulator;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
 
 import java.util.Date;
 import java.util.List;
@@ -83,7 +85,14 @@ public class FindRelationshipsByPropertyExecutor extends PageableRepositoryExecu
              sequencingProperty,
              sequencingOrder,
              pageSize,
-             new RelationshipsAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
+             new RelationshipsAccumulator(localMetadataCollectionId,
+                                          auditLog,
+                                          repositoryValidator,
+                                          new FederatedPageMerger<>(fromRelationshipElement,
+                                                                    pageSize,
+                                                                    OMRSRepositoryContentHelper.getSequencingComparator(sequencingProperty,
+                                                                                                                        sequencingOrder,
+                                                                                                                        Relationship::getProperties))),
              methodName);
     }
 
@@ -169,6 +178,18 @@ public class FindRelationshipsByPropertyExecutor extends PageableRepositoryExecu
     }
 
 
+    /**
+     * Return a string identifying the query parameters, apart from the paging parameters.
+     *
+     * @return query signature
+     */
+    @Override
+    public String getQuerySignature()
+    {
+        return super.buildQuerySignature(matchProperties, matchCriteria);
+    }
+
+
     /**
      * Perform the required action for the supplied repository.
      *
@@ -188,12 +209,12 @@ public class FindRelationshipsByPropertyExecutor extends PageableRepositoryExecu
                                                                                         instanceTypeGUID,
                                                                                         matchProperties,
                                                                                         matchCriteria,
-                                                                                        startingElement,
+                                                                                        this.getMemberStartingElement(metadataCollectionId),
                                                                                         limitResultsByStatus,
                                                                                         asOfTime,
                                                                                         sequencingProperty,
                                                                                         sequencingOrder,
-                                                                                        pageSize);
+                                                                                        this.getMemberPageSize());
 
             accumulator.addRelationships(results, metadataCollectionId);
         }
@@ -9,8 +9,10 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.FederatedPageMerger;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.RelationshipsAccumulator;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
 
 import java.util.Date;
 import java.util.List;
@@ -77,7 +79,14 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
              sequencingProperty,
              sequencingOrder,
              pageSize,
-             new RelationshipsAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
+             new RelationshipsAccumulator(localMetadataCollectionId,
+                                          auditLog,
+                                          repositoryValidator,
+                                          new FederatedPageMerger<>(fromRelationshipElement,
+                                                                    pageSize,
+                                                                    OMRSRepositoryContentHelper.getSequencingComparator(sequencingProperty,
+                                                                                                                        sequencingOrder,
+                                                                                                                        Relationship::getProperties))),
              methodName);
     }
 
@@ -158,6 +167,18 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
     }
 
 
+    /**
+     * Return a string identifying the query parameters, apart from the paging parameters.
+     *
+     * @return query signature
+     */
+    @Override
+    public String getQuerySignature()
+    {
+        return super.buildQuerySignature(searchCriteria);
+    }
+
+
     /**
      * Perform the required action for the supplied repository.
      *
@@ -176,12 +197,12 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
             List<Relationship> results = metadataCollection.findRelationshipsByPropertyValue(userId,
                                                                                              instanceTypeGUID,
                                                                                              searchCriteria,
-                                                                                             startingElement,
+                                                                                             this.getMemberStartingElement(metadataCollectionId),
                                                                                              limitResultsByStatus,
                                                                                              asOfTime,
                                                                                              sequencingProperty,
                                                                                              sequencingOrder,
-                                                                                             pageSize);
+                                                                                             this.getMemberPageSize());
 
             accumulator.addRelationships(results, metadataCollectionId);
         }
@@ -10,8 +10,10 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.FederatedPageMerger;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.RelationshipsAccumulator;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
 
 import java.util.Date;
 import java.util.List;
@@ -81,7 +83,14 @@ public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
              sequencingProperty,
              sequencingOrder,
              pageSize,
-             new RelationshipsAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
+             new RelationshipsAccumulator(localMetadataCollectionId,
+                                          auditLog,
+                                          repositoryValidator,
+                                          new FederatedPageMerger<>(fromRelationshipElement,
+                                                                    pageSize,
+                                                                    OMRSRepositoryContentHelper.getSequencingComparator(sequencingProperty,
+                                                                                                                        sequencingOrder,
+                                                                                                                        Relationship::getProperties))),
              methodName);
     }
 
@@ -167,6 +176,18 @@ public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
     }
 
 
+    /**
+     * Return a string identifying the query parameters, apart from the paging parameters.
+     *
+     * @return query signature
+     */
+    @Override
+    public String getQuerySignature()
+    {
+        return super.buildQuerySignature(instanceSubtypeGUIDs, matchProperties);
+    }
+
+
     /**
      * Perform the required action for the supplied repository.
      *
@@ -186,12 +207,12 @@ public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
                                                                               instanceTypeGUID,
                                                                               instanceSubtypeGUIDs,
                                                                               matchProperties,
-                                                                              startingElement,
+                                                                              this.getMemberStartingElement(metadataCollectionId),
                                                                               limitResultsByStatus,
                                                                               asOfTime,
                                                                               sequencingProperty,
                                                                               sequencingOrder,
-                                                                              pageSize);
+                                                                              this.getMemberPageSize());
 
             accumulator.addRelationships(results, metadataCollectionId);
         }
@@ -9,8 +9,10 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.FederatedPageMerger;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.RelationshipsAccumulator;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
 
 import java.util.Date;
 import java.util.List;
@@ -74,7 +76,14 @@ public class GetRelationshipsForEntityExecutor extends PageableRepositoryExecuto
              sequencingProperty,
              sequencingOrder,
              pageSize,
-             new RelationshipsAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
+             new RelationshipsAccumulator(localMetadataCollectionId,
+                                          auditLog,
+                                          repositoryValidator,
+                                          new FederatedPageMerger<>(fromRelationshipElement,
+                                                                    pageSize,
+                                                                    OMRSRepositoryContentHelper.getSequencingComparator(sequencingProperty,
+                                                                                                                        sequencingOrder,
+                                                                                                                        Relationship::getProperties))),
              methodName);
     }
 
@@ -153,6 +162,18 @@ public class GetRelationshipsForEntityExecutor extends PageableRepositoryExecuto
     }
 
 
+    /**
+     * Return a string identifying the query parameters, apart from the paging parameters.
+     *
+     * @return query signature
+     */
+    @Override
+    public String getQuerySignature()
+    {
+        return super.buildQuerySignature(entityGUID);
+    }
+
+
     /**
      * Perform the required action for the supplied repository.
      *
@@ -171,12 +192,12 @@ public class GetRelationshipsForEntityExecutor extends PageableRepositoryExecuto
             List<Relationship> results = metadataCollection.getRelationshipsForEntity(userId,
                                                                                       entityGUID,
                                                                                       instanceTypeGUID,
-                                                                                      startingElement,
+                                                                                      this.getMemberStartingElement(metadataCollectionId),
                                                                                       limitResultsByStatus,
                                                                                       asOfTime,
                                                                                       sequencingProperty,
                                                                                       sequencingOrder,
-                                                                                      pageSize);
+                                                                                      this.getMemberPageSize());
 
             accumulator.addRelationships(results, metadataCollectionId);
         }
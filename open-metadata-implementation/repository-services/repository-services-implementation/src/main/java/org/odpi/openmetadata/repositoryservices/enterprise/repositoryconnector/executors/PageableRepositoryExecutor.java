@@ -0,0 +1,57 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+import java.util.Collection;
+
+/**
+ * PageableRepositoryExecutor describes the interface for a repository executor that returns a page of results
+ * merged from the results of each member of the cohort.  The position reached in each member's results is
+ * passed from one page to the next as a continuation token.
+ */
+public interface PageableRepositoryExecutor extends RepositoryExecutor, CloneableRepositoryExecutor
+{
+    /**
+     * Return a string identifying the query parameters, apart from the paging parameters.  Requests with the same
+     * signature are requests for different pages of the same query.
+     *
+     * @return query signature
+     */
+    String getQuerySignature();
+
+
+    /**
+     * Return the starting element of the page requested by the caller.
+     *
+     * @return element number
+     */
+    int getStartingElement();
+
+
+    /**
+     * Supply the continuation token returned by the request for the previous page.  The token is ignored if it was
+     * created for a different query, a different starting element or a different set of cohort members.
+     *
+     * @param continuationToken token returned from getContinuationToken - may be null
+     * @param metadataCollectionIds unique identifiers of the cohort members that are to be queried
+     */
+    void setContinuationToken(String             continuationToken,
+                              Collection<String> metadataCollectionIds);
+
+
+    /**
+     * Return the continuation token for retrieving the page that follows this one.  It should be called once the
+     * command has been executed.
+     *
+     * @return continuation token or null if there is no following page
+     */
+    String getContinuationToken();
+
+
+    /**
+     * Return the starting element of the page that follows this one.
+     *
+     * @return element number
+     */
+    int getNextStartingElement();
+}
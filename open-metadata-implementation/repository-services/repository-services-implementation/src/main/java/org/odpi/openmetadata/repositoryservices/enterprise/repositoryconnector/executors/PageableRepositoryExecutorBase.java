@@ -5,17 +5,22 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.FederatedPageMerger;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.FederatedPagingCursor;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.QueryInstanceAccumulatorBase;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
 /**
- * CloneableRepositoryExecutorBase provides a base class for executors that can be cloned and run in
- * parallel so the call to each repository runs in a different thread.
+ * PageableRepositoryExecutorBase provides a base class for executors that can be cloned and run in
+ * parallel so the call to each repository runs in a different thread.  When the accumulator has a page merger,
+ * each repository is asked for the results that follow the position recorded in the continuation token and the
+ * results are merged into the requested page.
  */
-abstract class PageableRepositoryExecutorBase extends CloneableRepositoryExecutorBase
+abstract class PageableRepositoryExecutorBase extends CloneableRepositoryExecutorBase implements PageableRepositoryExecutor
 {
     int  startingElement;
     int  pageSize;
@@ -68,6 +73,148 @@ abstract class PageableRepositoryExecutorBase extends CloneableRepositoryExecuto
     }
 
 
+    /**
+     * Return the starting element to pass to a repository.  This is where the previous page of the query
+     * finished in that repository's results.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @return element number
+     */
+    int getMemberStartingElement(String metadataCollectionId)
+    {
+        FederatedPageMerger<?> pageMerger = queryInstanceAccumulator.getPageMerger();
+
+        if (pageMerger == null)
+        {
+            return startingElement;
+        }
+
+        return pageMerger.getMemberStartingElement(metadataCollectionId);
+    }
+
+
+    /**
+     * Return the page size to pass to a repository.  Without a continuation token, the repository must return all of its
+     * results up to the end of the requested page because they may all appear before the page in the merged sequence.
+     *
+     * @return maximum number of elements - zero means unrestricted
+     */
+    int getMemberPageSize()
+    {
+        FederatedPageMerger<?> pageMerger = queryInstanceAccumulator.getPageMerger();
+
+        if (pageMerger == null)
+        {
+            return pageSize;
+        }
+
+        return pageMerger.getMemberPageSize();
+    }
+
+
+    /**
+     * Build the signature of the query from the parameters common to all paging requests and the parameters
+     * specific to the executor.  The paging parameters are not included.
+     *
+     * @param queryParameters parameters specific to the executor
+     * @return query signature
+     */
+    String buildQuerySignature(Object... queryParameters)
+    {
+        StringBuilder querySignature = new StringBuilder(methodName);
+
+        querySignature.append('|').append(userId);
+        querySignature.append('|').append(instanceTypeGUID);
+        querySignature.append('|').append(limitResultsByStatus);
+        querySignature.append('|').append(sequencingProperty);
+        querySignature.append('|').append(sequencingOrder);
+        querySignature.append('|').append(asOfTime == null ? null : asOfTime.getTime());
+
+        for (Object queryParameter : queryParameters)
+        {
+            querySignature.append('|').append(queryParameter);
+        }
+
+        return querySignature.toString();
+    }
+
+
+    /**
+     * Return the starting element of the page requested by the caller.
+     *
+     * @return element number
+     */
+    @Override
+    public int getStartingElement()
+    {
+        return startingElement;
+    }
+
+
+    /**
+     * Supply the continuation token returned by the request for the previous page.  The token is ignored if it was
+     * created for a different query, a different starting element or a different set of cohort members.
+     *
+     * @param continuationToken token returned from getContinuationToken - may be null
+     * @param metadataCollectionIds unique identifiers of the cohort members that are to be queried
+     */
+    @Override
+    public void setContinuationToken(String             continuationToken,
+                                     Collection<String> metadataCollectionIds)
+    {
+        FederatedPageMerger<?> pageMerger = queryInstanceAccumulator.getPageMerger();
+
+        if ((pageMerger != null) && (continuationToken != null))
+        {
+            FederatedPagingCursor pagingCursor = FederatedPagingCursor.fromContinuationToken(continuationToken, this.getQuerySignature());
+
+            if ((pagingCursor != null) &&
+                (pagingCursor.getStartingElement() == startingElement) &&
+                (pagingCursor.coversMembers(metadataCollectionIds)))
+            {
+                pageMerger.setPagingCursor(pagingCursor);
+            }
+        }
+    }
+
+
+    /**
+     * Return the continuation token for retrieving the page that follows this one.  It should be called once the
+     * command has been executed.
+     *
+     * @return continuation token or null if there is no following page
+     */
+    @Override
+    public String getContinuationToken()
+    {
+        FederatedPageMerger<?> pageMerger = queryInstanceAccumulator.getPageMerger();
+
+        if (pageMerger != null)
+        {
+            FederatedPagingCursor pagingCursor = pageMerger.getNextPagingCursor(this.getQuerySignature());
+
+            if (pagingCursor != null)
+            {
+                return pagingCursor.getContinuationToken();
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the starting element of the page that follows this one.
+     *
+     * @return element number
+     */
+    @Override
+    public int getNextStartingElement()
+    {
+        return startingElement + pageSize;
+    }
+
+
     /**
      * Return any of the exceptions that are common to paging requests.
      *
@@ -21,8 +21,10 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSTypeDefManager;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Date;
+import java.util.Map;
 
 /**
  * LocalOMRSMetadataCollection provides a wrapper around the metadata collection for the real local repository.
@@ -7355,6 +7357,176 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Create the new entities and relationships supplied in the instance graph as a single batch.  The whole
+     * batch is validated and checked by the security verifier before any instance is created.  The real
+     * metadata collection then creates the batch, entirely or not at all, and a single batch event is sent for
+     * the new instances.  Real metadata collections that use the default addInstances still validate each
+     * instance again as they create it.  No event is sent if the real metadata collection throws an exception because, under
+     * the contract of addInstances, none of the instances from the batch have been left in the repository.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances templates for the new entities and relationships.
+     * @return instance graph containing the new entities and relationships in the same order as the templates.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                              hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity's type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                       the requested status.
+     * @throws EntityNotKnownException one of the entities identified by a relationship is not known in the
+     *                                   metadata collection or the batch.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstanceGraph addInstances(String          userId,
+                                      InstanceGraph   instances) throws InvalidParameterException,
+                                                                        RepositoryErrorException,
+                                                                        TypeErrorException,
+                                                                        PropertyErrorException,
+                                                                        ClassificationErrorException,
+                                                                        StatusNotSupportedException,
+                                                                        EntityNotKnownException,
+                                                                        FunctionNotSupportedException,
+                                                                        UserNotAuthorizedException
+    {
+        final String  methodName = "addInstances";
+
+        /*
+         * Validate parameters
+         */
+        super.addInstancesParameterValidation(userId, instances, methodName);
+
+        /*
+         * Check operation is allowed for every instance in the batch.  The ends of the relationships may be
+         * entities from the batch or entities that are already stored.
+         */
+        Map<String, EntitySummary> batchEntities = new HashMap<>();
+
+        try
+        {
+            if (instances.getEntities() != null)
+            {
+                for (EntityDetail entity : instances.getEntities())
+                {
+                    if (entity != null)
+                    {
+                        securityVerifier.validateUserForEntityCreate(userId,
+                                                                     metadataCollectionName,
+                                                                     super.getBatchInstanceTypeGUID(entity),
+                                                                     entity.getProperties(),
+                                                                     entity.getClassifications(),
+                                                                     entity.getStatus());
+
+                        if (entity.getGUID() != null)
+                        {
+                            batchEntities.put(entity.getGUID(), entity);
+                        }
+                    }
+                }
+            }
+
+            if (instances.getRelationships() != null)
+            {
+                for (Relationship relationship : instances.getRelationships())
+                {
+                    if (relationship != null)
+                    {
+                        securityVerifier.validateUserForRelationshipCreate(userId,
+                                                                           metadataCollectionName,
+                                                                           super.getBatchInstanceTypeGUID(relationship),
+                                                                           relationship.getProperties(),
+                                                                           this.getBatchEntitySummary(userId, relationship.getEntityOneProxy(), batchEntities),
+                                                                           this.getBatchEntitySummary(userId, relationship.getEntityTwoProxy(), batchEntities),
+                                                                           relationship.getStatus());
+                    }
+                }
+            }
+        }
+        catch (org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException  error)
+        {
+            throw new UserNotAuthorizedException(error);
+        }
+
+        /*
+         * Validation complete, ok to create new instances
+         */
+        InstanceGraph newInstances = realMetadataCollection.addInstances(userId, instances);
+
+        if (newInstances != null)
+        {
+            if (newInstances.getEntities() != null)
+            {
+                for (EntityDetail entity : newInstances.getEntities())
+                {
+                    setLocalProvenanceThroughoutEntity(entity);
+                }
+            }
+
+            if (newInstances.getRelationships() != null)
+            {
+                for (Relationship relationship : newInstances.getRelationships())
+                {
+                    setLocalProvenanceThroughoutRelationship(relationship);
+                }
+            }
+
+            /*
+             * OK to send out
+             */
+            if (produceEventsForRealConnector)
+            {
+                outboundRepositoryEventProcessor.processInstanceBatchEvent(repositoryName,
+                                                                           metadataCollectionId,
+                                                                           localServerName,
+                                                                           localServerType,
+                                                                           localOrganizationName,
+                                                                           newInstances);
+            }
+        }
+
+        return newInstances;
+    }
+
+
+    /**
+     * Return the summary of an entity at one end of a template relationship passed to addInstances.  This is
+     * either one of the template entities from the batch or an entity stored in the real metadata collection.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityProxy proxy from the template relationship
+     * @param batchEntities template entities from the batch mapped by their temporary guids
+     * @return entity summary
+     * @throws InvalidParameterException the guid is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private EntitySummary getBatchEntitySummary(String                     userId,
+                                                EntityProxy                entityProxy,
+                                                Map<String, EntitySummary> batchEntities) throws InvalidParameterException,
+                                                                                                 RepositoryErrorException,
+                                                                                                 EntityNotKnownException,
+                                                                                                 UserNotAuthorizedException
+    {
+        EntitySummary batchEntity = batchEntities.get(entityProxy.getGUID());
+
+        if (batchEntity != null)
+        {
+            return batchEntity;
+        }
+
+        return realMetadataCollection.getEntitySummary(userId, entityProxy.getGUID());
+    }
+
+
     /**
      * Save the entities and relationships supplied in the instance graph as a reference copies.
      * The id of the home metadata collection is already set up in the instances.
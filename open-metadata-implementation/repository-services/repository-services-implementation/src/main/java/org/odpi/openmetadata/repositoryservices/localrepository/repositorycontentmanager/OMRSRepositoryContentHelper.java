@@ -18,6 +18,7 @@ import org.slf4j.LoggerFactory;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.*;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 /**
@@ -525,36 +526,7 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
 
         validateRepositoryContentManager(methodName);
 
-        List<String>  subTypeNames = new ArrayList<>();
-        List<TypeDef> typeDefs = repositoryContentManager.getKnownTypeDefs();
-
-        if (typeDefs != null)
-        {
-            for (TypeDef typeDef : typeDefs)
-            {
-                if (typeDef != null)
-                {
-                    if (! superTypeName.equals(typeDef.getName()))
-                    {
-                        if (repositoryContentManager.isTypeOf(sourceName,
-                                                              typeDef.getName(),
-                                                              superTypeName))
-                        {
-                            subTypeNames.add(typeDef.getName());
-                        }
-                    }
-                }
-            }
-        }
-
-        if (subTypeNames.isEmpty())
-        {
-            return null;
-        }
-        else
-        {
-            return subTypeNames;
-        }
+        return repositoryContentManager.getSubTypesOf(superTypeName);
     }
 
 
@@ -2416,6 +2388,39 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
     }
 
 
+    /**
+     * Return the comparator that orders instances in the same way as the formatting of results in
+     * formatEntityResults and formatRelationshipResults.  This is used to merge lists of results that have
+     * each been sequenced by a different repository.
+     *
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param propertiesFunction function to extract the properties of an instance
+     * @param <T> type of instance
+     * @return comparator - all instances are equivalent if there is no sequencing order
+     */
+    public static <T extends InstanceHeader> Comparator<T> getSequencingComparator(String                          sequencingProperty,
+                                                                                   SequencingOrder                 sequencingOrder,
+                                                                                   Function<T, InstanceProperties> propertiesFunction)
+    {
+        if ((sequencingOrder == null) || (sequencingOrder.equals(SequencingOrder.ANY)))
+        {
+            return (one, two) -> 0;
+        }
+
+        if (sequencingOrder.equals(SequencingOrder.PROPERTY_ASCENDING) || sequencingOrder.equals(SequencingOrder.PROPERTY_DESCENDING))
+        {
+            return (one, two) -> OMRSRepositoryContentHelper.compareProperties(one == null ? null : propertiesFunction.apply(one),
+                                                                               two == null ? null : propertiesFunction.apply(two),
+                                                                               sequencingProperty,
+                                                                               sequencingOrder);
+        }
+
+        return (one, two) -> OMRSRepositoryContentHelper.compareInstances(one, two, sequencingOrder);
+    }
+
+
     /**
      * Compare the two instances and determine the sort order based on the nominated non-property sort order.
      *
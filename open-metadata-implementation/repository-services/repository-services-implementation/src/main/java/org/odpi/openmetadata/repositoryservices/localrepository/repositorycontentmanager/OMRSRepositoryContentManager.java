@@ -21,6 +21,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * OMRSRepositoryContentManager supports an in-memory cache of TypeDefs for the local server.  It is used by the OMRS
@@ -58,11 +59,19 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     private Map<String, TypeDef>            activeTypeDefNames             = new HashMap<>();
     private Map<String, AttributeTypeDef>   activeAttributeTypeDefGUIDs    = new HashMap<>();
     private Map<String, AttributeTypeDef>   activeAttributeTypeDefNames    = new HashMap<>();
-    private Map<String, List<TypeDefLink>>  typeDefSuperTypes              = new HashMap<>();
     private Map<String, InstanceType>       knownInstanceTypes             = new HashMap<>();
     private Map<String, String>             metadataCollectionNames        = new HashMap<>();
     private Map<String, Set<String>>        knownPropertyToTypeDefNames    = new HashMap<>();
 
+    /*
+     * The type hierarchy is read through an immutable snapshot that is rebuilt when it is next needed after
+     * the known TypeDefs change.  This means the type checks do not need to lock the maps above.  The snapshot
+     * is copied from knownTypeDefNames while holding this object's lock, so every update to the known TypeDefs
+     * holds the same lock.
+     */
+    private final AtomicLong                typeDefVersion                 = new AtomicLong();
+    private volatile TypeDefLattice         typeDefLattice                 = new TypeDefLattice(0, Collections.emptyList());
+
 
     /*
      * The audit log provides a verifiable record of the open metadata archives that have been loaded into
@@ -148,10 +157,11 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * @param newTypeDef TypeDef structure describing the new TypeDef.
      * @param isLocallySupported indicates whether the TypeDef is supported by the local repository.
      */
-    private void cacheTypeDef(String  sourceName, TypeDef      newTypeDef, boolean isLocallySupported)
+    private synchronized void cacheTypeDef(String  sourceName, TypeDef      newTypeDef, boolean isLocallySupported)
     {
         knownTypeDefGUIDs.put(newTypeDef.getGUID(), newTypeDef);
         knownTypeDefNames.put(newTypeDef.getName(), newTypeDef);
+        typeDefVersion.incrementAndGet();
 
         if (isLocallySupported)
         {
@@ -229,13 +239,14 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * @param obsoleteTypeDefName unique name for the type.
      * @param isLocallySupported indicates whether the TypeDef is supported by the local repository.
      */
-    private void uncacheTypeDef(String  sourceName,
-                                String  obsoleteTypeDefGUID,
-                                String  obsoleteTypeDefName,
-                                boolean isLocallySupported)
+    private synchronized void uncacheTypeDef(String  sourceName,
+                                             String  obsoleteTypeDefGUID,
+                                             String  obsoleteTypeDefName,
+                                             boolean isLocallySupported)
     {
         knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
         knownTypeDefNames.remove(obsoleteTypeDefName);
+        typeDefVersion.incrementAndGet();
 
         if (isLocallySupported)
         {
@@ -341,15 +352,19 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         if (this.validTypeId(sourceName, obsoleteTypeDefGUID, obsoleteTypeDefName))
         {
-            knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
-            knownTypeDefNames.remove(obsoleteTypeDefName);
-
-            if (localRepositoryConnector != null)
+            synchronized (this)
             {
-                activeTypeDefGUIDs.remove(obsoleteTypeDefGUID);
-                activeTypeDefNames.remove(obsoleteTypeDefName);
+                knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
+                knownTypeDefNames.remove(obsoleteTypeDefName);
+                typeDefVersion.incrementAndGet();
+
+                if (localRepositoryConnector != null)
+                {
+                    activeTypeDefGUIDs.remove(obsoleteTypeDefGUID);
+                    activeTypeDefNames.remove(obsoleteTypeDefName);
 
-                log.debug("Deleted Active TypeDef " + obsoleteTypeDefName + " from " + sourceName);
+                    log.debug("Deleted Active TypeDef " + obsoleteTypeDefName + " from " + sourceName);
+                }
             }
         }
     }
@@ -499,94 +514,106 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
 
 
     /**
-     * Evaluate the superTypes for a type.  The results are cached in typeDefSuperTypes.
+     * Return the snapshot of the type hierarchy for the current TypeDefs.  The snapshot is rebuilt if the
+     * TypeDefs have changed since it was built.
      *
-     * @param sourceName source of the request (used for logging)
-     * @param typeName name of type to process
-     * @param methodName calling method
-     * @return list of supertype links or null if top level
+     * @return type lattice
      */
-    private List<TypeDefLink>   getSuperTypes(String    sourceName,
-                                              String    typeName,
-                                              String    methodName)
+    private TypeDefLattice getTypeDefLattice()
     {
-        final String  thisMethodName = "getSuperTypes";
+        TypeDefLattice lattice = typeDefLattice;
 
-        List<TypeDefLink>   typeHierarchy = typeDefSuperTypes.get(typeName);
-
-        if (typeHierarchy == null)
+        if (lattice.getVersion() != typeDefVersion.get())
         {
-            /*
-             * The type hierarchy is not known at this time (it is evaluated lazily).
-             */
-            typeHierarchy = new ArrayList<>();
+            lattice = this.buildTypeDefLattice();
+        }
 
-            TypeDef typeDef = knownTypeDefNames.get(typeName);
+        return lattice;
+    }
 
-            if (typeDef != null)
-            {
-                TypeDefLink superTypeLink = typeDef.getSuperType();
 
-                while (superTypeLink != null)
-                {
-                    String superTypeName = superTypeLink.getName();
+    /**
+     * Build a new snapshot of the type hierarchy.  The version is read before the TypeDefs so that a change made
+     * while the snapshot is being built causes it to be rebuilt on the next call.
+     *
+     * @return type lattice
+     */
+    private synchronized TypeDefLattice buildTypeDefLattice()
+    {
+        long version = typeDefVersion.get();
 
-                    if (superTypeName != null)
-                    {
-                        log.debug(typeName + " has super type " + superTypeName);
+        if (typeDefLattice.getVersion() != version)
+        {
+            typeDefLattice = new TypeDefLattice(version, new ArrayList<>(knownTypeDefNames.values()));
 
-                        typeHierarchy.add(superTypeLink);
+            log.debug("Rebuilt type lattice for TypeDef cache version {}", version);
+        }
 
-                        /*
-                         * Retrieve the TypeDef for this super type
-                         */
-                        TypeDef superTypeDef = knownTypeDefNames.get(superTypeName);
+        return typeDefLattice;
+    }
 
-                        if (superTypeDef != null)
-                        {
-                            /*
-                             * Retrieve the super type for this super typeDef.  It will be null if the type is top-level.
-                             */
-                            superTypeLink = superTypeDef.getSuperType();
-                        }
-                        else
-                        {
-                            log.error(superTypeName + " supertype is not known in TypeDef cache");
-                            throwContentManagerLogicError(sourceName, methodName, thisMethodName);
-                        }
-                    }
-                    else
-                    {
-                        log.error("Corrupted TypeDef cache, no name for " + superTypeLink.toString());
-                        throwContentManagerLogicError(sourceName, methodName, thisMethodName);
-                    }
-                }
 
-                /*
-                 * Cache the resulting superType list
-                 */
-                typeDefSuperTypes.put(typeName, typeHierarchy);
-            }
-            else
+    /**
+     * Check that a type and all of its super types are known.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param lattice snapshot of the type hierarchy
+     * @param typeName name of type to process
+     * @param methodName calling method
+     * @param thisMethodName method that is checking the type
+     */
+    private void validateTypeHierarchy(String         sourceName,
+                                       TypeDefLattice lattice,
+                                       String         typeName,
+                                       String         methodName,
+                                       String         thisMethodName)
+    {
+        if (! lattice.hasCompleteHierarchy(typeName))
+        {
+            if (lattice.getSuperTypes(typeName) == null)
             {
                 log.error(typeName + " type is not known in TypeDef cache");
                 throwContentManagerLogicError(sourceName, methodName, thisMethodName + "(" + typeName + ")");
             }
+            else
+            {
+                log.error("Corrupted TypeDef cache, a supertype of " + typeName + " is not known");
+                throwContentManagerLogicError(sourceName, methodName, thisMethodName);
+            }
         }
+    }
+
+
+    /**
+     * Return the superTypes for a type.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param typeName name of type to process
+     * @param methodName calling method
+     * @return list of supertype links or null if top level
+     */
+    private List<TypeDefLink>   getSuperTypes(String    sourceName,
+                                              String    typeName,
+                                              String    methodName)
+    {
+        final String  thisMethodName = "getSuperTypes";
+
+        TypeDefLattice lattice = this.getTypeDefLattice();
+
+        this.validateTypeHierarchy(sourceName, lattice, typeName, methodName, thisMethodName);
+
+        List<TypeDefLink>   typeHierarchy = lattice.getSuperTypes(typeName);
 
         if (typeHierarchy.isEmpty())
         {
             /*
-             * The type hierarchy has been evaluated and this type has no supertypes.
+             * This type has no supertypes.
              */
             return null;
         }
         else
         {
-            /*
-             * The type hierarchy is known and can be returned directly.
-             */
-            return typeHierarchy;
+            return new ArrayList<>(typeHierarchy);
         }
     }
 
@@ -606,7 +633,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         final String methodName = "isTypeOf";
 
-        log.debug("isTypeOf: sourceName = " + sourceName + "; actualTypeName = " + actualTypeName + "; expectedTypeName = " + expectedTypeName);
+        log.debug("isTypeOf: sourceName = {}; actualTypeName = {}; expectedTypeName = {}", sourceName, actualTypeName, expectedTypeName);
 
         if (expectedTypeName == null)
         {
@@ -630,36 +657,17 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
          */
         if (actualTypeName.equals(expectedTypeName))
         {
-            log.debug("Simple match success");
             return true;
         }
 
         /*
          * Looking for a match in the superTypes.
          */
-        List<TypeDefLink>   typeHierarchy = this.getSuperTypes(sourceName, actualTypeName, methodName);
+        TypeDefLattice lattice = this.getTypeDefLattice();
 
-        if (typeHierarchy != null)
-        {
-            for (TypeDefLink superType : typeHierarchy)
-            {
-                if (superType != null)
-                {
-                    if (expectedTypeName.equals(superType.getName()))
-                    {
-                        log.debug("SuperType match success");
-                        return true;
-                    }
-
-                    log.debug("No match with " + superType.getName());
-                }
-            }
-        }
+        this.validateTypeHierarchy(sourceName, lattice, actualTypeName, methodName, "getSuperTypes");
 
-        /*
-         * No match found
-         */
-        return false;
+        return lattice.isTypeOf(actualTypeName, expectedTypeName);
     }
 
 
@@ -680,14 +688,13 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         final String methodName = "isTypeOfByGUID";
 
-        log.debug("IsTypeOfByGUID: sourceName = " + sourceName + "; actualTypeName = " + actualTypeName + "; expectedTypeGUID = " + expectedTypeGUID);
+        log.debug("IsTypeOfByGUID: sourceName = {}; actualTypeName = {}; expectedTypeGUID = {}", sourceName, actualTypeName, expectedTypeGUID);
 
         if (expectedTypeGUID == null)
         {
             /*
              * If the expected type GUID is null, it means that any type is allowed.
              */
-            log.debug("Any type will do");
             return true;
         }
 
@@ -697,7 +704,6 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
          */
         if (actualTypeGUID == null)
         {
-            log.debug("No type to test against");
             return false;
         }
 
@@ -706,32 +712,36 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
          */
         if (actualTypeGUID.equals(expectedTypeGUID))
         {
-            log.debug("Simple match success");
             return true;
         }
 
         /*
          * Looking for a match in the superTypes.
          */
-       List<TypeDefLink>   typeHierarchy = this.getSuperTypes(sourceName, actualTypeName, methodName);
+        TypeDefLattice lattice = this.getTypeDefLattice();
+
+        this.validateTypeHierarchy(sourceName, lattice, actualTypeName, methodName, "getSuperTypes");
+
+        return lattice.isTypeOfByGUID(actualTypeName, expectedTypeGUID);
+    }
+
+
+    /**
+     * Return the names of all of the subtypes of a type.
+     *
+     * @param superTypeName name of the super type - this value is not included in the result.
+     * @return list of type names (a null means the type is not know or it has no sub types)
+     */
+    List<String>  getSubTypesOf(String superTypeName)
+    {
+        List<String> subTypeNames = this.getTypeDefLattice().getSubTypeNames(superTypeName);
 
-        if (typeHierarchy != null)
+        if (subTypeNames.isEmpty())
         {
-            for (TypeDefLink superType : typeHierarchy)
-            {
-                if (superType != null)
-                {
-                    if (expectedTypeGUID.equals(superType.getGUID()))
-                    {
-                        log.debug("SuperType match success");
-                        return true;
-                    }
-                    log.debug("No match with " + superType.getGUID());
-                }
-            }
+            return null;
         }
 
-        return false;
+        return new ArrayList<>(subTypeNames);
     }
 
 
@@ -1597,7 +1607,11 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             {
                 if (!isKnownType(sourceName, typeDef.getGUID(), typeDef.getName()))
                 {
-                    knownTypeDefNames.put(typeDef.getName(), typeDef);
+                    synchronized (this)
+                    {
+                        knownTypeDefNames.put(typeDef.getName(), typeDef);
+                        typeDefVersion.incrementAndGet();
+                    }
                 }
             }
             else
@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSPatternCache;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSRepositoryPropertiesUtilities;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -3803,7 +3804,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                                                 {
                                                     try
                                                     {
-                                                        if (instancePropertyValueString.matches(matchPropertyValueString))
+                                                        if (OMRSPatternCache.matches(instancePropertyValueString, matchPropertyValueString))
                                                         {
                                                             matchingProperties++;
                                                         }
@@ -3862,7 +3863,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                     if (matchValue != null)
                     {
-                        if (expectedValue.matches(matchValue))
+                        if (OMRSPatternCache.matches(expectedValue, matchValue))
                         {
                             result = true;
                         }
@@ -4220,7 +4221,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                             else
                             {
                                 String actual = actualValue.valueAsString();
-                                matchesProperties = actual.matches(test);
+                                matchesProperties = OMRSPatternCache.matches(actual, test);
                             }
                         }
                         else
@@ -4462,7 +4463,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                             if (stringProperty != null)
                             {
-                                if (stringProperty.matches(searchCriteria))
+                                if (OMRSPatternCache.matches(stringProperty, searchCriteria))
                                 {
                                     return true;
                                 }
@@ -4476,7 +4477,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                         String  enumValue = enumPropertyValue.getSymbolicName();
                         if (enumValue != null)
                         {
-                            if (enumValue.matches(searchCriteria))
+                            if (OMRSPatternCache.matches(enumValue, searchCriteria))
                             {
                                 return true;
                             }
@@ -0,0 +1,230 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TypeDefLattice is an immutable snapshot of the type hierarchy of the TypeDefs known to the
+ * OMRSRepositoryContentManager.  Each type is given a dense integer id and a bit set of the ids of its ancestors
+ * (including itself).  The super types and sub types of each type are calculated when the snapshot is built.  This
+ * means isTypeOf and getSubTypesOf are simple lookups that can be called from any thread without locking.
+ *
+ * A new snapshot is built each time the TypeDefs change.  The version records the change it was built from.
+ */
+final class TypeDefLattice
+{
+    private final long                     version;
+    private final Map<String, Integer>     typeIdsByName = new HashMap<>();
+    private final Map<String, Integer>     typeIdsByGUID = new HashMap<>();
+    private final List<BitSet>             ancestors     = new ArrayList<>();
+    private final List<List<TypeDefLink>>  superTypes    = new ArrayList<>();
+    private final List<List<String>>       subTypeNames  = new ArrayList<>();
+    private final BitSet                   incompleteHierarchies = new BitSet();
+
+
+    /**
+     * Build the lattice from the supplied TypeDefs.
+     *
+     * @param version version of the TypeDef cache that the TypeDefs were taken from
+     * @param typeDefs known TypeDefs
+     */
+    TypeDefLattice(long                version,
+                   Collection<TypeDef> typeDefs)
+    {
+        this.version = version;
+
+        /*
+         * Ids are assigned in name order so the lists of sub types are returned in a predictable order.
+         */
+        List<TypeDef> sortedTypeDefs = new ArrayList<>();
+
+        for (TypeDef typeDef : typeDefs)
+        {
+            if ((typeDef != null) && (typeDef.getName() != null))
+            {
+                sortedTypeDefs.add(typeDef);
+            }
+        }
+
+        sortedTypeDefs.sort(Comparator.comparing(TypeDef::getName));
+
+        for (TypeDef typeDef : sortedTypeDefs)
+        {
+            int typeId = ancestors.size();
+
+            typeIdsByName.put(typeDef.getName(), typeId);
+
+            if (typeDef.getGUID() != null)
+            {
+                typeIdsByGUID.put(typeDef.getGUID(), typeId);
+            }
+
+            ancestors.add(new BitSet());
+            superTypes.add(null);
+            subTypeNames.add(new ArrayList<>());
+        }
+
+        /*
+         * Work up the super type links of each type.  The walk stops at a type that is not known or a link
+         * that loops back into the hierarchy.  The type is then flagged as having an incomplete hierarchy.
+         */
+        for (TypeDef typeDef : sortedTypeDefs)
+        {
+            int               typeId         = typeIdsByName.get(typeDef.getName());
+            BitSet            typeAncestors  = ancestors.get(typeId);
+            List<TypeDefLink> typeSuperTypes = new ArrayList<>();
+            TypeDefLink       superTypeLink  = typeDef.getSuperType();
+
+            typeAncestors.set(typeId);
+
+            while (superTypeLink != null)
+            {
+                Integer superTypeId = (superTypeLink.getName() == null) ? null : typeIdsByName.get(superTypeLink.getName());
+
+                if ((superTypeId == null) || (typeAncestors.get(superTypeId)))
+                {
+                    incompleteHierarchies.set(typeId);
+                    break;
+                }
+
+                typeSuperTypes.add(superTypeLink);
+                typeAncestors.set(superTypeId);
+                subTypeNames.get(superTypeId).add(typeDef.getName());
+
+                superTypeLink = sortedTypeDefs.get(superTypeId).getSuperType();
+            }
+
+            superTypes.set(typeId, Collections.unmodifiableList(typeSuperTypes));
+        }
+
+        for (int typeId = 0; typeId < subTypeNames.size(); typeId++)
+        {
+            subTypeNames.set(typeId, Collections.unmodifiableList(subTypeNames.get(typeId)));
+        }
+    }
+
+
+    /**
+     * Return the version of the TypeDef cache that this lattice was built from.
+     *
+     * @return version number
+     */
+    long getVersion()
+    {
+        return version;
+    }
+
+
+    /**
+     * Return whether the type is known and all of its super types are known.
+     *
+     * @param typeName name of the type
+     * @return boolean
+     */
+    boolean hasCompleteHierarchy(String typeName)
+    {
+        Integer typeId = this.getTypeId(typeName);
+
+        return (typeId != null) && (! incompleteHierarchies.get(typeId));
+    }
+
+
+    /**
+     * Return whether the actual type is the expected type or one of its sub types.
+     *
+     * @param actualTypeName name of the instance's type
+     * @param expectedTypeName name of the expected type
+     * @return boolean - false if either type is not known
+     */
+    boolean isTypeOf(String actualTypeName,
+                     String expectedTypeName)
+    {
+        Integer actualTypeId   = this.getTypeId(actualTypeName);
+        Integer expectedTypeId = this.getTypeId(expectedTypeName);
+
+        return (actualTypeId != null) && (expectedTypeId != null) && (ancestors.get(actualTypeId).get(expectedTypeId));
+    }
+
+
+    /**
+     * Return whether the actual type is the expected type or one of its sub types.
+     *
+     * @param actualTypeName name of the instance's type
+     * @param expectedTypeGUID unique identifier of the expected type
+     * @return boolean - false if either type is not known
+     */
+    boolean isTypeOfByGUID(String actualTypeName,
+                           String expectedTypeGUID)
+    {
+        Integer actualTypeId   = this.getTypeId(actualTypeName);
+        Integer expectedTypeId = (expectedTypeGUID == null) ? null : typeIdsByGUID.get(expectedTypeGUID);
+
+        return (actualTypeId != null) && (expectedTypeId != null) && (ancestors.get(actualTypeId).get(expectedTypeId));
+    }
+
+
+    /**
+     * Return the links to the super types of a type, starting with its immediate super type.
+     *
+     * @param typeName name of the type
+     * @return unmodifiable list of links - empty if the type is top level; null if the type is not known
+     */
+    List<TypeDefLink> getSuperTypes(String typeName)
+    {
+        Integer typeId = this.getTypeId(typeName);
+
+        if (typeId == null)
+        {
+            return null;
+        }
+
+        return superTypes.get(typeId);
+    }
+
+
+    /**
+     * Return the names of all of the sub types of a type.  The type itself is not included.
+     *
+     * @param typeName name of the type
+     * @return unmodifiable list of type names - empty if the type is not known or has no sub types
+     */
+    List<String> getSubTypeNames(String typeName)
+    {
+        Integer typeId = this.getTypeId(typeName);
+
+        if (typeId == null)
+        {
+            return Collections.emptyList();
+        }
+
+        return subTypeNames.get(typeId);
+    }
+
+
+    /**
+     * Return the id of a type.
+     *
+     * @param typeName name of the type
+     * @return id or null if the type is not known
+     */
+    private Integer getTypeId(String typeName)
+    {
+        if (typeName == null)
+        {
+            return null;
+        }
+
+        return typeIdsByName.get(typeName);
+    }
+}
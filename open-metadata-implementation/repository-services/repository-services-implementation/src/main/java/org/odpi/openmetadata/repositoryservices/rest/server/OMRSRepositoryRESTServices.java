@@ -5935,6 +5935,108 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Create the new entities and relationships supplied in the instance graph as a single batch.
+     * Each instance in the graph is a template for a new instance.  The relationships may link to entities
+     * in the same batch through the temporary guids of the template entities.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param instances templates for the new entities and relationships
+     * @return InstanceGraphResponse:
+     * the new entities and relationships in the same order as the templates or
+     * InvalidParameterException one of the parameters is invalid or null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection or
+     * PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type or
+     * ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                         not defined for the entity's type or
+     * EntityNotKnownException one of the entities identified by a relationship is not known in the metadata
+     *                                  collection or the batch or
+     * StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     the requested status or
+     * FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraphResponse addInstances(String                 serverName,
+                                              String                 userId,
+                                              InstanceGraphRequest   instances)
+    {
+        final  String   methodName = "addInstances";
+
+        log.debug("Calling method: " + methodName);
+
+        InstanceGraph instanceGraph = null;
+
+        InstanceGraphResponse response = new InstanceGraphResponse();
+
+        if (instances != null)
+        {
+            instanceGraph = new InstanceGraph(instances.getEntityElementList(), instances.getRelationshipElementList());
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            InstanceGraph newInstances = metadataCollection.addInstances(userId, instanceGraph);
+
+            if (newInstances != null)
+            {
+                response.setEntityElementList(newInstances.getEntities());
+                response.setRelationshipElementList(newInstances.getRelationships());
+            }
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (ClassificationErrorException error)
+        {
+            captureClassificationErrorException(response, error);
+        }
+        catch (EntityNotKnownException error)
+        {
+            captureEntityNotKnownException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (StatusNotSupportedException error)
+        {
+            captureStatusNotSupportedException(response, error);
+        }
+        catch (Exception error)
+        {
+            captureGenericException(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
     /**
      * Save a new relationship that is sourced from an external technology.  The external
      * technology is identified by a GUID and a name.  These can be recorded in a
@@ -0,0 +1,117 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.archivemanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * OMRSArchiveManagerTest verifies how the archive loader splits a batch of instances between its worker threads.
+ */
+public class OMRSArchiveManagerTest
+{
+    /**
+     * Validate that every update to an instance is given to the same worker in the order it appears in the batch,
+     * and that every instance is given to exactly one worker.
+     */
+    @Test
+    public void testUpdatesToAnInstanceStayInOrder()
+    {
+        final int workerCount = 4;
+
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (long version = 1; version <= 3; version++)
+        {
+            for (int i = 0; i < 20; i++)
+            {
+                entities.add(newEntity("entity" + i, version));
+            }
+        }
+
+        List<List<EntityDetail>> partitions = OMRSArchiveManager.partitionInstances(entities, EntityDetail::getGUID, workerCount);
+
+        assertEquals(partitions.size(), workerCount);
+
+        Map<String, Integer> workerForGUID = new HashMap<>();
+        Map<String, Long>    lastVersion   = new HashMap<>();
+        int                  totalCount    = 0;
+
+        for (int worker = 0; worker < workerCount; worker++)
+        {
+            for (EntityDetail entity : partitions.get(worker))
+            {
+                Integer previousWorker = workerForGUID.put(entity.getGUID(), worker);
+
+                if (previousWorker != null)
+                {
+                    assertEquals(previousWorker.intValue(), worker);
+                }
+
+                Long previousVersion = lastVersion.put(entity.getGUID(), entity.getVersion());
+
+                if (previousVersion != null)
+                {
+                    assertTrue(entity.getVersion() > previousVersion);
+                }
+
+                totalCount++;
+            }
+        }
+
+        assertEquals(totalCount, entities.size());
+        assertEquals(workerForGUID.size(), 20);
+    }
+
+
+    /**
+     * Validate that null entries are dropped and that instances without a unique identifier go to the first worker.
+     */
+    @Test
+    public void testNullEntriesAndKeys()
+    {
+        EntityDetail noGUID = newEntity(null, 1L);
+
+        List<EntityDetail> entities = Arrays.asList(newEntity("entity1", 1L), null, noGUID, newEntity("entity2", 1L));
+
+        List<List<EntityDetail>> partitions = OMRSArchiveManager.partitionInstances(entities, EntityDetail::getGUID, 3);
+
+        int totalCount = 0;
+
+        for (List<EntityDetail> partition : partitions)
+        {
+            totalCount += partition.size();
+        }
+
+        assertEquals(totalCount, 3);
+        assertTrue(partitions.get(0).contains(noGUID));
+    }
+
+
+    /**
+     * Build an entity.
+     *
+     * @param guid unique identifier
+     * @param version version number
+     * @return entity
+     */
+    private EntityDetail newEntity(String guid,
+                                   long   version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        return entity;
+    }
+}
@@ -0,0 +1,126 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+public class FederatedPageMergerTest
+{
+    private static final String QUERY_SIGNATURE = "findEntities|test";
+
+    @Test
+    public void testColdPageIsMergedAndSkipped()
+    {
+        FederatedPageMerger<EntityDetail> merger = getMerger(2, 3);
+
+        assertEquals(merger.getMemberStartingElement("member1"), 0);
+        assertEquals(merger.getMemberPageSize(), 5);
+
+        merger.addMemberResults("member1", getEntities("a", "c", "e", "g", "i"));
+        merger.addMemberResults("member2", getEntities("b", "c", "d", "f", "h"));
+
+        assertEquals(merger.getPageGUIDs(), Arrays.asList("c", "d", "e"));
+    }
+
+
+    @Test
+    public void testCursorContinuesFromEachMember()
+    {
+        FederatedPageMerger<EntityDetail> firstPage = getMerger(0, 3);
+
+        firstPage.addMemberResults("member1", getEntities("a", "c", "e"));
+        firstPage.addMemberResults("member2", getEntities("b", "c", "d"));
+
+        assertEquals(firstPage.getPageGUIDs(), Arrays.asList("a", "b", "c"));
+
+        FederatedPagingCursor cursor = firstPage.getNextPagingCursor(QUERY_SIGNATURE);
+
+        assertNotNull(cursor);
+        assertEquals(cursor.getStartingElement(), 3);
+        assertEquals(cursor.getMemberOffset("member1"), 2);
+        assertEquals(cursor.getMemberOffset("member2"), 2);
+
+        FederatedPagingCursor restoredCursor = FederatedPagingCursor.fromContinuationToken(cursor.getContinuationToken(), QUERY_SIGNATURE);
+
+        assertNotNull(restoredCursor);
+        assertEquals(restoredCursor.getStartingElement(), 3);
+        assertEquals(restoredCursor.getMemberOffset("member1"), 2);
+        assertEquals(restoredCursor.getMemberOffset("member2"), 2);
+        assertEquals(restoredCursor.coversMembers(Arrays.asList("member1", "member2")), true);
+        assertEquals(restoredCursor.coversMembers(Arrays.asList("member1", "member3")), false);
+
+        FederatedPageMerger<EntityDetail> secondPage = getMerger(3, 3);
+
+        secondPage.setPagingCursor(restoredCursor);
+
+        assertEquals(secondPage.getMemberStartingElement("member1"), 2);
+        assertEquals(secondPage.getMemberPageSize(), 3);
+
+        secondPage.addMemberResults("member1", getEntities("e", "g"));
+        secondPage.addMemberResults("member2", getEntities("d", "f"));
+
+        assertEquals(secondPage.getPageGUIDs(), Arrays.asList("d", "e", "f"));
+    }
+
+
+    @Test
+    public void testNoCursorForLastPage()
+    {
+        FederatedPageMerger<EntityDetail> merger = getMerger(0, 3);
+
+        merger.addMemberResults("member1", getEntities("a"));
+        merger.addMemberResults("member2", getEntities("b"));
+
+        assertEquals(merger.getPageGUIDs(), Arrays.asList("a", "b"));
+        assertNull(merger.getNextPagingCursor(QUERY_SIGNATURE));
+    }
+
+
+    @Test
+    public void testTokenForDifferentQueryIsRejected()
+    {
+        FederatedPagingCursor cursor = new FederatedPagingCursor(QUERY_SIGNATURE, 3, new HashMap<>());
+
+        assertNull(FederatedPagingCursor.fromContinuationToken(cursor.getContinuationToken(), "findEntities|other"));
+        assertNull(FederatedPagingCursor.fromContinuationToken("not a token", QUERY_SIGNATURE));
+    }
+
+
+    private FederatedPageMerger<EntityDetail> getMerger(int startingElement,
+                                                        int pageSize)
+    {
+        return new FederatedPageMerger<>(startingElement,
+                                         pageSize,
+                                         OMRSRepositoryContentHelper.getSequencingComparator(null,
+                                                                                             SequencingOrder.GUID,
+                                                                                             EntityDetail::getProperties));
+    }
+
+
+    private List<EntityDetail> getEntities(String... guids)
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID(guid);
+            entities.add(entity);
+        }
+
+        return entities;
+    }
+}
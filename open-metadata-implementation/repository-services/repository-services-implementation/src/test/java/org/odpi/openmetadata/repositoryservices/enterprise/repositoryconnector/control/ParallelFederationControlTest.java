@@ -0,0 +1,438 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.auditlog.messagesets.AuditLogMessageDefinition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.EntitiesAccumulator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.CloneableRepositoryExecutor;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.RepositoryExecutor;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class ParallelFederationControlTest
+{
+    private static final String METHOD_NAME = "findEntities";
+
+    private ExecutorService workerPool;
+    private TestAuditLog    auditLog;
+
+
+    @BeforeMethod
+    public void setUp()
+    {
+        workerPool = Executors.newFixedThreadPool(3);
+        auditLog = new TestAuditLog();
+    }
+
+
+    @AfterMethod
+    public void tearDown()
+    {
+        workerPool.shutdownNow();
+    }
+
+
+    @Test
+    public void testMembersAreCalledInParallel() throws Exception
+    {
+        /*
+         * Each member waits until all of the members have been called so the request only completes if
+         * the members are running at the same time.
+         */
+        CountDownLatch allCalled = new CountDownLatch(3);
+        TestExecutor   executor  = new TestExecutor();
+
+        for (String member : Arrays.asList("member1", "member2", "member3"))
+        {
+            executor.setBehaviour(member, () ->
+            {
+                allCalled.countDown();
+                assertTrue(allCalled.await(10, TimeUnit.SECONDS));
+            });
+        }
+
+        ParallelFederationControl control = new ParallelFederationControl("testUser",
+                                                                          getConnectors("member1", "member2", "member3"),
+                                                                          auditLog,
+                                                                          workerPool,
+                                                                          10000,
+                                                                          METHOD_NAME);
+
+        control.executeCommand(executor);
+
+        assertEquals(getSortedResults(executor), Arrays.asList("member1", "member2", "member3"));
+        assertTrue(auditLog.getMessageIds().isEmpty());
+    }
+
+
+    @Test
+    public void testNoWorkerPoolRunsSequentially() throws Exception
+    {
+        TestExecutor executor = new TestExecutor();
+
+        ParallelFederationControl control = new ParallelFederationControl("testUser",
+                                                                          getConnectors("member1", "member2"),
+                                                                          auditLog,
+                                                                          METHOD_NAME);
+
+        control.executeCommand(executor);
+
+        assertEquals(getSortedResults(executor), Arrays.asList("member1", "member2"));
+        assertEquals(executor.getCallingThreads().size(), 1);
+        assertTrue(executor.getCallingThreads().contains(Thread.currentThread()));
+    }
+
+
+    @Test
+    public void testTimedOutMemberIsAuditedAndItsLateResultsIgnored() throws Exception
+    {
+        CountDownLatch releaseSlowMember = new CountDownLatch(1);
+        CountDownLatch slowMemberDone    = new CountDownLatch(1);
+        TestExecutor   executor          = new TestExecutor();
+
+        executor.setBehaviour("slowMember", () ->
+        {
+            /*
+             * Behave like a remote call that does not respond to the interrupt from the cancel.
+             */
+            awaitUninterruptibly(releaseSlowMember);
+        });
+        executor.setCompletionSignal("slowMember", slowMemberDone);
+
+        ParallelFederationControl control = new ParallelFederationControl("testUser",
+                                                                          getConnectors("fastMember", "slowMember"),
+                                                                          auditLog,
+                                                                          workerPool,
+                                                                          200,
+                                                                          METHOD_NAME);
+
+        control.executeCommand(executor);
+
+        assertEquals(getSortedResults(executor), Collections.singletonList("fastMember"));
+        assertEquals(auditLog.getMessageIds(), Collections.singletonList("OMRS-AUDIT-0402"));
+
+        /*
+         * The slow member now delivers its results after the request has returned.
+         */
+        releaseSlowMember.countDown();
+        assertTrue(slowMemberDone.await(10, TimeUnit.SECONDS));
+
+        assertEquals(getSortedResults(executor), Collections.singletonList("fastMember"));
+    }
+
+
+    @Test
+    public void testFailingMemberIsAuditedAndSkipped() throws Exception
+    {
+        TestExecutor executor = new TestExecutor();
+
+        executor.setBehaviour("brokenMember", () ->
+        {
+            throw new IllegalStateException("Test failure");
+        });
+
+        ParallelFederationControl control = new ParallelFederationControl("testUser",
+                                                                          getConnectors("member1", "brokenMember"),
+                                                                          auditLog,
+                                                                          workerPool,
+                                                                          10000,
+                                                                          METHOD_NAME);
+
+        control.executeCommand(executor);
+
+        assertEquals(getSortedResults(executor), Collections.singletonList("member1"));
+        assertEquals(auditLog.getMessageIds(), Collections.singletonList("OMRS-AUDIT-0401"));
+    }
+
+
+    @Test
+    public void testNoResultsFromEmptyCohort() throws Exception
+    {
+        TestExecutor executor = new TestExecutor();
+
+        ParallelFederationControl control = new ParallelFederationControl("testUser",
+                                                                          new ArrayList<>(),
+                                                                          auditLog,
+                                                                          workerPool,
+                                                                          10000,
+                                                                          METHOD_NAME);
+
+        control.executeCommand(executor);
+
+        assertNull(executor.accumulator.getResultsForAugmentation());
+    }
+
+
+    /**
+     * Return the GUIDs of the entities accumulated - each member returns one entity whose GUID is its
+     * metadata collection id.
+     *
+     * @param executor executor
+     * @return sorted list of GUIDs
+     */
+    private List<String> getSortedResults(TestExecutor executor)
+    {
+        List<String> results = executor.accumulator.getResultsForAugmentation();
+
+        if (results == null)
+        {
+            return new ArrayList<>();
+        }
+
+        Collections.sort(results);
+        return results;
+    }
+
+
+    /**
+     * Create a connector for each member.  The repository name and the metadata collection id are the same.
+     *
+     * @param members names of members
+     * @return list of connectors
+     */
+    private List<OMRSRepositoryConnector> getConnectors(String... members)
+    {
+        List<OMRSRepositoryConnector> connectors = new ArrayList<>();
+
+        for (String member : members)
+        {
+            OMRSRepositoryConnector connector = new OMRSRepositoryConnector()
+            {
+                private final OMRSMetadataCollection metadataCollection = new OMRSMetadataCollectionBase(this,
+                                                                                                         member,
+                                                                                                         null,
+                                                                                                         null,
+                                                                                                         member)
+                {
+                    @Override
+                    public String getMetadataCollectionId(String userId)
+                    {
+                        return member;
+                    }
+                };
+
+                @Override
+                public OMRSMetadataCollection getMetadataCollection()
+                {
+                    return metadataCollection;
+                }
+            };
+
+            connector.setRepositoryName(member);
+            connector.setMetadataCollectionId(member);
+            connectors.add(connector);
+        }
+
+        return connectors;
+    }
+
+
+    /**
+     * Wait for a latch, ignoring interrupts.
+     *
+     * @param latch latch to wait for
+     */
+    private static void awaitUninterruptibly(CountDownLatch latch)
+    {
+        boolean interrupted = false;
+
+        while (latch.getCount() > 0)
+        {
+            try
+            {
+                latch.await();
+            }
+            catch (InterruptedException error)
+            {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * MemberBehaviour is the work a member does before returning its results.
+     */
+    private interface MemberBehaviour
+    {
+        void run() throws Exception;
+    }
+
+
+    /**
+     * TestExecutor returns one entity from each member.  Its clones share the same accumulator and behaviours.
+     */
+    private static class TestExecutor implements RepositoryExecutor, CloneableRepositoryExecutor
+    {
+        private final EntitiesAccumulator         accumulator;
+        private final Map<String, MemberBehaviour> behaviours;
+        private final Map<String, CountDownLatch>  completionSignals;
+        private final List<Thread>                 callingThreads;
+
+
+        TestExecutor()
+        {
+            this.accumulator = new EntitiesAccumulator(null, null, null);
+            this.behaviours = Collections.synchronizedMap(new HashMap<>());
+            this.completionSignals = Collections.synchronizedMap(new HashMap<>());
+            this.callingThreads = Collections.synchronizedList(new ArrayList<>());
+        }
+
+
+        private TestExecutor(TestExecutor template)
+        {
+            this.accumulator = template.accumulator;
+            this.behaviours = template.behaviours;
+            this.completionSignals = template.completionSignals;
+            this.callingThreads = template.callingThreads;
+        }
+
+
+        void setBehaviour(String metadataCollectionId, MemberBehaviour behaviour)
+        {
+            behaviours.put(metadataCollectionId, behaviour);
+        }
+
+
+        void setCompletionSignal(String metadataCollectionId, CountDownLatch completionSignal)
+        {
+            completionSignals.put(metadataCollectionId, completionSignal);
+        }
+
+
+        List<Thread> getCallingThreads()
+        {
+            synchronized (callingThreads)
+            {
+                return new ArrayList<>(callingThreads);
+            }
+        }
+
+
+        @Override
+        public CloneableRepositoryExecutor getClone()
+        {
+            return new TestExecutor(this);
+        }
+
+
+        @Override
+        public void ignoreRepository(String metadataCollectionId)
+        {
+            accumulator.ignoreMetadataCollection(metadataCollectionId);
+        }
+
+
+        @Override
+        public boolean issueRequestToRepository(String                 metadataCollectionId,
+                                                OMRSMetadataCollection metadataCollection)
+        {
+            if (! callingThreads.contains(Thread.currentThread()))
+            {
+                callingThreads.add(Thread.currentThread());
+            }
+
+            try
+            {
+                MemberBehaviour behaviour = behaviours.get(metadataCollectionId);
+
+                if (behaviour != null)
+                {
+                    behaviour.run();
+                }
+
+                EntityDetail entity = new EntityDetail();
+
+                entity.setGUID(metadataCollectionId);
+                accumulator.addEntities(Collections.singletonList(entity), metadataCollectionId);
+
+                return false;
+            }
+            catch (RuntimeException error)
+            {
+                throw error;
+            }
+            catch (Exception error)
+            {
+                throw new IllegalStateException(error);
+            }
+            finally
+            {
+                CountDownLatch completionSignal = completionSignals.get(metadataCollectionId);
+
+                if (completionSignal != null)
+                {
+                    completionSignal.countDown();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * TestAuditLog records the identifiers of the messages logged.
+     */
+    private static class TestAuditLog extends AuditLog
+    {
+        private final List<String> messageIds = Collections.synchronizedList(new ArrayList<>());
+
+
+        TestAuditLog()
+        {
+            super(null, 1, ComponentDevelopmentStatus.IN_DEVELOPMENT, null, null, null);
+        }
+
+
+        List<String> getMessageIds()
+        {
+            synchronized (messageIds)
+            {
+                return new ArrayList<>(messageIds);
+            }
+        }
+
+
+        @Override
+        public void logMessage(String                    actionDescription,
+                               AuditLogMessageDefinition messageDefinition)
+        {
+            messageIds.add(messageDefinition.getMessageId());
+        }
+
+
+        @Override
+        public void logException(String                    actionDescription,
+                                 AuditLogMessageDefinition messageDefinition,
+                                 Throwable                 caughtException)
+        {
+            messageIds.add(messageDefinition.getMessageId());
+        }
+    }
+}
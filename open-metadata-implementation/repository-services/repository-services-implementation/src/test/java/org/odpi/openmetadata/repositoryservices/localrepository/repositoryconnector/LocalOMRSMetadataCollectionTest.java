@@ -0,0 +1,227 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.LocalRepositoryMode;
+import org.odpi.openmetadata.adminservices.configuration.properties.OpenMetadataExchangeRule;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventManager;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests for the batch creation of instances through the local metadata collection.
+ */
+public class LocalOMRSMetadataCollectionTest
+{
+    private static final String ENTITY_TYPE_GUID = "a4e1e0a6-2b4b-4c0f-8f8a-7f5ad0a3bd01";
+    private static final String ENTITY_TYPE_NAME = "EntityType1";
+
+    private List<InstanceGraph>         batchEvents;
+    private List<InstanceGraph>         realBatches;
+    private RepositoryErrorException    realFailure;
+    private LocalOMRSMetadataCollection localMetadataCollection;
+
+
+    @BeforeMethod
+    public void setUp()
+    {
+        AuditLog                     auditLog       = new AuditLog(null, 1, ComponentDevelopmentStatus.IN_DEVELOPMENT, null, null, null);
+        OMRSRepositoryContentManager contentManager = new OMRSRepositoryContentManager("testserver", auditLog);
+        EntityDef                    entityDef      = new EntityDef();
+
+        entityDef.setName(ENTITY_TYPE_NAME);
+        entityDef.setGUID(ENTITY_TYPE_GUID);
+        entityDef.setVersion(1);
+        entityDef.setVersionName("1.0");
+        entityDef.setValidInstanceStatusList(Collections.singletonList(InstanceStatus.ACTIVE));
+        contentManager.addTypeDef("unittest", entityDef);
+
+        OMRSRepositoryContentHelper    repositoryHelper    = new OMRSRepositoryContentHelper(contentManager);
+        OMRSRepositoryContentValidator repositoryValidator = new OMRSRepositoryContentValidator(contentManager);
+
+        batchEvents = new ArrayList<>();
+        realBatches = new ArrayList<>();
+        realFailure = null;
+
+        OMRSRepositoryEventManager eventManager = new OMRSRepositoryEventManager("testEventManager",
+                                                                                 new OMRSRepositoryEventExchangeRule(OpenMetadataExchangeRule.ALL, null),
+                                                                                 repositoryValidator,
+                                                                                 auditLog)
+        {
+            @Override
+            public void processInstanceBatchEvent(String        sourceName,
+                                                  String        originatorMetadataCollectionId,
+                                                  String        originatorServerName,
+                                                  String        originatorServerType,
+                                                  String        originatorOrganizationName,
+                                                  InstanceGraph instances)
+            {
+                batchEvents.add(instances);
+            }
+        };
+
+        LocalOMRSRepositoryConnector parentConnector = new LocalOMRSRepositoryConnector(null,
+                                                                                        LocalRepositoryMode.OPEN_METADATA_NATIVE,
+                                                                                        null,
+                                                                                        eventManager,
+                                                                                        null,
+                                                                                        null)
+        {
+            @Override
+            public void validateRepositoryIsActive(String methodName)
+            {
+            }
+        };
+
+        OMRSMetadataCollection realMetadataCollection = new OMRSMetadataCollectionBase(null,
+                                                                                      "testRepository",
+                                                                                      repositoryHelper,
+                                                                                      repositoryValidator,
+                                                                                      "testMetadataCollectionId")
+        {
+            @Override
+            public InstanceGraph addInstances(String        userId,
+                                              InstanceGraph instances) throws RepositoryErrorException
+            {
+                realBatches.add(instances);
+
+                if (realFailure != null)
+                {
+                    throw realFailure;
+                }
+
+                List<EntityDetail> newEntities = new ArrayList<>();
+
+                for (EntityDetail template : instances.getEntities())
+                {
+                    EntityDetail newEntity = new EntityDetail(template);
+
+                    newEntity.setGUID("new-" + template.getGUID());
+                    newEntities.add(newEntity);
+                }
+
+                return new InstanceGraph(newEntities, null);
+            }
+        };
+
+        localMetadataCollection = new LocalOMRSMetadataCollection(parentConnector,
+                                                                  "testRepository",
+                                                                  repositoryHelper,
+                                                                  repositoryValidator,
+                                                                  "testMetadataCollectionId",
+                                                                  "testServer",
+                                                                  "testServerType",
+                                                                  "testOrganization",
+                                                                  realMetadataCollection,
+                                                                  eventManager,
+                                                                  true,
+                                                                  contentManager);
+    }
+
+
+    @Test
+    public void testBatchIsCreatedWithOneEvent() throws Exception
+    {
+        InstanceGraph newInstances = localMetadataCollection.addInstances("testUser",
+                                                                          new InstanceGraph(Arrays.asList(getEntity("temp1", ENTITY_TYPE_GUID),
+                                                                                                          getEntity("temp2", ENTITY_TYPE_GUID)),
+                                                                                            null));
+
+        assertEquals(newInstances.getEntities().size(), 2);
+        assertEquals(newInstances.getEntities().get(0).getGUID(), "new-temp1");
+        assertEquals(newInstances.getEntities().get(0).getMetadataCollectionId(), "testMetadataCollectionId");
+        assertEquals(realBatches.size(), 1);
+        assertEquals(batchEvents.size(), 1);
+        assertEquals(batchEvents.get(0).getEntities().size(), 2);
+    }
+
+
+    @Test
+    public void testInvalidInstanceStopsWholeBatch() throws Exception
+    {
+        try
+        {
+            localMetadataCollection.addInstances("testUser",
+                                                 new InstanceGraph(Arrays.asList(getEntity("temp1", ENTITY_TYPE_GUID),
+                                                                                 getEntity("temp2", "unknown-type-guid")),
+                                                                   null));
+            fail("Exception expected");
+        }
+        catch (TypeErrorException error)
+        {
+            /*
+             * Expected
+             */
+        }
+
+        assertTrue(realBatches.isEmpty());
+        assertTrue(batchEvents.isEmpty());
+    }
+
+
+    @Test
+    public void testNoEventWhenRealRepositoryFails() throws Exception
+    {
+        realFailure = new RepositoryErrorException(OMRSErrorCode.NULL_INSTANCE_GRAPH.getMessageDefinition("addInstances",
+                                                                                                        "testRepository",
+                                                                                                        "instances"),
+                                                   this.getClass().getName(),
+                                                   "addInstances");
+
+        try
+        {
+            localMetadataCollection.addInstances("testUser",
+                                                 new InstanceGraph(Collections.singletonList(getEntity("temp1", ENTITY_TYPE_GUID)), null));
+            fail("Exception expected");
+        }
+        catch (RepositoryErrorException error)
+        {
+            assertEquals(error, realFailure);
+        }
+
+        assertEquals(realBatches.size(), 1);
+        assertTrue(batchEvents.isEmpty());
+    }
+
+
+    private EntityDetail getEntity(String guid,
+                                   String typeGUID)
+    {
+        EntityDetail entity = new EntityDetail();
+        InstanceType type   = new InstanceType();
+
+        type.setTypeDefGUID(typeGUID);
+        type.setTypeDefName(ENTITY_TYPE_NAME);
+
+        entity.setGUID(guid);
+        entity.setType(type);
+        entity.setStatus(InstanceStatus.ACTIVE);
+
+        return entity;
+    }
+}
@@ -7,15 +7,20 @@ import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
 
 public class OMRSRepositoryContentManagerTest
 {
@@ -46,4 +51,59 @@ public class OMRSRepositoryContentManagerTest
         assertEquals(instanceType.getTypeDefGUID(), entityDefGUID);
         assertEquals(instanceType.getValidStatusList(), validInstanceStatusList);
     }
+
+
+    @Test
+    public void testTypeHierarchy()
+    {
+        AuditLog auditLog = new AuditLog(null, 1, ComponentDevelopmentStatus.IN_DEVELOPMENT, null, null, null);
+        OMRSRepositoryContentManager testSubject = new OMRSRepositoryContentManager("testserver", auditLog);
+
+        EntityDef rootDef = getEntityDef("RootType", null);
+        EntityDef middleDef = getEntityDef("MiddleType", rootDef);
+        EntityDef leafDef = getEntityDef("LeafType", middleDef);
+
+        testSubject.addTypeDef("unittest", rootDef);
+        testSubject.addTypeDef("unittest", middleDef);
+        testSubject.addTypeDef("unittest", leafDef);
+
+        assertTrue(testSubject.isTypeOf("unittest", "LeafType", "RootType"));
+        assertTrue(testSubject.isTypeOf("unittest", "LeafType", "LeafType"));
+        assertTrue(testSubject.isTypeOf("unittest", "LeafType", null));
+        assertFalse(testSubject.isTypeOf("unittest", "RootType", "LeafType"));
+        assertFalse(testSubject.isTypeOf("unittest", "LeafType", "UnknownType"));
+        assertTrue(testSubject.isTypeOfByGUID("unittest", leafDef.getGUID(), "LeafType", rootDef.getGUID()));
+        assertFalse(testSubject.isTypeOfByGUID("unittest", rootDef.getGUID(), "RootType", leafDef.getGUID()));
+
+        assertEquals(testSubject.getSubTypesOf("RootType"), Arrays.asList("LeafType", "MiddleType"));
+        assertNull(testSubject.getSubTypesOf("LeafType"));
+        assertNull(testSubject.getSubTypesOf("UnknownType"));
+
+        /*
+         * A new type is visible as soon as it has been added.
+         */
+        testSubject.addTypeDef("unittest", getEntityDef("AnotherLeafType", middleDef));
+
+        assertTrue(testSubject.isTypeOf("unittest", "AnotherLeafType", "RootType"));
+        assertEquals(testSubject.getSubTypesOf("MiddleType"), Arrays.asList("AnotherLeafType", "LeafType"));
+    }
+
+    private EntityDef getEntityDef(String typeName, EntityDef superType)
+    {
+        EntityDef entityDef = new EntityDef();
+        entityDef.setName(typeName);
+        entityDef.setVersion(1);
+        entityDef.setVersionName("1.0");
+        entityDef.setGUID(UUID.randomUUID().toString());
+
+        if (superType != null)
+        {
+            TypeDefLink superTypeLink = new TypeDefLink();
+            superTypeLink.setGUID(superType.getGUID());
+            superTypeLink.setName(superType.getName());
+            entityDef.setSuperType(superTypeLink);
+        }
+
+        return entityDef;
+    }
 }
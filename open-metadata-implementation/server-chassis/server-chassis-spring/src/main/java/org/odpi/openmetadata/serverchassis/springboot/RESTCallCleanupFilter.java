@@ -0,0 +1,46 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.serverchassis.springboot;
+
+import org.odpi.openmetadata.commonservices.ffdc.RESTCallLogger;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import java.io.IOException;
+
+/**
+ * RESTCallCleanupFilter removes the tokens of any REST calls that did not return once the platform has
+ * finished with a request.  A runtime exception thrown by a REST service skips its call to
+ * RESTCallLogger.logRESTCallReturn, which would otherwise leave the call's token on the pooled server thread.
+ */
+@Component
+public class RESTCallCleanupFilter implements Filter
+{
+    /**
+     * Pass the request on and clear the REST call tokens of the thread afterwards, however the request ends.
+     *
+     * @param servletRequest inbound request
+     * @param servletResponse response
+     * @param filterChain rest of the filters
+     * @throws IOException problem from the rest of the filter chain
+     * @throws ServletException problem from the rest of the filter chain
+     */
+    @Override
+    public void doFilter(ServletRequest  servletRequest,
+                         ServletResponse servletResponse,
+                         FilterChain     filterChain) throws IOException, ServletException
+    {
+        try
+        {
+            filterChain.doFilter(servletRequest, servletResponse);
+        }
+        finally
+        {
+            RESTCallLogger.clearUnreturnedCalls();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.serverchassis.springboot;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.odpi.openmetadata.commonservices.ffdc.RESTCallListener;
+import org.odpi.openmetadata.commonservices.ffdc.RESTCallMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RESTCallMetricsBinder publishes the latency of the REST calls recorded by RESTCallMetrics to the platform's
+ * Micrometer registry.  Each call is recorded in the egeria.rest.calls timer, tagged with the service, server and
+ * method names and the outcome of the call, and can be scraped from the actuator's prometheus endpoint when it is
+ * enabled.  A percentile histogram adds a series for every bucket to each of these timers, so it is only published
+ * when the egeria.metrics.rest-calls.percentile-histogram property is set to true.
+ */
+@Component
+public class RESTCallMetricsBinder implements MeterBinder, RESTCallListener
+{
+    private static final String timerName        = "egeria.rest.calls";
+    private static final String timerDescription = "Inbound REST API calls to the OMAG Server Platform";
+
+    private static final String successOutcome   = "SUCCESS";
+    private static final String errorOutcome     = "ERROR";
+
+    @Value("${egeria.metrics.rest-calls.percentile-histogram:false}")
+    boolean publishPercentileHistogram;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    private volatile MeterRegistry meterRegistry = null;
+
+
+    /**
+     * Start publishing the REST call metrics to the registry.  Only the first registry is used.
+     *
+     * @param registry meter registry
+     */
+    @Override
+    public synchronized void bindTo(MeterRegistry registry)
+    {
+        if (meterRegistry == null)
+        {
+            meterRegistry = registry;
+            RESTCallMetrics.registerListener(this);
+        }
+    }
+
+
+    /**
+     * Record the completion of an inbound REST call.
+     *
+     * @param serviceName name of the service that was called
+     * @param serverName name of the server that was called
+     * @param methodName name of the method that was called
+     * @param elapsedTime elapsed time of the call in nanoseconds
+     * @param failed the call returned an exception
+     */
+    @Override
+    public void recordRESTCall(String  serviceName,
+                               String  serverName,
+                               String  methodName,
+                               long    elapsedTime,
+                               boolean failed)
+    {
+        String outcome = failed ? errorOutcome : successOutcome;
+
+        Timer timer = timers.computeIfAbsent(serviceName + ":" + serverName + ":" + methodName + ":" + outcome,
+                                             key -> Timer.builder(timerName)
+                                                         .description(timerDescription)
+                                                         .tag("service", String.valueOf(serviceName))
+                                                         .tag("server", String.valueOf(serverName))
+                                                         .tag("method", String.valueOf(methodName))
+                                                         .tag("outcome", outcome)
+                                                         .publishPercentileHistogram(publishPercentileHistogram)
+                                                         .register(meterRegistry));
+
+        timer.record(elapsedTime, TimeUnit.NANOSECONDS);
+    }
+}
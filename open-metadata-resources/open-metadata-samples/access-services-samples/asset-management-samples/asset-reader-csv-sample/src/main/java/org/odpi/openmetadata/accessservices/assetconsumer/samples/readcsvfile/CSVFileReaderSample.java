@@ -281,10 +281,8 @@ public class CSVFileReaderSample
             System.out.println(columnNames);
             System.out.println("------------------------------------------------------------------------");
 
-            for (int i=0; i<displayedRecords; i++)
+            for (List<String>  columns : connector.readRecords(0, (int)displayedRecords))
             {
-                List<String>  columns = connector.readRecord(i);
-
                 System.out.println(columns);
             }
 
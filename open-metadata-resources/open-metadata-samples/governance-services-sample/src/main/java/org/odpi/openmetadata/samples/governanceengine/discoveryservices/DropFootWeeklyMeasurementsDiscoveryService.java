@@ -2,6 +2,7 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.samples.governanceengine.discoveryservices;
 
+import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.CSVFileRecordCursor;
 import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.CSVFileStoreConnector;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnnotationStore;
@@ -31,6 +32,7 @@ public class DropFootWeeklyMeasurementsDiscoveryService extends DiscoveryService
     private final static String BOOLEAN_LC_TRUE   = "true";
     private final static String BOOLEAN_UC_FALSE  = "FALSE";
     private final static String BOOLEAN_LC_FALSE  = "false";
+    private final static int    RECORD_BATCH_SIZE = 1000;
 
 
 
@@ -194,32 +196,38 @@ public class DropFootWeeklyMeasurementsDiscoveryService extends DiscoveryService
 
                 size = size + delimiterCount;
 
-                for (int recordNumber=0; recordNumber < recordCount ; recordNumber++)
-                {
-                    List<String>  recordValues = assetConnector.readRecord(recordNumber);
+                CSVFileRecordCursor recordCursor = assetConnector.getRecordCursor(RECORD_BATCH_SIZE);
+                List<List<String>>  recordBatch  = recordCursor.nextBatch();
 
-                    if ((recordValues != null) && (! recordValues.isEmpty()))
+                while (! recordBatch.isEmpty())
+                {
+                    for (List<String>  recordValues : recordBatch)
                     {
-                        int columnPosition = 0;
-                        int recordLength = 0;
-
-                        for (String fieldValue : recordValues)
+                        if ((recordValues != null) && (! recordValues.isEmpty()))
                         {
-                            DataField             dataField   = dataFields.get(columnPosition);
-                            DataProfileAnnotation dataProfile = dataProfiles.get(columnPosition);
+                            int columnPosition = 0;
+                            int recordLength = 0;
 
-                            dataField.setDataFieldType(this.getDataFieldType(dataField.getDataFieldType(), fieldValue));
+                            for (String fieldValue : recordValues)
+                            {
+                                DataField             dataField   = dataFields.get(columnPosition);
+                                DataProfileAnnotation dataProfile = dataProfiles.get(columnPosition);
 
-                            dataProfile.setValueCount(this.getValueCount(dataProfile.getValueCount(), fieldValue));
-                            dataProfile.setValueList(this.getValueList(dataProfile.getValueList(), fieldValue));
+                                dataField.setDataFieldType(this.getDataFieldType(dataField.getDataFieldType(), fieldValue));
 
-                            recordLength = recordLength + fieldValue.length();
+                                dataProfile.setValueCount(this.getValueCount(dataProfile.getValueCount(), fieldValue));
+                                dataProfile.setValueList(this.getValueList(dataProfile.getValueList(), fieldValue));
 
-                            columnPosition++;
-                        }
+                                recordLength = recordLength + fieldValue.length();
 
-                        size = size + recordLength + delimiterCount;
+                                columnPosition++;
+                            }
+
+                            size = size + recordLength + delimiterCount;
+                        }
                     }
+
+                    recordBatch = recordCursor.nextBatch();
                 }
 
                 for (int columnNumber=0 ; columnNumber < columnNames.size(); columnNumber++)